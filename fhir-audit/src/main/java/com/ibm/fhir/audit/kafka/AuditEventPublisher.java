@@ -0,0 +1,546 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.audit.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Publishes audit events to a Kafka topic from a background thread, so that the threads which log the events don't
+ * wait for the broker.
+ *
+ * <p>Events are held in a bounded queue and sent in batches of up to {@code batchSize} events; a batch is sent when
+ * it is full or when no more events arrive within {@code lingerMillis}. When the queue is full, the
+ * {@link OverflowPolicy} decides what happens to a new event. With {@link OverflowPolicy#SPILL}, the events that
+ * don't fit in the queue and the events that can't be sent are appended to a local file, and sent again when the
+ * publisher is idle, including after a restart.
+ *
+ * <p>{@link #stop()} sends the queued events before it closes the producer.
+ */
+public class AuditEventPublisher {
+    private static final Logger logger = Logger.getLogger(AuditEventPublisher.class.getName());
+
+    private static final long IDLE_POLL_MILLIS = 1000;
+    private static final long STOP_TIMEOUT_MILLIS = 30000;
+
+    // Wakes up the worker thread when the publisher is stopped; compared by identity
+    private static final String STOP = new String("stop");
+
+    /**
+     * What to do with an event which is published when the queue is full
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the queue has room for the event
+         */
+        BLOCK,
+        /**
+         * Drop the event and count it
+         */
+        DROP,
+        /**
+         * Append the event to the spill file, from which it is sent later
+         */
+        SPILL;
+
+        public static OverflowPolicy from(String value) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("Invalid audit overflow policy: " + value);
+        }
+    }
+
+    private final Producer<String, String> producer;
+    private final String topic;
+    private final BlockingQueue<String> queue;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final long replayIntervalMillis;
+    private final Thread worker;
+
+    private final Object spillLock = new Object();
+    private volatile boolean spillPending;
+    private long lastReplay;
+
+    private volatile boolean running = true;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong totalSendLatency = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastSendLatency;
+
+    private AuditEventPublisher(Builder builder) {
+        this.producer = builder.producer;
+        this.topic = builder.topic;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.batchSize = builder.batchSize;
+        this.lingerMillis = builder.lingerMillis;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.spillFile = builder.spillFile;
+        this.replayFile = (spillFile != null) ? spillFile.resolveSibling(spillFile.getFileName() + ".replay") : null;
+        this.replayIntervalMillis = builder.replayIntervalMillis;
+        this.spillPending = (spillFile != null);
+        this.worker = new Thread(this::run, "fhir-audit-publisher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Publish an event. Depending on the overflow policy, this method blocks while the queue is full.
+     *
+     * @param event
+     *     the event
+     * @return
+     *     true if the event was queued or spilled, false if it was dropped
+     * @throws InterruptedException
+     *     if the thread is interrupted while it waits for room in the queue
+     */
+    public boolean publish(String event) throws InterruptedException {
+        Objects.requireNonNull(event, "event");
+        if (!running) {
+            drop(1, "the publisher is stopped");
+            return false;
+        }
+        switch (overflowPolicy) {
+        case BLOCK:
+            queue.put(event);
+            return true;
+        case SPILL:
+            if (!queue.offer(event)) {
+                List<String> events = new ArrayList<>(1);
+                events.add(event);
+                return spill(events);
+            }
+            return true;
+        case DROP:
+        default:
+            if (!queue.offer(event)) {
+                drop(1, "the queue is full");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stop the publisher: send the queued events, then close the producer. Events published after this method is
+     * called are dropped.
+     */
+    public void stop() {
+        running = false;
+        queue.offer(STOP);
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+            if (worker.isAlive()) {
+                logger.warning("Timed out waiting for the audit event publisher to send the queued events");
+                worker.interrupt();
+                worker.join(STOP_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Events published while the worker thread was stopping
+        List<String> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.removeIf(event -> event == STOP);
+        if (!remaining.isEmpty()) {
+            send(remaining);
+        }
+
+        try {
+            producer.close();
+        } catch (Exception e) {
+            logger.info(e.getMessage());
+        }
+        logger.info("Stopped audit event publisher; sent: " + sentCount.get() + ", failed: " + failedCount.get()
+                + ", dropped: " + droppedCount.get() + ", spilled: " + spilledCount.get() + ", replayed: " + replayedCount.get());
+    }
+
+    /**
+     * @return the number of events waiting in the queue
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of events sent to the broker
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return the number of events that could not be sent to the broker
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return the number of events that were dropped
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return the number of events appended to the spill file
+     */
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    /**
+     * @return the number of events read back from the spill file and sent again
+     */
+    public long getReplayedCount() {
+        return replayedCount.get();
+    }
+
+    /**
+     * @return the number of batches sent
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * @return the number of events in the last batch
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    /**
+     * @return the time in milliseconds to send the last batch and receive the acknowledgements of the broker
+     */
+    public long getLastSendLatency() {
+        return lastSendLatency;
+    }
+
+    /**
+     * @return the total time in milliseconds spent sending batches
+     */
+    public long getTotalSendLatency() {
+        return totalSendLatency.get();
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                String event = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null || event == STOP) {
+                    if (running) {
+                        replaySpillFile();
+                    }
+                    continue;
+                }
+                batch.add(event);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    event = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (event == null) {
+                        break;
+                    }
+                    batch.add(event);
+                }
+                batch.removeIf(e -> e == STOP);
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                // stop() timed out; the remaining events are sent by stop()
+                break;
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "Unexpected error in the audit event publisher", t);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<String> batch) {
+        long start = System.nanoTime();
+        List<Future<RecordMetadata>> futures = new ArrayList<>(batch.size());
+        Exception exception = null;
+        for (String event : batch) {
+            try {
+                futures.add(producer.send(new ProducerRecord<>(topic, event)));
+            } catch (Exception e) {
+                futures.add(null);
+                exception = e;
+            }
+        }
+
+        List<String> failed = new ArrayList<>();
+        boolean interrupted = false;
+        for (int i = 0; i < futures.size(); i++) {
+            Future<RecordMetadata> future = futures.get(i);
+            if (future != null && !interrupted) {
+                try {
+                    future.get();
+                    continue;
+                } catch (ExecutionException e) {
+                    exception = e;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            failed.add(batch.get(i));
+        }
+
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        sentCount.addAndGet(batch.size() - failed.size());
+        batchCount.incrementAndGet();
+        lastBatchSize = batch.size();
+        lastSendLatency = latency;
+        totalSendLatency.addAndGet(latency);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Sent audit event batch; size: " + batch.size() + ", failed: " + failed.size() + ", latency: "
+                    + latency + "ms, queue depth: " + queue.size());
+        }
+
+        if (!failed.isEmpty()) {
+            failedCount.addAndGet(failed.size());
+            if (exception != null) {
+                logger.log(Level.WARNING, "Unable to send " + failed.size() + " audit events", exception);
+            }
+            if (spillFile != null) {
+                spill(failed);
+            } else {
+                drop(failed.size(), "they could not be sent");
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drop(int count, String reason) {
+        long dropped = droppedCount.addAndGet(count);
+        // Avoid flooding the log while the queue stays full
+        if (dropped == count || dropped / 1000 != (dropped - count) / 1000) {
+            logger.warning("Dropped " + count + " audit events because " + reason + "; total dropped: " + dropped);
+        }
+    }
+
+    /**
+     * Append events to the spill file as length-prefixed UTF-8 records
+     */
+    private boolean spill(List<String> events) {
+        synchronized (spillLock) {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                for (String event : events) {
+                    byte[] bytes = event.getBytes(UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                spilledCount.addAndGet(events.size());
+                spillPending = true;
+                return true;
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Unable to spill " + events.size() + " audit events to: " + spillFile, e);
+            }
+        }
+        drop(events.size(), "they could not be spilled");
+        return false;
+    }
+
+    /**
+     * Send the events of the spill file again. The file is renamed before it is read, so that new events can be
+     * spilled while it is replayed; events that can't be sent again are spilled again.
+     */
+    private void replaySpillFile() {
+        if (!spillPending) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastReplay < replayIntervalMillis) {
+            return;
+        }
+        lastReplay = now;
+        try {
+            synchronized (spillLock) {
+                if (Files.exists(replayFile)) {
+                    // Left over from a replay that did not complete
+                    spillPending = Files.exists(spillFile);
+                } else if (Files.exists(spillFile)) {
+                    Files.move(spillFile, replayFile);
+                    spillPending = false;
+                } else {
+                    spillPending = false;
+                    return;
+                }
+            }
+            List<String> batch = new ArrayList<>(batchSize);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(replayFile)))) {
+                while (true) {
+                    int length;
+                    try {
+                        length = in.readInt();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    byte[] bytes = new byte[length];
+                    try {
+                        in.readFully(bytes);
+                    } catch (EOFException e) {
+                        logger.warning("Ignoring a truncated audit event at the end of: " + replayFile);
+                        break;
+                    }
+                    batch.add(new String(bytes, UTF_8));
+                    if (batch.size() == batchSize) {
+                        replay(batch);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                replay(batch);
+            }
+            Files.delete(replayFile);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Unable to replay the audit events of: " + spillFile, e);
+        }
+    }
+
+    private void replay(List<String> batch) {
+        long failed = failedCount.get();
+        send(batch);
+        replayedCount.addAndGet(batch.size() - (failedCount.get() - failed));
+        batch.clear();
+    }
+
+    public static Builder builder(Producer<String, String> producer, String topic) {
+        return new Builder(producer, topic);
+    }
+
+    public static class Builder {
+        private final Producer<String, String> producer;
+        private final String topic;
+        private int queueCapacity = 10000;
+        private int batchSize = 100;
+        private long lingerMillis = 100;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Path spillFile;
+        private long replayIntervalMillis = 30000;
+
+        private Builder(Producer<String, String> producer, String topic) {
+            this.producer = Objects.requireNonNull(producer, "producer");
+            this.topic = Objects.requireNonNull(topic, "topic");
+        }
+
+        /**
+         * @param queueCapacity
+         *     the maximum number of events waiting to be sent (default: 10000)
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * @param batchSize
+         *     the maximum number of events sent in a batch (default: 100)
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param lingerMillis
+         *     how long to wait for more events before a batch which is not full is sent (default: 100)
+         */
+        public Builder lingerMillis(long lingerMillis) {
+            this.lingerMillis = lingerMillis;
+            return this;
+        }
+
+        /**
+         * @param overflowPolicy
+         *     what to do with an event which is published when the queue is full (default: BLOCK)
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * @param spillFile
+         *     the file to which events are spilled; required for {@link OverflowPolicy#SPILL}, and also used with
+         *     the other policies for the events that can't be sent
+         */
+        public Builder spillFile(Path spillFile) {
+            this.spillFile = spillFile;
+            return this;
+        }
+
+        /**
+         * @param replayIntervalMillis
+         *     the minimum time between two replays of the spill file (default: 30000)
+         */
+        public Builder replayIntervalMillis(long replayIntervalMillis) {
+            this.replayIntervalMillis = replayIntervalMillis;
+            return this;
+        }
+
+        public AuditEventPublisher build() {
+            if (queueCapacity < 1 || batchSize < 1 || lingerMillis < 0) {
+                throw new IllegalArgumentException("queueCapacity and batchSize must be positive, and lingerMillis must not be negative");
+            }
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy");
+            if (overflowPolicy == OverflowPolicy.SPILL && spillFile == null) {
+                throw new IllegalArgumentException("A spill file is required with overflow policy: " + overflowPolicy);
+            }
+            return new AuditEventPublisher(this);
+        }
+    }
+}
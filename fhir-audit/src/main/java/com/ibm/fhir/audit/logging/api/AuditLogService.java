@@ -39,4 +39,12 @@ public interface AuditLogService {
      * 
      */
     void initialize(PropertyGroup auditLogProperties) throws Exception;
+
+    /**
+     * Flushes any pending audit log entries and releases the resources of the
+     * audit log service.
+     */
+    default void stop() {
+        // No Operation
+    }
 }
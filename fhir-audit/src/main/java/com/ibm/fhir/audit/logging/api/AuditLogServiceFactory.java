@@ -115,4 +115,12 @@ public class AuditLogServiceFactory {
         return newService;
     }
 
+    /**
+     * Stops the audit log service cached by this factory class, if one was created.
+     */
+    public static synchronized void stopService() {
+        if (serviceInstance != null) {
+            serviceInstance.stop();
+        }
+    }
 }
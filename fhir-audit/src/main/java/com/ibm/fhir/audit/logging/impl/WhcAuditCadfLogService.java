@@ -7,6 +7,7 @@
 package com.ibm.fhir.audit.logging.impl;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -16,7 +17,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.Producer;
 
 import com.ibm.fhir.audit.cadf.model.CadfAttachment;
 import com.ibm.fhir.audit.cadf.model.CadfCredential;
@@ -28,6 +29,8 @@ import com.ibm.fhir.audit.cadf.model.enums.Action;
 import com.ibm.fhir.audit.cadf.model.enums.EventType;
 import com.ibm.fhir.audit.cadf.model.enums.Outcome;
 import com.ibm.fhir.audit.cadf.model.enums.ResourceType;
+import com.ibm.fhir.audit.kafka.AuditEventPublisher;
+import com.ibm.fhir.audit.kafka.AuditEventPublisher.OverflowPolicy;
 import com.ibm.fhir.audit.kafka.Environment;
 import com.ibm.fhir.audit.kafka.EventStreamsCredentials;
 import com.ibm.fhir.audit.logging.api.AuditLogEventType;
@@ -50,6 +53,11 @@ public class WhcAuditCadfLogService implements AuditLogService {
     private static final String PROPERTY_AUDIT_GEO_CITY = "geoCity";
     private static final String PROPERTY_AUDIT_GEO_STATE = "geoState";
     private static final String PROPERTY_AUDIT_GEO_COUNTRY = "geoCounty";
+    private static final String PROPERTY_AUDIT_QUEUE_CAPACITY = "queueCapacity";
+    private static final String PROPERTY_AUDIT_BATCH_SIZE = "batchSize";
+    private static final String PROPERTY_AUDIT_LINGER_MILLIS = "lingerMillis";
+    private static final String PROPERTY_AUDIT_OVERFLOW_POLICY = "overflowPolicy";
+    private static final String PROPERTY_AUDIT_SPILL_FILE = "spillFile";
     private static final String HEALTHCHECKOP = "healthcheck";
 
     private static final String KAFKA_USERNAME = "token";
@@ -57,8 +65,12 @@ public class WhcAuditCadfLogService implements AuditLogService {
     private static final String DEFAULT_AUDIT_GEO_CITY = "Dallas";
     private static final String DEFAULT_AUDIT_GEO_STATE = "TX";
     private static final String DEFAULT_AUDIT_GEO_COUNTRY = "US";
+    private static final int DEFAULT_AUDIT_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_AUDIT_BATCH_SIZE = 100;
+    private static final int DEFAULT_AUDIT_LINGER_MILLIS = 100;
+    private static final String DEFAULT_AUDIT_OVERFLOW_POLICY = "block";
 
-    private KafkaProducer<String, String> producer = null;
+    private AuditEventPublisher publisher = null;
     private static String bootstrapServers = null;
     private static String apiKey = null;
     private static String auditTopic = DEFAULT_AUDIT_KAFKA_TOPIC;
@@ -140,18 +152,37 @@ public class WhcAuditCadfLogService implements AuditLogService {
         kafkaProps.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
         kafkaProps.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
 
-        this.producer = new KafkaProducer<>(kafkaProps);
-
-        if (this.producer == null) {
-            throw new FHIRException("Failed to init kafka producer!");
-        } else {
-            logger.info("Initialized Audit logger.");
-            this.isEnabled = true;
-        }
+        initialize(auditLogProperties, new KafkaProducer<>(kafkaProps));
 
         logger.exiting(CLASSNAME, METHODNAME);
     }
 
+    /**
+     * Start publishing the audit events with the given producer, in the background
+     *
+     * @param auditLogProperties
+     *     the audit log properties, which configure the queue, the batches and the overflow policy (can be null)
+     * @param producer
+     *     the producer
+     * @throws Exception
+     */
+    public void initialize(PropertyGroup auditLogProperties, Producer<String, String> producer) throws Exception {
+        AuditEventPublisher.Builder builder = AuditEventPublisher.builder(producer, auditTopic);
+        if (auditLogProperties != null) {
+            builder.queueCapacity(auditLogProperties.getIntProperty(PROPERTY_AUDIT_QUEUE_CAPACITY, DEFAULT_AUDIT_QUEUE_CAPACITY))
+                .batchSize(auditLogProperties.getIntProperty(PROPERTY_AUDIT_BATCH_SIZE, DEFAULT_AUDIT_BATCH_SIZE))
+                .lingerMillis(auditLogProperties.getIntProperty(PROPERTY_AUDIT_LINGER_MILLIS, DEFAULT_AUDIT_LINGER_MILLIS))
+                .overflowPolicy(OverflowPolicy.from(auditLogProperties.getStringProperty(PROPERTY_AUDIT_OVERFLOW_POLICY, DEFAULT_AUDIT_OVERFLOW_POLICY)));
+            String spillFile = auditLogProperties.getStringProperty(PROPERTY_AUDIT_SPILL_FILE);
+            if (spillFile != null) {
+                builder.spillFile(Paths.get(spillFile));
+            }
+        }
+        this.publisher = builder.build();
+        logger.info("Initialized Audit logger.");
+        this.isEnabled = true;
+    }
+
     @Override
     public void logEntry(AuditLogEntry logEntry) throws Exception {
         final String METHODNAME = "logEntry";
@@ -168,9 +199,8 @@ public class WhcAuditCadfLogService implements AuditLogService {
 
         if (eventObject != null) {
             String eventString = CadfEvent.Writer.generate(eventObject);
-            ProducerRecord<String, String> record = new ProducerRecord<>(auditTopic, eventString);
-            // Block till the message is sent to kafka server.
-            this.producer.send(record).get();
+            // Sent to the kafka server in the background
+            this.publisher.publish(eventString);
         }
 
         logger.exiting(CLASSNAME, METHODNAME);
@@ -256,14 +286,20 @@ public class WhcAuditCadfLogService implements AuditLogService {
         return event;
     }
 
-    // release kafka resource for producer
+    /**
+     * @return the publisher of the audit events, which exposes the queue depth, batch size and send latency metrics,
+     *     or null if the service is not initialized
+     */
+    public AuditEventPublisher getPublisher() {
+        return this.publisher;
+    }
+
+    // send the queued events and release kafka resource for producer
+    @Override
     public void stop() {
-        if (this.producer != null) {
-            try {
-                this.producer.close();
-            } catch (Exception e) {
-                logger.info(e.getMessage());
-            }
+        if (this.publisher != null) {
+            this.publisher.stop();
+            this.isEnabled = false;
         }
     }
 }
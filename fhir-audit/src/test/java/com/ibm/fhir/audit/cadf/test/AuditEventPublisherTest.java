@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.audit.cadf.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.audit.kafka.AuditEventPublisher;
+import com.ibm.fhir.audit.kafka.AuditEventPublisher.OverflowPolicy;
+
+public class AuditEventPublisherTest {
+    private static final String TOPIC = "FHIR_AUDIT";
+
+    @Test
+    public void testBatches() throws Exception {
+        MockProducer<String, String> producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        AuditEventPublisher publisher = AuditEventPublisher.builder(producer, TOPIC)
+                .batchSize(10)
+                .build();
+        List<String> events = events(25);
+        for (String event : events) {
+            assertTrue(publisher.publish(event));
+        }
+        publisher.stop();
+
+        assertEquals(values(producer), events);
+        assertEquals(publisher.getSentCount(), 25);
+        assertEquals(publisher.getQueueDepth(), 0);
+        assertTrue(publisher.getBatchCount() >= 3);
+        assertTrue(publisher.getLastBatchSize() <= 10);
+        assertTrue(producer.closed());
+    }
+
+    @Test
+    public void testStopSendsQueuedEvents() throws Exception {
+        MockProducer<String, String> producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        AuditEventPublisher publisher = AuditEventPublisher.builder(producer, TOPIC)
+                .lingerMillis(60000)
+                .build();
+        publisher.publish("a");
+        publisher.publish("b");
+        long start = System.currentTimeMillis();
+        publisher.stop();
+        assertTrue(System.currentTimeMillis() - start < 30000);
+
+        assertEquals(values(producer).size(), 2);
+        assertFalse(publisher.publish("c"));
+        assertEquals(publisher.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testDrop() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        MockProducer<String, String> producer = new MockProducer<String, String>(true, new StringSerializer(), new StringSerializer()) {
+            @Override
+            public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.send(record);
+            }
+        };
+        AuditEventPublisher publisher = AuditEventPublisher.builder(producer, TOPIC)
+                .queueCapacity(2)
+                .batchSize(1)
+                .lingerMillis(0)
+                .overflowPolicy(OverflowPolicy.DROP)
+                .build();
+
+        // The first event is taken by the worker thread, which waits in send
+        publisher.publish("first");
+        while (publisher.getQueueDepth() > 0) {
+            Thread.sleep(10);
+        }
+        int dropped = 0;
+        for (String event : events(10)) {
+            if (!publisher.publish(event)) {
+                dropped++;
+            }
+        }
+        assertEquals(dropped, 8);
+        assertEquals(publisher.getDroppedCount(), 8);
+
+        latch.countDown();
+        publisher.stop();
+        assertEquals(values(producer).size(), 3);
+    }
+
+    @Test
+    public void testSpillAndReplay() throws Exception {
+        Path spillFile = Files.createTempDirectory("audit").resolve("audit.spill");
+        boolean[] available = { false };
+        MockProducer<String, String> producer = new MockProducer<String, String>(true, new StringSerializer(), new StringSerializer()) {
+            @Override
+            public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record) {
+                if (!available[0]) {
+                    throw new KafkaException("Broker not available");
+                }
+                return super.send(record);
+            }
+        };
+        AuditEventPublisher publisher = AuditEventPublisher.builder(producer, TOPIC)
+                .lingerMillis(0)
+                .overflowPolicy(OverflowPolicy.SPILL)
+                .spillFile(spillFile)
+                .replayIntervalMillis(60000)
+                .build();
+        List<String> events = events(5);
+        events.add("{\n  \"multi\": \"line\"\n}");
+        for (String event : events) {
+            assertTrue(publisher.publish(event));
+        }
+        waitFor(() -> publisher.getSpilledCount() == 6);
+        assertEquals(publisher.getFailedCount(), 6);
+        assertTrue(Files.exists(spillFile));
+        publisher.stop();
+        assertTrue(values(producer).isEmpty());
+
+        // A new publisher replays the spilled events once the broker is available
+        available[0] = true;
+        MockProducer<String, String> newProducer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        AuditEventPublisher newPublisher = AuditEventPublisher.builder(newProducer, TOPIC)
+                .overflowPolicy(OverflowPolicy.SPILL)
+                .spillFile(spillFile)
+                .build();
+        waitFor(() -> newPublisher.getReplayedCount() == 6);
+        newPublisher.stop();
+        assertEquals(values(newProducer), events);
+        assertFalse(Files.exists(spillFile));
+    }
+
+    private interface Condition {
+        boolean test();
+    }
+
+    private void waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.test() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.test());
+    }
+
+    private List<String> events(int count) {
+        List<String> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add("{\"id\": \"" + i + "\"}");
+        }
+        return events;
+    }
+
+    private List<String> values(MockProducer<String, String> producer) {
+        return producer.history().stream().map(ProducerRecord::value).collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2019
+ * (C) Copyright IBM Corp. 2019, 2020
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -14,6 +14,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
 
 import com.ibm.fhir.benchmark.runner.FHIRBenchmarkRunner;
 import com.ibm.fhir.benchmark.util.BenchmarkUtil;
@@ -29,7 +30,12 @@ public class FHIRParserBenchmark {
     @State(Scope.Thread)
     public static class FHIRParsers {
         FHIRParser jsonParser = FHIRParser.parser(Format.JSON);
+        FHIRParser jsonStreamingParser = FHIRParser.parser(Format.JSON);
         FHIRParser xmlParser = FHIRParser.parser(Format.XML);
+
+        public FHIRParsers() {
+            jsonStreamingParser.setProperty(FHIRParser.PROPERTY_STREAMING, true);
+        }
     }
     
     @State(Scope.Benchmark)
@@ -61,6 +67,11 @@ public class FHIRParserBenchmark {
         return parsers.jsonParser.parse(new StringReader(state.JSON_SPEC_EXAMPLE));
     }
     
+    @Benchmark
+    public Resource benchmarkJsonStreamingParser(FHIRParsers parsers, FHIRParserState state) throws Exception {
+        return parsers.jsonStreamingParser.parse(new StringReader(state.JSON_SPEC_EXAMPLE));
+    }
+
     @Benchmark
     public Resource benchmarkXMLParser(FHIRParsers parsers, FHIRParserState state) throws Exception {
         return parsers.xmlParser.parse(new StringReader(state.XML_SPEC_EXAMPLE));
@@ -77,6 +88,7 @@ public class FHIRParserBenchmark {
     }
     
     public static void main(String[] args) throws Exception {
-        new FHIRBenchmarkRunner(FHIRParserBenchmark.class).run();
+        // GCProfiler reports the allocation rate (gc.alloc.rate.norm) for each benchmark alongside its throughput
+        new FHIRBenchmarkRunner(FHIRParserBenchmark.class).profiler(GCProfiler.class).run();
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ibm.fhir.benchmark.runner.FHIRBenchmarkRunner;
+import com.ibm.fhir.core.util.ConcurrentLRUCache;
+
+/**
+ * Measures cache throughput under contention for the synchronized LinkedHashMap LRU cache that
+ * LRUCache.createLRUCache used to return and for {@link ConcurrentLRUCache}.
+ */
+public class LRUCacheBenchmark {
+    private static final int MAX_ENTRIES = 1024;
+    private static final int KEY_SPACE = 2048;
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    @State(Scope.Benchmark)
+    public static class LRUCacheState {
+        @Param({ "synchronized", "concurrent" })
+        public String implementation;
+
+        public Map<String, String> cache;
+        public String[] keys;
+
+        @Setup
+        public void setUp() {
+            cache = "synchronized".equals(implementation) ? synchronizedLRUCache(MAX_ENTRIES) : new ConcurrentLRUCache<>(MAX_ENTRIES);
+            keys = new String[KEY_SPACE];
+            for (int i = 0; i < KEY_SPACE; i++) {
+                keys[i] = "key" + i;
+            }
+            for (int i = 0; i < MAX_ENTRIES; i++) {
+                cache.put(keys[i], keys[i]);
+            }
+        }
+
+        /**
+         * Skewed towards the low keys so that most lookups hit, as they do for FHIRPath expressions and value sets
+         */
+        public String nextKey() {
+            double r = ThreadLocalRandom.current().nextDouble();
+            return keys[(int) (r * r * KEY_SPACE)];
+        }
+    }
+
+    @Benchmark
+    public String benchmarkComputeIfAbsent(LRUCacheState state) {
+        return state.cache.computeIfAbsent(state.nextKey(), k -> k);
+    }
+
+    @Benchmark
+    public String benchmarkGet(LRUCacheState state) {
+        return state.cache.get(state.nextKey());
+    }
+
+    private static Map<String, String> synchronizedLRUCache(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<String, String>(maxEntries, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            new FHIRBenchmarkRunner(LRUCacheBenchmark.class)
+                    .threads(threads)
+                    .run();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ibm.fhir.model.annotation.Constraint;
+import com.ibm.fhir.model.util.ModelSupport;
+
+/**
+ * Measures the time to initialize ModelSupport in a fresh JVM, which is part of the startup time of the server,
+ * the CLI and batch jobs. Each fork measures a single cold initialization.
+ *
+ * <p>{@link #benchmarkReflectiveScan(Blackhole)} loads the same model classes and scans their fields and
+ * annotations, which is what ModelSupport did before it used the generated model metadata.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, jvmArgsPrepend = { "-Xms2g", "-Xmx2g" })
+public class ModelSupportStartupBenchmark {
+    @Benchmark
+    public void benchmarkModelSupportInit() {
+        ModelSupport.init();
+    }
+
+    @Benchmark
+    public void benchmarkReflectiveScan(Blackhole bh) throws Exception {
+        try (InputStream in = ModelSupportStartupBenchmark.class.getClassLoader().getResourceAsStream("modelClasses")) {
+            List<String> classNames = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.toList());
+            for (String className : classNames) {
+                Class<?> modelClass = Class.forName(className);
+                for (Class<?> clazz = modelClass; !Object.class.equals(clazz); clazz = clazz.getSuperclass()) {
+                    for (Field field : clazz.getDeclaredFields()) {
+                        bh.consume(field.getGenericType());
+                        for (Annotation annotation : field.getAnnotations()) {
+                            bh.consume(annotation);
+                        }
+                    }
+                    bh.consume(clazz.getDeclaredAnnotationsByType(Constraint.class));
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(".*" + ModelSupportStartupBenchmark.class.getSimpleName() + ".*")
+                .build()).run();
+    }
+}
@@ -11,10 +11,12 @@ import java.util.Collection;
 import java.util.List;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.Profiler;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
@@ -28,6 +30,8 @@ public class FHIRBenchmarkRunner {
 
     private final Class<?> benchmarkClass;
     private final List<String> properties = new ArrayList<>();
+    private final List<Class<? extends Profiler>> profilers = new ArrayList<>();
+    private int threads = 1;
 
     public FHIRBenchmarkRunner(Class<?> benchmarkClass) {
         this.benchmarkClass = benchmarkClass;
@@ -38,11 +42,27 @@ public class FHIRBenchmarkRunner {
         return this;
     }
 
+    /**
+     * Add a profiler (e.g. {@link org.openjdk.jmh.profile.GCProfiler} for allocation rates) to each run
+     */
+    public FHIRBenchmarkRunner profiler(Class<? extends Profiler> profiler) {
+        profilers.add(profiler);
+        return this;
+    }
+
+    /**
+     * Set the number of threads used by {@link #run()}
+     */
+    public FHIRBenchmarkRunner threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
     /**
      * Run without overriding any parameters
      */
     public Collection<RunResult> run() throws RunnerException {
-        Options opt = new OptionsBuilder()
+        ChainedOptionsBuilder builder = new OptionsBuilder()
                 .include(".*" + benchmarkClass.getSimpleName() + ".*")
                 .jvmArgsPrepend("-Xms2g", "-Xmx2g")
                 .jvmArgsAppend(properties.toArray(new String[properties.size()]))
@@ -53,18 +73,17 @@ public class FHIRBenchmarkRunner {
                 .measurementTime(TimeValue.seconds(10))
                 .shouldDoGC(true)
                 .forks(2)
-                .threads(1)
+                .threads(threads)
 //              .mode(Mode.AverageTime)
-                .addProfiler(StackProfiler.class)
-                .build();
-        return new Runner(opt).run();
+                .addProfiler(StackProfiler.class);
+        return new Runner(build(builder)).run();
     }
 
     /**
      * Run and override the 'exampleName' param with the passed fileName
      */
     public Collection<RunResult> run(String fileName) throws RunnerException {
-        Options opt = new OptionsBuilder()
+        ChainedOptionsBuilder builder = new OptionsBuilder()
                 .include(".*" + benchmarkClass.getSimpleName() + ".*")
                 .jvmArgsPrepend("-Xms4g", "-Xmx4g")
                 .jvmArgsAppend(properties.toArray(new String[properties.size()]))
@@ -77,16 +96,15 @@ public class FHIRBenchmarkRunner {
                 .forks(1)
 //              .mode(Mode.AverageTime)
                 .addProfiler(StackProfiler.class)
-                .param("exampleName", fileName)
-                .build();
-        return new Runner(opt).run();
+                .param("exampleName", fileName);
+        return new Runner(build(builder)).run();
     }
 
     /**
      * Run the benchmark with all the examples in BenchmarkUtil.SPEC_EXAMPLE_NAMES
      */
     public Collection<RunResult> runAll() throws RunnerException {
-        Options opt = new OptionsBuilder()
+        ChainedOptionsBuilder builder = new OptionsBuilder()
                 .include(".*" + benchmarkClass.getSimpleName() + ".*")
                 .jvmArgsPrepend("-Xms4g", "-Xmx4g")
                 .jvmArgsAppend(properties.toArray(new String[properties.size()]))
@@ -99,8 +117,14 @@ public class FHIRBenchmarkRunner {
                 .forks(1)
                 .output("results.txt")
                 .mode(Mode.SingleShotTime)
-                .param("exampleName", BenchmarkUtil.SPEC_EXAMPLE_NAMES.toArray(new String[0])) // https://stackoverflow.com/a/4042464/161022
-                .build();
-        return new Runner(opt).run();
+                .param("exampleName", BenchmarkUtil.SPEC_EXAMPLE_NAMES.toArray(new String[0])); // https://stackoverflow.com/a/4042464/161022
+        return new Runner(build(builder)).run();
+    }
+
+    private Options build(ChainedOptionsBuilder builder) {
+        for (Class<? extends Profiler> profiler : profilers) {
+            builder.addProfiler(profiler);
+        }
+        return builder.build();
     }
 }
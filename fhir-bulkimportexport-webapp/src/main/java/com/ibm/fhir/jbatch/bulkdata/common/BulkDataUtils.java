@@ -6,16 +6,20 @@
 
 package com.ibm.fhir.jbatch.bulkdata.common;
 
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,6 +28,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -180,45 +185,101 @@ public class BulkDataUtils {
     }
 
     /**
-     * @param resReader - the buffer reader to read FHIR resource from.
+     * Reads and parses the next batch of lines. Each parsing failure is also added to the parse failures of the
+     * transient user data as soon as it happens, so that none are lost when the read fails part way through the batch.
+     *
+     * @param transientUserData - transient user data for the chunk, which holds the line reader and the parse stage.
      * @param numOfProcessedLines - number of the already processed lines.
      * @param fhirResources - List holds the FHIR resources.
      * @param isSkipProcessed - if need to skip the processed lines before read.
      * @return - the number of parsing failures.
      * @throws Exception
      */
-    private static int getFhirResourceFromBufferReader(BufferedReader resReader, int numOfProcessedLines, List<Resource> fhirResources,
+    private static int getFhirResourceFromBufferReader(ImportTransientUserData transientUserData, int numOfProcessedLines, List<Resource> fhirResources,
             boolean isSkipProcessed, String dataSource) throws Exception {
+        ByteOffsetLineReader resReader = transientUserData.getBufferReader();
+        PipelineStage<String, Resource> parseStage = transientUserData.getParseStage();
         int exported = 0;
         int lineRed = 0;
         int parseFailures = 0;
+        if (parseStage == null) {
+            parseStage = createParseStage(null, 1);
+        }
 
-        String resLine = null;
-        do {
-            resLine = resReader.readLine();
-            if (resLine != null) {
-                lineRed++;
-                if (isSkipProcessed && lineRed <= numOfProcessedLines) {
+        // Lines are parsed by the workers of the parse stage while more lines are read. No more lines are read than
+        // are needed to fill this batch, so that the offset of the reader always follows the last line in the batch.
+        boolean isEndOfInput = false;
+        try {
+            while (exported < Constants.IMPORT_NUMOFFHIRRESOURCES_PERREAD) {
+                if (!isEndOfInput && !parseStage.isFull()
+                        && exported + parseStage.size() < Constants.IMPORT_NUMOFFHIRRESOURCES_PERREAD) {
+                    String resLine = resReader.readLine();
+                    if (resLine == null) {
+                        isEndOfInput = true;
+                    } else {
+                        lineRed++;
+                        if (!isSkipProcessed || lineRed > numOfProcessedLines) {
+                            parseStage.submit(resLine);
+                        }
+                    }
                     continue;
                 }
-                try {
-                    fhirResources.add(FHIRParser.parser(Format.JSON).parse(new StringReader(resLine)));
+                if (parseStage.isEmpty()) {
+                    break;
+                }
+                if (takeResource(parseStage, fhirResources, transientUserData, dataSource, numOfProcessedLines + exported + parseFailures + 1)) {
                     exported++;
-                    if (exported == Constants.IMPORT_NUMOFFHIRRESOURCES_PERREAD) {
-                        break;
-                    }
-                } catch (FHIRParserException e) {
-                    // Log and skip the invalid FHIR resource.
+                } else {
                     parseFailures++;
-                    logger.log(Level.INFO, "getFhirResourceFromBufferReader: " + "Failed to parse line "
-                            + (numOfProcessedLines + exported + parseFailures) + " of [" + dataSource + "].", e);
-                    continue;
                 }
             }
-        } while (resLine != null);
+        } catch (Exception e) {
+            // The lines in flight were read completely, and a retry resumes right after the last line that was read,
+            // so finish parsing them instead of dropping them.
+            while (!parseStage.isEmpty()) {
+                try {
+                    if (takeResource(parseStage, fhirResources, transientUserData, dataSource, numOfProcessedLines + exported + parseFailures + 1)) {
+                        exported++;
+                    } else {
+                        parseFailures++;
+                    }
+                } catch (Exception e1) {
+                    e.addSuppressed(e1);
+                }
+            }
+            throw e;
+        }
         return parseFailures;
     }
 
+    /**
+     * Takes the next parsed line from the parse stage, and logs and skips it if it isn't a valid FHIR resource.
+     *
+     * @return - true if the resource was added to fhirResources, false if the line couldn't be parsed.
+     * @throws Exception - if the line couldn't be parsed for any other reason.
+     */
+    private static boolean takeResource(PipelineStage<String, Resource> parseStage, List<Resource> fhirResources,
+            ImportTransientUserData transientUserData, String dataSource, int lineNumber) throws Exception {
+        try {
+            fhirResources.add(parseStage.take());
+            return true;
+        } catch (FHIRParserException e) {
+            transientUserData.setNumOfParseFailures(transientUserData.getNumOfParseFailures() + 1);
+            logger.log(Level.INFO, "getFhirResourceFromBufferReader: " + "Failed to parse line "
+                    + lineNumber + " of [" + dataSource + "].", e);
+            return false;
+        }
+    }
+
+    /**
+     * @param executor - the executor to run the parse tasks on, or null to parse on the reading thread.
+     * @param workers - the number of lines to parse concurrently.
+     * @return - a pipeline stage which parses NDJSON lines into FHIR resources.
+     */
+    public static PipelineStage<String, Resource> createParseStage(ExecutorService executor, int workers) {
+        return new PipelineStage<>(executor, workers, resLine -> FHIRParser.parser(Format.JSON).parse(new StringReader(resLine)));
+    }
+
     public static void cleanupTransientUserData(ImportTransientUserData transientUserData, boolean isAbort) throws Exception {
         if (transientUserData.getInputStream() != null) {
             if (isAbort && transientUserData.getInputStream() instanceof S3ObjectInputStream) {
@@ -235,37 +296,59 @@ public class BulkDataUtils {
         }
     }
 
+    /**
+     * @param transientUserData - transient user data for the chunk.
+     * @param numOfBytesToSkip - number of bytes to skip before read.
+     * @return - true if there is nothing left to read after skipping the given number of bytes.
+     */
+    private static boolean isReadFinished(ImportTransientUserData transientUserData, long numOfBytesToSkip) {
+        // Avoid asking for a range that starts at the end of the data source, which COS/S3 rejects.
+        return numOfBytesToSkip > 0 && transientUserData.getImportFileSize() > 0
+                && numOfBytesToSkip >= transientUserData.getImportFileSize();
+    }
+
     /**
      * @param cosClient - COS/S3 client.
      * @param bucketName - COS/S3 bucket name to read from.
      * @param itemName - COS/S3 object name to read from.
-     * @param numOfLinesToSkip - number of lines to skip before read.
+     * @param numOfBytesToSkip - number of bytes to skip before read, the object is read from this offset with a ranged GET.
+     * @param numOfLinesToSkip - number of lines to skip after numOfBytesToSkip before read.
      * @param fhirResources - List holds the FHIR resources.
      * @param transientUserData - transient user data for the chunk.
-     * @return - number of parsing failures.
+     * @return - number of parsing failures, which are also added to the parse failures of the transient user data.
      * @throws Exception
      */
     public static int readFhirResourceFromObjectStore(AmazonS3 cosClient, String bucketName, String itemName,
-           int numOfLinesToSkip, List<Resource> fhirResources, ImportTransientUserData transientUserData) throws Exception {
-        int parseFailures = 0;
+           long numOfBytesToSkip, int numOfLinesToSkip, List<Resource> fhirResources, ImportTransientUserData transientUserData) throws Exception {
+        int numOfParseFailures = transientUserData.getNumOfParseFailures();
         int retryTimes = Constants.IMPORT_RETRY_TIMES;
         do {
             try {
                 if (transientUserData.getBufferReader() == null) {
-                    S3Object item = cosClient.getObject(new GetObjectRequest(bucketName, itemName));
+                    if (isReadFinished(transientUserData, numOfBytesToSkip)) {
+                        break;
+                    }
+                    GetObjectRequest request = new GetObjectRequest(bucketName, itemName);
+                    if (numOfBytesToSkip > 0) {
+                        request.setRange(numOfBytesToSkip);
+                    }
+                    S3Object item = cosClient.getObject(request);
                     S3ObjectInputStream s3InStream = item.getObjectContent();
                     transientUserData.setInputStream(s3InStream);
-                    BufferedReader resReader = new BufferedReader(new InputStreamReader(s3InStream));
-                    transientUserData.setBufferReader(resReader);
+                    transientUserData.setBufferReader(new ByteOffsetLineReader(s3InStream, numOfBytesToSkip));
                     // Skip the already processed lines after opening the input stream for first read.
-                    parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, true, itemName);
+                    getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, true, itemName);
                 } else {
-                    parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, false, itemName);
+                    getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, false, itemName);
                 }
                 break;
             } catch (Exception ex) {
-                // Prepare for retry, skip all the processed lines in previous batches and this batch.
-                numOfLinesToSkip = numOfLinesToSkip + fhirResources.size() + parseFailures;
+                // Prepare for retry, resume right after the last line that was read in previous batches and this batch;
+                // every line that was read has been added to fhirResources or counted as a parse failure.
+                if (transientUserData.getBufferReader() != null) {
+                    numOfBytesToSkip = transientUserData.getBufferReader().getOffset();
+                    numOfLinesToSkip = 0;
+                }
                 cleanupTransientUserData(transientUserData, true);
                 logger.warning("readFhirResourceFromObjectStore: Error proccesing file [" + itemName + "] - " + ex.getMessage());
                 if ((retryTimes--) > 0) {
@@ -275,9 +358,9 @@ public class BulkDataUtils {
                     throw ex;
                 }
             }
-        } while (retryTimes > 0);
+        } while (true);
 
-        return parseFailures;
+        return transientUserData.getNumOfParseFailures() - numOfParseFailures;
     }
 
 
@@ -288,35 +371,40 @@ public class BulkDataUtils {
 
     /**
      * @param filePath - file path to the ndjson file.
-     * @param numOfLinesToSkip - number of lines to skip before read.
+     * @param numOfBytesToSkip - number of bytes to skip before read, the file is read from this position.
+     * @param numOfLinesToSkip - number of lines to skip after numOfBytesToSkip before read.
      * @param fhirResources - List holds the FHIR resources.
      * @param transientUserData - transient user data for the chunk.
-     * @return - number of parsing failures.
+     * @return - number of parsing failures, which are also added to the parse failures of the transient user data.
      * @throws Exception
      */
-    public static int readFhirResourceFromLocalFile(String filePath, int numOfLinesToSkip, List<Resource> fhirResources,
+    public static int readFhirResourceFromLocalFile(String filePath, long numOfBytesToSkip, int numOfLinesToSkip, List<Resource> fhirResources,
             ImportTransientUserData transientUserData) throws Exception {
-        int parseFailures = 0;
+        int numOfParseFailures = transientUserData.getNumOfParseFailures();
 
         try {
             if (transientUserData.getBufferReader() == null) {
-                BufferedReader resReader = Files.newBufferedReader(Paths.get(filePath));
-                transientUserData.setBufferReader(resReader);
+                FileChannel fileChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+                fileChannel.position(numOfBytesToSkip);
+                InputStream inputStream = Channels.newInputStream(fileChannel);
+                transientUserData.setInputStream(inputStream);
+                transientUserData.setBufferReader(new ByteOffsetLineReader(inputStream, numOfBytesToSkip));
                 // Skip the already processed lines after opening the input stream for first read.
-                parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, true, filePath);
+                getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, true, filePath);
             } else {
-                parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, false, filePath);
+                getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, false, filePath);
             }
         } catch (Exception ex) {
             // Clean up.
             fhirResources.clear();
+            transientUserData.setNumOfParseFailures(numOfParseFailures);
             cleanupTransientUserData(transientUserData, true);
             // Log the error and throw exception to fail the job, the job can be continued from the current checkpoint after the problem is solved.
             logger.warning("readFhirResourceFromLocalFile: Error proccesing file [" + filePath + "] - " + ex.getMessage());
             throw ex;
         }
 
-        return parseFailures;
+        return transientUserData.getNumOfParseFailures() - numOfParseFailures;
     }
 
 
@@ -327,32 +415,48 @@ public class BulkDataUtils {
 
     /**
      * @param dataUrl - URL to the ndjson file.
-     * @param numOfLinesToSkip - number of lines to skip before read.
+     * @param numOfBytesToSkip - number of bytes to skip before read, requested with a Range header when possible.
+     * @param numOfLinesToSkip - number of lines to skip after numOfBytesToSkip before read.
      * @param fhirResources - List holds the FHIR resources.
      * @param transientUserData - transient user data for the chunk.
-     * @return - number of parsing failures.
+     * @return - number of parsing failures, which are also added to the parse failures of the transient user data.
      * @throws Exception
      */
-    public static int readFhirResourceFromHttps(String dataUrl, int numOfLinesToSkip, List<Resource> fhirResources,
+    public static int readFhirResourceFromHttps(String dataUrl, long numOfBytesToSkip, int numOfLinesToSkip, List<Resource> fhirResources,
             ImportTransientUserData transientUserData) throws Exception {
-        int parseFailures = 0;
+        int numOfParseFailures = transientUserData.getNumOfParseFailures();
         int retryTimes = Constants.IMPORT_RETRY_TIMES;
         do {
             try {
                 if (transientUserData.getBufferReader() == null) {
-                    InputStream inputStream = new URL(dataUrl).openConnection().getInputStream();
+                    if (isReadFinished(transientUserData, numOfBytesToSkip)) {
+                        break;
+                    }
+                    URLConnection connection = new URL(dataUrl).openConnection();
+                    if (numOfBytesToSkip > 0) {
+                        connection.setRequestProperty("Range", "bytes=" + numOfBytesToSkip + "-");
+                    }
+                    InputStream inputStream = connection.getInputStream();
                     transientUserData.setInputStream(inputStream);
-                    BufferedReader resReader = new BufferedReader(new InputStreamReader(inputStream));
-                    transientUserData.setBufferReader(resReader);
+                    if (numOfBytesToSkip > 0 && !(connection instanceof HttpURLConnection
+                            && ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_PARTIAL)) {
+                        // The server ignored the Range header, so skip the bytes on our side.
+                        skipFully(inputStream, numOfBytesToSkip);
+                    }
+                    transientUserData.setBufferReader(new ByteOffsetLineReader(inputStream, numOfBytesToSkip));
                     // Skip the already processed lines after opening the input stream for first read.
-                    parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, true, dataUrl);
+                    getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, true, dataUrl);
                 } else {
-                    parseFailures = getFhirResourceFromBufferReader(transientUserData.getBufferReader(), numOfLinesToSkip, fhirResources, false, dataUrl);
+                    getFhirResourceFromBufferReader(transientUserData, numOfLinesToSkip, fhirResources, false, dataUrl);
                 }
                 break;
             } catch (Exception ex) {
-                // Prepare for retry, skip all the processed lines in previous batches and this batch.
-                numOfLinesToSkip = numOfLinesToSkip + fhirResources.size() + parseFailures;
+                // Prepare for retry, resume right after the last line that was read in previous batches and this batch;
+                // every line that was read has been added to fhirResources or counted as a parse failure.
+                if (transientUserData.getBufferReader() != null) {
+                    numOfBytesToSkip = transientUserData.getBufferReader().getOffset();
+                    numOfLinesToSkip = 0;
+                }
                 cleanupTransientUserData(transientUserData, true);
                 logger.warning("readFhirResourceFromHttps: Error proccesing file [" + dataUrl + "] - " + ex.getMessage());
                 if ((retryTimes--) > 0) {
@@ -362,9 +466,23 @@ public class BulkDataUtils {
                     throw ex;
                 }
             }
-        } while (retryTimes > 0);
+        } while (true);
 
-        return parseFailures;
+        return transientUserData.getNumOfParseFailures() - numOfParseFailures;
+    }
+
+    private static void skipFully(InputStream inputStream, long numOfBytesToSkip) throws IOException {
+        long remaining = numOfBytesToSkip;
+        while (remaining > 0) {
+            long skipped = inputStream.skip(remaining);
+            if (skipped <= 0) {
+                if (inputStream.read() < 0) {
+                    throw new EOFException("Reached the end of the stream after skipping " + (numOfBytesToSkip - remaining) + " bytes");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
     }
 
 
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.jbatch.bulkdata.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads UTF-8 lines from an input stream and keeps track of the byte offset just after the last line returned.
+ * Unlike a BufferedReader over an InputStreamReader, the offset stays exact regardless of how far ahead the
+ * underlying buffer has read, so it can be saved in a checkpoint and used to seek straight back to the next line.
+ */
+public class ByteOffsetLineReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream inputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream(4096);
+    private int position = 0;
+    private int limit = 0;
+    private long offset;
+
+    /**
+     * @param inputStream - the stream to read from, already positioned at startOffset.
+     * @param startOffset - the offset within the data source of the first byte of inputStream.
+     */
+    public ByteOffsetLineReader(InputStream inputStream, long startOffset) {
+        this.inputStream = inputStream;
+        this.offset = startOffset;
+    }
+
+    /**
+     * @return the next line without its line terminator ('\n' or "\r\n"), or null at the end of the stream.
+     * @throws IOException
+     */
+    public String readLine() throws IOException {
+        lineBuffer.reset();
+        long consumed = 0;
+        while (true) {
+            if (position == limit) {
+                int read = inputStream.read(buffer, 0, buffer.length);
+                if (read < 0) {
+                    if (consumed == 0) {
+                        return null;
+                    }
+                    // Last line without a line terminator.
+                    offset += consumed;
+                    return decodeLine();
+                }
+                position = 0;
+                limit = read;
+            }
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            lineBuffer.write(buffer, start, position - start);
+            consumed += position - start;
+
+            if (position < limit) {
+                // Skip the '\n'.
+                position++;
+                offset += consumed + 1;
+                return decodeLine();
+            }
+        }
+    }
+
+    /**
+     * @return the offset within the data source of the byte just after the last line returned by readLine.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    private String decodeLine() {
+        byte[] bytes = lineBuffer.toByteArray();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
@@ -29,6 +29,13 @@ public class Constants {
      */
     public static final int DEFAULT_PATIENT_EXPORT_SEARCH_PAGE_SIZE = 200;
 
+    /**
+     * The default number of resources parsed or validated concurrently by the bulk import pipeline stages.
+     * With a single thread, each stage runs on the batch thread just like before the pipeline was introduced.
+     */
+    public static final int DEFAULT_IMPORT_PARSE_THREADS = 1;
+    public static final int DEFAULT_IMPORT_VALIDATION_THREADS = 1;
+
     /**
      * The threshold size (200MiB) for when to start writing to a new file (NDJSON-only).
      */
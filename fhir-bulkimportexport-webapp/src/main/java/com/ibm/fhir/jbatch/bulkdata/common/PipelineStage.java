@@ -0,0 +1,162 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.jbatch.bulkdata.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+
+/**
+ * One stage of the bulk import pipeline. Inputs submitted to the stage are processed by up to {@code workers}
+ * tasks on the managed executor while the submitting thread goes on with other work, and the outputs are taken
+ * back in submission order. The stage holds at most {@code workers} inputs at a time; callers must
+ * {@link #take()} before they can {@link #submit(Object)} to a full stage, which keeps a fast producer from
+ * running ahead of a slow consumer.
+ *
+ * <p>Without an executor, or with a single worker, each input is processed on the submitting thread.
+ * Instances are meant to be driven by a single thread.
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public class PipelineStage<I, O> {
+    private static final Logger logger = Logger.getLogger(PipelineStage.class.getName());
+    private static final String MANAGED_EXECUTOR_JNDI_NAME = "java:comp/DefaultManagedExecutorService";
+
+    /**
+     * The work done by a stage for each input.
+     */
+    @FunctionalInterface
+    public interface Function<I, O> {
+        O apply(I input) throws Exception;
+    }
+
+    private final ExecutorService executor;
+    private final int workers;
+    private final Function<I, O> function;
+    private final Deque<FutureTask<O>> inFlight = new ArrayDeque<>();
+
+    /**
+     * @param executor - the executor to run the tasks on, or null to run them on the submitting thread.
+     * @param workers - the maximum number of inputs processed concurrently.
+     * @param function - the work to do for each input.
+     */
+    public PipelineStage(ExecutorService executor, int workers, Function<I, O> function) {
+        this.executor = workers > 1 ? executor : null;
+        this.workers = Math.max(workers, 1);
+        this.function = function;
+    }
+
+    /**
+     * @return true if the stage can't accept another input until an output is taken.
+     */
+    public boolean isFull() {
+        return inFlight.size() >= workers;
+    }
+
+    /**
+     * @return the number of inputs submitted whose outputs haven't been taken yet.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return true if there are no outputs left to take.
+     */
+    public boolean isEmpty() {
+        return inFlight.isEmpty();
+    }
+
+    /**
+     * Starts processing the input.
+     *
+     * @throws IllegalStateException if the stage is full.
+     */
+    public void submit(I input) {
+        if (isFull()) {
+            throw new IllegalStateException("Pipeline stage is full");
+        }
+
+        // The request context is held in a thread local, so it must be passed along to the worker threads.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+        Thread submitThread = Thread.currentThread();
+        FutureTask<O> task = new FutureTask<>(() -> {
+            try {
+                FHIRRequestContext.set(requestContext);
+                return function.apply(input);
+            } finally {
+                if (Thread.currentThread() != submitThread) {
+                    FHIRRequestContext.remove();
+                }
+            }
+        });
+        inFlight.add(task);
+
+        if (executor == null) {
+            task.run();
+        } else {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The executor is saturated, so do the work on this thread instead.
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Waits for the oldest input to be processed and returns its output.
+     *
+     * @throws Exception the exception thrown while processing the input.
+     */
+    public O take() throws Exception {
+        FutureTask<O> task = inFlight.remove();
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Waits for any inputs still being processed, discarding their outputs. Used to clean up after a failure.
+     */
+    public void drain() {
+        while (!inFlight.isEmpty()) {
+            try {
+                take();
+            } catch (Exception e) {
+                // Ignore, the caller is already handling an earlier failure.
+            }
+        }
+    }
+
+    /**
+     * @return the managed executor of the application server, or null if it isn't available.
+     */
+    public static ExecutorService lookupManagedExecutor() {
+        try {
+            return InitialContext.doLookup(MANAGED_EXECUTOR_JNDI_NAME);
+        } catch (NamingException e) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Managed executor '" + MANAGED_EXECUTOR_JNDI_NAME + "' is not available, the import pipeline stages will run sequentially.");
+            }
+            return null;
+        }
+    }
+}
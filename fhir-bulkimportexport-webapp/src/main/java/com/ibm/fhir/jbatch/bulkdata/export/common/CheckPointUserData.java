@@ -9,6 +9,7 @@ package com.ibm.fhir.jbatch.bulkdata.export.common;
 import java.util.List;
 
 import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
+import com.ibm.fhir.search.context.KeysetCursor;
 
 /**
  * Bulk export Chunk implementation - job check point data.
@@ -33,6 +34,9 @@ public class CheckPointUserData implements java.io.Serializable {
     // Used to mark the complete of the partition.
     private boolean isMoreToExport = true;
     protected int lastWritePageNum;
+    // Used instead of the page numbers to position the search when the persistence layer supports keyset paging.
+    protected KeysetCursor cursor;
+    protected KeysetCursor lastWriteCursor;
 
     protected CheckPointUserData() {
         super();
@@ -52,6 +56,8 @@ public class CheckPointUserData implements java.io.Serializable {
             .uploadCount(userData.uploadCount)
             .lastPageNum(userData.lastPageNum)
             .lastWritePageNum(userData.lastWritePageNum)
+            .cursor(userData.cursor)
+            .lastWriteCursor(userData.lastWriteCursor)
             .build();
     }
 
@@ -68,6 +74,8 @@ public class CheckPointUserData implements java.io.Serializable {
         protected int indexOfCurrentTypeFilter;
         protected String resourceTypeSummary = null;
         protected int lastWritePageNum;
+        protected KeysetCursor cursor;
+        protected KeysetCursor lastWriteCursor;
 
         public Builder() {
             super();
@@ -137,6 +145,16 @@ public class CheckPointUserData implements java.io.Serializable {
             return this;
         }
 
+        public Builder cursor(KeysetCursor cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
+        public Builder lastWriteCursor(KeysetCursor lastWriteCursor) {
+            this.lastWriteCursor = lastWriteCursor;
+            return this;
+        }
+
         public CheckPointUserData build(){
             CheckPointUserData checkPointUserData = new CheckPointUserData();
             checkPointUserData.pageNum  = this.pageNum;
@@ -151,6 +169,8 @@ public class CheckPointUserData implements java.io.Serializable {
             checkPointUserData.indexOfCurrentTypeFilter = this.indexOfCurrentTypeFilter;
             checkPointUserData.resourceTypeSummary = this.resourceTypeSummary;
             checkPointUserData.lastWritePageNum = this.lastWritePageNum;
+            checkPointUserData.cursor = this.cursor;
+            checkPointUserData.lastWriteCursor = this.lastWriteCursor;
 
             return checkPointUserData;
         }
@@ -268,4 +288,26 @@ public class CheckPointUserData implements java.io.Serializable {
         this.lastWritePageNum = lastWritePageNum;
     }
 
+    public KeysetCursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @param cursor the position of the last search result that was read
+     */
+    public void setCursor(KeysetCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    public KeysetCursor getLastWriteCursor() {
+        return lastWriteCursor;
+    }
+
+    /**
+     * @param lastWriteCursor the position of the last search result that was exported
+     */
+    public void setLastWriteCursor(KeysetCursor lastWriteCursor) {
+        this.lastWriteCursor = lastWriteCursor;
+    }
+
 }
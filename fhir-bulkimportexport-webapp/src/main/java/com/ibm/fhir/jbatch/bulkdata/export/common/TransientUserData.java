@@ -35,6 +35,8 @@ public class TransientUserData extends CheckPointUserData {
             .uploadCount(checkPointData.uploadCount)
             .lastPageNum(checkPointData.lastPageNum)
             .lastWritePageNum(checkPointData.lastWritePageNum)
+            .cursor(checkPointData.cursor)
+            .lastWriteCursor(checkPointData.lastWriteCursor)
             .build();
     }
 
@@ -63,6 +65,8 @@ public class TransientUserData extends CheckPointUserData {
             transientUserData.indexOfCurrentTypeFilter = this.indexOfCurrentTypeFilter;
             transientUserData.resourceTypeSummary = this.resourceTypeSummary;
             transientUserData.lastWritePageNum = this.lastWritePageNum;
+            transientUserData.cursor = this.cursor;
+            transientUserData.lastWriteCursor = this.lastWriteCursor;
             return transientUserData;
         }
     }
@@ -47,6 +47,7 @@ import com.ibm.fhir.persistence.helper.FHIRPersistenceHelper;
 import com.ibm.fhir.persistence.helper.FHIRTransactionHelper;
 import com.ibm.fhir.search.compartment.CompartmentUtil;
 import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.KeysetCursor;
 import com.ibm.fhir.search.util.SearchUtil;
 
 /**
@@ -57,6 +58,8 @@ import com.ibm.fhir.search.util.SearchUtil;
 public class ChunkReader extends AbstractItemReader {
     private final static Logger logger = Logger.getLogger(ChunkReader.class.getName());
     protected int pageNum = 1;
+    // Position of the last patient read, used instead of pageNum when the persistence layer supports keyset paging.
+    protected KeysetCursor cursor = KeysetCursor.START;
     // Control the number of records to read in each "item".
     protected int pageSize;
 
@@ -140,6 +143,7 @@ public class ChunkReader extends AbstractItemReader {
         int compartmentPageNum = 1;
         int resSubTotal = 0;
         FHIRSearchContext searchContext;
+        boolean isKeysetPaging = fhirPersistence.isKeysetPagingSupported();
 
         if (chunkData != null) {
             // TODO the following replaceAll can be dropped after issue(https://github.com/IBM/FHIR/issues/300) is fixed.
@@ -165,7 +169,9 @@ public class ChunkReader extends AbstractItemReader {
                 if (!searchCriteria.isEmpty()) {
                     queryParameters.put(Constants.FHIR_SEARCH_LASTUPDATED, searchCriteria);
                 }
-                queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+                if (!isKeysetPaging) {
+                    queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+                }
 
                 List<String> compartmentSearchCriterias = CompartmentUtil.getCompartmentResourceTypeInclusionCriteria("Patient", resourceType.getSimpleName());
                 if (compartmentSearchCriterias.size() > 1) {
@@ -178,7 +184,11 @@ public class ChunkReader extends AbstractItemReader {
 
                     queryTmpParameters.put(compartmentSearchCriteria, Arrays.asList(new String[] {String.join(",", patientIds)}));
                     searchContext = SearchUtil.parseQueryParameters(resourceType, queryTmpParameters);
+                    if (isKeysetPaging) {
+                        searchContext.setKeysetCursor(KeysetCursor.START);
+                    }
 
+                    boolean isMoreToRead;
                     do {
                         searchContext.setPageSize(pageSize);
                         searchContext.setPageNumber(compartmentPageNum);
@@ -193,6 +203,9 @@ public class ChunkReader extends AbstractItemReader {
                             txn.end();
                         }
                         compartmentPageNum++;
+                        // The search context carries the keyset cursor forward to the next page.
+                        isMoreToRead = isKeysetPaging ? resources.size() >= pageSize
+                                : searchContext.getLastPageNumber() >= compartmentPageNum;
 
                         for (Resource res : resources) {
                             if (res == null || (isDoDuplicationCheck && loadedResourceIds.contains(res.getId()))) {
@@ -223,7 +236,7 @@ public class ChunkReader extends AbstractItemReader {
                             }
                         }
 
-                    } while (searchContext.getLastPageNumber() >= compartmentPageNum);
+                    } while (isMoreToRead);
                     compartmentPageNum = 1;
                 }
 
@@ -312,10 +325,17 @@ public class ChunkReader extends AbstractItemReader {
             queryParameters.put(Constants.FHIR_SEARCH_LASTUPDATED, searchCreterial);
         }
 
-        queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+        // Keyset paging already orders the results by _lastUpdated and doesn't get slower with every page read.
+        boolean isKeysetPaging = fhirPersistence.isKeysetPagingSupported();
+        if (!isKeysetPaging) {
+            queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+        }
         searchContext = SearchUtil.parseQueryParameters(Patient.class, queryParameters);
         searchContext.setPageSize(pageSize);
         searchContext.setPageNumber(pageNum);
+        if (isKeysetPaging) {
+            searchContext.setKeysetCursor(cursor);
+        }
         List<Resource> resources = null;
         FHIRTransactionHelper txn = new FHIRTransactionHelper(fhirPersistence.getTransaction());
         txn.begin();
@@ -328,6 +348,15 @@ public class ChunkReader extends AbstractItemReader {
         }
         pageNum++;
 
+        int lastPageNum;
+        if (isKeysetPaging) {
+            // No total count with keyset paging, so a partial page marks the last page.
+            cursor = searchContext.getKeysetCursor();
+            lastPageNum = resources == null || resources.size() < pageSize ? pageNum - 1 : pageNum;
+        } else {
+            lastPageNum = searchContext.getLastPageNumber();
+        }
+
         if (chunkData == null) {
             chunkData = (TransientUserData)TransientUserData.Builder.builder()
                     .pageNum(pageNum)
@@ -340,14 +369,17 @@ public class ChunkReader extends AbstractItemReader {
                     .currentUploadResourceNum(0)
                     .currentUploadSize(0)
                     .uploadCount(1)
-                    .lastPageNum(searchContext.getLastPageNumber())
+                    .lastPageNum(lastPageNum)
                     .lastWritePageNum(1)
+                    .cursor(cursor)
+                    .lastWriteCursor(KeysetCursor.START)
                     .build();
 
             stepCtx.setTransientUserData(chunkData);
         } else {
             chunkData.setPageNum(pageNum);
-            chunkData.setLastPageNum(searchContext.getLastPageNumber());
+            chunkData.setLastPageNum(lastPageNum);
+            chunkData.setCursor(cursor);
         }
 
         if (resources != null) {
@@ -371,6 +403,9 @@ public class ChunkReader extends AbstractItemReader {
         if (checkpoint != null) {
             CheckPointUserData checkPointData = (CheckPointUserData) checkpoint;
             pageNum = checkPointData.getLastWritePageNum();
+            if (checkPointData.getLastWriteCursor() != null) {
+                cursor = checkPointData.getLastWriteCursor();
+            }
             stepCtx.setTransientUserData(TransientUserData.fromCheckPointUserData(checkPointData));
         }
 
@@ -42,6 +42,7 @@ import com.ibm.fhir.persistence.context.FHIRPersistenceContextFactory;
 import com.ibm.fhir.persistence.helper.FHIRPersistenceHelper;
 import com.ibm.fhir.persistence.helper.FHIRTransactionHelper;
 import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.KeysetCursor;
 import com.ibm.fhir.search.util.SearchUtil;
 
 /**
@@ -52,6 +53,8 @@ public class ChunkReader extends AbstractItemReader {
     private final static Logger logger = Logger.getLogger(ChunkReader.class.getName());
     boolean isSingleCosObject = false;
     int pageNum = 1;
+    // Position of the last resource read, used instead of pageNum when the persistence layer supports keyset paging.
+    KeysetCursor cursor = KeysetCursor.START;
     // Control the number of records to read in each "item".
     int pageSize = Constants.DEFAULT_SEARCH_PAGE_SIZE;
     // Search parameters for resource types gotten from fhir.typeFilters job parameter.
@@ -184,8 +187,9 @@ public class ChunkReader extends AbstractItemReader {
                 chunkData.setMoreToExport(false);
                 return null;
             } else {
-                // If there is more typeFilter to process for current resource type, then reset pageNum only and move to the next typeFilter.
+                // If there is more typeFilter to process for current resource type, then reset pageNum and cursor only and move to the next typeFilter.
                 pageNum = 1;
+                cursor = KeysetCursor.START;
                 indexOfCurrentTypeFilter++;
             }
         }
@@ -215,10 +219,17 @@ public class ChunkReader extends AbstractItemReader {
             queryParameters.put(Constants.FHIR_SEARCH_LASTUPDATED, searchCriteria);
         }
 
-        queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+        // Keyset paging already orders the results by _lastUpdated and doesn't get slower with every page read.
+        boolean isKeysetPaging = fhirPersistence.isKeysetPagingSupported();
+        if (!isKeysetPaging) {
+            queryParameters.put("_sort", Arrays.asList(new String[] { Constants.FHIR_SEARCH_LASTUPDATED }));
+        }
         searchContext = SearchUtil.parseQueryParameters(resourceType, queryParameters);
         searchContext.setPageSize(pageSize);
         searchContext.setPageNumber(pageNum);
+        if (isKeysetPaging) {
+            searchContext.setKeysetCursor(cursor);
+        }
         List<Resource> resources = null;
         FHIRTransactionHelper txn = new FHIRTransactionHelper(fhirPersistence.getTransaction());
         txn.begin();
@@ -230,6 +241,15 @@ public class ChunkReader extends AbstractItemReader {
         }
         pageNum++;
 
+        int lastPageNum;
+        if (isKeysetPaging) {
+            // No total count with keyset paging, so a partial page marks the last page.
+            cursor = searchContext.getKeysetCursor();
+            lastPageNum = resources == null || resources.size() < pageSize ? pageNum - 1 : pageNum;
+        } else {
+            lastPageNum = searchContext.getLastPageNumber();
+        }
+
         if (chunkData == null) {
             chunkData = (TransientUserData)TransientUserData.Builder.builder()
                     .pageNum(pageNum)
@@ -242,15 +262,18 @@ public class ChunkReader extends AbstractItemReader {
                     .currentUploadResourceNum(0)
                     .currentUploadSize(0)
                     .uploadCount(1)
-                    .lastPageNum(searchContext.getLastPageNumber())
+                    .lastPageNum(lastPageNum)
                     .lastWritePageNum(1)
+                    .cursor(cursor)
+                    .lastWriteCursor(KeysetCursor.START)
                     .build();
 
             stepCtx.setTransientUserData(chunkData);
         } else {
             chunkData.setPageNum(pageNum);
             chunkData.setIndexOfCurrentTypeFilter(indexOfCurrentTypeFilter);
-            chunkData.setLastPageNum(searchContext.getLastPageNumber());
+            chunkData.setLastPageNum(lastPageNum);
+            chunkData.setCursor(cursor);
         }
 
         if (resources != null) {
@@ -270,6 +293,9 @@ public class ChunkReader extends AbstractItemReader {
         if (checkpoint != null) {
             CheckPointUserData checkPointData = (CheckPointUserData) checkpoint;
             pageNum = checkPointData.getLastWritePageNum();
+            if (checkPointData.getLastWriteCursor() != null) {
+                cursor = checkPointData.getLastWriteCursor();
+            }
             indexOfCurrentTypeFilter = checkPointData.getIndexOfCurrentTypeFilter();
             stepCtx.setTransientUserData(TransientUserData.fromCheckPointUserData(checkPointData));
         }
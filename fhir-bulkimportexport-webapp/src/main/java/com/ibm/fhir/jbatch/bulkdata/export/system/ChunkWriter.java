@@ -259,6 +259,7 @@ public class ChunkWriter extends AbstractItemWriter {
                     }
                     pushFhirParquetToCos(resources);
                     chunkData.setLastWritePageNum(chunkData.getPageNum());
+                    chunkData.setLastWriteCursor(chunkData.getCursor());
                 }
                 break;
             case FHIRMediaType.APPLICATION_NDJSON:
@@ -271,6 +272,7 @@ public class ChunkWriter extends AbstractItemWriter {
                     pushFhirJsonsToCos(new ByteArrayInputStream(chunkData.getBufferStream().toByteArray()),
                             chunkData.getBufferStream().size());
                     chunkData.setLastWritePageNum(chunkData.getPageNum());
+                    chunkData.setLastWriteCursor(chunkData.getCursor());
                 }
             }
         } catch (Exception e) {
@@ -25,6 +25,7 @@ import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.jbatch.bulkdata.common.BulkDataUtils;
 import com.ibm.fhir.jbatch.bulkdata.common.Constants;
+import com.ibm.fhir.jbatch.bulkdata.common.PipelineStage;
 import com.ibm.fhir.model.resource.Resource;
 
 /**
@@ -36,6 +37,7 @@ public class ChunkReader extends AbstractItemReader {
     private static final Logger logger = Logger.getLogger(ChunkReader.class.getName());
     private AmazonS3 cosClient = null;
     private int numOfLinesToSkip = 0;
+    private long numOfBytesToSkip = 0;
 
     @Inject
     StepContext stepCtx;
@@ -133,22 +135,23 @@ public class ChunkReader extends AbstractItemReader {
         }
 
         ImportTransientUserData chunkData = (ImportTransientUserData) stepCtx.getTransientUserData();
-        numOfLinesToSkip = chunkData.getNumOfProcessedResources();
+        numOfBytesToSkip = chunkData.getNumOfProcessedBytes();
+        // Checkpoints taken before byte offsets were tracked only have the number of processed lines.
+        numOfLinesToSkip = numOfBytesToSkip > 0 ? 0 : chunkData.getNumOfProcessedResources();
 
         long readStartTimeInMilliSeconds = System.currentTimeMillis();
         int numOfLoaded = 0;
-        int numOfParseFailures = 0;
         switch (BulkImportDataSourceStorageType.from(dataSourceStorageType)) {
         case HTTPS:
-            numOfParseFailures = BulkDataUtils.readFhirResourceFromHttps(importPartitionWorkitem, numOfLinesToSkip, loadedFhirResources, chunkData);
+            BulkDataUtils.readFhirResourceFromHttps(importPartitionWorkitem, numOfBytesToSkip, numOfLinesToSkip, loadedFhirResources, chunkData);
             break;
         case FILE:
-            numOfParseFailures = BulkDataUtils.readFhirResourceFromLocalFile(importPartitionWorkitem, numOfLinesToSkip, loadedFhirResources, chunkData);
+            BulkDataUtils.readFhirResourceFromLocalFile(importPartitionWorkitem, numOfBytesToSkip, numOfLinesToSkip, loadedFhirResources, chunkData);
             break;
         case AWSS3:
         case IBMCOS:
-            numOfParseFailures = BulkDataUtils.readFhirResourceFromObjectStore(cosClient, cosBucketName, importPartitionWorkitem,
-                    numOfLinesToSkip, loadedFhirResources, chunkData);
+            BulkDataUtils.readFhirResourceFromObjectStore(cosClient, cosBucketName, importPartitionWorkitem,
+                    numOfBytesToSkip, numOfLinesToSkip, loadedFhirResources, chunkData);
             break;
         default:
             logger.warning("readItem: Data source storage type not found!");
@@ -156,7 +159,6 @@ public class ChunkReader extends AbstractItemReader {
         }
 
         chunkData.setTotalReadMilliSeconds(chunkData.getTotalReadMilliSeconds() + (System.currentTimeMillis() - readStartTimeInMilliSeconds));
-        chunkData.setNumOfParseFailures(chunkData.getNumOfParseFailures() + numOfParseFailures);
         numOfLoaded = loadedFhirResources.size();
         if (logger.isLoggable(Level.FINE)) {
             logger.fine("readItem: loaded " + numOfLoaded + " " + importPartitionResourceType + " from " + importPartitionWorkitem);
@@ -202,6 +204,7 @@ public class ChunkReader extends AbstractItemReader {
             ImportCheckPointData checkPointData = (ImportCheckPointData) checkpoint;
             importPartitionWorkitem = checkPointData.getImportPartitionWorkitem();
             numOfLinesToSkip = checkPointData.getNumOfProcessedResources();
+            numOfBytesToSkip = checkPointData.getNumOfProcessedBytes();
             checkPointData.setInFlyRateBeginMilliSeconds(System.currentTimeMillis());
             stepCtx.setTransientUserData(ImportTransientUserData.fromImportCheckPointData(checkPointData));
         } else {
@@ -237,7 +240,10 @@ public class ChunkReader extends AbstractItemReader {
             stepCtx.setTransientUserData(chunkData);
         }
 
-
+        int parseThreads = FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_BULKDATA_IMPORT_PARSE_THREADS,
+                Constants.DEFAULT_IMPORT_PARSE_THREADS);
+        ((ImportTransientUserData) stepCtx.getTransientUserData())
+                .setParseStage(BulkDataUtils.createParseStage(PipelineStage.lookupManagedExecutor(), parseThreads));
     }
 
     @Override
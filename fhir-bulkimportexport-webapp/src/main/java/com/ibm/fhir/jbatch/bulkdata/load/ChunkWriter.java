@@ -8,9 +8,9 @@ package com.ibm.fhir.jbatch.bulkdata.load;
 
 import java.io.ByteArrayInputStream;
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,6 +27,7 @@ import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.jbatch.bulkdata.common.BulkDataUtils;
 import com.ibm.fhir.jbatch.bulkdata.common.Constants;
+import com.ibm.fhir.jbatch.bulkdata.common.PipelineStage;
 import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.generator.FHIRGenerator;
 import com.ibm.fhir.model.resource.OperationOutcome;
@@ -48,6 +49,10 @@ public class ChunkWriter extends AbstractItemWriter {
     private static final Logger logger = Logger.getLogger(ChunkWriter.class.getName());
     AmazonS3 cosClient = null;
     boolean isValidationOn = false;
+    // Validates resources on worker threads, returns the validation failure or null if the resource is valid.
+    PipelineStage<Resource, Exception> validationStage = null;
+    // Time spent on validation by the workers of the validation stage since the last chunk was written.
+    final AtomicLong validationMilliSeconds = new AtomicLong();
 
     @Inject
     StepContext stepCtx;
@@ -131,8 +136,6 @@ public class ChunkWriter extends AbstractItemWriter {
     // This is for the warning triggered by IMPORT_IS_COLLECT_OPERATIONOUTCOMES which controls if upload OperationOutcomes to COS/S3.
     @Override
     public void writeItems(List<java.lang.Object> arg0) throws Exception {
-        Set<String> failValidationIds = new HashSet<>();
-
         FHIRPersistenceHelper fhirPersistenceHelper = new FHIRPersistenceHelper();
         FHIRPersistence fhirPersistence = fhirPersistenceHelper.getFHIRPersistenceImplementation();
         FHIRPersistenceContext persistenceContext = FHIRPersistenceContextFactory.createPersistenceContext(null);
@@ -141,31 +144,13 @@ public class ChunkWriter extends AbstractItemWriter {
         int processedNum = 0, succeededNum =0, failedNum = 0;
         ImportTransientUserData chunkData = (ImportTransientUserData) stepCtx.getTransientUserData();
 
-        // Validate the resources first if required.
-        if (isValidationOn) {
-            long validationStartTimeInMilliSeconds = System.currentTimeMillis();
-            for (Object objResJsonList : arg0) {
-                @SuppressWarnings("unchecked")
-                List<Resource> fhirResourceList = (List<Resource>) objResJsonList;
-
-                for (Resource fhirResource : fhirResourceList) {
-                    try {
-                        BulkDataUtils.validateInput(fhirResource);
-                    } catch (FHIRValidationException|FHIROperationException e) {
-                        logger.warning("Failed to validate '" + fhirResource.getId() + "' due to error: " + e.getMessage());
-                        failedNum++;
-                        failValidationIds.add(fhirResource.getId());
-                        if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES) {
-                            OperationOutcome operationOutCome = FHIRUtil.buildOperationOutcome(e, false);
-                            FHIRGenerator.generator(Format.JSON).generate(operationOutCome, chunkData.getBufferStreamForImportError());
-                            chunkData.getBufferStreamForImportError().write(Constants.NDJSON_LINESEPERATOR);
-                        }
-                    }
-                }
-            }
-            chunkData.setTotalValidationMilliSeconds(chunkData.getTotalValidationMilliSeconds()
-                    + (System.currentTimeMillis() - validationStartTimeInMilliSeconds));
+        List<Resource> fhirResources = new ArrayList<>();
+        for (Object objResJsonList : arg0) {
+            @SuppressWarnings("unchecked")
+            List<Resource> fhirResourceList = (List<Resource>) objResJsonList;
+            fhirResources.addAll(fhirResourceList);
         }
+        int numOfSubmittedForValidation = 0;
 
         // Begin writing the resources into DB.
         long writeStartTimeInMilliSeconds = System.currentTimeMillis();
@@ -174,52 +159,75 @@ public class ChunkWriter extends AbstractItemWriter {
         // framework at this time point.
         txn.begin();
         try {
-            for (Object objResJsonList : arg0) {
-                @SuppressWarnings("unchecked")
-                List<Resource> fhirResourceList = (List<Resource>) objResJsonList;
-
-                for (Resource fhirResource : fhirResourceList) {
-                    try {
-                        String id = fhirResource.getId();
-                        processedNum++;
+            for (Resource fhirResource : fhirResources) {
+                try {
+                    String id = fhirResource.getId();
+                    processedNum++;
+
+                    // Validate the resources first if required. The validation stage is kept full so that the
+                    // following resources are validated by the worker threads while this one is persisted.
+                    if (isValidationOn) {
+                        while (numOfSubmittedForValidation < fhirResources.size() && !validationStage.isFull()) {
+                            validationStage.submit(fhirResources.get(numOfSubmittedForValidation++));
+                        }
+                        Exception validationFailure = validationStage.take();
                         // Skip the resources which failed the validation
-                        if (failValidationIds.contains(id)) {
+                        if (validationFailure != null) {
+                            logger.warning("Failed to validate '" + id + "' due to error: " + validationFailure.getMessage());
+                            failedNum++;
+                            if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES) {
+                                OperationOutcome operationOutCome = FHIRUtil.buildOperationOutcome(validationFailure, false);
+                                FHIRGenerator.generator(Format.JSON).generate(operationOutCome, chunkData.getBufferStreamForImportError());
+                                chunkData.getBufferStreamForImportError().write(Constants.NDJSON_LINESEPERATOR);
+                            }
                             continue;
                         }
-                        OperationOutcome operationOutcome;
-                        if (id == null) {
-                            operationOutcome =
-                                    fhirPersistence.create(persistenceContext, fhirResource).getOutcome();
-                        } else {
-                            operationOutcome =
-                                    fhirPersistence.update(persistenceContext, id, fhirResource).getOutcome();
-                        }
+                    }
 
-                        succeededNum++;
-                        if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES && operationOutcome != null) {
-                            FHIRGenerator.generator(Format.JSON).generate(operationOutcome, chunkData.getBufferStreamForImport());
-                            chunkData.getBufferStreamForImport().write(Constants.NDJSON_LINESEPERATOR);
-                        }
-                    } catch (FHIROperationException e) {
-                        logger.warning("Failed to import '" + fhirResource.getId() + "' due to error: " + e.getMessage());
-                        failedNum++;
-                        if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES) {
-                            OperationOutcome operationOutCome = FHIRUtil.buildOperationOutcome(e, false);
-                            FHIRGenerator.generator(Format.JSON).generate(operationOutCome, chunkData.getBufferStreamForImportError());
-                            chunkData.getBufferStreamForImportError().write(Constants.NDJSON_LINESEPERATOR);
-                        }
+                    OperationOutcome operationOutcome;
+                    if (id == null) {
+                        operationOutcome =
+                                fhirPersistence.create(persistenceContext, fhirResource).getOutcome();
+                    } else {
+                        operationOutcome =
+                                fhirPersistence.update(persistenceContext, id, fhirResource).getOutcome();
+                    }
+
+                    succeededNum++;
+                    if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES && operationOutcome != null) {
+                        FHIRGenerator.generator(Format.JSON).generate(operationOutcome, chunkData.getBufferStreamForImport());
+                        chunkData.getBufferStreamForImport().write(Constants.NDJSON_LINESEPERATOR);
+                    }
+                } catch (FHIROperationException e) {
+                    logger.warning("Failed to import '" + fhirResource.getId() + "' due to error: " + e.getMessage());
+                    failedNum++;
+                    if (Constants.IMPORT_IS_COLLECT_OPERATIONOUTCOMES) {
+                        OperationOutcome operationOutCome = FHIRUtil.buildOperationOutcome(e, false);
+                        FHIRGenerator.generator(Format.JSON).generate(operationOutCome, chunkData.getBufferStreamForImportError());
+                        chunkData.getBufferStreamForImportError().write(Constants.NDJSON_LINESEPERATOR);
                     }
                 }
             }
         } finally {
+            if (isValidationOn) {
+                // Don't leave validation tasks behind if persisting failed part way through.
+                validationStage.drain();
+            }
             // Release the DB connection.
             // This doesn't really commit the transaction, because the transaction was started and will be committed
             // by the JavaBatch framework.
             txn.end();
         }
 
+        if (isValidationOn) {
+            chunkData.setTotalValidationMilliSeconds(chunkData.getTotalValidationMilliSeconds()
+                    + validationMilliSeconds.getAndSet(0));
+        }
         chunkData.setTotalWriteMilliSeconds(chunkData.getTotalWriteMilliSeconds() + (System.currentTimeMillis() - writeStartTimeInMilliSeconds));
         chunkData.setNumOfProcessedResources(chunkData.getNumOfProcessedResources() + processedNum + chunkData.getNumOfParseFailures());
+        if (chunkData.getBufferReader() != null) {
+            chunkData.setNumOfProcessedBytes(chunkData.getBufferReader().getOffset());
+        }
         chunkData.setNumOfImportedResources(chunkData.getNumOfImportedResources() + succeededNum);
         chunkData.setNumOfImportFailures(chunkData.getNumOfImportFailures() + failedNum + chunkData.getNumOfParseFailures());
         // Reset NumOfParseFailures for next batch.
@@ -289,6 +297,21 @@ public class ChunkWriter extends AbstractItemWriter {
         }
 
         FHIRRequestContext.set(new FHIRRequestContext(fhirTenant, fhirDatastoreId));
+        if (isValidationOn) {
+            int validationThreads = FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_BULKDATA_IMPORT_VALIDATION_THREADS,
+                    Constants.DEFAULT_IMPORT_VALIDATION_THREADS);
+            validationStage = new PipelineStage<>(PipelineStage.lookupManagedExecutor(), validationThreads, resource -> {
+                long validationStartTimeInMilliSeconds = System.currentTimeMillis();
+                try {
+                    BulkDataUtils.validateInput(resource);
+                    return null;
+                } catch (FHIRValidationException|FHIROperationException e) {
+                    return e;
+                } finally {
+                    validationMilliSeconds.addAndGet(System.currentTimeMillis() - validationStartTimeInMilliSeconds);
+                }
+            });
+        }
         boolean isCosClientUseFhirServerTrustStore = FHIRConfigHelper
             .getBooleanProperty(FHIRConfiguration.PROPERTY_BULKDATA_BATCHJOB_USEFHIRSERVERTRUSTSTORE, false);
         cosClient =
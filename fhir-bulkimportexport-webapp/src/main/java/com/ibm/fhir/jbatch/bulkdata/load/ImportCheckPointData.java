@@ -21,6 +21,8 @@ public class ImportCheckPointData implements Serializable {
 
     // Values for metrics calculation.
     protected int numOfProcessedResources = 0;
+    // Offset of the byte after the last processed line, used to seek directly to the next line when the import continues.
+    protected long numOfProcessedBytes = 0;
     protected int numOfImportedResources = 0;
     protected int numOfImportFailures = 0;
     protected long totalReadMilliSeconds = 0;
@@ -63,6 +65,7 @@ public class ImportCheckPointData implements Serializable {
     public static class Builder {
         protected String importPartitionWorkitem;
         protected int numOfProcessedResources;
+        protected long numOfProcessedBytes;
         protected String importPartitionResourceType;
         protected int numOfImportedResources;
         protected int numOfImportFailures;
@@ -98,6 +101,11 @@ public class ImportCheckPointData implements Serializable {
             return this;
         }
 
+        public Builder numOfProcessedBytes(long numOfProcessedBytes) {
+            this.numOfProcessedBytes = numOfProcessedBytes;
+            return this;
+        }
+
         public Builder importPartitionResourceType(String importPartitionResourceType) {
             this.importPartitionResourceType = importPartitionResourceType;
             return this;
@@ -182,6 +190,7 @@ public class ImportCheckPointData implements Serializable {
             ImportCheckPointData importCheckPointData = new ImportCheckPointData();
             importCheckPointData.importPartitionWorkitem = this.importPartitionWorkitem;
             importCheckPointData.numOfProcessedResources = this.numOfProcessedResources;
+            importCheckPointData.numOfProcessedBytes = this.numOfProcessedBytes;
             importCheckPointData.importPartitionResourceType = this.importPartitionResourceType;
             importCheckPointData.numOfImportedResources = this.numOfImportedResources;
             importCheckPointData.numOfImportFailures = this.numOfImportFailures;
@@ -216,6 +225,14 @@ public class ImportCheckPointData implements Serializable {
         this.numOfProcessedResources = numOfProcessedResources;
     }
 
+    public long getNumOfProcessedBytes() {
+        return numOfProcessedBytes;
+    }
+
+    public void setNumOfProcessedBytes(long numOfProcessedBytes) {
+        this.numOfProcessedBytes = numOfProcessedBytes;
+    }
+
     public int getNumOfImportedResources() {
         return numOfImportedResources;
     }
@@ -248,6 +265,7 @@ public class ImportCheckPointData implements Serializable {
         return ImportCheckPointData.Builder.builder()
                 .importPartitionWorkitem(userData.getImportPartitionWorkitem())
                 .numOfProcessedResources(userData.getNumOfProcessedResources())
+                .numOfProcessedBytes(userData.getNumOfProcessedBytes())
                 .importPartitionResourceType(userData.getImportPartitionResourceType())
                 .numOfImportedResources(userData.getNumOfImportedResources())
                 .numOfImportFailures(userData.getNumOfImportFailures())
@@ -366,6 +384,7 @@ public class ImportCheckPointData implements Serializable {
     @Override
     public String toString() {
         return "ImportCheckPointData [importPartitionWorkitem=" + importPartitionWorkitem + ", numOfProcessedResources=" + numOfProcessedResources
+                + ", numOfProcessedBytes=" + numOfProcessedBytes
                 + ", numOfImportedResources=" + numOfImportedResources + ", numOfImportFailures=" + numOfImportFailures + ", totalReadMilliSeconds="
                 + totalReadMilliSeconds + ", totalWriteMilliSeconds=" + totalWriteMilliSeconds + ", totalValidationMilliSeconds=" + totalValidationMilliSeconds
                 + ", importFileSize=" + importFileSize + ", inFlyRateBeginMilliSeconds=" + inFlyRateBeginMilliSeconds + ", numOfToBeImported="
@@ -6,10 +6,13 @@
 
 package com.ibm.fhir.jbatch.bulkdata.load;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 
+import com.ibm.fhir.jbatch.bulkdata.common.ByteOffsetLineReader;
+import com.ibm.fhir.jbatch.bulkdata.common.PipelineStage;
+import com.ibm.fhir.model.resource.Resource;
+
 public class ImportTransientUserData extends ImportCheckPointData {
     private static final long serialVersionUID = -2642411992044844735L;
     // Used for import OperationOutcomes, Bulk data import API defines optional links to the OperationOutcomes for each import data source,
@@ -18,7 +21,8 @@ public class ImportTransientUserData extends ImportCheckPointData {
     private ByteArrayOutputStream bufferStreamForImport = new ByteArrayOutputStream();
 
     private InputStream inputStream = null;
-    private BufferedReader bufferReader = null;
+    private ByteOffsetLineReader bufferReader = null;
+    private PipelineStage<String, Resource> parseStage = null;
 
     protected ImportTransientUserData() {
         super();
@@ -36,6 +40,7 @@ public class ImportTransientUserData extends ImportCheckPointData {
         return (ImportTransientUserData)ImportTransientUserData.Builder.builder()
                 .importPartitionWorkitem(importCheckPointData.importPartitionWorkitem)
                 .numOfProcessedResources(importCheckPointData.numOfProcessedResources)
+                .numOfProcessedBytes(importCheckPointData.numOfProcessedBytes)
                 .importPartitionResourceType(importCheckPointData.importPartitionResourceType)
                 .numOfImportedResources(importCheckPointData.numOfImportedResources)
                 .numOfImportFailures(importCheckPointData.numOfImportFailures)
@@ -66,6 +71,7 @@ public class ImportTransientUserData extends ImportCheckPointData {
             ImportTransientUserData importTransientUserData = new ImportTransientUserData();
             importTransientUserData.importPartitionWorkitem = this.importPartitionWorkitem;
             importTransientUserData.numOfProcessedResources = this.numOfProcessedResources;
+            importTransientUserData.numOfProcessedBytes = this.numOfProcessedBytes;
             importTransientUserData.importPartitionResourceType = this.importPartitionResourceType;
             importTransientUserData.numOfImportedResources = this.numOfImportedResources;
             importTransientUserData.numOfImportFailures = this.numOfImportFailures;
@@ -95,12 +101,20 @@ public class ImportTransientUserData extends ImportCheckPointData {
         this.inputStream = inputStream;
     }
 
-    public BufferedReader getBufferReader() {
+    public ByteOffsetLineReader getBufferReader() {
         return bufferReader;
     }
 
-    public void setBufferReader(BufferedReader bufferReader) {
+    public void setBufferReader(ByteOffsetLineReader bufferReader) {
         this.bufferReader = bufferReader;
     }
 
+    public PipelineStage<String, Resource> getParseStage() {
+        return parseStage;
+    }
+
+    public void setParseStage(PipelineStage<String, Resource> parseStage) {
+        this.parseStage = parseStage;
+    }
+
 }
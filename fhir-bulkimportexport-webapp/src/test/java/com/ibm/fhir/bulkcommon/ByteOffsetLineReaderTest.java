@@ -0,0 +1,63 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.bulkcommon;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.jbatch.bulkdata.common.BulkDataUtils;
+import com.ibm.fhir.jbatch.bulkdata.common.ByteOffsetLineReader;
+import com.ibm.fhir.jbatch.bulkdata.load.ImportTransientUserData;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+
+public class ByteOffsetLineReaderTest {
+    @Test
+    public void testReadLineOffsets() throws Exception {
+        byte[] data = "{\"a\":1}\r\n\n{\"b\":\"é\"}\nlast".getBytes(StandardCharsets.UTF_8);
+        try (ByteOffsetLineReader reader = new ByteOffsetLineReader(new ByteArrayInputStream(data), 0)) {
+            assertEquals("{\"a\":1}", reader.readLine());
+            assertEquals(9, reader.getOffset());
+            assertEquals("", reader.readLine());
+            assertEquals(10, reader.getOffset());
+            assertEquals("{\"b\":\"é\"}", reader.readLine());
+            // the two byte UTF-8 encoding of the accented character is counted in bytes, not chars
+            assertEquals(21, reader.getOffset());
+            assertEquals("last", reader.readLine());
+            assertEquals(data.length, reader.getOffset());
+            assertNull(reader.readLine());
+            assertEquals(data.length, reader.getOffset());
+        }
+    }
+
+    @Test
+    public void testResumeLocalFileFromOffset() throws Exception {
+        File file = File.createTempFile("ByteOffsetLineReaderTest", ".ndjson");
+        file.deleteOnExit();
+        String line1 = "{\"resourceType\":\"Patient\",\"id\":\"1\"}\n";
+        String line2 = "{\"resourceType\":\"Patient\",\"id\":\"2\"}\n";
+        Files.write(file.toPath(), (line1 + line2).getBytes(StandardCharsets.UTF_8));
+
+        ImportTransientUserData userData = (ImportTransientUserData) ImportTransientUserData.Builder.builder().build();
+        List<Resource> resources = new ArrayList<>();
+        int parseFailures = BulkDataUtils.readFhirResourceFromLocalFile(file.getPath(), line1.length(), 0, resources, userData);
+        BulkDataUtils.cleanupTransientUserData(userData, false);
+
+        assertEquals(0, parseFailures);
+        assertEquals(1, resources.size());
+        assertEquals("2", ((Patient) resources.get(0)).getId());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.bulkcommon;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.jbatch.bulkdata.common.BulkDataUtils;
+import com.ibm.fhir.jbatch.bulkdata.load.ImportTransientUserData;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * Tests that a read which fails part way through a batch resumes right after the last line which was read, without
+ * losing the lines that were still being parsed when the read failed.
+ */
+public class ImportReadRetryTest {
+    private static final int NUM_OF_LINES = 10;
+    private static final int NUM_OF_LINES_BEFORE_FAILURE = 5;
+    private static final int INVALID_LINE = 4;
+
+    @Test
+    public void testResumeAfterReadFailure() throws Exception {
+        StringBuilder data = new StringBuilder();
+        int failureOffset = 0;
+        for (int i = 1; i <= NUM_OF_LINES; i++) {
+            data.append(i == INVALID_LINE ? "{\"resourceType\":\"Patient\",\"invalid\":true}" : "{\"resourceType\":\"Patient\",\"id\":\"" + i + "\"}").append('\n');
+            if (i == NUM_OF_LINES_BEFORE_FAILURE) {
+                failureOffset = data.length();
+            }
+        }
+        byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+        int chunkLength = failureOffset;
+        List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+
+        try (ServerSocket serverSocket = new ServerSocket(0, 2, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> serve(serverSocket, bytes, chunkLength, ranges));
+            server.setDaemon(true);
+            server.start();
+
+            // Parse up to 4 lines at a time, so that several lines are in flight when the first response is cut off.
+            ImportTransientUserData userData = (ImportTransientUserData) ImportTransientUserData.Builder.builder().build();
+            userData.setParseStage(BulkDataUtils.createParseStage(null, 4));
+            List<Resource> resources = new ArrayList<>();
+            String dataUrl = "http://localhost:" + serverSocket.getLocalPort() + "/import.ndjson";
+            int parseFailures = BulkDataUtils.readFhirResourceFromHttps(dataUrl, 0, 0, resources, userData);
+            long offset = userData.getBufferReader().getOffset();
+            BulkDataUtils.cleanupTransientUserData(userData, false);
+            server.join(10000);
+
+            assertEquals(2, ranges.size());
+            assertEquals("bytes=" + failureOffset + "-", ranges.get(1));
+            assertEquals(1, parseFailures);
+            assertEquals(1, userData.getNumOfParseFailures());
+            assertEquals(NUM_OF_LINES - 1, resources.size());
+            int i = 1;
+            for (Resource resource : resources) {
+                if (i == INVALID_LINE) {
+                    i++;
+                }
+                assertEquals(Integer.toString(i++), resource.getId());
+            }
+            assertEquals(bytes.length, offset);
+        }
+    }
+
+    /**
+     * Serves two requests: the first one is cut off after the first chunkLength bytes, and the second one is served
+     * from the offset in its Range header.
+     */
+    private void serve(ServerSocket serverSocket, byte[] bytes, int chunkLength, List<String> ranges) {
+        for (int request = 0; request < 2; request++) {
+            try (Socket socket = serverSocket.accept()) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                String range = "";
+                String header;
+                while ((header = in.readLine()) != null && !header.isEmpty()) {
+                    if (header.toLowerCase().startsWith("range:")) {
+                        range = header.substring("range:".length()).trim();
+                    }
+                }
+                ranges.add(range);
+
+                OutputStream out = socket.getOutputStream();
+                if (request == 0) {
+                    // A chunked response which ends without its last chunk, so the client fails with a premature EOF.
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/fhir+ndjson\r\nTransfer-Encoding: chunked\r\n\r\n"
+                            + Integer.toHexString(chunkLength) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(bytes, 0, chunkLength);
+                    out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+                } else {
+                    int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    out.write(("HTTP/1.1 206 Partial Content\r\nContent-Type: application/fhir+ndjson\r\nContent-Length: "
+                            + (bytes.length - start) + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(bytes, start, bytes.length - start);
+                }
+                out.flush();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
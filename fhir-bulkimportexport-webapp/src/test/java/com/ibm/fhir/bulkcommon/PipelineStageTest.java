@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.bulkcommon;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+import static org.testng.AssertJUnit.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.jbatch.bulkdata.common.PipelineStage;
+
+public class PipelineStageTest {
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSubmissionOrder() throws Exception {
+        PipelineStage<Integer, Integer> stage = new PipelineStage<>(executor, 4, input -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+            return input * 2;
+        });
+
+        int next = 0;
+        for (int i = 0; i < 50; i++) {
+            if (stage.isFull()) {
+                assertEquals(next++ * 2, stage.take().intValue());
+            }
+            stage.submit(i);
+        }
+        while (!stage.isEmpty()) {
+            assertEquals(next++ * 2, stage.take().intValue());
+        }
+        assertEquals(50, next);
+    }
+
+    @Test
+    public void testFull() throws Exception {
+        PipelineStage<Integer, Integer> stage = new PipelineStage<>(executor, 2, input -> input);
+        assertTrue(stage.isEmpty());
+        stage.submit(1);
+        assertFalse(stage.isFull());
+        stage.submit(2);
+        assertTrue(stage.isFull());
+        assertEquals(2, stage.size());
+        try {
+            stage.submit(3);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, stage.take().intValue());
+        assertFalse(stage.isFull());
+    }
+
+    @Test
+    public void testSingleWorkerRunsOnSubmittingThread() throws Exception {
+        Thread submitThread = Thread.currentThread();
+        PipelineStage<Integer, Thread> stage = new PipelineStage<>(executor, 1, input -> Thread.currentThread());
+        stage.submit(1);
+        assertEquals(submitThread, stage.take());
+    }
+
+    @Test
+    public void testException() throws Exception {
+        PipelineStage<Integer, Integer> stage = new PipelineStage<>(executor, 4, input -> {
+            if (input == 1) {
+                throw new IllegalArgumentException("input " + input);
+            }
+            return input;
+        });
+        for (int i = 0; i < 3; i++) {
+            stage.submit(i);
+        }
+
+        // The exception of an input is thrown when its output is taken, and doesn't affect the other inputs
+        assertEquals(0, stage.take().intValue());
+        try {
+            stage.take();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("input 1", e.getMessage());
+        }
+        assertEquals(2, stage.take().intValue());
+    }
+
+    @Test
+    public void testDrain() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        PipelineStage<Integer, Integer> stage = new PipelineStage<>(executor, 4, input -> {
+            Thread.sleep(5);
+            processed.incrementAndGet();
+            if (input == 2) {
+                throw new IllegalStateException();
+            }
+            return input;
+        });
+        for (int i = 0; i < 4; i++) {
+            stage.submit(i);
+        }
+
+        // Waits for every input, and ignores their failures
+        stage.drain();
+        assertTrue(stage.isEmpty());
+        assertEquals(4, processed.get());
+    }
+
+    @Test
+    public void testRequestContext() throws Exception {
+        FHIRRequestContext.set(new FHIRRequestContext("tenant1"));
+        try {
+            PipelineStage<Integer, String> stage = new PipelineStage<>(executor, 4,
+                input -> FHIRRequestContext.get().getTenantId());
+            for (int i = 0; i < 4; i++) {
+                stage.submit(i);
+            }
+            while (!stage.isEmpty()) {
+                assertEquals("tenant1", stage.take());
+            }
+        } finally {
+            FHIRRequestContext.remove();
+        }
+    }
+}
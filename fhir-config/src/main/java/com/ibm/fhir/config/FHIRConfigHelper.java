@@ -7,11 +7,17 @@
 package com.ibm.fhir.config;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.json.JsonArray;
+import javax.json.JsonObject;
 import javax.json.JsonValue;
 
+import com.ibm.fhir.core.util.LRUCache;
+
 /**
  * This class contains a set of static helper methods related to configuration parameters.
  * The functions in this class will try to first retrieve a config property from the current
@@ -20,6 +26,28 @@ import javax.json.JsonValue;
 public class FHIRConfigHelper {
     private static final Logger log = Logger.getLogger(FHIRConfigHelper.class.getName());
 
+    // Marks the properties which are in neither config
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * The properties of a tenant which were resolved from the given versions of its config and the "default" config.
+     */
+    private static class ResolvedProperties {
+        private final JsonObject tenantConfig;
+        private final JsonObject defaultConfig;
+        private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+
+        private ResolvedProperties(JsonObject tenantConfig, JsonObject defaultConfig) {
+            this.tenantConfig = tenantConfig;
+            this.defaultConfig = defaultConfig;
+        }
+    }
+
+    private static final int MAX_TENANTS = 1000;
+
+    // The resolved properties of each tenant with a config, which are replaced when either config is reloaded
+    private static final Map<String, ResolvedProperties> resolvedProperties = LRUCache.createLRUCache(MAX_TENANTS);
+
     public static String getStringProperty(String propertyName, String defaultValue) {
         return getTypedProperty(String.class, propertyName, defaultValue);
     }
@@ -93,6 +121,57 @@ public class FHIRConfigHelper {
         return result;
     }
 
+    /**
+     * Retrieves the specified property from the current tenant's config or the "default" config, converted by
+     * {@link PropertyGroup#convertJsonValue(JsonValue)}, except for arrays which are returned as a JsonArray.
+     * The values are resolved once for each version of the configs of the tenant.
+     *
+     * @return the value of the property, or null if it wasn't found in either config
+     */
+    private static Object getConvertedPropertyFromTenantOrDefault(String propertyName) throws Exception {
+        String tenantId = FHIRRequestContext.get().getTenantId();
+        JsonObject tenantConfig;
+        JsonObject defaultConfig = null;
+        try {
+            PropertyGroup pg = FHIRConfiguration.getInstance().loadConfigurationForTenant(tenantId);
+            tenantConfig = (pg != null) ? pg.getJsonObj() : null;
+            if (!FHIRConfiguration.DEFAULT_TENANT_ID.equals(tenantId)) {
+                pg = FHIRConfiguration.getInstance().loadConfiguration();
+                defaultConfig = (pg != null) ? pg.getJsonObj() : null;
+            }
+        } catch (Exception e) {
+            // Resolve the property without caching it, which logs the error
+            return resolveProperty(propertyName);
+        }
+        if (tenantConfig == null) {
+            // The tenant id comes from the request, so only the tenants which have a config are cached
+            return resolveProperty(propertyName);
+        }
+
+        ResolvedProperties resolved = resolvedProperties.get(tenantId);
+        if (resolved == null || resolved.tenantConfig != tenantConfig || resolved.defaultConfig != defaultConfig) {
+            resolved = new ResolvedProperties(tenantConfig, defaultConfig);
+            resolvedProperties.put(tenantId, resolved);
+        }
+
+        Object result = resolved.values.get(propertyName);
+        if (result == null) {
+            result = resolveProperty(propertyName);
+            resolved.values.put(propertyName, (result != null) ? result : NOT_FOUND);
+        }
+        return (result != NOT_FOUND) ? result : null;
+    }
+
+    private static Object resolveProperty(String propertyName) throws Exception {
+        JsonValue jsonValue = getPropertyFromTenantOrDefault(propertyName);
+        return (jsonValue != null) ? convert(jsonValue) : null;
+    }
+
+    private static Object convert(JsonValue jsonValue) throws Exception {
+        // Arrays are converted to a new list each time, because the list can be modified
+        return (jsonValue instanceof JsonArray) ? jsonValue : PropertyGroup.convertJsonValue(jsonValue);
+    }
+
     /**
      * This generic function will perform the work of retrieving a property from either the tenant-specific config, or
      * the default config, and then converting the resulting value to the appropriate type.
@@ -107,42 +186,47 @@ public class FHIRConfigHelper {
     private static <T> T getTypedProperty(Class<T> expectedDataType, String propertyName, T defaultValue) {
         T result = null;
 
-        // Find the property as a generic JsonValue from either the current tenant's config or the default config.
-        JsonValue jsonValue = getPropertyFromTenantOrDefault(propertyName);
+        // Find the property from either the current tenant's config or the default config, and convert it to the
+        // appropriate java.lang.* type.
+        Object obj = null;
+        try {
+            obj = getConvertedPropertyFromTenantOrDefault(propertyName);
+            if (obj instanceof JsonArray) {
+                obj = PropertyGroup.convertJsonValue((JsonArray) obj);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unexpected error converting property '" + propertyName + "' to native type.", e);
+        }
 
         // If found, then convert the value to the expected type.
-        if (jsonValue != null) {
-            Object obj = null;
+        if (obj != null) {
             try {
-                obj = PropertyGroup.convertJsonValue(jsonValue);
-                if (obj != null) {
-                    // If the property was of the expected type, then just do the assignment.
-                    // Otherwise, we'll try to do some simple conversions (e.g. String --> Boolean).
-                    if (expectedDataType.isAssignableFrom(obj.getClass())) {
-                        result = (T) obj;
-                    } else {
-                        if (obj instanceof String) {
-                            if (Boolean.class.equals(expectedDataType)) {
-                                result = (T) Boolean.valueOf((String) obj);
-                            } else if (Integer.class.equals(expectedDataType)) {
-                                result = (T) Integer.valueOf((String) obj);
-                            } else if (Double.class.equals(expectedDataType)) {
-                                result = (T) Double.valueOf((String) obj);
-                            } else {
-                                throw new RuntimeException("Expected property " + propertyName + " to be of type " + expectedDataType.getName() + ", but was of type "
-                                        + obj.getClass().getName());
-                            }
-                        } else if (obj instanceof Boolean) {
-                            if (String.class.equals(expectedDataType)) {
-                                result = (T) ((Boolean)obj).toString();
-                            } else {
-                                throw new RuntimeException("Expected property " + propertyName + " to be of type " + expectedDataType.getName() + ", but was of type "
-                                        + obj.getClass().getName());
-                            }
+                // If the property was of the expected type, then just do the assignment.
+                // Otherwise, we'll try to do some simple conversions (e.g. String --> Boolean).
+                if (expectedDataType.isAssignableFrom(obj.getClass())) {
+                    result = (T) obj;
+                } else {
+                    if (obj instanceof String) {
+                        if (Boolean.class.equals(expectedDataType)) {
+                            result = (T) Boolean.valueOf((String) obj);
+                        } else if (Integer.class.equals(expectedDataType)) {
+                            result = (T) Integer.valueOf((String) obj);
+                        } else if (Double.class.equals(expectedDataType)) {
+                            result = (T) Double.valueOf((String) obj);
                         } else {
                             throw new RuntimeException("Expected property " + propertyName + " to be of type " + expectedDataType.getName() + ", but was of type "
                                     + obj.getClass().getName());
                         }
+                    } else if (obj instanceof Boolean) {
+                        if (String.class.equals(expectedDataType)) {
+                            result = (T) ((Boolean)obj).toString();
+                        } else {
+                            throw new RuntimeException("Expected property " + propertyName + " to be of type " + expectedDataType.getName() + ", but was of type "
+                                    + obj.getClass().getName());
+                        }
+                    } else {
+                        throw new RuntimeException("Expected property " + propertyName + " to be of type " + expectedDataType.getName() + ", but was of type "
+                                + obj.getClass().getName());
                     }
                 }
             } catch (Exception e) {
@@ -32,8 +32,16 @@ public class FHIRConfiguration {
     public static final String PROPERTY_ALLOW_CLIENT_HANDLING_PREF = "fhirServer/core/allowClientHandlingPref";
     public static final String PROPERTY_CHECK_REFERENCE_TYPES = "fhirServer/core/checkReferenceTypes";
     public static final String PROPERTY_CONDITIONAL_DELETE_MAX_NUMBER = "fhirServer/core/conditionalDeleteMaxNumber";
+    public static final String PROPERTY_BATCH_PARALLELISM = "fhirServer/core/batchParallelism";
     public static final String PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_ENABLED = "fhirServer/core/serverRegistryResourceProviderEnabled";
+    public static final String PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_NEGATIVE_CACHE_TIMEOUT = "fhirServer/core/serverRegistryResourceProviderNegativeCacheTimeout";
+    public static final String PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_PRELOAD = "fhirServer/core/serverRegistryResourceProviderPreload";
     public static final String PROPERTY_CAPABILITY_STATEMENT_CACHE = "fhirServer/core/capabilityStatementCacheTimeout";
+    public static final String PROPERTY_RAW_JSON_PASSTHROUGH = "fhirServer/core/rawJsonPassthrough";
+    public static final String PROPERTY_STREAMING_SEARCH = "fhirServer/core/streamingSearch";
+    public static final String PROPERTY_CONFIG_WATCH_ENABLED = "fhirServer/core/configWatchEnabled";
+    public static final String PROPERTY_CONFIG_WATCH_FALLBACK_INTERVAL = "fhirServer/core/configWatchFallbackInterval";
+    public static final String PROPERTY_CODE_SET_INDEX_DIRECTORY = "fhirServer/core/codeSetIndexDirectory";
 
     public static final String PROPERTY_SEARCH_PARAMETER_FILTER = "fhirServer/searchParameterFilter";
 
@@ -53,6 +61,9 @@ public class FHIRConfiguration {
 
     // Notification config properties
     public static final String PROPERTY_NOTIFICATION_RESOURCE_TYPES = "fhirServer/notifications/common/includeResourceTypes";
+    public static final String PROPERTY_NOTIFICATION_QUEUE_CAPACITY = "fhirServer/notifications/common/queueCapacity";
+    public static final String PROPERTY_NOTIFICATION_DISPATCH_THREADS = "fhirServer/notifications/common/dispatchThreads";
+    public static final String PROPERTY_NOTIFICATION_COALESCE_WINDOW = "fhirServer/notifications/common/coalesceWindowMillis";
     public static final String PROPERTY_WEBSOCKET_ENABLED = "fhirServer/notifications/websocket/enabled";
     public static final String PROPERTY_KAFKA_ENABLED = "fhirServer/notifications/kafka/enabled";
     public static final String PROPERTY_KAFKA_TOPICNAME = "fhirServer/notifications/kafka/topicName";
@@ -77,9 +88,17 @@ public class FHIRConfiguration {
     public static final String PROPERTY_JDBC_ENABLE_CODE_SYSTEMS_CACHE = "fhirServer/persistence/jdbc/enableCodeSystemsCache";
     public static final String PROPERTY_JDBC_ENABLE_PARAMETER_NAMES_CACHE = "fhirServer/persistence/jdbc/enableParameterNamesCache";
     public static final String PROPERTY_JDBC_ENABLE_RESOURCE_TYPES_CACHE = "fhirServer/persistence/jdbc/enableResourceTypesCache";
+    public static final String PROPERTY_JDBC_ENABLE_RESOURCE_CACHE = "fhirServer/persistence/jdbc/enableResourceCache";
+    public static final String PROPERTY_JDBC_RESOURCE_CACHE_SIZE_MB = "fhirServer/persistence/jdbc/resourceCacheSizeMB";
+    public static final String PROPERTY_JDBC_ENABLE_SEARCH_QUERY_CACHE = "fhirServer/persistence/jdbc/enableSearchQueryCache";
+    public static final String PROPERTY_JDBC_SEARCH_QUERY_CACHE_SIZE = "fhirServer/persistence/jdbc/searchQueryCacheSize";
+    public static final String PROPERTY_JDBC_PAYLOAD_CODEC = "fhirServer/persistence/jdbc/payloadCodec";
+    public static final String PROPERTY_JDBC_ZSTD_DICTIONARY_DIR = "fhirServer/persistence/jdbc/zstdDictionaryDir";
 
     // fhir-search - Bounding area
     public static final String PROPERTY_SEARCH_BOUNDING_AREA_RADIUS_TYPE = "fhirServer/search/useBoundingRadius";
+    // fhir-search - _total value used when the search doesn't specify one
+    public static final String PROPERTY_SEARCH_DEFAULT_TOTAL = "fhirServer/search/defaultTotal";
 
     // bulkdata
     // JavaBatch Job id encryption key
@@ -106,6 +125,8 @@ public class FHIRConfiguration {
     public static final String PROPERTY_BULKDATA_BATCHJOB_COSFILEMAXSIZE = "fhirServer/bulkdata/cosFileMaxSize";
     public static final String PROPERTY_BULKDATA_BATCHJOB_COSFILEMAXRESOURCES = "fhirServer/bulkdata/cosFileMaxResources";
     public static final String PROPERTY_BULKDATA_PATIENTEXPORT_PAGESIZE = "fhirServer/bulkdata/patientExportPageSize";
+    public static final String PROPERTY_BULKDATA_IMPORT_PARSE_THREADS = "fhirServer/bulkdata/importParseThreads";
+    public static final String PROPERTY_BULKDATA_IMPORT_VALIDATION_THREADS = "fhirServer/bulkdata/importValidationThreads";
 
     // Custom header names
     public static final String DEFAULT_TENANT_ID_HEADER_NAME = "X-FHIR-TENANT-ID";
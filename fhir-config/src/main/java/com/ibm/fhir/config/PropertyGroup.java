@@ -8,8 +8,10 @@ package com.ibm.fhir.config;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.json.JsonArray;
 import javax.json.JsonNumber;
@@ -24,6 +26,9 @@ import com.ibm.fhir.core.FHIRUtilities;
  * resulting from loading the configuration, or it could be just a sub-structure within the overall config hierarchy, as
  * a property group can contain other property groups. Internally, there is a JsonObject which holds the actual group of
  * properties and this class provides a high-level API for accessing properties in a hierarchical manner.
+ *
+ * <p>The first lookup flattens the JsonObject into an index of the values of all the hierarchical property names,
+ * so that a lookup doesn't walk the JsonObject. The decoded strings and the nested property groups are also cached.
  * 
  * @author padams
  *
@@ -40,6 +45,12 @@ public class PropertyGroup {
     // This is the JsonObject which holds the property group
     protected JsonObject jsonObj;
 
+    // The value of each hierarchical property name within jsonObj; built on first use
+    private volatile Map<String, JsonValue> index;
+
+    // The decoded string values and the property groups, by hierarchical property name
+    private volatile Map<String, Object> convertedValues = new ConcurrentHashMap<>();
+
     public PropertyGroup(JsonObject jsonObj) {
         this.jsonObj = jsonObj;
     }
@@ -50,6 +61,8 @@ public class PropertyGroup {
     
     protected void setJsonObj(JsonObject jsonObj) {
         this.jsonObj = jsonObj;
+        this.index = null;
+        this.convertedValues = new ConcurrentHashMap<>();
     }
 
     /**
@@ -64,7 +77,12 @@ public class PropertyGroup {
         JsonValue jsonValue = getJsonValue(propertyName);
         if (jsonValue != null) {
             if (jsonValue instanceof JsonObject) {
-                result = new PropertyGroup((JsonObject)jsonValue);
+                Map<String, Object> convertedValues = this.convertedValues;
+                result = (PropertyGroup) convertedValues.get(propertyName);
+                if (result == null) {
+                    result = new PropertyGroup((JsonObject)jsonValue);
+                    convertedValues.put(propertyName, result);
+                }
             } else {
                 throw new IllegalArgumentException("Property '" + propertyName + "' must be of type object (JsonObject)");
             }
@@ -95,7 +113,12 @@ public class PropertyGroup {
         JsonValue jsonValue = getJsonValue(propertyName);
         if (jsonValue != null) {
             if (jsonValue instanceof JsonString) {
-                result = FHIRUtilities.decode(((JsonString) jsonValue).getString());
+                Map<String, Object> convertedValues = this.convertedValues;
+                result = (String) convertedValues.get(propertyName);
+                if (result == null) {
+                    result = FHIRUtilities.decode(((JsonString) jsonValue).getString());
+                    convertedValues.put(propertyName, result);
+                }
             } else {
                 throw new IllegalArgumentException("Property '" + propertyName + "' must be of type String");
             }
@@ -315,15 +338,41 @@ public class PropertyGroup {
      *            the possibly hierarchical property name.
      */
     public JsonValue getJsonValue(String propertyName) {
-        String[] pathElements = getPathElements(propertyName);
-        JsonObject subGroup = getPropertySubGroup(pathElements);
-        JsonValue result = null;
-        if (subGroup != null) {
-            result = subGroup.get(pathElements[pathElements.length - 1]);
+        Map<String, JsonValue> index = this.index;
+        if (index == null) {
+            index = new HashMap<>();
+            if (jsonObj != null) {
+                addToIndex(index, "", jsonObj);
+            }
+            this.index = index;
+        }
+        JsonValue result = index.get(propertyName);
+        if (result == null && propertyName.endsWith(PATH_ELEMENT_SEPARATOR)) {
+            // Like the path elements, ignore the trailing separators
+            return getJsonValue(propertyName.substring(0, propertyName.length() - PATH_ELEMENT_SEPARATOR.length()));
         }
         return result;
     }
 
+    /**
+     * Adds the properties of a JsonObject to the index, recursively.
+     *
+     * @param prefix the hierarchical name of the JsonObject, followed by the separator, or "" for the root
+     */
+    private static void addToIndex(Map<String, JsonValue> index, String prefix, JsonObject jsonObject) {
+        for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            if (entry.getKey().contains(PATH_ELEMENT_SEPARATOR)) {
+                // Can't be referenced by a hierarchical property name
+                continue;
+            }
+            String propertyName = prefix + entry.getKey();
+            index.put(propertyName, entry.getValue());
+            if (entry.getValue() instanceof JsonObject) {
+                addToIndex(index, propertyName + PATH_ELEMENT_SEPARATOR, (JsonObject) entry.getValue());
+            }
+        }
+    }
+
     /**
      * Splits a potentially hierarchical property name into the individual path elements
      * 
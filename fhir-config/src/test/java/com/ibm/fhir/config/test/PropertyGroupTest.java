@@ -292,4 +292,29 @@ public class PropertyGroupTest {
             assertTrue(obj instanceof String);
         }
     }
+
+    @Test
+    public void testIndexedLookups() throws Exception {
+        JsonObject jsonObj = BUILDER_FACTORY.createObjectBuilder()
+                .add("level1", BUILDER_FACTORY.createObjectBuilder()
+                        .add("stringProp", "stringValue")
+                        .add("a/b", "unreachable"))
+                .add("a", BUILDER_FACTORY.createObjectBuilder()
+                        .add("b", "reachable"))
+                .build();
+        PropertyGroup pg = new PropertyGroup(jsonObj);
+
+        assertEquals("stringValue", pg.getStringProperty("level1/stringProp"));
+        assertEquals("stringValue", pg.getStringProperty("level1/stringProp/"));
+        assertEquals("reachable", pg.getStringProperty("a/b"));
+        assertNull(pg.getJsonValue("level1/a/b"));
+        assertNull(pg.getJsonValue("level1/missing"));
+        assertNull(pg.getJsonValue("level1/stringProp/missing"));
+        assertNull(pg.getJsonValue("missing/stringProp"));
+
+        // The nested property groups are cached
+        PropertyGroup level1 = pg.getPropertyGroup("level1");
+        assertTrue(level1 == pg.getPropertyGroup("level1"));
+        assertEquals("stringValue", level1.getStringProperty("stringProp"));
+    }
 }
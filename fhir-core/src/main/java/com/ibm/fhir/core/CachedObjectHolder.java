@@ -18,6 +18,7 @@ public class CachedObjectHolder<T> {
     private String fileName;
     private long lastModified;
     private T cachedObject;
+    private FileChangeWatcher.Watch watch;
 
     public CachedObjectHolder(String fileName, T cachedObject) {
         setFileName(fileName);
@@ -30,6 +31,17 @@ public class CachedObjectHolder<T> {
         setCachedObject(cachedObject);
     }
 
+    /**
+     * Creates a holder whose staleness is detected by a file watch instead of checking the file.
+     *
+     * @param watch the watch of the file, which was started before the object was loaded from it
+     * @param cachedObject the object, or null if the file doesn't exist
+     */
+    public CachedObjectHolder(FileChangeWatcher.Watch watch, T cachedObject) {
+        this.watch = watch;
+        setCachedObject(cachedObject);
+    }
+
     public String getFileName() {
         return fileName;
     }
@@ -54,11 +66,21 @@ public class CachedObjectHolder<T> {
         this.cachedObject = cachedObject;
     }
 
+    /**
+     * @return the watch of the file from which the cached object was derived, or null if the file is not watched
+     */
+    public FileChangeWatcher.Watch getWatch() {
+        return watch;
+    }
+
     /**
      * @return true iff the file from which the cached object was initially derived has been 
      * modified since the object was cached.
      */
     public boolean isStale() {
+        if (watch != null) {
+            return watch.isChanged();
+        }
         if (fileName != null) {
             File f = new File(fileName);
             return !f.exists() || f.lastModified() > getLastModified();
@@ -17,6 +17,10 @@ public class FHIRConstants {
     public static final String FHIR_LOGGING_GROUP = "FHIRServer";
 
     public static final int FHIR_CONDITIONAL_DELETE_MAX_NUMBER_DEFAULT = 10;
+    public static final int FHIR_BATCH_PARALLELISM_DEFAULT = 1;
+    public static final int FHIR_RESOURCE_CACHE_SIZE_MB_DEFAULT = 64;
+    public static final int FHIR_SEARCH_QUERY_CACHE_SIZE_DEFAULT = 1000;
+    public static final int FHIR_CONFIG_WATCH_FALLBACK_INTERVAL_DEFAULT = 60;
 
     public static final String FORMAT = "_format";
 
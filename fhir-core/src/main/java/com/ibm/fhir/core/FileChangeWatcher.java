@@ -0,0 +1,283 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.core;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Detects changes to files with a {@link WatchService} on their directories, so that the users of the files
+ * don't need to check the file system each time they use them.
+ *
+ * <p>Each call to {@link #watch(String)} returns a {@link Watch}, which is marked as changed the first time the file
+ * is created, modified or deleted afterwards. Checking a watch is a volatile read, without any system call or lock.
+ *
+ * <p>Some file systems don't report all the changes (e.g. network file systems, or files replaced through a symbolic
+ * link like Kubernetes ConfigMaps), so the watched files are also compared with their last known state at
+ * a fixed interval.
+ */
+public class FileChangeWatcher {
+    private static final Logger log = Logger.getLogger(FileChangeWatcher.class.getName());
+
+    /**
+     * The change detection of a file, from the time it was watched.
+     */
+    public static class Watch {
+        private final Path file;
+        private final boolean existed;
+        private final long lastModified;
+        private volatile boolean changed;
+
+        private Watch(Path file) {
+            this.file = file;
+            File f = file.toFile();
+            this.existed = f.exists();
+            this.lastModified = f.lastModified();
+        }
+
+        /**
+         * @return true iff the file was created, modified or deleted since it was watched
+         */
+        public boolean isChanged() {
+            return changed;
+        }
+
+        private boolean hasChangedOnDisk() {
+            File f = file.toFile();
+            return f.exists() != existed || f.lastModified() != lastModified;
+        }
+    }
+
+    private final long fallbackIntervalMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    // The pending watches of each file, and the watched directories; guarded by 'this'
+    private final Map<Path, List<Watch>> watches = new HashMap<>();
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+
+    private volatile boolean stopped;
+
+    /**
+     * Creates a watcher and starts its daemon thread.
+     *
+     * @param fallbackIntervalMillis the interval at which the watched files are compared with their last known state
+     */
+    public FileChangeWatcher(long fallbackIntervalMillis) {
+        if (fallbackIntervalMillis <= 0) {
+            throw new IllegalArgumentException("The fallback interval must be positive: " + fallbackIntervalMillis);
+        }
+        this.fallbackIntervalMillis = fallbackIntervalMillis;
+
+        WatchService watchService = null;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            log.log(Level.WARNING, "File system watches are not available; changes to files are only detected every "
+                    + fallbackIntervalMillis + "ms", e);
+        }
+        this.watchService = watchService;
+
+        this.thread = new Thread(this::run, "fhir-file-change-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Starts to watch a file, which doesn't need to exist.
+     *
+     * <p>Call this before reading the file, so that a change made while it is read is detected.
+     *
+     * @param fileName the name of the file
+     * @return the watch, which is marked as changed the first time the file changes afterwards
+     */
+    public Watch watch(String fileName) {
+        Path file = Paths.get(fileName).toAbsolutePath().normalize();
+        Watch watch;
+        synchronized (this) {
+            registerDirectory(file.getParent());
+            // Take the state of the file after its directory is registered, so that no change is missed
+            watch = new Watch(file);
+            watches.computeIfAbsent(file, f -> new ArrayList<>()).add(watch);
+        }
+        return watch;
+    }
+
+    /**
+     * Stops watching a file for a watch which is not needed anymore. The directory of the file isn't watched
+     * anymore once none of its files are watched.
+     */
+    public synchronized void cancel(Watch watch) {
+        List<Watch> fileWatches = watches.get(watch.file);
+        if (fileWatches != null) {
+            fileWatches.remove(watch);
+            if (fileWatches.isEmpty()) {
+                watches.remove(watch.file);
+                Path dir = watch.file.getParent();
+                WatchKey key = directories.get(dir);
+                if (key != null && watches.keySet().stream().noneMatch(file -> dir.equals(file.getParent()))) {
+                    key.cancel();
+                    directories.remove(dir);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the watcher thread. The pending watches are marked as changed, because their changes can't be detected
+     * anymore.
+     */
+    public void stop() {
+        stopped = true;
+        thread.interrupt();
+        synchronized (this) {
+            for (List<Watch> fileWatches : watches.values()) {
+                for (Watch watch : fileWatches) {
+                    watch.changed = true;
+                }
+            }
+            watches.clear();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.log(Level.FINE, "Error closing the watch service", e);
+            }
+        }
+    }
+
+    private void registerDirectory(Path dir) {
+        if (watchService == null || dir == null || directories.containsKey(dir) || !Files.isDirectory(dir)) {
+            // Directories created later are covered by the periodic check
+            return;
+        }
+        try {
+            directories.put(dir, dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Watching directory '" + dir + "'");
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Unable to watch directory '" + dir + "'; changes to its files are only detected every "
+                    + fallbackIntervalMillis + "ms", e);
+        }
+    }
+
+    private void run() {
+        long nextCheck = System.currentTimeMillis() + fallbackIntervalMillis;
+        while (!stopped) {
+            try {
+                long timeout = Math.max(nextCheck - System.currentTimeMillis(), 1);
+                if (watchService != null) {
+                    WatchKey key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        processEvents(key);
+                    }
+                } else {
+                    Thread.sleep(timeout);
+                }
+                if (System.currentTimeMillis() >= nextCheck) {
+                    checkAll();
+                    nextCheck = System.currentTimeMillis() + fallbackIntervalMillis;
+                }
+            } catch (InterruptedException e) {
+                // stop() was called
+            } catch (Throwable t) {
+                // Keep watching; the periodic check detects the changes which were missed
+                if (!stopped) {
+                    log.log(Level.WARNING, "Error while watching for file changes", t);
+                }
+            }
+        }
+    }
+
+    private void processEvents(WatchKey key) {
+        Path dir = (Path) key.watchable();
+        boolean overflow = false;
+        List<Path> changedFiles = new ArrayList<>();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+            } else {
+                changedFiles.add(dir.resolve((Path) event.context()));
+            }
+        }
+        synchronized (this) {
+            if (!key.reset()) {
+                // The directory is gone or no longer watched; its files are covered by the periodic check, or a later watch
+                directories.remove(dir, key);
+            }
+        }
+        if (overflow) {
+            checkAll();
+        }
+        for (Path file : changedFiles) {
+            markChanged(file);
+        }
+    }
+
+    private void markChanged(Path file) {
+        List<Watch> changed;
+        synchronized (this) {
+            changed = watches.remove(file);
+        }
+        if (changed != null) {
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Detected a change to file '" + file + "'");
+            }
+            for (Watch watch : changed) {
+                watch.changed = true;
+            }
+        }
+    }
+
+    /**
+     * Compares each watched file with its state when it was watched.
+     */
+    private void checkAll() {
+        List<Path> files;
+        synchronized (this) {
+            files = new ArrayList<>(watches.keySet());
+        }
+        for (Path file : files) {
+            List<Watch> fileWatches;
+            synchronized (this) {
+                fileWatches = watches.get(file);
+                fileWatches = fileWatches != null ? new ArrayList<>(fileWatches) : null;
+                // Watch the directory of a file if it was created since
+                registerDirectory(file.getParent());
+            }
+            if (fileWatches != null) {
+                for (Watch watch : fileWatches) {
+                    if (watch.hasChangedOnDisk()) {
+                        markChanged(file);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
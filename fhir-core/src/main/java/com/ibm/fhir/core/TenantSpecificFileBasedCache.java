@@ -7,8 +7,10 @@
 package com.ibm.fhir.core;
 
 import java.io.File;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,27 +24,86 @@ import java.util.logging.Logger;
 public abstract class TenantSpecificFileBasedCache<T> {
     private static final Logger log = Logger.getLogger(TenantSpecificFileBasedCache.class.getName());
 
+    // Detects the changes to the files of all the caches, or null if each lookup checks the file
+    private static volatile FileChangeWatcher fileChangeWatcher;
+
+    // The default maximum number of tenants for which the absence of the file is cached
+    public static final int DEFAULT_MAX_ABSENT_ENTRIES = 1000;
+
     private Map<String, CachedObjectHolder<T>> cache;
+
+    // The entries which cache the absence of the file of a tenant, oldest first; guarded by the cache lock.
+    // Any tenant id that a client sends ends up here, so they are bounded and their watches are cancelled on eviction.
+    private final Map<String, CachedObjectHolder<T>> absentEntries = new LinkedHashMap<>();
+    private final int maxAbsentEntries;
     
     // cacheType is used only in trace messages.
     private String cacheType = "<unknown>";
     
     public TenantSpecificFileBasedCache() {
-        cache = new HashMap<String, CachedObjectHolder<T>>();
+        this("<unknown>", DEFAULT_MAX_ABSENT_ENTRIES);
     }
     
     public TenantSpecificFileBasedCache(String cacheType) {
-        this();
+        this(cacheType, DEFAULT_MAX_ABSENT_ENTRIES);
+    }
+
+    /**
+     * @param cacheType the type of the cached objects, used only in trace messages
+     * @param maxAbsentEntries the maximum number of tenants for which the absence of the file is cached while the
+     *     file watch is enabled; the oldest of these entries are dropped first
+     */
+    public TenantSpecificFileBasedCache(String cacheType, int maxAbsentEntries) {
+        cache = new ConcurrentHashMap<String, CachedObjectHolder<T>>();
         this.cacheType = cacheType;
+        this.maxAbsentEntries = maxAbsentEntries;
     }
-    
+
+    /**
+     * Detects the changes to the files of all the caches with a file system watch, instead of checking the file of
+     * an object each time it is retrieved. This also caches the absence of the file of a tenant. The objects which
+     * are already cached are loaded again the next time they are retrieved.
+     *
+     * @param fallbackIntervalMillis the interval at which the files are also checked, for the changes which
+     *     the file system doesn't report
+     */
+    public static synchronized void enableFileWatch(long fallbackIntervalMillis) {
+        disableFileWatch();
+        fileChangeWatcher = new FileChangeWatcher(fallbackIntervalMillis);
+        log.info("Watching the tenant-specific files for changes, with a fallback check every " + fallbackIntervalMillis + "ms");
+    }
+
+    /**
+     * Stops the file system watch, so that the file of an object is checked each time it is retrieved again.
+     */
+    public static synchronized void disableFileWatch() {
+        if (fileChangeWatcher != null) {
+            fileChangeWatcher.stop();
+            fileChangeWatcher = null;
+        }
+    }
+
+    /**
+     * @return true iff the changes to the files are detected with a file system watch
+     */
+    public static boolean isFileWatchEnabled() {
+        return fileChangeWatcher != null;
+    }
+
     /**
      * Clears the entire cache.
      * This might be useful during testing when you need to clear out the entire cache and re-load.
      */
     public void clearCache() {
         synchronized(cache) {
+            FileChangeWatcher watcher = fileChangeWatcher;
+            for (CachedObjectHolder<T> holder : cache.values()) {
+                if (watcher != null && holder.getWatch() != null) {
+                    watcher.cancel(holder.getWatch());
+                }
+            }
             cache.clear();
+            absentEntries.clear();
         }
     }
 
@@ -63,16 +124,17 @@ public abstract class TenantSpecificFileBasedCache<T> {
             CachedObjectHolder<T> holder = cache.get(tenantId);
 
             // If we didn't find it or it was stale, then we'll need to lock the cache.
-            if (holder == null || holder.isStale()) {
+            if (holder == null || isStale(holder)) {
                 synchronized (cache) {
 
                     // Check again to see if we can retrieve the cached object from the cache.
                     holder = cache.get(tenantId);
 
                     // If the cache object is stale, then discard and re-load below.
-                    if (holder != null && holder.isStale()) {
+                    if (holder != null && isStale(holder)) {
                         log.fine("Cached " + this.cacheType + " for tenant-id '" + tenantId + "' is stale, discarding...");
                         cache.remove(tenantId);
+                        absentEntries.remove(tenantId);
                         holder = null;
                     }
 
@@ -81,16 +143,37 @@ public abstract class TenantSpecificFileBasedCache<T> {
                         String fileName = getCacheEntryFilename(tenantId);
                         File f = new File(fileName);
                         T cachedObject = null;
-                        
+
+                        // Start watching the file before it is loaded, so that a change made while loading it is detected.
+                        FileChangeWatcher watcher = fileChangeWatcher;
+                        FileChangeWatcher.Watch watch = (watcher != null) ? watcher.watch(fileName) : null;
+
                         // If the file exists, then try to load it.
-                        if (f.exists()) {
-                            cachedObject = createCachedObject(f);
+                        try {
+                            if (f.exists()) {
+                                cachedObject = createCachedObject(f);
+                            }
+                        } catch (Exception e) {
+                            if (watch != null) {
+                                watcher.cancel(watch);
+                            }
+                            throw e;
                         }
-                        
+
+
                         // If we were able to load the object from disk, then add it to the cache.
-                        if (cachedObject != null) {
+                        if (watch != null) {
+                            // The absence of the file is cached too, as its creation is detected
+                            holder = new CachedObjectHolder<T>(watch, cachedObject);
+                            cache.put(tenantId, holder);
+                            if (cachedObject == null) {
+                                addAbsentEntry(tenantId, holder, watcher);
+                            }
+                        } else if (cachedObject != null) {
                             holder = new CachedObjectHolder<T>(fileName, cachedObject);
                             cache.put(tenantId, holder);
+                        }
+                        if (cachedObject != null) {
                             log.fine("Loaded " + this.cacheType + " for tenant-id '" + tenantId + "' and added it to the cache.");
                         } else {
                             log.fine("Tenant-specific " + this.cacheType + " for tenant '" + tenantId + "' not found, skipping...");
@@ -106,4 +189,32 @@ public abstract class TenantSpecificFileBasedCache<T> {
             }
         }
     }
+
+    /**
+     * Adds an entry which caches the absence of the file of a tenant, and drops the oldest of these entries if
+     * there are too many. Must be called with the cache lock held.
+     */
+    private void addAbsentEntry(String tenantId, CachedObjectHolder<T> holder, FileChangeWatcher watcher) {
+        absentEntries.put(tenantId, holder);
+        Iterator<Map.Entry<String, CachedObjectHolder<T>>> iterator = absentEntries.entrySet().iterator();
+        while (absentEntries.size() > maxAbsentEntries && iterator.hasNext()) {
+            Map.Entry<String, CachedObjectHolder<T>> eldest = iterator.next();
+            iterator.remove();
+            cache.remove(eldest.getKey(), eldest.getValue());
+            watcher.cancel(eldest.getValue().getWatch());
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Dropped the cached absence of the " + this.cacheType + " for tenant-id '" + eldest.getKey() + "'");
+            }
+        }
+    }
+
+    /**
+     * @return true iff the object must be loaded again, because its file changed or it isn't watched as it should be
+     */
+    private boolean isStale(CachedObjectHolder<T> holder) {
+        if (holder.getWatch() == null && fileChangeWatcher != null) {
+            return true;
+        }
+        return holder.isStale();
+    }
 }
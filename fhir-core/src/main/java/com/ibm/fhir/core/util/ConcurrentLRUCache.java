@@ -0,0 +1,293 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.core.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache with approximate Least Recently Used (LRU) eviction.
+ *
+ * <p>Entries are held in a {@link ConcurrentHashMap} so reads never take a lock. Each read stamps the entry with the
+ * current value of a logical clock that advances on every insert. When the cache grows past its maximum size, one
+ * writer (the others carry on) evicts the least recently stamped entries in a batch, bringing the size back down to
+ * roughly 90% of the maximum. Hit, miss and eviction counts are tracked with {@link LongAdder} counters.
+ *
+ * <p>Unlike {@link java.util.LinkedHashMap}, null keys and values are not supported. {@link #computeIfAbsent} does not
+ * hold a lock while the mapping function runs, so the function may be called more than once for the same key under
+ * contention (and may itself use the cache); only one result is retained.
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private final int maxEntries;
+    private final int evictionThreshold;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * @param maxEntries
+     *     the maximum number of entries to retain
+     * @throws IllegalArgumentException
+     *     if maxEntries is less than 1
+     */
+    public ConcurrentLRUCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0");
+        }
+        this.maxEntries = maxEntries;
+        this.evictionThreshold = Math.max(1, maxEntries - Math.max(1, maxEntries / 10));
+        this.map = new ConcurrentHashMap<>(maxEntries + 1);
+    }
+
+    /**
+     * The maximum number of entries retained by this cache
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * The number of lookups that found an entry
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * The number of lookups that did not find an entry
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * The number of entries that were evicted to keep the cache within its maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Reset the hit, miss and eviction counters
+     */
+    public void resetStats() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        node.touch(clock.get());
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<V> previous = map.put(key, newNode(value));
+        evictIfNecessary();
+        return (previous != null) ? previous.value : null;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Node<V> previous = map.putIfAbsent(key, newNode(value));
+        if (previous == null) {
+            evictIfNecessary();
+            return null;
+        }
+        return previous.value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        V previous = putIfAbsent(key, value);
+        return (previous != null) ? previous : value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<V> previous = map.remove(key);
+        return (previous != null) ? previous.value : null;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Objects.requireNonNull(value);
+        Node<V> node = map.get(key);
+        return node != null && node.value.equals(value) && map.remove(key, node);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Node<V> node = map.get(key);
+        return node != null && node.value.equals(oldValue) && map.replace(key, node, newNode(newValue));
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Node<V> previous = map.replace(key, newNode(value));
+        return (previous != null) ? previous.value : null;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private Node<V> newNode(V value) {
+        return new Node<>(Objects.requireNonNull(value), clock.incrementAndGet());
+    }
+
+    private void evictIfNecessary() {
+        if (map.size() <= maxEntries || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // snapshot the access times so that concurrent reads cannot change the order while sorting
+            List<Candidate<K, V>> candidates = new ArrayList<>(map.size());
+            for (Map.Entry<K, Node<V>> entry : map.entrySet()) {
+                candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+            }
+            int excess = candidates.size() - evictionThreshold;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort((c1, c2) -> Long.compare(c1.accessTime, c2.accessTime));
+            for (int i = 0; i < excess; i++) {
+                Candidate<K, V> candidate = candidates.get(i);
+                if (map.remove(candidate.key, candidate.node)) {
+                    evictionCount.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Candidate<K, V> {
+        private final K key;
+        private final Node<V> node;
+        private final long accessTime;
+
+        private Candidate(K key, Node<V> node) {
+            this.key = key;
+            this.node = node;
+            this.accessTime = node.accessTime;
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private volatile long accessTime;
+
+        private Node(V value, long accessTime) {
+            this.value = value;
+            this.accessTime = accessTime;
+        }
+
+        private void touch(long now) {
+            // avoid writing (and invalidating the cache line of) hot entries that are already current
+            if (accessTime != now) {
+                accessTime = now;
+            }
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, Node<V>>> iterator = map.entrySet().iterator();
+            return new Iterator<Map.Entry<K, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    Map.Entry<K, Node<V>> entry = iterator.next();
+                    return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().value);
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+    }
+}
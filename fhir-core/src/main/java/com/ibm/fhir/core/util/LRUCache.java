@@ -1,36 +1,63 @@
 /*
- * (C) Copyright IBM Corp. 2019
- * 
+ * (C) Copyright IBM Corp. 2019, 2020
+ *
  * SPDX-License-Identifier: Apache-2.0
  */
 
 package com.ibm.fhir.core.util;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * A simple Least Recently Used (LRU) cache implementation using LinkedHashMap
- * 
+ * A simple Least Recently Used (LRU) cache implementation using LinkedHashMap, and factory methods for thread-safe
+ * LRU caches
+ *
+ * <p>Instances of this class are not thread-safe. The factory methods return a {@link ConcurrentLRUCache}, which
+ * replaced the synchronized wrapper around this class that {@link #createLRUCache(int)} used to return.
+ *
  * see {@link java.util.LinkedHashMap#removeEldestEntry}
  */
 public class LRUCache<K, V> extends LinkedHashMap<K, V> {
     private static final long serialVersionUID = 1L;
-    
+
     private final int maxEntries;
-    
+
     private LRUCache(int maxEntries) {
         super(maxEntries, 0.75f, true);
         this.maxEntries = maxEntries;
     }
-    
+
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
         return size() > maxEntries;
     }
-    
+
+    /**
+     * Create a thread-safe LRU cache that retains at most maxEntries entries.
+     *
+     * <p>Reads do not take a lock. Null keys and values are not supported.
+     *
+     * @param maxEntries
+     *     the maximum number of entries to retain
+     * @return
+     *     a new {@link ConcurrentLRUCache}
+     * @see #createConcurrentLRUCache(int)
+     */
     public static <K, V> Map<K, V> createLRUCache(int maxEntries) {
-        return Collections.synchronizedMap(new LRUCache<>(maxEntries));
+        return new ConcurrentLRUCache<>(maxEntries);
+    }
+
+    /**
+     * Create a thread-safe LRU cache that retains at most maxEntries entries, and which exposes its hit, miss and
+     * eviction counts.
+     *
+     * @param maxEntries
+     *     the maximum number of entries to retain
+     * @return
+     *     a new {@link ConcurrentLRUCache}
+     */
+    public static <K, V> ConcurrentLRUCache<K, V> createConcurrentLRUCache(int maxEntries) {
+        return new ConcurrentLRUCache<>(maxEntries);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.core.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.core.util.ConcurrentLRUCache;
+import com.ibm.fhir.core.util.LRUCache;
+
+public class ConcurrentLRUCacheTest {
+    @Test
+    public void testEviction() {
+        ConcurrentLRUCache<Integer, String> cache = new ConcurrentLRUCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+        assertEquals(cache.size(), 10);
+
+        // touch the oldest entries so that they are retained
+        for (int i = 0; i < 5; i++) {
+            assertEquals(cache.get(i), "value" + i);
+        }
+        cache.put(10, "value10");
+
+        assertTrue(cache.size() <= 10);
+        assertEquals(cache.getEvictionCount(), 11 - cache.size());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cache.containsKey(i), "recently used key " + i + " was evicted");
+        }
+        assertTrue(cache.containsKey(10));
+        assertFalse(cache.containsKey(5));
+    }
+
+    @Test
+    public void testStats() {
+        ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(4);
+        assertNull(cache.get("a"));
+        assertEquals(cache.computeIfAbsent("a", k -> "A"), "A");
+        assertEquals(cache.computeIfAbsent("a", k -> "B"), "A");
+        assertEquals(cache.get("a"), "A");
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getEvictionCount(), 0);
+
+        cache.resetStats();
+        assertEquals(cache.getMissCount(), 0);
+        assertEquals(cache.getHitCount(), 0);
+    }
+
+    @Test
+    public void testMapOperations() {
+        Map<String, String> cache = LRUCache.createLRUCache(8);
+        assertNull(cache.put("a", "A"));
+        assertEquals(cache.put("a", "A2"), "A");
+        assertEquals(cache.putIfAbsent("a", "A3"), "A2");
+        assertTrue(cache.replace("a", "A2", "A4"));
+        assertFalse(cache.remove("a", "A2"));
+        assertEquals(cache.entrySet().iterator().next().getValue(), "A4");
+        assertTrue(cache.remove("a", "A4"));
+        assertTrue(cache.isEmpty());
+        assertNull(cache.computeIfAbsent("b", k -> null));
+        assertFalse(cache.containsKey("b"));
+    }
+
+    @Test
+    public void testCreateConcurrentLRUCache() {
+        ConcurrentLRUCache<String, String> cache = LRUCache.createConcurrentLRUCache(8);
+        assertEquals(cache.getMaxEntries(), 8);
+        assertNull(cache.get("a"));
+        cache.put("a", "A");
+        assertEquals(cache.get("a"), "A");
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(400);
+                        assertEquals(cache.computeIfAbsent(key, k -> k * 2).intValue(), key * 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // eviction is done by one writer at a time, so concurrent writers can briefly push the size past the maximum
+        assertTrue(cache.size() <= 100 + 8);
+        assertEquals(cache.getHitCount() + cache.getMissCount(), 80000);
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.core.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.core.FileChangeWatcher;
+import com.ibm.fhir.core.TenantSpecificFileBasedCache;
+
+public class TenantSpecificFileBasedCacheTest {
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    private Path dir;
+    private StringCache cache;
+
+    /**
+     * A cache of the content of the file of each tenant, which counts the loads
+     */
+    private class StringCache extends TenantSpecificFileBasedCache<String> {
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private StringCache() {
+            super("test");
+        }
+
+        private StringCache(int maxAbsentEntries) {
+            super("test", maxAbsentEntries);
+        }
+
+        @Override
+        public String getCacheEntryFilename(String tenantId) {
+            return dir.resolve(tenantId).resolve("file.txt").toString();
+        }
+
+        @Override
+        public String createCachedObject(File file) throws Exception {
+            loads.incrementAndGet();
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("fhir-cache-test");
+        cache = new StringCache();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        TenantSpecificFileBasedCache.disableFileWatch();
+        delete(dir.toFile());
+    }
+
+    private void delete(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        f.delete();
+    }
+
+    @Test
+    public void testFileCheck() throws Exception {
+        Path file = write("tenant1", "a");
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+        assertEquals(cache.loads.get(), 1);
+
+        write("tenant1", "b");
+        file.toFile().setLastModified(file.toFile().lastModified() + 2000);
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "b");
+        assertEquals(cache.loads.get(), 2);
+
+        assertNull(cache.getCachedObjectForTenant("tenant2"));
+    }
+
+    @Test
+    public void testFileWatch() throws Exception {
+        TenantSpecificFileBasedCache.enableFileWatch(TIMEOUT_MILLIS * 10);
+        assertTrue(TenantSpecificFileBasedCache.isFileWatchEnabled());
+
+        write("tenant1", "a");
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+        assertEquals(cache.loads.get(), 1);
+
+        // Detected by the watch service, long before the fallback check
+        write("tenant1", "b");
+        assertEventually(cache, "tenant1", "b");
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "b");
+    }
+
+    @Test
+    public void testFileWatchFallback() throws Exception {
+        TenantSpecificFileBasedCache.enableFileWatch(50);
+
+        // The tenant directory doesn't exist yet, so only the fallback check can detect the creation of the file
+        assertNull(cache.getCachedObjectForTenant("tenant1"));
+        write("tenant1", "a");
+        assertEventually(cache, "tenant1", "a");
+        assertEquals(cache.loads.get(), 1);
+    }
+
+    @Test
+    public void testAbsentEntriesBounded() throws Exception {
+        TenantSpecificFileBasedCache.enableFileWatch(TIMEOUT_MILLIS * 10);
+        cache = new StringCache(10);
+
+        // The absence of the file is cached for the last 10 tenants only
+        for (int i = 0; i <= 10; i++) {
+            assertNull(cache.getCachedObjectForTenant("tenant" + i));
+        }
+
+        // The tenant directories don't exist, so the creation of their files isn't detected before the fallback check.
+        // The absence of the file of the first tenant isn't cached anymore, so its file is found right away.
+        write("tenant0", "a");
+        write("tenant10", "b");
+        assertEquals(cache.getCachedObjectForTenant("tenant0"), "a");
+        assertNull(cache.getCachedObjectForTenant("tenant10"));
+    }
+
+    @Test
+    public void testDisableFileWatch() throws Exception {
+        Path file = write("tenant1", "a");
+        TenantSpecificFileBasedCache.enableFileWatch(TIMEOUT_MILLIS * 10);
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+
+        TenantSpecificFileBasedCache.disableFileWatch();
+        assertFalse(TenantSpecificFileBasedCache.isFileWatchEnabled());
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "a");
+        assertEquals(cache.loads.get(), 2);
+
+        write("tenant1", "b");
+        file.toFile().setLastModified(file.toFile().lastModified() + 2000);
+        assertEquals(cache.getCachedObjectForTenant("tenant1"), "b");
+    }
+
+    @Test
+    public void testWatchCancel() throws Exception {
+        FileChangeWatcher watcher = new FileChangeWatcher(50);
+        try {
+            Path file = dir.resolve("file.txt");
+            FileChangeWatcher.Watch cancelled = watcher.watch(file.toString());
+            watcher.cancel(cancelled);
+            FileChangeWatcher.Watch watch = watcher.watch(file.toString());
+            Files.write(file, "a".getBytes(StandardCharsets.UTF_8));
+
+            long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!watch.isChanged() && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            assertTrue(watch.isChanged());
+            assertFalse(cancelled.isChanged());
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    public void testWatchCancelDirectory() throws Exception {
+        FileChangeWatcher watcher = new FileChangeWatcher(TIMEOUT_MILLIS * 10);
+        try {
+            // Once the only watch of a directory is cancelled, the directory is watched again by the next watch
+            Path file = dir.resolve("file.txt");
+            watcher.cancel(watcher.watch(file.toString()));
+            FileChangeWatcher.Watch watch = watcher.watch(file.toString());
+            Files.write(file, "a".getBytes(StandardCharsets.UTF_8));
+
+            long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!watch.isChanged() && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            assertTrue(watch.isChanged());
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private Path write(String tenantId, String content) throws Exception {
+        Path tenantDir = dir.resolve(tenantId);
+        Files.createDirectories(tenantDir);
+        return Files.write(tenantDir.resolve("file.txt"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertEventually(StringCache cache, String tenantId, String expected) throws Exception {
+        long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String actual = cache.getCachedObjectForTenant(tenantId);
+        while (!expected.equals(actual) && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+            actual = cache.getCachedObjectForTenant(tenantId);
+        }
+        assertEquals(actual, expected);
+    }
+}
@@ -62,6 +62,9 @@ public class FHIRJsonParser extends FHIRAbstractParser {
     }
 
     public <T extends Resource> T parseAndFilter(InputStream in, Collection<java.lang.String> elementsToInclude) throws FHIRParserException {
+        if (getPropertyOrDefault(FHIRParser.PROPERTY_STREAMING, java.lang.Boolean.FALSE, java.lang.Boolean.class)) {
+            return streamingParser().parseAndFilter(in, elementsToInclude);
+        }
         try (JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingInputStream(in), StandardCharsets.UTF_8)) {
             JsonObject jsonObject = jsonReader.readObject();
             return parseAndFilter(jsonObject, elementsToInclude);
@@ -78,6 +81,9 @@ public class FHIRJsonParser extends FHIRAbstractParser {
     }
 
     public <T extends Resource> T parseAndFilter(Reader reader, Collection<java.lang.String> elementsToInclude) throws FHIRParserException {
+        if (getPropertyOrDefault(FHIRParser.PROPERTY_STREAMING, java.lang.Boolean.FALSE, java.lang.Boolean.class)) {
+            return streamingParser().parseAndFilter(reader, elementsToInclude);
+        }
         try (JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingReader(reader))) {
             JsonObject jsonObject = jsonReader.readObject();
             return parseAndFilter(jsonObject, elementsToInclude);
@@ -111,11 +117,18 @@ public class FHIRJsonParser extends FHIRAbstractParser {
         stack.clear();
     }
 
+    private FHIRJsonStreamingParser streamingParser() {
+        return new FHIRJsonStreamingParser(getPropertyOrDefault(FHIRParser.PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS, java.lang.Boolean.FALSE, java.lang.Boolean.class));
+    }
+
     @Override
     public boolean isPropertySupported(java.lang.String name) {
         if (FHIRParser.PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS.equals(name)) {
             return true;
         }
+        if (FHIRParser.PROPERTY_STREAMING.equals(name)) {
+            return true;
+        }
         return false;
     }
 
@@ -0,0 +1,654 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.parser;
+
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingInputStream;
+import static com.ibm.fhir.model.util.JsonSupport.nonClosingReader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
+
+import com.ibm.fhir.model.builder.Builder;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Decimal;
+import com.ibm.fhir.model.type.Element;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.util.ElementFilter;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.model.util.ModelSupport.ElementInfo;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * A FHIR JSON parser that builds fhir-model objects directly from {@link JsonParser} events instead of
+ * first reading the entire input into a {@link javax.json.JsonObject} tree.
+ *
+ * <p>This parser is used by {@link FHIRJsonParser} when the {@link FHIRParser#PROPERTY_STREAMING} property
+ * is set to true and produces the same model objects as the tree-based parser. Builder and setter lookups
+ * are resolved once per model class from {@link ModelSupport} and cached for the lifetime of the JVM.
+ */
+@NotThreadSafe
+class FHIRJsonStreamingParser {
+    private static final JsonParserFactory JSON_PARSER_FACTORY = Json.createParserFactory(null);
+    private static final Map<Class<?>, TypeInfo> TYPE_INFO_CACHE = new ConcurrentHashMap<>();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    private final boolean ignoreUnrecognizedElements;
+    private final Stack<String> stack = new Stack<>();
+
+    FHIRJsonStreamingParser(boolean ignoreUnrecognizedElements) {
+        this.ignoreUnrecognizedElements = ignoreUnrecognizedElements;
+    }
+
+    <T extends Resource> T parseAndFilter(InputStream in, Collection<String> elementsToInclude) throws FHIRParserException {
+        try (JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingInputStream(in), StandardCharsets.UTF_8)) {
+            return parseAndFilter(parser, elementsToInclude);
+        } catch (FHIRParserException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new FHIRParserException(t.getMessage(), getPath(), t instanceof Exception ? (Exception) t : new RuntimeException(t));
+        }
+    }
+
+    <T extends Resource> T parseAndFilter(Reader reader, Collection<String> elementsToInclude) throws FHIRParserException {
+        try (JsonParser parser = JSON_PARSER_FACTORY.createParser(nonClosingReader(reader))) {
+            return parseAndFilter(parser, elementsToInclude);
+        } catch (FHIRParserException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new FHIRParserException(t.getMessage(), getPath(), t instanceof Exception ? (Exception) t : new RuntimeException(t));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Resource> T parseAndFilter(JsonParser parser, Collection<String> elementsToInclude) throws Throwable {
+        stack.clear();
+        Event event = parser.hasNext() ? parser.next() : null;
+        if (event != Event.START_OBJECT) {
+            throw new IllegalArgumentException("Expected: OBJECT but found: " + getValueType(event));
+        }
+        return (T) parseResource(parser, null, -1, elementsToInclude);
+    }
+
+    /**
+     * Parse a resource whose START_OBJECT event has just been consumed.
+     *
+     * <p>Members that precede the "resourceType" member are buffered and replayed once the resource type
+     * is known; in practice, "resourceType" is almost always the first member.
+     */
+    private Resource parseResource(JsonParser parser, String elementName, int elementIndex, Collection<String> elementsToInclude) throws Throwable {
+        Class<?> resourceType = null;
+        JsonObjectBuilder buffered = null;
+        while (parser.next() == Event.KEY_NAME) {
+            String key = parser.getString();
+            Event event = parser.next();
+            if ("resourceType".equals(key)) {
+                if (event != Event.VALUE_STRING) {
+                    throw new IllegalArgumentException("Expected: JsonString but found: " + getValueType(event) + " for element: resourceType");
+                }
+                String resourceTypeName = parser.getString();
+                resourceType = ModelSupport.getResourceType(resourceTypeName);
+                if (resourceType == null) {
+                    throw new IllegalArgumentException("Invalid resource type: '" + resourceTypeName + "'");
+                }
+                break;
+            }
+            if (buffered == null) {
+                buffered = Json.createObjectBuilder();
+            }
+            buffered.add(key, parser.getValue());
+        }
+        if (resourceType == null) {
+            throw new IllegalArgumentException("Missing required element: 'resourceType'");
+        }
+
+        stackPush(elementName != null ? elementName : resourceType.getSimpleName(), elementIndex);
+        ObjectState state = new ObjectState(getTypeInfo(resourceType));
+        if (elementsToInclude != null) {
+            state.filter = new ElementFilter(resourceType, elementsToInclude);
+        }
+        if (buffered != null) {
+            try (JsonParser replay = JSON_PARSER_FACTORY.createParser(buffered.build())) {
+                replay.next();
+                parseMembers(replay, state);
+            }
+        }
+        parseMembers(parser, state);
+        Resource resource = (Resource) state.build();
+        stackPop();
+        return resource;
+    }
+
+    /**
+     * Parse a complex (non-primitive) element whose START_OBJECT event has just been consumed.
+     */
+    private Object parseComplex(JsonParser parser, TypeInfo typeInfo, String elementName, int elementIndex) throws Throwable {
+        stackPush(elementName, elementIndex);
+        ObjectState state = new ObjectState(typeInfo);
+        parseMembers(parser, state);
+        Object result = state.build();
+        stackPop();
+        return result;
+    }
+
+    /**
+     * Consume object members up to and including the END_OBJECT event, applying each to the passed state.
+     */
+    private void parseMembers(JsonParser parser, ObjectState state) throws Throwable {
+        while (parser.next() == Event.KEY_NAME) {
+            String key = parser.getString();
+            Event event = parser.next();
+            if (state.filter != null && !state.filter.includes(key)) {
+                skip(parser, event);
+                continue;
+            }
+            boolean underscore = key.charAt(0) == '_';
+            KeyInfo keyInfo = state.typeInfo.keys.get(underscore ? key.substring(1) : key);
+            if (keyInfo == null && ("resourceType".equals(key) || "fhir_comments".equals(key))) {
+                skip(parser, event);
+                continue;
+            }
+            if (keyInfo == null || (underscore && !keyInfo.primitive)) {
+                if (!ignoreUnrecognizedElements) {
+                    throw new IllegalArgumentException("Unrecognized element: '" + key + "'");
+                }
+                skip(parser, event);
+                continue;
+            }
+            if (keyInfo.choice) {
+                state.checkChoice(keyInfo, key, underscore);
+            }
+            if (keyInfo.primitive) {
+                parsePrimitiveMember(parser, event, state, keyInfo, underscore);
+            } else if (keyInfo.repeating) {
+                if (event != Event.START_ARRAY) {
+                    throw new IllegalArgumentException("Expected: JsonArray but found: " + getValueType(event) + " for element: " + key);
+                }
+                List<Object> values = new ArrayList<>();
+                int index = 0;
+                while ((event = parser.next()) != Event.END_ARRAY) {
+                    values.add(parseValue(parser, event, keyInfo, index++));
+                }
+                state.set(keyInfo, values);
+            } else {
+                state.set(keyInfo, parseValue(parser, event, keyInfo, -1));
+            }
+        }
+    }
+
+    private Object parseValue(JsonParser parser, Event event, KeyInfo keyInfo, int elementIndex) throws Throwable {
+        if (keyInfo.javaString) {
+            if (event != Event.VALUE_STRING) {
+                throw new IllegalArgumentException("Expected: JsonString but found: " + getValueType(event) + " for element: " + keyInfo.key);
+            }
+            stackPush(keyInfo.key, elementIndex);
+            String value = parser.getString();
+            stackPop();
+            return value;
+        }
+        if (event != Event.START_OBJECT) {
+            throw new IllegalArgumentException("Expected: JsonObject but found: " + getValueType(event) + " for element: " + keyInfo.key);
+        }
+        if (keyInfo.resource) {
+            return parseResource(parser, keyInfo.key, elementIndex, null);
+        }
+        return parseComplex(parser, getTypeInfo(keyInfo.type), keyInfo.key, elementIndex);
+    }
+
+    private void parsePrimitiveMember(JsonParser parser, Event event, ObjectState state, KeyInfo keyInfo, boolean underscore) throws Throwable {
+        PrimitiveState primitive = state.getPrimitive(keyInfo);
+        if (keyInfo.repeating) {
+            if (event != Event.START_ARRAY) {
+                throw new IllegalArgumentException("Expected: JsonArray but found: " + getValueType(event) + " for element: " + (underscore ? "_" : "") + keyInfo.key);
+            }
+            List<Object> values = new ArrayList<>();
+            int index = 0;
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                values.add(underscore ? readElementParts(parser, event, keyInfo.key, index) : readRawValue(parser, event));
+                index++;
+            }
+            if (underscore) {
+                primitive.partsList = values;
+            } else {
+                primitive.values = values;
+            }
+        } else if (underscore) {
+            primitive.parts = readElementParts(parser, event, keyInfo.key, -1);
+            primitive.hasParts = true;
+        } else {
+            TypeInfo typeInfo = getTypeInfo(keyInfo.type);
+            if (!keyInfo.choice && !typeInfo.accepts(event)) {
+                // consistent with the JsonObject-based parser which checks the JSON type before parsing the primitive
+                throw new IllegalArgumentException("Expected: " + typeInfo.jsonTypeName + " but found: " + getValueType(event) + " for element: " + keyInfo.key);
+            }
+            primitive.value = readRawValue(parser, event);
+            primitive.hasValue = true;
+        }
+    }
+
+    /**
+     * @return a String, BigDecimal or java.lang.Boolean for JSON scalar values; otherwise a JsonValue
+     */
+    private Object readRawValue(JsonParser parser, Event event) {
+        switch (event) {
+        case VALUE_STRING:
+            return parser.getString();
+        case VALUE_NUMBER:
+            return parser.getBigDecimal();
+        case VALUE_TRUE:
+            return java.lang.Boolean.TRUE;
+        case VALUE_FALSE:
+            return java.lang.Boolean.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            return parser.getValue();
+        }
+    }
+
+    /**
+     * @return an ElementParts instance for a JSON object; otherwise the raw value
+     */
+    private Object readElementParts(JsonParser parser, Event event, String elementName, int elementIndex) throws Throwable {
+        if (event != Event.START_OBJECT) {
+            return readRawValue(parser, event);
+        }
+        stackPush(elementName, elementIndex);
+        ElementParts parts = new ElementParts();
+        while (parser.next() == Event.KEY_NAME) {
+            String key = parser.getString();
+            event = parser.next();
+            switch (key) {
+            case "id":
+                if (event != Event.VALUE_STRING) {
+                    throw new IllegalArgumentException("Expected: JsonString but found: " + getValueType(event) + " for element: id");
+                }
+                parts.id = parser.getString();
+                break;
+            case "extension":
+                if (event != Event.START_ARRAY) {
+                    throw new IllegalArgumentException("Expected: JsonArray but found: " + getValueType(event) + " for element: extension");
+                }
+                TypeInfo extensionTypeInfo = getTypeInfo(Extension.class);
+                int index = 0;
+                while ((event = parser.next()) != Event.END_ARRAY) {
+                    if (event != Event.START_OBJECT) {
+                        throw new IllegalArgumentException("Expected: JsonObject but found: " + getValueType(event) + " for element: extension");
+                    }
+                    parts.extension.add((Extension) parseComplex(parser, extensionTypeInfo, "extension", index++));
+                }
+                break;
+            case "resourceType":
+            case "fhir_comments":
+                skip(parser, event);
+                break;
+            default:
+                if (!ignoreUnrecognizedElements) {
+                    throw new IllegalArgumentException("Unrecognized element: '" + key + "'");
+                }
+                skip(parser, event);
+            }
+        }
+        stackPop();
+        return parts;
+    }
+
+    /**
+     * Build a primitive element from its value and its "_" counterpart (either of which may be null).
+     */
+    private Element buildPrimitive(KeyInfo keyInfo, Object value, Object parts, int elementIndex) throws Throwable {
+        stackPush(keyInfo.key, elementIndex);
+        TypeInfo typeInfo = getTypeInfo(keyInfo.type);
+        Object result = typeInfo.builderFactory.invokeExact();
+        Element.Builder builder = (Element.Builder) result;
+        if (parts instanceof ElementParts) {
+            ElementParts elementParts = (ElementParts) parts;
+            builder.id(elementParts.id);
+            builder.extension(elementParts.extension);
+        } else if (parts != null && (parts != JsonValue.NULL || elementIndex == -1)) {
+            throw new IllegalArgumentException("Expected: OBJECT but found: " + getValueType(parts) + " for element: _" + keyInfo.key);
+        }
+        if (value != null && typeInfo.accepts(value)) {
+            Object converted = (typeInfo.integer) ? ((BigDecimal) value).intValueExact() : value;
+            Object unused = typeInfo.valueSetter.invokeExact((Object) builder, converted);
+        } else if (value != null && (value != JsonValue.NULL || elementIndex == -1)) {
+            throw new IllegalArgumentException("Expected: " + typeInfo.valueTypeName + " but found: " + getValueType(value) + " for element: " + keyInfo.key);
+        }
+        Element element = builder.build();
+        stackPop();
+        return element;
+    }
+
+    private void skip(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    private void stackPush(String elementName, int elementIndex) {
+        if (elementIndex != -1) {
+            stack.push(elementName + "[" + elementIndex + "]");
+        } else {
+            stack.push(elementName);
+        }
+    }
+
+    private void stackPop() {
+        stack.pop();
+    }
+
+    private String getPath() {
+        StringJoiner joiner = new StringJoiner(".");
+        for (String s : stack) {
+            joiner.add(s);
+        }
+        return joiner.toString();
+    }
+
+    private static String getValueType(Event event) {
+        if (event == null) {
+            return "EOF";
+        }
+        switch (event) {
+        case START_OBJECT:
+            return "OBJECT";
+        case START_ARRAY:
+            return "ARRAY";
+        case VALUE_STRING:
+            return "STRING";
+        case VALUE_NUMBER:
+            return "NUMBER";
+        case VALUE_TRUE:
+            return "TRUE";
+        case VALUE_FALSE:
+            return "FALSE";
+        case VALUE_NULL:
+            return "NULL";
+        default:
+            return event.name();
+        }
+    }
+
+    private static String getValueType(Object rawValue) {
+        if (rawValue instanceof String) {
+            return "STRING";
+        }
+        if (rawValue instanceof BigDecimal) {
+            return "NUMBER";
+        }
+        if (rawValue instanceof java.lang.Boolean) {
+            return ((java.lang.Boolean) rawValue) ? "TRUE" : "FALSE";
+        }
+        if (rawValue instanceof ElementParts) {
+            return "OBJECT";
+        }
+        return ((JsonValue) rawValue).getValueType().name();
+    }
+
+    private static TypeInfo getTypeInfo(Class<?> modelClass) {
+        TypeInfo typeInfo = TYPE_INFO_CACHE.get(modelClass);
+        if (typeInfo == null) {
+            // not computeIfAbsent; creating a TypeInfo is idempotent and must not hold a lock on the cache
+            typeInfo = new TypeInfo(modelClass);
+            TYPE_INFO_CACHE.putIfAbsent(modelClass, typeInfo);
+        }
+        return typeInfo;
+    }
+
+    /**
+     * The id and extensions of a primitive element, read from its "_" counterpart
+     */
+    private static final class ElementParts {
+        private String id;
+        private final List<Extension> extension = new ArrayList<>();
+    }
+
+    /**
+     * The not-yet-built value and "_" counterpart of a primitive element; both may arrive in either order
+     */
+    private static final class PrimitiveState {
+        private Object value;
+        private Object parts;
+        private boolean hasValue;
+        private boolean hasParts;
+        private List<Object> values;
+        private List<Object> partsList;
+    }
+
+    /**
+     * The builder and pending primitive elements of the JSON object currently being parsed
+     */
+    private final class ObjectState {
+        private final TypeInfo typeInfo;
+        private final Object builder;
+        private ElementFilter filter;
+        private Map<KeyInfo, PrimitiveState> primitives;
+        private Map<String, String> choiceKeys;
+
+        private ObjectState(TypeInfo typeInfo) throws Throwable {
+            this.typeInfo = typeInfo;
+            this.builder = typeInfo.builderFactory.invokeExact();
+        }
+
+        private void set(KeyInfo keyInfo, Object value) throws Throwable {
+            Object unused = keyInfo.setter.invokeExact(builder, value);
+        }
+
+        private PrimitiveState getPrimitive(KeyInfo keyInfo) {
+            if (primitives == null) {
+                primitives = new LinkedHashMap<>();
+            }
+            return primitives.computeIfAbsent(keyInfo, k -> new PrimitiveState());
+        }
+
+        private void checkChoice(KeyInfo keyInfo, String key, boolean underscore) {
+            if (choiceKeys == null) {
+                choiceKeys = new HashMap<>();
+            }
+            String choiceKey = underscore ? "_" + keyInfo.elementName : keyInfo.elementName;
+            String previous = choiceKeys.put(choiceKey, key);
+            if (previous != null && !previous.equals(key)) {
+                throw new IllegalArgumentException("Only one choice element key of the form: " + choiceKey + "[x] is allowed");
+            }
+        }
+
+        private Object build() throws Throwable {
+            if (choiceKeys != null) {
+                for (Map.Entry<String, String> entry : choiceKeys.entrySet()) {
+                    String elementName = entry.getValue();
+                    String _elementName = choiceKeys.get("_" + entry.getKey());
+                    if (_elementName != null && !_elementName.endsWith(elementName)) {
+                        throw new IllegalArgumentException("Choice element keys: " + elementName + " and " + _elementName + " are not consistent");
+                    }
+                }
+            }
+            if (primitives != null) {
+                for (Map.Entry<KeyInfo, PrimitiveState> entry : primitives.entrySet()) {
+                    KeyInfo keyInfo = entry.getKey();
+                    PrimitiveState primitive = entry.getValue();
+                    if (keyInfo.repeating) {
+                        if (primitive.values == null) {
+                            throw new IllegalArgumentException("Found array with key '_" + keyInfo.key + "' but could not find matching array with key: '" + keyInfo.key + "'");
+                        }
+                        List<Element> elements = new ArrayList<>(primitive.values.size());
+                        for (int i = 0; i < primitive.values.size(); i++) {
+                            Object parts = null;
+                            if (primitive.partsList != null) {
+                                if (i >= primitive.partsList.size()) {
+                                    throw new IllegalArgumentException("Could not find element at index: " + i);
+                                }
+                                parts = primitive.partsList.get(i);
+                            }
+                            elements.add(buildPrimitive(keyInfo, primitive.values.get(i), parts, i));
+                        }
+                        set(keyInfo, elements);
+                    } else if (primitive.hasValue || primitive.hasParts) {
+                        set(keyInfo, buildPrimitive(keyInfo, primitive.value, primitive.parts, -1));
+                    }
+                }
+            }
+            return ((Builder<?>) builder).build();
+        }
+    }
+
+    /**
+     * Per-model class builder metadata, keyed by the JSON member names it accepts
+     */
+    private static final class TypeInfo {
+        private final MethodHandle builderFactory;
+        private final Map<String, KeyInfo> keys;
+
+        // primitive types only
+        private final MethodHandle valueSetter;
+        private final Class<?> valueClass;
+        private final boolean integer;
+        private final String jsonTypeName;
+        private final String valueTypeName;
+
+        private TypeInfo(Class<?> modelClass) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                if (Modifier.isAbstract(modelClass.getModifiers())) {
+                    builderFactory = null;
+                    keys = Collections.emptyMap();
+                } else {
+                    java.lang.reflect.Method builderMethod = modelClass.getMethod("builder");
+                    Class<?> builderClass = builderMethod.getReturnType();
+                    builderFactory = lookup.unreflect(builderMethod).asType(FACTORY_TYPE);
+                    keys = buildKeys(lookup, modelClass, builderClass);
+                }
+
+                if (ModelSupport.isPrimitiveType(modelClass)) {
+                    Class<?> builderClass = modelClass.getMethod("builder").getReturnType();
+                    if (com.ibm.fhir.model.type.Boolean.class.equals(modelClass)) {
+                        valueClass = java.lang.Boolean.class;
+                        jsonTypeName = "JsonValue";
+                        valueTypeName = "TRUE or FALSE";
+                    } else if (com.ibm.fhir.model.type.Integer.class.isAssignableFrom(modelClass)) {
+                        valueClass = java.lang.Integer.class;
+                        jsonTypeName = "JsonNumber";
+                        valueTypeName = "NUMBER";
+                    } else if (Decimal.class.equals(modelClass)) {
+                        valueClass = BigDecimal.class;
+                        jsonTypeName = "JsonNumber";
+                        valueTypeName = "NUMBER";
+                    } else {
+                        valueClass = String.class;
+                        jsonTypeName = "JsonString";
+                        valueTypeName = "STRING";
+                    }
+                    integer = java.lang.Integer.class.equals(valueClass);
+                    valueSetter = lookup.unreflect(builderClass.getMethod("value", valueClass)).asType(SETTER_TYPE);
+                } else {
+                    valueClass = null;
+                    integer = false;
+                    jsonTypeName = null;
+                    valueTypeName = null;
+                    valueSetter = null;
+                }
+            } catch (Exception e) {
+                throw new Error(e);
+            }
+        }
+
+        private Map<String, KeyInfo> buildKeys(MethodHandles.Lookup lookup, Class<?> modelClass, Class<?> builderClass) throws Exception {
+            Map<String, String> fieldNames = new HashMap<>();
+            for (Class<?> clazz : ModelSupport.getClosure(modelClass)) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isVolatile(modifiers)) {
+                        continue;
+                    }
+                    fieldNames.put(ModelSupport.getElementName(field), field.getName());
+                }
+            }
+
+            Map<String, KeyInfo> keys = new HashMap<>();
+            for (ElementInfo elementInfo : ModelSupport.getElementInfo(modelClass)) {
+                String elementName = elementInfo.getName();
+                Class<?> parameterType = elementInfo.isRepeating() ? Collection.class : (elementInfo.isChoice() ? Element.class : elementInfo.getType());
+                MethodHandle setter = lookup.unreflect(builderClass.getMethod(fieldNames.get(elementName), parameterType)).asType(SETTER_TYPE);
+                if (elementInfo.isChoice()) {
+                    for (Class<?> choiceType : elementInfo.getChoiceTypes()) {
+                        String key = ModelSupport.getChoiceElementName(elementName, choiceType);
+                        keys.putIfAbsent(key, new KeyInfo(elementName, key, choiceType, false, true, setter));
+                    }
+                } else {
+                    keys.put(elementName, new KeyInfo(elementName, elementName, elementInfo.getType(), elementInfo.isRepeating(), false, setter));
+                }
+            }
+            return Collections.unmodifiableMap(keys);
+        }
+
+        private boolean accepts(Event event) {
+            if (java.lang.Boolean.class.equals(valueClass)) {
+                // any JSON value is accepted here and then checked when the primitive is built
+                return true;
+            }
+            return String.class.equals(valueClass) ? event == Event.VALUE_STRING : event == Event.VALUE_NUMBER;
+        }
+
+        private boolean accepts(Object rawValue) {
+            return integer ? rawValue instanceof BigDecimal : valueClass.isInstance(rawValue);
+        }
+    }
+
+    /**
+     * Metadata for a single JSON member name of a model class
+     */
+    private static final class KeyInfo {
+        private final String elementName;
+        private final String key;
+        private final Class<?> type;
+        private final boolean repeating;
+        private final boolean choice;
+        private final boolean primitive;
+        private final boolean javaString;
+        private final boolean resource;
+        private final MethodHandle setter;
+
+        private KeyInfo(String elementName, String key, Class<?> type, boolean repeating, boolean choice, MethodHandle setter) {
+            this.elementName = elementName;
+            this.key = key;
+            this.type = type;
+            this.repeating = repeating;
+            this.choice = choice;
+            this.primitive = ModelSupport.isPrimitiveType(type);
+            this.javaString = String.class.equals(type);
+            this.resource = Resource.class.isAssignableFrom(type);
+            this.setter = setter;
+        }
+    }
+}
@@ -21,6 +21,12 @@ public interface FHIRParser {
      * Property name for a property that controls whether the parser will ignore or throw an exception on unrecognized elements
      */
     public static final String PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS = "com.ibm.fhir.model.parser.ignoreUnrecognizedElements";
+
+    /**
+     * Property name for a property that controls whether the JSON parser builds the model directly from parser events
+     * instead of first reading the input into a {@link javax.json.JsonObject}; only supported for {@link Format#JSON}
+     */
+    public static final String PROPERTY_STREAMING = "com.ibm.fhir.model.parser.streaming";
     
     /**
      * Read a resource from the passed InputStream. This method does not close the passed InputStream.
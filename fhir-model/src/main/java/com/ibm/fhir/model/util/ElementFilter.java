@@ -38,6 +38,13 @@ public class ElementFilter implements Function<JsonObject, JsonObject> {
         includeElements.addAll(elements);
     }
 
+    /**
+     * @return true if the top-level element with the passed JSON member name is retained by this filter
+     */
+    public boolean includes(String elementName) {
+        return includeElements.contains(elementName);
+    }
+
     @Override
     public JsonObject apply(JsonObject jsonObject) {
         JsonObjectBuilder builder = BUILDER_FACTORY.createObjectBuilder();
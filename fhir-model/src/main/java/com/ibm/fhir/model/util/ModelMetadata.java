@@ -0,0 +1,8205 @@
+/*
+ * (C) Copyright IBM Corp. 2019, 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.util;
+
+import static com.ibm.fhir.model.util.ModelSupport.MetadataRegistry.BINDING;
+import static com.ibm.fhir.model.util.ModelSupport.MetadataRegistry.REPEATING;
+import static com.ibm.fhir.model.util.ModelSupport.MetadataRegistry.REQUIRED;
+import static com.ibm.fhir.model.util.ModelSupport.MetadataRegistry.SUMMARY;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+
+import javax.annotation.Generated;
+
+import com.ibm.fhir.model.resource.*;
+import com.ibm.fhir.model.type.*;
+import com.ibm.fhir.model.type.Boolean;
+import com.ibm.fhir.model.type.Integer;
+import com.ibm.fhir.model.type.String;
+import com.ibm.fhir.model.type.code.*;
+
+/**
+ * The elements declared by each model class, in declaration order.
+ */
+@Generated("com.ibm.fhir.tools.CodeGenerator")
+final class ModelMetadata {
+    private ModelMetadata() {
+    }
+
+    /**
+     * Passes the elements declared by each model class to the registry.
+     */
+    static void register(ModelSupport.MetadataRegistry registry) {
+        account(registry);
+        accountCoverage(registry);
+        accountGuarantor(registry);
+        activityDefinition(registry);
+        activityDefinitionDynamicValue(registry);
+        activityDefinitionParticipant(registry);
+        adverseEvent(registry);
+        adverseEventSuspectEntity(registry);
+        adverseEventSuspectEntityCausality(registry);
+        allergyIntolerance(registry);
+        allergyIntoleranceReaction(registry);
+        appointment(registry);
+        appointmentParticipant(registry);
+        appointmentResponse(registry);
+        auditEvent(registry);
+        auditEventAgent(registry);
+        auditEventAgentNetwork(registry);
+        auditEventEntity(registry);
+        auditEventEntityDetail(registry);
+        auditEventSource(registry);
+        basic(registry);
+        binary(registry);
+        biologicallyDerivedProduct(registry);
+        biologicallyDerivedProductCollection(registry);
+        biologicallyDerivedProductManipulation(registry);
+        biologicallyDerivedProductProcessing(registry);
+        biologicallyDerivedProductStorage(registry);
+        bodyStructure(registry);
+        bundle(registry);
+        bundleEntry(registry);
+        bundleEntryRequest(registry);
+        bundleEntryResponse(registry);
+        bundleEntrySearch(registry);
+        bundleLink(registry);
+        capabilityStatement(registry);
+        capabilityStatementDocument(registry);
+        capabilityStatementImplementation(registry);
+        capabilityStatementMessaging(registry);
+        capabilityStatementMessagingEndpoint(registry);
+        capabilityStatementMessagingSupportedMessage(registry);
+        capabilityStatementRest(registry);
+        capabilityStatementRestInteraction(registry);
+        capabilityStatementRestResource(registry);
+        capabilityStatementRestResourceInteraction(registry);
+        capabilityStatementRestResourceOperation(registry);
+        capabilityStatementRestResourceSearchParam(registry);
+        capabilityStatementRestSecurity(registry);
+        capabilityStatementSoftware(registry);
+        carePlan(registry);
+        carePlanActivity(registry);
+        carePlanActivityDetail(registry);
+        careTeam(registry);
+        careTeamParticipant(registry);
+        catalogEntry(registry);
+        catalogEntryRelatedEntry(registry);
+        chargeItem(registry);
+        chargeItemPerformer(registry);
+        chargeItemDefinition(registry);
+        chargeItemDefinitionApplicability(registry);
+        chargeItemDefinitionPropertyGroup(registry);
+        chargeItemDefinitionPropertyGroupPriceComponent(registry);
+        claim(registry);
+        claimAccident(registry);
+        claimCareTeam(registry);
+        claimDiagnosis(registry);
+        claimInsurance(registry);
+        claimItem(registry);
+        claimItemDetail(registry);
+        claimItemDetailSubDetail(registry);
+        claimPayee(registry);
+        claimProcedure(registry);
+        claimRelated(registry);
+        claimSupportingInfo(registry);
+        claimResponse(registry);
+        claimResponseAddItem(registry);
+        claimResponseAddItemDetail(registry);
+        claimResponseAddItemDetailSubDetail(registry);
+        claimResponseError(registry);
+        claimResponseInsurance(registry);
+        claimResponseItem(registry);
+        claimResponseItemAdjudication(registry);
+        claimResponseItemDetail(registry);
+        claimResponseItemDetailSubDetail(registry);
+        claimResponsePayment(registry);
+        claimResponseProcessNote(registry);
+        claimResponseTotal(registry);
+        clinicalImpression(registry);
+        clinicalImpressionFinding(registry);
+        clinicalImpressionInvestigation(registry);
+        codeSystem(registry);
+        codeSystemConcept(registry);
+        codeSystemConceptDesignation(registry);
+        codeSystemConceptProperty(registry);
+        codeSystemFilter(registry);
+        codeSystemProperty(registry);
+        communication(registry);
+        communicationPayload(registry);
+        communicationRequest(registry);
+        communicationRequestPayload(registry);
+        compartmentDefinition(registry);
+        compartmentDefinitionResource(registry);
+        composition(registry);
+        compositionAttester(registry);
+        compositionEvent(registry);
+        compositionRelatesTo(registry);
+        compositionSection(registry);
+        conceptMap(registry);
+        conceptMapGroup(registry);
+        conceptMapGroupElement(registry);
+        conceptMapGroupElementTarget(registry);
+        conceptMapGroupElementTargetDependsOn(registry);
+        conceptMapGroupUnmapped(registry);
+        condition(registry);
+        conditionEvidence(registry);
+        conditionStage(registry);
+        consent(registry);
+        consentPolicy(registry);
+        consentProvision(registry);
+        consentProvisionActor(registry);
+        consentProvisionData(registry);
+        consentVerification(registry);
+        contract(registry);
+        contractContentDefinition(registry);
+        contractFriendly(registry);
+        contractLegal(registry);
+        contractRule(registry);
+        contractSigner(registry);
+        contractTerm(registry);
+        contractTermAction(registry);
+        contractTermActionSubject(registry);
+        contractTermAsset(registry);
+        contractTermAssetContext(registry);
+        contractTermAssetValuedItem(registry);
+        contractTermOffer(registry);
+        contractTermOfferAnswer(registry);
+        contractTermOfferParty(registry);
+        contractTermSecurityLabel(registry);
+        coverage(registry);
+        coverageClass(registry);
+        coverageCostToBeneficiary(registry);
+        coverageCostToBeneficiaryException(registry);
+        coverageEligibilityRequest(registry);
+        coverageEligibilityRequestInsurance(registry);
+        coverageEligibilityRequestItem(registry);
+        coverageEligibilityRequestItemDiagnosis(registry);
+        coverageEligibilityRequestSupportingInfo(registry);
+        coverageEligibilityResponse(registry);
+        coverageEligibilityResponseError(registry);
+        coverageEligibilityResponseInsurance(registry);
+        coverageEligibilityResponseInsuranceItem(registry);
+        coverageEligibilityResponseInsuranceItemBenefit(registry);
+        detectedIssue(registry);
+        detectedIssueEvidence(registry);
+        detectedIssueMitigation(registry);
+        device(registry);
+        deviceDeviceName(registry);
+        deviceProperty(registry);
+        deviceSpecialization(registry);
+        deviceUdiCarrier(registry);
+        deviceVersion(registry);
+        deviceDefinition(registry);
+        deviceDefinitionCapability(registry);
+        deviceDefinitionDeviceName(registry);
+        deviceDefinitionMaterial(registry);
+        deviceDefinitionProperty(registry);
+        deviceDefinitionSpecialization(registry);
+        deviceDefinitionUdiDeviceIdentifier(registry);
+        deviceMetric(registry);
+        deviceMetricCalibration(registry);
+        deviceRequest(registry);
+        deviceRequestParameter(registry);
+        deviceUseStatement(registry);
+        diagnosticReport(registry);
+        diagnosticReportMedia(registry);
+        documentManifest(registry);
+        documentManifestRelated(registry);
+        documentReference(registry);
+        documentReferenceContent(registry);
+        documentReferenceContext(registry);
+        documentReferenceRelatesTo(registry);
+        domainResource(registry);
+        effectEvidenceSynthesis(registry);
+        effectEvidenceSynthesisCertainty(registry);
+        effectEvidenceSynthesisCertaintyCertaintySubcomponent(registry);
+        effectEvidenceSynthesisEffectEstimate(registry);
+        effectEvidenceSynthesisEffectEstimatePrecisionEstimate(registry);
+        effectEvidenceSynthesisResultsByExposure(registry);
+        effectEvidenceSynthesisSampleSize(registry);
+        encounter(registry);
+        encounterClassHistory(registry);
+        encounterDiagnosis(registry);
+        encounterHospitalization(registry);
+        encounterLocation(registry);
+        encounterParticipant(registry);
+        encounterStatusHistory(registry);
+        endpoint(registry);
+        enrollmentRequest(registry);
+        enrollmentResponse(registry);
+        episodeOfCare(registry);
+        episodeOfCareDiagnosis(registry);
+        episodeOfCareStatusHistory(registry);
+        eventDefinition(registry);
+        evidence(registry);
+        evidenceVariable(registry);
+        evidenceVariableCharacteristic(registry);
+        exampleScenario(registry);
+        exampleScenarioActor(registry);
+        exampleScenarioInstance(registry);
+        exampleScenarioInstanceContainedInstance(registry);
+        exampleScenarioInstanceVersion(registry);
+        exampleScenarioProcess(registry);
+        exampleScenarioProcessStep(registry);
+        exampleScenarioProcessStepAlternative(registry);
+        exampleScenarioProcessStepOperation(registry);
+        explanationOfBenefit(registry);
+        explanationOfBenefitAccident(registry);
+        explanationOfBenefitAddItem(registry);
+        explanationOfBenefitAddItemDetail(registry);
+        explanationOfBenefitAddItemDetailSubDetail(registry);
+        explanationOfBenefitBenefitBalance(registry);
+        explanationOfBenefitBenefitBalanceFinancial(registry);
+        explanationOfBenefitCareTeam(registry);
+        explanationOfBenefitDiagnosis(registry);
+        explanationOfBenefitInsurance(registry);
+        explanationOfBenefitItem(registry);
+        explanationOfBenefitItemAdjudication(registry);
+        explanationOfBenefitItemDetail(registry);
+        explanationOfBenefitItemDetailSubDetail(registry);
+        explanationOfBenefitPayee(registry);
+        explanationOfBenefitPayment(registry);
+        explanationOfBenefitProcedure(registry);
+        explanationOfBenefitProcessNote(registry);
+        explanationOfBenefitRelated(registry);
+        explanationOfBenefitSupportingInfo(registry);
+        explanationOfBenefitTotal(registry);
+        familyMemberHistory(registry);
+        familyMemberHistoryCondition(registry);
+        flag(registry);
+        goal(registry);
+        goalTarget(registry);
+        graphDefinition(registry);
+        graphDefinitionLink(registry);
+        graphDefinitionLinkTarget(registry);
+        graphDefinitionLinkTargetCompartment(registry);
+        group(registry);
+        groupCharacteristic(registry);
+        groupMember(registry);
+        guidanceResponse(registry);
+        healthcareService(registry);
+        healthcareServiceAvailableTime(registry);
+        healthcareServiceEligibility(registry);
+        healthcareServiceNotAvailable(registry);
+        imagingStudy(registry);
+        imagingStudySeries(registry);
+        imagingStudySeriesInstance(registry);
+        imagingStudySeriesPerformer(registry);
+        immunization(registry);
+        immunizationEducation(registry);
+        immunizationPerformer(registry);
+        immunizationProtocolApplied(registry);
+        immunizationReaction(registry);
+        immunizationEvaluation(registry);
+        immunizationRecommendation(registry);
+        immunizationRecommendationRecommendation(registry);
+        immunizationRecommendationRecommendationDateCriterion(registry);
+        implementationGuide(registry);
+        implementationGuideDefinition(registry);
+        implementationGuideDefinitionGrouping(registry);
+        implementationGuideDefinitionPage(registry);
+        implementationGuideDefinitionParameter(registry);
+        implementationGuideDefinitionResource(registry);
+        implementationGuideDefinitionTemplate(registry);
+        implementationGuideDependsOn(registry);
+        implementationGuideGlobal(registry);
+        implementationGuideManifest(registry);
+        implementationGuideManifestPage(registry);
+        implementationGuideManifestResource(registry);
+        insurancePlan(registry);
+        insurancePlanContact(registry);
+        insurancePlanCoverage(registry);
+        insurancePlanCoverageBenefit(registry);
+        insurancePlanCoverageBenefitLimit(registry);
+        insurancePlanPlan(registry);
+        insurancePlanPlanGeneralCost(registry);
+        insurancePlanPlanSpecificCost(registry);
+        insurancePlanPlanSpecificCostBenefit(registry);
+        insurancePlanPlanSpecificCostBenefitCost(registry);
+        invoice(registry);
+        invoiceLineItem(registry);
+        invoiceLineItemPriceComponent(registry);
+        invoiceParticipant(registry);
+        library(registry);
+        linkage(registry);
+        linkageItem(registry);
+        list(registry);
+        listEntry(registry);
+        location(registry);
+        locationHoursOfOperation(registry);
+        locationPosition(registry);
+        measure(registry);
+        measureGroup(registry);
+        measureGroupPopulation(registry);
+        measureGroupStratifier(registry);
+        measureGroupStratifierComponent(registry);
+        measureSupplementalData(registry);
+        measureReport(registry);
+        measureReportGroup(registry);
+        measureReportGroupPopulation(registry);
+        measureReportGroupStratifier(registry);
+        measureReportGroupStratifierStratum(registry);
+        measureReportGroupStratifierStratumComponent(registry);
+        measureReportGroupStratifierStratumPopulation(registry);
+        media(registry);
+        medication(registry);
+        medicationBatch(registry);
+        medicationIngredient(registry);
+        medicationAdministration(registry);
+        medicationAdministrationDosage(registry);
+        medicationAdministrationPerformer(registry);
+        medicationDispense(registry);
+        medicationDispensePerformer(registry);
+        medicationDispenseSubstitution(registry);
+        medicationKnowledge(registry);
+        medicationKnowledgeAdministrationGuidelines(registry);
+        medicationKnowledgeAdministrationGuidelinesDosage(registry);
+        medicationKnowledgeAdministrationGuidelinesPatientCharacteristics(registry);
+        medicationKnowledgeCost(registry);
+        medicationKnowledgeDrugCharacteristic(registry);
+        medicationKnowledgeIngredient(registry);
+        medicationKnowledgeKinetics(registry);
+        medicationKnowledgeMedicineClassification(registry);
+        medicationKnowledgeMonitoringProgram(registry);
+        medicationKnowledgeMonograph(registry);
+        medicationKnowledgePackaging(registry);
+        medicationKnowledgeRegulatory(registry);
+        medicationKnowledgeRegulatoryMaxDispense(registry);
+        medicationKnowledgeRegulatorySchedule(registry);
+        medicationKnowledgeRegulatorySubstitution(registry);
+        medicationKnowledgeRelatedMedicationKnowledge(registry);
+        medicationRequest(registry);
+        medicationRequestDispenseRequest(registry);
+        medicationRequestDispenseRequestInitialFill(registry);
+        medicationRequestSubstitution(registry);
+        medicationStatement(registry);
+        medicinalProduct(registry);
+        medicinalProductManufacturingBusinessOperation(registry);
+        medicinalProductName(registry);
+        medicinalProductNameCountryLanguage(registry);
+        medicinalProductNameNamePart(registry);
+        medicinalProductSpecialDesignation(registry);
+        medicinalProductAuthorization(registry);
+        medicinalProductAuthorizationJurisdictionalAuthorization(registry);
+        medicinalProductAuthorizationProcedure(registry);
+        medicinalProductContraindication(registry);
+        medicinalProductContraindicationOtherTherapy(registry);
+        medicinalProductIndication(registry);
+        medicinalProductIndicationOtherTherapy(registry);
+        medicinalProductIngredient(registry);
+        medicinalProductIngredientSpecifiedSubstance(registry);
+        medicinalProductIngredientSpecifiedSubstanceStrength(registry);
+        medicinalProductIngredientSpecifiedSubstanceStrengthReferenceStrength(registry);
+        medicinalProductIngredientSubstance(registry);
+        medicinalProductInteraction(registry);
+        medicinalProductInteractionInteractant(registry);
+        medicinalProductManufactured(registry);
+        medicinalProductPackaged(registry);
+        medicinalProductPackagedBatchIdentifier(registry);
+        medicinalProductPackagedPackageItem(registry);
+        medicinalProductPharmaceutical(registry);
+        medicinalProductPharmaceuticalCharacteristics(registry);
+        medicinalProductPharmaceuticalRouteOfAdministration(registry);
+        medicinalProductPharmaceuticalRouteOfAdministrationTargetSpecies(registry);
+        medicinalProductPharmaceuticalRouteOfAdministrationTargetSpeciesWithdrawalPeriod(registry);
+        medicinalProductUndesirableEffect(registry);
+        messageDefinition(registry);
+        messageDefinitionAllowedResponse(registry);
+        messageDefinitionFocus(registry);
+        messageHeader(registry);
+        messageHeaderDestination(registry);
+        messageHeaderResponse(registry);
+        messageHeaderSource(registry);
+        molecularSequence(registry);
+        molecularSequenceQuality(registry);
+        molecularSequenceQualityRoc(registry);
+        molecularSequenceReferenceSeq(registry);
+        molecularSequenceRepository(registry);
+        molecularSequenceStructureVariant(registry);
+        molecularSequenceStructureVariantInner(registry);
+        molecularSequenceStructureVariantOuter(registry);
+        molecularSequenceVariant(registry);
+        namingSystem(registry);
+        namingSystemUniqueId(registry);
+        nutritionOrder(registry);
+        nutritionOrderEnteralFormula(registry);
+        nutritionOrderEnteralFormulaAdministration(registry);
+        nutritionOrderOralDiet(registry);
+        nutritionOrderOralDietNutrient(registry);
+        nutritionOrderOralDietTexture(registry);
+        nutritionOrderSupplement(registry);
+        observation(registry);
+        observationComponent(registry);
+        observationReferenceRange(registry);
+        observationDefinition(registry);
+        observationDefinitionQualifiedInterval(registry);
+        observationDefinitionQuantitativeDetails(registry);
+        operationDefinition(registry);
+        operationDefinitionOverload(registry);
+        operationDefinitionParameter(registry);
+        operationDefinitionParameterBinding(registry);
+        operationDefinitionParameterReferencedFrom(registry);
+        operationOutcome(registry);
+        operationOutcomeIssue(registry);
+        organization(registry);
+        organizationContact(registry);
+        organizationAffiliation(registry);
+        parameters(registry);
+        parametersParameter(registry);
+        patient(registry);
+        patientCommunication(registry);
+        patientContact(registry);
+        patientLink(registry);
+        paymentNotice(registry);
+        paymentReconciliation(registry);
+        paymentReconciliationDetail(registry);
+        paymentReconciliationProcessNote(registry);
+        person(registry);
+        personLink(registry);
+        planDefinition(registry);
+        planDefinitionAction(registry);
+        planDefinitionActionCondition(registry);
+        planDefinitionActionDynamicValue(registry);
+        planDefinitionActionParticipant(registry);
+        planDefinitionActionRelatedAction(registry);
+        planDefinitionGoal(registry);
+        planDefinitionGoalTarget(registry);
+        practitioner(registry);
+        practitionerQualification(registry);
+        practitionerRole(registry);
+        practitionerRoleAvailableTime(registry);
+        practitionerRoleNotAvailable(registry);
+        procedure(registry);
+        procedureFocalDevice(registry);
+        procedurePerformer(registry);
+        provenance(registry);
+        provenanceAgent(registry);
+        provenanceEntity(registry);
+        questionnaire(registry);
+        questionnaireItem(registry);
+        questionnaireItemAnswerOption(registry);
+        questionnaireItemEnableWhen(registry);
+        questionnaireItemInitial(registry);
+        questionnaireResponse(registry);
+        questionnaireResponseItem(registry);
+        questionnaireResponseItemAnswer(registry);
+        relatedPerson(registry);
+        relatedPersonCommunication(registry);
+        requestGroup(registry);
+        requestGroupAction(registry);
+        requestGroupActionCondition(registry);
+        requestGroupActionRelatedAction(registry);
+        researchDefinition(registry);
+        researchElementDefinition(registry);
+        researchElementDefinitionCharacteristic(registry);
+        researchStudy(registry);
+        researchStudyArm(registry);
+        researchStudyObjective(registry);
+        researchSubject(registry);
+        resource(registry);
+        riskAssessment(registry);
+        riskAssessmentPrediction(registry);
+        riskEvidenceSynthesis(registry);
+        riskEvidenceSynthesisCertainty(registry);
+        riskEvidenceSynthesisCertaintyCertaintySubcomponent(registry);
+        riskEvidenceSynthesisRiskEstimate(registry);
+        riskEvidenceSynthesisRiskEstimatePrecisionEstimate(registry);
+        riskEvidenceSynthesisSampleSize(registry);
+        schedule(registry);
+        searchParameter(registry);
+        searchParameterComponent(registry);
+        serviceRequest(registry);
+        slot(registry);
+        specimen(registry);
+        specimenCollection(registry);
+        specimenContainer(registry);
+        specimenProcessing(registry);
+        specimenDefinition(registry);
+        specimenDefinitionTypeTested(registry);
+        specimenDefinitionTypeTestedContainer(registry);
+        specimenDefinitionTypeTestedContainerAdditive(registry);
+        specimenDefinitionTypeTestedHandling(registry);
+        structureDefinition(registry);
+        structureDefinitionContext(registry);
+        structureDefinitionDifferential(registry);
+        structureDefinitionMapping(registry);
+        structureDefinitionSnapshot(registry);
+        structureMap(registry);
+        structureMapGroup(registry);
+        structureMapGroupInput(registry);
+        structureMapGroupRule(registry);
+        structureMapGroupRuleDependent(registry);
+        structureMapGroupRuleSource(registry);
+        structureMapGroupRuleTarget(registry);
+        structureMapGroupRuleTargetParameter(registry);
+        structureMapStructure(registry);
+        subscription(registry);
+        subscriptionChannel(registry);
+        substance(registry);
+        substanceIngredient(registry);
+        substanceInstance(registry);
+        substanceNucleicAcid(registry);
+        substanceNucleicAcidSubunit(registry);
+        substanceNucleicAcidSubunitLinkage(registry);
+        substanceNucleicAcidSubunitSugar(registry);
+        substancePolymer(registry);
+        substancePolymerMonomerSet(registry);
+        substancePolymerMonomerSetStartingMaterial(registry);
+        substancePolymerRepeat(registry);
+        substancePolymerRepeatRepeatUnit(registry);
+        substancePolymerRepeatRepeatUnitDegreeOfPolymerisation(registry);
+        substancePolymerRepeatRepeatUnitStructuralRepresentation(registry);
+        substanceProtein(registry);
+        substanceProteinSubunit(registry);
+        substanceReferenceInformation(registry);
+        substanceReferenceInformationClassification(registry);
+        substanceReferenceInformationGene(registry);
+        substanceReferenceInformationGeneElement(registry);
+        substanceReferenceInformationTarget(registry);
+        substanceSourceMaterial(registry);
+        substanceSourceMaterialFractionDescription(registry);
+        substanceSourceMaterialOrganism(registry);
+        substanceSourceMaterialOrganismAuthor(registry);
+        substanceSourceMaterialOrganismHybrid(registry);
+        substanceSourceMaterialOrganismOrganismGeneral(registry);
+        substanceSourceMaterialPartDescription(registry);
+        substanceSpecification(registry);
+        substanceSpecificationCode(registry);
+        substanceSpecificationMoiety(registry);
+        substanceSpecificationName(registry);
+        substanceSpecificationNameOfficial(registry);
+        substanceSpecificationProperty(registry);
+        substanceSpecificationRelationship(registry);
+        substanceSpecificationStructure(registry);
+        substanceSpecificationStructureIsotope(registry);
+        substanceSpecificationStructureIsotopeMolecularWeight(registry);
+        substanceSpecificationStructureRepresentation(registry);
+        supplyDelivery(registry);
+        supplyDeliverySuppliedItem(registry);
+        supplyRequest(registry);
+        supplyRequestParameter(registry);
+        task(registry);
+        taskInput(registry);
+        taskOutput(registry);
+        taskRestriction(registry);
+        terminologyCapabilities(registry);
+        terminologyCapabilitiesClosure(registry);
+        terminologyCapabilitiesCodeSystem(registry);
+        terminologyCapabilitiesCodeSystemVersion(registry);
+        terminologyCapabilitiesCodeSystemVersionFilter(registry);
+        terminologyCapabilitiesExpansion(registry);
+        terminologyCapabilitiesExpansionParameter(registry);
+        terminologyCapabilitiesImplementation(registry);
+        terminologyCapabilitiesSoftware(registry);
+        terminologyCapabilitiesTranslation(registry);
+        terminologyCapabilitiesValidateCode(registry);
+        testReport(registry);
+        testReportParticipant(registry);
+        testReportSetup(registry);
+        testReportSetupAction(registry);
+        testReportSetupActionAssert(registry);
+        testReportSetupActionOperation(registry);
+        testReportTeardown(registry);
+        testReportTeardownAction(registry);
+        testReportTest(registry);
+        testReportTestAction(registry);
+        testScript(registry);
+        testScriptDestination(registry);
+        testScriptFixture(registry);
+        testScriptMetadata(registry);
+        testScriptMetadataCapability(registry);
+        testScriptMetadataLink(registry);
+        testScriptOrigin(registry);
+        testScriptSetup(registry);
+        testScriptSetupAction(registry);
+        testScriptSetupActionAssert(registry);
+        testScriptSetupActionOperation(registry);
+        testScriptSetupActionOperationRequestHeader(registry);
+        testScriptTeardown(registry);
+        testScriptTeardownAction(registry);
+        testScriptTest(registry);
+        testScriptTestAction(registry);
+        testScriptVariable(registry);
+        valueSet(registry);
+        valueSetCompose(registry);
+        valueSetComposeInclude(registry);
+        valueSetComposeIncludeConcept(registry);
+        valueSetComposeIncludeConceptDesignation(registry);
+        valueSetComposeIncludeFilter(registry);
+        valueSetExpansion(registry);
+        valueSetExpansionContains(registry);
+        valueSetExpansionParameter(registry);
+        verificationResult(registry);
+        verificationResultAttestation(registry);
+        verificationResultPrimarySource(registry);
+        verificationResultValidator(registry);
+        visionPrescription(registry);
+        visionPrescriptionLensSpecification(registry);
+        visionPrescriptionLensSpecificationPrism(registry);
+        address(registry);
+        age(registry);
+        annotation(registry);
+        attachment(registry);
+        backboneElement(registry);
+        base64Binary(registry);
+        _boolean(registry);
+        canonical(registry);
+        code(registry);
+        codeableConcept(registry);
+        coding(registry);
+        contactDetail(registry);
+        contactPoint(registry);
+        contributor(registry);
+        count(registry);
+        dataRequirement(registry);
+        dataRequirementCodeFilter(registry);
+        dataRequirementDateFilter(registry);
+        dataRequirementSort(registry);
+        date(registry);
+        dateTime(registry);
+        decimal(registry);
+        distance(registry);
+        dosage(registry);
+        dosageDoseAndRate(registry);
+        duration(registry);
+        element(registry);
+        elementDefinition(registry);
+        elementDefinitionBase(registry);
+        elementDefinitionBinding(registry);
+        elementDefinitionConstraint(registry);
+        elementDefinitionExample(registry);
+        elementDefinitionMapping(registry);
+        elementDefinitionSlicing(registry);
+        elementDefinitionSlicingDiscriminator(registry);
+        elementDefinitionType(registry);
+        expression(registry);
+        extension(registry);
+        humanName(registry);
+        id(registry);
+        identifier(registry);
+        instant(registry);
+        integer(registry);
+        markdown(registry);
+        marketingStatus(registry);
+        meta(registry);
+        money(registry);
+        moneyQuantity(registry);
+        narrative(registry);
+        oid(registry);
+        parameterDefinition(registry);
+        period(registry);
+        population(registry);
+        positiveInt(registry);
+        prodCharacteristic(registry);
+        productShelfLife(registry);
+        quantity(registry);
+        range(registry);
+        ratio(registry);
+        reference(registry);
+        relatedArtifact(registry);
+        sampledData(registry);
+        signature(registry);
+        simpleQuantity(registry);
+        string(registry);
+        substanceAmount(registry);
+        substanceAmountReferenceRange(registry);
+        time(registry);
+        timing(registry);
+        timingRepeat(registry);
+        triggerDefinition(registry);
+        unsignedInt(registry);
+        uri(registry);
+        url(registry);
+        usageContext(registry);
+        uuid(registry);
+        xhtml(registry);
+    }
+
+    private static void account(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Account.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", AccountStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("servicePeriod", Period.class, SUMMARY);
+        registry.element("coverage", Account.Coverage.class, SUMMARY | REPEATING);
+        registry.referenceElement("owner", SUMMARY, "Organization");
+        registry.element("description", String.class, SUMMARY);
+        registry.element("guarantor", Account.Guarantor.class, REPEATING);
+        registry.referenceElement("partOf", 0, "Account");
+    }
+
+    private static void accountCoverage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Account.Coverage.class);
+        registry.referenceElement("coverage", SUMMARY | REQUIRED, "Coverage");
+        registry.element("priority", PositiveInt.class, SUMMARY);
+    }
+
+    private static void accountGuarantor(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Account.Guarantor.class);
+        registry.referenceElement("party", REQUIRED, "Patient", "RelatedPerson", "Organization");
+        registry.element("onHold", Boolean.class, 0);
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void activityDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ActivityDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("library", Canonical.class, REPEATING);
+        registry.element("kind", ActivityDefinitionKind.class, SUMMARY | BINDING);
+        registry.element("profile", Canonical.class, 0);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("intent", RequestIntent.class, BINDING);
+        registry.element("priority", RequestPriority.class, BINDING);
+        registry.element("doNotPerform", Boolean.class, SUMMARY);
+        registry.choiceElement("timing", 0, Timing.class, DateTime.class, Age.class, Period.class, Range.class, Duration.class);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("participant", ActivityDefinition.Participant.class, REPEATING);
+        registry.choiceElement("product", BINDING, Reference.class, CodeableConcept.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("dosage", Dosage.class, REPEATING);
+        registry.element("bodySite", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("specimenRequirement", Reference.class, REPEATING);
+        registry.element("observationRequirement", Reference.class, REPEATING);
+        registry.element("observationResultRequirement", Reference.class, REPEATING);
+        registry.element("transform", Canonical.class, 0);
+        registry.element("dynamicValue", ActivityDefinition.DynamicValue.class, REPEATING);
+    }
+
+    private static void activityDefinitionDynamicValue(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ActivityDefinition.DynamicValue.class);
+        registry.element("path", String.class, REQUIRED);
+        registry.element("expression", Expression.class, REQUIRED);
+    }
+
+    private static void activityDefinitionParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ActivityDefinition.Participant.class);
+        registry.element("type", ActivityParticipantType.class, BINDING | REQUIRED);
+        registry.element("role", CodeableConcept.class, BINDING);
+    }
+
+    private static void adverseEvent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AdverseEvent.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("actuality", AdverseEventActuality.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("event", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group", "Practitioner", "RelatedPerson");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("detected", DateTime.class, SUMMARY);
+        registry.element("recordedDate", DateTime.class, SUMMARY);
+        registry.element("resultingCondition", Reference.class, SUMMARY | REPEATING);
+        registry.referenceElement("location", SUMMARY, "Location");
+        registry.element("seriousness", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("severity", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("outcome", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("recorder", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("contributor", Reference.class, SUMMARY | REPEATING);
+        registry.element("suspectEntity", AdverseEvent.SuspectEntity.class, SUMMARY | REPEATING);
+        registry.element("subjectMedicalHistory", Reference.class, SUMMARY | REPEATING);
+        registry.element("referenceDocument", Reference.class, SUMMARY | REPEATING);
+        registry.element("study", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void adverseEventSuspectEntity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AdverseEvent.SuspectEntity.class);
+        registry.referenceElement("instance", SUMMARY | REQUIRED, "Immunization", "Procedure", "Substance", "Medication", "MedicationAdministration", "MedicationStatement", "Device");
+        registry.element("causality", AdverseEvent.SuspectEntity.Causality.class, SUMMARY | REPEATING);
+    }
+
+    private static void adverseEventSuspectEntityCausality(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AdverseEvent.SuspectEntity.Causality.class);
+        registry.element("assessment", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("productRelatedness", String.class, SUMMARY);
+        registry.referenceElement("author", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.element("method", CodeableConcept.class, SUMMARY | BINDING);
+    }
+
+    private static void allergyIntolerance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AllergyIntolerance.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("clinicalStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("verificationStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("type", AllergyIntoleranceType.class, SUMMARY | BINDING);
+        registry.element("category", AllergyIntoleranceCategory.class, SUMMARY | BINDING | REPEATING);
+        registry.element("criticality", AllergyIntoleranceCriticality.class, SUMMARY | BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.choiceElement("onset", 0, DateTime.class, Age.class, Period.class, Range.class, String.class);
+        registry.element("recordedDate", DateTime.class, 0);
+        registry.referenceElement("recorder", 0, "Practitioner", "PractitionerRole", "Patient", "RelatedPerson");
+        registry.referenceElement("asserter", SUMMARY, "Patient", "RelatedPerson", "Practitioner", "PractitionerRole");
+        registry.element("lastOccurrence", DateTime.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("reaction", AllergyIntolerance.Reaction.class, REPEATING);
+    }
+
+    private static void allergyIntoleranceReaction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AllergyIntolerance.Reaction.class);
+        registry.element("substance", CodeableConcept.class, BINDING);
+        registry.element("manifestation", CodeableConcept.class, BINDING | REQUIRED | REPEATING);
+        registry.element("description", String.class, 0);
+        registry.element("onset", DateTime.class, 0);
+        registry.element("severity", AllergyIntoleranceSeverity.class, BINDING);
+        registry.element("exposureRoute", CodeableConcept.class, BINDING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void appointment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Appointment.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", AppointmentStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("cancelationReason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("serviceCategory", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("serviceType", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("appointmentType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("priority", UnsignedInt.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("supportingInformation", Reference.class, REPEATING);
+        registry.element("start", Instant.class, SUMMARY);
+        registry.element("end", Instant.class, SUMMARY);
+        registry.element("minutesDuration", PositiveInt.class, 0);
+        registry.element("slot", Reference.class, REPEATING);
+        registry.element("created", DateTime.class, 0);
+        registry.element("comment", String.class, 0);
+        registry.element("patientInstruction", String.class, 0);
+        registry.element("basedOn", Reference.class, REPEATING);
+        registry.element("participant", Appointment.Participant.class, REQUIRED | REPEATING);
+        registry.element("requestedPeriod", Period.class, REPEATING);
+    }
+
+    private static void appointmentParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Appointment.Participant.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("actor", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson", "Device", "HealthcareService", "Location");
+        registry.element("required", ParticipantRequired.class, SUMMARY | BINDING);
+        registry.element("status", ParticipationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void appointmentResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AppointmentResponse.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.referenceElement("appointment", SUMMARY | REQUIRED, "Appointment");
+        registry.element("start", Instant.class, 0);
+        registry.element("end", Instant.class, 0);
+        registry.element("participantType", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("actor", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson", "Device", "HealthcareService", "Location");
+        registry.element("participantStatus", ParticipantStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void auditEvent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.class);
+        registry.element("type", Coding.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subtype", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("action", AuditEventAction.class, SUMMARY | BINDING);
+        registry.element("period", Period.class, 0);
+        registry.element("recorded", Instant.class, SUMMARY | REQUIRED);
+        registry.element("outcome", AuditEventOutcome.class, SUMMARY | BINDING);
+        registry.element("outcomeDesc", String.class, SUMMARY);
+        registry.element("purposeOfEvent", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("agent", AuditEvent.Agent.class, REQUIRED | REPEATING);
+        registry.element("source", AuditEvent.Source.class, REQUIRED);
+        registry.element("entity", AuditEvent.Entity.class, REPEATING);
+    }
+
+    private static void auditEventAgent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.Agent.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("role", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("who", SUMMARY, "PractitionerRole", "Practitioner", "Organization", "Device", "Patient", "RelatedPerson");
+        registry.element("altId", String.class, 0);
+        registry.element("name", String.class, 0);
+        registry.element("requestor", Boolean.class, SUMMARY | REQUIRED);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("policy", Uri.class, REPEATING);
+        registry.element("media", Coding.class, BINDING);
+        registry.element("network", AuditEvent.Agent.Network.class, 0);
+        registry.element("purposeOfUse", CodeableConcept.class, BINDING | REPEATING);
+    }
+
+    private static void auditEventAgentNetwork(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.Agent.Network.class);
+        registry.element("address", String.class, 0);
+        registry.element("type", AuditEventAgentNetworkType.class, BINDING);
+    }
+
+    private static void auditEventEntity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.Entity.class);
+        registry.element("what", Reference.class, SUMMARY);
+        registry.element("type", Coding.class, BINDING);
+        registry.element("role", Coding.class, BINDING);
+        registry.element("lifecycle", Coding.class, BINDING);
+        registry.element("securityLabel", Coding.class, BINDING | REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("description", String.class, 0);
+        registry.element("query", Base64Binary.class, SUMMARY);
+        registry.element("detail", AuditEvent.Entity.Detail.class, REPEATING);
+    }
+
+    private static void auditEventEntityDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.Entity.Detail.class);
+        registry.element("type", String.class, REQUIRED);
+        registry.choiceElement("value", REQUIRED, String.class, Base64Binary.class);
+    }
+
+    private static void auditEventSource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(AuditEvent.Source.class);
+        registry.element("site", String.class, 0);
+        registry.referenceElement("observer", SUMMARY | REQUIRED, "PractitionerRole", "Practitioner", "Organization", "Device", "Patient", "RelatedPerson");
+        registry.element("type", Coding.class, BINDING | REPEATING);
+    }
+
+    private static void basic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Basic.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subject", Reference.class, SUMMARY);
+        registry.element("created", Date.class, SUMMARY);
+        registry.referenceElement("author", SUMMARY, "Practitioner", "PractitionerRole", "Patient", "RelatedPerson", "Organization");
+    }
+
+    private static void binary(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Binary.class);
+        registry.element("contentType", Code.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("securityContext", Reference.class, SUMMARY);
+        registry.element("data", Base64Binary.class, 0);
+    }
+
+    private static void biologicallyDerivedProduct(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BiologicallyDerivedProduct.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("productCategory", BiologicallyDerivedProductCategory.class, BINDING);
+        registry.element("productCode", CodeableConcept.class, BINDING);
+        registry.element("status", BiologicallyDerivedProductStatus.class, BINDING);
+        registry.element("request", Reference.class, REPEATING);
+        registry.element("quantity", Integer.class, 0);
+        registry.element("parent", Reference.class, REPEATING);
+        registry.element("collection", BiologicallyDerivedProduct.Collection.class, 0);
+        registry.element("processing", BiologicallyDerivedProduct.Processing.class, REPEATING);
+        registry.element("manipulation", BiologicallyDerivedProduct.Manipulation.class, 0);
+        registry.element("storage", BiologicallyDerivedProduct.Storage.class, REPEATING);
+    }
+
+    private static void biologicallyDerivedProductCollection(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BiologicallyDerivedProduct.Collection.class);
+        registry.referenceElement("collector", 0, "Practitioner", "PractitionerRole");
+        registry.referenceElement("source", 0, "Patient", "Organization");
+        registry.choiceElement("collected", 0, DateTime.class, Period.class);
+    }
+
+    private static void biologicallyDerivedProductManipulation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BiologicallyDerivedProduct.Manipulation.class);
+        registry.element("description", String.class, 0);
+        registry.choiceElement("time", 0, DateTime.class, Period.class);
+    }
+
+    private static void biologicallyDerivedProductProcessing(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BiologicallyDerivedProduct.Processing.class);
+        registry.element("description", String.class, 0);
+        registry.element("procedure", CodeableConcept.class, BINDING);
+        registry.referenceElement("additive", 0, "Substance");
+        registry.choiceElement("time", 0, DateTime.class, Period.class);
+    }
+
+    private static void biologicallyDerivedProductStorage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BiologicallyDerivedProduct.Storage.class);
+        registry.element("description", String.class, 0);
+        registry.element("temperature", Decimal.class, 0);
+        registry.element("scale", BiologicallyDerivedProductStorageScale.class, BINDING);
+        registry.element("duration", Period.class, 0);
+    }
+
+    private static void bodyStructure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BodyStructure.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("morphology", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("location", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("locationQualifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("image", Attachment.class, REPEATING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+    }
+
+    private static void bundle(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("type", BundleType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("timestamp", Instant.class, SUMMARY);
+        registry.element("total", UnsignedInt.class, SUMMARY);
+        registry.element("link", Bundle.Link.class, SUMMARY | REPEATING);
+        registry.element("entry", Bundle.Entry.class, SUMMARY | REPEATING);
+        registry.element("signature", Signature.class, SUMMARY);
+    }
+
+    private static void bundleEntry(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.Entry.class);
+        registry.element("link", Bundle.Link.class, SUMMARY | REPEATING);
+        registry.element("fullUrl", Uri.class, SUMMARY);
+        registry.element("resource", Resource.class, SUMMARY);
+        registry.element("search", Bundle.Entry.Search.class, SUMMARY);
+        registry.element("request", Bundle.Entry.Request.class, SUMMARY);
+        registry.element("response", Bundle.Entry.Response.class, SUMMARY);
+    }
+
+    private static void bundleEntryRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.Entry.Request.class);
+        registry.element("method", HTTPVerb.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("ifNoneMatch", String.class, SUMMARY);
+        registry.element("ifModifiedSince", Instant.class, SUMMARY);
+        registry.element("ifMatch", String.class, SUMMARY);
+        registry.element("ifNoneExist", String.class, SUMMARY);
+    }
+
+    private static void bundleEntryResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.Entry.Response.class);
+        registry.element("status", String.class, SUMMARY | REQUIRED);
+        registry.element("location", Uri.class, SUMMARY);
+        registry.element("etag", String.class, SUMMARY);
+        registry.element("lastModified", Instant.class, SUMMARY);
+        registry.element("outcome", Resource.class, SUMMARY);
+    }
+
+    private static void bundleEntrySearch(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.Entry.Search.class);
+        registry.element("mode", SearchEntryMode.class, SUMMARY | BINDING);
+        registry.element("score", Decimal.class, SUMMARY);
+    }
+
+    private static void bundleLink(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Bundle.Link.class);
+        registry.element("relation", String.class, SUMMARY | REQUIRED);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+    }
+
+    private static void capabilityStatement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("kind", CapabilityStatementKind.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("instantiates", Canonical.class, SUMMARY | REPEATING);
+        registry.element("imports", Canonical.class, SUMMARY | REPEATING);
+        registry.element("software", CapabilityStatement.Software.class, SUMMARY);
+        registry.element("implementation", CapabilityStatement.Implementation.class, SUMMARY);
+        registry.element("fhirVersion", FHIRVersion.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("format", Code.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("patchFormat", Code.class, SUMMARY | BINDING | REPEATING);
+        registry.element("implementationGuide", Canonical.class, SUMMARY | REPEATING);
+        registry.element("rest", CapabilityStatement.Rest.class, SUMMARY | REPEATING);
+        registry.element("messaging", CapabilityStatement.Messaging.class, SUMMARY | REPEATING);
+        registry.element("document", CapabilityStatement.Document.class, SUMMARY | REPEATING);
+    }
+
+    private static void capabilityStatementDocument(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Document.class);
+        registry.element("mode", DocumentMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+        registry.element("profile", Canonical.class, SUMMARY | REQUIRED);
+    }
+
+    private static void capabilityStatementImplementation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Implementation.class);
+        registry.element("description", String.class, SUMMARY | REQUIRED);
+        registry.element("url", Url.class, SUMMARY);
+        registry.referenceElement("custodian", SUMMARY, "Organization");
+    }
+
+    private static void capabilityStatementMessaging(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Messaging.class);
+        registry.element("endpoint", CapabilityStatement.Messaging.Endpoint.class, REPEATING);
+        registry.element("reliableCache", UnsignedInt.class, 0);
+        registry.element("documentation", Markdown.class, 0);
+        registry.element("supportedMessage", CapabilityStatement.Messaging.SupportedMessage.class, SUMMARY | REPEATING);
+    }
+
+    private static void capabilityStatementMessagingEndpoint(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Messaging.Endpoint.class);
+        registry.element("protocol", Coding.class, BINDING | REQUIRED);
+        registry.element("address", Url.class, REQUIRED);
+    }
+
+    private static void capabilityStatementMessagingSupportedMessage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Messaging.SupportedMessage.class);
+        registry.element("mode", EventCapabilityMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("definition", Canonical.class, SUMMARY | REQUIRED);
+    }
+
+    private static void capabilityStatementRest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.class);
+        registry.element("mode", RestfulCapabilityMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+        registry.element("security", CapabilityStatement.Rest.Security.class, SUMMARY);
+        registry.element("resource", CapabilityStatement.Rest.Resource.class, SUMMARY | REPEATING);
+        registry.element("interaction", CapabilityStatement.Rest.Interaction.class, REPEATING);
+        registry.element("searchParam", CapabilityStatement.Rest.Resource.SearchParam.class, REPEATING);
+        registry.element("operation", CapabilityStatement.Rest.Resource.Operation.class, SUMMARY | REPEATING);
+        registry.element("compartment", Canonical.class, REPEATING);
+    }
+
+    private static void capabilityStatementRestInteraction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Interaction.class);
+        registry.element("code", SystemRestfulInteraction.class, BINDING | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+    }
+
+    private static void capabilityStatementRestResource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Resource.class);
+        registry.element("type", ResourceType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, SUMMARY);
+        registry.element("supportedProfile", Canonical.class, SUMMARY | REPEATING);
+        registry.element("documentation", Markdown.class, 0);
+        registry.element("interaction", CapabilityStatement.Rest.Resource.Interaction.class, REPEATING);
+        registry.element("versioning", ResourceVersionPolicy.class, BINDING);
+        registry.element("readHistory", Boolean.class, 0);
+        registry.element("updateCreate", Boolean.class, 0);
+        registry.element("conditionalCreate", Boolean.class, 0);
+        registry.element("conditionalRead", ConditionalReadStatus.class, BINDING);
+        registry.element("conditionalUpdate", Boolean.class, 0);
+        registry.element("conditionalDelete", ConditionalDeleteStatus.class, BINDING);
+        registry.element("referencePolicy", ReferenceHandlingPolicy.class, BINDING | REPEATING);
+        registry.element("searchInclude", String.class, REPEATING);
+        registry.element("searchRevInclude", String.class, REPEATING);
+        registry.element("searchParam", CapabilityStatement.Rest.Resource.SearchParam.class, REPEATING);
+        registry.element("operation", CapabilityStatement.Rest.Resource.Operation.class, SUMMARY | REPEATING);
+    }
+
+    private static void capabilityStatementRestResourceInteraction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Resource.Interaction.class);
+        registry.element("code", TypeRestfulInteraction.class, BINDING | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+    }
+
+    private static void capabilityStatementRestResourceOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Resource.Operation.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("definition", Canonical.class, SUMMARY | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+    }
+
+    private static void capabilityStatementRestResourceSearchParam(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Resource.SearchParam.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("definition", Canonical.class, 0);
+        registry.element("type", SearchParamType.class, BINDING | REQUIRED);
+        registry.element("documentation", Markdown.class, 0);
+    }
+
+    private static void capabilityStatementRestSecurity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Rest.Security.class);
+        registry.element("cors", Boolean.class, SUMMARY);
+        registry.element("service", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("description", Markdown.class, 0);
+    }
+
+    private static void capabilityStatementSoftware(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CapabilityStatement.Software.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("releaseDate", DateTime.class, SUMMARY);
+    }
+
+    private static void carePlan(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CarePlan.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("replaces", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", CarePlanStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("intent", CarePlanIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("description", String.class, SUMMARY);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("created", DateTime.class, SUMMARY);
+        registry.referenceElement("author", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "Device", "RelatedPerson", "Organization", "CareTeam");
+        registry.element("contributor", Reference.class, REPEATING);
+        registry.element("careTeam", Reference.class, REPEATING);
+        registry.element("addresses", Reference.class, SUMMARY | REPEATING);
+        registry.element("supportingInfo", Reference.class, REPEATING);
+        registry.element("goal", Reference.class, REPEATING);
+        registry.element("activity", CarePlan.Activity.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void carePlanActivity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CarePlan.Activity.class);
+        registry.element("outcomeCodeableConcept", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("outcomeReference", Reference.class, REPEATING);
+        registry.element("progress", Annotation.class, REPEATING);
+        registry.referenceElement("reference", 0, "Appointment", "CommunicationRequest", "DeviceRequest", "MedicationRequest", "NutritionOrder", "Task", "ServiceRequest", "VisionPrescription", "RequestGroup");
+        registry.element("detail", CarePlan.Activity.Detail.class, 0);
+    }
+
+    private static void carePlanActivityDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CarePlan.Activity.Detail.class);
+        registry.element("kind", CarePlanActivityKind.class, BINDING);
+        registry.element("instantiatesCanonical", Canonical.class, REPEATING);
+        registry.element("instantiatesUri", Uri.class, REPEATING);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("goal", Reference.class, REPEATING);
+        registry.element("status", CarePlanActivityStatus.class, BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, 0);
+        registry.element("doNotPerform", Boolean.class, 0);
+        registry.choiceElement("scheduled", 0, Timing.class, Period.class, String.class);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("performer", Reference.class, REPEATING);
+        registry.choiceElement("product", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("dailyAmount", SimpleQuantity.class, 0);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("description", String.class, 0);
+    }
+
+    private static void careTeam(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CareTeam.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", CareTeamStatus.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("participant", CareTeam.Participant.class, REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("managingOrganization", Reference.class, SUMMARY | REPEATING);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void careTeamParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CareTeam.Participant.class);
+        registry.element("role", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("member", SUMMARY, "Practitioner", "PractitionerRole", "RelatedPerson", "Patient", "Organization", "CareTeam");
+        registry.referenceElement("onBehalfOf", SUMMARY, "Organization");
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void catalogEntry(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CatalogEntry.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("orderable", Boolean.class, SUMMARY | REQUIRED);
+        registry.referenceElement("referencedItem", SUMMARY | REQUIRED, "Medication", "Device", "Organization", "Practitioner", "PractitionerRole", "HealthcareService", "ActivityDefinition", "PlanDefinition", "SpecimenDefinition", "ObservationDefinition", "Binary");
+        registry.element("additionalIdentifier", Identifier.class, REPEATING);
+        registry.element("classification", CodeableConcept.class, REPEATING);
+        registry.element("status", PublicationStatus.class, BINDING);
+        registry.element("validityPeriod", Period.class, 0);
+        registry.element("validTo", DateTime.class, 0);
+        registry.element("lastUpdated", DateTime.class, 0);
+        registry.element("additionalCharacteristic", CodeableConcept.class, REPEATING);
+        registry.element("additionalClassification", CodeableConcept.class, REPEATING);
+        registry.element("relatedEntry", CatalogEntry.RelatedEntry.class, REPEATING);
+    }
+
+    private static void catalogEntryRelatedEntry(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CatalogEntry.RelatedEntry.class);
+        registry.element("relationtype", CatalogEntryRelationType.class, BINDING | REQUIRED);
+        registry.referenceElement("item", REQUIRED, "CatalogEntry");
+    }
+
+    private static void chargeItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItem.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("definitionUri", Uri.class, REPEATING);
+        registry.element("definitionCanonical", Canonical.class, REPEATING);
+        registry.element("status", ChargeItemStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("partOf", Reference.class, REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("context", SUMMARY, "Encounter", "EpisodeOfCare");
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class, Timing.class);
+        registry.element("performer", ChargeItem.Performer.class, REPEATING);
+        registry.referenceElement("performingOrganization", 0, "Organization");
+        registry.referenceElement("requestingOrganization", 0, "Organization");
+        registry.referenceElement("costCenter", 0, "Organization");
+        registry.element("quantity", Quantity.class, SUMMARY);
+        registry.element("bodysite", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("factorOverride", Decimal.class, 0);
+        registry.element("priceOverride", Money.class, 0);
+        registry.element("overrideReason", String.class, 0);
+        registry.referenceElement("enterer", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "Patient", "Device", "RelatedPerson");
+        registry.element("enteredDate", DateTime.class, SUMMARY);
+        registry.element("reason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("service", Reference.class, REPEATING);
+        registry.choiceElement("product", BINDING, Reference.class, CodeableConcept.class);
+        registry.element("account", Reference.class, SUMMARY | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("supportingInformation", Reference.class, REPEATING);
+    }
+
+    private static void chargeItemPerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItem.Performer.class);
+        registry.element("function", CodeableConcept.class, BINDING);
+        registry.referenceElement("actor", REQUIRED, "Practitioner", "PractitionerRole", "Organization", "CareTeam", "Patient", "Device", "RelatedPerson");
+    }
+
+    private static void chargeItemDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItemDefinition.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("derivedFromUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("partOf", Canonical.class, SUMMARY | REPEATING);
+        registry.element("replaces", Canonical.class, SUMMARY | REPEATING);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("instance", Reference.class, REPEATING);
+        registry.element("applicability", ChargeItemDefinition.Applicability.class, REPEATING);
+        registry.element("propertyGroup", ChargeItemDefinition.PropertyGroup.class, REPEATING);
+    }
+
+    private static void chargeItemDefinitionApplicability(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItemDefinition.Applicability.class);
+        registry.element("description", String.class, 0);
+        registry.element("language", String.class, 0);
+        registry.element("expression", String.class, 0);
+    }
+
+    private static void chargeItemDefinitionPropertyGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItemDefinition.PropertyGroup.class);
+        registry.element("applicability", ChargeItemDefinition.Applicability.class, REPEATING);
+        registry.element("priceComponent", ChargeItemDefinition.PropertyGroup.PriceComponent.class, REPEATING);
+    }
+
+    private static void chargeItemDefinitionPropertyGroupPriceComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ChargeItemDefinition.PropertyGroup.PriceComponent.class);
+        registry.element("type", ChargeItemDefinitionPriceComponentType.class, BINDING | REQUIRED);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("amount", Money.class, 0);
+    }
+
+    private static void claim(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ClaimStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subType", CodeableConcept.class, BINDING);
+        registry.element("use", Use.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("billablePeriod", Period.class, SUMMARY);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("enterer", 0, "Practitioner", "PractitionerRole");
+        registry.referenceElement("insurer", SUMMARY, "Organization");
+        registry.referenceElement("provider", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("priority", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("fundsReserve", CodeableConcept.class, BINDING);
+        registry.element("related", Claim.Related.class, REPEATING);
+        registry.referenceElement("prescription", 0, "DeviceRequest", "MedicationRequest", "VisionPrescription");
+        registry.referenceElement("originalPrescription", 0, "DeviceRequest", "MedicationRequest", "VisionPrescription");
+        registry.element("payee", Claim.Payee.class, 0);
+        registry.referenceElement("referral", 0, "ServiceRequest");
+        registry.referenceElement("facility", 0, "Location");
+        registry.element("careTeam", Claim.CareTeam.class, REPEATING);
+        registry.element("supportingInfo", Claim.SupportingInfo.class, REPEATING);
+        registry.element("diagnosis", Claim.Diagnosis.class, REPEATING);
+        registry.element("procedure", Claim.Procedure.class, REPEATING);
+        registry.element("insurance", Claim.Insurance.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("accident", Claim.Accident.class, 0);
+        registry.element("item", Claim.Item.class, REPEATING);
+        registry.element("total", Money.class, 0);
+    }
+
+    private static void claimAccident(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Accident.class);
+        registry.element("date", Date.class, REQUIRED);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.choiceElement("location", 0, Address.class, Reference.class);
+    }
+
+    private static void claimCareTeam(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.CareTeam.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.referenceElement("provider", REQUIRED, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("responsible", Boolean.class, 0);
+        registry.element("role", CodeableConcept.class, BINDING);
+        registry.element("qualification", CodeableConcept.class, BINDING);
+    }
+
+    private static void claimDiagnosis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Diagnosis.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.choiceElement("diagnosis", BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("type", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("onAdmission", CodeableConcept.class, BINDING);
+        registry.element("packageCode", CodeableConcept.class, BINDING);
+    }
+
+    private static void claimInsurance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Insurance.class);
+        registry.element("sequence", PositiveInt.class, SUMMARY | REQUIRED);
+        registry.element("focal", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("identifier", Identifier.class, 0);
+        registry.referenceElement("coverage", SUMMARY | REQUIRED, "Coverage");
+        registry.element("businessArrangement", String.class, 0);
+        registry.element("preAuthRef", String.class, REPEATING);
+        registry.referenceElement("claimResponse", 0, "ClaimResponse");
+    }
+
+    private static void claimItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Item.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("careTeamSequence", PositiveInt.class, REPEATING);
+        registry.element("diagnosisSequence", PositiveInt.class, REPEATING);
+        registry.element("procedureSequence", PositiveInt.class, REPEATING);
+        registry.element("informationSequence", PositiveInt.class, REPEATING);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.choiceElement("location", BINDING, CodeableConcept.class, Address.class, Reference.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.element("subSite", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("encounter", Reference.class, REPEATING);
+        registry.element("detail", Claim.Item.Detail.class, REPEATING);
+    }
+
+    private static void claimItemDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Item.Detail.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+        registry.element("subDetail", Claim.Item.Detail.SubDetail.class, REPEATING);
+    }
+
+    private static void claimItemDetailSubDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Item.Detail.SubDetail.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+    }
+
+    private static void claimPayee(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Payee.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.referenceElement("party", 0, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson");
+    }
+
+    private static void claimProcedure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Procedure.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("type", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("date", DateTime.class, 0);
+        registry.choiceElement("procedure", BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("udi", Reference.class, REPEATING);
+    }
+
+    private static void claimRelated(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.Related.class);
+        registry.referenceElement("claim", 0, "Claim");
+        registry.element("relationship", CodeableConcept.class, BINDING);
+        registry.element("reference", Identifier.class, 0);
+    }
+
+    private static void claimSupportingInfo(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Claim.SupportingInfo.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("category", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.choiceElement("timing", 0, Date.class, Period.class);
+        registry.choiceElement("value", 0, Boolean.class, String.class, Quantity.class, Attachment.class, Reference.class);
+        registry.element("reason", CodeableConcept.class, BINDING);
+    }
+
+    private static void claimResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ClaimResponseStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subType", CodeableConcept.class, BINDING);
+        registry.element("use", Use.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("insurer", SUMMARY | REQUIRED, "Organization");
+        registry.referenceElement("requestor", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("request", SUMMARY, "Claim");
+        registry.element("outcome", RemittanceOutcome.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("disposition", String.class, 0);
+        registry.element("preAuthRef", String.class, 0);
+        registry.element("preAuthPeriod", Period.class, 0);
+        registry.element("payeeType", CodeableConcept.class, BINDING);
+        registry.element("item", ClaimResponse.Item.class, REPEATING);
+        registry.element("addItem", ClaimResponse.AddItem.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REPEATING);
+        registry.element("total", ClaimResponse.Total.class, SUMMARY | REPEATING);
+        registry.element("payment", ClaimResponse.Payment.class, 0);
+        registry.element("fundsReserve", CodeableConcept.class, BINDING);
+        registry.element("formCode", CodeableConcept.class, BINDING);
+        registry.element("form", Attachment.class, 0);
+        registry.element("processNote", ClaimResponse.ProcessNote.class, REPEATING);
+        registry.element("communicationRequest", Reference.class, REPEATING);
+        registry.element("insurance", ClaimResponse.Insurance.class, REPEATING);
+        registry.element("error", ClaimResponse.Error.class, REPEATING);
+    }
+
+    private static void claimResponseAddItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.AddItem.class);
+        registry.element("itemSequence", PositiveInt.class, REPEATING);
+        registry.element("detailSequence", PositiveInt.class, REPEATING);
+        registry.element("subdetailSequence", PositiveInt.class, REPEATING);
+        registry.element("provider", Reference.class, REPEATING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.choiceElement("location", BINDING, CodeableConcept.class, Address.class, Reference.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.element("subSite", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REQUIRED | REPEATING);
+        registry.element("detail", ClaimResponse.AddItem.Detail.class, REPEATING);
+    }
+
+    private static void claimResponseAddItemDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.AddItem.Detail.class);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REQUIRED | REPEATING);
+        registry.element("subDetail", ClaimResponse.AddItem.Detail.SubDetail.class, REPEATING);
+    }
+
+    private static void claimResponseAddItemDetailSubDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.AddItem.Detail.SubDetail.class);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REQUIRED | REPEATING);
+    }
+
+    private static void claimResponseError(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Error.class);
+        registry.element("itemSequence", PositiveInt.class, 0);
+        registry.element("detailSequence", PositiveInt.class, 0);
+        registry.element("subDetailSequence", PositiveInt.class, 0);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+    }
+
+    private static void claimResponseInsurance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Insurance.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("focal", Boolean.class, REQUIRED);
+        registry.referenceElement("coverage", REQUIRED, "Coverage");
+        registry.element("businessArrangement", String.class, 0);
+        registry.referenceElement("claimResponse", 0, "ClaimResponse");
+    }
+
+    private static void claimResponseItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Item.class);
+        registry.element("itemSequence", PositiveInt.class, REQUIRED);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REQUIRED | REPEATING);
+        registry.element("detail", ClaimResponse.Item.Detail.class, REPEATING);
+    }
+
+    private static void claimResponseItemAdjudication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Item.Adjudication.class);
+        registry.element("category", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("reason", CodeableConcept.class, BINDING);
+        registry.element("amount", Money.class, 0);
+        registry.element("value", Decimal.class, 0);
+    }
+
+    private static void claimResponseItemDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Item.Detail.class);
+        registry.element("detailSequence", PositiveInt.class, REQUIRED);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REQUIRED | REPEATING);
+        registry.element("subDetail", ClaimResponse.Item.Detail.SubDetail.class, REPEATING);
+    }
+
+    private static void claimResponseItemDetailSubDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Item.Detail.SubDetail.class);
+        registry.element("subDetailSequence", PositiveInt.class, REQUIRED);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ClaimResponse.Item.Adjudication.class, REPEATING);
+    }
+
+    private static void claimResponsePayment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Payment.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("adjustment", Money.class, 0);
+        registry.element("adjustmentReason", CodeableConcept.class, BINDING);
+        registry.element("date", Date.class, 0);
+        registry.element("amount", Money.class, REQUIRED);
+        registry.element("identifier", Identifier.class, 0);
+    }
+
+    private static void claimResponseProcessNote(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.ProcessNote.class);
+        registry.element("number", PositiveInt.class, 0);
+        registry.element("type", NoteType.class, BINDING);
+        registry.element("text", String.class, REQUIRED);
+        registry.element("language", CodeableConcept.class, BINDING);
+    }
+
+    private static void claimResponseTotal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClaimResponse.Total.class);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("amount", Money.class, SUMMARY | REQUIRED);
+    }
+
+    private static void clinicalImpression(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClinicalImpression.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", ClinicalImpressionStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("description", String.class, SUMMARY);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("effective", SUMMARY, DateTime.class, Period.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.referenceElement("assessor", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.referenceElement("previous", 0, "ClinicalImpression");
+        registry.element("problem", Reference.class, SUMMARY | REPEATING);
+        registry.element("investigation", ClinicalImpression.Investigation.class, REPEATING);
+        registry.element("protocol", Uri.class, REPEATING);
+        registry.element("summary", String.class, 0);
+        registry.element("finding", ClinicalImpression.Finding.class, REPEATING);
+        registry.element("prognosisCodeableConcept", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("prognosisReference", Reference.class, REPEATING);
+        registry.element("supportingInfo", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void clinicalImpressionFinding(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClinicalImpression.Finding.class);
+        registry.element("itemCodeableConcept", CodeableConcept.class, BINDING);
+        registry.referenceElement("itemReference", 0, "Condition", "Observation", "Media");
+        registry.element("basis", String.class, 0);
+    }
+
+    private static void clinicalImpressionInvestigation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ClinicalImpression.Investigation.class);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("item", Reference.class, REPEATING);
+    }
+
+    private static void codeSystem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("caseSensitive", Boolean.class, SUMMARY);
+        registry.element("valueSet", Canonical.class, SUMMARY);
+        registry.element("hierarchyMeaning", CodeSystemHierarchyMeaning.class, SUMMARY | BINDING);
+        registry.element("compositional", Boolean.class, SUMMARY);
+        registry.element("versionNeeded", Boolean.class, SUMMARY);
+        registry.element("content", CodeSystemContentMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("supplements", Canonical.class, SUMMARY);
+        registry.element("count", UnsignedInt.class, SUMMARY);
+        registry.element("filter", CodeSystem.Filter.class, SUMMARY | REPEATING);
+        registry.element("property", CodeSystem.Property.class, SUMMARY | REPEATING);
+        registry.element("concept", CodeSystem.Concept.class, REPEATING);
+    }
+
+    private static void codeSystemConcept(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.Concept.class);
+        registry.element("code", Code.class, REQUIRED);
+        registry.element("display", String.class, 0);
+        registry.element("definition", String.class, 0);
+        registry.element("designation", CodeSystem.Concept.Designation.class, REPEATING);
+        registry.element("property", CodeSystem.Concept.Property.class, REPEATING);
+        registry.element("concept", CodeSystem.Concept.class, REPEATING);
+    }
+
+    private static void codeSystemConceptDesignation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.Concept.Designation.class);
+        registry.element("language", Code.class, BINDING);
+        registry.element("use", Coding.class, BINDING);
+        registry.element("value", String.class, REQUIRED);
+    }
+
+    private static void codeSystemConceptProperty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.Concept.Property.class);
+        registry.element("code", Code.class, REQUIRED);
+        registry.choiceElement("value", REQUIRED, Code.class, Coding.class, String.class, Integer.class, Boolean.class, DateTime.class, Decimal.class);
+    }
+
+    private static void codeSystemFilter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.Filter.class);
+        registry.element("code", Code.class, SUMMARY | REQUIRED);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("operator", FilterOperator.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("value", String.class, SUMMARY | REQUIRED);
+    }
+
+    private static void codeSystemProperty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeSystem.Property.class);
+        registry.element("code", Code.class, SUMMARY | REQUIRED);
+        registry.element("uri", Uri.class, SUMMARY);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("type", PropertyType.class, SUMMARY | BINDING | REQUIRED);
+    }
+
+    private static void communication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Communication.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("inResponseTo", Reference.class, REPEATING);
+        registry.element("status", CommunicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("priority", CommunicationPriority.class, SUMMARY | BINDING);
+        registry.element("medium", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group");
+        registry.element("topic", CodeableConcept.class, BINDING);
+        registry.element("about", Reference.class, REPEATING);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("sent", DateTime.class, 0);
+        registry.element("received", DateTime.class, 0);
+        registry.element("recipient", Reference.class, REPEATING);
+        registry.referenceElement("sender", 0, "Device", "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson", "HealthcareService");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("payload", Communication.Payload.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void communicationPayload(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Communication.Payload.class);
+        registry.choiceElement("content", REQUIRED, String.class, Attachment.class, Reference.class);
+    }
+
+    private static void communicationRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CommunicationRequest.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("replaces", Reference.class, SUMMARY | REPEATING);
+        registry.element("groupIdentifier", Identifier.class, SUMMARY);
+        registry.element("status", CommunicationRequestStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("priority", CommunicationPriority.class, SUMMARY | BINDING);
+        registry.element("doNotPerform", Boolean.class, SUMMARY);
+        registry.element("medium", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("subject", 0, "Patient", "Group");
+        registry.element("about", Reference.class, REPEATING);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("payload", CommunicationRequest.Payload.class, REPEATING);
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class);
+        registry.element("authoredOn", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson", "Device");
+        registry.element("recipient", Reference.class, REPEATING);
+        registry.referenceElement("sender", SUMMARY, "Device", "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson", "HealthcareService");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void communicationRequestPayload(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CommunicationRequest.Payload.class);
+        registry.choiceElement("content", REQUIRED, String.class, Attachment.class, Reference.class);
+    }
+
+    private static void compartmentDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CompartmentDefinition.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("code", CompartmentType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("search", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("resource", CompartmentDefinition.Resource.class, SUMMARY | REPEATING);
+    }
+
+    private static void compartmentDefinitionResource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CompartmentDefinition.Resource.class);
+        registry.element("code", ResourceType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("param", String.class, SUMMARY | REPEATING);
+        registry.element("documentation", String.class, 0);
+    }
+
+    private static void composition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Composition.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("status", CompositionStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("subject", Reference.class, SUMMARY);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.element("author", Reference.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("title", String.class, SUMMARY | REQUIRED);
+        registry.element("confidentiality", DocumentConfidentiality.class, SUMMARY | BINDING);
+        registry.element("attester", Composition.Attester.class, REPEATING);
+        registry.referenceElement("custodian", SUMMARY, "Organization");
+        registry.element("relatesTo", Composition.RelatesTo.class, REPEATING);
+        registry.element("event", Composition.Event.class, SUMMARY | REPEATING);
+        registry.element("section", Composition.Section.class, REPEATING);
+    }
+
+    private static void compositionAttester(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Composition.Attester.class);
+        registry.element("mode", CompositionAttestationMode.class, BINDING | REQUIRED);
+        registry.element("time", DateTime.class, 0);
+        registry.referenceElement("party", 0, "Patient", "RelatedPerson", "Practitioner", "PractitionerRole", "Organization");
+    }
+
+    private static void compositionEvent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Composition.Event.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("detail", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void compositionRelatesTo(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Composition.RelatesTo.class);
+        registry.element("code", DocumentRelationshipType.class, BINDING | REQUIRED);
+        registry.choiceElement("target", REQUIRED, Identifier.class, Reference.class);
+    }
+
+    private static void compositionSection(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Composition.Section.class);
+        registry.element("title", String.class, 0);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.element("author", Reference.class, REPEATING);
+        registry.element("focus", Reference.class, 0);
+        registry.element("text", Narrative.class, 0);
+        registry.element("mode", SectionMode.class, BINDING);
+        registry.element("orderedBy", CodeableConcept.class, BINDING);
+        registry.element("entry", Reference.class, REPEATING);
+        registry.element("emptyReason", CodeableConcept.class, BINDING);
+        registry.element("section", Composition.Section.class, REPEATING);
+    }
+
+    private static void conceptMap(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.choiceElement("source", SUMMARY, Uri.class, Canonical.class);
+        registry.choiceElement("target", SUMMARY, Uri.class, Canonical.class);
+        registry.element("group", ConceptMap.Group.class, REPEATING);
+    }
+
+    private static void conceptMapGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.Group.class);
+        registry.element("source", Uri.class, 0);
+        registry.element("sourceVersion", String.class, 0);
+        registry.element("target", Uri.class, 0);
+        registry.element("targetVersion", String.class, 0);
+        registry.element("element", ConceptMap.Group.Element.class, REQUIRED | REPEATING);
+        registry.element("unmapped", ConceptMap.Group.Unmapped.class, 0);
+    }
+
+    private static void conceptMapGroupElement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.Group.Element.class);
+        registry.element("code", Code.class, 0);
+        registry.element("display", String.class, 0);
+        registry.element("target", ConceptMap.Group.Element.Target.class, REPEATING);
+    }
+
+    private static void conceptMapGroupElementTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.Group.Element.Target.class);
+        registry.element("code", Code.class, 0);
+        registry.element("display", String.class, 0);
+        registry.element("equivalence", ConceptMapEquivalence.class, BINDING | REQUIRED);
+        registry.element("comment", String.class, 0);
+        registry.element("dependsOn", ConceptMap.Group.Element.Target.DependsOn.class, REPEATING);
+        registry.element("product", ConceptMap.Group.Element.Target.DependsOn.class, REPEATING);
+    }
+
+    private static void conceptMapGroupElementTargetDependsOn(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.Group.Element.Target.DependsOn.class);
+        registry.element("property", Uri.class, REQUIRED);
+        registry.element("system", Canonical.class, 0);
+        registry.element("value", String.class, REQUIRED);
+        registry.element("display", String.class, 0);
+    }
+
+    private static void conceptMapGroupUnmapped(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ConceptMap.Group.Unmapped.class);
+        registry.element("mode", ConceptMapGroupUnmappedMode.class, BINDING | REQUIRED);
+        registry.element("code", Code.class, 0);
+        registry.element("display", String.class, 0);
+        registry.element("url", Canonical.class, 0);
+    }
+
+    private static void condition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Condition.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("clinicalStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("verificationStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("severity", CodeableConcept.class, BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("bodySite", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("onset", SUMMARY, DateTime.class, Age.class, Period.class, Range.class, String.class);
+        registry.choiceElement("abatement", 0, DateTime.class, Age.class, Period.class, Range.class, String.class);
+        registry.element("recordedDate", DateTime.class, SUMMARY);
+        registry.referenceElement("recorder", SUMMARY, "Practitioner", "PractitionerRole", "Patient", "RelatedPerson");
+        registry.referenceElement("asserter", SUMMARY, "Practitioner", "PractitionerRole", "Patient", "RelatedPerson");
+        registry.element("stage", Condition.Stage.class, REPEATING);
+        registry.element("evidence", Condition.Evidence.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void conditionEvidence(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Condition.Evidence.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("detail", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void conditionStage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Condition.Stage.class);
+        registry.element("summary", CodeableConcept.class, BINDING);
+        registry.element("assessment", Reference.class, REPEATING);
+        registry.element("type", CodeableConcept.class, BINDING);
+    }
+
+    private static void consent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", ConsentState.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("scope", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.referenceElement("patient", SUMMARY, "Patient");
+        registry.element("dateTime", DateTime.class, SUMMARY);
+        registry.element("performer", Reference.class, SUMMARY | REPEATING);
+        registry.element("organization", Reference.class, SUMMARY | REPEATING);
+        registry.choiceElement("source", SUMMARY, Attachment.class, Reference.class);
+        registry.element("policy", Consent.Policy.class, REPEATING);
+        registry.element("policyRule", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("verification", Consent.Verification.class, SUMMARY | REPEATING);
+        registry.element("provision", Consent.Provision.class, SUMMARY);
+    }
+
+    private static void consentPolicy(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.Policy.class);
+        registry.element("authority", Uri.class, 0);
+        registry.element("uri", Uri.class, 0);
+    }
+
+    private static void consentProvision(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.Provision.class);
+        registry.element("type", ConsentProvisionType.class, SUMMARY | BINDING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("actor", Consent.Provision.Actor.class, REPEATING);
+        registry.element("action", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("securityLabel", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("class", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("dataPeriod", Period.class, SUMMARY);
+        registry.element("data", Consent.Provision.Data.class, SUMMARY | REPEATING);
+        registry.element("provision", Consent.Provision.class, REPEATING);
+    }
+
+    private static void consentProvisionActor(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.Provision.Actor.class);
+        registry.element("role", CodeableConcept.class, BINDING | REQUIRED);
+        registry.referenceElement("reference", REQUIRED, "Device", "Group", "CareTeam", "Organization", "Patient", "Practitioner", "RelatedPerson", "PractitionerRole");
+    }
+
+    private static void consentProvisionData(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.Provision.Data.class);
+        registry.element("meaning", ConsentDataMeaning.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("reference", Reference.class, SUMMARY | REQUIRED);
+    }
+
+    private static void consentVerification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Consent.Verification.class);
+        registry.element("verified", Boolean.class, SUMMARY | REQUIRED);
+        registry.referenceElement("verifiedWith", 0, "Patient", "RelatedPerson");
+        registry.element("verificationDate", DateTime.class, 0);
+    }
+
+    private static void contract(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("url", Uri.class, 0);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("status", ContractStatus.class, SUMMARY | BINDING);
+        registry.element("legalState", CodeableConcept.class, BINDING);
+        registry.referenceElement("instantiatesCanonical", 0, "Contract");
+        registry.element("instantiatesUri", Uri.class, 0);
+        registry.element("contentDerivative", CodeableConcept.class, BINDING);
+        registry.element("issued", DateTime.class, SUMMARY);
+        registry.element("applies", Period.class, SUMMARY);
+        registry.element("expirationType", CodeableConcept.class, BINDING);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("authority", Reference.class, REPEATING);
+        registry.element("domain", Reference.class, REPEATING);
+        registry.element("site", Reference.class, REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("alias", String.class, REPEATING);
+        registry.referenceElement("author", 0, "Patient", "Practitioner", "PractitionerRole", "Organization");
+        registry.element("scope", CodeableConcept.class, BINDING);
+        registry.choiceElement("topic", 0, CodeableConcept.class, Reference.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("subType", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("contentDefinition", Contract.ContentDefinition.class, 0);
+        registry.element("term", Contract.Term.class, REPEATING);
+        registry.element("supportingInfo", Reference.class, REPEATING);
+        registry.element("relevantHistory", Reference.class, REPEATING);
+        registry.element("signer", Contract.Signer.class, REPEATING);
+        registry.element("friendly", Contract.Friendly.class, REPEATING);
+        registry.element("legal", Contract.Legal.class, REPEATING);
+        registry.element("rule", Contract.Rule.class, REPEATING);
+        registry.choiceElement("legallyBinding", 0, Attachment.class, Reference.class);
+    }
+
+    private static void contractContentDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.ContentDefinition.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("subType", CodeableConcept.class, BINDING);
+        registry.referenceElement("publisher", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("publicationDate", DateTime.class, 0);
+        registry.element("publicationStatus", ContractPublicationStatus.class, BINDING | REQUIRED);
+        registry.element("copyright", Markdown.class, 0);
+    }
+
+    private static void contractFriendly(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Friendly.class);
+        registry.choiceElement("content", REQUIRED, Attachment.class, Reference.class);
+    }
+
+    private static void contractLegal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Legal.class);
+        registry.choiceElement("content", REQUIRED, Attachment.class, Reference.class);
+    }
+
+    private static void contractRule(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Rule.class);
+        registry.choiceElement("content", REQUIRED, Attachment.class, Reference.class);
+    }
+
+    private static void contractSigner(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Signer.class);
+        registry.element("type", Coding.class, BINDING | REQUIRED);
+        registry.referenceElement("party", REQUIRED, "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("signature", Signature.class, REQUIRED | REPEATING);
+    }
+
+    private static void contractTerm(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("issued", DateTime.class, SUMMARY);
+        registry.element("applies", Period.class, SUMMARY);
+        registry.choiceElement("topic", 0, CodeableConcept.class, Reference.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("subType", CodeableConcept.class, BINDING);
+        registry.element("text", String.class, SUMMARY);
+        registry.element("securityLabel", Contract.Term.SecurityLabel.class, REPEATING);
+        registry.element("offer", Contract.Term.Offer.class, REQUIRED);
+        registry.element("asset", Contract.Term.Asset.class, REPEATING);
+        registry.element("action", Contract.Term.Action.class, REPEATING);
+        registry.element("group", Contract.Term.class, REPEATING);
+    }
+
+    private static void contractTermAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Action.class);
+        registry.element("doNotPerform", Boolean.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("subject", Contract.Term.Action.Subject.class, REPEATING);
+        registry.element("intent", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("linkId", String.class, REPEATING);
+        registry.element("status", CodeableConcept.class, BINDING | REQUIRED);
+        registry.referenceElement("context", 0, "Encounter", "EpisodeOfCare");
+        registry.element("contextLinkId", String.class, REPEATING);
+        registry.choiceElement("occurrence", 0, DateTime.class, Period.class, Timing.class);
+        registry.element("requester", Reference.class, REPEATING);
+        registry.element("requesterLinkId", String.class, REPEATING);
+        registry.element("performerType", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("performerRole", CodeableConcept.class, BINDING);
+        registry.referenceElement("performer", 0, "RelatedPerson", "Patient", "Practitioner", "PractitionerRole", "CareTeam", "Device", "Substance", "Organization", "Location");
+        registry.element("performerLinkId", String.class, REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("reason", String.class, REPEATING);
+        registry.element("reasonLinkId", String.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("securityLabelNumber", UnsignedInt.class, REPEATING);
+    }
+
+    private static void contractTermActionSubject(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Action.Subject.class);
+        registry.element("reference", Reference.class, REQUIRED | REPEATING);
+        registry.element("role", CodeableConcept.class, BINDING);
+    }
+
+    private static void contractTermAsset(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Asset.class);
+        registry.element("scope", CodeableConcept.class, BINDING);
+        registry.element("type", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("typeReference", Reference.class, REPEATING);
+        registry.element("subtype", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("relationship", Coding.class, BINDING);
+        registry.element("context", Contract.Term.Asset.Context.class, REPEATING);
+        registry.element("condition", String.class, 0);
+        registry.element("periodType", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("period", Period.class, REPEATING);
+        registry.element("usePeriod", Period.class, REPEATING);
+        registry.element("text", String.class, 0);
+        registry.element("linkId", String.class, REPEATING);
+        registry.element("answer", Contract.Term.Offer.Answer.class, REPEATING);
+        registry.element("securityLabelNumber", UnsignedInt.class, REPEATING);
+        registry.element("valuedItem", Contract.Term.Asset.ValuedItem.class, REPEATING);
+    }
+
+    private static void contractTermAssetContext(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Asset.Context.class);
+        registry.element("reference", Reference.class, 0);
+        registry.element("code", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("text", String.class, 0);
+    }
+
+    private static void contractTermAssetValuedItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Asset.ValuedItem.class);
+        registry.choiceElement("entity", 0, CodeableConcept.class, Reference.class);
+        registry.element("identifier", Identifier.class, 0);
+        registry.element("effectiveTime", DateTime.class, 0);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("points", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("payment", String.class, 0);
+        registry.element("paymentDate", DateTime.class, 0);
+        registry.referenceElement("responsible", 0, "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.referenceElement("recipient", 0, "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("linkId", String.class, REPEATING);
+        registry.element("securityLabelNumber", UnsignedInt.class, REPEATING);
+    }
+
+    private static void contractTermOffer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Offer.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("party", Contract.Term.Offer.Party.class, REPEATING);
+        registry.element("topic", Reference.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("decision", CodeableConcept.class, BINDING);
+        registry.element("decisionMode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("answer", Contract.Term.Offer.Answer.class, REPEATING);
+        registry.element("text", String.class, 0);
+        registry.element("linkId", String.class, REPEATING);
+        registry.element("securityLabelNumber", UnsignedInt.class, REPEATING);
+    }
+
+    private static void contractTermOfferAnswer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Offer.Answer.class);
+        registry.choiceElement("value", REQUIRED, Boolean.class, Decimal.class, Integer.class, Date.class, DateTime.class, Time.class, String.class, Uri.class, Attachment.class, Coding.class, Quantity.class, Reference.class);
+    }
+
+    private static void contractTermOfferParty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.Offer.Party.class);
+        registry.element("reference", Reference.class, REQUIRED | REPEATING);
+        registry.element("role", CodeableConcept.class, BINDING | REQUIRED);
+    }
+
+    private static void contractTermSecurityLabel(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contract.Term.SecurityLabel.class);
+        registry.element("number", UnsignedInt.class, REPEATING);
+        registry.element("classification", Coding.class, BINDING | REQUIRED);
+        registry.element("category", Coding.class, BINDING | REPEATING);
+        registry.element("control", Coding.class, BINDING | REPEATING);
+    }
+
+    private static void coverage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Coverage.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", CoverageStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("policyHolder", SUMMARY, "Patient", "RelatedPerson", "Organization");
+        registry.referenceElement("subscriber", SUMMARY, "Patient", "RelatedPerson");
+        registry.element("subscriberId", String.class, SUMMARY);
+        registry.referenceElement("beneficiary", SUMMARY | REQUIRED, "Patient");
+        registry.element("dependent", String.class, SUMMARY);
+        registry.element("relationship", CodeableConcept.class, BINDING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("payor", Reference.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("class", Coverage.Class.class, REPEATING);
+        registry.element("order", PositiveInt.class, SUMMARY);
+        registry.element("network", String.class, SUMMARY);
+        registry.element("costToBeneficiary", Coverage.CostToBeneficiary.class, REPEATING);
+        registry.element("subrogation", Boolean.class, 0);
+        registry.element("contract", Reference.class, REPEATING);
+    }
+
+    private static void coverageClass(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Coverage.Class.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("value", String.class, SUMMARY | REQUIRED);
+        registry.element("name", String.class, SUMMARY);
+    }
+
+    private static void coverageCostToBeneficiary(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Coverage.CostToBeneficiary.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.choiceElement("value", SUMMARY | REQUIRED, SimpleQuantity.class, Money.class);
+        registry.element("exception", Coverage.CostToBeneficiary.Exception.class, REPEATING);
+    }
+
+    private static void coverageCostToBeneficiaryException(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Coverage.CostToBeneficiary.Exception.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("period", Period.class, SUMMARY);
+    }
+
+    private static void coverageEligibilityRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityRequest.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", EligibilityRequestStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("priority", CodeableConcept.class, BINDING);
+        registry.element("purpose", EligibilityRequestPurpose.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("enterer", 0, "Practitioner", "PractitionerRole");
+        registry.referenceElement("provider", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("insurer", SUMMARY | REQUIRED, "Organization");
+        registry.referenceElement("facility", 0, "Location");
+        registry.element("supportingInfo", CoverageEligibilityRequest.SupportingInfo.class, REPEATING);
+        registry.element("insurance", CoverageEligibilityRequest.Insurance.class, REPEATING);
+        registry.element("item", CoverageEligibilityRequest.Item.class, REPEATING);
+    }
+
+    private static void coverageEligibilityRequestInsurance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityRequest.Insurance.class);
+        registry.element("focal", Boolean.class, 0);
+        registry.referenceElement("coverage", REQUIRED, "Coverage");
+        registry.element("businessArrangement", String.class, 0);
+    }
+
+    private static void coverageEligibilityRequestItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityRequest.Item.class);
+        registry.element("supportingInfoSequence", PositiveInt.class, REPEATING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("provider", 0, "Practitioner", "PractitionerRole");
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.referenceElement("facility", 0, "Location", "Organization");
+        registry.element("diagnosis", CoverageEligibilityRequest.Item.Diagnosis.class, REPEATING);
+        registry.element("detail", Reference.class, REPEATING);
+    }
+
+    private static void coverageEligibilityRequestItemDiagnosis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityRequest.Item.Diagnosis.class);
+        registry.choiceElement("diagnosis", BINDING, CodeableConcept.class, Reference.class);
+    }
+
+    private static void coverageEligibilityRequestSupportingInfo(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityRequest.SupportingInfo.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("information", Reference.class, REQUIRED);
+        registry.element("appliesToAll", Boolean.class, 0);
+    }
+
+    private static void coverageEligibilityResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityResponse.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", EligibilityResponseStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("purpose", EligibilityResponsePurpose.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("requestor", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("request", SUMMARY | REQUIRED, "CoverageEligibilityRequest");
+        registry.element("outcome", RemittanceOutcome.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("disposition", String.class, 0);
+        registry.referenceElement("insurer", SUMMARY | REQUIRED, "Organization");
+        registry.element("insurance", CoverageEligibilityResponse.Insurance.class, REPEATING);
+        registry.element("preAuthRef", String.class, 0);
+        registry.element("form", CodeableConcept.class, BINDING);
+        registry.element("error", CoverageEligibilityResponse.Error.class, REPEATING);
+    }
+
+    private static void coverageEligibilityResponseError(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityResponse.Error.class);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+    }
+
+    private static void coverageEligibilityResponseInsurance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityResponse.Insurance.class);
+        registry.referenceElement("coverage", SUMMARY | REQUIRED, "Coverage");
+        registry.element("inforce", Boolean.class, 0);
+        registry.element("benefitPeriod", Period.class, 0);
+        registry.element("item", CoverageEligibilityResponse.Insurance.Item.class, REPEATING);
+    }
+
+    private static void coverageEligibilityResponseInsuranceItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityResponse.Insurance.Item.class);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("provider", 0, "Practitioner", "PractitionerRole");
+        registry.element("excluded", Boolean.class, 0);
+        registry.element("name", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("network", CodeableConcept.class, BINDING);
+        registry.element("unit", CodeableConcept.class, BINDING);
+        registry.element("term", CodeableConcept.class, BINDING);
+        registry.element("benefit", CoverageEligibilityResponse.Insurance.Item.Benefit.class, REPEATING);
+        registry.element("authorizationRequired", Boolean.class, 0);
+        registry.element("authorizationSupporting", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("authorizationUrl", Uri.class, 0);
+    }
+
+    private static void coverageEligibilityResponseInsuranceItemBenefit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CoverageEligibilityResponse.Insurance.Item.Benefit.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.choiceElement("allowed", 0, UnsignedInt.class, String.class, Money.class);
+        registry.choiceElement("used", 0, UnsignedInt.class, String.class, Money.class);
+    }
+
+    private static void detectedIssue(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DetectedIssue.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", DetectedIssueStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("severity", DetectedIssueSeverity.class, SUMMARY | BINDING);
+        registry.referenceElement("patient", SUMMARY, "Patient");
+        registry.choiceElement("identified", SUMMARY, DateTime.class, Period.class);
+        registry.referenceElement("author", SUMMARY, "Practitioner", "PractitionerRole", "Device");
+        registry.element("implicated", Reference.class, SUMMARY | REPEATING);
+        registry.element("evidence", DetectedIssue.Evidence.class, REPEATING);
+        registry.element("detail", String.class, 0);
+        registry.element("reference", Uri.class, 0);
+        registry.element("mitigation", DetectedIssue.Mitigation.class, REPEATING);
+    }
+
+    private static void detectedIssueEvidence(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DetectedIssue.Evidence.class);
+        registry.element("code", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("detail", Reference.class, REPEATING);
+    }
+
+    private static void detectedIssueMitigation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DetectedIssue.Mitigation.class);
+        registry.element("action", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("date", DateTime.class, 0);
+        registry.referenceElement("author", 0, "Practitioner", "PractitionerRole");
+    }
+
+    private static void device(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.referenceElement("definition", 0, "DeviceDefinition");
+        registry.element("udiCarrier", Device.UdiCarrier.class, SUMMARY | REPEATING);
+        registry.element("status", FHIRDeviceStatus.class, SUMMARY | BINDING);
+        registry.element("statusReason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("distinctIdentifier", String.class, 0);
+        registry.element("manufacturer", String.class, 0);
+        registry.element("manufactureDate", DateTime.class, 0);
+        registry.element("expirationDate", DateTime.class, 0);
+        registry.element("lotNumber", String.class, 0);
+        registry.element("serialNumber", String.class, 0);
+        registry.element("deviceName", Device.DeviceName.class, REPEATING);
+        registry.element("modelNumber", String.class, 0);
+        registry.element("partNumber", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("specialization", Device.Specialization.class, REPEATING);
+        registry.element("version", Device.Version.class, REPEATING);
+        registry.element("property", Device.Property.class, REPEATING);
+        registry.referenceElement("patient", 0, "Patient");
+        registry.referenceElement("owner", 0, "Organization");
+        registry.element("contact", ContactPoint.class, REPEATING);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("url", Uri.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("safety", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.referenceElement("parent", 0, "Device");
+    }
+
+    private static void deviceDeviceName(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.DeviceName.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("type", DeviceNameType.class, BINDING | REQUIRED);
+    }
+
+    private static void deviceProperty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.Property.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("valueQuantity", Quantity.class, REPEATING);
+        registry.element("valueCode", CodeableConcept.class, REPEATING);
+    }
+
+    private static void deviceSpecialization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.Specialization.class);
+        registry.element("systemType", CodeableConcept.class, REQUIRED);
+        registry.element("version", String.class, 0);
+    }
+
+    private static void deviceUdiCarrier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.UdiCarrier.class);
+        registry.element("deviceIdentifier", String.class, SUMMARY);
+        registry.element("issuer", Uri.class, 0);
+        registry.element("jurisdiction", Uri.class, 0);
+        registry.element("carrierAIDC", Base64Binary.class, SUMMARY);
+        registry.element("carrierHRF", String.class, SUMMARY);
+        registry.element("entryType", UDIEntryType.class, BINDING);
+    }
+
+    private static void deviceVersion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Device.Version.class);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("component", Identifier.class, 0);
+        registry.element("value", String.class, REQUIRED);
+    }
+
+    private static void deviceDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("udiDeviceIdentifier", DeviceDefinition.UdiDeviceIdentifier.class, REPEATING);
+        registry.choiceElement("manufacturer", 0, String.class, Reference.class);
+        registry.element("deviceName", DeviceDefinition.DeviceName.class, REPEATING);
+        registry.element("modelNumber", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("specialization", DeviceDefinition.Specialization.class, REPEATING);
+        registry.element("version", String.class, REPEATING);
+        registry.element("safety", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("shelfLifeStorage", ProductShelfLife.class, REPEATING);
+        registry.element("physicalCharacteristics", ProdCharacteristic.class, 0);
+        registry.element("languageCode", CodeableConcept.class, REPEATING);
+        registry.element("capability", DeviceDefinition.Capability.class, REPEATING);
+        registry.element("property", DeviceDefinition.Property.class, REPEATING);
+        registry.referenceElement("owner", 0, "Organization");
+        registry.element("contact", ContactPoint.class, REPEATING);
+        registry.element("url", Uri.class, 0);
+        registry.element("onlineInformation", Uri.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("quantity", Quantity.class, 0);
+        registry.referenceElement("parentDevice", SUMMARY, "DeviceDefinition");
+        registry.element("material", DeviceDefinition.Material.class, REPEATING);
+    }
+
+    private static void deviceDefinitionCapability(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.Capability.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("description", CodeableConcept.class, REPEATING);
+    }
+
+    private static void deviceDefinitionDeviceName(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.DeviceName.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("type", DeviceNameType.class, BINDING | REQUIRED);
+    }
+
+    private static void deviceDefinitionMaterial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.Material.class);
+        registry.element("substance", CodeableConcept.class, REQUIRED);
+        registry.element("alternate", Boolean.class, 0);
+        registry.element("allergenicIndicator", Boolean.class, 0);
+    }
+
+    private static void deviceDefinitionProperty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.Property.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("valueQuantity", Quantity.class, REPEATING);
+        registry.element("valueCode", CodeableConcept.class, REPEATING);
+    }
+
+    private static void deviceDefinitionSpecialization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.Specialization.class);
+        registry.element("systemType", String.class, REQUIRED);
+        registry.element("version", String.class, 0);
+    }
+
+    private static void deviceDefinitionUdiDeviceIdentifier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceDefinition.UdiDeviceIdentifier.class);
+        registry.element("deviceIdentifier", String.class, REQUIRED);
+        registry.element("issuer", Uri.class, REQUIRED);
+        registry.element("jurisdiction", Uri.class, REQUIRED);
+    }
+
+    private static void deviceMetric(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceMetric.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("unit", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("source", SUMMARY, "Device");
+        registry.referenceElement("parent", SUMMARY, "Device");
+        registry.element("operationalStatus", DeviceMetricOperationalStatus.class, SUMMARY | BINDING);
+        registry.element("color", DeviceMetricColor.class, SUMMARY | BINDING);
+        registry.element("category", DeviceMetricCategory.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("measurementPeriod", Timing.class, SUMMARY);
+        registry.element("calibration", DeviceMetric.Calibration.class, SUMMARY | REPEATING);
+    }
+
+    private static void deviceMetricCalibration(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceMetric.Calibration.class);
+        registry.element("type", DeviceMetricCalibrationType.class, SUMMARY | BINDING);
+        registry.element("state", DeviceMetricCalibrationState.class, SUMMARY | BINDING);
+        registry.element("time", Instant.class, SUMMARY);
+    }
+
+    private static void deviceRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceRequest.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("priorRequest", Reference.class, SUMMARY | REPEATING);
+        registry.element("groupIdentifier", Identifier.class, SUMMARY);
+        registry.element("status", DeviceRequestStatus.class, SUMMARY | BINDING);
+        registry.element("intent", RequestIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("priority", RequestPriority.class, SUMMARY | BINDING);
+        registry.choiceElement("code", SUMMARY | BINDING | REQUIRED, Reference.class, CodeableConcept.class);
+        registry.element("parameter", DeviceRequest.Parameter.class, REPEATING);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group", "Location", "Device");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class, Timing.class);
+        registry.element("authoredOn", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Device", "Practitioner", "PractitionerRole", "Organization");
+        registry.element("performerType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("performer", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "CareTeam", "HealthcareService", "Patient", "Device", "RelatedPerson");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("insurance", Reference.class, REPEATING);
+        registry.element("supportingInfo", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("relevantHistory", Reference.class, REPEATING);
+    }
+
+    private static void deviceRequestParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceRequest.Parameter.class);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.choiceElement("value", 0, CodeableConcept.class, Quantity.class, Range.class, Boolean.class);
+    }
+
+    private static void deviceUseStatement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DeviceUseStatement.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", DeviceUseStatementStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.element("derivedFrom", Reference.class, SUMMARY | REPEATING);
+        registry.choiceElement("timing", SUMMARY, Timing.class, Period.class, DateTime.class);
+        registry.element("recordedOn", DateTime.class, SUMMARY);
+        registry.referenceElement("source", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.referenceElement("device", SUMMARY | REQUIRED, "Device");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("bodySite", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void diagnosticReport(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DiagnosticReport.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, REPEATING);
+        registry.element("status", DiagnosticReportStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group", "Device", "Location");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("effective", SUMMARY, DateTime.class, Period.class);
+        registry.element("issued", Instant.class, SUMMARY);
+        registry.element("performer", Reference.class, SUMMARY | REPEATING);
+        registry.element("resultsInterpreter", Reference.class, SUMMARY | REPEATING);
+        registry.element("specimen", Reference.class, REPEATING);
+        registry.element("result", Reference.class, REPEATING);
+        registry.element("imagingStudy", Reference.class, REPEATING);
+        registry.element("media", DiagnosticReport.Media.class, SUMMARY | REPEATING);
+        registry.element("conclusion", String.class, 0);
+        registry.element("conclusionCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("presentedForm", Attachment.class, REPEATING);
+    }
+
+    private static void diagnosticReportMedia(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DiagnosticReport.Media.class);
+        registry.element("comment", String.class, 0);
+        registry.referenceElement("link", SUMMARY | REQUIRED, "Media");
+    }
+
+    private static void documentManifest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentManifest.class);
+        registry.element("masterIdentifier", Identifier.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", DocumentReferenceStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Practitioner", "Group", "Device");
+        registry.element("created", DateTime.class, 0);
+        registry.element("author", Reference.class, SUMMARY | REPEATING);
+        registry.element("recipient", Reference.class, REPEATING);
+        registry.element("source", Uri.class, 0);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("content", Reference.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("related", DocumentManifest.Related.class, REPEATING);
+    }
+
+    private static void documentManifestRelated(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentManifest.Related.class);
+        registry.element("identifier", Identifier.class, 0);
+        registry.element("ref", Reference.class, 0);
+    }
+
+    private static void documentReference(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentReference.class);
+        registry.element("masterIdentifier", Identifier.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", DocumentReferenceStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("docStatus", ReferredDocumentStatus.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Practitioner", "Group", "Device");
+        registry.element("date", Instant.class, SUMMARY);
+        registry.element("author", Reference.class, SUMMARY | REPEATING);
+        registry.referenceElement("authenticator", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("custodian", 0, "Organization");
+        registry.element("relatesTo", DocumentReference.RelatesTo.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("securityLabel", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("content", DocumentReference.Content.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("context", DocumentReference.Context.class, SUMMARY);
+    }
+
+    private static void documentReferenceContent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentReference.Content.class);
+        registry.element("attachment", Attachment.class, SUMMARY | REQUIRED);
+        registry.element("format", Coding.class, SUMMARY | BINDING);
+    }
+
+    private static void documentReferenceContext(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentReference.Context.class);
+        registry.element("encounter", Reference.class, REPEATING);
+        registry.element("event", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("facilityType", CodeableConcept.class, BINDING);
+        registry.element("practiceSetting", CodeableConcept.class, BINDING);
+        registry.referenceElement("sourcePatientInfo", 0, "Patient");
+        registry.element("related", Reference.class, REPEATING);
+    }
+
+    private static void documentReferenceRelatesTo(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DocumentReference.RelatesTo.class);
+        registry.element("code", DocumentRelationshipType.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("target", SUMMARY | REQUIRED, "DocumentReference");
+    }
+
+    private static void domainResource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DomainResource.class);
+        registry.element("text", Narrative.class, 0);
+        registry.element("contained", Resource.class, REPEATING);
+        registry.element("extension", Extension.class, REPEATING);
+        registry.element("modifierExtension", Extension.class, REPEATING);
+    }
+
+    private static void effectEvidenceSynthesis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("synthesisType", CodeableConcept.class, BINDING);
+        registry.element("studyType", CodeableConcept.class, BINDING);
+        registry.referenceElement("population", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.referenceElement("exposure", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.referenceElement("exposureAlternative", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.referenceElement("outcome", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.element("sampleSize", EffectEvidenceSynthesis.SampleSize.class, 0);
+        registry.element("resultsByExposure", EffectEvidenceSynthesis.ResultsByExposure.class, REPEATING);
+        registry.element("effectEstimate", EffectEvidenceSynthesis.EffectEstimate.class, SUMMARY | REPEATING);
+        registry.element("certainty", EffectEvidenceSynthesis.Certainty.class, REPEATING);
+    }
+
+    private static void effectEvidenceSynthesisCertainty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.Certainty.class);
+        registry.element("rating", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("certaintySubcomponent", EffectEvidenceSynthesis.Certainty.CertaintySubcomponent.class, REPEATING);
+    }
+
+    private static void effectEvidenceSynthesisCertaintyCertaintySubcomponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.Certainty.CertaintySubcomponent.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("rating", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void effectEvidenceSynthesisEffectEstimate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.EffectEstimate.class);
+        registry.element("description", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("variantState", CodeableConcept.class, BINDING);
+        registry.element("value", Decimal.class, 0);
+        registry.element("unitOfMeasure", CodeableConcept.class, BINDING);
+        registry.element("precisionEstimate", EffectEvidenceSynthesis.EffectEstimate.PrecisionEstimate.class, REPEATING);
+    }
+
+    private static void effectEvidenceSynthesisEffectEstimatePrecisionEstimate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.EffectEstimate.PrecisionEstimate.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("level", Decimal.class, 0);
+        registry.element("from", Decimal.class, 0);
+        registry.element("to", Decimal.class, 0);
+    }
+
+    private static void effectEvidenceSynthesisResultsByExposure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.ResultsByExposure.class);
+        registry.element("description", String.class, 0);
+        registry.element("exposureState", ExposureState.class, BINDING);
+        registry.element("variantState", CodeableConcept.class, BINDING);
+        registry.referenceElement("riskEvidenceSynthesis", REQUIRED, "RiskEvidenceSynthesis");
+    }
+
+    private static void effectEvidenceSynthesisSampleSize(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EffectEvidenceSynthesis.SampleSize.class);
+        registry.element("description", String.class, 0);
+        registry.element("numberOfStudies", Integer.class, 0);
+        registry.element("numberOfParticipants", Integer.class, 0);
+    }
+
+    private static void encounter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", EncounterStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusHistory", Encounter.StatusHistory.class, REPEATING);
+        registry.element("class", Coding.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("classHistory", Encounter.ClassHistory.class, REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("serviceType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("priority", CodeableConcept.class, BINDING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group");
+        registry.element("episodeOfCare", Reference.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, REPEATING);
+        registry.element("participant", Encounter.Participant.class, SUMMARY | REPEATING);
+        registry.element("appointment", Reference.class, SUMMARY | REPEATING);
+        registry.element("period", Period.class, 0);
+        registry.element("length", Duration.class, 0);
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("diagnosis", Encounter.Diagnosis.class, SUMMARY | REPEATING);
+        registry.element("account", Reference.class, REPEATING);
+        registry.element("hospitalization", Encounter.Hospitalization.class, 0);
+        registry.element("location", Encounter.Location.class, REPEATING);
+        registry.referenceElement("serviceProvider", 0, "Organization");
+        registry.referenceElement("partOf", 0, "Encounter");
+    }
+
+    private static void encounterClassHistory(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.ClassHistory.class);
+        registry.element("class", Coding.class, BINDING | REQUIRED);
+        registry.element("period", Period.class, REQUIRED);
+    }
+
+    private static void encounterDiagnosis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.Diagnosis.class);
+        registry.referenceElement("condition", SUMMARY | REQUIRED, "Condition", "Procedure");
+        registry.element("use", CodeableConcept.class, BINDING);
+        registry.element("rank", PositiveInt.class, 0);
+    }
+
+    private static void encounterHospitalization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.Hospitalization.class);
+        registry.element("preAdmissionIdentifier", Identifier.class, 0);
+        registry.referenceElement("origin", 0, "Location", "Organization");
+        registry.element("admitSource", CodeableConcept.class, BINDING);
+        registry.element("reAdmission", CodeableConcept.class, BINDING);
+        registry.element("dietPreference", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("specialCourtesy", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("specialArrangement", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("destination", 0, "Location", "Organization");
+        registry.element("dischargeDisposition", CodeableConcept.class, BINDING);
+    }
+
+    private static void encounterLocation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.Location.class);
+        registry.referenceElement("location", REQUIRED, "Location");
+        registry.element("status", EncounterLocationStatus.class, BINDING);
+        registry.element("physicalType", CodeableConcept.class, BINDING);
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void encounterParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.Participant.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("period", Period.class, 0);
+        registry.referenceElement("individual", SUMMARY, "Practitioner", "PractitionerRole", "RelatedPerson");
+    }
+
+    private static void encounterStatusHistory(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Encounter.StatusHistory.class);
+        registry.element("status", EncounterStatus.class, BINDING | REQUIRED);
+        registry.element("period", Period.class, REQUIRED);
+    }
+
+    private static void endpoint(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Endpoint.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", EndpointStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("connectionType", Coding.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("name", String.class, SUMMARY);
+        registry.referenceElement("managingOrganization", SUMMARY, "Organization");
+        registry.element("contact", ContactPoint.class, REPEATING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("payloadType", CodeableConcept.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("payloadMimeType", Code.class, SUMMARY | BINDING | REPEATING);
+        registry.element("address", Url.class, SUMMARY | REQUIRED);
+        registry.element("header", String.class, REPEATING);
+    }
+
+    private static void enrollmentRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EnrollmentRequest.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", EnrollmentRequestStatus.class, SUMMARY | BINDING);
+        registry.element("created", DateTime.class, 0);
+        registry.referenceElement("insurer", 0, "Organization");
+        registry.referenceElement("provider", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("candidate", 0, "Patient");
+        registry.referenceElement("coverage", 0, "Coverage");
+    }
+
+    private static void enrollmentResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EnrollmentResponse.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", EnrollmentResponseStatus.class, SUMMARY | BINDING);
+        registry.referenceElement("request", 0, "EnrollmentRequest");
+        registry.element("outcome", RemittanceOutcome.class, BINDING);
+        registry.element("disposition", String.class, 0);
+        registry.element("created", DateTime.class, 0);
+        registry.referenceElement("organization", 0, "Organization");
+        registry.referenceElement("requestProvider", 0, "Practitioner", "PractitionerRole", "Organization");
+    }
+
+    private static void episodeOfCare(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EpisodeOfCare.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", EpisodeOfCareStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusHistory", EpisodeOfCare.StatusHistory.class, REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("diagnosis", EpisodeOfCare.Diagnosis.class, SUMMARY | REPEATING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.referenceElement("managingOrganization", SUMMARY, "Organization");
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("referralRequest", Reference.class, REPEATING);
+        registry.referenceElement("careManager", 0, "Practitioner", "PractitionerRole");
+        registry.element("team", Reference.class, REPEATING);
+        registry.element("account", Reference.class, REPEATING);
+    }
+
+    private static void episodeOfCareDiagnosis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EpisodeOfCare.Diagnosis.class);
+        registry.referenceElement("condition", SUMMARY | REQUIRED, "Condition");
+        registry.element("role", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("rank", PositiveInt.class, SUMMARY);
+    }
+
+    private static void episodeOfCareStatusHistory(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EpisodeOfCare.StatusHistory.class);
+        registry.element("status", EpisodeOfCareStatus.class, BINDING | REQUIRED);
+        registry.element("period", Period.class, REQUIRED);
+    }
+
+    private static void eventDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EventDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, SUMMARY);
+        registry.element("lastReviewDate", Date.class, SUMMARY);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("trigger", TriggerDefinition.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void evidence(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Evidence.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("shortTitle", String.class, 0);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.referenceElement("exposureBackground", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.element("exposureVariant", Reference.class, SUMMARY | REPEATING);
+        registry.element("outcome", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void evidenceVariable(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EvidenceVariable.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("shortTitle", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("type", EvidenceVariableType.class, SUMMARY | BINDING);
+        registry.element("characteristic", EvidenceVariable.Characteristic.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void evidenceVariableCharacteristic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(EvidenceVariable.Characteristic.class);
+        registry.element("description", String.class, 0);
+        registry.choiceElement("definition", SUMMARY | REQUIRED, Reference.class, Canonical.class, CodeableConcept.class, Expression.class, DataRequirement.class, TriggerDefinition.class);
+        registry.element("usageContext", UsageContext.class, REPEATING);
+        registry.element("exclude", Boolean.class, 0);
+        registry.choiceElement("participantEffective", 0, DateTime.class, Period.class, Duration.class, Timing.class);
+        registry.element("timeFromStart", Duration.class, 0);
+        registry.element("groupMeasure", GroupMeasure.class, BINDING);
+    }
+
+    private static void exampleScenario(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("actor", ExampleScenario.Actor.class, REPEATING);
+        registry.element("instance", ExampleScenario.Instance.class, REPEATING);
+        registry.element("process", ExampleScenario.Process.class, REPEATING);
+        registry.element("workflow", Canonical.class, REPEATING);
+    }
+
+    private static void exampleScenarioActor(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Actor.class);
+        registry.element("actorId", String.class, REQUIRED);
+        registry.element("type", ExampleScenarioActorType.class, BINDING | REQUIRED);
+        registry.element("name", String.class, 0);
+        registry.element("description", Markdown.class, 0);
+    }
+
+    private static void exampleScenarioInstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Instance.class);
+        registry.element("resourceId", String.class, REQUIRED);
+        registry.element("resourceType", FHIRResourceType.class, BINDING | REQUIRED);
+        registry.element("name", String.class, 0);
+        registry.element("description", Markdown.class, 0);
+        registry.element("version", ExampleScenario.Instance.Version.class, REPEATING);
+        registry.element("containedInstance", ExampleScenario.Instance.ContainedInstance.class, REPEATING);
+    }
+
+    private static void exampleScenarioInstanceContainedInstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Instance.ContainedInstance.class);
+        registry.element("resourceId", String.class, REQUIRED);
+        registry.element("versionId", String.class, 0);
+    }
+
+    private static void exampleScenarioInstanceVersion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Instance.Version.class);
+        registry.element("versionId", String.class, REQUIRED);
+        registry.element("description", Markdown.class, REQUIRED);
+    }
+
+    private static void exampleScenarioProcess(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Process.class);
+        registry.element("title", String.class, SUMMARY | REQUIRED);
+        registry.element("description", Markdown.class, 0);
+        registry.element("preConditions", Markdown.class, 0);
+        registry.element("postConditions", Markdown.class, 0);
+        registry.element("step", ExampleScenario.Process.Step.class, REPEATING);
+    }
+
+    private static void exampleScenarioProcessStep(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Process.Step.class);
+        registry.element("process", ExampleScenario.Process.class, REPEATING);
+        registry.element("pause", Boolean.class, 0);
+        registry.element("operation", ExampleScenario.Process.Step.Operation.class, 0);
+        registry.element("alternative", ExampleScenario.Process.Step.Alternative.class, REPEATING);
+    }
+
+    private static void exampleScenarioProcessStepAlternative(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Process.Step.Alternative.class);
+        registry.element("title", String.class, REQUIRED);
+        registry.element("description", Markdown.class, 0);
+        registry.element("step", ExampleScenario.Process.Step.class, REPEATING);
+    }
+
+    private static void exampleScenarioProcessStepOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExampleScenario.Process.Step.Operation.class);
+        registry.element("number", String.class, REQUIRED);
+        registry.element("type", String.class, 0);
+        registry.element("name", String.class, 0);
+        registry.element("initiator", String.class, 0);
+        registry.element("receiver", String.class, 0);
+        registry.element("description", Markdown.class, 0);
+        registry.element("initiatorActive", Boolean.class, 0);
+        registry.element("receiverActive", Boolean.class, 0);
+        registry.element("request", ExampleScenario.Instance.ContainedInstance.class, 0);
+        registry.element("response", ExampleScenario.Instance.ContainedInstance.class, 0);
+    }
+
+    private static void explanationOfBenefit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ExplanationOfBenefitStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subType", CodeableConcept.class, BINDING);
+        registry.element("use", Use.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("billablePeriod", Period.class, SUMMARY);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("enterer", 0, "Practitioner", "PractitionerRole");
+        registry.referenceElement("insurer", SUMMARY | REQUIRED, "Organization");
+        registry.referenceElement("provider", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("priority", CodeableConcept.class, BINDING);
+        registry.element("fundsReserveRequested", CodeableConcept.class, BINDING);
+        registry.element("fundsReserve", CodeableConcept.class, BINDING);
+        registry.element("related", ExplanationOfBenefit.Related.class, REPEATING);
+        registry.referenceElement("prescription", 0, "MedicationRequest", "VisionPrescription");
+        registry.referenceElement("originalPrescription", 0, "MedicationRequest");
+        registry.element("payee", ExplanationOfBenefit.Payee.class, 0);
+        registry.referenceElement("referral", 0, "ServiceRequest");
+        registry.referenceElement("facility", 0, "Location");
+        registry.referenceElement("claim", 0, "Claim");
+        registry.referenceElement("claimResponse", 0, "ClaimResponse");
+        registry.element("outcome", RemittanceOutcome.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("disposition", String.class, 0);
+        registry.element("preAuthRef", String.class, REPEATING);
+        registry.element("preAuthRefPeriod", Period.class, REPEATING);
+        registry.element("careTeam", ExplanationOfBenefit.CareTeam.class, REPEATING);
+        registry.element("supportingInfo", ExplanationOfBenefit.SupportingInfo.class, REPEATING);
+        registry.element("diagnosis", ExplanationOfBenefit.Diagnosis.class, REPEATING);
+        registry.element("procedure", ExplanationOfBenefit.Procedure.class, REPEATING);
+        registry.element("precedence", PositiveInt.class, 0);
+        registry.element("insurance", ExplanationOfBenefit.Insurance.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("accident", ExplanationOfBenefit.Accident.class, 0);
+        registry.element("item", ExplanationOfBenefit.Item.class, REPEATING);
+        registry.element("addItem", ExplanationOfBenefit.AddItem.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+        registry.element("total", ExplanationOfBenefit.Total.class, SUMMARY | REPEATING);
+        registry.element("payment", ExplanationOfBenefit.Payment.class, 0);
+        registry.element("formCode", CodeableConcept.class, BINDING);
+        registry.element("form", Attachment.class, 0);
+        registry.element("processNote", ExplanationOfBenefit.ProcessNote.class, REPEATING);
+        registry.element("benefitPeriod", Period.class, 0);
+        registry.element("benefitBalance", ExplanationOfBenefit.BenefitBalance.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitAccident(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Accident.class);
+        registry.element("date", Date.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.choiceElement("location", 0, Address.class, Reference.class);
+    }
+
+    private static void explanationOfBenefitAddItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.AddItem.class);
+        registry.element("itemSequence", PositiveInt.class, REPEATING);
+        registry.element("detailSequence", PositiveInt.class, REPEATING);
+        registry.element("subDetailSequence", PositiveInt.class, REPEATING);
+        registry.element("provider", Reference.class, REPEATING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.choiceElement("location", BINDING, CodeableConcept.class, Address.class, Reference.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.element("subSite", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+        registry.element("detail", ExplanationOfBenefit.AddItem.Detail.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitAddItemDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.AddItem.Detail.class);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+        registry.element("subDetail", ExplanationOfBenefit.AddItem.Detail.SubDetail.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitAddItemDetailSubDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.AddItem.Detail.SubDetail.class);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitBenefitBalance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.BenefitBalance.class);
+        registry.element("category", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("excluded", Boolean.class, 0);
+        registry.element("name", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("network", CodeableConcept.class, BINDING);
+        registry.element("unit", CodeableConcept.class, BINDING);
+        registry.element("term", CodeableConcept.class, BINDING);
+        registry.element("financial", ExplanationOfBenefit.BenefitBalance.Financial.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitBenefitBalanceFinancial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.BenefitBalance.Financial.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.choiceElement("allowed", 0, UnsignedInt.class, String.class, Money.class);
+        registry.choiceElement("used", 0, UnsignedInt.class, Money.class);
+    }
+
+    private static void explanationOfBenefitCareTeam(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.CareTeam.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.referenceElement("provider", REQUIRED, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("responsible", Boolean.class, 0);
+        registry.element("role", CodeableConcept.class, BINDING);
+        registry.element("qualification", CodeableConcept.class, BINDING);
+    }
+
+    private static void explanationOfBenefitDiagnosis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Diagnosis.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.choiceElement("diagnosis", BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("type", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("onAdmission", CodeableConcept.class, BINDING);
+        registry.element("packageCode", CodeableConcept.class, BINDING);
+    }
+
+    private static void explanationOfBenefitInsurance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Insurance.class);
+        registry.element("focal", Boolean.class, SUMMARY | REQUIRED);
+        registry.referenceElement("coverage", SUMMARY | REQUIRED, "Coverage");
+        registry.element("preAuthRef", String.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Item.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("careTeamSequence", PositiveInt.class, REPEATING);
+        registry.element("diagnosisSequence", PositiveInt.class, REPEATING);
+        registry.element("procedureSequence", PositiveInt.class, REPEATING);
+        registry.element("informationSequence", PositiveInt.class, REPEATING);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.choiceElement("serviced", 0, Date.class, Period.class);
+        registry.choiceElement("location", BINDING, CodeableConcept.class, Address.class, Reference.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.element("subSite", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("encounter", Reference.class, REPEATING);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+        registry.element("detail", ExplanationOfBenefit.Item.Detail.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitItemAdjudication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Item.Adjudication.class);
+        registry.element("category", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("reason", CodeableConcept.class, BINDING);
+        registry.element("amount", Money.class, 0);
+        registry.element("value", Decimal.class, 0);
+    }
+
+    private static void explanationOfBenefitItemDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Item.Detail.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+        registry.element("subDetail", ExplanationOfBenefit.Item.Detail.SubDetail.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitItemDetailSubDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Item.Detail.SubDetail.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("revenue", CodeableConcept.class, BINDING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("productOrService", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("modifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("programCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("unitPrice", Money.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("net", Money.class, 0);
+        registry.element("udi", Reference.class, REPEATING);
+        registry.element("noteNumber", PositiveInt.class, REPEATING);
+        registry.element("adjudication", ExplanationOfBenefit.Item.Adjudication.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitPayee(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Payee.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.referenceElement("party", 0, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson");
+    }
+
+    private static void explanationOfBenefitPayment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Payment.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("adjustment", Money.class, 0);
+        registry.element("adjustmentReason", CodeableConcept.class, BINDING);
+        registry.element("date", Date.class, 0);
+        registry.element("amount", Money.class, 0);
+        registry.element("identifier", Identifier.class, 0);
+    }
+
+    private static void explanationOfBenefitProcedure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Procedure.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("type", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("date", DateTime.class, 0);
+        registry.choiceElement("procedure", BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("udi", Reference.class, REPEATING);
+    }
+
+    private static void explanationOfBenefitProcessNote(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.ProcessNote.class);
+        registry.element("number", PositiveInt.class, 0);
+        registry.element("type", NoteType.class, BINDING);
+        registry.element("text", String.class, 0);
+        registry.element("language", CodeableConcept.class, BINDING);
+    }
+
+    private static void explanationOfBenefitRelated(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Related.class);
+        registry.referenceElement("claim", 0, "Claim");
+        registry.element("relationship", CodeableConcept.class, BINDING);
+        registry.element("reference", Identifier.class, 0);
+    }
+
+    private static void explanationOfBenefitSupportingInfo(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.SupportingInfo.class);
+        registry.element("sequence", PositiveInt.class, REQUIRED);
+        registry.element("category", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.choiceElement("timing", 0, Date.class, Period.class);
+        registry.choiceElement("value", 0, Boolean.class, String.class, Quantity.class, Attachment.class, Reference.class);
+        registry.element("reason", Coding.class, BINDING);
+    }
+
+    private static void explanationOfBenefitTotal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ExplanationOfBenefit.Total.class);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("amount", Money.class, SUMMARY | REQUIRED);
+    }
+
+    private static void familyMemberHistory(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(FamilyMemberHistory.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("status", FamilyHistoryStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("dataAbsentReason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("relationship", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("sex", CodeableConcept.class, SUMMARY | BINDING);
+        registry.choiceElement("born", 0, Period.class, Date.class, String.class);
+        registry.choiceElement("age", SUMMARY, Age.class, Range.class, String.class);
+        registry.element("estimatedAge", Boolean.class, SUMMARY);
+        registry.choiceElement("deceased", SUMMARY, Boolean.class, Age.class, Range.class, Date.class, String.class);
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("condition", FamilyMemberHistory.Condition.class, REPEATING);
+    }
+
+    private static void familyMemberHistoryCondition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(FamilyMemberHistory.Condition.class);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("outcome", CodeableConcept.class, BINDING);
+        registry.element("contributedToDeath", Boolean.class, 0);
+        registry.choiceElement("onset", 0, Age.class, Range.class, Period.class, String.class);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void flag(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Flag.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", FlagStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Location", "Group", "Organization", "Practitioner", "PlanDefinition", "Medication", "Procedure");
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.referenceElement("author", SUMMARY, "Device", "Organization", "Patient", "Practitioner", "PractitionerRole");
+    }
+
+    private static void goal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Goal.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("lifecycleStatus", GoalLifecycleStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("achievementStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("priority", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("description", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group", "Organization");
+        registry.choiceElement("start", SUMMARY | BINDING, Date.class, CodeableConcept.class);
+        registry.element("target", Goal.Target.class, REPEATING);
+        registry.element("statusDate", Date.class, SUMMARY);
+        registry.element("statusReason", String.class, 0);
+        registry.referenceElement("expressedBy", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("addresses", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("outcomeCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("outcomeReference", Reference.class, REPEATING);
+    }
+
+    private static void goalTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Goal.Target.class);
+        registry.element("measure", CodeableConcept.class, SUMMARY | BINDING);
+        registry.choiceElement("detail", SUMMARY | BINDING, Quantity.class, Range.class, CodeableConcept.class, String.class, Boolean.class, Integer.class, Ratio.class);
+        registry.choiceElement("due", SUMMARY, Date.class, Duration.class);
+    }
+
+    private static void graphDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(GraphDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("start", ResourceType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, 0);
+        registry.element("link", GraphDefinition.Link.class, REPEATING);
+    }
+
+    private static void graphDefinitionLink(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(GraphDefinition.Link.class);
+        registry.element("path", String.class, 0);
+        registry.element("sliceName", String.class, 0);
+        registry.element("min", Integer.class, 0);
+        registry.element("max", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("target", GraphDefinition.Link.Target.class, REPEATING);
+    }
+
+    private static void graphDefinitionLinkTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(GraphDefinition.Link.Target.class);
+        registry.element("type", ResourceType.class, BINDING | REQUIRED);
+        registry.element("params", String.class, 0);
+        registry.element("profile", Canonical.class, 0);
+        registry.element("compartment", GraphDefinition.Link.Target.Compartment.class, REPEATING);
+        registry.element("link", GraphDefinition.Link.class, REPEATING);
+    }
+
+    private static void graphDefinitionLinkTargetCompartment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(GraphDefinition.Link.Target.Compartment.class);
+        registry.element("use", GraphCompartmentUse.class, BINDING | REQUIRED);
+        registry.element("code", CompartmentCode.class, BINDING | REQUIRED);
+        registry.element("rule", GraphCompartmentRule.class, BINDING | REQUIRED);
+        registry.element("expression", String.class, 0);
+        registry.element("description", String.class, 0);
+    }
+
+    private static void group(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Group.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("type", GroupType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("actual", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("quantity", UnsignedInt.class, SUMMARY);
+        registry.referenceElement("managingEntity", SUMMARY, "Organization", "RelatedPerson", "Practitioner", "PractitionerRole");
+        registry.element("characteristic", Group.Characteristic.class, REPEATING);
+        registry.element("member", Group.Member.class, REPEATING);
+    }
+
+    private static void groupCharacteristic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Group.Characteristic.class);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+        registry.choiceElement("value", BINDING | REQUIRED, CodeableConcept.class, Boolean.class, Quantity.class, Range.class, Reference.class);
+        registry.element("exclude", Boolean.class, REQUIRED);
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void groupMember(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Group.Member.class);
+        registry.referenceElement("entity", REQUIRED, "Patient", "Practitioner", "PractitionerRole", "Device", "Medication", "Substance", "Group");
+        registry.element("period", Period.class, 0);
+        registry.element("inactive", Boolean.class, 0);
+    }
+
+    private static void guidanceResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(GuidanceResponse.class);
+        registry.element("requestIdentifier", Identifier.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.choiceElement("module", SUMMARY | REQUIRED, Uri.class, Canonical.class, CodeableConcept.class);
+        registry.element("status", GuidanceResponseStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", 0, "Patient", "Group");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("occurrenceDateTime", DateTime.class, 0);
+        registry.referenceElement("performer", 0, "Device");
+        registry.element("reasonCode", CodeableConcept.class, REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("evaluationMessage", Reference.class, REPEATING);
+        registry.referenceElement("outputParameters", 0, "Parameters");
+        registry.referenceElement("result", 0, "CarePlan", "RequestGroup");
+        registry.element("dataRequirement", DataRequirement.class, REPEATING);
+    }
+
+    private static void healthcareService(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(HealthcareService.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.referenceElement("providedBy", SUMMARY, "Organization");
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("location", Reference.class, SUMMARY | REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("comment", String.class, SUMMARY);
+        registry.element("extraDetails", Markdown.class, 0);
+        registry.element("photo", Attachment.class, SUMMARY);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("coverageArea", Reference.class, REPEATING);
+        registry.element("serviceProvisionCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("eligibility", HealthcareService.Eligibility.class, REPEATING);
+        registry.element("program", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("characteristic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("communication", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("referralMethod", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("appointmentRequired", Boolean.class, 0);
+        registry.element("availableTime", HealthcareService.AvailableTime.class, REPEATING);
+        registry.element("notAvailable", HealthcareService.NotAvailable.class, REPEATING);
+        registry.element("availabilityExceptions", String.class, 0);
+        registry.element("endpoint", Reference.class, REPEATING);
+    }
+
+    private static void healthcareServiceAvailableTime(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(HealthcareService.AvailableTime.class);
+        registry.element("daysOfWeek", DaysOfWeek.class, BINDING | REPEATING);
+        registry.element("allDay", Boolean.class, 0);
+        registry.element("availableStartTime", Time.class, 0);
+        registry.element("availableEndTime", Time.class, 0);
+    }
+
+    private static void healthcareServiceEligibility(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(HealthcareService.Eligibility.class);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.element("comment", Markdown.class, 0);
+    }
+
+    private static void healthcareServiceNotAvailable(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(HealthcareService.NotAvailable.class);
+        registry.element("description", String.class, REQUIRED);
+        registry.element("during", Period.class, 0);
+    }
+
+    private static void imagingStudy(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImagingStudy.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", ImagingStudyStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("modality", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Device", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("started", DateTime.class, SUMMARY);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.referenceElement("referrer", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.element("interpreter", Reference.class, SUMMARY | REPEATING);
+        registry.element("endpoint", Reference.class, SUMMARY | REPEATING);
+        registry.element("numberOfSeries", UnsignedInt.class, SUMMARY);
+        registry.element("numberOfInstances", UnsignedInt.class, SUMMARY);
+        registry.referenceElement("procedureReference", SUMMARY, "Procedure");
+        registry.element("procedureCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.referenceElement("location", SUMMARY, "Location");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("note", Annotation.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("series", ImagingStudy.Series.class, SUMMARY | REPEATING);
+    }
+
+    private static void imagingStudySeries(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImagingStudy.Series.class);
+        registry.element("uid", Id.class, SUMMARY | REQUIRED);
+        registry.element("number", UnsignedInt.class, SUMMARY);
+        registry.element("modality", Coding.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("numberOfInstances", UnsignedInt.class, SUMMARY);
+        registry.element("endpoint", Reference.class, SUMMARY | REPEATING);
+        registry.element("bodySite", Coding.class, SUMMARY | BINDING);
+        registry.element("laterality", Coding.class, SUMMARY | BINDING);
+        registry.element("specimen", Reference.class, SUMMARY | REPEATING);
+        registry.element("started", DateTime.class, SUMMARY);
+        registry.element("performer", ImagingStudy.Series.Performer.class, SUMMARY | REPEATING);
+        registry.element("instance", ImagingStudy.Series.Instance.class, REPEATING);
+    }
+
+    private static void imagingStudySeriesInstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImagingStudy.Series.Instance.class);
+        registry.element("uid", Id.class, REQUIRED);
+        registry.element("sopClass", Coding.class, BINDING | REQUIRED);
+        registry.element("number", UnsignedInt.class, 0);
+        registry.element("title", String.class, 0);
+    }
+
+    private static void imagingStudySeriesPerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImagingStudy.Series.Performer.class);
+        registry.element("function", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("actor", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Organization", "CareTeam", "Patient", "Device", "RelatedPerson");
+    }
+
+    private static void immunization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Immunization.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ImmunizationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING);
+        registry.element("vaccineCode", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.choiceElement("occurrence", SUMMARY | REQUIRED, DateTime.class, String.class);
+        registry.element("recorded", DateTime.class, 0);
+        registry.element("primarySource", Boolean.class, SUMMARY);
+        registry.element("reportOrigin", CodeableConcept.class, BINDING);
+        registry.referenceElement("location", 0, "Location");
+        registry.referenceElement("manufacturer", 0, "Organization");
+        registry.element("lotNumber", String.class, 0);
+        registry.element("expirationDate", Date.class, 0);
+        registry.element("site", CodeableConcept.class, BINDING);
+        registry.element("route", CodeableConcept.class, BINDING);
+        registry.element("doseQuantity", SimpleQuantity.class, 0);
+        registry.element("performer", Immunization.Performer.class, SUMMARY | REPEATING);
+        registry.element("note", Annotation.class, SUMMARY | REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("isSubpotent", Boolean.class, SUMMARY);
+        registry.element("subpotentReason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("education", Immunization.Education.class, REPEATING);
+        registry.element("programEligibility", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("fundingSource", CodeableConcept.class, BINDING);
+        registry.element("reaction", Immunization.Reaction.class, REPEATING);
+        registry.element("protocolApplied", Immunization.ProtocolApplied.class, REPEATING);
+    }
+
+    private static void immunizationEducation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Immunization.Education.class);
+        registry.element("documentType", String.class, 0);
+        registry.element("reference", Uri.class, 0);
+        registry.element("publicationDate", DateTime.class, 0);
+        registry.element("presentationDate", DateTime.class, 0);
+    }
+
+    private static void immunizationPerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Immunization.Performer.class);
+        registry.element("function", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("actor", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Organization");
+    }
+
+    private static void immunizationProtocolApplied(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Immunization.ProtocolApplied.class);
+        registry.element("series", String.class, 0);
+        registry.referenceElement("authority", 0, "Organization");
+        registry.element("targetDisease", CodeableConcept.class, BINDING | REPEATING);
+        registry.choiceElement("doseNumber", REQUIRED, PositiveInt.class, String.class);
+        registry.choiceElement("seriesDoses", 0, PositiveInt.class, String.class);
+    }
+
+    private static void immunizationReaction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Immunization.Reaction.class);
+        registry.element("date", DateTime.class, 0);
+        registry.referenceElement("detail", 0, "Observation");
+        registry.element("reported", Boolean.class, 0);
+    }
+
+    private static void immunizationEvaluation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImmunizationEvaluation.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ImmunizationEvaluationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("date", DateTime.class, 0);
+        registry.referenceElement("authority", 0, "Organization");
+        registry.element("targetDisease", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("immunizationEvent", SUMMARY | REQUIRED, "Immunization");
+        registry.element("doseStatus", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("doseStatusReason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("description", String.class, 0);
+        registry.element("series", String.class, 0);
+        registry.choiceElement("doseNumber", 0, PositiveInt.class, String.class);
+        registry.choiceElement("seriesDoses", 0, PositiveInt.class, String.class);
+    }
+
+    private static void immunizationRecommendation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImmunizationRecommendation.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("authority", 0, "Organization");
+        registry.element("recommendation", ImmunizationRecommendation.Recommendation.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void immunizationRecommendationRecommendation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImmunizationRecommendation.Recommendation.class);
+        registry.element("vaccineCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("targetDisease", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("contraindicatedVaccineCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("forecastStatus", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("forecastReason", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("dateCriterion", ImmunizationRecommendation.Recommendation.DateCriterion.class, REPEATING);
+        registry.element("description", String.class, 0);
+        registry.element("series", String.class, 0);
+        registry.choiceElement("doseNumber", SUMMARY, PositiveInt.class, String.class);
+        registry.choiceElement("seriesDoses", 0, PositiveInt.class, String.class);
+        registry.element("supportingImmunization", Reference.class, REPEATING);
+        registry.element("supportingPatientInformation", Reference.class, REPEATING);
+    }
+
+    private static void immunizationRecommendationRecommendationDateCriterion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImmunizationRecommendation.Recommendation.DateCriterion.class);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("value", DateTime.class, REQUIRED);
+    }
+
+    private static void implementationGuide(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("packageId", Id.class, SUMMARY | REQUIRED);
+        registry.element("license", SPDXLicense.class, SUMMARY | BINDING);
+        registry.element("fhirVersion", FHIRVersion.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("dependsOn", ImplementationGuide.DependsOn.class, SUMMARY | REPEATING);
+        registry.element("global", ImplementationGuide.Global.class, SUMMARY | REPEATING);
+        registry.element("definition", ImplementationGuide.Definition.class, 0);
+        registry.element("manifest", ImplementationGuide.Manifest.class, 0);
+    }
+
+    private static void implementationGuideDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.class);
+        registry.element("grouping", ImplementationGuide.Definition.Grouping.class, REPEATING);
+        registry.element("resource", ImplementationGuide.Definition.Resource.class, REQUIRED | REPEATING);
+        registry.element("page", ImplementationGuide.Definition.Page.class, 0);
+        registry.element("parameter", ImplementationGuide.Definition.Parameter.class, REPEATING);
+        registry.element("template", ImplementationGuide.Definition.Template.class, REPEATING);
+    }
+
+    private static void implementationGuideDefinitionGrouping(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.Grouping.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("description", String.class, 0);
+    }
+
+    private static void implementationGuideDefinitionPage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.Page.class);
+        registry.choiceElement("name", REQUIRED, Url.class, Reference.class);
+        registry.element("title", String.class, REQUIRED);
+        registry.element("generation", GuidePageGeneration.class, BINDING | REQUIRED);
+        registry.element("page", ImplementationGuide.Definition.Page.class, REPEATING);
+    }
+
+    private static void implementationGuideDefinitionParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.Parameter.class);
+        registry.element("code", GuideParameterCode.class, BINDING | REQUIRED);
+        registry.element("value", String.class, REQUIRED);
+    }
+
+    private static void implementationGuideDefinitionResource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.Resource.class);
+        registry.element("reference", Reference.class, REQUIRED);
+        registry.element("fhirVersion", FHIRVersion.class, BINDING | REPEATING);
+        registry.element("name", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.choiceElement("example", 0, Boolean.class, Canonical.class);
+        registry.element("groupingId", Id.class, 0);
+    }
+
+    private static void implementationGuideDefinitionTemplate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Definition.Template.class);
+        registry.element("code", Code.class, REQUIRED);
+        registry.element("source", String.class, REQUIRED);
+        registry.element("scope", String.class, 0);
+    }
+
+    private static void implementationGuideDependsOn(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.DependsOn.class);
+        registry.element("uri", Canonical.class, SUMMARY | REQUIRED);
+        registry.element("packageId", Id.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+    }
+
+    private static void implementationGuideGlobal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Global.class);
+        registry.element("type", ResourceType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, SUMMARY | REQUIRED);
+    }
+
+    private static void implementationGuideManifest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Manifest.class);
+        registry.element("rendering", Url.class, SUMMARY);
+        registry.element("resource", ImplementationGuide.Manifest.Resource.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("page", ImplementationGuide.Manifest.Page.class, REPEATING);
+        registry.element("image", String.class, REPEATING);
+        registry.element("other", String.class, REPEATING);
+    }
+
+    private static void implementationGuideManifestPage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Manifest.Page.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("title", String.class, 0);
+        registry.element("anchor", String.class, REPEATING);
+    }
+
+    private static void implementationGuideManifestResource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ImplementationGuide.Manifest.Resource.class);
+        registry.element("reference", Reference.class, SUMMARY | REQUIRED);
+        registry.choiceElement("example", 0, Boolean.class, Canonical.class);
+        registry.element("relativePath", Url.class, 0);
+    }
+
+    private static void insurancePlan(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("alias", String.class, REPEATING);
+        registry.element("period", Period.class, 0);
+        registry.referenceElement("ownedBy", SUMMARY, "Organization");
+        registry.referenceElement("administeredBy", SUMMARY, "Organization");
+        registry.element("coverageArea", Reference.class, SUMMARY | REPEATING);
+        registry.element("contact", InsurancePlan.Contact.class, REPEATING);
+        registry.element("endpoint", Reference.class, REPEATING);
+        registry.element("network", Reference.class, REPEATING);
+        registry.element("coverage", InsurancePlan.Coverage.class, REPEATING);
+        registry.element("plan", InsurancePlan.Plan.class, REPEATING);
+    }
+
+    private static void insurancePlanContact(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Contact.class);
+        registry.element("purpose", CodeableConcept.class, BINDING);
+        registry.element("name", HumanName.class, 0);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("address", Address.class, 0);
+    }
+
+    private static void insurancePlanCoverage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Coverage.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("network", Reference.class, REPEATING);
+        registry.element("benefit", InsurancePlan.Coverage.Benefit.class, REQUIRED | REPEATING);
+    }
+
+    private static void insurancePlanCoverageBenefit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Coverage.Benefit.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("requirement", String.class, 0);
+        registry.element("limit", InsurancePlan.Coverage.Benefit.Limit.class, REPEATING);
+    }
+
+    private static void insurancePlanCoverageBenefitLimit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Coverage.Benefit.Limit.class);
+        registry.element("value", Quantity.class, 0);
+        registry.element("code", CodeableConcept.class, 0);
+    }
+
+    private static void insurancePlanPlan(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Plan.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("coverageArea", Reference.class, SUMMARY | REPEATING);
+        registry.element("network", Reference.class, REPEATING);
+        registry.element("generalCost", InsurancePlan.Plan.GeneralCost.class, REPEATING);
+        registry.element("specificCost", InsurancePlan.Plan.SpecificCost.class, REPEATING);
+    }
+
+    private static void insurancePlanPlanGeneralCost(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Plan.GeneralCost.class);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("groupSize", PositiveInt.class, 0);
+        registry.element("cost", Money.class, 0);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void insurancePlanPlanSpecificCost(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Plan.SpecificCost.class);
+        registry.element("category", CodeableConcept.class, REQUIRED);
+        registry.element("benefit", InsurancePlan.Plan.SpecificCost.Benefit.class, REPEATING);
+    }
+
+    private static void insurancePlanPlanSpecificCostBenefit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Plan.SpecificCost.Benefit.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("cost", InsurancePlan.Plan.SpecificCost.Benefit.Cost.class, REPEATING);
+    }
+
+    private static void insurancePlanPlanSpecificCostBenefitCost(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(InsurancePlan.Plan.SpecificCost.Benefit.Cost.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("applicability", CodeableConcept.class, BINDING);
+        registry.element("qualifiers", CodeableConcept.class, REPEATING);
+        registry.element("value", Quantity.class, 0);
+    }
+
+    private static void invoice(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Invoice.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", InvoiceStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("cancelledReason", String.class, 0);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group");
+        registry.referenceElement("recipient", SUMMARY, "Organization", "Patient", "RelatedPerson");
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("participant", Invoice.Participant.class, REPEATING);
+        registry.referenceElement("issuer", 0, "Organization");
+        registry.referenceElement("account", 0, "Account");
+        registry.element("lineItem", Invoice.LineItem.class, REPEATING);
+        registry.element("totalPriceComponent", Invoice.LineItem.PriceComponent.class, REPEATING);
+        registry.element("totalNet", Money.class, SUMMARY);
+        registry.element("totalGross", Money.class, SUMMARY);
+        registry.element("paymentTerms", Markdown.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void invoiceLineItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Invoice.LineItem.class);
+        registry.element("sequence", PositiveInt.class, 0);
+        registry.choiceElement("chargeItem", REQUIRED, Reference.class, CodeableConcept.class);
+        registry.element("priceComponent", Invoice.LineItem.PriceComponent.class, REPEATING);
+    }
+
+    private static void invoiceLineItemPriceComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Invoice.LineItem.PriceComponent.class);
+        registry.element("type", InvoicePriceComponentType.class, BINDING | REQUIRED);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("factor", Decimal.class, 0);
+        registry.element("amount", Money.class, 0);
+    }
+
+    private static void invoiceParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Invoice.Participant.class);
+        registry.element("role", CodeableConcept.class, 0);
+        registry.referenceElement("actor", REQUIRED, "Practitioner", "Organization", "Patient", "PractitionerRole", "Device", "RelatedPerson");
+    }
+
+    private static void library(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Library.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("parameter", ParameterDefinition.class, REPEATING);
+        registry.element("dataRequirement", DataRequirement.class, REPEATING);
+        registry.element("content", Attachment.class, SUMMARY | REPEATING);
+    }
+
+    private static void linkage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Linkage.class);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.referenceElement("author", SUMMARY, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("item", Linkage.Item.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void linkageItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Linkage.Item.class);
+        registry.element("type", LinkageType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("resource", Reference.class, SUMMARY | REQUIRED);
+    }
+
+    private static void list(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(List.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", ListStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("mode", ListMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group", "Device", "Location");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.referenceElement("source", SUMMARY, "Practitioner", "PractitionerRole", "Patient", "Device");
+        registry.element("orderedBy", CodeableConcept.class, BINDING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("entry", List.Entry.class, REPEATING);
+        registry.element("emptyReason", CodeableConcept.class, BINDING);
+    }
+
+    private static void listEntry(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(List.Entry.class);
+        registry.element("flag", CodeableConcept.class, BINDING);
+        registry.element("deleted", Boolean.class, 0);
+        registry.element("date", DateTime.class, 0);
+        registry.element("item", Reference.class, REQUIRED);
+    }
+
+    private static void location(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Location.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", LocationStatus.class, SUMMARY | BINDING);
+        registry.element("operationalStatus", Coding.class, SUMMARY | BINDING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("alias", String.class, REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("mode", LocationMode.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("address", Address.class, 0);
+        registry.element("physicalType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("position", Location.Position.class, 0);
+        registry.referenceElement("managingOrganization", SUMMARY, "Organization");
+        registry.referenceElement("partOf", 0, "Location");
+        registry.element("hoursOfOperation", Location.HoursOfOperation.class, REPEATING);
+        registry.element("availabilityExceptions", String.class, 0);
+        registry.element("endpoint", Reference.class, REPEATING);
+    }
+
+    private static void locationHoursOfOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Location.HoursOfOperation.class);
+        registry.element("daysOfWeek", DaysOfWeek.class, BINDING | REPEATING);
+        registry.element("allDay", Boolean.class, 0);
+        registry.element("openingTime", Time.class, 0);
+        registry.element("closingTime", Time.class, 0);
+    }
+
+    private static void locationPosition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Location.Position.class);
+        registry.element("longitude", Decimal.class, REQUIRED);
+        registry.element("latitude", Decimal.class, REQUIRED);
+        registry.element("altitude", Decimal.class, 0);
+    }
+
+    private static void measure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("library", Canonical.class, REPEATING);
+        registry.element("disclaimer", Markdown.class, SUMMARY);
+        registry.element("scoring", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("compositeScoring", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("riskAdjustment", String.class, SUMMARY);
+        registry.element("rateAggregation", String.class, SUMMARY);
+        registry.element("rationale", Markdown.class, SUMMARY);
+        registry.element("clinicalRecommendationStatement", Markdown.class, SUMMARY);
+        registry.element("improvementNotation", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("definition", Markdown.class, SUMMARY | REPEATING);
+        registry.element("guidance", Markdown.class, SUMMARY);
+        registry.element("group", Measure.Group.class, REPEATING);
+        registry.element("supplementalData", Measure.SupplementalData.class, REPEATING);
+    }
+
+    private static void measureGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.Group.class);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("population", Measure.Group.Population.class, REPEATING);
+        registry.element("stratifier", Measure.Group.Stratifier.class, REPEATING);
+    }
+
+    private static void measureGroupPopulation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.Group.Population.class);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.element("description", String.class, 0);
+        registry.element("criteria", Expression.class, REQUIRED);
+    }
+
+    private static void measureGroupStratifier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.Group.Stratifier.class);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("criteria", Expression.class, 0);
+        registry.element("component", Measure.Group.Stratifier.Component.class, REPEATING);
+    }
+
+    private static void measureGroupStratifierComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.Group.Stratifier.Component.class);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("criteria", Expression.class, REQUIRED);
+    }
+
+    private static void measureSupplementalData(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Measure.SupplementalData.class);
+        registry.element("code", CodeableConcept.class, 0);
+        registry.element("usage", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("description", String.class, 0);
+        registry.element("criteria", Expression.class, REQUIRED);
+    }
+
+    private static void measureReport(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", MeasureReportStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", MeasureReportType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("measure", Canonical.class, SUMMARY | REQUIRED);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "Location", "Device", "RelatedPerson", "Group");
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.referenceElement("reporter", SUMMARY, "Practitioner", "PractitionerRole", "Location", "Organization");
+        registry.element("period", Period.class, SUMMARY | REQUIRED);
+        registry.element("improvementNotation", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("group", MeasureReport.Group.class, REPEATING);
+        registry.element("evaluatedResource", Reference.class, REPEATING);
+    }
+
+    private static void measureReportGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.class);
+        registry.element("code", CodeableConcept.class, SUMMARY);
+        registry.element("population", MeasureReport.Group.Population.class, REPEATING);
+        registry.element("measureScore", Quantity.class, SUMMARY);
+        registry.element("stratifier", MeasureReport.Group.Stratifier.class, REPEATING);
+    }
+
+    private static void measureReportGroupPopulation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.Population.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("count", Integer.class, 0);
+        registry.referenceElement("subjectResults", 0, "List");
+    }
+
+    private static void measureReportGroupStratifier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.Stratifier.class);
+        registry.element("code", CodeableConcept.class, REPEATING);
+        registry.element("stratum", MeasureReport.Group.Stratifier.Stratum.class, REPEATING);
+    }
+
+    private static void measureReportGroupStratifierStratum(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.Stratifier.Stratum.class);
+        registry.element("value", CodeableConcept.class, 0);
+        registry.element("component", MeasureReport.Group.Stratifier.Stratum.Component.class, REPEATING);
+        registry.element("population", MeasureReport.Group.Stratifier.Stratum.Population.class, REPEATING);
+        registry.element("measureScore", Quantity.class, 0);
+    }
+
+    private static void measureReportGroupStratifierStratumComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.Stratifier.Stratum.Component.class);
+        registry.element("code", CodeableConcept.class, REQUIRED);
+        registry.element("value", CodeableConcept.class, REQUIRED);
+    }
+
+    private static void measureReportGroupStratifierStratumPopulation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MeasureReport.Group.Stratifier.Stratum.Population.class);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.element("count", Integer.class, 0);
+        registry.referenceElement("subjectResults", 0, "List");
+    }
+
+    private static void media(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Media.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", MediaStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("modality", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("view", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "Group", "Device", "Specimen", "Location");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("created", SUMMARY, DateTime.class, Period.class);
+        registry.element("issued", Instant.class, SUMMARY);
+        registry.referenceElement("operator", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "CareTeam", "Patient", "Device", "RelatedPerson");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("bodySite", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("deviceName", String.class, SUMMARY);
+        registry.referenceElement("device", SUMMARY, "Device", "DeviceMetric", "Device");
+        registry.element("height", PositiveInt.class, SUMMARY);
+        registry.element("width", PositiveInt.class, SUMMARY);
+        registry.element("frames", PositiveInt.class, SUMMARY);
+        registry.element("duration", Decimal.class, SUMMARY);
+        registry.element("content", Attachment.class, SUMMARY | REQUIRED);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void medication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Medication.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("status", MedicationStatus.class, SUMMARY | BINDING);
+        registry.referenceElement("manufacturer", SUMMARY, "Organization");
+        registry.element("form", CodeableConcept.class, BINDING);
+        registry.element("amount", Ratio.class, SUMMARY);
+        registry.element("ingredient", Medication.Ingredient.class, REPEATING);
+        registry.element("batch", Medication.Batch.class, 0);
+    }
+
+    private static void medicationBatch(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Medication.Batch.class);
+        registry.element("lotNumber", String.class, 0);
+        registry.element("expirationDate", DateTime.class, 0);
+    }
+
+    private static void medicationIngredient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Medication.Ingredient.class);
+        registry.choiceElement("item", REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("isActive", Boolean.class, 0);
+        registry.element("strength", Ratio.class, 0);
+    }
+
+    private static void medicationAdministration(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationAdministration.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("instantiates", Uri.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", MedicationAdministrationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.choiceElement("medication", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("context", 0, "Encounter", "EpisodeOfCare");
+        registry.element("supportingInformation", Reference.class, REPEATING);
+        registry.choiceElement("effective", SUMMARY | REQUIRED, DateTime.class, Period.class);
+        registry.element("performer", MedicationAdministration.Performer.class, SUMMARY | REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.referenceElement("request", 0, "MedicationRequest");
+        registry.element("device", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("dosage", MedicationAdministration.Dosage.class, 0);
+        registry.element("eventHistory", Reference.class, REPEATING);
+    }
+
+    private static void medicationAdministrationDosage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationAdministration.Dosage.class);
+        registry.element("text", String.class, 0);
+        registry.element("site", CodeableConcept.class, BINDING);
+        registry.element("route", CodeableConcept.class, BINDING);
+        registry.element("method", CodeableConcept.class, BINDING);
+        registry.element("dose", SimpleQuantity.class, 0);
+        registry.choiceElement("rate", 0, Ratio.class, SimpleQuantity.class);
+    }
+
+    private static void medicationAdministrationPerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationAdministration.Performer.class);
+        registry.element("function", CodeableConcept.class, BINDING);
+        registry.referenceElement("actor", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Patient", "RelatedPerson", "Device");
+    }
+
+    private static void medicationDispense(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationDispense.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("partOf", Reference.class, REPEATING);
+        registry.element("status", MedicationDispenseStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.choiceElement("statusReason", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.choiceElement("medication", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group");
+        registry.referenceElement("context", 0, "Encounter", "EpisodeOfCare");
+        registry.element("supportingInformation", Reference.class, REPEATING);
+        registry.element("performer", MedicationDispense.Performer.class, REPEATING);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("authorizingPrescription", Reference.class, REPEATING);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("daysSupply", SimpleQuantity.class, 0);
+        registry.element("whenPrepared", DateTime.class, SUMMARY);
+        registry.element("whenHandedOver", DateTime.class, 0);
+        registry.referenceElement("destination", 0, "Location");
+        registry.element("receiver", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("dosageInstruction", Dosage.class, REPEATING);
+        registry.element("substitution", MedicationDispense.Substitution.class, 0);
+        registry.element("detectedIssue", Reference.class, REPEATING);
+        registry.element("eventHistory", Reference.class, REPEATING);
+    }
+
+    private static void medicationDispensePerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationDispense.Performer.class);
+        registry.element("function", CodeableConcept.class, BINDING);
+        registry.referenceElement("actor", REQUIRED, "Practitioner", "PractitionerRole", "Organization", "Patient", "Device", "RelatedPerson");
+    }
+
+    private static void medicationDispenseSubstitution(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationDispense.Substitution.class);
+        registry.element("wasSubstituted", Boolean.class, REQUIRED);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("reason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("responsibleParty", Reference.class, REPEATING);
+    }
+
+    private static void medicationKnowledge(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("status", MedicationKnowledgeStatus.class, SUMMARY | BINDING);
+        registry.referenceElement("manufacturer", SUMMARY, "Organization");
+        registry.element("doseForm", CodeableConcept.class, BINDING);
+        registry.element("amount", SimpleQuantity.class, SUMMARY);
+        registry.element("synonym", String.class, SUMMARY | REPEATING);
+        registry.element("relatedMedicationKnowledge", MedicationKnowledge.RelatedMedicationKnowledge.class, REPEATING);
+        registry.element("associatedMedication", Reference.class, REPEATING);
+        registry.element("productType", CodeableConcept.class, REPEATING);
+        registry.element("monograph", MedicationKnowledge.Monograph.class, REPEATING);
+        registry.element("ingredient", MedicationKnowledge.Ingredient.class, REPEATING);
+        registry.element("preparationInstruction", Markdown.class, 0);
+        registry.element("intendedRoute", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("cost", MedicationKnowledge.Cost.class, REPEATING);
+        registry.element("monitoringProgram", MedicationKnowledge.MonitoringProgram.class, REPEATING);
+        registry.element("administrationGuidelines", MedicationKnowledge.AdministrationGuidelines.class, REPEATING);
+        registry.element("medicineClassification", MedicationKnowledge.MedicineClassification.class, REPEATING);
+        registry.element("packaging", MedicationKnowledge.Packaging.class, 0);
+        registry.element("drugCharacteristic", MedicationKnowledge.DrugCharacteristic.class, REPEATING);
+        registry.element("contraindication", Reference.class, REPEATING);
+        registry.element("regulatory", MedicationKnowledge.Regulatory.class, REPEATING);
+        registry.element("kinetics", MedicationKnowledge.Kinetics.class, REPEATING);
+    }
+
+    private static void medicationKnowledgeAdministrationGuidelines(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.AdministrationGuidelines.class);
+        registry.element("dosage", MedicationKnowledge.AdministrationGuidelines.Dosage.class, REPEATING);
+        registry.choiceElement("indication", 0, CodeableConcept.class, Reference.class);
+        registry.element("patientCharacteristics", MedicationKnowledge.AdministrationGuidelines.PatientCharacteristics.class, REPEATING);
+    }
+
+    private static void medicationKnowledgeAdministrationGuidelinesDosage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.AdministrationGuidelines.Dosage.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("dosage", Dosage.class, REQUIRED | REPEATING);
+    }
+
+    private static void medicationKnowledgeAdministrationGuidelinesPatientCharacteristics(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.AdministrationGuidelines.PatientCharacteristics.class);
+        registry.choiceElement("characteristic", REQUIRED, CodeableConcept.class, SimpleQuantity.class);
+        registry.element("value", String.class, REPEATING);
+    }
+
+    private static void medicationKnowledgeCost(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Cost.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("source", String.class, 0);
+        registry.element("cost", Money.class, REQUIRED);
+    }
+
+    private static void medicationKnowledgeDrugCharacteristic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.DrugCharacteristic.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.choiceElement("value", 0, CodeableConcept.class, String.class, SimpleQuantity.class, Base64Binary.class);
+    }
+
+    private static void medicationKnowledgeIngredient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Ingredient.class);
+        registry.choiceElement("item", REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("isActive", Boolean.class, 0);
+        registry.element("strength", Ratio.class, 0);
+    }
+
+    private static void medicationKnowledgeKinetics(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Kinetics.class);
+        registry.element("areaUnderCurve", SimpleQuantity.class, REPEATING);
+        registry.element("lethalDose50", SimpleQuantity.class, REPEATING);
+        registry.element("halfLifePeriod", Duration.class, 0);
+    }
+
+    private static void medicationKnowledgeMedicineClassification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.MedicineClassification.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("classification", CodeableConcept.class, REPEATING);
+    }
+
+    private static void medicationKnowledgeMonitoringProgram(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.MonitoringProgram.class);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("name", String.class, 0);
+    }
+
+    private static void medicationKnowledgeMonograph(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Monograph.class);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.referenceElement("source", 0, "DocumentReference", "Media");
+    }
+
+    private static void medicationKnowledgePackaging(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Packaging.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+    }
+
+    private static void medicationKnowledgeRegulatory(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Regulatory.class);
+        registry.referenceElement("regulatoryAuthority", REQUIRED, "Organization");
+        registry.element("substitution", MedicationKnowledge.Regulatory.Substitution.class, REPEATING);
+        registry.element("schedule", MedicationKnowledge.Regulatory.Schedule.class, REPEATING);
+        registry.element("maxDispense", MedicationKnowledge.Regulatory.MaxDispense.class, 0);
+    }
+
+    private static void medicationKnowledgeRegulatoryMaxDispense(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Regulatory.MaxDispense.class);
+        registry.element("quantity", SimpleQuantity.class, REQUIRED);
+        registry.element("period", Duration.class, 0);
+    }
+
+    private static void medicationKnowledgeRegulatorySchedule(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Regulatory.Schedule.class);
+        registry.element("schedule", CodeableConcept.class, REQUIRED);
+    }
+
+    private static void medicationKnowledgeRegulatorySubstitution(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.Regulatory.Substitution.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("allowed", Boolean.class, REQUIRED);
+    }
+
+    private static void medicationKnowledgeRelatedMedicationKnowledge(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationKnowledge.RelatedMedicationKnowledge.class);
+        registry.element("type", CodeableConcept.class, REQUIRED);
+        registry.element("reference", Reference.class, REQUIRED | REPEATING);
+    }
+
+    private static void medicationRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationRequest.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", MedicationRequestStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING);
+        registry.element("intent", MedicationRequestIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("priority", MedicationRequestPriority.class, SUMMARY | BINDING);
+        registry.element("doNotPerform", Boolean.class, SUMMARY);
+        registry.choiceElement("reported", SUMMARY, Boolean.class, Reference.class);
+        registry.choiceElement("medication", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("supportingInformation", Reference.class, REPEATING);
+        registry.element("authoredOn", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson", "Device");
+        registry.referenceElement("performer", 0, "Practitioner", "PractitionerRole", "Organization", "Patient", "Device", "RelatedPerson", "CareTeam");
+        registry.element("performerType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("recorder", 0, "Practitioner", "PractitionerRole");
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("groupIdentifier", Identifier.class, SUMMARY);
+        registry.element("courseOfTherapyType", CodeableConcept.class, BINDING);
+        registry.element("insurance", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("dosageInstruction", Dosage.class, REPEATING);
+        registry.element("dispenseRequest", MedicationRequest.DispenseRequest.class, 0);
+        registry.element("substitution", MedicationRequest.Substitution.class, 0);
+        registry.referenceElement("priorPrescription", 0, "MedicationRequest");
+        registry.element("detectedIssue", Reference.class, REPEATING);
+        registry.element("eventHistory", Reference.class, REPEATING);
+    }
+
+    private static void medicationRequestDispenseRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationRequest.DispenseRequest.class);
+        registry.element("initialFill", MedicationRequest.DispenseRequest.InitialFill.class, 0);
+        registry.element("dispenseInterval", Duration.class, 0);
+        registry.element("validityPeriod", Period.class, 0);
+        registry.element("numberOfRepeatsAllowed", UnsignedInt.class, 0);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("expectedSupplyDuration", Duration.class, 0);
+        registry.referenceElement("performer", 0, "Organization");
+    }
+
+    private static void medicationRequestDispenseRequestInitialFill(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationRequest.DispenseRequest.InitialFill.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("duration", Duration.class, 0);
+    }
+
+    private static void medicationRequestSubstitution(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationRequest.Substitution.class);
+        registry.choiceElement("allowed", BINDING | REQUIRED, Boolean.class, CodeableConcept.class);
+        registry.element("reason", CodeableConcept.class, BINDING);
+    }
+
+    private static void medicationStatement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicationStatement.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", MedicationStatementStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING);
+        registry.choiceElement("medication", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("context", SUMMARY, "Encounter", "EpisodeOfCare");
+        registry.choiceElement("effective", SUMMARY, DateTime.class, Period.class);
+        registry.element("dateAsserted", DateTime.class, SUMMARY);
+        registry.referenceElement("informationSource", 0, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson", "Organization");
+        registry.element("derivedFrom", Reference.class, REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("dosage", Dosage.class, REPEATING);
+    }
+
+    private static void medicinalProduct(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("domain", Coding.class, SUMMARY);
+        registry.element("combinedPharmaceuticalDoseForm", CodeableConcept.class, SUMMARY);
+        registry.element("legalStatusOfSupply", CodeableConcept.class, SUMMARY);
+        registry.element("additionalMonitoringIndicator", CodeableConcept.class, SUMMARY);
+        registry.element("specialMeasures", String.class, SUMMARY | REPEATING);
+        registry.element("paediatricUseIndicator", CodeableConcept.class, SUMMARY);
+        registry.element("productClassification", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("marketingStatus", MarketingStatus.class, SUMMARY | REPEATING);
+        registry.element("pharmaceuticalProduct", Reference.class, SUMMARY | REPEATING);
+        registry.element("packagedMedicinalProduct", Reference.class, SUMMARY | REPEATING);
+        registry.element("attachedDocument", Reference.class, SUMMARY | REPEATING);
+        registry.element("masterFile", Reference.class, SUMMARY | REPEATING);
+        registry.element("contact", Reference.class, SUMMARY | REPEATING);
+        registry.element("clinicalTrial", Reference.class, SUMMARY | REPEATING);
+        registry.element("name", MedicinalProduct.Name.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("crossReference", Identifier.class, SUMMARY | REPEATING);
+        registry.element("manufacturingBusinessOperation", MedicinalProduct.ManufacturingBusinessOperation.class, SUMMARY | REPEATING);
+        registry.element("specialDesignation", MedicinalProduct.SpecialDesignation.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductManufacturingBusinessOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.ManufacturingBusinessOperation.class);
+        registry.element("operationType", CodeableConcept.class, SUMMARY);
+        registry.element("authorisationReferenceNumber", Identifier.class, SUMMARY);
+        registry.element("effectiveDate", DateTime.class, SUMMARY);
+        registry.element("confidentialityIndicator", CodeableConcept.class, SUMMARY);
+        registry.element("manufacturer", Reference.class, SUMMARY | REPEATING);
+        registry.referenceElement("regulator", SUMMARY, "Organization");
+    }
+
+    private static void medicinalProductName(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.Name.class);
+        registry.element("productName", String.class, SUMMARY | REQUIRED);
+        registry.element("namePart", MedicinalProduct.Name.NamePart.class, SUMMARY | REPEATING);
+        registry.element("countryLanguage", MedicinalProduct.Name.CountryLanguage.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductNameCountryLanguage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.Name.CountryLanguage.class);
+        registry.element("country", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY);
+        registry.element("language", CodeableConcept.class, SUMMARY | REQUIRED);
+    }
+
+    private static void medicinalProductNameNamePart(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.Name.NamePart.class);
+        registry.element("part", String.class, SUMMARY | REQUIRED);
+        registry.element("type", Coding.class, SUMMARY | REQUIRED);
+    }
+
+    private static void medicinalProductSpecialDesignation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProduct.SpecialDesignation.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("intendedUse", CodeableConcept.class, SUMMARY);
+        registry.choiceElement("indication", SUMMARY, CodeableConcept.class, Reference.class);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("species", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void medicinalProductAuthorization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductAuthorization.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.referenceElement("subject", SUMMARY, "MedicinalProduct", "MedicinalProductPackaged");
+        registry.element("country", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("statusDate", DateTime.class, SUMMARY);
+        registry.element("restoreDate", DateTime.class, SUMMARY);
+        registry.element("validityPeriod", Period.class, SUMMARY);
+        registry.element("dataExclusivityPeriod", Period.class, SUMMARY);
+        registry.element("dateOfFirstAuthorization", DateTime.class, SUMMARY);
+        registry.element("internationalBirthDate", DateTime.class, SUMMARY);
+        registry.element("legalBasis", CodeableConcept.class, SUMMARY);
+        registry.element("jurisdictionalAuthorization", MedicinalProductAuthorization.JurisdictionalAuthorization.class, SUMMARY | REPEATING);
+        registry.referenceElement("holder", SUMMARY, "Organization");
+        registry.referenceElement("regulator", SUMMARY, "Organization");
+        registry.element("procedure", MedicinalProductAuthorization.Procedure.class, SUMMARY);
+    }
+
+    private static void medicinalProductAuthorizationJurisdictionalAuthorization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductAuthorization.JurisdictionalAuthorization.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("country", CodeableConcept.class, SUMMARY);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("legalStatusOfSupply", CodeableConcept.class, SUMMARY);
+        registry.element("validityPeriod", Period.class, SUMMARY);
+    }
+
+    private static void medicinalProductAuthorizationProcedure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductAuthorization.Procedure.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.choiceElement("date", SUMMARY, Period.class, DateTime.class);
+        registry.element("application", MedicinalProductAuthorization.Procedure.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductContraindication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductContraindication.class);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("disease", CodeableConcept.class, SUMMARY);
+        registry.element("diseaseStatus", CodeableConcept.class, SUMMARY);
+        registry.element("comorbidity", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("therapeuticIndication", Reference.class, SUMMARY | REPEATING);
+        registry.element("otherTherapy", MedicinalProductContraindication.OtherTherapy.class, SUMMARY | REPEATING);
+        registry.element("population", Population.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductContraindicationOtherTherapy(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductContraindication.OtherTherapy.class);
+        registry.element("therapyRelationshipType", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.choiceElement("medication", SUMMARY | REQUIRED, CodeableConcept.class, Reference.class);
+    }
+
+    private static void medicinalProductIndication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIndication.class);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("diseaseSymptomProcedure", CodeableConcept.class, SUMMARY);
+        registry.element("diseaseStatus", CodeableConcept.class, SUMMARY);
+        registry.element("comorbidity", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("intendedEffect", CodeableConcept.class, SUMMARY);
+        registry.element("duration", Quantity.class, SUMMARY);
+        registry.element("otherTherapy", MedicinalProductIndication.OtherTherapy.class, SUMMARY | REPEATING);
+        registry.element("undesirableEffect", Reference.class, SUMMARY | REPEATING);
+        registry.element("population", Population.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductIndicationOtherTherapy(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIndication.OtherTherapy.class);
+        registry.element("therapyRelationshipType", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.choiceElement("medication", SUMMARY | REQUIRED, CodeableConcept.class, Reference.class);
+    }
+
+    private static void medicinalProductIngredient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIngredient.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("role", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("allergenicIndicator", Boolean.class, SUMMARY);
+        registry.element("manufacturer", Reference.class, SUMMARY | REPEATING);
+        registry.element("specifiedSubstance", MedicinalProductIngredient.SpecifiedSubstance.class, SUMMARY | REPEATING);
+        registry.element("substance", MedicinalProductIngredient.Substance.class, SUMMARY);
+    }
+
+    private static void medicinalProductIngredientSpecifiedSubstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIngredient.SpecifiedSubstance.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("group", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("confidentiality", CodeableConcept.class, SUMMARY);
+        registry.element("strength", MedicinalProductIngredient.SpecifiedSubstance.Strength.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductIngredientSpecifiedSubstanceStrength(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIngredient.SpecifiedSubstance.Strength.class);
+        registry.element("presentation", Ratio.class, SUMMARY | REQUIRED);
+        registry.element("presentationLowLimit", Ratio.class, SUMMARY);
+        registry.element("concentration", Ratio.class, SUMMARY);
+        registry.element("concentrationLowLimit", Ratio.class, SUMMARY);
+        registry.element("measurementPoint", String.class, SUMMARY);
+        registry.element("country", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("referenceStrength", MedicinalProductIngredient.SpecifiedSubstance.Strength.ReferenceStrength.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductIngredientSpecifiedSubstanceStrengthReferenceStrength(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIngredient.SpecifiedSubstance.Strength.ReferenceStrength.class);
+        registry.element("substance", CodeableConcept.class, SUMMARY);
+        registry.element("strength", Ratio.class, SUMMARY | REQUIRED);
+        registry.element("strengthLowLimit", Ratio.class, SUMMARY);
+        registry.element("measurementPoint", String.class, SUMMARY);
+        registry.element("country", CodeableConcept.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductIngredientSubstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductIngredient.Substance.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("strength", MedicinalProductIngredient.SpecifiedSubstance.Strength.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductInteraction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductInteraction.class);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("interactant", MedicinalProductInteraction.Interactant.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("effect", CodeableConcept.class, SUMMARY);
+        registry.element("incidence", CodeableConcept.class, SUMMARY);
+        registry.element("management", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void medicinalProductInteractionInteractant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductInteraction.Interactant.class);
+        registry.choiceElement("item", SUMMARY | REQUIRED, Reference.class, CodeableConcept.class);
+    }
+
+    private static void medicinalProductManufactured(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductManufactured.class);
+        registry.element("manufacturedDoseForm", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("unitOfPresentation", CodeableConcept.class, SUMMARY);
+        registry.element("quantity", Quantity.class, SUMMARY | REQUIRED);
+        registry.element("manufacturer", Reference.class, SUMMARY | REPEATING);
+        registry.element("ingredient", Reference.class, SUMMARY | REPEATING);
+        registry.element("physicalCharacteristics", ProdCharacteristic.class, SUMMARY);
+        registry.element("otherCharacteristics", CodeableConcept.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductPackaged(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPackaged.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("legalStatusOfSupply", CodeableConcept.class, SUMMARY);
+        registry.element("marketingStatus", MarketingStatus.class, SUMMARY | REPEATING);
+        registry.referenceElement("marketingAuthorization", SUMMARY, "MedicinalProductAuthorization");
+        registry.element("manufacturer", Reference.class, SUMMARY | REPEATING);
+        registry.element("batchIdentifier", MedicinalProductPackaged.BatchIdentifier.class, SUMMARY | REPEATING);
+        registry.element("packageItem", MedicinalProductPackaged.PackageItem.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void medicinalProductPackagedBatchIdentifier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPackaged.BatchIdentifier.class);
+        registry.element("outerPackaging", Identifier.class, SUMMARY | REQUIRED);
+        registry.element("immediatePackaging", Identifier.class, SUMMARY);
+    }
+
+    private static void medicinalProductPackagedPackageItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPackaged.PackageItem.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("quantity", Quantity.class, SUMMARY | REQUIRED);
+        registry.element("material", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("alternateMaterial", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("device", Reference.class, SUMMARY | REPEATING);
+        registry.element("manufacturedItem", Reference.class, SUMMARY | REPEATING);
+        registry.element("packageItem", MedicinalProductPackaged.PackageItem.class, SUMMARY | REPEATING);
+        registry.element("physicalCharacteristics", ProdCharacteristic.class, SUMMARY);
+        registry.element("otherCharacteristics", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("shelfLifeStorage", ProductShelfLife.class, SUMMARY | REPEATING);
+        registry.element("manufacturer", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductPharmaceutical(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPharmaceutical.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("administrableDoseForm", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("unitOfPresentation", CodeableConcept.class, SUMMARY);
+        registry.element("ingredient", Reference.class, SUMMARY | REPEATING);
+        registry.element("device", Reference.class, SUMMARY | REPEATING);
+        registry.element("characteristics", MedicinalProductPharmaceutical.Characteristics.class, SUMMARY | REPEATING);
+        registry.element("routeOfAdministration", MedicinalProductPharmaceutical.RouteOfAdministration.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void medicinalProductPharmaceuticalCharacteristics(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPharmaceutical.Characteristics.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void medicinalProductPharmaceuticalRouteOfAdministration(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPharmaceutical.RouteOfAdministration.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("firstDose", Quantity.class, SUMMARY);
+        registry.element("maxSingleDose", Quantity.class, SUMMARY);
+        registry.element("maxDosePerDay", Quantity.class, SUMMARY);
+        registry.element("maxDosePerTreatmentPeriod", Ratio.class, SUMMARY);
+        registry.element("maxTreatmentPeriod", Duration.class, SUMMARY);
+        registry.element("targetSpecies", MedicinalProductPharmaceutical.RouteOfAdministration.TargetSpecies.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductPharmaceuticalRouteOfAdministrationTargetSpecies(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPharmaceutical.RouteOfAdministration.TargetSpecies.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("withdrawalPeriod", MedicinalProductPharmaceutical.RouteOfAdministration.TargetSpecies.WithdrawalPeriod.class, SUMMARY | REPEATING);
+    }
+
+    private static void medicinalProductPharmaceuticalRouteOfAdministrationTargetSpeciesWithdrawalPeriod(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductPharmaceutical.RouteOfAdministration.TargetSpecies.WithdrawalPeriod.class);
+        registry.element("tissue", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("value", Quantity.class, SUMMARY | REQUIRED);
+        registry.element("supportingInformation", String.class, SUMMARY);
+    }
+
+    private static void medicinalProductUndesirableEffect(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MedicinalProductUndesirableEffect.class);
+        registry.element("subject", Reference.class, SUMMARY | REPEATING);
+        registry.element("symptomConditionEffect", CodeableConcept.class, SUMMARY);
+        registry.element("classification", CodeableConcept.class, SUMMARY);
+        registry.element("frequencyOfOccurrence", CodeableConcept.class, SUMMARY);
+        registry.element("population", Population.class, SUMMARY | REPEATING);
+    }
+
+    private static void messageDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("replaces", Canonical.class, SUMMARY | REPEATING);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, SUMMARY);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("base", Canonical.class, SUMMARY);
+        registry.element("parent", Canonical.class, SUMMARY | REPEATING);
+        registry.choiceElement("event", SUMMARY | BINDING | REQUIRED, Coding.class, Uri.class);
+        registry.element("category", MessageSignificanceCategory.class, SUMMARY | BINDING);
+        registry.element("focus", MessageDefinition.Focus.class, SUMMARY | REPEATING);
+        registry.element("responseRequired", MessageHeaderResponseRequest.class, BINDING);
+        registry.element("allowedResponse", MessageDefinition.AllowedResponse.class, REPEATING);
+        registry.element("graph", Canonical.class, REPEATING);
+    }
+
+    private static void messageDefinitionAllowedResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageDefinition.AllowedResponse.class);
+        registry.element("message", Canonical.class, REQUIRED);
+        registry.element("situation", Markdown.class, 0);
+    }
+
+    private static void messageDefinitionFocus(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageDefinition.Focus.class);
+        registry.element("code", ResourceType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, 0);
+        registry.element("min", UnsignedInt.class, SUMMARY | REQUIRED);
+        registry.element("max", String.class, 0);
+    }
+
+    private static void messageHeader(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageHeader.class);
+        registry.choiceElement("event", SUMMARY | BINDING | REQUIRED, Coding.class, Uri.class);
+        registry.element("destination", MessageHeader.Destination.class, SUMMARY | REPEATING);
+        registry.referenceElement("sender", SUMMARY, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("enterer", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.referenceElement("author", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.element("source", MessageHeader.Source.class, SUMMARY | REQUIRED);
+        registry.referenceElement("responsible", SUMMARY, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("reason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("response", MessageHeader.Response.class, SUMMARY);
+        registry.element("focus", Reference.class, SUMMARY | REPEATING);
+        registry.element("definition", Canonical.class, SUMMARY);
+    }
+
+    private static void messageHeaderDestination(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageHeader.Destination.class);
+        registry.element("name", String.class, SUMMARY);
+        registry.referenceElement("target", SUMMARY, "Device");
+        registry.element("endpoint", Url.class, SUMMARY | REQUIRED);
+        registry.referenceElement("receiver", SUMMARY, "Practitioner", "PractitionerRole", "Organization");
+    }
+
+    private static void messageHeaderResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageHeader.Response.class);
+        registry.element("identifier", Id.class, SUMMARY | REQUIRED);
+        registry.element("code", ResponseType.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("details", SUMMARY, "OperationOutcome");
+    }
+
+    private static void messageHeaderSource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MessageHeader.Source.class);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("software", String.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("contact", ContactPoint.class, SUMMARY);
+        registry.element("endpoint", Url.class, SUMMARY | REQUIRED);
+    }
+
+    private static void molecularSequence(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("type", SequenceType.class, SUMMARY | BINDING);
+        registry.element("coordinateSystem", Integer.class, SUMMARY | REQUIRED);
+        registry.referenceElement("patient", SUMMARY, "Patient");
+        registry.referenceElement("specimen", SUMMARY, "Specimen");
+        registry.referenceElement("device", SUMMARY, "Device");
+        registry.referenceElement("performer", SUMMARY, "Organization");
+        registry.element("quantity", Quantity.class, SUMMARY);
+        registry.element("referenceSeq", MolecularSequence.ReferenceSeq.class, SUMMARY);
+        registry.element("variant", MolecularSequence.Variant.class, SUMMARY | REPEATING);
+        registry.element("observedSeq", String.class, SUMMARY);
+        registry.element("quality", MolecularSequence.Quality.class, SUMMARY | REPEATING);
+        registry.element("readCoverage", Integer.class, SUMMARY);
+        registry.element("repository", MolecularSequence.Repository.class, SUMMARY | REPEATING);
+        registry.element("pointer", Reference.class, SUMMARY | REPEATING);
+        registry.element("structureVariant", MolecularSequence.StructureVariant.class, SUMMARY | REPEATING);
+    }
+
+    private static void molecularSequenceQuality(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.Quality.class);
+        registry.element("type", QualityType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("standardSequence", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("start", Integer.class, SUMMARY);
+        registry.element("end", Integer.class, SUMMARY);
+        registry.element("score", Quantity.class, SUMMARY);
+        registry.element("method", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("truthTP", Decimal.class, SUMMARY);
+        registry.element("queryTP", Decimal.class, SUMMARY);
+        registry.element("truthFN", Decimal.class, SUMMARY);
+        registry.element("queryFP", Decimal.class, SUMMARY);
+        registry.element("gtFP", Decimal.class, SUMMARY);
+        registry.element("precision", Decimal.class, SUMMARY);
+        registry.element("recall", Decimal.class, SUMMARY);
+        registry.element("fScore", Decimal.class, SUMMARY);
+        registry.element("roc", MolecularSequence.Quality.Roc.class, SUMMARY);
+    }
+
+    private static void molecularSequenceQualityRoc(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.Quality.Roc.class);
+        registry.element("score", Integer.class, SUMMARY | REPEATING);
+        registry.element("numTP", Integer.class, SUMMARY | REPEATING);
+        registry.element("numFP", Integer.class, SUMMARY | REPEATING);
+        registry.element("numFN", Integer.class, SUMMARY | REPEATING);
+        registry.element("precision", Decimal.class, SUMMARY | REPEATING);
+        registry.element("sensitivity", Decimal.class, SUMMARY | REPEATING);
+        registry.element("fMeasure", Decimal.class, SUMMARY | REPEATING);
+    }
+
+    private static void molecularSequenceReferenceSeq(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.ReferenceSeq.class);
+        registry.element("chromosome", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("genomeBuild", String.class, SUMMARY);
+        registry.element("orientation", OrientationType.class, SUMMARY | BINDING);
+        registry.element("referenceSeqId", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("referenceSeqPointer", SUMMARY, "MolecularSequence");
+        registry.element("referenceSeqString", String.class, SUMMARY);
+        registry.element("strand", StrandType.class, SUMMARY | BINDING);
+        registry.element("windowStart", Integer.class, SUMMARY);
+        registry.element("windowEnd", Integer.class, SUMMARY);
+    }
+
+    private static void molecularSequenceRepository(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.Repository.class);
+        registry.element("type", RepositoryType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("datasetId", String.class, SUMMARY);
+        registry.element("variantsetId", String.class, SUMMARY);
+        registry.element("readsetId", String.class, SUMMARY);
+    }
+
+    private static void molecularSequenceStructureVariant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.StructureVariant.class);
+        registry.element("variantType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("exact", Boolean.class, SUMMARY);
+        registry.element("length", Integer.class, SUMMARY);
+        registry.element("outer", MolecularSequence.StructureVariant.Outer.class, SUMMARY);
+        registry.element("inner", MolecularSequence.StructureVariant.Inner.class, SUMMARY);
+    }
+
+    private static void molecularSequenceStructureVariantInner(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.StructureVariant.Inner.class);
+        registry.element("start", Integer.class, SUMMARY);
+        registry.element("end", Integer.class, SUMMARY);
+    }
+
+    private static void molecularSequenceStructureVariantOuter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.StructureVariant.Outer.class);
+        registry.element("start", Integer.class, SUMMARY);
+        registry.element("end", Integer.class, SUMMARY);
+    }
+
+    private static void molecularSequenceVariant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MolecularSequence.Variant.class);
+        registry.element("start", Integer.class, SUMMARY);
+        registry.element("end", Integer.class, SUMMARY);
+        registry.element("observedAllele", String.class, SUMMARY);
+        registry.element("referenceAllele", String.class, SUMMARY);
+        registry.element("cigar", String.class, SUMMARY);
+        registry.referenceElement("variantPointer", SUMMARY, "Observation");
+    }
+
+    private static void namingSystem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NamingSystem.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("kind", NamingSystemType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("responsible", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("usage", String.class, 0);
+        registry.element("uniqueId", NamingSystem.UniqueId.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void namingSystemUniqueId(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NamingSystem.UniqueId.class);
+        registry.element("type", NamingSystemIdentifierType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("value", String.class, SUMMARY | REQUIRED);
+        registry.element("preferred", Boolean.class, 0);
+        registry.element("comment", String.class, 0);
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void nutritionOrder(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("instantiates", Uri.class, REPEATING);
+        registry.element("status", NutritionOrderStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("intent", NutritionOrderIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("dateTime", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("orderer", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.element("allergyIntolerance", Reference.class, REPEATING);
+        registry.element("foodPreferenceModifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("excludeFoodModifier", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("oralDiet", NutritionOrder.OralDiet.class, 0);
+        registry.element("supplement", NutritionOrder.Supplement.class, REPEATING);
+        registry.element("enteralFormula", NutritionOrder.EnteralFormula.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void nutritionOrderEnteralFormula(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.EnteralFormula.class);
+        registry.element("baseFormulaType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("baseFormulaProductName", String.class, 0);
+        registry.element("additiveType", CodeableConcept.class, BINDING);
+        registry.element("additiveProductName", String.class, 0);
+        registry.element("caloricDensity", SimpleQuantity.class, 0);
+        registry.element("routeofAdministration", CodeableConcept.class, BINDING);
+        registry.element("administration", NutritionOrder.EnteralFormula.Administration.class, REPEATING);
+        registry.element("maxVolumeToDeliver", SimpleQuantity.class, 0);
+        registry.element("administrationInstruction", String.class, SUMMARY);
+    }
+
+    private static void nutritionOrderEnteralFormulaAdministration(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.EnteralFormula.Administration.class);
+        registry.element("schedule", Timing.class, 0);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.choiceElement("rate", 0, SimpleQuantity.class, Ratio.class);
+    }
+
+    private static void nutritionOrderOralDiet(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.OralDiet.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("schedule", Timing.class, REPEATING);
+        registry.element("nutrient", NutritionOrder.OralDiet.Nutrient.class, REPEATING);
+        registry.element("texture", NutritionOrder.OralDiet.Texture.class, REPEATING);
+        registry.element("fluidConsistencyType", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("instruction", String.class, SUMMARY);
+    }
+
+    private static void nutritionOrderOralDietNutrient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.OralDiet.Nutrient.class);
+        registry.element("modifier", CodeableConcept.class, BINDING);
+        registry.element("amount", SimpleQuantity.class, 0);
+    }
+
+    private static void nutritionOrderOralDietTexture(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.OralDiet.Texture.class);
+        registry.element("modifier", CodeableConcept.class, BINDING);
+        registry.element("foodType", CodeableConcept.class, BINDING);
+    }
+
+    private static void nutritionOrderSupplement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(NutritionOrder.Supplement.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("productName", String.class, 0);
+        registry.element("schedule", Timing.class, REPEATING);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("instruction", String.class, SUMMARY);
+    }
+
+    private static void observation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Observation.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", ObservationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group", "Device", "Location");
+        registry.element("focus", Reference.class, SUMMARY | REPEATING);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("effective", SUMMARY, DateTime.class, Period.class, Timing.class, Instant.class);
+        registry.element("issued", Instant.class, SUMMARY);
+        registry.element("performer", Reference.class, SUMMARY | REPEATING);
+        registry.choiceElement("value", SUMMARY, Quantity.class, CodeableConcept.class, String.class, Boolean.class, Integer.class, Range.class, Ratio.class, SampledData.class, Time.class, DateTime.class, Period.class);
+        registry.element("dataAbsentReason", CodeableConcept.class, BINDING);
+        registry.element("interpretation", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.element("method", CodeableConcept.class, BINDING);
+        registry.referenceElement("specimen", 0, "Specimen");
+        registry.referenceElement("device", 0, "Device", "DeviceMetric");
+        registry.element("referenceRange", Observation.ReferenceRange.class, REPEATING);
+        registry.element("hasMember", Reference.class, SUMMARY | REPEATING);
+        registry.element("derivedFrom", Reference.class, SUMMARY | REPEATING);
+        registry.element("component", Observation.Component.class, SUMMARY | REPEATING);
+    }
+
+    private static void observationComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Observation.Component.class);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.choiceElement("value", SUMMARY, Quantity.class, CodeableConcept.class, String.class, Boolean.class, Integer.class, Range.class, Ratio.class, SampledData.class, Time.class, DateTime.class, Period.class);
+        registry.element("dataAbsentReason", CodeableConcept.class, BINDING);
+        registry.element("interpretation", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("referenceRange", Observation.ReferenceRange.class, REPEATING);
+    }
+
+    private static void observationReferenceRange(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Observation.ReferenceRange.class);
+        registry.element("low", SimpleQuantity.class, 0);
+        registry.element("high", SimpleQuantity.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("appliesTo", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("age", Range.class, 0);
+        registry.element("text", String.class, 0);
+    }
+
+    private static void observationDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ObservationDefinition.class);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("permittedDataType", ObservationDataType.class, BINDING | REPEATING);
+        registry.element("multipleResultsAllowed", Boolean.class, 0);
+        registry.element("method", CodeableConcept.class, BINDING);
+        registry.element("preferredReportName", String.class, 0);
+        registry.element("quantitativeDetails", ObservationDefinition.QuantitativeDetails.class, 0);
+        registry.element("qualifiedInterval", ObservationDefinition.QualifiedInterval.class, REPEATING);
+        registry.referenceElement("validCodedValueSet", 0, "ValueSet");
+        registry.referenceElement("normalCodedValueSet", 0, "ValueSet");
+        registry.referenceElement("abnormalCodedValueSet", 0, "ValueSet");
+        registry.referenceElement("criticalCodedValueSet", 0, "ValueSet");
+    }
+
+    private static void observationDefinitionQualifiedInterval(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ObservationDefinition.QualifiedInterval.class);
+        registry.element("category", ObservationRangeCategory.class, BINDING);
+        registry.element("range", Range.class, 0);
+        registry.element("context", CodeableConcept.class, BINDING);
+        registry.element("appliesTo", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("gender", AdministrativeGender.class, BINDING);
+        registry.element("age", Range.class, 0);
+        registry.element("gestationalAge", Range.class, 0);
+        registry.element("condition", String.class, 0);
+    }
+
+    private static void observationDefinitionQuantitativeDetails(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ObservationDefinition.QuantitativeDetails.class);
+        registry.element("customaryUnit", CodeableConcept.class, BINDING);
+        registry.element("unit", CodeableConcept.class, BINDING);
+        registry.element("conversionFactor", Decimal.class, 0);
+        registry.element("decimalPrecision", Integer.class, 0);
+    }
+
+    private static void operationDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("kind", OperationKind.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("affectsState", Boolean.class, SUMMARY);
+        registry.element("code", Code.class, SUMMARY | REQUIRED);
+        registry.element("comment", Markdown.class, 0);
+        registry.element("base", Canonical.class, SUMMARY);
+        registry.element("resource", ResourceType.class, SUMMARY | BINDING | REPEATING);
+        registry.element("system", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("type", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("instance", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("inputProfile", Canonical.class, 0);
+        registry.element("outputProfile", Canonical.class, 0);
+        registry.element("parameter", OperationDefinition.Parameter.class, REPEATING);
+        registry.element("overload", OperationDefinition.Overload.class, REPEATING);
+    }
+
+    private static void operationDefinitionOverload(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationDefinition.Overload.class);
+        registry.element("parameterName", String.class, REPEATING);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void operationDefinitionParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationDefinition.Parameter.class);
+        registry.element("name", Code.class, REQUIRED);
+        registry.element("use", OperationParameterUse.class, BINDING | REQUIRED);
+        registry.element("min", Integer.class, REQUIRED);
+        registry.element("max", String.class, REQUIRED);
+        registry.element("documentation", String.class, 0);
+        registry.element("type", FHIRAllTypes.class, BINDING);
+        registry.element("targetProfile", Canonical.class, REPEATING);
+        registry.element("searchType", SearchParamType.class, BINDING);
+        registry.element("binding", OperationDefinition.Parameter.Binding.class, 0);
+        registry.element("referencedFrom", OperationDefinition.Parameter.ReferencedFrom.class, REPEATING);
+        registry.element("part", OperationDefinition.Parameter.class, REPEATING);
+    }
+
+    private static void operationDefinitionParameterBinding(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationDefinition.Parameter.Binding.class);
+        registry.element("strength", BindingStrength.class, BINDING | REQUIRED);
+        registry.element("valueSet", Canonical.class, REQUIRED);
+    }
+
+    private static void operationDefinitionParameterReferencedFrom(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationDefinition.Parameter.ReferencedFrom.class);
+        registry.element("source", String.class, REQUIRED);
+        registry.element("sourceId", String.class, 0);
+    }
+
+    private static void operationOutcome(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationOutcome.class);
+        registry.element("issue", OperationOutcome.Issue.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void operationOutcomeIssue(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OperationOutcome.Issue.class);
+        registry.element("severity", IssueSeverity.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("code", IssueType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("details", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("diagnostics", String.class, SUMMARY);
+        registry.element("location", String.class, SUMMARY | REPEATING);
+        registry.element("expression", String.class, SUMMARY | REPEATING);
+    }
+
+    private static void organization(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Organization.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("alias", String.class, REPEATING);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("address", Address.class, REPEATING);
+        registry.referenceElement("partOf", SUMMARY, "Organization");
+        registry.element("contact", Organization.Contact.class, REPEATING);
+        registry.element("endpoint", Reference.class, REPEATING);
+    }
+
+    private static void organizationContact(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Organization.Contact.class);
+        registry.element("purpose", CodeableConcept.class, BINDING);
+        registry.element("name", HumanName.class, 0);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("address", Address.class, 0);
+    }
+
+    private static void organizationAffiliation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(OrganizationAffiliation.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("organization", SUMMARY, "Organization");
+        registry.referenceElement("participatingOrganization", SUMMARY, "Organization");
+        registry.element("network", Reference.class, SUMMARY | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("location", Reference.class, SUMMARY | REPEATING);
+        registry.element("healthcareService", Reference.class, REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("endpoint", Reference.class, REPEATING);
+    }
+
+    private static void parameters(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Parameters.class);
+        registry.element("parameter", Parameters.Parameter.class, SUMMARY | REPEATING);
+    }
+
+    private static void parametersParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Parameters.Parameter.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.choiceElement("value", SUMMARY, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+        registry.element("resource", Resource.class, SUMMARY);
+        registry.element("part", Parameters.Parameter.class, SUMMARY | REPEATING);
+    }
+
+    private static void patient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Patient.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("name", HumanName.class, SUMMARY | REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("gender", AdministrativeGender.class, SUMMARY | BINDING);
+        registry.element("birthDate", Date.class, SUMMARY);
+        registry.choiceElement("deceased", SUMMARY, Boolean.class, DateTime.class);
+        registry.element("address", Address.class, SUMMARY | REPEATING);
+        registry.element("maritalStatus", CodeableConcept.class, BINDING);
+        registry.choiceElement("multipleBirth", 0, Boolean.class, Integer.class);
+        registry.element("photo", Attachment.class, REPEATING);
+        registry.element("contact", Patient.Contact.class, REPEATING);
+        registry.element("communication", Patient.Communication.class, REPEATING);
+        registry.element("generalPractitioner", Reference.class, REPEATING);
+        registry.referenceElement("managingOrganization", SUMMARY, "Organization");
+        registry.element("link", Patient.Link.class, SUMMARY | REPEATING);
+    }
+
+    private static void patientCommunication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Patient.Communication.class);
+        registry.element("language", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("preferred", Boolean.class, 0);
+    }
+
+    private static void patientContact(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Patient.Contact.class);
+        registry.element("relationship", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("name", HumanName.class, 0);
+        registry.element("telecom", ContactPoint.class, REPEATING);
+        registry.element("address", Address.class, 0);
+        registry.element("gender", AdministrativeGender.class, BINDING);
+        registry.referenceElement("organization", 0, "Organization");
+        registry.element("period", Period.class, 0);
+    }
+
+    private static void patientLink(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Patient.Link.class);
+        registry.referenceElement("other", SUMMARY | REQUIRED, "Patient", "RelatedPerson");
+        registry.element("type", LinkType.class, SUMMARY | BINDING | REQUIRED);
+    }
+
+    private static void paymentNotice(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PaymentNotice.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", PaymentNoticeStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("request", Reference.class, 0);
+        registry.element("response", Reference.class, 0);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("provider", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("payment", SUMMARY | REQUIRED, "PaymentReconciliation");
+        registry.element("paymentDate", Date.class, 0);
+        registry.referenceElement("payee", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("recipient", SUMMARY | REQUIRED, "Organization");
+        registry.element("amount", Money.class, SUMMARY | REQUIRED);
+        registry.element("paymentStatus", CodeableConcept.class, BINDING);
+    }
+
+    private static void paymentReconciliation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PaymentReconciliation.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", PaymentReconciliationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("period", Period.class, SUMMARY);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("paymentIssuer", SUMMARY, "Organization");
+        registry.referenceElement("request", 0, "Task");
+        registry.referenceElement("requestor", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("outcome", RemittanceOutcome.class, BINDING);
+        registry.element("disposition", String.class, 0);
+        registry.element("paymentDate", Date.class, SUMMARY | REQUIRED);
+        registry.element("paymentAmount", Money.class, SUMMARY | REQUIRED);
+        registry.element("paymentIdentifier", Identifier.class, 0);
+        registry.element("detail", PaymentReconciliation.Detail.class, REPEATING);
+        registry.element("formCode", CodeableConcept.class, BINDING);
+        registry.element("processNote", PaymentReconciliation.ProcessNote.class, REPEATING);
+    }
+
+    private static void paymentReconciliationDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PaymentReconciliation.Detail.class);
+        registry.element("identifier", Identifier.class, 0);
+        registry.element("predecessor", Identifier.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("request", Reference.class, 0);
+        registry.referenceElement("submitter", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("response", Reference.class, 0);
+        registry.element("date", Date.class, 0);
+        registry.referenceElement("responsible", 0, "PractitionerRole");
+        registry.referenceElement("payee", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.element("amount", Money.class, 0);
+    }
+
+    private static void paymentReconciliationProcessNote(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PaymentReconciliation.ProcessNote.class);
+        registry.element("type", NoteType.class, BINDING);
+        registry.element("text", String.class, 0);
+    }
+
+    private static void person(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Person.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("name", HumanName.class, SUMMARY | REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("gender", AdministrativeGender.class, SUMMARY | BINDING);
+        registry.element("birthDate", Date.class, SUMMARY);
+        registry.element("address", Address.class, REPEATING);
+        registry.element("photo", Attachment.class, 0);
+        registry.referenceElement("managingOrganization", SUMMARY, "Organization");
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("link", Person.Link.class, REPEATING);
+    }
+
+    private static void personLink(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Person.Link.class);
+        registry.referenceElement("target", REQUIRED, "Patient", "Practitioner", "RelatedPerson", "Person");
+        registry.element("assurance", IdentityAssuranceLevel.class, BINDING);
+    }
+
+    private static void planDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("library", Canonical.class, REPEATING);
+        registry.element("goal", PlanDefinition.Goal.class, REPEATING);
+        registry.element("action", PlanDefinition.Action.class, REPEATING);
+    }
+
+    private static void planDefinitionAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Action.class);
+        registry.element("prefix", String.class, 0);
+        registry.element("title", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("textEquivalent", String.class, 0);
+        registry.element("priority", RequestPriority.class, BINDING);
+        registry.element("code", CodeableConcept.class, REPEATING);
+        registry.element("reason", CodeableConcept.class, REPEATING);
+        registry.element("documentation", RelatedArtifact.class, REPEATING);
+        registry.element("goalId", Id.class, REPEATING);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("trigger", TriggerDefinition.class, REPEATING);
+        registry.element("condition", PlanDefinition.Action.Condition.class, REPEATING);
+        registry.element("input", DataRequirement.class, REPEATING);
+        registry.element("output", DataRequirement.class, REPEATING);
+        registry.element("relatedAction", PlanDefinition.Action.RelatedAction.class, REPEATING);
+        registry.choiceElement("timing", 0, DateTime.class, Age.class, Period.class, Duration.class, Range.class, Timing.class);
+        registry.element("participant", PlanDefinition.Action.Participant.class, REPEATING);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("groupingBehavior", ActionGroupingBehavior.class, BINDING);
+        registry.element("selectionBehavior", ActionSelectionBehavior.class, BINDING);
+        registry.element("requiredBehavior", ActionRequiredBehavior.class, BINDING);
+        registry.element("precheckBehavior", ActionPrecheckBehavior.class, BINDING);
+        registry.element("cardinalityBehavior", ActionCardinalityBehavior.class, BINDING);
+        registry.choiceElement("definition", 0, Canonical.class, Uri.class);
+        registry.element("transform", Canonical.class, 0);
+        registry.element("dynamicValue", PlanDefinition.Action.DynamicValue.class, REPEATING);
+        registry.element("action", PlanDefinition.Action.class, REPEATING);
+    }
+
+    private static void planDefinitionActionCondition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Action.Condition.class);
+        registry.element("kind", ActionConditionKind.class, BINDING | REQUIRED);
+        registry.element("expression", Expression.class, 0);
+    }
+
+    private static void planDefinitionActionDynamicValue(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Action.DynamicValue.class);
+        registry.element("path", String.class, 0);
+        registry.element("expression", Expression.class, 0);
+    }
+
+    private static void planDefinitionActionParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Action.Participant.class);
+        registry.element("type", ActionParticipantType.class, BINDING | REQUIRED);
+        registry.element("role", CodeableConcept.class, BINDING);
+    }
+
+    private static void planDefinitionActionRelatedAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Action.RelatedAction.class);
+        registry.element("actionId", Id.class, REQUIRED);
+        registry.element("relationship", ActionRelationshipType.class, BINDING | REQUIRED);
+        registry.choiceElement("offset", 0, Duration.class, Range.class);
+    }
+
+    private static void planDefinitionGoal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Goal.class);
+        registry.element("category", CodeableConcept.class, BINDING);
+        registry.element("description", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("priority", CodeableConcept.class, BINDING);
+        registry.element("start", CodeableConcept.class, BINDING);
+        registry.element("addresses", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("documentation", RelatedArtifact.class, REPEATING);
+        registry.element("target", PlanDefinition.Goal.Target.class, REPEATING);
+    }
+
+    private static void planDefinitionGoalTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PlanDefinition.Goal.Target.class);
+        registry.element("measure", CodeableConcept.class, BINDING);
+        registry.choiceElement("detail", 0, Quantity.class, Range.class, CodeableConcept.class);
+        registry.element("due", Duration.class, 0);
+    }
+
+    private static void practitioner(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Practitioner.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("name", HumanName.class, SUMMARY | REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("address", Address.class, SUMMARY | REPEATING);
+        registry.element("gender", AdministrativeGender.class, SUMMARY | BINDING);
+        registry.element("birthDate", Date.class, SUMMARY);
+        registry.element("photo", Attachment.class, REPEATING);
+        registry.element("qualification", Practitioner.Qualification.class, REPEATING);
+        registry.element("communication", CodeableConcept.class, BINDING | REPEATING);
+    }
+
+    private static void practitionerQualification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Practitioner.Qualification.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("code", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("period", Period.class, 0);
+        registry.referenceElement("issuer", 0, "Organization");
+    }
+
+    private static void practitionerRole(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PractitionerRole.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("practitioner", SUMMARY, "Practitioner");
+        registry.referenceElement("organization", SUMMARY, "Organization");
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("location", Reference.class, SUMMARY | REPEATING);
+        registry.element("healthcareService", Reference.class, REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("availableTime", PractitionerRole.AvailableTime.class, REPEATING);
+        registry.element("notAvailable", PractitionerRole.NotAvailable.class, REPEATING);
+        registry.element("availabilityExceptions", String.class, 0);
+        registry.element("endpoint", Reference.class, REPEATING);
+    }
+
+    private static void practitionerRoleAvailableTime(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PractitionerRole.AvailableTime.class);
+        registry.element("daysOfWeek", DaysOfWeek.class, BINDING | REPEATING);
+        registry.element("allDay", Boolean.class, 0);
+        registry.element("availableStartTime", Time.class, 0);
+        registry.element("availableEndTime", Time.class, 0);
+    }
+
+    private static void practitionerRoleNotAvailable(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PractitionerRole.NotAvailable.class);
+        registry.element("description", String.class, REQUIRED);
+        registry.element("during", Period.class, 0);
+    }
+
+    private static void procedure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Procedure.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", ProcedureStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("performed", SUMMARY, DateTime.class, Period.class, String.class, Age.class, Range.class);
+        registry.referenceElement("recorder", SUMMARY, "Patient", "RelatedPerson", "Practitioner", "PractitionerRole");
+        registry.referenceElement("asserter", SUMMARY, "Patient", "RelatedPerson", "Practitioner", "PractitionerRole");
+        registry.element("performer", Procedure.Performer.class, SUMMARY | REPEATING);
+        registry.referenceElement("location", SUMMARY, "Location");
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("bodySite", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("outcome", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("report", Reference.class, REPEATING);
+        registry.element("complication", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("complicationDetail", Reference.class, REPEATING);
+        registry.element("followUp", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("focalDevice", Procedure.FocalDevice.class, REPEATING);
+        registry.element("usedReference", Reference.class, REPEATING);
+        registry.element("usedCode", CodeableConcept.class, BINDING | REPEATING);
+    }
+
+    private static void procedureFocalDevice(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Procedure.FocalDevice.class);
+        registry.element("action", CodeableConcept.class, BINDING);
+        registry.referenceElement("manipulated", REQUIRED, "Device");
+    }
+
+    private static void procedurePerformer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Procedure.Performer.class);
+        registry.element("function", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("actor", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson", "Device");
+        registry.referenceElement("onBehalfOf", 0, "Organization");
+    }
+
+    private static void provenance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Provenance.class);
+        registry.element("target", Reference.class, SUMMARY | REQUIRED | REPEATING);
+        registry.choiceElement("occurred", 0, Period.class, DateTime.class);
+        registry.element("recorded", Instant.class, SUMMARY | REQUIRED);
+        registry.element("policy", Uri.class, REPEATING);
+        registry.referenceElement("location", 0, "Location");
+        registry.element("reason", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("activity", CodeableConcept.class, BINDING);
+        registry.element("agent", Provenance.Agent.class, REQUIRED | REPEATING);
+        registry.element("entity", Provenance.Entity.class, REPEATING);
+        registry.element("signature", Signature.class, REPEATING);
+    }
+
+    private static void provenanceAgent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Provenance.Agent.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("role", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("who", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "RelatedPerson", "Patient", "Device", "Organization");
+        registry.referenceElement("onBehalfOf", 0, "Practitioner", "PractitionerRole", "RelatedPerson", "Patient", "Device", "Organization");
+    }
+
+    private static void provenanceEntity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Provenance.Entity.class);
+        registry.element("role", ProvenanceEntityRole.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("what", Reference.class, SUMMARY | REQUIRED);
+        registry.element("agent", Provenance.Agent.class, REPEATING);
+    }
+
+    private static void questionnaire(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Questionnaire.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("derivedFrom", Canonical.class, REPEATING);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("subjectType", ResourceType.class, SUMMARY | BINDING | REPEATING);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("code", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("item", Questionnaire.Item.class, REPEATING);
+    }
+
+    private static void questionnaireItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Questionnaire.Item.class);
+        registry.element("linkId", String.class, REQUIRED);
+        registry.element("definition", Uri.class, 0);
+        registry.element("code", Coding.class, BINDING | REPEATING);
+        registry.element("prefix", String.class, 0);
+        registry.element("text", String.class, 0);
+        registry.element("type", QuestionnaireItemType.class, BINDING | REQUIRED);
+        registry.element("enableWhen", Questionnaire.Item.EnableWhen.class, REPEATING);
+        registry.element("enableBehavior", EnableWhenBehavior.class, BINDING);
+        registry.element("required", Boolean.class, 0);
+        registry.element("repeats", Boolean.class, 0);
+        registry.element("readOnly", Boolean.class, 0);
+        registry.element("maxLength", Integer.class, 0);
+        registry.element("answerValueSet", Canonical.class, 0);
+        registry.element("answerOption", Questionnaire.Item.AnswerOption.class, REPEATING);
+        registry.element("initial", Questionnaire.Item.Initial.class, REPEATING);
+        registry.element("item", Questionnaire.Item.class, REPEATING);
+    }
+
+    private static void questionnaireItemAnswerOption(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Questionnaire.Item.AnswerOption.class);
+        registry.choiceElement("value", BINDING | REQUIRED, Integer.class, Date.class, Time.class, String.class, Coding.class, Reference.class);
+        registry.element("initialSelected", Boolean.class, 0);
+    }
+
+    private static void questionnaireItemEnableWhen(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Questionnaire.Item.EnableWhen.class);
+        registry.element("question", String.class, REQUIRED);
+        registry.element("operator", QuestionnaireItemOperator.class, BINDING | REQUIRED);
+        registry.choiceElement("answer", BINDING | REQUIRED, Boolean.class, Decimal.class, Integer.class, Date.class, DateTime.class, Time.class, String.class, Coding.class, Quantity.class, Reference.class);
+    }
+
+    private static void questionnaireItemInitial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Questionnaire.Item.Initial.class);
+        registry.choiceElement("value", BINDING | REQUIRED, Boolean.class, Decimal.class, Integer.class, Date.class, DateTime.class, Time.class, String.class, Uri.class, Attachment.class, Coding.class, Quantity.class, Reference.class);
+    }
+
+    private static void questionnaireResponse(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(QuestionnaireResponse.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("questionnaire", Canonical.class, SUMMARY);
+        registry.element("status", QuestionnaireResponseStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("subject", Reference.class, SUMMARY);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("authored", DateTime.class, SUMMARY);
+        registry.referenceElement("author", SUMMARY, "Device", "Practitioner", "PractitionerRole", "Patient", "RelatedPerson", "Organization");
+        registry.referenceElement("source", SUMMARY, "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("item", QuestionnaireResponse.Item.class, REPEATING);
+    }
+
+    private static void questionnaireResponseItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(QuestionnaireResponse.Item.class);
+        registry.element("linkId", String.class, REQUIRED);
+        registry.element("definition", Uri.class, 0);
+        registry.element("text", String.class, 0);
+        registry.element("answer", QuestionnaireResponse.Item.Answer.class, REPEATING);
+        registry.element("item", QuestionnaireResponse.Item.class, REPEATING);
+    }
+
+    private static void questionnaireResponseItemAnswer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(QuestionnaireResponse.Item.Answer.class);
+        registry.choiceElement("value", BINDING, Boolean.class, Decimal.class, Integer.class, Date.class, DateTime.class, Time.class, String.class, Uri.class, Attachment.class, Coding.class, Quantity.class, Reference.class);
+        registry.element("item", QuestionnaireResponse.Item.class, REPEATING);
+    }
+
+    private static void relatedPerson(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RelatedPerson.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.element("relationship", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("name", HumanName.class, SUMMARY | REPEATING);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("gender", AdministrativeGender.class, SUMMARY | BINDING);
+        registry.element("birthDate", Date.class, SUMMARY);
+        registry.element("address", Address.class, SUMMARY | REPEATING);
+        registry.element("photo", Attachment.class, REPEATING);
+        registry.element("period", Period.class, 0);
+        registry.element("communication", RelatedPerson.Communication.class, REPEATING);
+    }
+
+    private static void relatedPersonCommunication(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RelatedPerson.Communication.class);
+        registry.element("language", CodeableConcept.class, BINDING | REQUIRED);
+        registry.element("preferred", Boolean.class, 0);
+    }
+
+    private static void requestGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RequestGroup.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, REPEATING);
+        registry.element("replaces", Reference.class, REPEATING);
+        registry.element("groupIdentifier", Identifier.class, SUMMARY);
+        registry.element("status", RequestStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("intent", RequestIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("priority", RequestPriority.class, SUMMARY | BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY);
+        registry.referenceElement("subject", 0, "Patient", "Group");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("authoredOn", DateTime.class, 0);
+        registry.referenceElement("author", 0, "Device", "Practitioner", "PractitionerRole");
+        registry.element("reasonCode", CodeableConcept.class, REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("action", RequestGroup.Action.class, REPEATING);
+    }
+
+    private static void requestGroupAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RequestGroup.Action.class);
+        registry.element("prefix", String.class, 0);
+        registry.element("title", String.class, 0);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("textEquivalent", String.class, SUMMARY);
+        registry.element("priority", RequestPriority.class, BINDING);
+        registry.element("code", CodeableConcept.class, REPEATING);
+        registry.element("documentation", RelatedArtifact.class, REPEATING);
+        registry.element("condition", RequestGroup.Action.Condition.class, REPEATING);
+        registry.element("relatedAction", RequestGroup.Action.RelatedAction.class, REPEATING);
+        registry.choiceElement("timing", 0, DateTime.class, Age.class, Period.class, Duration.class, Range.class, Timing.class);
+        registry.element("participant", Reference.class, REPEATING);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("groupingBehavior", ActionGroupingBehavior.class, BINDING);
+        registry.element("selectionBehavior", ActionSelectionBehavior.class, BINDING);
+        registry.element("requiredBehavior", ActionRequiredBehavior.class, BINDING);
+        registry.element("precheckBehavior", ActionPrecheckBehavior.class, BINDING);
+        registry.element("cardinalityBehavior", ActionCardinalityBehavior.class, BINDING);
+        registry.element("resource", Reference.class, 0);
+        registry.element("action", RequestGroup.Action.class, REPEATING);
+    }
+
+    private static void requestGroupActionCondition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RequestGroup.Action.Condition.class);
+        registry.element("kind", ActionConditionKind.class, BINDING | REQUIRED);
+        registry.element("expression", Expression.class, 0);
+    }
+
+    private static void requestGroupActionRelatedAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RequestGroup.Action.RelatedAction.class);
+        registry.element("actionId", Id.class, REQUIRED);
+        registry.element("relationship", ActionRelationshipType.class, BINDING | REQUIRED);
+        registry.choiceElement("offset", 0, Duration.class, Range.class);
+    }
+
+    private static void researchDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("shortTitle", String.class, 0);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("comment", String.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("library", Canonical.class, REPEATING);
+        registry.referenceElement("population", SUMMARY | REQUIRED, "ResearchElementDefinition");
+        registry.referenceElement("exposure", SUMMARY, "ResearchElementDefinition");
+        registry.referenceElement("exposureAlternative", SUMMARY, "ResearchElementDefinition");
+        registry.referenceElement("outcome", SUMMARY, "ResearchElementDefinition");
+    }
+
+    private static void researchElementDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchElementDefinition.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("shortTitle", String.class, SUMMARY);
+        registry.element("subtitle", String.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.choiceElement("subject", BINDING, CodeableConcept.class, Reference.class);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("comment", String.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("usage", String.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("library", Canonical.class, REPEATING);
+        registry.element("type", ResearchElementType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("variableType", VariableType.class, BINDING);
+        registry.element("characteristic", ResearchElementDefinition.Characteristic.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void researchElementDefinitionCharacteristic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchElementDefinition.Characteristic.class);
+        registry.choiceElement("definition", SUMMARY | REQUIRED, CodeableConcept.class, Canonical.class, Expression.class, DataRequirement.class);
+        registry.element("usageContext", UsageContext.class, REPEATING);
+        registry.element("exclude", Boolean.class, 0);
+        registry.element("unitOfMeasure", CodeableConcept.class, BINDING);
+        registry.element("studyEffectiveDescription", String.class, 0);
+        registry.choiceElement("studyEffective", 0, DateTime.class, Period.class, Duration.class, Timing.class);
+        registry.element("studyEffectiveTimeFromStart", Duration.class, 0);
+        registry.element("studyEffectiveGroupMeasure", GroupMeasure.class, BINDING);
+        registry.element("participantEffectiveDescription", String.class, 0);
+        registry.choiceElement("participantEffective", 0, DateTime.class, Period.class, Duration.class, Timing.class);
+        registry.element("participantEffectiveTimeFromStart", Duration.class, 0);
+        registry.element("participantEffectiveGroupMeasure", GroupMeasure.class, BINDING);
+    }
+
+    private static void researchStudy(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchStudy.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("protocol", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", ResearchStudyStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("primaryPurposeType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("phase", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("focus", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("condition", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("keyword", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("location", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("enrollment", Reference.class, SUMMARY | REPEATING);
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("sponsor", SUMMARY, "Organization");
+        registry.referenceElement("principalInvestigator", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.element("site", Reference.class, SUMMARY | REPEATING);
+        registry.element("reasonStopped", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("arm", ResearchStudy.Arm.class, REPEATING);
+        registry.element("objective", ResearchStudy.Objective.class, REPEATING);
+    }
+
+    private static void researchStudyArm(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchStudy.Arm.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("type", CodeableConcept.class, 0);
+        registry.element("description", String.class, 0);
+    }
+
+    private static void researchStudyObjective(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchStudy.Objective.class);
+        registry.element("name", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+    }
+
+    private static void researchSubject(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ResearchSubject.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", ResearchSubjectStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("study", SUMMARY | REQUIRED, "ResearchStudy");
+        registry.referenceElement("individual", SUMMARY | REQUIRED, "Patient");
+        registry.element("assignedArm", String.class, 0);
+        registry.element("actualArm", String.class, 0);
+        registry.referenceElement("consent", 0, "Consent");
+    }
+
+    private static void resource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Resource.class);
+        registry.element("id", java.lang.String.class, SUMMARY);
+        registry.element("meta", Meta.class, SUMMARY);
+        registry.element("implicitRules", Uri.class, SUMMARY);
+        registry.element("language", Code.class, BINDING);
+    }
+
+    private static void riskAssessment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskAssessment.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, 0);
+        registry.element("parent", Reference.class, 0);
+        registry.element("status", RiskAssessmentStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("method", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class);
+        registry.referenceElement("condition", SUMMARY, "Condition");
+        registry.referenceElement("performer", SUMMARY, "Practitioner", "PractitionerRole", "Device");
+        registry.element("reasonCode", CodeableConcept.class, REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.element("basis", Reference.class, REPEATING);
+        registry.element("prediction", RiskAssessment.Prediction.class, REPEATING);
+        registry.element("mitigation", String.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void riskAssessmentPrediction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskAssessment.Prediction.class);
+        registry.element("outcome", CodeableConcept.class, BINDING);
+        registry.choiceElement("probability", 0, Decimal.class, Range.class);
+        registry.element("qualitativeRisk", CodeableConcept.class, BINDING);
+        registry.element("relativeRisk", Decimal.class, 0);
+        registry.choiceElement("when", 0, Period.class, Range.class);
+        registry.element("rationale", String.class, 0);
+    }
+
+    private static void riskEvidenceSynthesis(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("approvalDate", Date.class, 0);
+        registry.element("lastReviewDate", Date.class, 0);
+        registry.element("effectivePeriod", Period.class, SUMMARY);
+        registry.element("topic", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("author", ContactDetail.class, REPEATING);
+        registry.element("editor", ContactDetail.class, REPEATING);
+        registry.element("reviewer", ContactDetail.class, REPEATING);
+        registry.element("endorser", ContactDetail.class, REPEATING);
+        registry.element("relatedArtifact", RelatedArtifact.class, REPEATING);
+        registry.element("synthesisType", CodeableConcept.class, BINDING);
+        registry.element("studyType", CodeableConcept.class, BINDING);
+        registry.referenceElement("population", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.referenceElement("exposure", SUMMARY, "EvidenceVariable");
+        registry.referenceElement("outcome", SUMMARY | REQUIRED, "EvidenceVariable");
+        registry.element("sampleSize", RiskEvidenceSynthesis.SampleSize.class, 0);
+        registry.element("riskEstimate", RiskEvidenceSynthesis.RiskEstimate.class, SUMMARY);
+        registry.element("certainty", RiskEvidenceSynthesis.Certainty.class, REPEATING);
+    }
+
+    private static void riskEvidenceSynthesisCertainty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.Certainty.class);
+        registry.element("rating", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("certaintySubcomponent", RiskEvidenceSynthesis.Certainty.CertaintySubcomponent.class, REPEATING);
+    }
+
+    private static void riskEvidenceSynthesisCertaintyCertaintySubcomponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.Certainty.CertaintySubcomponent.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("rating", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void riskEvidenceSynthesisRiskEstimate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.RiskEstimate.class);
+        registry.element("description", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("value", Decimal.class, 0);
+        registry.element("unitOfMeasure", CodeableConcept.class, BINDING);
+        registry.element("denominatorCount", Integer.class, 0);
+        registry.element("numeratorCount", Integer.class, 0);
+        registry.element("precisionEstimate", RiskEvidenceSynthesis.RiskEstimate.PrecisionEstimate.class, REPEATING);
+    }
+
+    private static void riskEvidenceSynthesisRiskEstimatePrecisionEstimate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.RiskEstimate.PrecisionEstimate.class);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("level", Decimal.class, 0);
+        registry.element("from", Decimal.class, 0);
+        registry.element("to", Decimal.class, 0);
+    }
+
+    private static void riskEvidenceSynthesisSampleSize(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RiskEvidenceSynthesis.SampleSize.class);
+        registry.element("description", String.class, 0);
+        registry.element("numberOfStudies", Integer.class, 0);
+        registry.element("numberOfParticipants", Integer.class, 0);
+    }
+
+    private static void schedule(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Schedule.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("active", Boolean.class, SUMMARY);
+        registry.element("serviceCategory", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("serviceType", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("actor", Reference.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("planningHorizon", Period.class, SUMMARY);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void searchParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SearchParameter.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("derivedFrom", Canonical.class, 0);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, SUMMARY | REQUIRED);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("code", Code.class, SUMMARY | REQUIRED);
+        registry.element("base", ResourceType.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("type", SearchParamType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("expression", String.class, 0);
+        registry.element("xpath", String.class, 0);
+        registry.element("xpathUsage", XPathUsageType.class, BINDING);
+        registry.element("target", ResourceType.class, BINDING | REPEATING);
+        registry.element("multipleOr", Boolean.class, 0);
+        registry.element("multipleAnd", Boolean.class, 0);
+        registry.element("comparator", SearchComparator.class, BINDING | REPEATING);
+        registry.element("modifier", SearchModifierCode.class, BINDING | REPEATING);
+        registry.element("chain", String.class, REPEATING);
+        registry.element("component", SearchParameter.Component.class, REPEATING);
+    }
+
+    private static void searchParameterComponent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SearchParameter.Component.class);
+        registry.element("definition", Canonical.class, REQUIRED);
+        registry.element("expression", String.class, REQUIRED);
+    }
+
+    private static void serviceRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ServiceRequest.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY | REPEATING);
+        registry.element("instantiatesUri", Uri.class, SUMMARY | REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("replaces", Reference.class, SUMMARY | REPEATING);
+        registry.element("requisition", Identifier.class, SUMMARY);
+        registry.element("status", ServiceRequestStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("intent", ServiceRequestIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("priority", ServiceRequestPriority.class, SUMMARY | BINDING);
+        registry.element("doNotPerform", Boolean.class, SUMMARY);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("orderDetail", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.choiceElement("quantity", SUMMARY, Quantity.class, Ratio.class, Range.class);
+        registry.referenceElement("subject", SUMMARY | REQUIRED, "Patient", "Group", "Location", "Device");
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class, Timing.class);
+        registry.choiceElement("asNeeded", SUMMARY | BINDING, Boolean.class, CodeableConcept.class);
+        registry.element("authoredOn", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson", "Device");
+        registry.element("performerType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("performer", Reference.class, SUMMARY | REPEATING);
+        registry.element("locationCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("locationReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, SUMMARY | REPEATING);
+        registry.element("insurance", Reference.class, REPEATING);
+        registry.element("supportingInfo", Reference.class, REPEATING);
+        registry.element("specimen", Reference.class, SUMMARY | REPEATING);
+        registry.element("bodySite", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("patientInstruction", String.class, SUMMARY);
+        registry.element("relevantHistory", Reference.class, REPEATING);
+    }
+
+    private static void slot(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Slot.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("serviceCategory", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("serviceType", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("specialty", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("appointmentType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("schedule", SUMMARY | REQUIRED, "Schedule");
+        registry.element("status", SlotStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("start", Instant.class, SUMMARY | REQUIRED);
+        registry.element("end", Instant.class, SUMMARY | REQUIRED);
+        registry.element("overbooked", Boolean.class, 0);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void specimen(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Specimen.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("accessionIdentifier", Identifier.class, SUMMARY);
+        registry.element("status", SpecimenStatus.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.referenceElement("subject", SUMMARY, "Patient", "Group", "Device", "Substance", "Location");
+        registry.element("receivedTime", DateTime.class, SUMMARY);
+        registry.element("parent", Reference.class, REPEATING);
+        registry.element("request", Reference.class, REPEATING);
+        registry.element("collection", Specimen.Collection.class, 0);
+        registry.element("processing", Specimen.Processing.class, REPEATING);
+        registry.element("container", Specimen.Container.class, REPEATING);
+        registry.element("condition", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void specimenCollection(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Specimen.Collection.class);
+        registry.referenceElement("collector", SUMMARY, "Practitioner", "PractitionerRole");
+        registry.choiceElement("collected", SUMMARY, DateTime.class, Period.class);
+        registry.element("duration", Duration.class, SUMMARY);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.element("method", CodeableConcept.class, BINDING);
+        registry.element("bodySite", CodeableConcept.class, BINDING);
+        registry.choiceElement("fastingStatus", SUMMARY | BINDING, CodeableConcept.class, Duration.class);
+    }
+
+    private static void specimenContainer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Specimen.Container.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("capacity", SimpleQuantity.class, 0);
+        registry.element("specimenQuantity", SimpleQuantity.class, 0);
+        registry.choiceElement("additive", BINDING, CodeableConcept.class, Reference.class);
+    }
+
+    private static void specimenProcessing(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Specimen.Processing.class);
+        registry.element("description", String.class, 0);
+        registry.element("procedure", CodeableConcept.class, BINDING);
+        registry.element("additive", Reference.class, REPEATING);
+        registry.choiceElement("time", 0, DateTime.class, Period.class);
+    }
+
+    private static void specimenDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SpecimenDefinition.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("typeCollected", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("patientPreparation", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("timeAspect", String.class, SUMMARY);
+        registry.element("collection", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("typeTested", SpecimenDefinition.TypeTested.class, REPEATING);
+    }
+
+    private static void specimenDefinitionTypeTested(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SpecimenDefinition.TypeTested.class);
+        registry.element("isDerived", Boolean.class, 0);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("preference", SpecimenContainedPreference.class, BINDING | REQUIRED);
+        registry.element("container", SpecimenDefinition.TypeTested.Container.class, 0);
+        registry.element("requirement", String.class, 0);
+        registry.element("retentionTime", Duration.class, 0);
+        registry.element("rejectionCriterion", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("handling", SpecimenDefinition.TypeTested.Handling.class, REPEATING);
+    }
+
+    private static void specimenDefinitionTypeTestedContainer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SpecimenDefinition.TypeTested.Container.class);
+        registry.element("material", CodeableConcept.class, BINDING);
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("cap", CodeableConcept.class, BINDING);
+        registry.element("description", String.class, 0);
+        registry.element("capacity", SimpleQuantity.class, 0);
+        registry.choiceElement("minimumVolume", 0, SimpleQuantity.class, String.class);
+        registry.element("additive", SpecimenDefinition.TypeTested.Container.Additive.class, REPEATING);
+        registry.element("preparation", String.class, 0);
+    }
+
+    private static void specimenDefinitionTypeTestedContainerAdditive(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SpecimenDefinition.TypeTested.Container.Additive.class);
+        registry.choiceElement("additive", BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+    }
+
+    private static void specimenDefinitionTypeTestedHandling(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SpecimenDefinition.TypeTested.Handling.class);
+        registry.element("temperatureQualifier", CodeableConcept.class, BINDING);
+        registry.element("temperatureRange", Range.class, 0);
+        registry.element("maxDuration", Duration.class, 0);
+        registry.element("instruction", String.class, 0);
+    }
+
+    private static void structureDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureDefinition.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("keyword", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("fhirVersion", FHIRVersion.class, SUMMARY | BINDING);
+        registry.element("mapping", StructureDefinition.Mapping.class, REPEATING);
+        registry.element("kind", StructureDefinitionKind.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("abstract", Boolean.class, SUMMARY | REQUIRED);
+        registry.element("context", StructureDefinition.Context.class, SUMMARY | REPEATING);
+        registry.element("contextInvariant", String.class, SUMMARY | REPEATING);
+        registry.element("type", Uri.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("baseDefinition", Canonical.class, SUMMARY);
+        registry.element("derivation", TypeDerivationRule.class, SUMMARY | BINDING);
+        registry.element("snapshot", StructureDefinition.Snapshot.class, 0);
+        registry.element("differential", StructureDefinition.Differential.class, 0);
+    }
+
+    private static void structureDefinitionContext(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureDefinition.Context.class);
+        registry.element("type", ExtensionContextType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("expression", String.class, SUMMARY | REQUIRED);
+    }
+
+    private static void structureDefinitionDifferential(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureDefinition.Differential.class);
+        registry.element("element", ElementDefinition.class, REQUIRED | REPEATING);
+    }
+
+    private static void structureDefinitionMapping(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureDefinition.Mapping.class);
+        registry.element("identity", Id.class, REQUIRED);
+        registry.element("uri", Uri.class, 0);
+        registry.element("name", String.class, 0);
+        registry.element("comment", String.class, 0);
+    }
+
+    private static void structureDefinitionSnapshot(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureDefinition.Snapshot.class);
+        registry.element("element", ElementDefinition.class, REQUIRED | REPEATING);
+    }
+
+    private static void structureMap(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("structure", StructureMap.Structure.class, SUMMARY | REPEATING);
+        registry.element("import", Canonical.class, SUMMARY | REPEATING);
+        registry.element("group", StructureMap.Group.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void structureMapGroup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.class);
+        registry.element("name", Id.class, SUMMARY | REQUIRED);
+        registry.element("extends", Id.class, SUMMARY);
+        registry.element("typeMode", StructureMapGroupTypeMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("documentation", String.class, SUMMARY);
+        registry.element("input", StructureMap.Group.Input.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("rule", StructureMap.Group.Rule.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void structureMapGroupInput(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Input.class);
+        registry.element("name", Id.class, SUMMARY | REQUIRED);
+        registry.element("type", String.class, SUMMARY);
+        registry.element("mode", StructureMapInputMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("documentation", String.class, 0);
+    }
+
+    private static void structureMapGroupRule(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Rule.class);
+        registry.element("name", Id.class, SUMMARY | REQUIRED);
+        registry.element("source", StructureMap.Group.Rule.Source.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("target", StructureMap.Group.Rule.Target.class, SUMMARY | REPEATING);
+        registry.element("rule", StructureMap.Group.Rule.class, SUMMARY | REPEATING);
+        registry.element("dependent", StructureMap.Group.Rule.Dependent.class, SUMMARY | REPEATING);
+        registry.element("documentation", String.class, 0);
+    }
+
+    private static void structureMapGroupRuleDependent(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Rule.Dependent.class);
+        registry.element("name", Id.class, SUMMARY | REQUIRED);
+        registry.element("variable", String.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void structureMapGroupRuleSource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Rule.Source.class);
+        registry.element("context", Id.class, SUMMARY | REQUIRED);
+        registry.element("min", Integer.class, SUMMARY);
+        registry.element("max", String.class, SUMMARY);
+        registry.element("type", String.class, SUMMARY);
+        registry.choiceElement("defaultValue", SUMMARY, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+        registry.element("element", String.class, SUMMARY);
+        registry.element("listMode", StructureMapSourceListMode.class, SUMMARY | BINDING);
+        registry.element("variable", Id.class, SUMMARY);
+        registry.element("condition", String.class, SUMMARY);
+        registry.element("check", String.class, SUMMARY);
+        registry.element("logMessage", String.class, SUMMARY);
+    }
+
+    private static void structureMapGroupRuleTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Rule.Target.class);
+        registry.element("context", Id.class, SUMMARY);
+        registry.element("contextType", StructureMapContextType.class, SUMMARY | BINDING);
+        registry.element("element", String.class, SUMMARY);
+        registry.element("variable", Id.class, SUMMARY);
+        registry.element("listMode", StructureMapTargetListMode.class, SUMMARY | BINDING | REPEATING);
+        registry.element("listRuleId", Id.class, SUMMARY);
+        registry.element("transform", StructureMapTransform.class, SUMMARY | BINDING);
+        registry.element("parameter", StructureMap.Group.Rule.Target.Parameter.class, SUMMARY | REPEATING);
+    }
+
+    private static void structureMapGroupRuleTargetParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Group.Rule.Target.Parameter.class);
+        registry.choiceElement("value", SUMMARY | REQUIRED, Id.class, String.class, Boolean.class, Integer.class, Decimal.class);
+    }
+
+    private static void structureMapStructure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(StructureMap.Structure.class);
+        registry.element("url", Canonical.class, SUMMARY | REQUIRED);
+        registry.element("mode", StructureMapModelMode.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("alias", String.class, SUMMARY);
+        registry.element("documentation", String.class, 0);
+    }
+
+    private static void subscription(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Subscription.class);
+        registry.element("status", SubscriptionStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("contact", ContactPoint.class, SUMMARY | REPEATING);
+        registry.element("end", Instant.class, SUMMARY);
+        registry.element("reason", String.class, SUMMARY | REQUIRED);
+        registry.element("criteria", String.class, SUMMARY | REQUIRED);
+        registry.element("error", String.class, SUMMARY);
+        registry.element("channel", Subscription.Channel.class, SUMMARY | REQUIRED);
+    }
+
+    private static void subscriptionChannel(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Subscription.Channel.class);
+        registry.element("type", SubscriptionChannelType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("endpoint", Url.class, SUMMARY);
+        registry.element("payload", Code.class, SUMMARY | BINDING);
+        registry.element("header", String.class, SUMMARY | REPEATING);
+    }
+
+    private static void substance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Substance.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", FHIRSubstanceStatus.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("instance", Substance.Instance.class, SUMMARY | REPEATING);
+        registry.element("ingredient", Substance.Ingredient.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceIngredient(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Substance.Ingredient.class);
+        registry.element("quantity", Ratio.class, SUMMARY);
+        registry.choiceElement("substance", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+    }
+
+    private static void substanceInstance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Substance.Instance.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("expiry", DateTime.class, SUMMARY);
+        registry.element("quantity", SimpleQuantity.class, SUMMARY);
+    }
+
+    private static void substanceNucleicAcid(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceNucleicAcid.class);
+        registry.element("sequenceType", CodeableConcept.class, SUMMARY);
+        registry.element("numberOfSubunits", Integer.class, SUMMARY);
+        registry.element("areaOfHybridisation", String.class, SUMMARY);
+        registry.element("oligoNucleotideType", CodeableConcept.class, SUMMARY);
+        registry.element("subunit", SubstanceNucleicAcid.Subunit.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceNucleicAcidSubunit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceNucleicAcid.Subunit.class);
+        registry.element("subunit", Integer.class, SUMMARY);
+        registry.element("sequence", String.class, SUMMARY);
+        registry.element("length", Integer.class, SUMMARY);
+        registry.element("sequenceAttachment", Attachment.class, SUMMARY);
+        registry.element("fivePrime", CodeableConcept.class, SUMMARY);
+        registry.element("threePrime", CodeableConcept.class, SUMMARY);
+        registry.element("linkage", SubstanceNucleicAcid.Subunit.Linkage.class, SUMMARY | REPEATING);
+        registry.element("sugar", SubstanceNucleicAcid.Subunit.Sugar.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceNucleicAcidSubunitLinkage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceNucleicAcid.Subunit.Linkage.class);
+        registry.element("connectivity", String.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("residueSite", String.class, SUMMARY);
+    }
+
+    private static void substanceNucleicAcidSubunitSugar(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceNucleicAcid.Subunit.Sugar.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("residueSite", String.class, SUMMARY);
+    }
+
+    private static void substancePolymer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.class);
+        registry.element("class", CodeableConcept.class, SUMMARY);
+        registry.element("geometry", CodeableConcept.class, SUMMARY);
+        registry.element("copolymerConnectivity", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("modification", String.class, SUMMARY | REPEATING);
+        registry.element("monomerSet", SubstancePolymer.MonomerSet.class, SUMMARY | REPEATING);
+        registry.element("repeat", SubstancePolymer.Repeat.class, SUMMARY | REPEATING);
+    }
+
+    private static void substancePolymerMonomerSet(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.MonomerSet.class);
+        registry.element("ratioType", CodeableConcept.class, SUMMARY);
+        registry.element("startingMaterial", SubstancePolymer.MonomerSet.StartingMaterial.class, SUMMARY | REPEATING);
+    }
+
+    private static void substancePolymerMonomerSetStartingMaterial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.MonomerSet.StartingMaterial.class);
+        registry.element("material", CodeableConcept.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("isDefining", Boolean.class, SUMMARY);
+        registry.element("amount", SubstanceAmount.class, SUMMARY);
+    }
+
+    private static void substancePolymerRepeat(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.Repeat.class);
+        registry.element("numberOfUnits", Integer.class, SUMMARY);
+        registry.element("averageMolecularFormula", String.class, SUMMARY);
+        registry.element("repeatUnitAmountType", CodeableConcept.class, SUMMARY);
+        registry.element("repeatUnit", SubstancePolymer.Repeat.RepeatUnit.class, SUMMARY | REPEATING);
+    }
+
+    private static void substancePolymerRepeatRepeatUnit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.Repeat.RepeatUnit.class);
+        registry.element("orientationOfPolymerisation", CodeableConcept.class, SUMMARY);
+        registry.element("repeatUnit", String.class, SUMMARY);
+        registry.element("amount", SubstanceAmount.class, SUMMARY);
+        registry.element("degreeOfPolymerisation", SubstancePolymer.Repeat.RepeatUnit.DegreeOfPolymerisation.class, SUMMARY | REPEATING);
+        registry.element("structuralRepresentation", SubstancePolymer.Repeat.RepeatUnit.StructuralRepresentation.class, SUMMARY | REPEATING);
+    }
+
+    private static void substancePolymerRepeatRepeatUnitDegreeOfPolymerisation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.Repeat.RepeatUnit.DegreeOfPolymerisation.class);
+        registry.element("degree", CodeableConcept.class, SUMMARY);
+        registry.element("amount", SubstanceAmount.class, SUMMARY);
+    }
+
+    private static void substancePolymerRepeatRepeatUnitStructuralRepresentation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstancePolymer.Repeat.RepeatUnit.StructuralRepresentation.class);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("representation", String.class, SUMMARY);
+        registry.element("attachment", Attachment.class, SUMMARY);
+    }
+
+    private static void substanceProtein(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceProtein.class);
+        registry.element("sequenceType", CodeableConcept.class, SUMMARY);
+        registry.element("numberOfSubunits", Integer.class, SUMMARY);
+        registry.element("disulfideLinkage", String.class, SUMMARY | REPEATING);
+        registry.element("subunit", SubstanceProtein.Subunit.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceProteinSubunit(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceProtein.Subunit.class);
+        registry.element("subunit", Integer.class, SUMMARY);
+        registry.element("sequence", String.class, SUMMARY);
+        registry.element("length", Integer.class, SUMMARY);
+        registry.element("sequenceAttachment", Attachment.class, SUMMARY);
+        registry.element("nTerminalModificationId", Identifier.class, SUMMARY);
+        registry.element("nTerminalModification", String.class, SUMMARY);
+        registry.element("cTerminalModificationId", Identifier.class, SUMMARY);
+        registry.element("cTerminalModification", String.class, SUMMARY);
+    }
+
+    private static void substanceReferenceInformation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceReferenceInformation.class);
+        registry.element("comment", String.class, SUMMARY);
+        registry.element("gene", SubstanceReferenceInformation.Gene.class, SUMMARY | REPEATING);
+        registry.element("geneElement", SubstanceReferenceInformation.GeneElement.class, SUMMARY | REPEATING);
+        registry.element("classification", SubstanceReferenceInformation.Classification.class, SUMMARY | REPEATING);
+        registry.element("target", SubstanceReferenceInformation.Target.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceReferenceInformationClassification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceReferenceInformation.Classification.class);
+        registry.element("domain", CodeableConcept.class, SUMMARY);
+        registry.element("classification", CodeableConcept.class, SUMMARY);
+        registry.element("subtype", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceReferenceInformationGene(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceReferenceInformation.Gene.class);
+        registry.element("geneSequenceOrigin", CodeableConcept.class, SUMMARY);
+        registry.element("gene", CodeableConcept.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceReferenceInformationGeneElement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceReferenceInformation.GeneElement.class);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("element", Identifier.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceReferenceInformationTarget(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceReferenceInformation.Target.class);
+        registry.element("target", Identifier.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("interaction", CodeableConcept.class, SUMMARY);
+        registry.element("organism", CodeableConcept.class, SUMMARY);
+        registry.element("organismType", CodeableConcept.class, SUMMARY);
+        registry.choiceElement("amount", SUMMARY, Quantity.class, Range.class, String.class);
+        registry.element("amountType", CodeableConcept.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSourceMaterial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.class);
+        registry.element("sourceMaterialClass", CodeableConcept.class, SUMMARY);
+        registry.element("sourceMaterialType", CodeableConcept.class, SUMMARY);
+        registry.element("sourceMaterialState", CodeableConcept.class, SUMMARY);
+        registry.element("organismId", Identifier.class, SUMMARY);
+        registry.element("organismName", String.class, SUMMARY);
+        registry.element("parentSubstanceId", Identifier.class, SUMMARY | REPEATING);
+        registry.element("parentSubstanceName", String.class, SUMMARY | REPEATING);
+        registry.element("countryOfOrigin", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("geographicalLocation", String.class, SUMMARY | REPEATING);
+        registry.element("developmentStage", CodeableConcept.class, SUMMARY);
+        registry.element("fractionDescription", SubstanceSourceMaterial.FractionDescription.class, SUMMARY | REPEATING);
+        registry.element("organism", SubstanceSourceMaterial.Organism.class, SUMMARY);
+        registry.element("partDescription", SubstanceSourceMaterial.PartDescription.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSourceMaterialFractionDescription(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.FractionDescription.class);
+        registry.element("fraction", String.class, SUMMARY);
+        registry.element("materialType", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void substanceSourceMaterialOrganism(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.Organism.class);
+        registry.element("family", CodeableConcept.class, SUMMARY);
+        registry.element("genus", CodeableConcept.class, SUMMARY);
+        registry.element("species", CodeableConcept.class, SUMMARY);
+        registry.element("intraspecificType", CodeableConcept.class, SUMMARY);
+        registry.element("intraspecificDescription", String.class, SUMMARY);
+        registry.element("author", SubstanceSourceMaterial.Organism.Author.class, SUMMARY | REPEATING);
+        registry.element("hybrid", SubstanceSourceMaterial.Organism.Hybrid.class, SUMMARY);
+        registry.element("organismGeneral", SubstanceSourceMaterial.Organism.OrganismGeneral.class, SUMMARY);
+    }
+
+    private static void substanceSourceMaterialOrganismAuthor(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.Organism.Author.class);
+        registry.element("authorType", CodeableConcept.class, SUMMARY);
+        registry.element("authorDescription", String.class, SUMMARY);
+    }
+
+    private static void substanceSourceMaterialOrganismHybrid(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.Organism.Hybrid.class);
+        registry.element("maternalOrganismId", String.class, SUMMARY);
+        registry.element("maternalOrganismName", String.class, SUMMARY);
+        registry.element("paternalOrganismId", String.class, SUMMARY);
+        registry.element("paternalOrganismName", String.class, SUMMARY);
+        registry.element("hybridType", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void substanceSourceMaterialOrganismOrganismGeneral(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.Organism.OrganismGeneral.class);
+        registry.element("kingdom", CodeableConcept.class, SUMMARY);
+        registry.element("phylum", CodeableConcept.class, SUMMARY);
+        registry.element("class", CodeableConcept.class, SUMMARY);
+        registry.element("order", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void substanceSourceMaterialPartDescription(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSourceMaterial.PartDescription.class);
+        registry.element("part", CodeableConcept.class, SUMMARY);
+        registry.element("partLocation", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void substanceSpecification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("domain", CodeableConcept.class, SUMMARY);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+        registry.element("comment", String.class, SUMMARY);
+        registry.element("moiety", SubstanceSpecification.Moiety.class, SUMMARY | REPEATING);
+        registry.element("property", SubstanceSpecification.Property.class, SUMMARY | REPEATING);
+        registry.referenceElement("referenceInformation", SUMMARY, "SubstanceReferenceInformation");
+        registry.element("structure", SubstanceSpecification.Structure.class, SUMMARY);
+        registry.element("code", SubstanceSpecification.Code.class, SUMMARY | REPEATING);
+        registry.element("name", SubstanceSpecification.Name.class, SUMMARY | REPEATING);
+        registry.element("molecularWeight", SubstanceSpecification.Structure.Isotope.MolecularWeight.class, SUMMARY | REPEATING);
+        registry.element("relationship", SubstanceSpecification.Relationship.class, SUMMARY | REPEATING);
+        registry.referenceElement("nucleicAcid", SUMMARY, "SubstanceNucleicAcid");
+        registry.referenceElement("polymer", SUMMARY, "SubstancePolymer");
+        registry.referenceElement("protein", SUMMARY, "SubstanceProtein");
+        registry.referenceElement("sourceMaterial", SUMMARY, "SubstanceSourceMaterial");
+    }
+
+    private static void substanceSpecificationCode(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Code.class);
+        registry.element("code", CodeableConcept.class, SUMMARY);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("statusDate", DateTime.class, SUMMARY);
+        registry.element("comment", String.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSpecificationMoiety(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Moiety.class);
+        registry.element("role", CodeableConcept.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("stereochemistry", CodeableConcept.class, SUMMARY);
+        registry.element("opticalActivity", CodeableConcept.class, SUMMARY);
+        registry.element("molecularFormula", String.class, SUMMARY);
+        registry.choiceElement("amount", SUMMARY, Quantity.class, String.class);
+    }
+
+    private static void substanceSpecificationName(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Name.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("preferred", Boolean.class, SUMMARY);
+        registry.element("language", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("domain", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | REPEATING);
+        registry.element("synonym", SubstanceSpecification.Name.class, SUMMARY | REPEATING);
+        registry.element("translation", SubstanceSpecification.Name.class, SUMMARY | REPEATING);
+        registry.element("official", SubstanceSpecification.Name.Official.class, SUMMARY | REPEATING);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSpecificationNameOfficial(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Name.Official.class);
+        registry.element("authority", CodeableConcept.class, SUMMARY);
+        registry.element("status", CodeableConcept.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+    }
+
+    private static void substanceSpecificationProperty(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Property.class);
+        registry.element("category", CodeableConcept.class, SUMMARY);
+        registry.element("code", CodeableConcept.class, SUMMARY);
+        registry.element("parameters", String.class, SUMMARY);
+        registry.choiceElement("definingSubstance", SUMMARY, Reference.class, CodeableConcept.class);
+        registry.choiceElement("amount", SUMMARY, Quantity.class, String.class);
+    }
+
+    private static void substanceSpecificationRelationship(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Relationship.class);
+        registry.choiceElement("substance", SUMMARY, Reference.class, CodeableConcept.class);
+        registry.element("relationship", CodeableConcept.class, SUMMARY);
+        registry.element("isDefining", Boolean.class, SUMMARY);
+        registry.choiceElement("amount", SUMMARY, Quantity.class, Range.class, Ratio.class, String.class);
+        registry.element("amountRatioLowLimit", Ratio.class, SUMMARY);
+        registry.element("amountType", CodeableConcept.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSpecificationStructure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Structure.class);
+        registry.element("stereochemistry", CodeableConcept.class, SUMMARY);
+        registry.element("opticalActivity", CodeableConcept.class, SUMMARY);
+        registry.element("molecularFormula", String.class, SUMMARY);
+        registry.element("molecularFormulaByMoiety", String.class, SUMMARY);
+        registry.element("isotope", SubstanceSpecification.Structure.Isotope.class, SUMMARY | REPEATING);
+        registry.element("molecularWeight", SubstanceSpecification.Structure.Isotope.MolecularWeight.class, SUMMARY);
+        registry.element("source", Reference.class, SUMMARY | REPEATING);
+        registry.element("representation", SubstanceSpecification.Structure.Representation.class, SUMMARY | REPEATING);
+    }
+
+    private static void substanceSpecificationStructureIsotope(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Structure.Isotope.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("name", CodeableConcept.class, SUMMARY);
+        registry.element("substitution", CodeableConcept.class, SUMMARY);
+        registry.element("halfLife", Quantity.class, SUMMARY);
+        registry.element("molecularWeight", SubstanceSpecification.Structure.Isotope.MolecularWeight.class, SUMMARY);
+    }
+
+    private static void substanceSpecificationStructureIsotopeMolecularWeight(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Structure.Isotope.MolecularWeight.class);
+        registry.element("method", CodeableConcept.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("amount", Quantity.class, SUMMARY);
+    }
+
+    private static void substanceSpecificationStructureRepresentation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceSpecification.Structure.Representation.class);
+        registry.element("type", CodeableConcept.class, SUMMARY);
+        registry.element("representation", String.class, SUMMARY);
+        registry.element("attachment", Attachment.class, SUMMARY);
+    }
+
+    private static void supplyDelivery(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SupplyDelivery.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", SupplyDeliveryStatus.class, SUMMARY | BINDING);
+        registry.referenceElement("patient", 0, "Patient");
+        registry.element("type", CodeableConcept.class, BINDING);
+        registry.element("suppliedItem", SupplyDelivery.SuppliedItem.class, 0);
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class, Timing.class);
+        registry.referenceElement("supplier", 0, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("destination", 0, "Location");
+        registry.element("receiver", Reference.class, REPEATING);
+    }
+
+    private static void supplyDeliverySuppliedItem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SupplyDelivery.SuppliedItem.class);
+        registry.element("quantity", SimpleQuantity.class, 0);
+        registry.choiceElement("item", BINDING, CodeableConcept.class, Reference.class);
+    }
+
+    private static void supplyRequest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SupplyRequest.class);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("status", SupplyRequestStatus.class, SUMMARY | BINDING);
+        registry.element("category", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("priority", RequestPriority.class, SUMMARY | BINDING);
+        registry.choiceElement("item", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Reference.class);
+        registry.element("quantity", Quantity.class, SUMMARY | REQUIRED);
+        registry.element("parameter", SupplyRequest.Parameter.class, REPEATING);
+        registry.choiceElement("occurrence", SUMMARY, DateTime.class, Period.class, Timing.class);
+        registry.element("authoredOn", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "Patient", "RelatedPerson", "Device");
+        registry.element("supplier", Reference.class, SUMMARY | REPEATING);
+        registry.element("reasonCode", CodeableConcept.class, BINDING | REPEATING);
+        registry.element("reasonReference", Reference.class, REPEATING);
+        registry.referenceElement("deliverFrom", 0, "Organization", "Location");
+        registry.referenceElement("deliverTo", 0, "Organization", "Location", "Patient");
+    }
+
+    private static void supplyRequestParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SupplyRequest.Parameter.class);
+        registry.element("code", CodeableConcept.class, BINDING);
+        registry.choiceElement("value", 0, CodeableConcept.class, Quantity.class, Range.class, Boolean.class);
+    }
+
+    private static void task(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Task.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("instantiatesCanonical", Canonical.class, SUMMARY);
+        registry.element("instantiatesUri", Uri.class, SUMMARY);
+        registry.element("basedOn", Reference.class, SUMMARY | REPEATING);
+        registry.element("groupIdentifier", Identifier.class, SUMMARY);
+        registry.element("partOf", Reference.class, SUMMARY | REPEATING);
+        registry.element("status", TaskStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusReason", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("businessStatus", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("intent", TaskIntent.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("priority", TaskPriority.class, BINDING);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("focus", Reference.class, SUMMARY);
+        registry.element("for", Reference.class, SUMMARY);
+        registry.referenceElement("encounter", SUMMARY, "Encounter");
+        registry.element("executionPeriod", Period.class, SUMMARY);
+        registry.element("authoredOn", DateTime.class, 0);
+        registry.element("lastModified", DateTime.class, SUMMARY);
+        registry.referenceElement("requester", SUMMARY, "Device", "Organization", "Patient", "Practitioner", "PractitionerRole", "RelatedPerson");
+        registry.element("performerType", CodeableConcept.class, BINDING | REPEATING);
+        registry.referenceElement("owner", SUMMARY, "Practitioner", "PractitionerRole", "Organization", "CareTeam", "HealthcareService", "Patient", "Device", "RelatedPerson");
+        registry.referenceElement("location", SUMMARY, "Location");
+        registry.element("reasonCode", CodeableConcept.class, BINDING);
+        registry.element("reasonReference", Reference.class, 0);
+        registry.element("insurance", Reference.class, REPEATING);
+        registry.element("note", Annotation.class, REPEATING);
+        registry.element("relevantHistory", Reference.class, REPEATING);
+        registry.element("restriction", Task.Restriction.class, 0);
+        registry.element("input", Task.Input.class, REPEATING);
+        registry.element("output", Task.Output.class, REPEATING);
+    }
+
+    private static void taskInput(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Task.Input.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.choiceElement("value", REQUIRED, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+    }
+
+    private static void taskOutput(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Task.Output.class);
+        registry.element("type", CodeableConcept.class, BINDING | REQUIRED);
+        registry.choiceElement("value", REQUIRED, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+    }
+
+    private static void taskRestriction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Task.Restriction.class);
+        registry.element("repetitions", PositiveInt.class, 0);
+        registry.element("period", Period.class, 0);
+        registry.element("recipient", Reference.class, REPEATING);
+    }
+
+    private static void terminologyCapabilities(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY | REQUIRED);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, SUMMARY);
+        registry.element("kind", CapabilityStatementKind.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("software", TerminologyCapabilities.Software.class, SUMMARY);
+        registry.element("implementation", TerminologyCapabilities.Implementation.class, SUMMARY);
+        registry.element("lockedDate", Boolean.class, SUMMARY);
+        registry.element("codeSystem", TerminologyCapabilities.CodeSystem.class, REPEATING);
+        registry.element("expansion", TerminologyCapabilities.Expansion.class, 0);
+        registry.element("codeSearch", CodeSearchSupport.class, BINDING);
+        registry.element("validateCode", TerminologyCapabilities.ValidateCode.class, 0);
+        registry.element("translation", TerminologyCapabilities.Translation.class, 0);
+        registry.element("closure", TerminologyCapabilities.Closure.class, 0);
+    }
+
+    private static void terminologyCapabilitiesClosure(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Closure.class);
+        registry.element("translation", Boolean.class, 0);
+    }
+
+    private static void terminologyCapabilitiesCodeSystem(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.CodeSystem.class);
+        registry.element("uri", Canonical.class, 0);
+        registry.element("version", TerminologyCapabilities.CodeSystem.Version.class, REPEATING);
+        registry.element("subsumption", Boolean.class, 0);
+    }
+
+    private static void terminologyCapabilitiesCodeSystemVersion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.CodeSystem.Version.class);
+        registry.element("code", String.class, SUMMARY);
+        registry.element("isDefault", Boolean.class, SUMMARY);
+        registry.element("compositional", Boolean.class, 0);
+        registry.element("language", Code.class, REPEATING);
+        registry.element("filter", TerminologyCapabilities.CodeSystem.Version.Filter.class, REPEATING);
+        registry.element("property", Code.class, REPEATING);
+    }
+
+    private static void terminologyCapabilitiesCodeSystemVersionFilter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.CodeSystem.Version.Filter.class);
+        registry.element("code", Code.class, REQUIRED);
+        registry.element("op", Code.class, REQUIRED | REPEATING);
+    }
+
+    private static void terminologyCapabilitiesExpansion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Expansion.class);
+        registry.element("hierarchical", Boolean.class, 0);
+        registry.element("paging", Boolean.class, 0);
+        registry.element("incomplete", Boolean.class, 0);
+        registry.element("parameter", TerminologyCapabilities.Expansion.Parameter.class, REPEATING);
+        registry.element("textFilter", Markdown.class, 0);
+    }
+
+    private static void terminologyCapabilitiesExpansionParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Expansion.Parameter.class);
+        registry.element("name", Code.class, REQUIRED);
+        registry.element("documentation", String.class, 0);
+    }
+
+    private static void terminologyCapabilitiesImplementation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Implementation.class);
+        registry.element("description", String.class, SUMMARY | REQUIRED);
+        registry.element("url", Url.class, SUMMARY);
+    }
+
+    private static void terminologyCapabilitiesSoftware(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Software.class);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("version", String.class, SUMMARY);
+    }
+
+    private static void terminologyCapabilitiesTranslation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.Translation.class);
+        registry.element("needsMap", Boolean.class, REQUIRED);
+    }
+
+    private static void terminologyCapabilitiesValidateCode(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TerminologyCapabilities.ValidateCode.class);
+        registry.element("translations", Boolean.class, REQUIRED);
+    }
+
+    private static void testReport(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("status", TestReportStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.referenceElement("testScript", SUMMARY | REQUIRED, "TestScript");
+        registry.element("result", TestReportResult.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("score", Decimal.class, SUMMARY);
+        registry.element("tester", String.class, SUMMARY);
+        registry.element("issued", DateTime.class, SUMMARY);
+        registry.element("participant", TestReport.Participant.class, REPEATING);
+        registry.element("setup", TestReport.Setup.class, 0);
+        registry.element("test", TestReport.Test.class, REPEATING);
+        registry.element("teardown", TestReport.Teardown.class, 0);
+    }
+
+    private static void testReportParticipant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Participant.class);
+        registry.element("type", TestReportParticipantType.class, BINDING | REQUIRED);
+        registry.element("uri", Uri.class, REQUIRED);
+        registry.element("display", String.class, 0);
+    }
+
+    private static void testReportSetup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Setup.class);
+        registry.element("action", TestReport.Setup.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testReportSetupAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Setup.Action.class);
+        registry.element("operation", TestReport.Setup.Action.Operation.class, 0);
+        registry.element("assert", TestReport.Setup.Action.Assert.class, 0);
+    }
+
+    private static void testReportSetupActionAssert(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Setup.Action.Assert.class);
+        registry.element("result", TestReportActionResult.class, BINDING | REQUIRED);
+        registry.element("message", Markdown.class, 0);
+        registry.element("detail", String.class, 0);
+    }
+
+    private static void testReportSetupActionOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Setup.Action.Operation.class);
+        registry.element("result", TestReportActionResult.class, BINDING | REQUIRED);
+        registry.element("message", Markdown.class, 0);
+        registry.element("detail", Uri.class, 0);
+    }
+
+    private static void testReportTeardown(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Teardown.class);
+        registry.element("action", TestReport.Teardown.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testReportTeardownAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Teardown.Action.class);
+        registry.element("operation", TestReport.Setup.Action.Operation.class, REQUIRED);
+    }
+
+    private static void testReportTest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Test.class);
+        registry.element("name", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("action", TestReport.Test.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testReportTestAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestReport.Test.Action.class);
+        registry.element("operation", TestReport.Setup.Action.Operation.class, 0);
+        registry.element("assert", TestReport.Setup.Action.Assert.class, 0);
+    }
+
+    private static void testScript(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.class);
+        registry.element("url", Uri.class, SUMMARY | REQUIRED);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("origin", TestScript.Origin.class, REPEATING);
+        registry.element("destination", TestScript.Destination.class, REPEATING);
+        registry.element("metadata", TestScript.Metadata.class, 0);
+        registry.element("fixture", TestScript.Fixture.class, REPEATING);
+        registry.element("profile", Reference.class, REPEATING);
+        registry.element("variable", TestScript.Variable.class, REPEATING);
+        registry.element("setup", TestScript.Setup.class, 0);
+        registry.element("test", TestScript.Test.class, REPEATING);
+        registry.element("teardown", TestScript.Teardown.class, 0);
+    }
+
+    private static void testScriptDestination(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Destination.class);
+        registry.element("index", Integer.class, REQUIRED);
+        registry.element("profile", Coding.class, BINDING | REQUIRED);
+    }
+
+    private static void testScriptFixture(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Fixture.class);
+        registry.element("autocreate", Boolean.class, REQUIRED);
+        registry.element("autodelete", Boolean.class, REQUIRED);
+        registry.element("resource", Reference.class, 0);
+    }
+
+    private static void testScriptMetadata(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Metadata.class);
+        registry.element("link", TestScript.Metadata.Link.class, REPEATING);
+        registry.element("capability", TestScript.Metadata.Capability.class, REQUIRED | REPEATING);
+    }
+
+    private static void testScriptMetadataCapability(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Metadata.Capability.class);
+        registry.element("required", Boolean.class, REQUIRED);
+        registry.element("validated", Boolean.class, REQUIRED);
+        registry.element("description", String.class, 0);
+        registry.element("origin", Integer.class, REPEATING);
+        registry.element("destination", Integer.class, 0);
+        registry.element("link", Uri.class, REPEATING);
+        registry.element("capabilities", Canonical.class, REQUIRED);
+    }
+
+    private static void testScriptMetadataLink(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Metadata.Link.class);
+        registry.element("url", Uri.class, REQUIRED);
+        registry.element("description", String.class, 0);
+    }
+
+    private static void testScriptOrigin(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Origin.class);
+        registry.element("index", Integer.class, REQUIRED);
+        registry.element("profile", Coding.class, BINDING | REQUIRED);
+    }
+
+    private static void testScriptSetup(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Setup.class);
+        registry.element("action", TestScript.Setup.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testScriptSetupAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Setup.Action.class);
+        registry.element("operation", TestScript.Setup.Action.Operation.class, 0);
+        registry.element("assert", TestScript.Setup.Action.Assert.class, 0);
+    }
+
+    private static void testScriptSetupActionAssert(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Setup.Action.Assert.class);
+        registry.element("label", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("direction", AssertionDirectionType.class, BINDING);
+        registry.element("compareToSourceId", String.class, 0);
+        registry.element("compareToSourceExpression", String.class, 0);
+        registry.element("compareToSourcePath", String.class, 0);
+        registry.element("contentType", Code.class, BINDING);
+        registry.element("expression", String.class, 0);
+        registry.element("headerField", String.class, 0);
+        registry.element("minimumId", String.class, 0);
+        registry.element("navigationLinks", Boolean.class, 0);
+        registry.element("operator", AssertionOperatorType.class, BINDING);
+        registry.element("path", String.class, 0);
+        registry.element("requestMethod", TestScriptRequestMethodCode.class, BINDING);
+        registry.element("requestURL", String.class, 0);
+        registry.element("resource", FHIRDefinedType.class, BINDING);
+        registry.element("response", AssertionResponseTypes.class, BINDING);
+        registry.element("responseCode", String.class, 0);
+        registry.element("sourceId", Id.class, 0);
+        registry.element("validateProfileId", Id.class, 0);
+        registry.element("value", String.class, 0);
+        registry.element("warningOnly", Boolean.class, REQUIRED);
+    }
+
+    private static void testScriptSetupActionOperation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Setup.Action.Operation.class);
+        registry.element("type", Coding.class, BINDING);
+        registry.element("resource", FHIRDefinedType.class, BINDING);
+        registry.element("label", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("accept", Code.class, BINDING);
+        registry.element("contentType", Code.class, BINDING);
+        registry.element("destination", Integer.class, 0);
+        registry.element("encodeRequestUrl", Boolean.class, REQUIRED);
+        registry.element("method", TestScriptRequestMethodCode.class, BINDING);
+        registry.element("origin", Integer.class, 0);
+        registry.element("params", String.class, 0);
+        registry.element("requestHeader", TestScript.Setup.Action.Operation.RequestHeader.class, REPEATING);
+        registry.element("requestId", Id.class, 0);
+        registry.element("responseId", Id.class, 0);
+        registry.element("sourceId", Id.class, 0);
+        registry.element("targetId", Id.class, 0);
+        registry.element("url", String.class, 0);
+    }
+
+    private static void testScriptSetupActionOperationRequestHeader(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Setup.Action.Operation.RequestHeader.class);
+        registry.element("field", String.class, REQUIRED);
+        registry.element("value", String.class, REQUIRED);
+    }
+
+    private static void testScriptTeardown(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Teardown.class);
+        registry.element("action", TestScript.Teardown.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testScriptTeardownAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Teardown.Action.class);
+        registry.element("operation", TestScript.Setup.Action.Operation.class, REQUIRED);
+    }
+
+    private static void testScriptTest(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Test.class);
+        registry.element("name", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("action", TestScript.Test.Action.class, REQUIRED | REPEATING);
+    }
+
+    private static void testScriptTestAction(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Test.Action.class);
+        registry.element("operation", TestScript.Setup.Action.Operation.class, 0);
+        registry.element("assert", TestScript.Setup.Action.Assert.class, 0);
+    }
+
+    private static void testScriptVariable(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TestScript.Variable.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.element("defaultValue", String.class, 0);
+        registry.element("description", String.class, 0);
+        registry.element("expression", String.class, 0);
+        registry.element("headerField", String.class, 0);
+        registry.element("hint", String.class, 0);
+        registry.element("path", String.class, 0);
+        registry.element("sourceId", Id.class, 0);
+    }
+
+    private static void valueSet(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.class);
+        registry.element("url", Uri.class, SUMMARY);
+        registry.element("identifier", Identifier.class, SUMMARY | REPEATING);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("status", PublicationStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("experimental", Boolean.class, SUMMARY);
+        registry.element("date", DateTime.class, SUMMARY);
+        registry.element("publisher", String.class, SUMMARY);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+        registry.element("description", Markdown.class, 0);
+        registry.element("useContext", UsageContext.class, SUMMARY | REPEATING);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("immutable", Boolean.class, SUMMARY);
+        registry.element("purpose", Markdown.class, 0);
+        registry.element("copyright", Markdown.class, 0);
+        registry.element("compose", ValueSet.Compose.class, 0);
+        registry.element("expansion", ValueSet.Expansion.class, 0);
+    }
+
+    private static void valueSetCompose(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Compose.class);
+        registry.element("lockedDate", Date.class, SUMMARY);
+        registry.element("inactive", Boolean.class, SUMMARY);
+        registry.element("include", ValueSet.Compose.Include.class, SUMMARY | REQUIRED | REPEATING);
+        registry.element("exclude", ValueSet.Compose.Include.class, REPEATING);
+    }
+
+    private static void valueSetComposeInclude(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Compose.Include.class);
+        registry.element("system", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("concept", ValueSet.Compose.Include.Concept.class, REPEATING);
+        registry.element("filter", ValueSet.Compose.Include.Filter.class, SUMMARY | REPEATING);
+        registry.element("valueSet", Canonical.class, SUMMARY | REPEATING);
+    }
+
+    private static void valueSetComposeIncludeConcept(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Compose.Include.Concept.class);
+        registry.element("code", Code.class, REQUIRED);
+        registry.element("display", String.class, 0);
+        registry.element("designation", ValueSet.Compose.Include.Concept.Designation.class, REPEATING);
+    }
+
+    private static void valueSetComposeIncludeConceptDesignation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Compose.Include.Concept.Designation.class);
+        registry.element("language", Code.class, BINDING);
+        registry.element("use", Coding.class, BINDING);
+        registry.element("value", String.class, REQUIRED);
+    }
+
+    private static void valueSetComposeIncludeFilter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Compose.Include.Filter.class);
+        registry.element("property", Code.class, SUMMARY | REQUIRED);
+        registry.element("op", FilterOperator.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("value", String.class, SUMMARY | REQUIRED);
+    }
+
+    private static void valueSetExpansion(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Expansion.class);
+        registry.element("identifier", Uri.class, 0);
+        registry.element("timestamp", DateTime.class, REQUIRED);
+        registry.element("total", Integer.class, 0);
+        registry.element("offset", Integer.class, 0);
+        registry.element("parameter", ValueSet.Expansion.Parameter.class, REPEATING);
+        registry.element("contains", ValueSet.Expansion.Contains.class, REPEATING);
+    }
+
+    private static void valueSetExpansionContains(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Expansion.Contains.class);
+        registry.element("system", Uri.class, 0);
+        registry.element("abstract", Boolean.class, 0);
+        registry.element("inactive", Boolean.class, 0);
+        registry.element("version", String.class, 0);
+        registry.element("code", Code.class, 0);
+        registry.element("display", String.class, 0);
+        registry.element("designation", ValueSet.Compose.Include.Concept.Designation.class, REPEATING);
+        registry.element("contains", ValueSet.Expansion.Contains.class, REPEATING);
+    }
+
+    private static void valueSetExpansionParameter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ValueSet.Expansion.Parameter.class);
+        registry.element("name", String.class, REQUIRED);
+        registry.choiceElement("value", 0, String.class, Boolean.class, Integer.class, Decimal.class, Uri.class, Code.class, DateTime.class);
+    }
+
+    private static void verificationResult(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VerificationResult.class);
+        registry.element("target", Reference.class, SUMMARY | REPEATING);
+        registry.element("targetLocation", String.class, SUMMARY | REPEATING);
+        registry.element("need", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("status", Status.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("statusDate", DateTime.class, SUMMARY);
+        registry.element("validationType", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("validationProcess", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("frequency", Timing.class, 0);
+        registry.element("lastPerformed", DateTime.class, 0);
+        registry.element("nextScheduled", Date.class, 0);
+        registry.element("failureAction", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("primarySource", VerificationResult.PrimarySource.class, REPEATING);
+        registry.element("attestation", VerificationResult.Attestation.class, 0);
+        registry.element("validator", VerificationResult.Validator.class, REPEATING);
+    }
+
+    private static void verificationResultAttestation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VerificationResult.Attestation.class);
+        registry.referenceElement("who", SUMMARY, "Practitioner", "PractitionerRole", "Organization");
+        registry.referenceElement("onBehalfOf", SUMMARY, "Organization", "Practitioner", "PractitionerRole");
+        registry.element("communicationMethod", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("date", Date.class, SUMMARY);
+        registry.element("sourceIdentityCertificate", String.class, 0);
+        registry.element("proxyIdentityCertificate", String.class, 0);
+        registry.element("proxySignature", Signature.class, 0);
+        registry.element("sourceSignature", Signature.class, 0);
+    }
+
+    private static void verificationResultPrimarySource(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VerificationResult.PrimarySource.class);
+        registry.referenceElement("who", 0, "Organization", "Practitioner", "PractitionerRole");
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("communicationMethod", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("validationStatus", CodeableConcept.class, BINDING);
+        registry.element("validationDate", DateTime.class, 0);
+        registry.element("canPushUpdates", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("pushTypeAvailable", CodeableConcept.class, BINDING | REPEATING);
+    }
+
+    private static void verificationResultValidator(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VerificationResult.Validator.class);
+        registry.referenceElement("organization", REQUIRED, "Organization");
+        registry.element("identityCertificate", String.class, 0);
+        registry.element("attestationSignature", Signature.class, 0);
+    }
+
+    private static void visionPrescription(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VisionPrescription.class);
+        registry.element("identifier", Identifier.class, REPEATING);
+        registry.element("status", VisionStatus.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("created", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("patient", SUMMARY | REQUIRED, "Patient");
+        registry.referenceElement("encounter", 0, "Encounter");
+        registry.element("dateWritten", DateTime.class, SUMMARY | REQUIRED);
+        registry.referenceElement("prescriber", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole");
+        registry.element("lensSpecification", VisionPrescription.LensSpecification.class, SUMMARY | REQUIRED | REPEATING);
+    }
+
+    private static void visionPrescriptionLensSpecification(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VisionPrescription.LensSpecification.class);
+        registry.element("product", CodeableConcept.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("eye", VisionEyes.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("sphere", Decimal.class, 0);
+        registry.element("cylinder", Decimal.class, 0);
+        registry.element("axis", Integer.class, 0);
+        registry.element("prism", VisionPrescription.LensSpecification.Prism.class, REPEATING);
+        registry.element("add", Decimal.class, 0);
+        registry.element("power", Decimal.class, 0);
+        registry.element("backCurve", Decimal.class, 0);
+        registry.element("diameter", Decimal.class, 0);
+        registry.element("duration", SimpleQuantity.class, 0);
+        registry.element("color", String.class, 0);
+        registry.element("brand", String.class, 0);
+        registry.element("note", Annotation.class, REPEATING);
+    }
+
+    private static void visionPrescriptionLensSpecificationPrism(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(VisionPrescription.LensSpecification.Prism.class);
+        registry.element("amount", Decimal.class, REQUIRED);
+        registry.element("base", VisionBase.class, BINDING | REQUIRED);
+    }
+
+    private static void address(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Address.class);
+        registry.element("use", AddressUse.class, SUMMARY | BINDING);
+        registry.element("type", AddressType.class, SUMMARY | BINDING);
+        registry.element("text", String.class, SUMMARY);
+        registry.element("line", String.class, SUMMARY | REPEATING);
+        registry.element("city", String.class, SUMMARY);
+        registry.element("district", String.class, SUMMARY);
+        registry.element("state", String.class, SUMMARY);
+        registry.element("postalCode", String.class, SUMMARY);
+        registry.element("country", String.class, SUMMARY);
+        registry.element("period", Period.class, SUMMARY);
+    }
+
+    private static void age(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Age.class);
+    }
+
+    private static void annotation(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Annotation.class);
+        registry.choiceElement("author", SUMMARY, Reference.class, String.class);
+        registry.element("time", DateTime.class, SUMMARY);
+        registry.element("text", Markdown.class, SUMMARY | REQUIRED);
+    }
+
+    private static void attachment(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Attachment.class);
+        registry.element("contentType", Code.class, SUMMARY | BINDING);
+        registry.element("language", Code.class, SUMMARY | BINDING);
+        registry.element("data", Base64Binary.class, 0);
+        registry.element("url", Url.class, SUMMARY);
+        registry.element("size", UnsignedInt.class, SUMMARY);
+        registry.element("hash", Base64Binary.class, SUMMARY);
+        registry.element("title", String.class, SUMMARY);
+        registry.element("creation", DateTime.class, SUMMARY);
+    }
+
+    private static void backboneElement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(BackboneElement.class);
+        registry.element("modifierExtension", Extension.class, SUMMARY | REPEATING);
+    }
+
+    private static void base64Binary(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Base64Binary.class);
+        registry.element("value", byte[].class, 0);
+    }
+
+    private static void _boolean(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Boolean.class);
+        registry.element("value", java.lang.Boolean.class, 0);
+    }
+
+    private static void canonical(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Canonical.class);
+    }
+
+    private static void code(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Code.class);
+    }
+
+    private static void codeableConcept(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(CodeableConcept.class);
+        registry.element("coding", Coding.class, SUMMARY | REPEATING);
+        registry.element("text", String.class, SUMMARY);
+    }
+
+    private static void coding(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Coding.class);
+        registry.element("system", Uri.class, SUMMARY);
+        registry.element("version", String.class, SUMMARY);
+        registry.element("code", Code.class, SUMMARY);
+        registry.element("display", String.class, SUMMARY);
+        registry.element("userSelected", Boolean.class, SUMMARY);
+    }
+
+    private static void contactDetail(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ContactDetail.class);
+        registry.element("name", String.class, SUMMARY);
+        registry.element("telecom", ContactPoint.class, SUMMARY | REPEATING);
+    }
+
+    private static void contactPoint(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ContactPoint.class);
+        registry.element("system", ContactPointSystem.class, SUMMARY | BINDING);
+        registry.element("value", String.class, SUMMARY);
+        registry.element("use", ContactPointUse.class, SUMMARY | BINDING);
+        registry.element("rank", PositiveInt.class, SUMMARY);
+        registry.element("period", Period.class, SUMMARY);
+    }
+
+    private static void contributor(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Contributor.class);
+        registry.element("type", ContributorType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("name", String.class, SUMMARY | REQUIRED);
+        registry.element("contact", ContactDetail.class, SUMMARY | REPEATING);
+    }
+
+    private static void count(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Count.class);
+    }
+
+    private static void dataRequirement(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DataRequirement.class);
+        registry.element("type", FHIRAllTypes.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, SUMMARY | REPEATING);
+        registry.choiceElement("subject", SUMMARY | BINDING, CodeableConcept.class, Reference.class);
+        registry.element("mustSupport", String.class, SUMMARY | REPEATING);
+        registry.element("codeFilter", DataRequirement.CodeFilter.class, SUMMARY | REPEATING);
+        registry.element("dateFilter", DataRequirement.DateFilter.class, SUMMARY | REPEATING);
+        registry.element("limit", PositiveInt.class, SUMMARY);
+        registry.element("sort", DataRequirement.Sort.class, SUMMARY | REPEATING);
+    }
+
+    private static void dataRequirementCodeFilter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DataRequirement.CodeFilter.class);
+        registry.element("path", String.class, SUMMARY);
+        registry.element("searchParam", String.class, SUMMARY);
+        registry.element("valueSet", Canonical.class, SUMMARY);
+        registry.element("code", Coding.class, SUMMARY | REPEATING);
+    }
+
+    private static void dataRequirementDateFilter(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DataRequirement.DateFilter.class);
+        registry.element("path", String.class, SUMMARY);
+        registry.element("searchParam", String.class, SUMMARY);
+        registry.choiceElement("value", SUMMARY, DateTime.class, Period.class, Duration.class);
+    }
+
+    private static void dataRequirementSort(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DataRequirement.Sort.class);
+        registry.element("path", String.class, SUMMARY | REQUIRED);
+        registry.element("direction", SortDirection.class, SUMMARY | BINDING | REQUIRED);
+    }
+
+    private static void date(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Date.class);
+        registry.element("value", TemporalAccessor.class, 0);
+    }
+
+    private static void dateTime(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(DateTime.class);
+        registry.element("value", TemporalAccessor.class, 0);
+    }
+
+    private static void decimal(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Decimal.class);
+        registry.element("value", BigDecimal.class, 0);
+    }
+
+    private static void distance(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Distance.class);
+    }
+
+    private static void dosage(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Dosage.class);
+        registry.element("sequence", Integer.class, SUMMARY);
+        registry.element("text", String.class, SUMMARY);
+        registry.element("additionalInstruction", CodeableConcept.class, SUMMARY | BINDING | REPEATING);
+        registry.element("patientInstruction", String.class, SUMMARY);
+        registry.element("timing", Timing.class, SUMMARY);
+        registry.choiceElement("asNeeded", SUMMARY | BINDING, Boolean.class, CodeableConcept.class);
+        registry.element("site", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("route", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("method", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("doseAndRate", Dosage.DoseAndRate.class, SUMMARY | REPEATING);
+        registry.element("maxDosePerPeriod", Ratio.class, SUMMARY);
+        registry.element("maxDosePerAdministration", SimpleQuantity.class, SUMMARY);
+        registry.element("maxDosePerLifetime", SimpleQuantity.class, SUMMARY);
+    }
+
+    private static void dosageDoseAndRate(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Dosage.DoseAndRate.class);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.choiceElement("dose", SUMMARY, Range.class, SimpleQuantity.class);
+        registry.choiceElement("rate", SUMMARY, Ratio.class, Range.class, SimpleQuantity.class);
+    }
+
+    private static void duration(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Duration.class);
+    }
+
+    private static void element(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Element.class);
+        registry.element("id", java.lang.String.class, 0);
+        registry.element("extension", Extension.class, REPEATING);
+    }
+
+    private static void elementDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.class);
+        registry.element("path", String.class, SUMMARY | REQUIRED);
+        registry.element("representation", PropertyRepresentation.class, SUMMARY | BINDING | REPEATING);
+        registry.element("sliceName", String.class, SUMMARY);
+        registry.element("sliceIsConstraining", Boolean.class, SUMMARY);
+        registry.element("label", String.class, SUMMARY);
+        registry.element("code", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("slicing", ElementDefinition.Slicing.class, SUMMARY);
+        registry.element("short", String.class, SUMMARY);
+        registry.element("definition", Markdown.class, SUMMARY);
+        registry.element("comment", Markdown.class, SUMMARY);
+        registry.element("requirements", Markdown.class, SUMMARY);
+        registry.element("alias", String.class, SUMMARY | REPEATING);
+        registry.element("min", UnsignedInt.class, SUMMARY);
+        registry.element("max", String.class, SUMMARY);
+        registry.element("base", ElementDefinition.Base.class, SUMMARY);
+        registry.element("contentReference", Uri.class, SUMMARY);
+        registry.element("type", ElementDefinition.Type.class, SUMMARY | REPEATING);
+        registry.choiceElement("defaultValue", SUMMARY, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+        registry.element("meaningWhenMissing", Markdown.class, SUMMARY);
+        registry.element("orderMeaning", String.class, SUMMARY);
+        registry.choiceElement("fixed", SUMMARY, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+        registry.choiceElement("pattern", SUMMARY, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+        registry.element("example", ElementDefinition.Example.class, SUMMARY | REPEATING);
+        registry.choiceElement("minValue", SUMMARY, Date.class, DateTime.class, Instant.class, Time.class, Decimal.class, Integer.class, PositiveInt.class, UnsignedInt.class, Quantity.class);
+        registry.choiceElement("maxValue", SUMMARY, Date.class, DateTime.class, Instant.class, Time.class, Decimal.class, Integer.class, PositiveInt.class, UnsignedInt.class, Quantity.class);
+        registry.element("maxLength", Integer.class, SUMMARY);
+        registry.element("condition", Id.class, SUMMARY | REPEATING);
+        registry.element("constraint", ElementDefinition.Constraint.class, SUMMARY | REPEATING);
+        registry.element("mustSupport", Boolean.class, SUMMARY);
+        registry.element("isModifier", Boolean.class, SUMMARY);
+        registry.element("isModifierReason", String.class, SUMMARY);
+        registry.element("isSummary", Boolean.class, SUMMARY);
+        registry.element("binding", ElementDefinition.Binding.class, SUMMARY);
+        registry.element("mapping", ElementDefinition.Mapping.class, SUMMARY | REPEATING);
+    }
+
+    private static void elementDefinitionBase(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Base.class);
+        registry.element("path", String.class, SUMMARY | REQUIRED);
+        registry.element("min", UnsignedInt.class, SUMMARY | REQUIRED);
+        registry.element("max", String.class, SUMMARY | REQUIRED);
+    }
+
+    private static void elementDefinitionBinding(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Binding.class);
+        registry.element("strength", BindingStrength.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("valueSet", Canonical.class, SUMMARY);
+    }
+
+    private static void elementDefinitionConstraint(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Constraint.class);
+        registry.element("key", Id.class, SUMMARY | REQUIRED);
+        registry.element("requirements", String.class, SUMMARY);
+        registry.element("severity", ConstraintSeverity.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("human", String.class, SUMMARY | REQUIRED);
+        registry.element("expression", String.class, SUMMARY);
+        registry.element("xpath", String.class, SUMMARY);
+        registry.element("source", Canonical.class, SUMMARY);
+    }
+
+    private static void elementDefinitionExample(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Example.class);
+        registry.element("label", String.class, SUMMARY | REQUIRED);
+        registry.choiceElement("value", SUMMARY | REQUIRED, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+    }
+
+    private static void elementDefinitionMapping(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Mapping.class);
+        registry.element("identity", Id.class, SUMMARY | REQUIRED);
+        registry.element("language", Code.class, SUMMARY | BINDING);
+        registry.element("map", String.class, SUMMARY | REQUIRED);
+        registry.element("comment", String.class, SUMMARY);
+    }
+
+    private static void elementDefinitionSlicing(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Slicing.class);
+        registry.element("discriminator", ElementDefinition.Slicing.Discriminator.class, SUMMARY | REPEATING);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("ordered", Boolean.class, SUMMARY);
+        registry.element("rules", SlicingRules.class, SUMMARY | BINDING | REQUIRED);
+    }
+
+    private static void elementDefinitionSlicingDiscriminator(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Slicing.Discriminator.class);
+        registry.element("type", DiscriminatorType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("path", String.class, SUMMARY | REQUIRED);
+    }
+
+    private static void elementDefinitionType(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ElementDefinition.Type.class);
+        registry.element("code", Uri.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, SUMMARY | REPEATING);
+        registry.element("targetProfile", Canonical.class, SUMMARY | REPEATING);
+        registry.element("aggregation", AggregationMode.class, SUMMARY | BINDING | REPEATING);
+        registry.element("versioning", ReferenceVersionRules.class, SUMMARY | BINDING);
+    }
+
+    private static void expression(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Expression.class);
+        registry.element("description", String.class, SUMMARY);
+        registry.element("name", Id.class, SUMMARY);
+        registry.element("language", Code.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("expression", String.class, SUMMARY);
+        registry.element("reference", Uri.class, SUMMARY);
+    }
+
+    private static void extension(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Extension.class);
+        registry.element("url", java.lang.String.class, REQUIRED);
+        registry.choiceElement("value", 0, Base64Binary.class, Boolean.class, Canonical.class, Code.class, Date.class, DateTime.class, Decimal.class, Id.class, Instant.class, Integer.class, Markdown.class, Oid.class, PositiveInt.class, String.class, Time.class, UnsignedInt.class, Uri.class, Url.class, Uuid.class, Address.class, Age.class, Annotation.class, Attachment.class, CodeableConcept.class, Coding.class, ContactPoint.class, Count.class, Distance.class, Duration.class, HumanName.class, Identifier.class, Money.class, Period.class, Quantity.class, Range.class, Ratio.class, Reference.class, SampledData.class, Signature.class, Timing.class, ContactDetail.class, Contributor.class, DataRequirement.class, Expression.class, ParameterDefinition.class, RelatedArtifact.class, TriggerDefinition.class, UsageContext.class, Dosage.class, Meta.class);
+    }
+
+    private static void humanName(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(HumanName.class);
+        registry.element("use", NameUse.class, SUMMARY | BINDING);
+        registry.element("text", String.class, SUMMARY);
+        registry.element("family", String.class, SUMMARY);
+        registry.element("given", String.class, SUMMARY | REPEATING);
+        registry.element("prefix", String.class, SUMMARY | REPEATING);
+        registry.element("suffix", String.class, SUMMARY | REPEATING);
+        registry.element("period", Period.class, SUMMARY);
+    }
+
+    private static void id(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Id.class);
+    }
+
+    private static void identifier(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Identifier.class);
+        registry.element("use", IdentifierUse.class, SUMMARY | BINDING);
+        registry.element("type", CodeableConcept.class, SUMMARY | BINDING);
+        registry.element("system", Uri.class, SUMMARY);
+        registry.element("value", String.class, SUMMARY);
+        registry.element("period", Period.class, SUMMARY);
+        registry.referenceElement("assigner", SUMMARY, "Organization");
+    }
+
+    private static void instant(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Instant.class);
+        registry.element("value", ZonedDateTime.class, 0);
+    }
+
+    private static void integer(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Integer.class);
+        registry.element("value", java.lang.Integer.class, 0);
+    }
+
+    private static void markdown(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Markdown.class);
+    }
+
+    private static void marketingStatus(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MarketingStatus.class);
+        registry.element("country", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("jurisdiction", CodeableConcept.class, SUMMARY);
+        registry.element("status", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("dateRange", Period.class, SUMMARY | REQUIRED);
+        registry.element("restoreDate", DateTime.class, SUMMARY);
+    }
+
+    private static void meta(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Meta.class);
+        registry.element("versionId", Id.class, SUMMARY);
+        registry.element("lastUpdated", Instant.class, SUMMARY);
+        registry.element("source", Uri.class, SUMMARY);
+        registry.element("profile", Canonical.class, SUMMARY | REPEATING);
+        registry.element("security", Coding.class, SUMMARY | BINDING | REPEATING);
+        registry.element("tag", Coding.class, SUMMARY | BINDING | REPEATING);
+    }
+
+    private static void money(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Money.class);
+        registry.element("value", Decimal.class, SUMMARY);
+        registry.element("currency", Code.class, SUMMARY | BINDING);
+    }
+
+    private static void moneyQuantity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(MoneyQuantity.class);
+    }
+
+    private static void narrative(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Narrative.class);
+        registry.element("status", NarrativeStatus.class, BINDING | REQUIRED);
+        registry.element("div", Xhtml.class, REQUIRED);
+    }
+
+    private static void oid(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Oid.class);
+    }
+
+    private static void parameterDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ParameterDefinition.class);
+        registry.element("name", Code.class, SUMMARY);
+        registry.element("use", ParameterUse.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("min", Integer.class, SUMMARY);
+        registry.element("max", String.class, SUMMARY);
+        registry.element("documentation", String.class, SUMMARY);
+        registry.element("type", FHIRAllTypes.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("profile", Canonical.class, SUMMARY);
+    }
+
+    private static void period(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Period.class);
+        registry.element("start", DateTime.class, SUMMARY);
+        registry.element("end", DateTime.class, SUMMARY);
+    }
+
+    private static void population(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Population.class);
+        registry.choiceElement("age", SUMMARY, Range.class, CodeableConcept.class);
+        registry.element("gender", CodeableConcept.class, SUMMARY);
+        registry.element("race", CodeableConcept.class, SUMMARY);
+        registry.element("physiologicalCondition", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void positiveInt(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(PositiveInt.class);
+    }
+
+    private static void prodCharacteristic(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ProdCharacteristic.class);
+        registry.element("height", Quantity.class, SUMMARY);
+        registry.element("width", Quantity.class, SUMMARY);
+        registry.element("depth", Quantity.class, SUMMARY);
+        registry.element("weight", Quantity.class, SUMMARY);
+        registry.element("nominalVolume", Quantity.class, SUMMARY);
+        registry.element("externalDiameter", Quantity.class, SUMMARY);
+        registry.element("shape", String.class, SUMMARY);
+        registry.element("color", String.class, SUMMARY | REPEATING);
+        registry.element("imprint", String.class, SUMMARY | REPEATING);
+        registry.element("image", Attachment.class, SUMMARY | REPEATING);
+        registry.element("scoring", CodeableConcept.class, SUMMARY);
+    }
+
+    private static void productShelfLife(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(ProductShelfLife.class);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("type", CodeableConcept.class, SUMMARY | REQUIRED);
+        registry.element("period", Quantity.class, SUMMARY | REQUIRED);
+        registry.element("specialPrecautionsForStorage", CodeableConcept.class, SUMMARY | REPEATING);
+    }
+
+    private static void quantity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Quantity.class);
+        registry.element("value", Decimal.class, SUMMARY);
+        registry.element("comparator", QuantityComparator.class, SUMMARY | BINDING);
+        registry.element("unit", String.class, SUMMARY);
+        registry.element("system", Uri.class, SUMMARY);
+        registry.element("code", Code.class, SUMMARY);
+    }
+
+    private static void range(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Range.class);
+        registry.element("low", SimpleQuantity.class, SUMMARY);
+        registry.element("high", SimpleQuantity.class, SUMMARY);
+    }
+
+    private static void ratio(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Ratio.class);
+        registry.element("numerator", Quantity.class, SUMMARY);
+        registry.element("denominator", Quantity.class, SUMMARY);
+    }
+
+    private static void reference(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Reference.class);
+        registry.element("reference", String.class, SUMMARY);
+        registry.element("type", Uri.class, SUMMARY | BINDING);
+        registry.element("identifier", Identifier.class, SUMMARY);
+        registry.element("display", String.class, SUMMARY);
+    }
+
+    private static void relatedArtifact(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(RelatedArtifact.class);
+        registry.element("type", RelatedArtifactType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("label", String.class, SUMMARY);
+        registry.element("display", String.class, SUMMARY);
+        registry.element("citation", Markdown.class, SUMMARY);
+        registry.element("url", Url.class, SUMMARY);
+        registry.element("document", Attachment.class, SUMMARY);
+        registry.element("resource", Canonical.class, SUMMARY);
+    }
+
+    private static void sampledData(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SampledData.class);
+        registry.element("origin", SimpleQuantity.class, SUMMARY | REQUIRED);
+        registry.element("period", Decimal.class, SUMMARY | REQUIRED);
+        registry.element("factor", Decimal.class, SUMMARY);
+        registry.element("lowerLimit", Decimal.class, SUMMARY);
+        registry.element("upperLimit", Decimal.class, SUMMARY);
+        registry.element("dimensions", PositiveInt.class, SUMMARY | REQUIRED);
+        registry.element("data", String.class, 0);
+    }
+
+    private static void signature(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Signature.class);
+        registry.element("type", Coding.class, SUMMARY | BINDING | REQUIRED | REPEATING);
+        registry.element("when", Instant.class, SUMMARY | REQUIRED);
+        registry.referenceElement("who", SUMMARY | REQUIRED, "Practitioner", "PractitionerRole", "RelatedPerson", "Patient", "Device", "Organization");
+        registry.referenceElement("onBehalfOf", SUMMARY, "Practitioner", "PractitionerRole", "RelatedPerson", "Patient", "Device", "Organization");
+        registry.element("targetFormat", Code.class, BINDING);
+        registry.element("sigFormat", Code.class, BINDING);
+        registry.element("data", Base64Binary.class, 0);
+    }
+
+    private static void simpleQuantity(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SimpleQuantity.class);
+    }
+
+    private static void string(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(String.class);
+        registry.element("value", java.lang.String.class, 0);
+    }
+
+    private static void substanceAmount(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceAmount.class);
+        registry.choiceElement("amount", SUMMARY, Quantity.class, Range.class, String.class);
+        registry.element("amountType", CodeableConcept.class, SUMMARY);
+        registry.element("amountText", String.class, SUMMARY);
+        registry.element("referenceRange", SubstanceAmount.ReferenceRange.class, SUMMARY);
+    }
+
+    private static void substanceAmountReferenceRange(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(SubstanceAmount.ReferenceRange.class);
+        registry.element("lowLimit", Quantity.class, SUMMARY);
+        registry.element("highLimit", Quantity.class, SUMMARY);
+    }
+
+    private static void time(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Time.class);
+        registry.element("value", LocalTime.class, 0);
+    }
+
+    private static void timing(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Timing.class);
+        registry.element("event", DateTime.class, SUMMARY | REPEATING);
+        registry.element("repeat", Timing.Repeat.class, SUMMARY);
+        registry.element("code", CodeableConcept.class, SUMMARY | BINDING);
+    }
+
+    private static void timingRepeat(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Timing.Repeat.class);
+        registry.choiceElement("bounds", SUMMARY, Duration.class, Range.class, Period.class);
+        registry.element("count", PositiveInt.class, SUMMARY);
+        registry.element("countMax", PositiveInt.class, SUMMARY);
+        registry.element("duration", Decimal.class, SUMMARY);
+        registry.element("durationMax", Decimal.class, SUMMARY);
+        registry.element("durationUnit", UnitsOfTime.class, SUMMARY | BINDING);
+        registry.element("frequency", PositiveInt.class, SUMMARY);
+        registry.element("frequencyMax", PositiveInt.class, SUMMARY);
+        registry.element("period", Decimal.class, SUMMARY);
+        registry.element("periodMax", Decimal.class, SUMMARY);
+        registry.element("periodUnit", UnitsOfTime.class, SUMMARY | BINDING);
+        registry.element("dayOfWeek", DayOfWeek.class, SUMMARY | BINDING | REPEATING);
+        registry.element("timeOfDay", Time.class, SUMMARY | REPEATING);
+        registry.element("when", EventTiming.class, SUMMARY | BINDING | REPEATING);
+        registry.element("offset", UnsignedInt.class, SUMMARY);
+    }
+
+    private static void triggerDefinition(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(TriggerDefinition.class);
+        registry.element("type", TriggerType.class, SUMMARY | BINDING | REQUIRED);
+        registry.element("name", String.class, SUMMARY);
+        registry.choiceElement("timing", SUMMARY, Timing.class, Reference.class, Date.class, DateTime.class);
+        registry.element("data", DataRequirement.class, SUMMARY | REPEATING);
+        registry.element("condition", Expression.class, SUMMARY);
+    }
+
+    private static void unsignedInt(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(UnsignedInt.class);
+    }
+
+    private static void uri(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Uri.class);
+        registry.element("value", java.lang.String.class, 0);
+    }
+
+    private static void url(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Url.class);
+    }
+
+    private static void usageContext(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(UsageContext.class);
+        registry.element("code", Coding.class, SUMMARY | BINDING | REQUIRED);
+        registry.choiceElement("value", SUMMARY | BINDING | REQUIRED, CodeableConcept.class, Quantity.class, Range.class, Reference.class);
+    }
+
+    private static void uuid(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Uuid.class);
+    }
+
+    private static void xhtml(ModelSupport.MetadataRegistry registry) {
+        registry.modelClass(Xhtml.class);
+        registry.element("value", java.lang.String.class, REQUIRED);
+    }
+}
@@ -6,14 +6,8 @@
 
 package com.ibm.fhir.model.util;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
@@ -31,14 +25,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.fhir.model.annotation.Binding;
-import com.ibm.fhir.model.annotation.Choice;
 import com.ibm.fhir.model.annotation.Constraint;
-import com.ibm.fhir.model.annotation.ReferenceTarget;
-import com.ibm.fhir.model.annotation.Required;
-import com.ibm.fhir.model.annotation.Summary;
 import com.ibm.fhir.model.annotation.System;
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.type.Address;
@@ -112,7 +102,8 @@ public final class ModelSupport {
     private static final Map<Class<?>, Class<?>> CONCRETE_TYPE_MAP = buildConcreteTypeMap();
     private static final Map<Class<?>, Map<String, ElementInfo>> MODEL_CLASS_ELEMENT_INFO_MAP = buildModelClassElementInfoMap();
     private static final Map<String, Class<? extends Resource>> RESOURCE_TYPE_MAP = buildResourceTypeMap();
-    private static final Map<Class<?>, Set<Constraint>> MODEL_CLASS_CONSTRAINT_MAP = buildModelClassConstraintMap();
+    // Built on first use, as only validation needs the constraints
+    private static final Map<Class<?>, Set<Constraint>> MODEL_CLASS_CONSTRAINT_MAP = new ConcurrentHashMap<>(1024);
     // LinkedHashSet is used just to preserve the order, for convenience only
     private static final Set<Class<? extends Element>> CHOICE_ELEMENT_TYPES = new LinkedHashSet<>(Arrays.asList(
         Base64Binary.class,
@@ -224,6 +215,28 @@ public final class ModelSupport {
      */
     public static void init() { }
 
+    /**
+     * Receives the elements declared by each model class from the generated {@link ModelMetadata}, so that the
+     * model classes don't need to be scanned with reflection.
+     */
+    interface MetadataRegistry {
+        int REQUIRED = 1;
+        int REPEATING = 2;
+        int SUMMARY = 4;
+        int BINDING = 8;
+
+        /**
+         * Starts the elements declared by a model class
+         */
+        void modelClass(Class<?> modelClass);
+
+        void element(String name, Class<?> type, int flags);
+
+        void choiceElement(String name, int flags, Class<?>... choiceTypes);
+
+        void referenceElement(String name, int flags, String... referenceTypes);
+    }
+
     public static final class ElementInfo {
         private final String name;
         private final Class<?> type;
@@ -234,8 +247,10 @@ public final class ModelSupport {
         private final Set<Class<?>> choiceTypes;
         private final boolean reference;
         private final Set<String> referenceTypes;
-        private final Binding binding;
+        private final boolean hasBinding;
         private final boolean summary;
+        // Read from the field annotation on first use
+        private volatile Binding binding;
 
         private final Set<String> choiceElementNames;
 
@@ -248,7 +263,7 @@ public final class ModelSupport {
                 Set<Class<?>> choiceTypes,
                 boolean reference,
                 Set<String> referenceTypes,
-                Binding binding,
+                boolean hasBinding,
                 boolean isSummary) {
             this.name = name;
             this.declaringType = declaringType;
@@ -259,7 +274,7 @@ public final class ModelSupport {
             this.choiceTypes = choiceTypes;
             this.reference = reference;
             this.referenceTypes = referenceTypes;
-            this.binding = binding;
+            this.hasBinding = hasBinding;
             this.summary = isSummary;
             Set<String> choiceElementNames = new LinkedHashSet<>();
             if (this.choice) {
@@ -315,11 +330,19 @@ public final class ModelSupport {
         }
 
         public Binding getBinding() {
+            if (!hasBinding) {
+                return null;
+            }
+            Binding binding = this.binding;
+            if (binding == null) {
+                binding = getField(declaringType, name).getAnnotation(Binding.class);
+                this.binding = binding;
+            }
             return binding;
         }
 
         public boolean hasBinding() {
-            return (binding != null);
+            return hasBinding;
         }
 
         public Set<String> getChoiceElementNames() {
@@ -342,60 +365,84 @@ public final class ModelSupport {
         return Collections.unmodifiableMap(concreteTypeMap);
     }
 
-    private static Map<Class<?>, Set<Constraint>> buildModelClassConstraintMap() {
-        Map<Class<?>, Set<Constraint>> modelClassConstraintMap = new LinkedHashMap<>(1024);
-        for (Class<?> modelClass : getModelClasses()) {
-            Set<Constraint> constraints = new LinkedHashSet<>();
-            for (Class<?> clazz : getClosure(modelClass)) {
-                for (Constraint constraint : clazz.getDeclaredAnnotationsByType(Constraint.class)) {
-                    constraints.add(constraint);
-                }
+    private static Set<Constraint> buildConstraints(Class<?> modelClass) {
+        Set<Constraint> constraints = new LinkedHashSet<>();
+        for (Class<?> clazz : getClosure(modelClass)) {
+            for (Constraint constraint : clazz.getDeclaredAnnotationsByType(Constraint.class)) {
+                constraints.add(constraint);
             }
-            modelClassConstraintMap.put(modelClass, Collections.unmodifiableSet(constraints));
         }
-        return Collections.unmodifiableMap(modelClassConstraintMap);
+        return Collections.unmodifiableSet(constraints);
+    }
+
+    /**
+     * Collects the ElementInfo of the elements declared by each model class
+     */
+    private static class ElementInfoCollector implements MetadataRegistry {
+        private final Map<Class<?>, List<ElementInfo>> declaredElementInfoMap = new LinkedHashMap<>(1024);
+        private Class<?> modelClass;
+        private List<ElementInfo> elementInfos;
+
+        @Override
+        public void modelClass(Class<?> modelClass) {
+            this.modelClass = modelClass;
+            this.elementInfos = new ArrayList<>();
+            declaredElementInfoMap.put(modelClass, elementInfos);
+        }
+
+        @Override
+        public void element(String name, Class<?> type, int flags) {
+            add(name, type, flags, false, Collections.emptySet(), false, Collections.emptySet());
+        }
+
+        @Override
+        public void choiceElement(String name, int flags, Class<?>... choiceTypes) {
+            Set<Class<?>> choiceTypeSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(choiceTypes)));
+            add(name, Element.class, flags, true, choiceTypeSet, false, Collections.emptySet());
+        }
+
+        @Override
+        public void referenceElement(String name, int flags, String... referenceTypes) {
+            Set<String> referenceTypeSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(referenceTypes)));
+            add(name, Reference.class, flags, false, Collections.emptySet(), true, referenceTypeSet);
+        }
+
+        private void add(String name, Class<?> type, int flags, boolean choice, Set<Class<?>> choiceTypes,
+                boolean reference, Set<String> referenceTypes) {
+            elementInfos.add(new ElementInfo(
+                    name,
+                    type,
+                    modelClass,
+                    (flags & REQUIRED) != 0,
+                    (flags & REPEATING) != 0,
+                    choice,
+                    choiceTypes,
+                    reference,
+                    referenceTypes,
+                    (flags & BINDING) != 0,
+                    (flags & SUMMARY) != 0
+                )
+            );
+        }
     }
 
     private static Map<Class<?>, Map<String, ElementInfo>> buildModelClassElementInfoMap() {
-        try (InputStream in = ModelSupport.class.getClassLoader().getResourceAsStream("modelClasses")) {
-            Map<Class<?>, Map<String, ElementInfo>> modelClassElementInfoMap = new LinkedHashMap<>(1024);
-            List<String> lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.toList());
-            for (String className : lines) {
-                Class<?> modelClass = Class.forName(className);
-                Map<String, ElementInfo> elementInfoMap = new LinkedHashMap<>();
-                for (Field field : getAllFields(modelClass)) {
-                    String elementName = getElementName(field);
-                    Class<?> type = getFieldType(field);
-                    Class<?> declaringType = field.getDeclaringClass();
-                    boolean required = isRequired(field);
-                    boolean summary = isSummary(field);
-                    boolean repeating = isRepeating(field);
-                    boolean choice = isChoice(field);
-                    boolean reference = isReference(field);
-                    Binding binding = field.getAnnotation(Binding.class);
-                    Set<Class<?>> choiceTypes = choice ? Collections.unmodifiableSet(getChoiceTypes(field)) : Collections.emptySet();
-                    Set<String> referenceTypes = reference ? Collections.unmodifiableSet(getReferenceTypes(field)) : Collections.emptySet();
-                    elementInfoMap.put(elementName, new ElementInfo(
-                            elementName,
-                            type,
-                            declaringType,
-                            required,
-                            repeating,
-                            choice,
-                            choiceTypes,
-                            reference,
-                            referenceTypes,
-                            binding,
-                            summary
-                        )
-                    );
+        ElementInfoCollector collector = new ElementInfoCollector();
+        ModelMetadata.register(collector);
+        Map<Class<?>, List<ElementInfo>> declaredElementInfoMap = collector.declaredElementInfoMap;
+
+        Map<Class<?>, Map<String, ElementInfo>> modelClassElementInfoMap = new LinkedHashMap<>(1024);
+        for (Class<?> modelClass : declaredElementInfoMap.keySet()) {
+            Map<String, ElementInfo> elementInfoMap = new LinkedHashMap<>();
+            // The elements of the supertypes come first, and their ElementInfo is shared with the subtypes
+            for (Class<?> clazz : getClosure(modelClass)) {
+                for (ElementInfo elementInfo : declaredElementInfoMap.getOrDefault(clazz, Collections.emptyList())) {
+                    elementInfoMap.put(elementInfo.getName(), elementInfo);
                 }
-                modelClassElementInfoMap.put(modelClass, Collections.unmodifiableMap(elementInfoMap));
             }
-            return Collections.unmodifiableMap(modelClassElementInfoMap);
-        } catch (Exception e) {
-            throw new Error(e);
+            modelClassElementInfoMap.put(modelClass, Collections.unmodifiableMap(elementInfoMap));
         }
+        return Collections.unmodifiableMap(modelClassElementInfoMap);
     }
 
     @SuppressWarnings("unchecked")
@@ -409,18 +456,13 @@ public final class ModelSupport {
         return Collections.unmodifiableMap(resourceTypeMap);
     }
 
-    private static List<Field> getAllFields(Class<?> modelClass) {
-        List<Field> fields = new ArrayList<>();
-        for (Class<?> clazz : getClosure(modelClass)) {
-            for (Field field : clazz.getDeclaredFields()) {
-                int modifiers = field.getModifiers();
-                if (Modifier.isStatic(modifiers) || Modifier.isVolatile(modifiers)) {
-                    continue;
-                }
-                fields.add(field);
+    private static Field getField(Class<?> declaringType, String elementName) {
+        for (Field field : declaringType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && elementName.equals(getElementName(field))) {
+                return field;
             }
         }
-        return fields;
+        throw new IllegalStateException("No field for element '" + elementName + "' on " + declaringType.getName());
     }
 
     /**
@@ -464,14 +506,6 @@ public final class ModelSupport {
         return Collections.emptySet();
     }
 
-    private static Set<Class<?>> getChoiceTypes(Field field) {
-        return new LinkedHashSet<>(Arrays.asList(field.getAnnotation(Choice.class).value()));
-    }
-
-    private static Set<String> getReferenceTypes(Field field) {
-        return new LinkedHashSet<>(Arrays.asList(field.getAnnotation(ReferenceTarget.class).value()));
-    }
-
     /**
      * @param modelClass
      *            a model class which represents a FHIR resource or element
@@ -503,7 +537,10 @@ public final class ModelSupport {
      * @return the set of constraints for the modelClass or empty if there are none
      */
     public static Set<Constraint> getConstraints(Class<?> modelClass) {
-        return MODEL_CLASS_CONSTRAINT_MAP.getOrDefault(modelClass, Collections.emptySet());
+        if (!MODEL_CLASS_ELEMENT_INFO_MAP.containsKey(modelClass)) {
+            return Collections.emptySet();
+        }
+        return MODEL_CLASS_CONSTRAINT_MAP.computeIfAbsent(modelClass, ModelSupport::buildConstraints);
     }
 
     /**
@@ -613,15 +650,6 @@ public final class ModelSupport {
         return false;
     }
 
-    private static Class<?> getFieldType(Field field) {
-        Type genericType = field.getGenericType();
-        if (genericType instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) genericType;
-            return (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        }
-        return field.getType();
-    }
-
     /**
      * @return all model classes, including both resources and elements, concrete and abstract
      */
@@ -690,14 +718,6 @@ public final class ModelSupport {
         return BackboneElement.class.isAssignableFrom(modelClass);
     }
 
-    private static boolean isChoice(Field field) {
-        return field.isAnnotationPresent(Choice.class);
-    }
-
-    private static boolean isReference(Field field) {
-        return field.isAnnotationPresent(com.ibm.fhir.model.annotation.ReferenceTarget.class);
-    }
-
     /**
      * @param modelClass
      *            a model class which represents a FHIR resource or element
@@ -803,10 +823,6 @@ public final class ModelSupport {
         return CONCRETE_TYPE_MAP.containsKey(type);
     }
 
-    private static boolean isRepeating(Field field) {
-        return List.class.equals(field.getType());
-    }
-
     /**
      * @param modelClass
      *            a model class which represents a FHIR resource or element
@@ -823,14 +839,6 @@ public final class ModelSupport {
         return false;
     }
 
-    private static boolean isRequired(Field field) {
-        return field.isAnnotationPresent(Required.class);
-    }
-
-    private static boolean isSummary(Field field) {
-        return field.isAnnotationPresent(Summary.class);
-    }
-
     /**
      * @param modelClass
      *            a model class which represents a FHIR resource or element
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.examples.Index;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRJsonParser;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * Tests that the streaming JSON parser produces the same model objects as the JsonObject-based parser.
+ */
+public class FHIRJsonStreamingParserTest {
+    @Test
+    public void testExamples() throws Exception {
+        int count = 0;
+        try (BufferedReader index = new BufferedReader(ExamplesUtil.indexReader(Index.MINIMAL_JSON))) {
+            String line;
+            while ((line = index.readLine()) != null) {
+                String[] tokens = line.trim().split("\\s+");
+                if (tokens.length != 2) {
+                    continue;
+                }
+                String path = tokens[1];
+
+                Resource expected = null;
+                FHIRParserException expectedException = null;
+                try (Reader reader = ExamplesUtil.resourceReader(path)) {
+                    expected = FHIRParser.parser(Format.JSON).parse(reader);
+                } catch (FHIRParserException e) {
+                    expectedException = e;
+                }
+
+                try (Reader reader = ExamplesUtil.resourceReader(path)) {
+                    Resource actual = streamingParser().parse(reader);
+                    if (expectedException != null) {
+                        fail(path + ": expected parse failure '" + expectedException.getMessage() + "'");
+                    }
+                    assertEquals(actual, expected, path);
+                } catch (FHIRParserException e) {
+                    if (expectedException == null) {
+                        fail(path + ": unexpected parse failure '" + e.getMessage() + "' at " + e.getPath());
+                    }
+                }
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testMemberOrder() throws Exception {
+        String json = "{" +
+                "\"_birthDate\": {\"id\": \"bd\"}," +
+                "\"name\": [{\"_given\": [null, {\"id\": \"g2\"}], \"given\": [\"a\", \"b\"], \"family\": \"f\"}]," +
+                "\"birthDate\": \"1970-01-01\"," +
+                "\"resourceType\": \"Patient\"," +
+                "\"id\": \"1\"" +
+            "}";
+        Patient expected = FHIRParser.parser(Format.JSON).parse(new StringReader(json));
+        Patient actual = streamingParser().parse(new StringReader(json));
+        assertEquals(actual, expected);
+        assertEquals(actual.getBirthDate().getId(), "bd");
+        assertEquals(actual.getName().get(0).getGiven().get(1).getId(), "g2");
+    }
+
+    @Test
+    public void testElementsToInclude() throws Exception {
+        String json = "{\"resourceType\": \"Patient\", \"id\": \"1\", \"active\": true, \"gender\": \"male\", \"unknown\": 1}";
+        Patient expected = FHIRParser.parser(Format.JSON).as(FHIRJsonParser.class).parseAndFilter(new StringReader(json), Arrays.asList("gender"));
+        Patient actual = streamingParser().as(FHIRJsonParser.class).parseAndFilter(new StringReader(json), Arrays.asList("gender"));
+        assertEquals(actual, expected);
+        assertNull(actual.getActive());
+        assertNotNull(actual.getGender());
+    }
+
+    @Test
+    public void testUnrecognizedElements() throws Exception {
+        String json = "{\"resourceType\": \"Patient\", \"id\": \"1\", \"_active\": {\"foo\": 1}}";
+        try {
+            streamingParser().parse(new StringReader(json));
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getMessage().startsWith("Unrecognized element"));
+            assertEquals(e.getPath(), "Patient.active");
+        }
+        FHIRParser parser = streamingParser();
+        parser.setProperty(FHIRParser.PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS, true);
+        json = "{\"resourceType\": \"Patient\", \"id\": \"1\", \"foo\": {\"bar\": [1, 2]}}";
+        Patient actual = parser.parse(new StringReader(json));
+        assertEquals(actual, Patient.builder().id("1").build());
+    }
+
+    @Test
+    public void testInconsistentChoiceElement() throws Exception {
+        String json = "{\"resourceType\": \"Observation\", \"status\": \"final\", \"code\": {\"text\": \"x\"}, " +
+                "\"valueString\": \"a\", \"_valueBoolean\": {\"id\": \"b\"}}";
+        try {
+            streamingParser().parse(new StringReader(json));
+            fail();
+        } catch (FHIRParserException e) {
+            assertTrue(e.getMessage().contains("are not consistent"));
+        }
+    }
+
+    @Test
+    public void testPropertySupported() {
+        assertTrue(FHIRParser.parser(Format.JSON).isPropertySupported(FHIRParser.PROPERTY_STREAMING));
+        assertFalse(FHIRParser.parser(Format.XML).isPropertySupported(FHIRParser.PROPERTY_STREAMING));
+    }
+
+    private static FHIRParser streamingParser() {
+        FHIRParser parser = FHIRParser.parser(Format.JSON);
+        parser.setProperty(FHIRParser.PROPERTY_STREAMING, true);
+        return parser;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.model.util.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.annotation.Binding;
+import com.ibm.fhir.model.annotation.Choice;
+import com.ibm.fhir.model.annotation.Constraint;
+import com.ibm.fhir.model.annotation.ReferenceTarget;
+import com.ibm.fhir.model.annotation.Required;
+import com.ibm.fhir.model.annotation.Summary;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.model.util.ModelSupport.ElementInfo;
+
+/**
+ * Checks the generated model metadata against the fields and annotations of the model classes
+ */
+public class ModelSupportTest {
+    @Test
+    public void testElementInfo() throws Exception {
+        List<Class<?>> modelClasses = readModelClasses();
+        assertEquals(new ArrayList<>(ModelSupport.getModelClasses()), modelClasses);
+
+        for (Class<?> modelClass : modelClasses) {
+            List<Field> fields = getAllFields(modelClass);
+            List<String> elementNames = fields.stream().map(ModelSupport::getElementName).collect(Collectors.toList());
+            assertEquals(new ArrayList<>(ModelSupport.getElementNames(modelClass)), elementNames, modelClass.getName());
+
+            for (Field field : fields) {
+                String message = modelClass.getName() + "." + field.getName();
+                ElementInfo elementInfo = ModelSupport.getElementInfo(modelClass, ModelSupport.getElementName(field));
+                assertEquals(elementInfo.getType(), getFieldType(field), message);
+                assertEquals(elementInfo.getDeclaringType(), field.getDeclaringClass(), message);
+                assertEquals(elementInfo.isRequired(), field.isAnnotationPresent(Required.class), message);
+                assertEquals(elementInfo.isSummary(), field.isAnnotationPresent(Summary.class), message);
+                assertEquals(elementInfo.isRepeating(), List.class.equals(field.getType()), message);
+                assertEquals(elementInfo.isChoice(), field.isAnnotationPresent(Choice.class), message);
+                assertEquals(elementInfo.getChoiceTypes(), field.isAnnotationPresent(Choice.class) ?
+                        new LinkedHashSet<>(Arrays.asList(field.getAnnotation(Choice.class).value())) : Collections.emptySet(), message);
+                assertEquals(elementInfo.isReference(), field.isAnnotationPresent(ReferenceTarget.class), message);
+                assertEquals(elementInfo.getReferenceTypes(), field.isAnnotationPresent(ReferenceTarget.class) ?
+                        new LinkedHashSet<>(Arrays.asList(field.getAnnotation(ReferenceTarget.class).value())) : Collections.emptySet(), message);
+                assertEquals(elementInfo.hasBinding(), field.isAnnotationPresent(Binding.class), message);
+                assertEquals(elementInfo.getBinding(), field.getAnnotation(Binding.class), message);
+            }
+        }
+    }
+
+    @Test
+    public void testConstraints() {
+        Set<Constraint> expected = new LinkedHashSet<>();
+        for (Class<?> clazz : ModelSupport.getClosure(Patient.class)) {
+            expected.addAll(Arrays.asList(clazz.getDeclaredAnnotationsByType(Constraint.class)));
+        }
+        assertTrue(!expected.isEmpty());
+        assertEquals(ModelSupport.getConstraints(Patient.class), expected);
+        assertEquals(ModelSupport.getConstraints(String.class), Collections.emptySet());
+    }
+
+    @Test
+    public void testBinding() {
+        assertEquals(ModelSupport.getElementInfo(Patient.class, "gender").getBinding().bindingName(), "AdministrativeGender");
+        assertNull(ModelSupport.getElementInfo(Extension.class, "url").getBinding());
+    }
+
+    private List<Class<?>> readModelClasses() throws Exception {
+        try (InputStream in = ModelSupport.class.getClassLoader().getResourceAsStream("modelClasses")) {
+            List<Class<?>> modelClasses = new ArrayList<>();
+            for (String className : new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().collect(Collectors.toList())) {
+                modelClasses.add(Class.forName(className));
+            }
+            return modelClasses;
+        }
+    }
+
+    private List<Field> getAllFields(Class<?> modelClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> clazz : ModelSupport.getClosure(modelClass)) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isVolatile(modifiers)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private Class<?> getFieldType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        }
+        return field.getType();
+    }
+}
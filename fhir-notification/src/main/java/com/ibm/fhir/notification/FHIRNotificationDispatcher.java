@@ -0,0 +1,196 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.notification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.notification.exception.FHIRNotificationException;
+
+/**
+ * Delivers the notification events of a single subscriber on the threads of a shared executor, in the order in which
+ * they were published, so that a slow subscriber delays neither the persistence layer nor the other subscribers.
+ *
+ * <p>At most {@code capacity} events wait for delivery; new events are dropped when that limit is reached. When the
+ * coalescing window is positive, events are delivered after that window, and an event for a resource which already
+ * has an event waiting for delivery replaces that event; a 'create' and a later 'delete' cancel each other out.
+ *
+ * <p>Once the executor is shut down, the events which are waiting for delivery are still delivered, but no new
+ * deliveries are scheduled for events which are dispatched afterwards.
+ */
+class FHIRNotificationDispatcher {
+    private static final Logger log = Logger.getLogger(FHIRNotificationDispatcher.class.getName());
+
+    private final FHIRNotificationService service;
+    private final FHIRNotificationSubscriber subscriber;
+    private final ScheduledExecutorService executor;
+    private final int capacity;
+    private final long coalesceWindowMillis;
+
+    // The events waiting for delivery, keyed by resource when events are coalesced
+    private final Map<Object, FHIRNotificationEvent> pending = new LinkedHashMap<>();
+    private boolean scheduled = false;
+    private boolean stopped = false;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    FHIRNotificationDispatcher(FHIRNotificationService service, FHIRNotificationSubscriber subscriber,
+            ScheduledExecutorService executor, int capacity, long coalesceWindowMillis) {
+        this.service = service;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+    }
+
+    FHIRNotificationSubscriber getSubscriber() {
+        return subscriber;
+    }
+
+    /**
+     * Queue an event for delivery to the subscriber
+     *
+     * @return false if the event was dropped
+     */
+    boolean dispatch(FHIRNotificationEvent event) {
+        synchronized (pending) {
+            if (stopped || executor.isShutdown()) {
+                return false;
+            }
+            Object key = (coalesceWindowMillis > 0) ? getResourceKey(event) : null;
+            FHIRNotificationEvent previous = (key != null) ? pending.get(key) : null;
+            if (previous != null) {
+                FHIRNotificationEvent coalesced = coalesce(previous, event);
+                if (coalesced != null) {
+                    pending.put(key, coalesced);
+                } else {
+                    pending.remove(key);
+                }
+            } else if (pending.size() >= capacity) {
+                long dropped = droppedCount.incrementAndGet();
+                if (dropped == 1 || dropped % 1000 == 0) {
+                    log.warning("Dropped notification event for subscriber " + subscriber.getClass().getName()
+                            + " because its queue is full; total dropped: " + dropped);
+                }
+                return false;
+            } else {
+                pending.put((key != null) ? key : new Object(), event);
+            }
+            if (!scheduled && !schedule()) {
+                // The service is shutting down
+                log.warning("Dropped " + pending.size() + " notification events for subscriber "
+                        + subscriber.getClass().getName() + " because the notification service is shut down");
+                pending.clear();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stop delivering events; the events waiting for delivery are discarded
+     */
+    void stop() {
+        synchronized (pending) {
+            stopped = true;
+            pending.clear();
+        }
+    }
+
+    /**
+     * Called with the lock held
+     *
+     * @return false if the executor is shut down
+     */
+    private boolean schedule() {
+        try {
+            if (coalesceWindowMillis > 0) {
+                executor.schedule(this::deliver, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+            } else {
+                executor.execute(this::deliver);
+            }
+            scheduled = true;
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void deliver() {
+        while (true) {
+            List<FHIRNotificationEvent> events;
+            synchronized (pending) {
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            for (FHIRNotificationEvent event : events) {
+                try {
+                    subscriber.notify(event);
+                } catch (FHIRNotificationException e) {
+                    log.log(Level.WARNING, FHIRNotificationService.class.getName() + ": unable to publish event", e);
+                    service.unsubscribe(subscriber);
+                    return;
+                } catch (Throwable t) {
+                    log.log(Level.WARNING, FHIRNotificationService.class.getName() + ": unable to publish event", t);
+                }
+            }
+            synchronized (pending) {
+                scheduled = false;
+                if (pending.isEmpty() || stopped || schedule()) {
+                    return;
+                }
+                // The service is shutting down, so the events which were queued during this delivery are delivered
+                // on this thread instead
+                scheduled = true;
+            }
+        }
+    }
+
+    /**
+     * @return the type and id of the resource of the event, or null if the event has no location
+     */
+    private static Object getResourceKey(FHIRNotificationEvent event) {
+        String location = event.getLocation();
+        if (location == null || event.getResourceId() == null) {
+            return null;
+        }
+        int index = location.indexOf('/');
+        String resourceType = (index > 0) ? location.substring(0, index) : location;
+        return resourceType + "/" + event.getResourceId();
+    }
+
+    /**
+     * The event which replaces two events for the same resource: the later event, which is a 'create' if the earlier
+     * event was a 'create', because the subscriber never saw the resource
+     *
+     * @return null if the earlier event is a 'create' and the later event is a 'delete', as the subscriber never saw
+     *     the resource
+     */
+    private static FHIRNotificationEvent coalesce(FHIRNotificationEvent earlier, FHIRNotificationEvent later) {
+        if ("create".equals(earlier.getOperationType()) && "delete".equals(later.getOperationType())) {
+            return null;
+        }
+        if ("create".equals(earlier.getOperationType()) && !"create".equals(later.getOperationType())) {
+            FHIRNotificationEvent event = new FHIRNotificationEvent();
+            event.setOperationType(earlier.getOperationType());
+            event.setLastUpdated(later.getLastUpdated());
+            event.setLocation(later.getLocation());
+            event.setResourceId(later.getResourceId());
+            event.setResource(later.getResource());
+            return event;
+        }
+        return later;
+    }
+}
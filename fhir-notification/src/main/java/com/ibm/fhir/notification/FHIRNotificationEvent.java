@@ -15,6 +15,10 @@ public class FHIRNotificationEvent {
     private String resourceId = null;
     private Resource resource = null;
 
+    // The serialized forms of the event, shared by the subscribers it is published to
+    private volatile String jsonString = null;
+    private volatile String jsonStringWithResource = null;
+
     public FHIRNotificationEvent() {
     }
 
@@ -24,6 +28,7 @@ public class FHIRNotificationEvent {
 
     public void setResourceId(String resourceId) {
         this.resourceId = resourceId;
+        clearJsonString();
     }
 
     public String getLastUpdated() {
@@ -32,6 +37,7 @@ public class FHIRNotificationEvent {
 
     public void setLastUpdated(String lastUpdated) {
         this.lastUpdated = lastUpdated;
+        clearJsonString();
     }
 
     public String getLocation() {
@@ -40,6 +46,7 @@ public class FHIRNotificationEvent {
 
     public void setLocation(String location) {
         this.location = location;
+        clearJsonString();
     }
 
     public String getOperationType() {
@@ -48,6 +55,7 @@ public class FHIRNotificationEvent {
 
     public void setOperationType(String operationType) {
         this.operationType = operationType;
+        clearJsonString();
     }
 
     @Override
@@ -68,5 +76,35 @@ public class FHIRNotificationEvent {
 
     public void setResource(Resource resource) {
         this.resource = resource;
+        clearJsonString();
+    }
+
+    /**
+     * @param includeResource
+     *     whether the serialized form includes the resource
+     * @return the serialized form cached by {@link com.ibm.fhir.notification.util.FHIRNotificationUtil#toJsonString},
+     *     or null if the event was not serialized yet
+     */
+    public String getJsonString(boolean includeResource) {
+        return includeResource ? jsonStringWithResource : jsonString;
+    }
+
+    /**
+     * @param includeResource
+     *     whether the serialized form includes the resource
+     * @param jsonString
+     *     the serialized form of the event
+     */
+    public void setJsonString(boolean includeResource, String jsonString) {
+        if (includeResource) {
+            this.jsonStringWithResource = jsonString;
+        } else {
+            this.jsonString = jsonString;
+        }
+    }
+
+    private void clearJsonString() {
+        this.jsonString = null;
+        this.jsonStringWithResource = null;
     }
 }
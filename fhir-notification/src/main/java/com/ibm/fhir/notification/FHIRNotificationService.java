@@ -11,12 +11,16 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.ibm.fhir.config.FHIRConfiguration;
+import com.ibm.fhir.config.PropertyGroup;
 import com.ibm.fhir.model.resource.Resource;
-import com.ibm.fhir.notification.exception.FHIRNotificationException;
 import com.ibm.fhir.persistence.interceptor.FHIRPersistenceEvent;
 import com.ibm.fhir.persistence.interceptor.FHIRPersistenceInterceptor;
 import com.ibm.fhir.persistence.interceptor.FHIRPersistenceInterceptorException;
@@ -24,12 +28,22 @@ import com.ibm.fhir.persistence.interceptor.impl.FHIRPersistenceInterceptorMgr;
 
 /**
  * This class coordinates the activities of the FHIR Server notification service.
+ *
+ * <p>Events are delivered to each subscriber by a {@link FHIRNotificationDispatcher} on a small pool of threads, so
+ * publishing an event doesn't wait for the subscribers.
  */
 public class FHIRNotificationService implements FHIRPersistenceInterceptor {
     private static final Logger log = java.util.logging.Logger.getLogger(FHIRNotificationService.class.getName());
-    private List<FHIRNotificationSubscriber> subscribers = new CopyOnWriteArrayList<FHIRNotificationSubscriber>();
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_DISPATCH_THREADS = 2;
+    private static final int DEFAULT_COALESCE_WINDOW = 0;
+
+    private List<FHIRNotificationDispatcher> dispatchers = new CopyOnWriteArrayList<FHIRNotificationDispatcher>();
     private static final FHIRNotificationService INSTANCE = new FHIRNotificationService();
     private Set<String> includedResourceTypes = Collections.synchronizedSortedSet(new TreeSet<String>());
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private long coalesceWindowMillis = DEFAULT_COALESCE_WINDOW;
+    private ScheduledExecutorService executor;
 
     private FHIRNotificationService() {
         log.entering(this.getClass().getName(), "FHIRNotificationService");
@@ -38,12 +52,32 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
         // interceptor methods to trigger the 'publish' of the notification events.
         FHIRPersistenceInterceptorMgr.getInstance().addPrioritizedInterceptor(this);
         initNotificationResourceTypes();
+        initDispatch();
         } catch (Throwable t) {
             throw new RuntimeException("Unexpected error during initialization.", t);
         }
         log.exiting(this.getClass().getName(), "FHIRNotificationService");
     }
 
+    private void initDispatch() throws Exception {
+        PropertyGroup fhirConfig = FHIRConfiguration.getInstance().loadConfiguration();
+        int dispatchThreads = DEFAULT_DISPATCH_THREADS;
+        if (fhirConfig != null) {
+            queueCapacity = fhirConfig.getIntProperty(FHIRConfiguration.PROPERTY_NOTIFICATION_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+            dispatchThreads = fhirConfig.getIntProperty(FHIRConfiguration.PROPERTY_NOTIFICATION_DISPATCH_THREADS, DEFAULT_DISPATCH_THREADS);
+            coalesceWindowMillis = fhirConfig.getIntProperty(FHIRConfiguration.PROPERTY_NOTIFICATION_COALESCE_WINDOW, DEFAULT_COALESCE_WINDOW);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "fhir-notification-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.finer("Notification service will dispatch events with " + dispatchThreads + " threads, queue capacity: "
+                + queueCapacity + ", coalesce window: " + coalesceWindowMillis + "ms");
+    }
+
     private void initNotificationResourceTypes() throws Exception {
         Set<String> includedResourceTypes = Collections.synchronizedSortedSet(new TreeSet<String>());
         List<String> types = FHIRConfiguration.getInstance().loadConfiguration().getStringListProperty(FHIRConfiguration.PROPERTY_NOTIFICATION_RESOURCE_TYPES);
@@ -62,19 +96,15 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
     }
 
     /**
-     * Method for broadcasting message to each subscriber.
+     * Method for broadcasting message to each subscriber. The message is queued for each subscriber and delivered
+     * in the background; the JSON form of the event is serialized once and shared by the subscribers.
      *
      * @param event
      */
     public void publish(FHIRNotificationEvent event) {
         log.entering(this.getClass().getName(), "publish");
-        for (FHIRNotificationSubscriber subscriber : subscribers) {
-            try {
-                subscriber.notify(event);
-            } catch (FHIRNotificationException e) {
-                subscribers.remove(subscriber);
-                log.log(Level.WARNING, FHIRNotificationService.class.getName() + ": unable to publish event", e);
-            }
+        for (FHIRNotificationDispatcher dispatcher : dispatchers) {
+            dispatcher.dispatch(event);
         }
         log.exiting(this.getClass().getName(), "publish");
     }
@@ -84,11 +114,11 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
      *
      * @param subscriber
      */
-    public void subscribe(FHIRNotificationSubscriber subscriber) {
+    public synchronized void subscribe(FHIRNotificationSubscriber subscriber) {
         log.entering(this.getClass().getName(), "subscribe");
         try {
-            if (!subscribers.contains(subscriber)) {
-                subscribers.add(subscriber);
+            if (getDispatcher(subscriber) == null) {
+                dispatchers.add(new FHIRNotificationDispatcher(this, subscriber, executor, queueCapacity, coalesceWindowMillis));
             }
         } finally {
             log.exiting(this.getClass().getName(), "subscribe");
@@ -100,11 +130,13 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
      *
      * @param subscriber
      */
-    public void unsubscribe(FHIRNotificationSubscriber subscriber) {
+    public synchronized void unsubscribe(FHIRNotificationSubscriber subscriber) {
         log.entering(this.getClass().getName(), "unsubscribe");
         try {
-            if (subscribers.contains(subscriber)) {
-                subscribers.remove(subscriber);
+            FHIRNotificationDispatcher dispatcher = getDispatcher(subscriber);
+            if (dispatcher != null) {
+                dispatchers.remove(dispatcher);
+                dispatcher.stop();
             }
         } finally {
             log.exiting(this.getClass().getName(), "unsubscribe");
@@ -120,12 +152,41 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
     public boolean isSubscribed(FHIRNotificationSubscriber subscriber) {
         log.entering(this.getClass().getName(), "isSubscribed");
         try {
-            return subscribers.contains(subscriber);
+            return getDispatcher(subscriber) != null;
         } finally {
             log.exiting(this.getClass().getName(), "isSubscribed");
         }
     }
 
+    /**
+     * Deliver the queued events, waiting at most the specified time, and stop the dispatch threads. Events published
+     * afterwards are dropped.
+     *
+     * @param timeout
+     * @param unit
+     * @throws InterruptedException
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        log.entering(this.getClass().getName(), "shutdown");
+        try {
+            executor.shutdown();
+            if (!executor.awaitTermination(timeout, unit)) {
+                log.warning("Timed out waiting for the delivery of the queued notification events");
+            }
+        } finally {
+            log.exiting(this.getClass().getName(), "shutdown");
+        }
+    }
+
+    private FHIRNotificationDispatcher getDispatcher(FHIRNotificationSubscriber subscriber) {
+        for (FHIRNotificationDispatcher dispatcher : dispatchers) {
+            if (dispatcher.getSubscriber().equals(subscriber)) {
+                return dispatcher;
+            }
+        }
+        return null;
+    }
+
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // The following set of methods are from the FHIRPersistenceInterceptor interface and are implemented here to allow
     // the notification service to be registered as a persistence interceptor. All we really need to do in these methods
@@ -156,6 +217,12 @@ public class FHIRNotificationService implements FHIRPersistenceInterceptor {
         // Nothing to do for 'beforeUpdate'.
     }
 
+    @Override
+    public boolean isReadResourceRequired() {
+        // Reads and searches are not published.
+        return false;
+    }
+
     /**
      * Returns true iff we should publish the specified persistence event as a notification event.
      */
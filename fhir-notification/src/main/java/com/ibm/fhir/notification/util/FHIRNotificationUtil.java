@@ -39,7 +39,8 @@ public class FHIRNotificationUtil {
     }
     
     /**
-     * Serializes the notification event into a JSON string.
+     * Serializes the notification event into a JSON string. The string is cached in the event, so an event which is
+     * published to several subscribers is serialized once.
      * @param event the FHIRNotificationEvent structure to be serialized
      * @param includeResource a flag that controls whether or not the resource object within
      * the event structure should be included in the serialized message.
@@ -47,6 +48,10 @@ public class FHIRNotificationUtil {
      * @throws FHIRException 
      */
     public static String toJsonString(FHIRNotificationEvent event, boolean includeResource) throws FHIRException {
+        String cached = event.getJsonString(includeResource);
+        if (cached != null) {
+            return cached;
+        }
         JsonObjectBuilder builder = JSON_BUILDER_FACTORY.createObjectBuilder();
         builder.add("lastUpdated", event.getLastUpdated());
         builder.add("location", event.getLocation());
@@ -57,6 +62,7 @@ public class FHIRNotificationUtil {
         }
         JsonObject jsonObject = builder.build();
         String jsonString = jsonObject.toString();
+        event.setJsonString(includeResource, jsonString);
         return jsonString;
     }
 }
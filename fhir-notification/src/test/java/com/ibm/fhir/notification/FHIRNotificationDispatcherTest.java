@@ -0,0 +1,210 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.notification;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class FHIRNotificationDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ScheduledExecutorService executor;
+
+    @BeforeMethod
+    public void createExecutor() {
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @AfterMethod
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testQueueFull() throws Exception {
+        BlockingSubscriber subscriber = new BlockingSubscriber();
+        FHIRNotificationDispatcher dispatcher = new FHIRNotificationDispatcher(null, subscriber, executor, 2, 0);
+
+        // The first event is being delivered, so the next two events fill the queue
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "1")));
+        assertTrue(subscriber.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "2")));
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "3")));
+        assertFalse(dispatcher.dispatch(event("update", "Patient", "4")));
+
+        subscriber.release.countDown();
+        awaitTermination();
+        assertEquals(ids(subscriber.events), Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    public void testOrderPerSubscriber() throws Exception {
+        RecordingSubscriber fast = new RecordingSubscriber(0);
+        RecordingSubscriber slow = new RecordingSubscriber(2);
+        List<FHIRNotificationDispatcher> dispatchers = new ArrayList<>();
+        dispatchers.add(new FHIRNotificationDispatcher(null, fast, executor, 1000, 0));
+        dispatchers.add(new FHIRNotificationDispatcher(null, slow, executor, 1000, 0));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(Integer.toString(i));
+            for (FHIRNotificationDispatcher dispatcher : dispatchers) {
+                assertTrue(dispatcher.dispatch(event("update", "Patient", Integer.toString(i))));
+            }
+        }
+
+        awaitTermination();
+        assertEquals(ids(fast.events), expected);
+        assertEquals(ids(slow.events), expected);
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        FHIRNotificationDispatcher dispatcher = new FHIRNotificationDispatcher(null, subscriber, executor, 1000, 200);
+
+        dispatcher.dispatch(event("create", "Patient", "1"));
+        dispatcher.dispatch(event("update", "Patient", "1"));
+        dispatcher.dispatch(event("create", "Patient", "2"));
+        dispatcher.dispatch(event("delete", "Patient", "2"));
+        dispatcher.dispatch(event("update", "Patient", "3"));
+        dispatcher.dispatch(event("delete", "Patient", "3"));
+        dispatcher.dispatch(event("update", "Observation", "1"));
+        dispatcher.dispatch(event("update", "Observation", "1"));
+
+        awaitTermination();
+        List<FHIRNotificationEvent> events = subscriber.events;
+        assertEquals(events.size(), 3);
+
+        // A create followed by an update is a create with the content of the update
+        assertEquals(events.get(0).getOperationType(), "create");
+        assertEquals(events.get(0).getLocation(), "Patient/1/_history/2");
+
+        // A create followed by a delete is not delivered at all, and an update followed by a delete is a delete
+        assertEquals(events.get(1).getOperationType(), "delete");
+        assertEquals(events.get(1).getLocation(), "Patient/3/_history/2");
+
+        // The events of different resource types are not coalesced with each other
+        assertEquals(events.get(2).getOperationType(), "update");
+        assertEquals(events.get(2).getLocation(), "Observation/1/_history/2");
+    }
+
+    @Test
+    public void testShutdownDrainsQueue() throws Exception {
+        BlockingSubscriber subscriber = new BlockingSubscriber();
+        FHIRNotificationDispatcher dispatcher = new FHIRNotificationDispatcher(null, subscriber, executor, 1000, 0);
+
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "1")));
+        assertTrue(subscriber.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "2")));
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "3")));
+
+        // The events which were queued before the shutdown are still delivered, the later ones are dropped
+        executor.shutdown();
+        assertFalse(dispatcher.dispatch(event("update", "Patient", "4")));
+        subscriber.release.countDown();
+        assertTrue(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(ids(subscriber.events), Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        BlockingSubscriber subscriber = new BlockingSubscriber();
+        FHIRNotificationDispatcher dispatcher = new FHIRNotificationDispatcher(null, subscriber, executor, 1000, 0);
+
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "1")));
+        assertTrue(subscriber.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(dispatcher.dispatch(event("update", "Patient", "2")));
+
+        // The events which are waiting for delivery are discarded
+        dispatcher.stop();
+        assertFalse(dispatcher.dispatch(event("update", "Patient", "3")));
+        subscriber.release.countDown();
+        awaitTermination();
+        assertEquals(ids(subscriber.events), Arrays.asList("1"));
+    }
+
+    private void awaitTermination() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static FHIRNotificationEvent event(String operationType, String resourceType, String id) {
+        FHIRNotificationEvent event = new FHIRNotificationEvent();
+        event.setOperationType(operationType);
+        event.setResourceId(id);
+        event.setLocation(resourceType + "/" + id + "/_history/" + ("create".equals(operationType) ? "1" : "2"));
+        return event;
+    }
+
+    private static List<String> ids(List<FHIRNotificationEvent> events) {
+        return events.stream().map(FHIRNotificationEvent::getResourceId).collect(Collectors.toList());
+    }
+
+    /**
+     * Records the events, after a random delay of at most maxDelayMillis for each event
+     */
+    private static class RecordingSubscriber implements FHIRNotificationSubscriber {
+        final List<FHIRNotificationEvent> events = Collections.synchronizedList(new ArrayList<>());
+        private final int maxDelayMillis;
+
+        RecordingSubscriber(int maxDelayMillis) {
+            this.maxDelayMillis = maxDelayMillis;
+        }
+
+        @Override
+        public void notify(FHIRNotificationEvent event) {
+            if (maxDelayMillis > 0) {
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(maxDelayMillis + 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+        }
+    }
+
+    /**
+     * Records the events, and blocks the delivery of the first event until it is released
+     */
+    private static class BlockingSubscriber extends RecordingSubscriber {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingSubscriber() {
+            super(0);
+        }
+
+        @Override
+        public void notify(FHIRNotificationEvent event) {
+            entered.countDown();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.notify(event);
+        }
+    }
+}
@@ -134,7 +134,20 @@ public abstract class FHIRPathAbstractNode implements FHIRPathNode {
             this.children.addAll(children);
             return this;
         }
-        
+
+        /**
+         * Replace the children of this builder with a collection that is materialized on first access
+         *
+         * @param children
+         *     the lazily materialized children (including the value, if any)
+         * @return
+         *     this builder instance
+         */
+        Builder lazyChildren(Collection<FHIRPathNode> children) {
+            this.children = children;
+            return this;
+        }
+
         @Override
         public abstract FHIRPathNode build();
     }
@@ -12,30 +12,50 @@ import java.time.LocalTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.type.Element;
 import com.ibm.fhir.model.type.Quantity;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.model.visitor.DefaultVisitor;
 import com.ibm.fhir.model.visitor.PathAwareVisitor;
+import com.ibm.fhir.model.visitor.Visitable;
 
 /**
  * A tree of {@link FHIRPathNode} nodes created from a {@link Resource} or an {@link Element}
+ *
+ * <p>Trees created by {@link #tree(Resource)} and {@link #tree(Element)} are built eagerly. Trees created by
+ * {@link #lazyTree(Resource)} and {@link #lazyTree(Element)} materialize the children of each node on first access
+ * and memoize them, so that only the branches actually navigated are built.
  */
 public class FHIRPathTree {
     private final FHIRPathNode root;
     private final Map<String, FHIRPathNode> pathNodeMap;
+    private final boolean lazy;
 
     private FHIRPathTree(FHIRPathNode root, Map<String, FHIRPathNode> pathNodeMap) {
         this.root = root;
         this.pathNodeMap = Collections.unmodifiableMap(pathNodeMap);
+        this.lazy = false;
+    }
+
+    private FHIRPathTree(FHIRPathNode root) {
+        this.root = root;
+        this.pathNodeMap = new ConcurrentHashMap<>();
+        this.lazy = true;
     }
 
     /**
@@ -57,9 +77,46 @@ public class FHIRPathTree {
      *     the node at the location given by the path parameter if exists, otherwise null
      */
     public FHIRPathNode getNode(String path) {
+        if (lazy && path != null) {
+            FHIRPathNode node = pathNodeMap.get(path);
+            if (node == null) {
+                node = findNode(path);
+                if (node != null) {
+                    pathNodeMap.put(path, node);
+                }
+            }
+            return node;
+        }
         return pathNodeMap.get(path);
     }
 
+    /**
+     * Walk the tree from the root along the segments of the path parameter, materializing only the nodes on that path
+     */
+    private FHIRPathNode findNode(String path) {
+        FHIRPathNode node = root;
+        while (!path.equals(node.path())) {
+            int start = node.path().length();
+            if (!path.startsWith(node.path()) || path.length() <= start || path.charAt(start) != '.') {
+                return null;
+            }
+            int end = path.indexOf('.', start + 1);
+            String childPath = (end == -1) ? path : path.substring(0, end);
+            FHIRPathNode next = null;
+            for (FHIRPathNode child : node.children()) {
+                if (childPath.equals(child.path())) {
+                    next = child;
+                    break;
+                }
+            }
+            if (next == null) {
+                return null;
+            }
+            node = next;
+        }
+        return node;
+    }
+
     /**
      * Get the parent of the node parameter
      *
@@ -75,7 +132,7 @@ public class FHIRPathTree {
 
         int index = node.path().lastIndexOf(".");
         if (index != -1) {
-            return pathNodeMap.get(node.path().substring(0, index));
+            return getNode(node.path().substring(0, index));
         }
 
         return null;
@@ -166,6 +223,256 @@ public class FHIRPathTree {
         return new FHIRPathTree(visitor.getRoot(), visitor.getPathNodeMap());
     }
 
+    /**
+     * Static factory method for creating lazily materialized FHIRPathTree instances from a {@link Resource}
+     *
+     * @param resource
+     *     the resource
+     * @return
+     *     a new FHIRPathTree instance whose nodes are built on first access
+     */
+    public static FHIRPathTree lazyTree(Resource resource) {
+        Objects.requireNonNull(resource);
+        return new FHIRPathTree(lazyNode(resource));
+    }
+
+    /**
+     * Static factory method for creating lazily materialized FHIRPathTree instances from an {@link Element}
+     *
+     * @param element
+     *     the element
+     * @return
+     *     a new FHIRPathTree instance whose nodes are built on first access
+     */
+    public static FHIRPathTree lazyTree(Element element) {
+        Objects.requireNonNull(element);
+        return new FHIRPathTree(lazyNode(element));
+    }
+
+    /**
+     * Whether the nodes of this FHIRPathTree are materialized on first access
+     *
+     * @return
+     *     true if this FHIRPathTree was created by one of the lazyTree factory methods, otherwise false
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    private static FHIRPathNode lazyNode(Visitable visitable) {
+        String name = ModelSupport.getTypeName(visitable.getClass());
+        return lazyNode(name, -1, path(null, name, -1), visitable);
+    }
+
+    private static FHIRPathNode lazyNode(String name, int index, String path, Visitable visitable) {
+        FHIRPathAbstractNode.Builder builder;
+        FHIRPathSystemValue value = null;
+        if (visitable instanceof Resource) {
+            builder = FHIRPathResourceNode.builder((Resource) visitable);
+        } else if (visitable instanceof Quantity) {
+            Quantity quantity = (Quantity) visitable;
+            builder = FHIRPathQuantityNode.builder(quantity);
+            value = FHIRPathQuantityValue.quantityValue(quantity);
+        } else {
+            builder = FHIRPathElementNode.builder((Element) visitable);
+        }
+
+        // a single level visit to collect the value and the (not yet built) children, in the same order as BuildingVisitor
+        ChildCollectingVisitor visitor = new ChildCollectingVisitor(value);
+        visitable.accept(name, index, visitor);
+
+        if (visitor.value != null) {
+            builder.value(visitor.value);
+        }
+
+        return builder.name(name).path(path).lazyChildren(new LazyChildren(path, visitor.entries)).build();
+    }
+
+    private static String path(String parentPath, String elementName, int elementIndex) {
+        if (ModelSupport.isKeyword(elementName)) {
+            elementName = ModelSupport.delimit(elementName);
+        }
+        String segment = (elementIndex != -1) ? elementName + "[" + elementIndex + "]" : elementName;
+        return (parentPath != null) ? parentPath + "." + segment : segment;
+    }
+
+    /**
+     * A child that has been discovered but not yet built
+     */
+    private static class PendingChild {
+        private final String name;
+        private final int index;
+        private final Visitable visitable;
+
+        private PendingChild(String name, int index, Visitable visitable) {
+            this.name = name;
+            this.index = index;
+            this.visitable = visitable;
+        }
+    }
+
+    /**
+     * An unmodifiable collection of child nodes that is built on first access and memoized
+     */
+    private static class LazyChildren extends AbstractCollection<FHIRPathNode> {
+        private final String path;
+        private List<Object> entries;
+        private volatile List<FHIRPathNode> children;
+
+        private LazyChildren(String path, List<Object> entries) {
+            this.path = path;
+            this.entries = entries;
+        }
+
+        private List<FHIRPathNode> children() {
+            List<FHIRPathNode> result = children;
+            if (result == null) {
+                synchronized (this) {
+                    result = children;
+                    if (result == null) {
+                        result = new ArrayList<>(entries.size());
+                        for (Object entry : entries) {
+                            if (entry instanceof PendingChild) {
+                                PendingChild child = (PendingChild) entry;
+                                result.add(lazyNode(child.name, child.index, path(path, child.name, child.index), child.visitable));
+                            } else {
+                                result.add((FHIRPathNode) entry);
+                            }
+                        }
+                        result = Collections.unmodifiableList(result);
+                        children = result;
+                        entries = null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Iterator<FHIRPathNode> iterator() {
+            return children().iterator();
+        }
+
+        @Override
+        public int size() {
+            return children().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            List<FHIRPathNode> result = children;
+            if (result != null) {
+                return result.isEmpty();
+            }
+            synchronized (this) {
+                return (children != null) ? children.isEmpty() : entries.isEmpty();
+            }
+        }
+    }
+
+    /**
+     * Visits a single level of a Resource or Element, collecting its system value and its direct children without
+     * descending into them
+     */
+    private static class ChildCollectingVisitor extends DefaultVisitor {
+        private final List<Object> entries = new ArrayList<>();
+        private FHIRPathSystemValue value;
+        private int depth = 0;
+
+        private ChildCollectingVisitor(FHIRPathSystemValue value) {
+            super(false);
+            if (value != null) {
+                value(value);
+            }
+        }
+
+        private void value(FHIRPathSystemValue value) {
+            // same semantics as FHIRPathAbstractNode.Builder.value(FHIRPathSystemValue)
+            entries.remove(this.value);
+            this.value = value;
+            entries.add(value);
+        }
+
+        @Override
+        public boolean visit(java.lang.String elementName, int elementIndex, Visitable visitable) {
+            return depth == 1;
+        }
+
+        @Override
+        public void visitStart(java.lang.String elementName, int elementIndex, Element element) {
+            if (++depth == 2) {
+                entries.add(new PendingChild(elementName, elementIndex, element));
+            }
+        }
+
+        @Override
+        public void visitStart(java.lang.String elementName, int elementIndex, Resource resource) {
+            if (++depth == 2) {
+                entries.add(new PendingChild(elementName, elementIndex, resource));
+            }
+        }
+
+        @Override
+        public void visitEnd(java.lang.String elementName, int elementIndex, Element element) {
+            depth--;
+        }
+
+        @Override
+        public void visitEnd(java.lang.String elementName, int elementIndex, Resource resource) {
+            depth--;
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, BigDecimal value) {
+            value(FHIRPathDecimalValue.decimalValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, byte[] value) {
+            value(FHIRPathStringValue.stringValue(elementName, Base64.getEncoder().encodeToString(value)));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, java.lang.Boolean value) {
+            value(FHIRPathBooleanValue.booleanValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, java.lang.Integer value) {
+            value(FHIRPathIntegerValue.integerValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, java.lang.String value) {
+            value(FHIRPathStringValue.stringValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, LocalDate value) {
+            value(FHIRPathDateTimeValue.dateTimeValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, LocalTime value) {
+            value(FHIRPathTimeValue.timeValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, Year value) {
+            value(FHIRPathDateTimeValue.dateTimeValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, YearMonth value) {
+            value(FHIRPathDateTimeValue.dateTimeValue(elementName, value));
+        }
+
+        @Override
+        public void visit(java.lang.String elementName, ZonedDateTime value) {
+            value(FHIRPathDateTimeValue.dateTimeValue(elementName, value));
+        }
+    }
+
     private static class BuildingVisitor extends PathAwareVisitor {
         private Stack<FHIRPathNode.Builder> builderStack = new Stack<>();
         private FHIRPathNode root;
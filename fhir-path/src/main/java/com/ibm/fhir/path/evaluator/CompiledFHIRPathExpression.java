@@ -0,0 +1,528 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.evaluator;
+
+import static com.ibm.fhir.core.util.LRUCache.createLRUCache;
+import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_FALSE;
+import static com.ibm.fhir.path.evaluator.FHIRPathEvaluator.SINGLETON_TRUE;
+import static com.ibm.fhir.path.util.FHIRPathUtil.empty;
+import static com.ibm.fhir.path.util.FHIRPathUtil.evaluatesToTrue;
+import static com.ibm.fhir.path.util.FHIRPathUtil.getInteger;
+import static com.ibm.fhir.path.util.FHIRPathUtil.getSingleton;
+import static com.ibm.fhir.path.util.FHIRPathUtil.isSingleton;
+import static com.ibm.fhir.path.util.FHIRPathUtil.singleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.RuleNode;
+
+import com.ibm.fhir.path.FHIRPathBaseVisitor;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathParser;
+import com.ibm.fhir.path.FHIRPathParser.ExpressionContext;
+import com.ibm.fhir.path.FHIRPathType;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.exception.FHIRPathException;
+import com.ibm.fhir.path.util.FHIRPathUtil;
+
+/**
+ * A FHIRPath expression that has been compiled once into a tree of specialized nodes that can be evaluated
+ * repeatedly without walking the ANTLR parse tree.
+ *
+ * <p>Member access chains, unions, indexers, type expressions ({@code is} / {@code as}), external constants,
+ * literals and the {@code where}, {@code select} and {@code exists} functions are compiled. Any other part of the
+ * expression is delegated to the {@link FHIRPathEvaluator}, which remains the reference implementation.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+public final class CompiledFHIRPathExpression {
+    private static final int COMPILED_EXPRESSION_CACHE_MAX_ENTRIES = 512;
+    private static final Map<String, CompiledFHIRPathExpression> COMPILED_EXPRESSION_CACHE = createLRUCache(COMPILED_EXPRESSION_CACHE_MAX_ENTRIES);
+
+    private final String expr;
+    private final Node root;
+    private final boolean interpreted;
+    private final boolean externalConstants;
+
+    private CompiledFHIRPathExpression(String expr, Node root, boolean interpreted, boolean externalConstants) {
+        this.expr = expr;
+        this.root = root;
+        this.interpreted = interpreted;
+        this.externalConstants = externalConstants;
+    }
+
+    /**
+     * The FHIRPath expression that was compiled
+     *
+     * @return
+     *     the FHIRPath expression that was compiled
+     */
+    public String getExpression() {
+        return expr;
+    }
+
+    /**
+     * Indicates whether every part of this expression was compiled
+     *
+     * @return
+     *     true if no part of this expression is delegated to the {@link FHIRPathEvaluator}, otherwise false
+     */
+    public boolean isFullyCompiled() {
+        return !interpreted;
+    }
+
+    /**
+     * Evaluate this expression using an existing evaluation context against the root of its tree
+     *
+     * @param evaluationContext
+     *     the evaluation context
+     * @return
+     *     the result of evaluation as a non-null, potentially empty collection of FHIRPath nodes
+     * @throws NullPointerException
+     *     if any of the parameters are null
+     * @throws FHIRPathException
+     *     if an exception occurs during evaluation
+     */
+    public Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext) throws FHIRPathException {
+        return evaluate(evaluationContext, singleton(evaluationContext.getTree().getRoot()));
+    }
+
+    /**
+     * Evaluate this expression using an existing evaluation context against a collection of FHIRPath nodes
+     *
+     * @param evaluationContext
+     *     the evaluation context
+     * @param initialContext
+     *     the initial context as a non-null, potentially empty collection of FHIRPath nodes
+     * @return
+     *     the result of evaluation as a non-null, potentially empty collection of FHIRPath nodes
+     * @throws NullPointerException
+     *     if any of the parameters are null
+     * @throws FHIRPathException
+     *     if an exception occurs during evaluation
+     */
+    public Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, Collection<FHIRPathNode> initialContext) throws FHIRPathException {
+        return evaluate(null, evaluationContext, initialContext);
+    }
+
+    /**
+     * @param evaluator
+     *     the evaluator used for the parts of the expression that are not compiled, or null to create one on demand
+     */
+    Collection<FHIRPathNode> evaluate(FHIRPathEvaluator evaluator, EvaluationContext evaluationContext, Collection<FHIRPathNode> initialContext) throws FHIRPathException {
+        Objects.requireNonNull(evaluationContext);
+        Objects.requireNonNull(initialContext);
+        try {
+            evaluationContext.setExternalConstant("context", initialContext);
+            if (interpreted || externalConstants) {
+                FHIRPathEvaluator.setDateTimeConstants(evaluationContext);
+            }
+            return Collections.unmodifiableCollection(root.evaluate(new Frame(evaluator, evaluationContext), initialContext));
+        } catch (Exception e) {
+            throw new FHIRPathException("An error occurred while evaluating expression: " + expr, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expr;
+    }
+
+    /**
+     * Static factory method for compiling a FHIRPath expression. Compiled expressions are cached by expression.
+     *
+     * @param expr
+     *     the FHIRPath expression to compile
+     * @return
+     *     the compiled expression
+     * @throws NullPointerException
+     *     if the expression is null
+     * @throws FHIRPathException
+     *     if the expression is not syntactically valid
+     */
+    public static CompiledFHIRPathExpression compile(String expr) throws FHIRPathException {
+        Objects.requireNonNull(expr);
+        CompiledFHIRPathExpression compiled = COMPILED_EXPRESSION_CACHE.get(expr);
+        if (compiled == null) {
+            try {
+                Compiler compiler = new Compiler();
+                Node root = compiler.visit(FHIRPathUtil.compile(expr));
+                compiled = new CompiledFHIRPathExpression(expr, root, compiler.interpreted, compiler.externalConstants);
+            } catch (Exception e) {
+                throw new FHIRPathException("An error occurred while compiling expression: " + expr, e);
+            }
+            COMPILED_EXPRESSION_CACHE.put(expr, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * The per-evaluation state shared by the nodes of a compiled expression
+     */
+    private static class Frame {
+        private final EvaluationContext evaluationContext;
+        private FHIRPathEvaluator evaluator;
+
+        private Frame(FHIRPathEvaluator evaluator, EvaluationContext evaluationContext) {
+            this.evaluator = evaluator;
+            this.evaluationContext = evaluationContext;
+        }
+
+        private FHIRPathEvaluator evaluator() {
+            if (evaluator == null) {
+                evaluator = FHIRPathEvaluator.evaluator();
+            }
+            return evaluator;
+        }
+    }
+
+    /**
+     * A compiled part of an expression
+     */
+    private interface Node {
+        Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context);
+    }
+
+    /**
+     * Member access chain, e.g. {@code Patient.name.given}; each identifier matches either the type (closure) of a
+     * singleton input or the name of the children of the input nodes
+     */
+    private static class MemberNode implements Node {
+        private static final Map<FHIRPathType, Set<String>> CLOSURE_MAP = new ConcurrentHashMap<>();
+
+        private final Node input;
+        private final String[] identifiers;
+
+        private MemberNode(Node input, String... identifiers) {
+            this.input = input;
+            this.identifiers = identifiers;
+        }
+
+        private MemberNode append(String identifier) {
+            String[] identifiers = new String[this.identifiers.length + 1];
+            System.arraycopy(this.identifiers, 0, identifiers, 0, this.identifiers.length);
+            identifiers[this.identifiers.length] = identifier;
+            return new MemberNode(input, identifiers);
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Collection<FHIRPathNode> result = (input != null) ? input.evaluate(frame, context) : context;
+            for (String identifier : identifiers) {
+                if (isSingleton(result) && CLOSURE_MAP.computeIfAbsent(getSingleton(result).type(), MemberNode::closure).contains(identifier)) {
+                    continue;
+                }
+                List<FHIRPathNode> children = new ArrayList<>();
+                for (FHIRPathNode node : result) {
+                    for (FHIRPathNode child : node.children()) {
+                        if (identifier.equals(child.name())) {
+                            children.add(child);
+                        }
+                    }
+                }
+                result = children;
+            }
+            return result;
+        }
+
+        private static Set<String> closure(FHIRPathType type) {
+            if ("System".equals(type.namespace())) {
+                return Collections.emptySet();
+            }
+            // compute type name closure
+            Set<String> closure = new HashSet<>();
+            while (!FHIRPathType.FHIR_ANY.equals(type)) {
+                closure.add(type.getName());
+                type = type.baseType();
+            }
+            return closure;
+        }
+    }
+
+    private static class ConstantNode implements Node {
+        private final Collection<FHIRPathNode> value;
+
+        private ConstantNode(Collection<FHIRPathNode> value) {
+            this.value = value;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            return value;
+        }
+    }
+
+    private static class ExternalConstantNode implements Node {
+        private final String name;
+
+        private ExternalConstantNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            return frame.evaluationContext.getExternalConstant(name);
+        }
+    }
+
+    private static class UnionNode implements Node {
+        private final Node left;
+        private final Node right;
+
+        private UnionNode(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Set<FHIRPathNode> union = new LinkedHashSet<>(left.evaluate(frame, context));
+            union.addAll(right.evaluate(frame, context));
+            return new ArrayList<>(union);
+        }
+    }
+
+    private static class IndexerNode implements Node {
+        private final Node input;
+        private final Node index;
+
+        private IndexerNode(Node input, Node index) {
+            this.input = input;
+            this.index = index;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Collection<FHIRPathNode> nodes = input.evaluate(frame, context);
+            List<?> list = (nodes instanceof List) ? (List<?>) nodes : new ArrayList<>(nodes);
+            int i = getInteger(index.evaluate(frame, context));
+            if (i >= 0 && i < list.size()) {
+                return singleton((FHIRPathNode) list.get(i));
+            }
+            return empty();
+        }
+    }
+
+    private static class TypeNode implements Node {
+        private final Node input;
+        private final FHIRPathType type;
+        private final boolean is;
+
+        private TypeNode(Node input, FHIRPathType type, boolean is) {
+            this.input = input;
+            this.type = type;
+            this.is = is;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Collection<FHIRPathNode> nodes = input.evaluate(frame, context);
+            if (is) {
+                if (nodes.size() > 1) {
+                    throw new IllegalArgumentException(String.format("Input collection has %d items, but only 1 is allowed", nodes.size()));
+                }
+                return (!nodes.isEmpty() && type.isAssignableFrom(getSingleton(nodes).type())) ? SINGLETON_TRUE : SINGLETON_FALSE;
+            }
+            Collection<FHIRPathNode> result = new ArrayList<>();
+            for (FHIRPathNode node : nodes) {
+                if (type.isAssignableFrom(node.type())) {
+                    result.add(node);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The {@code where}, {@code select} and {@code exists} functions, with the argument evaluated against each input node
+     */
+    private static class IterationNode implements Node {
+        private final Node input;
+        private final String functionName;
+        private final Node argument;
+
+        private IterationNode(Node input, String functionName, Node argument) {
+            this.input = input;
+            this.functionName = functionName;
+            this.argument = argument;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Collection<FHIRPathNode> nodes = (input != null) ? input.evaluate(frame, context) : context;
+            switch (functionName) {
+            case "where": {
+                Collection<FHIRPathNode> result = new ArrayList<>();
+                for (FHIRPathNode node : nodes) {
+                    if (evaluatesToTrue(argument.evaluate(frame, singleton(node)))) {
+                        result.add(node);
+                    }
+                }
+                return result;
+            }
+            case "select": {
+                Collection<FHIRPathNode> result = new ArrayList<>();
+                for (FHIRPathNode node : nodes) {
+                    result.addAll(argument.evaluate(frame, singleton(node)));
+                }
+                return result;
+            }
+            default:
+                // exists; the argument is evaluated against the input collection as a whole
+                if (argument == null) {
+                    return !nodes.isEmpty() ? SINGLETON_TRUE : SINGLETON_FALSE;
+                }
+                return evaluatesToTrue(argument.evaluate(frame, nodes)) ? SINGLETON_TRUE : SINGLETON_FALSE;
+            }
+        }
+    }
+
+    /**
+     * A part of the expression that is evaluated by the {@link FHIRPathEvaluator}
+     */
+    private static class InterpretedNode implements Node {
+        private final Node input;
+        private final ParseTree tree;
+
+        private InterpretedNode(Node input, ParseTree tree) {
+            this.input = input;
+            this.tree = tree;
+        }
+
+        @Override
+        public Collection<FHIRPathNode> evaluate(Frame frame, Collection<FHIRPathNode> context) {
+            Collection<FHIRPathNode> nodes = (input != null) ? input.evaluate(frame, context) : context;
+            return frame.evaluator().evaluate(frame.evaluationContext, tree, nodes);
+        }
+    }
+
+    /**
+     * Compiles the parse tree of an expression; anything without a specialized node becomes an {@link InterpretedNode}
+     */
+    private static class Compiler extends FHIRPathBaseVisitor<Node> {
+        private boolean interpreted = false;
+        private boolean externalConstants = false;
+
+        private Node interpret(Node input, ParseTree tree) {
+            interpreted = true;
+            return new InterpretedNode(input, tree);
+        }
+
+        @Override
+        public Node visitChildren(RuleNode node) {
+            return interpret(null, node);
+        }
+
+        @Override
+        public Node visitTermExpression(FHIRPathParser.TermExpressionContext ctx) {
+            return visit(ctx.term());
+        }
+
+        @Override
+        public Node visitInvocationTerm(FHIRPathParser.InvocationTermContext ctx) {
+            return invocation(null, ctx.invocation());
+        }
+
+        @Override
+        public Node visitInvocationExpression(FHIRPathParser.InvocationExpressionContext ctx) {
+            return invocation(visit(ctx.expression()), ctx.invocation());
+        }
+
+        @Override
+        public Node visitParenthesizedTerm(FHIRPathParser.ParenthesizedTermContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Node visitUnionExpression(FHIRPathParser.UnionExpressionContext ctx) {
+            return new UnionNode(visit(ctx.expression(0)), visit(ctx.expression(1)));
+        }
+
+        @Override
+        public Node visitIndexerExpression(FHIRPathParser.IndexerExpressionContext ctx) {
+            return new IndexerNode(visit(ctx.expression(0)), visit(ctx.expression(1)));
+        }
+
+        @Override
+        public Node visitTypeExpression(FHIRPathParser.TypeExpressionContext ctx) {
+            FHIRPathType type = FHIRPathType.from(ctx.typeSpecifier().getText().replace("`", ""));
+            if (type == null) {
+                return interpret(null, ctx);
+            }
+            return new TypeNode(visit(ctx.expression()), type, "is".equals(ctx.getChild(1).getText()));
+        }
+
+        @Override
+        public Node visitExternalConstantTerm(FHIRPathParser.ExternalConstantTermContext ctx) {
+            FHIRPathParser.IdentifierContext identifier = ctx.externalConstant().identifier();
+            if (identifier == null) {
+                return interpret(null, ctx);
+            }
+            externalConstants = true;
+            return new ExternalConstantNode(identifier(identifier));
+        }
+
+        @Override
+        public Node visitLiteralTerm(FHIRPathParser.LiteralTermContext ctx) {
+            try {
+                // literals do not depend on the input collection so they are evaluated once
+                return new ConstantNode(FHIRPathEvaluator.evaluator().evaluate(new EvaluationContext(), ctx, empty()));
+            } catch (Exception e) {
+                return interpret(null, ctx);
+            }
+        }
+
+        private Node invocation(Node input, FHIRPathParser.InvocationContext ctx) {
+            if (ctx instanceof FHIRPathParser.MemberInvocationContext) {
+                String identifier = identifier(((FHIRPathParser.MemberInvocationContext) ctx).identifier());
+                if (input instanceof MemberNode) {
+                    return ((MemberNode) input).append(identifier);
+                }
+                return new MemberNode(input, identifier);
+            }
+            if (ctx instanceof FHIRPathParser.ThisInvocationContext) {
+                return (input != null) ? input : new MemberNode(null);
+            }
+            if (ctx instanceof FHIRPathParser.FunctionInvocationContext) {
+                FHIRPathParser.FunctionContext function = ((FHIRPathParser.FunctionInvocationContext) ctx).function();
+                String functionName = identifier(function.identifier());
+                List<ExpressionContext> arguments = (function.paramList() != null) ? function.paramList().expression() : Collections.emptyList();
+                switch (functionName) {
+                case "where":
+                case "select":
+                    if (arguments.size() == 1) {
+                        return new IterationNode(input, functionName, visit(arguments.get(0)));
+                    }
+                    break;
+                case "exists":
+                    if (arguments.size() <= 1) {
+                        return new IterationNode(input, functionName, arguments.isEmpty() ? null : visit(arguments.get(0)));
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+            return interpret(input, ctx);
+        }
+
+        private String identifier(FHIRPathParser.IdentifierContext ctx) {
+            String text = ctx.getText();
+            return text.startsWith("`") ? text.substring(1, text.length() - 1) : text;
+        }
+    }
+}
@@ -252,13 +252,62 @@ public class FHIRPathEvaluator {
         try {
             evaluationContext.setExternalConstant("context", initialContext);
             setDateTimeConstants(evaluationContext);
-            return visitor.evaluate(evaluationContext, getExpressionContext(expr), initialContext);
+            return Collections.unmodifiableCollection(visitor.evaluate(evaluationContext, getExpressionContext(expr), initialContext));
         } catch (Exception e) {
             throw new FHIRPathException("An error occurred while evaluating expression: " + expr, e);
         }
     }
 
-    private void setDateTimeConstants(EvaluationContext evaluationContext) {
+    /**
+     * Evaluate a compiled FHIRPath expression using an existing evaluation context
+     *
+     * @param evaluationContext
+     *     the evaluation context
+     * @param expr
+     *     the compiled FHIRPath expression to evaluate
+     * @return
+     *     the result of evaluation as a non-null, potentially empty collection of FHIRPath nodes
+     * @throws NullPointerException
+     *     if any of the parameters are null
+     * @throws FHIRPathException
+     *     if an exception occurs during evaluation
+     * @see CompiledFHIRPathExpression
+     */
+    public Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, CompiledFHIRPathExpression expr) throws FHIRPathException {
+        return evaluate(evaluationContext, expr, singleton(evaluationContext.getTree().getRoot()));
+    }
+
+    /**
+     * Evaluate a compiled FHIRPath expression using an existing EvaluationContext against a collection of FHIRPath nodes.
+     * Any part of the expression that is not compiled is evaluated by this FHIRPathEvaluator.
+     *
+     * @param evaluationContext
+     *     the evaluation context
+     * @param expr
+     *     the compiled FHIRPath expression to evaluate
+     * @param initialContext
+     *     the initial context as a non-null, potentially empty collection of FHIRPath nodes
+     * @return
+     *     the result of evaluation as a collection of FHIRPath nodes
+     * @throws NullPointerException
+     *     if any of the parameters are null
+     * @throws FHIRPathException
+     *     if an exception occurs during evaluation
+     * @see CompiledFHIRPathExpression
+     */
+    public Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, CompiledFHIRPathExpression expr, Collection<FHIRPathNode> initialContext) throws FHIRPathException {
+        return expr.evaluate(this, evaluationContext, initialContext);
+    }
+
+    /**
+     * Evaluate a fragment of a parsed FHIRPath expression; used by {@link CompiledFHIRPathExpression} for the parts of
+     * an expression that it does not compile
+     */
+    Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, ParseTree tree, Collection<FHIRPathNode> initialContext) {
+        return visitor.evaluate(evaluationContext, tree, initialContext);
+    }
+
+    static void setDateTimeConstants(EvaluationContext evaluationContext) {
         ZonedDateTime now = ZonedDateTime.now();
         evaluationContext.setExternalConstant("now", singleton(dateTimeValue(now)));
         evaluationContext.setExternalConstant("today", singleton(dateValue(LocalDate.from(now))));
@@ -295,13 +344,13 @@ public class FHIRPathEvaluator {
 
         private EvaluatingVisitor() { }
 
-        private Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, ExpressionContext expressionContext, Collection<FHIRPathNode> initialContext) {
+        private Collection<FHIRPathNode> evaluate(EvaluationContext evaluationContext, ParseTree tree, Collection<FHIRPathNode> initialContext) {
             reset();
             this.evaluationContext = evaluationContext;
             contextStack.push(initialContext);
-            Collection<FHIRPathNode> result = expressionContext.accept(this);
+            Collection<FHIRPathNode> result = tree.accept(this);
             contextStack.pop();
-            return Collections.unmodifiableCollection(result);
+            return result;
         }
 
         private EvaluationContext getEvaluationContext() {
@@ -1343,24 +1392,26 @@ public class FHIRPathEvaluator {
         /**
          * Create an evaluation context where the passed resource is the context root.
          * Sets %resource and %rootResource external constants to the passed resource, but these can be overridden.
+         * The nodes of the underlying {@link FHIRPathTree} are materialized on first access.
          *
          * @param resource
          *     the resource
          */
         public EvaluationContext(Resource resource) {
-            this(FHIRPathTree.tree(resource));
+            this(FHIRPathTree.lazyTree(resource));
             externalConstantMap.put("rootResource", singleton(tree.getRoot()));
             externalConstantMap.put("resource", singleton(tree.getRoot()));
         }
 
         /**
          * Create an evaluation context where the passed element is the context root.
+         * The nodes of the underlying {@link FHIRPathTree} are materialized on first access.
          *
          * @param element
          *     the element
          */
         public EvaluationContext(Element element) {
-            this(FHIRPathTree.tree(element));
+            this(FHIRPathTree.lazyTree(element));
         }
 
         private EvaluationContext(FHIRPathTree tree) {
@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static com.ibm.fhir.path.util.FHIRPathUtil.singleton;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Date;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.evaluator.CompiledFHIRPathExpression;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+import com.ibm.fhir.path.exception.FHIRPathException;
+
+/**
+ * Checks compiled FHIRPath expressions against the FHIRPathEvaluator (the reference implementation) using the
+ * expressions from the FHIRPath specification tests.
+ */
+public class CompiledFHIRPathExpressionTest {
+    @Test
+    public void testConformance() throws Exception {
+        FHIRPathEvaluator evaluator = FHIRPathEvaluator.evaluator();
+        int count = 0;
+        for (Object[] testData : FHIRPathSpecTest.provideAllTestData()) {
+            String testName = (String) testData[0];
+            EvaluationContext context = (EvaluationContext) testData[1];
+            String expr = ((FHIRPathSpecTest.TestExpression) testData[2]).text;
+
+            Collection<FHIRPathNode> expected = null;
+            try {
+                expected = evaluator.evaluate(context, expr);
+            } catch (FHIRPathException e) {
+                // expected to fail below as well
+            }
+
+            try {
+                CompiledFHIRPathExpression compiled = CompiledFHIRPathExpression.compile(expr);
+                Collection<FHIRPathNode> actual = compiled.evaluate(context);
+                if (expected == null) {
+                    fail(testName + ": expected an exception for expression: " + expr + " but obtained " + actual);
+                }
+                assertEquals(new ArrayList<>(actual), new ArrayList<>(expected), testName + ": " + expr);
+                assertEquals(new ArrayList<>(evaluator.evaluate(context, compiled, singleton(context.getTree().getRoot()))),
+                        new ArrayList<>(expected), testName + ": " + expr);
+            } catch (FHIRPathException e) {
+                if (expected != null) {
+                    fail(testName + ": unexpected exception for expression: " + expr, e);
+                }
+            }
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testCompile() throws Exception {
+        CompiledFHIRPathExpression compiled = CompiledFHIRPathExpression.compile("Patient.name.given | Patient.birthDate");
+        assertTrue(compiled.isFullyCompiled());
+        assertSame(CompiledFHIRPathExpression.compile("Patient.name.given | Patient.birthDate"), compiled);
+        assertEquals(compiled.getExpression(), "Patient.name.given | Patient.birthDate");
+
+        assertTrue(CompiledFHIRPathExpression.compile("(Observation.value as Quantity).value").isFullyCompiled());
+        assertTrue(CompiledFHIRPathExpression.compile("Patient.name.where(use = 'official')").evaluate(new EvaluationContext(patient())).isEmpty());
+        assertFalse(CompiledFHIRPathExpression.compile("Patient.name.where(use = 'official')").isFullyCompiled());
+
+        try {
+            CompiledFHIRPathExpression.compile("Patient.name.");
+            fail();
+        } catch (FHIRPathException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEvaluate() throws Exception {
+        EvaluationContext evaluationContext = new EvaluationContext(patient());
+
+        Collection<FHIRPathNode> result = CompiledFHIRPathExpression.compile("Patient.name.given").evaluate(evaluationContext);
+        assertEquals(result.size(), 2);
+
+        result = CompiledFHIRPathExpression.compile("Patient.name.given[1]").evaluate(evaluationContext);
+        assertEquals(result.iterator().next().path(), "Patient.name[0].given[1]");
+
+        result = CompiledFHIRPathExpression.compile("%resource.birthDate.exists()").evaluate(evaluationContext);
+        assertEquals(result, FHIRPathEvaluator.SINGLETON_TRUE);
+
+        result = CompiledFHIRPathExpression.compile("name.given.where($this.exists()).select(%context)").evaluate(evaluationContext);
+        assertEquals(result.size(), 2);
+    }
+
+    private static Patient patient() {
+        return Patient.builder()
+                .name(HumanName.builder()
+                    .given(com.ibm.fhir.model.type.String.of("Peter"))
+                    .given(com.ibm.fhir.model.type.String.of("Jim"))
+                    .build())
+                .birthDate(Date.of("1974-12-25"))
+                .build();
+    }
+}
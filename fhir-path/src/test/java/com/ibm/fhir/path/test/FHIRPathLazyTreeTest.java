@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.path.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.examples.ExamplesUtil;
+import com.ibm.fhir.examples.Index;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Date;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.FHIRPathTree;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
+import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
+
+/**
+ * Tests that lazily materialized FHIRPath trees are equivalent to eagerly built ones.
+ */
+public class FHIRPathLazyTreeTest {
+    @Test
+    public void testExamples() throws Exception {
+        int count = 0;
+        try (BufferedReader index = new BufferedReader(ExamplesUtil.indexReader(Index.MINIMAL_JSON))) {
+            String line;
+            while ((line = index.readLine()) != null) {
+                String[] tokens = line.trim().split("\\s+");
+                if (tokens.length != 2) {
+                    continue;
+                }
+                Resource resource;
+                try (Reader reader = ExamplesUtil.resourceReader(tokens[1])) {
+                    resource = FHIRParser.parser(Format.JSON).parse(reader);
+                } catch (FHIRParserException e) {
+                    continue;
+                }
+                assertEquivalent(FHIRPathTree.tree(resource), FHIRPathTree.lazyTree(resource), tokens[1]);
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testMemoized() throws Exception {
+        FHIRPathTree tree = FHIRPathTree.lazyTree(patient());
+        assertTrue(tree.isLazy());
+        assertFalse(FHIRPathTree.tree(patient()).isLazy());
+
+        Collection<FHIRPathNode> children = tree.getRoot().children();
+        Iterator<FHIRPathNode> first = children.iterator();
+        Iterator<FHIRPathNode> second = tree.getRoot().children().iterator();
+        while (first.hasNext()) {
+            assertSame(first.next(), second.next());
+        }
+
+        FHIRPathNode given = tree.getNode("Patient.name[0].given[1]");
+        assertEquals(given.getValue().asStringValue().string(), "Jim");
+        assertSame(tree.getNode("Patient.name[0].given[1]"), given);
+        assertSame(tree.getParent(given), tree.getNode("Patient.name[0]"));
+        assertEquals(tree.getSibling(given, "family").getValue().asStringValue().string(), "Chalmers");
+        assertNull(tree.getNode("Patient.name[1]"));
+        assertNull(tree.getNode("Patient.nam"));
+        assertNull(tree.getNode("Observation.name[0]"));
+    }
+
+    @Test
+    public void testEvaluationContext() throws Exception {
+        EvaluationContext evaluationContext = new EvaluationContext(patient());
+        assertTrue(evaluationContext.getTree().isLazy());
+        Collection<FHIRPathNode> result = FHIRPathEvaluator.evaluator().evaluate(evaluationContext, "Patient.birthDate");
+        assertEquals(result.size(), 1);
+        assertEquals(result.iterator().next().path(), "Patient.birthDate");
+    }
+
+    private static void assertEquivalent(FHIRPathTree expected, FHIRPathTree actual, String message) {
+        List<FHIRPathNode> expectedNodes = expected.getRoot().stream().collect(Collectors.toList());
+        List<FHIRPathNode> actualNodes = actual.getRoot().stream().collect(Collectors.toList());
+        assertEquals(actualNodes.size(), expectedNodes.size(), message);
+        for (int i = 0; i < expectedNodes.size(); i++) {
+            FHIRPathNode expectedNode = expectedNodes.get(i);
+            FHIRPathNode actualNode = actualNodes.get(i);
+            assertEquals(actualNode.getClass(), expectedNode.getClass(), message);
+            assertEquals(actualNode.name(), expectedNode.name(), message);
+            assertEquals(actualNode.path(), expectedNode.path(), message);
+            assertEquals(actualNode.type(), expectedNode.type(), message);
+            assertEquals(actualNode.getValue(), expectedNode.getValue(), message);
+            if (expectedNode.path() != null) {
+                assertSame(actual.getNode(expectedNode.path()), actualNode, message);
+            }
+        }
+    }
+
+    private static Patient patient() {
+        return Patient.builder()
+                .id("1")
+                .name(HumanName.builder()
+                    .given(com.ibm.fhir.model.type.String.of("Peter"))
+                    .given(com.ibm.fhir.model.type.String.of("Jim"))
+                    .family(com.ibm.fhir.model.type.String.of("Chalmers"))
+                    .build())
+                .birthDate(Date.of("1974-12-25"))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Objects;
+
+import com.ibm.fhir.persistence.RawResource;
+
+/**
+ * A raw resource which keeps the payload as it is stored and decodes its JSON each time it is read.
+ *
+ * <p>A page of search results holds only the encoded payloads, which are several times smaller than their JSON,
+ * and the JSON of each resource is decoded while it is written to the response.
+ */
+public class EncodedRawResource extends RawResource {
+    private final PayloadCodecRegistry payloadCodecRegistry;
+    private final byte[] data;
+
+    /**
+     * @param resourceType the resource type name, e.g. "Patient"
+     * @param logicalId the logical id of the resource
+     * @param versionId the version of the resource
+     * @param lastUpdated the time this version was stored
+     * @param deleted whether this version is a deletion marker
+     * @param payloadCodecRegistry the registry used to decode the payload
+     * @param data the payload, as encoded by the payload codec registry
+     */
+    public EncodedRawResource(String resourceType, String logicalId, int versionId, Instant lastUpdated, boolean deleted,
+            PayloadCodecRegistry payloadCodecRegistry, byte[] data) {
+        super(resourceType, logicalId, versionId, lastUpdated, deleted);
+        this.payloadCodecRegistry = Objects.requireNonNull(payloadCodecRegistry, "payloadCodecRegistry");
+        this.data = Objects.requireNonNull(data, "data");
+    }
+
+    /**
+     * Decodes the JSON of the resource. The JSON is not kept, so each call decodes it again.
+     *
+     * @throws UncheckedIOException if the payload can't be decoded
+     */
+    @Override
+    public byte[] getJson() {
+        long decodedLength = payloadCodecRegistry.getDecodedLength(data);
+        ByteArrayOutputStream json = new ByteArrayOutputStream(decodedLength > 0 ? (int) decodedLength : data.length * 4);
+        try {
+            writeTo(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to decode the payload of " + getResourceType() + "/" + getLogicalId(), e);
+        }
+        return json.toByteArray();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return payloadCodecRegistry.decode(data);
+    }
+}
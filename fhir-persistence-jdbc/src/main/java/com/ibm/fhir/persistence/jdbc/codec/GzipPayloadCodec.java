@@ -0,0 +1,58 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The gzip payload codec. This is the default codec, and the one used by all the rows written before
+ * codecs were introduced. Its payloads are stored without a codec id prefix.
+ */
+public class GzipPayloadCodec implements PayloadCodec {
+    public static final String NAME = "gzip";
+
+    // The first byte of the gzip magic number
+    public static final byte ID = 0x1f;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public OutputStream encode(String resourceType, OutputStream out) throws IOException {
+        return new GZIPOutputStream(out);
+    }
+
+    @Override
+    public InputStream decode(byte[] data, int offset, int length) throws IOException {
+        return new GZIPInputStream(new ByteArrayInputStream(data, offset, length));
+    }
+
+    @Override
+    public long getDecodedLength(byte[] data, int offset, int length) {
+        if (length < 4) {
+            return -1;
+        }
+        // ISIZE - the size of the uncompressed data modulo 2^32, little-endian
+        int end = offset + length;
+        return (data[end - 4] & 0xffL)
+                | (data[end - 3] & 0xffL) << 8
+                | (data[end - 2] & 0xffL) << 16
+                | (data[end - 1] & 0xffL) << 24;
+    }
+}
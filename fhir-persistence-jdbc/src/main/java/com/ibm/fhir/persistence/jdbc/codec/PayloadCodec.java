@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A codec for the payload (the DATA column) of the stored resources. The payload of a resource is its compact JSON,
+ * encoded by one of the codecs.
+ *
+ * <p>Each codec has an id, which is written as the first byte of every payload it encodes, so the payloads of
+ * different codecs can be mixed in the same table. The gzip codec is the exception: gzip data always starts with the
+ * magic number 0x1f 0x8b, so gzip payloads are stored without a prefix and the id {@link GzipPayloadCodec#ID} is
+ * reserved for them. This keeps the rows written before codecs were introduced readable.
+ *
+ * <p>Codecs other than the built-in ones are registered through the {@link java.util.ServiceLoader} mechanism
+ * and must be thread-safe.
+ *
+ * @see PayloadCodecRegistry
+ */
+public interface PayloadCodec {
+
+    /**
+     * @return the name of the codec, as used in the 'fhirServer/persistence/jdbc/payloadCodec' property
+     */
+    String getName();
+
+    /**
+     * @return the id of the codec, which prefixes its payloads
+     */
+    byte getId();
+
+    /**
+     * Returns a stream which encodes the JSON of a resource written to it. The encoded payload must be
+     * completely written to the given stream when the returned stream is closed.
+     *
+     * @param resourceType the resource type name, e.g. "Patient"
+     * @param out the stream to write the encoded payload to
+     */
+    OutputStream encode(String resourceType, OutputStream out) throws IOException;
+
+    /**
+     * Returns a stream which reads the JSON of a resource from an encoded payload.
+     *
+     * @param data the array which contains the encoded payload
+     * @param offset the offset of the encoded payload in the array (after the codec id, if any)
+     * @param length the length of the encoded payload
+     */
+    InputStream decode(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Returns the length of the JSON in an encoded payload, if it can be determined without decoding it.
+     *
+     * @param data the array which contains the encoded payload
+     * @param offset the offset of the encoded payload in the array (after the codec id, if any)
+     * @param length the length of the encoded payload
+     * @return the length of the decoded JSON, or -1 if it is not known
+     */
+    long getDecodedLength(byte[] data, int offset, int length);
+}
@@ -0,0 +1,180 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.codec;
+
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_PAYLOAD_CODEC;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ZSTD_DICTIONARY_DIR;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.config.FHIRConfiguration;
+import com.ibm.fhir.config.PropertyGroup;
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * This class encodes the payloads of the stored resources with the configured codec, and decodes the payloads
+ * of any of the registered codecs.
+ *
+ * <p>The codec used for new rows is set by the 'fhirServer/persistence/jdbc/payloadCodec' property of the default
+ * configuration, and defaults to gzip. Changing it doesn't affect existing rows, which are decoded with the codec
+ * they were written with.
+ *
+ * @see PayloadCodec
+ */
+public class PayloadCodecRegistry {
+    private static final Logger log = Logger.getLogger(PayloadCodecRegistry.class.getName());
+
+    private static volatile PayloadCodecRegistry instance;
+
+    private final Map<Byte, PayloadCodec> codecsById = new HashMap<>();
+    private final PayloadCodec defaultCodec;
+
+    /**
+     * @param codecs the codecs which can decode payloads
+     * @param defaultCodecName the name of the codec used to encode payloads
+     * @throws IllegalArgumentException if two codecs have the same id, a codec other than gzip has the gzip id,
+     *     or the default codec is not one of the codecs
+     */
+    public PayloadCodecRegistry(Collection<PayloadCodec> codecs, String defaultCodecName) {
+        PayloadCodec defaultCodec = null;
+        for (PayloadCodec codec : codecs) {
+            if (codec.getId() == GzipPayloadCodec.ID && !(codec instanceof GzipPayloadCodec)) {
+                throw new IllegalArgumentException("The payload codec id " + GzipPayloadCodec.ID + " is reserved for gzip");
+            }
+            PayloadCodec previous = codecsById.putIfAbsent(codec.getId(), codec);
+            if (previous != null) {
+                throw new IllegalArgumentException("The payload codecs '" + previous.getName() + "' and '" + codec.getName()
+                        + "' have the same id: " + codec.getId());
+            }
+            if (codec.getName().equals(defaultCodecName)) {
+                defaultCodec = codec;
+            }
+        }
+        if (defaultCodec == null) {
+            throw new IllegalArgumentException("Unknown payload codec: '" + defaultCodecName + "'");
+        }
+        this.defaultCodec = defaultCodec;
+    }
+
+    /**
+     * Returns the registry of the server, which is created from the default configuration on first use.
+     */
+    public static PayloadCodecRegistry getInstance() {
+        PayloadCodecRegistry result = instance;
+        if (result == null) {
+            synchronized (PayloadCodecRegistry.class) {
+                result = instance;
+                if (result == null) {
+                    result = instance = createFromConfiguration();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PayloadCodecRegistry createFromConfiguration() {
+        try {
+            String codecName = GzipPayloadCodec.NAME;
+            Path dictionaryDir = null;
+            PropertyGroup fhirConfig = FHIRConfiguration.getInstance().loadConfiguration();
+            if (fhirConfig != null) {
+                codecName = fhirConfig.getStringProperty(PROPERTY_JDBC_PAYLOAD_CODEC, GzipPayloadCodec.NAME);
+                String dictionaryDirName = fhirConfig.getStringProperty(PROPERTY_JDBC_ZSTD_DICTIONARY_DIR, null);
+                if (dictionaryDirName != null) {
+                    // Relative to the server directory, like the config directory
+                    dictionaryDir = Paths.get(FHIRConfiguration.getConfigHome()).resolve(dictionaryDirName);
+                }
+            }
+
+            List<PayloadCodec> codecs = new ArrayList<>();
+            codecs.add(new GzipPayloadCodec());
+            codecs.add(new ZstdPayloadCodec(dictionaryDir, ZstdPayloadCodec.DEFAULT_LEVEL));
+            for (PayloadCodec codec : ServiceLoader.load(PayloadCodec.class)) {
+                codecs.add(codec);
+            }
+
+            log.info("Using the '" + codecName + "' payload codec for new resources");
+            return new PayloadCodecRegistry(codecs, codecName);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to initialize the payload codecs", e);
+        }
+    }
+
+    /**
+     * @return the codec used to encode payloads
+     */
+    public PayloadCodec getDefaultCodec() {
+        return defaultCodec;
+    }
+
+    /**
+     * Generates the compact JSON of a resource and encodes it with the default codec.
+     *
+     * @return the payload, prefixed with the codec id if needed
+     */
+    public byte[] encode(Resource resource) throws FHIRGeneratorException, IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        if (defaultCodec.getId() != GzipPayloadCodec.ID) {
+            stream.write(defaultCodec.getId());
+        }
+        try (OutputStream out = defaultCodec.encode(resource.getClass().getSimpleName(), stream)) {
+            FHIRGenerator.generator(Format.JSON, false).generate(resource, out);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Returns a stream which reads the JSON of a resource from a payload encoded by any of the codecs.
+     *
+     * @throws IOException if the payload is empty or its codec is not registered
+     */
+    public InputStream decode(byte[] data) throws IOException {
+        PayloadCodec codec = getCodec(data);
+        int offset = codec.getId() == GzipPayloadCodec.ID ? 0 : 1;
+        return codec.decode(data, offset, data.length - offset);
+    }
+
+    /**
+     * Returns the length of the JSON in a payload, if it can be determined without decoding it.
+     *
+     * @return the length of the decoded JSON, or -1 if it is not known
+     */
+    public long getDecodedLength(byte[] data) {
+        PayloadCodec codec = data.length > 0 ? codecsById.get(data[0]) : null;
+        if (codec == null) {
+            return -1;
+        }
+        int offset = codec.getId() == GzipPayloadCodec.ID ? 0 : 1;
+        return codec.getDecodedLength(data, offset, data.length - offset);
+    }
+
+    private PayloadCodec getCodec(byte[] data) throws IOException {
+        if (data.length == 0) {
+            throw new IOException("The resource payload is empty");
+        }
+        PayloadCodec codec = codecsById.get(data[0]);
+        if (codec == null) {
+            throw new IOException("Unknown payload codec id: " + data[0]);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import com.ibm.fhir.model.util.ModelSupport;
+
+/**
+ * The zstd payload codec, with optional per-resource-type dictionaries.
+ *
+ * <p>The JSON of small resources compresses poorly on its own, because there is little repetition within a single
+ * resource. A dictionary trained on sample resources of a type holds the element names and values common to that
+ * type, which improves the compression ratio of those resources substantially.
+ *
+ * <p>Dictionaries are read from a directory of *.dict files. The file &lt;resourceType&gt;.dict, e.g. Patient.dict,
+ * is used to compress the resources of that type. Each zstd frame records the id of the dictionary it was compressed
+ * with, so all the dictionaries in the directory are available for decompression. A dictionary must therefore be kept
+ * (under another name, e.g. Patient.1.dict) as long as rows compressed with it exist. Dictionaries can be trained with
+ * the zstd command line tool (zstd --train) or with {@link #trainDictionary(List, int)}.
+ */
+public class ZstdPayloadCodec implements PayloadCodec {
+    private static final Logger log = Logger.getLogger(ZstdPayloadCodec.class.getName());
+
+    public static final String NAME = "zstd";
+    public static final byte ID = 0x01;
+    public static final int DEFAULT_LEVEL = 3;
+
+    private static final String DICTIONARY_SUFFIX = ".dict";
+
+    // The maximum size of a zstd frame header, which holds the content size and dictionary id
+    private static final int FRAME_HEADER_SIZE_MAX = 18;
+
+    private final int level;
+
+    // The dictionaries used to compress each resource type
+    private final Map<String, ZstdDictCompress> compressDictionaries = new ConcurrentHashMap<>();
+
+    // All the dictionaries, by dictionary id
+    private final Map<Long, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a codec without dictionaries, at the default compression level.
+     */
+    public ZstdPayloadCodec() {
+        this.level = DEFAULT_LEVEL;
+    }
+
+    /**
+     * Creates a codec with the dictionaries in the given directory.
+     *
+     * @param dictionaryDir the directory of the *.dict files, or null for no dictionaries
+     * @param level the zstd compression level
+     * @throws IOException if a dictionary can't be read
+     */
+    public ZstdPayloadCodec(Path dictionaryDir, int level) throws IOException {
+        this.level = level;
+        if (dictionaryDir != null) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dictionaryDir, "*" + DICTIONARY_SUFFIX)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    addDictionary(fileName.substring(0, fileName.length() - DICTIONARY_SUFFIX.length()), Files.readAllBytes(file));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a dictionary. If the name is a resource type name, the dictionary is used to compress the resources of
+     * that type. Otherwise it is only used to decompress the payloads that were compressed with it.
+     *
+     * @param name the name of the dictionary, e.g. "Patient"
+     * @param dictionary a dictionary in the zstd format, as produced by training
+     * @throws IllegalArgumentException if the dictionary has no id, or another dictionary has the same id
+     */
+    public void addDictionary(String name, byte[] dictionary) {
+        long dictionaryId = Zstd.getDictIdFromDict(dictionary);
+        if (dictionaryId == 0) {
+            throw new IllegalArgumentException("The zstd dictionary '" + name + "' has no dictionary id; only trained dictionaries are supported");
+        }
+        if (decompressDictionaries.putIfAbsent(dictionaryId, new ZstdDictDecompress(dictionary)) != null) {
+            throw new IllegalArgumentException("The zstd dictionary '" + name + "' has the same id as another dictionary: " + dictionaryId);
+        }
+        if (ModelSupport.isResourceType(name)) {
+            compressDictionaries.put(name, new ZstdDictCompress(dictionary, level));
+        }
+        log.info("Loaded zstd dictionary '" + name + "' with id " + dictionaryId);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public OutputStream encode(String resourceType, OutputStream out) throws IOException {
+        final ZstdDictCompress dictionary = compressDictionaries.get(resourceType);
+
+        // Compress the whole JSON at once, so that the frame records the content size
+        return new ByteArrayOutputStream() {
+            private boolean closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    try {
+                        out.write(dictionary != null ? Zstd.compress(toByteArray(), dictionary) : Zstd.compress(toByteArray(), level));
+                    } catch (ZstdException e) {
+                        throw new IOException("zstd compression failed", e);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public InputStream decode(byte[] data, int offset, int length) throws IOException {
+        byte[] frame = Arrays.copyOfRange(data, offset, offset + length);
+        long contentSize = Zstd.decompressedSize(frame);
+        if (contentSize <= 0 || contentSize > Integer.MAX_VALUE) {
+            throw new IOException("The zstd frame does not have a valid content size: " + contentSize);
+        }
+
+        try {
+            long dictionaryId = Zstd.getDictIdFromFrame(frame);
+            if (dictionaryId == 0) {
+                return new ByteArrayInputStream(Zstd.decompress(frame, (int) contentSize));
+            }
+            ZstdDictDecompress dictionary = decompressDictionaries.get(dictionaryId);
+            if (dictionary == null) {
+                throw new IOException("The zstd dictionary with id " + dictionaryId + " is not available");
+            }
+            return new ByteArrayInputStream(Zstd.decompress(frame, dictionary, (int) contentSize));
+        } catch (ZstdException e) {
+            throw new IOException("zstd decompression failed", e);
+        }
+    }
+
+    @Override
+    public long getDecodedLength(byte[] data, int offset, int length) {
+        long contentSize = Zstd.decompressedSize(Arrays.copyOfRange(data, offset, offset + Math.min(length, FRAME_HEADER_SIZE_MAX)));
+        return contentSize > 0 ? contentSize : -1;
+    }
+
+    /**
+     * Trains a dictionary from sample resources.
+     *
+     * @param samples the JSON of the sample resources, typically thousands of resources of the same type
+     * @param dictionarySize the maximum size of the dictionary, e.g. 64 KiB
+     * @return the dictionary, in the format expected by {@link #addDictionary(String, byte[])}
+     */
+    public static byte[] trainDictionary(List<byte[]> samples, int dictionarySize) {
+        int sampleSize = 0;
+        for (byte[] sample : samples) {
+            sampleSize += sample.length;
+        }
+        ZstdDictTrainer trainer = new ZstdDictTrainer(sampleSize, dictionarySize);
+        for (byte[] sample : samples) {
+            trainer.addSample(sample);
+        }
+        return trainer.trainSamples();
+    }
+}
@@ -7,6 +7,7 @@
 package com.ibm.fhir.persistence.jdbc.dao.api;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,18 @@ public interface ResourceDAO extends FHIRDbDAO {
     Resource read(String logicalId, String resourceType)
             throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
 
+    /**
+     * Reads and returns the latest version of the Resources with the passed logical ids and resource type.
+     * Logical ids which don't match a resource are ignored, and the resources are returned in no particular order.
+     * @param logicalIds
+     * @param resourceType
+     * @return List<Resource> - The most recent version of each Resource found.
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    List<Resource> readAll(Collection<String> logicalIds, String resourceType)
+            throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
+
     /**
      * Reads and returns the version of the Resource with the passed logical id, resource type, and version id.
      * If no matching resource is found, null is returned.
@@ -139,6 +152,16 @@ public interface ResourceDAO extends FHIRDbDAO {
      */
     int searchCount(SqlQueryData queryData) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
 
+    /**
+     * Returns an estimate of the count that the count query in the passed SqlQueryData would return. Implementations
+     * that can't estimate the count more cheaply than running the query return the exact count.
+     * @param queryData - Contains a count query string and (optionally) bind variables.
+     * @return int An estimated count of FHIR Resources satisfying the passed search.
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceDBConnectException
+     */
+    int searchCountEstimate(SqlQueryData queryData) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException;
+
     /**
      * Executes the passed fully-formed SQL Select COUNT statement and returns the integer count.
      *
@@ -197,4 +220,20 @@ public interface ResourceDAO extends FHIRDbDAO {
     Resource insert(Resource resource, List<ExtractedParameterValue> parameters, ParameterDAO parameterDao)
             throws FHIRPersistenceException;
 
+    /**
+     * Starts batching the search parameters of the resources passed to the following calls to
+     * {@link #insert(Resource, List, ParameterDAO)}, so that the parameter inserts of many resources
+     * are sent to the database together. The batched parameters are only guaranteed to be written
+     * once {@link #endParameterBatch()} has returned.
+     */
+    void beginParameterBatch();
+
+    /**
+     * Writes any search parameters still held in the batch started by {@link #beginParameterBatch()}
+     * and stops batching.
+     * @throws FHIRPersistenceDataAccessException
+     * @throws FHIRPersistenceException
+     */
+    void endParameterBatch() throws FHIRPersistenceException;
+
 }
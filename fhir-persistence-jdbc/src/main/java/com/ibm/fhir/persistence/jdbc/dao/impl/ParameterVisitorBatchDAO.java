@@ -52,7 +52,7 @@ public class ParameterVisitorBatchDAO implements ExtractedParameterValueVisitor,
     private final int batchSize;
 
     // FK to the logical resource for the parameters being added
-    private final long logicalResourceId;
+    private long logicalResourceId;
 
     // Maintainers: remember to close all statements in AutoCloseable#close()
     private final String insertString;
@@ -620,10 +620,23 @@ public class ParameterVisitorBatchDAO implements ExtractedParameterValueVisitor,
         }
     }
 
-    @Override
-    public void close() throws Exception {
-        // flush any stragglers, remembering to reset each count because
-        // close() should be idempotent.
+    /**
+     * Switch to the logical resource for the parameters visited next. This lets a single
+     * instance batch the parameters of many resources of the same type, as long as the
+     * batched rows are flushed before any of those resources is stored again.
+     * @param logicalResourceId
+     */
+    public void setLogicalResourceId(long logicalResourceId) {
+        this.logicalResourceId = logicalResourceId;
+    }
+
+    /**
+     * Submit any rows which are still waiting in the batches
+     * @throws SQLException
+     */
+    public void flush() throws SQLException {
+        // remember to reset each count because flush() can be called
+        // more than once.
         try {
             if (stringCount > 0) {
                 strings.executeBatch();
@@ -680,16 +693,24 @@ public class ParameterVisitorBatchDAO implements ExtractedParameterValueVisitor,
                 throw x;
             }
         }
+    }
 
-        closeStatement(strings);
-        closeStatement(numbers);
-        closeStatement(dates);
-        closeStatement(tokens);
-        closeStatement(tokenComp);
-        closeStatement(quantities);
-        closeStatement(resourceStrings);
-        closeStatement(resourceDates);
-        closeStatement(resourceTokens);
+    @Override
+    public void close() throws Exception {
+        // flush any stragglers. close() should be idempotent.
+        try {
+            flush();
+        } finally {
+            closeStatement(strings);
+            closeStatement(numbers);
+            closeStatement(dates);
+            closeStatement(tokens);
+            closeStatement(tokenComp);
+            closeStatement(quantities);
+            closeStatement(resourceStrings);
+            closeStatement(resourceDates);
+            closeStatement(resourceTokens);
+        }
     }
 
     /**
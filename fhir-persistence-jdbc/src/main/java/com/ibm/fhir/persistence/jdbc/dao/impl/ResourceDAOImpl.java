@@ -21,10 +21,13 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -60,6 +63,14 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
                                             "FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE " +
                                            "LR.LOGICAL_ID = ? AND R.RESOURCE_ID = LR.CURRENT_RESOURCE_ID";
 
+    // Read the current version of a list of resources; the IN list of logical ids is appended
+    private static final String SQL_READ_ALL = "SELECT R.RESOURCE_ID, R.LOGICAL_RESOURCE_ID, R.VERSION_ID, R.LAST_UPDATED, R.IS_DELETED, R.DATA, LR.LOGICAL_ID " +
+                                               "FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE " +
+                                               "R.RESOURCE_ID = LR.CURRENT_RESOURCE_ID AND LR.LOGICAL_ID IN ";
+
+    // The maximum number of logical ids bound to a single read-all statement
+    private static final int READ_ALL_MAX_IDS = 500;
+
     // Read a specific version of the resource
     private static final String SQL_VERSION_READ = "SELECT R.RESOURCE_ID, R.LOGICAL_RESOURCE_ID, R.VERSION_ID, R.LAST_UPDATED, R.IS_DELETED, R.DATA, LR.LOGICAL_ID " +
                                                       "FROM %s_RESOURCES R, %s_LOGICAL_RESOURCES LR WHERE " +
@@ -110,6 +121,13 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
     private ResourceTypesCacheUpdater rtCacheUpdater = null;
     private TransactionSynchronizationRegistry trxSynchRegistry;
 
+    // The parameter DAOs shared by all the resources inserted in a parameter batch, keyed by table prefix.
+    // Null unless a parameter batch has been started.
+    private Map<String, ParameterVisitorBatchDAO> batchParameterDaos = null;
+
+    // The resources inserted since the parameter batch was last flushed
+    private final Set<String> batchResources = new HashSet<>();
+
     /**
      * Constructs a DAO instance suitable for acquiring connections from a JDBC Datasource object.
      * @param c
@@ -166,6 +184,31 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
         return resource;
     }
 
+    @Override
+    public List<Resource> readAll(Collection<String> logicalIds, String resourceType)
+            throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        final String METHODNAME = "readAll";
+        log.entering(CLASSNAME, METHODNAME);
+
+        List<Resource> resources = new ArrayList<>(logicalIds.size());
+        try {
+            String stmtPrefix = String.format(SQL_READ_ALL, resourceType, resourceType);
+            List<String> ids = new ArrayList<>(logicalIds);
+            for (int start = 0; start < ids.size(); start += READ_ALL_MAX_IDS) {
+                List<String> batch = ids.subList(start, Math.min(start + READ_ALL_MAX_IDS, ids.size()));
+                StringBuilder stmtString = new StringBuilder(stmtPrefix).append("(");
+                for (int i = 0; i < batch.size(); i++) {
+                    stmtString.append(i > 0 ? ",?" : "?");
+                }
+                stmtString.append(")");
+                resources.addAll(this.runQuery(stmtString.toString(), batch.toArray()));
+            }
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+        return resources;
+    }
+
     @Override
     public Resource versionRead(String logicalId, String resourceType, int versionId)
             throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
@@ -205,7 +248,8 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
         try {
             resource.setData(resultSet.getBytes("DATA"));
             resource.setId(resultSet.getLong("RESOURCE_ID"));
-            resource.setLastUpdated(resultSet.getTimestamp("LAST_UPDATED"));
+            resource.setLogicalResourceId(resultSet.getLong("LOGICAL_RESOURCE_ID"));
+            resource.setLastUpdated(resultSet.getTimestamp("LAST_UPDATED", UTC));
             resource.setLogicalId(resultSet.getString("LOGICAL_ID"));
             resource.setVersionId(resultSet.getInt("VERSION_ID"));
             resource.setDeleted(resultSet.getString("IS_DELETED").equals("Y") ? true : false);
@@ -311,6 +355,12 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
         return count;
     }
 
+    @Override
+    public int searchCountEstimate(SqlQueryData queryData) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        // No cheaper estimate is available in general, so run the count query
+        return searchCount(queryData);
+    }
+
     @Override
     public void setPersistenceContext(FHIRPersistenceContext context) {
         this.context = context;
@@ -505,6 +555,7 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
                          "  acquiredFromCache=" + acquiredFromCache + "  tenantDatastoreCacheName=" + ResourceTypesCache.getCacheNameForTenantDatastore());
             }
 
+            prepareForInsert(resource);
             stmtString = String.format(SQL_INSERT_WITH_PARAMETERS, getSchemaName());
             stmt = connection.prepareCall(stmtString);
             stmt.setString(1, resource.getResourceType());
@@ -528,12 +579,7 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
             // TODO FHIR_ADMIN schema name needs to come from the configuration/context
             long paramInsertStartTime = latestTime;
             if (parameters != null) {
-                try (ParameterVisitorBatchDAO pvd = new ParameterVisitorBatchDAO(connection, "FHIR_ADMIN", resource.getResourceType(), true,
-                        resource.getId(), 100, new ParameterNameCacheAdapter(parameterDao), new CodeSystemCacheAdapter(parameterDao))) {
-                    for (ExtractedParameterValue p: parameters) {
-                        p.accept(pvd);
-                    }
-                }
+                insertParameters("FHIR_ADMIN", resource.getResourceType(), true, resource.getId(), parameters, parameterDao);
             }
             
 
@@ -567,6 +613,91 @@ public class ResourceDAOImpl extends FHIRDbDAOImpl implements ResourceDAO {
         return resource;
     }
 
+    /**
+     * Inserts the search parameters of a resource, either straight away or, if a parameter batch has been
+     * started, by adding them to the batch.
+     * @param adminSchemaName
+     * @param tablePrefix the resource type name used as the prefix of the parameter table names
+     * @param multitenant
+     * @param logicalResourceId
+     * @param parameters
+     * @param parameterDao
+     * @throws Exception
+     */
+    protected void insertParameters(String adminSchemaName, String tablePrefix, boolean multitenant, long logicalResourceId,
+            List<ExtractedParameterValue> parameters, ParameterDAO parameterDao) throws Exception {
+        final Connection connection = getConnection(); // do not close
+        if (batchParameterDaos == null) {
+            try (ParameterVisitorBatchDAO pvd = new ParameterVisitorBatchDAO(connection, adminSchemaName, tablePrefix, multitenant,
+                    logicalResourceId, 100, new ParameterNameCacheAdapter(parameterDao), new CodeSystemCacheAdapter(parameterDao))) {
+                for (ExtractedParameterValue p: parameters) {
+                    p.accept(pvd);
+                }
+            }
+        } else {
+            ParameterVisitorBatchDAO pvd = batchParameterDaos.get(tablePrefix);
+            if (pvd == null) {
+                pvd = new ParameterVisitorBatchDAO(connection, adminSchemaName, tablePrefix, multitenant, logicalResourceId, 100,
+                    new ParameterNameCacheAdapter(parameterDao), new CodeSystemCacheAdapter(parameterDao));
+                batchParameterDaos.put(tablePrefix, pvd);
+            }
+            pvd.setLogicalResourceId(logicalResourceId);
+            for (ExtractedParameterValue p: parameters) {
+                p.accept(pvd);
+            }
+        }
+    }
+
+    /**
+     * Must be called before a resource is stored. Storing a new version of a resource deletes the search
+     * parameters of its previous version, so if the resource was already inserted in the current parameter
+     * batch, its batched parameters are flushed first.
+     * @param resource
+     * @throws SQLException
+     */
+    protected void prepareForInsert(Resource resource) throws SQLException {
+        if (batchParameterDaos != null && !batchResources.add(resource.getResourceType() + "/" + resource.getLogicalId())) {
+            for (ParameterVisitorBatchDAO pvd : batchParameterDaos.values()) {
+                pvd.flush();
+            }
+            batchResources.clear();
+            batchResources.add(resource.getResourceType() + "/" + resource.getLogicalId());
+        }
+    }
+
+    @Override
+    public void beginParameterBatch() {
+        if (batchParameterDaos == null) {
+            batchParameterDaos = new HashMap<>();
+        }
+    }
+
+    @Override
+    public void endParameterBatch() throws FHIRPersistenceException {
+        final String METHODNAME = "endParameterBatch";
+        log.entering(CLASSNAME, METHODNAME);
+
+        if (batchParameterDaos == null) {
+            return;
+        }
+
+        try {
+            for (ParameterVisitorBatchDAO pvd : batchParameterDaos.values()) {
+                pvd.close();
+            }
+        } catch(SQLIntegrityConstraintViolationException e) {
+            FHIRPersistenceFKVException fx = new FHIRPersistenceFKVException("Encountered FK violation while inserting search parameters.");
+            throw severe(log, fx, e);
+        } catch(Throwable e) {
+            FHIRPersistenceDataAccessException fx = new FHIRPersistenceDataAccessException("Failure inserting search parameters.");
+            throw severe(log, fx, e);
+        } finally {
+            batchParameterDaos = null;
+            batchResources.clear();
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
 
     @Override
     public List<Resource> search(String sqlSelect) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
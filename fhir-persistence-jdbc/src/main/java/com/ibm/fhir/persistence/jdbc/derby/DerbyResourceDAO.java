@@ -26,9 +26,6 @@ import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceVersionIdMismatchException;
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbFlavor;
 import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
-import com.ibm.fhir.persistence.jdbc.dao.impl.CodeSystemCacheAdapter;
-import com.ibm.fhir.persistence.jdbc.dao.impl.ParameterNameCacheAdapter;
-import com.ibm.fhir.persistence.jdbc.dao.impl.ParameterVisitorBatchDAO;
 import com.ibm.fhir.persistence.jdbc.dao.impl.ResourceDAOImpl;
 import com.ibm.fhir.persistence.jdbc.dto.ExtractedParameterValue;
 import com.ibm.fhir.persistence.jdbc.dto.Resource;
@@ -114,6 +111,7 @@ public class DerbyResourceDAO extends ResourceDAOImpl {
             lastUpdated = resource.getLastUpdated();
             dbCallStartTime = System.nanoTime();
 
+            prepareForInsert(resource);
             final String sourceKey = UUID.randomUUID().toString();
 
             long resourceId = this.storeResource(resource.getResourceType(),
@@ -426,12 +424,7 @@ public class DerbyResourceDAO extends ResourceDAOImpl {
             // Note we don't get any parameters for the resource soft-delete operation
             if (parameters != null) {
                 // Derby doesn't support partitioned multi-tenancy, so we disable it on the DAO:
-                try (ParameterVisitorBatchDAO pvd = new ParameterVisitorBatchDAO(conn, null, tablePrefix, false, v_logical_resource_id, 100,
-                    new ParameterNameCacheAdapter(parameterDao), new CodeSystemCacheAdapter(parameterDao))) {
-                    for (ExtractedParameterValue p: parameters) {
-                        p.accept(pvd);
-                    }
-                }
+                insertParameters(null, tablePrefix, false, v_logical_resource_id, parameters, parameterDao);
             }
         }
         logger.exiting(CLASSNAME, METHODNAME);
@@ -8,12 +8,15 @@ package com.ibm.fhir.persistence.jdbc.impl;
 
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_CODE_SYSTEMS_CACHE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_PARAMETER_NAMES_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_RESOURCE_CACHE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_RESOURCE_TYPES_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_ENABLE_SEARCH_QUERY_CACHE;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_RESOURCE_CACHE_SIZE_MB;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_SEARCH_QUERY_CACHE_SIZE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_UPDATE_CREATE_ENABLED;
 import static com.ibm.fhir.model.type.String.string;
 import static com.ibm.fhir.persistence.jdbc.JDBCConstants.MAX_NUM_OF_COMPOSITE_COMPONENTS;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,6 +30,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,10 +40,9 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.naming.InitialContext;
+import javax.transaction.Status;
 import javax.transaction.TransactionSynchronizationRegistry;
 import javax.transaction.UserTransaction;
 
@@ -48,12 +52,12 @@ import com.ibm.fhir.config.FHIRConfigProvider;
 import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.config.PropertyGroup;
+import com.ibm.fhir.core.FHIRConstants;
 import com.ibm.fhir.core.FHIRUtilities;
 import com.ibm.fhir.core.context.FHIRPagingContext;
 import com.ibm.fhir.database.utils.api.IConnectionProvider;
 import com.ibm.fhir.exception.FHIRException;
 import com.ibm.fhir.model.format.Format;
-import com.ibm.fhir.model.generator.FHIRGenerator;
 import com.ibm.fhir.model.parser.FHIRJsonParser;
 import com.ibm.fhir.model.parser.FHIRParser;
 import com.ibm.fhir.model.resource.OperationOutcome;
@@ -80,6 +84,7 @@ import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
 import com.ibm.fhir.persistence.FHIRPersistence;
 import com.ibm.fhir.persistence.FHIRPersistenceTransaction;
 import com.ibm.fhir.persistence.MultiResourceResult;
+import com.ibm.fhir.persistence.RawResource;
 import com.ibm.fhir.persistence.SingleResourceResult;
 import com.ibm.fhir.persistence.context.FHIRHistoryContext;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
@@ -89,6 +94,8 @@ import com.ibm.fhir.persistence.exception.FHIRPersistenceResourceDeletedExceptio
 import com.ibm.fhir.persistence.exception.FHIRPersistenceResourceNotFoundException;
 import com.ibm.fhir.persistence.jdbc.FHIRResourceDAOFactory;
 import com.ibm.fhir.persistence.jdbc.JDBCConstants;
+import com.ibm.fhir.persistence.jdbc.codec.EncodedRawResource;
+import com.ibm.fhir.persistence.jdbc.codec.PayloadCodecRegistry;
 import com.ibm.fhir.persistence.jdbc.connection.Action;
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbConnectionStrategy;
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbProxyDatasourceConnectionStrategy;
@@ -117,14 +124,20 @@ import com.ibm.fhir.persistence.jdbc.util.JDBCParameterBuildingVisitor;
 import com.ibm.fhir.persistence.jdbc.util.JDBCQueryBuilder;
 import com.ibm.fhir.persistence.jdbc.util.LogicalIdentityProvider;
 import com.ibm.fhir.persistence.jdbc.util.ParameterNamesCache;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCache;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCache.CachedResource;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCacheUpdater;
 import com.ibm.fhir.persistence.jdbc.util.ResourceTypesCache;
+import com.ibm.fhir.persistence.jdbc.util.SearchQueryCache;
 import com.ibm.fhir.persistence.jdbc.util.SqlQueryData;
 import com.ibm.fhir.persistence.jdbc.util.TimestampPrefixedUUID;
 import com.ibm.fhir.persistence.util.FHIRPersistenceUtil;
 import com.ibm.fhir.search.SearchConstants;
 import com.ibm.fhir.search.SearchConstants.Modifier;
 import com.ibm.fhir.search.SummaryValueSet;
+import com.ibm.fhir.search.TotalValueSet;
 import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.KeysetCursor;
 import com.ibm.fhir.search.date.DateTimeHandler;
 import com.ibm.fhir.search.parameters.QueryParameter;
 import com.ibm.fhir.search.util.SearchUtil;
@@ -133,8 +146,8 @@ import com.ibm.fhir.search.util.SearchUtil;
  * The JDBC implementation of the FHIRPersistence interface,
  * providing implementations for CRUD APIs and search.
  *
- * @implNote This class is request-scoped;
- *           it must be initialized for each request to reset the supplementalIssues list
+ * @implNote This class is request-scoped. The warnings of an operation are kept per call, so an instance may be
+ *           used by several threads of the same request (e.g. for the entries of a batch bundle).
  */
 public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSupplier {
     private static final String CLASSNAME = FHIRPersistenceJDBCImpl.class.getName();
@@ -147,7 +160,6 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     private static final List<String> SPECIAL_HANDLING = Arrays.asList("_id", "_lastUpdated");
 
     private final TransactionSynchronizationRegistry trxSynchRegistry;
-    private List<OperationOutcome.Issue> supplementalIssues = new ArrayList<>();
 
     protected UserTransaction userTransaction = null;
     protected Boolean updateCreateEnabled = null;
@@ -194,6 +206,14 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                                     Boolean.TRUE));
         ResourceTypesCache.setEnabled(fhirConfig.getBooleanProperty(PROPERTY_JDBC_ENABLE_RESOURCE_TYPES_CACHE,
                                       Boolean.TRUE));
+        ResourceCache.setEnabled(fhirConfig.getBooleanProperty(PROPERTY_JDBC_ENABLE_RESOURCE_CACHE,
+                                 Boolean.FALSE));
+        ResourceCache.setMaxBytes(fhirConfig.getIntProperty(PROPERTY_JDBC_RESOURCE_CACHE_SIZE_MB,
+                                  FHIRConstants.FHIR_RESOURCE_CACHE_SIZE_MB_DEFAULT) * 1024L * 1024L);
+        SearchQueryCache.setEnabled(fhirConfig.getBooleanProperty(PROPERTY_JDBC_ENABLE_SEARCH_QUERY_CACHE,
+                                    Boolean.FALSE));
+        SearchQueryCache.setMaxEntries(fhirConfig.getIntProperty(PROPERTY_JDBC_SEARCH_QUERY_CACHE_SIZE,
+                                       FHIRConstants.FHIR_SEARCH_QUERY_CACHE_SIZE_DEFAULT));
 
         // Set up the connection strategy for use within a JEE container. The actions
         // are processed the first time a connection is established to a particular tenant/datasource.
@@ -276,88 +296,130 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         final String METHODNAME = "create";
         log.entering(CLASSNAME, METHODNAME);
 
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (Connection connection = openConnection()) {
+            // The DAO objects are now created on-the-fly (not expensive to construct) and
+            // given the connection to use while processing this request
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+            ParameterDAO parameterDao = makeParameterDAO(connection);
+
+            return doCreate(context, resource, resourceDao, parameterDao);
+        }
+        catch(FHIRPersistenceFKVException e) {
+            log.log(Level.SEVERE, "FK violation", e);
+//            log.log(Level.SEVERE, this.performCacheDiagnostics());
+            throw e;
+        }
+        catch(FHIRPersistenceException e) {
+            throw e;
+        }
+        catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a create operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        }
+        finally {
+           log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * Stores a new FHIR Resource using the given DAOs. Shared by {@link #create(FHIRPersistenceContext, Resource)}
+     * and {@link #createAll(FHIRPersistenceContext, List)}.
+     */
+    private <T extends Resource> SingleResourceResult<T> doCreate(FHIRPersistenceContext context, T resource, ResourceDAO resourceDao,
+            ParameterDAO parameterDao) throws Exception {
         String logicalId;
 
         // We need to update the meta in the resource, so we need a modifiable version
         Resource.Builder resultResourceBuilder = resource.toBuilder();
 
-        try (Connection connection = openConnection()) {
+        // This create() operation is only called by a REST create. If the given resource
+        // contains an id, then for R4 we need to ignore it and replace it with our
+        // system-generated value. For the update-or-create scenario, see update().
+        // Default version is 1 for a brand new FHIR Resource.
+        int newVersionNumber = 1;
+        logicalId = logicalIdentityProvider.createNewIdentityValue();
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Creating new FHIR Resource of type '" + resource.getClass().getSimpleName() + "'");
+        }
 
-            // This create() operation is only called by a REST create. If the given resource
-            // contains an id, then for R4 we need to ignore it and replace it with our
-            // system-generated value. For the update-or-create scenario, see update().
-            // Default version is 1 for a brand new FHIR Resource.
-            int newVersionNumber = 1;
-            logicalId = logicalIdentityProvider.createNewIdentityValue();
-            if (log.isLoggable(Level.FINE)) {
-                log.fine("Creating new FHIR Resource of type '" + resource.getClass().getSimpleName() + "'");
-            }
+        // Set the resource id and meta fields.
+        Instant lastUpdated = Instant.now(ZoneOffset.UTC);
+        resultResourceBuilder.id(logicalId);
+        Meta meta = resource.getMeta();
+        Meta.Builder metaBuilder = meta == null ? Meta.builder() : meta.toBuilder();
+        metaBuilder.versionId(Id.of(Integer.toString(newVersionNumber)));
+        metaBuilder.lastUpdated(lastUpdated);
+        resultResourceBuilder.meta(metaBuilder.build());
+
+        // rebuild the resource with updated meta
+        @SuppressWarnings("unchecked")
+        T updatedResource = (T) resultResourceBuilder.build();
+
+        // Create the new Resource DTO instance.
+        com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = new com.ibm.fhir.persistence.jdbc.dto.Resource();
+        resourceDTO.setLogicalId(logicalId);
+        resourceDTO.setVersionId(newVersionNumber);
+        Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
+        resourceDTO.setLastUpdated(timestamp);
+        resourceDTO.setResourceType(updatedResource.getClass().getSimpleName());
+
+        // Serialize and encode the Resource
+        resourceDTO.setData(PayloadCodecRegistry.getInstance().encode(updatedResource));
+
+        // Persist the Resource DTO.
+        resourceDao.setPersistenceContext(context);
+        List<OperationOutcome.Issue> supplementalIssues = new ArrayList<>();
+        resourceDao.insert(resourceDTO, this.extractSearchParameters(updatedResource, resourceDTO, supplementalIssues), parameterDao);
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
+                        + ", version=" + resourceDTO.getVersionId());
+        }
+        addResourceCacheWrite(resourceDTO, updatedResource);
 
-            // Set the resource id and meta fields.
-            Instant lastUpdated = Instant.now(ZoneOffset.UTC);
-            resultResourceBuilder.id(logicalId);
-            Meta meta = resource.getMeta();
-            Meta.Builder metaBuilder = meta == null ? Meta.builder() : meta.toBuilder();
-            metaBuilder.versionId(Id.of(Integer.toString(newVersionNumber)));
-            metaBuilder.lastUpdated(lastUpdated);
-            resultResourceBuilder.meta(metaBuilder.build());
+        SingleResourceResult.Builder<T> resultBuilder = new SingleResourceResult.Builder<T>()
+                .success(true)
+                .resource(updatedResource);
 
-            // rebuild the resource with updated meta
-            @SuppressWarnings("unchecked")
-            T updatedResource = (T) resultResourceBuilder.build();
+        // Add supplemental issues to the OperationOutcome
+        if (!supplementalIssues.isEmpty()) {
+            resultBuilder.outcome(OperationOutcome.builder()
+                .issue(supplementalIssues)
+                .build());
+        }
 
-            // Create the new Resource DTO instance.
-            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = new com.ibm.fhir.persistence.jdbc.dto.Resource();
-            resourceDTO.setLogicalId(logicalId);
-            resourceDTO.setVersionId(newVersionNumber);
-            Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
-            resourceDTO.setLastUpdated(timestamp);
-            resourceDTO.setResourceType(updatedResource.getClass().getSimpleName());
+        return resultBuilder.build();
+    }
 
-            // Serialize and compress the Resource
-            GZIPOutputStream zipStream = new GZIPOutputStream(stream);
-            FHIRGenerator.generator( Format.JSON, false).generate(updatedResource, zipStream);
-            zipStream.finish();
-            resourceDTO.setData(stream.toByteArray());
-            zipStream.close();
+    @Override
+    public <T extends Resource> List<SingleResourceResult<T>> createAll(FHIRPersistenceContext context, List<T> resources) throws FHIRPersistenceException {
+        final String METHODNAME = "createAll";
+        log.entering(CLASSNAME, METHODNAME);
 
-            // The DAO objects are now created on-the-fly (not expensive to construct) and
-            // given the connection to use while processing this request
+        try (Connection connection = openConnection()) {
+            // Share the connection, DAOs and parameter batches across all the resources
             ResourceDAO resourceDao = makeResourceDAO(connection);
             ParameterDAO parameterDao = makeParameterDAO(connection);
-
-            // Persist the Resource DTO.
-            resourceDao.setPersistenceContext(context);
-            resourceDao.insert(resourceDTO, this.extractSearchParameters(updatedResource, resourceDTO), parameterDao);
-            if (log.isLoggable(Level.FINE)) {
-                log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
-                            + ", version=" + resourceDTO.getVersionId());
-            }
-
-            SingleResourceResult.Builder<T> resultBuilder = new SingleResourceResult.Builder<T>()
-                    .success(true)
-                    .resource(updatedResource);
-
-            // Add supplemental issues to the OperationOutcome
-            if (!supplementalIssues.isEmpty()) {
-                resultBuilder.outcome(OperationOutcome.builder()
-                    .issue(supplementalIssues)
-                    .build());
+            resourceDao.beginParameterBatch();
+            try {
+                List<SingleResourceResult<T>> results = new ArrayList<>(resources.size());
+                for (T resource : resources) {
+                    results.add(doCreate(context, resource, resourceDao, parameterDao));
+                }
+                return results;
+            } finally {
+                resourceDao.endParameterBatch();
             }
-
-            return resultBuilder.build();
         }
         catch(FHIRPersistenceFKVException e) {
             log.log(Level.SEVERE, "FK violation", e);
-//            log.log(Level.SEVERE, this.performCacheDiagnostics());
             throw e;
         }
         catch(FHIRPersistenceException e) {
             throw e;
         }
         catch(Throwable e) {
-            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a create operation.");
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a createAll operation.");
             log.log(Level.SEVERE, fx.getMessage(), e);
             throw fx;
         }
@@ -403,109 +465,165 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         final String METHODNAME = "update";
         log.entering(CLASSNAME, METHODNAME);
 
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+            ParameterDAO parameterDao = makeParameterDAO(connection);
+            return doUpdate(context, logicalId, resource, resourceDao, parameterDao, true);
+        }
+        catch(FHIRPersistenceFKVException e) {
+            log.log(Level.SEVERE, this.performCacheDiagnostics());
+            throw e;
+        }
+        catch(FHIRPersistenceException e) {
+            throw e;
+        }
+        catch(Throwable e) {
+            // don't chain the exception to avoid leaking secrets
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing an update operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        }
+        finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * Stores a new version of a FHIR Resource using the given DAOs. Shared by
+     * {@link #update(FHIRPersistenceContext, String, Resource)} and {@link #updateAll(FHIRPersistenceContext, List)}.
+     * @param usePrefetchedResource whether the "previous resource" of the persistence event, if set, applies to this resource
+     */
+    private <T extends Resource> SingleResourceResult<T> doUpdate(FHIRPersistenceContext context, String logicalId, T resource,
+            ResourceDAO resourceDao, ParameterDAO parameterDao, boolean usePrefetchedResource) throws Exception {
         Class<? extends Resource> resourceType = resource.getClass();
         com.ibm.fhir.persistence.jdbc.dto.Resource existingResourceDTO;
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
         // Resources are immutable, so we need a new builder to update it (since R4)
         Resource.Builder resultResourceBuilder = resource.toBuilder();
 
-        try (Connection connection = openConnection()) {
-            ResourceDAO resourceDao = makeResourceDAO(connection);
-            ParameterDAO parameterDao = makeParameterDAO(connection);
+        // Assume we have no existing resource.
+        int existingVersion = 0;
 
-            // Assume we have no existing resource.
-            int existingVersion = 0;
+        // Compute the new version # from the existing version #.
 
-            // Compute the new version # from the existing version #.
-
-            // If the "previous resource" is set in the persistence event, then get the
-            // existing version # from that.
-            if (context.getPersistenceEvent() != null && context.getPersistenceEvent().isPrevFhirResourceSet()) {
-                Resource existingResource = context.getPersistenceEvent().getPrevFhirResource();
-                if (existingResource != null) {
-                    log.fine("Using pre-fetched 'previous' resource.");
-                    String version = existingResource.getMeta().getVersionId().getValue();
-                    existingVersion = Integer.valueOf(version);
-                }
+        // If the "previous resource" is set in the persistence event, then get the
+        // existing version # from that.
+        if (usePrefetchedResource && context.getPersistenceEvent() != null && context.getPersistenceEvent().isPrevFhirResourceSet()) {
+            Resource existingResource = context.getPersistenceEvent().getPrevFhirResource();
+            if (existingResource != null) {
+                log.fine("Using pre-fetched 'previous' resource.");
+                String version = existingResource.getMeta().getVersionId().getValue();
+                existingVersion = Integer.valueOf(version);
             }
+        }
 
-            // Otherwise, go ahead and read the resource from the datastore and get the
-            // existing version # from it.
-            else {
-                log.fine("Fetching 'previous' resource for update.");
-                existingResourceDTO = resourceDao.read(logicalId, resourceType.getSimpleName());
-                if (existingResourceDTO != null) {
-                    existingVersion = existingResourceDTO.getVersionId();
-                }
+        // Otherwise, go ahead and read the resource from the datastore and get the
+        // existing version # from it.
+        else {
+            log.fine("Fetching 'previous' resource for update.");
+            existingResourceDTO = resourceDao.read(logicalId, resourceType.getSimpleName());
+            if (existingResourceDTO != null) {
+                existingVersion = existingResourceDTO.getVersionId();
             }
+        }
 
-            // If this logical resource didn't exist and the "updateCreate" feature is not enabled,
-            // then this is an error.
-            if (existingVersion == 0 && !updateCreateEnabled) {
-                String msg = "Resource '" + resourceType.getSimpleName() + "/" + logicalId + "' not found.";
-                log.log(Level.SEVERE, msg);
-                throw new FHIRPersistenceResourceNotFoundException(msg);
-            }
+        // If this logical resource didn't exist and the "updateCreate" feature is not enabled,
+        // then this is an error.
+        if (existingVersion == 0 && !updateCreateEnabled) {
+            String msg = "Resource '" + resourceType.getSimpleName() + "/" + logicalId + "' not found.";
+            log.log(Level.SEVERE, msg);
+            throw new FHIRPersistenceResourceNotFoundException(msg);
+        }
 
-            // Bump up the existing version # to get the new version.
-            int newVersionNumber = existingVersion + 1;
+        // Bump up the existing version # to get the new version.
+        int newVersionNumber = existingVersion + 1;
 
-            if (log.isLoggable(Level.FINE)) {
-                if (existingVersion != 0) {
-                    log.fine("Updating FHIR Resource '" + resource.getClass().getSimpleName() + "/" + logicalId + "', version=" + existingVersion);
-                }
-                log.fine("Storing new FHIR Resource '" + resource.getClass().getSimpleName() + "/" + logicalId + "', version=" + newVersionNumber);
+        if (log.isLoggable(Level.FINE)) {
+            if (existingVersion != 0) {
+                log.fine("Updating FHIR Resource '" + resource.getClass().getSimpleName() + "/" + logicalId + "', version=" + existingVersion);
             }
+            log.fine("Storing new FHIR Resource '" + resource.getClass().getSimpleName() + "/" + logicalId + "', version=" + newVersionNumber);
+        }
 
-            Instant lastUpdated = Instant.now(ZoneOffset.UTC);
+        Instant lastUpdated = Instant.now(ZoneOffset.UTC);
 
-            // Set the resource id and meta fields.
+        // Set the resource id and meta fields.
 //            resultBuilder.id(logicalId);
-            Meta meta = resource.getMeta();
-            Meta.Builder metaBuilder = meta == null ? Meta.builder() : meta.toBuilder();
-            metaBuilder.versionId(Id.of(Integer.toString(newVersionNumber)));
-            metaBuilder.lastUpdated(lastUpdated);
-            resultResourceBuilder.meta(metaBuilder.build());
-
-            @SuppressWarnings("unchecked")
-            T updatedResource = (T) resultResourceBuilder.build();
+        Meta meta = resource.getMeta();
+        Meta.Builder metaBuilder = meta == null ? Meta.builder() : meta.toBuilder();
+        metaBuilder.versionId(Id.of(Integer.toString(newVersionNumber)));
+        metaBuilder.lastUpdated(lastUpdated);
+        resultResourceBuilder.meta(metaBuilder.build());
+
+        @SuppressWarnings("unchecked")
+        T updatedResource = (T) resultResourceBuilder.build();
+
+        // Create the new Resource DTO instance.
+        com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = new com.ibm.fhir.persistence.jdbc.dto.Resource();
+        resourceDTO.setLogicalId(logicalId);
+        resourceDTO.setVersionId(newVersionNumber);
+        Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
+        resourceDTO.setLastUpdated(timestamp);
+        resourceDTO.setResourceType(updatedResource.getClass().getSimpleName());
+
+        // Serialize and encode the Resource
+        resourceDTO.setData(PayloadCodecRegistry.getInstance().encode(updatedResource));
+
+        // Persist the Resource DTO.
+        resourceDao.setPersistenceContext(context);
+        List<OperationOutcome.Issue> supplementalIssues = new ArrayList<>();
+        resourceDao.insert(resourceDTO, this.extractSearchParameters(updatedResource, resourceDTO, supplementalIssues), parameterDao);
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
+                        + ", version=" + resourceDTO.getVersionId());
+        }
+        addResourceCacheWrite(resourceDTO, updatedResource);
 
-            // Create the new Resource DTO instance.
-            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = new com.ibm.fhir.persistence.jdbc.dto.Resource();
-            resourceDTO.setLogicalId(logicalId);
-            resourceDTO.setVersionId(newVersionNumber);
-            Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
-            resourceDTO.setLastUpdated(timestamp);
-            resourceDTO.setResourceType(updatedResource.getClass().getSimpleName());
+        SingleResourceResult.Builder<T> resultBuilder = new SingleResourceResult.Builder<T>()
+                .success(true)
+                .resource(updatedResource);
 
-            // Serialize and compress the Resource
-            GZIPOutputStream zipStream = new GZIPOutputStream(stream);
-            FHIRGenerator.generator(Format.JSON, false).generate(updatedResource, zipStream);
-            zipStream.finish();
-            resourceDTO.setData(stream.toByteArray());
-            zipStream.close();
+        // Add supplemental issues to an OperationOutcome
+        if (!supplementalIssues.isEmpty()) {
+            resultBuilder.outcome(OperationOutcome.builder()
+                .issue(supplementalIssues)
+                .build());
+        }
 
-            // Persist the Resource DTO.
-            resourceDao.setPersistenceContext(context);
-            resourceDao.insert(resourceDTO, this.extractSearchParameters(updatedResource, resourceDTO), parameterDao);
-            if (log.isLoggable(Level.FINE)) {
-                log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
-                            + ", version=" + resourceDTO.getVersionId());
-            }
+        return resultBuilder.build();
+    }
 
-            SingleResourceResult.Builder<T> resultBuilder = new SingleResourceResult.Builder<T>()
-                    .success(true)
-                    .resource(updatedResource);
+    @Override
+    public <T extends Resource> List<SingleResourceResult<T>> updateAll(FHIRPersistenceContext context, List<T> resources)
+            throws FHIRPersistenceException {
+        final String METHODNAME = "updateAll";
+        log.entering(CLASSNAME, METHODNAME);
 
-            // Add supplemental issues to an OperationOutcome
-            if (!supplementalIssues.isEmpty()) {
-                resultBuilder.outcome(OperationOutcome.builder()
-                    .issue(supplementalIssues)
-                    .build());
+        // Check all the ids before anything is stored
+        for (T resource : resources) {
+            if (resource.getId() == null) {
+                String msg = "Resource of type '" + resource.getClass().getSimpleName() + "' to be updated must contain an 'id' attribute.";
+                log.exiting(CLASSNAME, METHODNAME);
+                throw new FHIRPersistenceException(msg).withIssue(FHIRUtil.buildOperationOutcomeIssue(msg, IssueType.INVALID));
             }
+        }
 
-            return resultBuilder.build();
+        try (Connection connection = openConnection()) {
+            // Share the connection, DAOs and parameter batches across all the resources
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+            ParameterDAO parameterDao = makeParameterDAO(connection);
+            resourceDao.beginParameterBatch();
+            try {
+                // The "previous resource" of the persistence event can't belong to all of the resources,
+                // so the existing versions are always read from the datastore.
+                List<SingleResourceResult<T>> results = new ArrayList<>(resources.size());
+                for (T resource : resources) {
+                    results.add(doUpdate(context, resource.getId(), resource, resourceDao, parameterDao, false));
+                }
+                return results;
+            } finally {
+                resourceDao.endParameterBatch();
+            }
         }
         catch(FHIRPersistenceFKVException e) {
             log.log(Level.SEVERE, this.performCacheDiagnostics());
@@ -516,7 +634,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         }
         catch(Throwable e) {
             // don't chain the exception to avoid leaking secrets
-            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing an update operation.");
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing an updateAll operation.");
             log.log(Level.SEVERE, fx.getMessage(), e);
             throw fx;
         }
@@ -531,90 +649,27 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         final String METHODNAME = "search";
         log.entering(CLASSNAME, METHODNAME);
 
-        List<Resource> resources = Collections.emptyList();
         MultiResourceResult.Builder<Resource> resultBuilder = new MultiResourceResult.Builder<>();
         FHIRSearchContext searchContext = context.getSearchContext();
-        JDBCQueryBuilder queryBuilder;
-        List<Long> sortedIdList;
-        List<com.ibm.fhir.persistence.jdbc.dto.Resource> unsortedResultsList;
-        int searchResultCount = 0;
-        SqlQueryData countQuery;
-        SqlQueryData query;
+        List<OperationOutcome.Issue> issues = new ArrayList<>();
 
         try (Connection connection = openConnection()) {
             ResourceDAO resourceDao = makeResourceDAO(connection);
             ParameterDAO parameterDao = makeParameterDAO(connection);
 
-            checkModifiers(searchContext, isSystemLevelSearch(resourceType));
-            queryBuilder = new JDBCQueryBuilder(parameterDao, resourceDao, connectionStrategy.getQueryHints());
-
-            countQuery = queryBuilder.buildCountQuery(resourceType, searchContext);
-            if (countQuery != null) {
-                searchResultCount = resourceDao.searchCount(countQuery);
-                if (log.isLoggable(Level.FINE)) {
-                    log.fine("searchResultCount = " + searchResultCount);
-                }
-                searchContext.setTotalCount(searchResultCount);
-
-                List<OperationOutcome.Issue> issues = validatePagingContext(searchContext);
-                if (!issues.isEmpty()) {
-                    resultBuilder.outcome(OperationOutcome.builder()
-                        .issue(issues)
-                        .build());
-                    if (!searchContext.isLenient()) {
-                        return resultBuilder.success(false).build();
-                    }
-                }
-
-                // For _summary=count or pageSize == 0, we return only the count
-                if (searchResultCount > 0
-                        && !SummaryValueSet.COUNT.equals(searchContext.getSummaryParameter())
-                        && searchContext.getPageSize() > 0) {
-                    query = queryBuilder.buildQuery(resourceType, searchContext);
-
-                    List<String> elements = searchContext.getElementsParameters();
-
-                    //Only consider _summary if _elements parameter is empty
-                    if (elements == null && searchContext.hasSummaryParameter()) {
-                        Set<String> summaryElements = null;
-                        SummaryValueSet summary = searchContext.getSummaryParameter();
-
-                        switch (summary) {
-                        case TRUE:
-                            summaryElements = JsonSupport.getSummaryElementNames(resourceType);
-                            break;
-                        case TEXT:
-                            summaryElements = SearchUtil.getSummaryTextElementNames(resourceType);
-                            break;
-                        case DATA:
-                            summaryElements = JsonSupport.getSummaryDataElementNames(resourceType);
-                            break;
-                        default:
-                            break;
-                        }
-
-                        if (summaryElements != null) {
-                            elements = new ArrayList<>();
-                            elements.addAll(summaryElements);
-                        }
-                    }
-
-                    if (searchContext.hasSortParameters()) {
-                        // Sorting results of a system-level search is limited, and has a different logic path
-                        // than other sorted searches.
-                        if (resourceType.equals(Resource.class)) {
-                           resources = this.convertResourceDTOList(resourceDao.search(query), resourceType, elements);
-                        } else {
-                            sortedIdList = resourceDao.searchForIds(query);
-                            resources = this.buildSortedFhirResources(resourceDao, context, resourceType, sortedIdList, elements);
-                        }
-                    } else {
-                        unsortedResultsList = resourceDao.search(query);
-                        resources = this.convertResourceDTOList(unsortedResultsList, resourceType, elements);
-                    }
-                }
+            List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList =
+                    this.searchResourceDTOs(resourceDao, parameterDao, resourceType, searchContext, issues);
+            if (!issues.isEmpty()) {
+                resultBuilder.outcome(OperationOutcome.builder()
+                    .issue(issues)
+                    .build());
+            }
+            if (resourceDTOList == null) {
+                return resultBuilder.success(false).build();
             }
 
+            List<Resource> resources = this.convertResourceDTOList(resourceDTOList, resourceType,
+                    getElementsToInclude(searchContext, resourceType));
             return resultBuilder
                     .success(true)
                     .resource(resources)
@@ -630,6 +685,250 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         }
     }
 
+    /**
+     * Performs a search and returns the resources in the search result set as they are stored. Only searches on a
+     * single resource type, without _include, _revinclude, _elements or _summary are supported, because the
+     * resource type of each result is taken from the search.
+     * If the paging parameters are invalid and the search isn't lenient, an empty list is returned.
+     */
+    @Override
+    public List<RawResource> searchRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType)
+            throws FHIRPersistenceException {
+        final String METHODNAME = "searchRaw";
+        log.entering(CLASSNAME, METHODNAME);
+
+        FHIRSearchContext searchContext = context.getSearchContext();
+        if (isSystemLevelSearch(resourceType) || searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()
+                || getElementsToInclude(searchContext, resourceType) != null) {
+            log.exiting(CLASSNAME, METHODNAME);
+            throw buildNotSupportedException("Raw search is not supported for whole-system searches or "
+                    + "searches with _include, _revinclude, _elements or _summary");
+        }
+
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+            ParameterDAO parameterDao = makeParameterDAO(connection);
+
+            List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList =
+                    this.searchResourceDTOs(resourceDao, parameterDao, resourceType, searchContext, new ArrayList<>());
+            if (resourceDTOList == null) {
+                return Collections.emptyList();
+            }
+
+            // Keep the payloads encoded, so that the JSON of each resource is only decoded while it is written
+            PayloadCodecRegistry payloadCodecRegistry = PayloadCodecRegistry.getInstance();
+            List<RawResource> resources = new ArrayList<>(resourceDTOList.size());
+            for (com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO : resourceDTOList) {
+                resources.add(new EncodedRawResource(resourceType.getSimpleName(), resourceDTO.getLogicalId(),
+                        resourceDTO.getVersionId(), resourceDTO.getLastUpdated().toInstant(), resourceDTO.isDeleted(),
+                        payloadCodecRegistry, resourceDTO.getData()));
+            }
+            return resources;
+        } catch (FHIRPersistenceException e) {
+            throw e;
+        } catch (Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a raw search operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        } finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * Runs the queries of a search and returns the resource DTOs of the requested page, in the order of the search.
+     *
+     * @param issues a list to which any issues with the paging parameters are added
+     * @return the resource DTOs, or null if the paging parameters are invalid and the search isn't lenient
+     */
+    private List<com.ibm.fhir.persistence.jdbc.dto.Resource> searchResourceDTOs(ResourceDAO resourceDao, ParameterDAO parameterDao,
+            Class<? extends Resource> resourceType, FHIRSearchContext searchContext, List<OperationOutcome.Issue> issues) throws Exception {
+        checkModifiers(searchContext, isSystemLevelSearch(resourceType));
+        JDBCQueryBuilder queryBuilder = new JDBCQueryBuilder(parameterDao, resourceDao, connectionStrategy.getQueryHints());
+
+        if (searchContext.hasKeysetCursor()) {
+            return this.keysetSearch(queryBuilder, resourceDao, resourceType, searchContext);
+        }
+
+        if (isTotalSkippable(searchContext)) {
+            return this.searchWithoutTotal(queryBuilder, resourceDao, resourceType, searchContext, issues);
+        }
+
+        SqlQueryData countQuery = queryBuilder.buildCountQuery(resourceType, searchContext);
+        if (countQuery != null) {
+            int searchResultCount = resourceDao.searchCount(countQuery);
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("searchResultCount = " + searchResultCount);
+            }
+            searchContext.setTotalCount(searchResultCount);
+
+            issues.addAll(validatePagingContext(searchContext));
+            if (!issues.isEmpty() && !searchContext.isLenient()) {
+                return null;
+            }
+
+            // For _summary=count or pageSize == 0, we return only the count
+            if (searchResultCount > 0
+                    && !SummaryValueSet.COUNT.equals(searchContext.getSummaryParameter())
+                    && searchContext.getPageSize() > 0) {
+                SqlQueryData query = queryBuilder.buildQuery(resourceType, searchContext);
+                return this.runSearchQuery(resourceDao, resourceType, searchContext, query, Integer.MAX_VALUE);
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return true if the search doesn't need an accurate total count, because the client asked for _total=none or
+     *     _total=estimate and the page of results is requested. Searches with _include or _revinclude always count,
+     *     because their queries return the included resources together with the matches.
+     */
+    private boolean isTotalSkippable(FHIRSearchContext searchContext) {
+        TotalValueSet total = searchContext.getTotalParameter();
+        return (TotalValueSet.NONE.equals(total) || TotalValueSet.ESTIMATE.equals(total))
+                && !SummaryValueSet.COUNT.equals(searchContext.getSummaryParameter())
+                && searchContext.getPageSize() > 0
+                && !searchContext.hasIncludeParameters()
+                && !searchContext.hasRevIncludeParameters();
+    }
+
+    /**
+     * Performs a search for _total=none or _total=estimate. Instead of counting the matches, the page query fetches
+     * one row past the end of the page, which is enough to know whether there is a next page. For _total=estimate,
+     * the total count in the search context is set from the estimate of the database.
+     *
+     * @param issues a list to which any issues with the paging parameters are added
+     * @return the page of resource DTOs, or null if the paging parameters are invalid and the search isn't lenient
+     */
+    private List<com.ibm.fhir.persistence.jdbc.dto.Resource> searchWithoutTotal(JDBCQueryBuilder queryBuilder, ResourceDAO resourceDao,
+            Class<? extends Resource> resourceType, FHIRSearchContext searchContext, List<OperationOutcome.Issue> issues) throws Exception {
+        int pageNumber = searchContext.getPageNumber();
+        if (pageNumber < 1) {
+            issues.add(OperationOutcome.Issue.builder()
+                    .severity(searchContext.isLenient() ? IssueSeverity.WARNING : IssueSeverity.ERROR)
+                    .code(IssueType.INVALID)
+                    .details(CodeableConcept.builder()
+                        .text(string("Invalid page number: " + pageNumber))
+                        .build())
+                    .build());
+            if (!searchContext.isLenient()) {
+                return null;
+            }
+            searchContext.setPageNumber(1);
+        }
+
+        if (TotalValueSet.ESTIMATE.equals(searchContext.getTotalParameter())) {
+            SqlQueryData countQuery = queryBuilder.buildCountQuery(resourceType, searchContext);
+            if (countQuery != null) {
+                int estimate = resourceDao.searchCountEstimate(countQuery);
+                if (log.isLoggable(Level.FINE)) {
+                    log.fine("searchResultCount estimate = " + estimate);
+                }
+                searchContext.setTotalCount(estimate);
+            }
+        }
+
+        // Without an accurate count, the last page is the current one unless the lookahead row is found
+        searchContext.setLastPageNumber(searchContext.getPageNumber());
+
+        SqlQueryData query = queryBuilder.buildLookaheadQuery(resourceType, searchContext);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+        return this.runSearchQuery(resourceDao, resourceType, searchContext, query, searchContext.getPageSize());
+    }
+
+    /**
+     * Runs the page query of a search and returns the resource DTOs in the order of the search. If the query returns
+     * more than maxResults rows, the extra rows are dropped and the last page number in the search context is moved
+     * past the current page.
+     */
+    private List<com.ibm.fhir.persistence.jdbc.dto.Resource> runSearchQuery(ResourceDAO resourceDao, Class<? extends Resource> resourceType,
+            FHIRSearchContext searchContext, SqlQueryData query, int maxResults) throws Exception {
+        if (searchContext.hasSortParameters() && !resourceType.equals(Resource.class)) {
+            // Sorting results of a system-level search is limited, and has a different logic path
+            // than other sorted searches.
+            List<Long> sortedIdList = limitSearchResults(resourceDao.searchForIds(query), maxResults, searchContext);
+            return this.sortResourceDTOs(this.getResourceDTOs(resourceDao, resourceType, sortedIdList), sortedIdList);
+        } else {
+            return limitSearchResults(resourceDao.search(query), maxResults, searchContext);
+        }
+    }
+
+    private <E> List<E> limitSearchResults(List<E> results, int maxResults, FHIRSearchContext searchContext) {
+        if (results.size() > maxResults) {
+            searchContext.setLastPageNumber(searchContext.getPageNumber() + 1);
+            return results.subList(0, maxResults);
+        }
+        return results;
+    }
+
+    /**
+     * Performs a search that returns the page of results following the keyset cursor in the search context.
+     * No count query is run, so the total count and last page number in the search context are not set.
+     * On return, the keyset cursor is positioned at the last resource in the page, or is unchanged if
+     * the page is empty.
+     */
+    private List<com.ibm.fhir.persistence.jdbc.dto.Resource> keysetSearch(JDBCQueryBuilder queryBuilder, ResourceDAO resourceDao,
+            Class<? extends Resource> resourceType, FHIRSearchContext searchContext) throws Exception {
+        if (isSystemLevelSearch(resourceType) || searchContext.hasSortParameters()
+                || searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()) {
+            throw buildNotSupportedException("Keyset paging is not supported for whole-system searches or "
+                    + "searches with _sort, _include or _revinclude");
+        }
+
+        if (searchContext.getPageSize() <= 0 || SummaryValueSet.COUNT.equals(searchContext.getSummaryParameter())) {
+            return Collections.emptyList();
+        }
+
+        SqlQueryData query = queryBuilder.buildQuery(resourceType, searchContext);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+
+        List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList = resourceDao.search(query);
+        if (!resourceDTOList.isEmpty()) {
+            com.ibm.fhir.persistence.jdbc.dto.Resource last = resourceDTOList.get(resourceDTOList.size() - 1);
+            searchContext.setKeysetCursor(new KeysetCursor(last.getLastUpdated().toInstant(), last.getLogicalResourceId()));
+        }
+        return resourceDTOList;
+    }
+
+    /**
+     * @return the list of element names to include in the search results, based on the _elements
+     *         or _summary parameter, or null if the complete resources should be returned
+     */
+    private List<String> getElementsToInclude(FHIRSearchContext searchContext, Class<? extends Resource> resourceType) {
+        List<String> elements = searchContext.getElementsParameters();
+
+        //Only consider _summary if _elements parameter is empty
+        if (elements == null && searchContext.hasSummaryParameter()) {
+            Set<String> summaryElements = null;
+            SummaryValueSet summary = searchContext.getSummaryParameter();
+
+            switch (summary) {
+            case TRUE:
+                summaryElements = JsonSupport.getSummaryElementNames(resourceType);
+                break;
+            case TEXT:
+                summaryElements = SearchUtil.getSummaryTextElementNames(resourceType);
+                break;
+            case DATA:
+                summaryElements = JsonSupport.getSummaryDataElementNames(resourceType);
+                break;
+            default:
+                break;
+            }
+
+            if (summaryElements != null) {
+                elements = new ArrayList<>();
+                elements.addAll(summaryElements);
+            }
+        }
+        return elements;
+    }
+
     /**
      * @return true if this instance represents a FHIR system level search
      */
@@ -689,7 +988,6 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
 
         com.ibm.fhir.persistence.jdbc.dto.Resource existingResourceDTO = null;
         T existingResource = null;
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
         Resource.Builder resourceBuilder;
 
@@ -707,12 +1005,16 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                 existingResource = this.convertResourceDTO(existingResourceDTO, resourceType, null);
                 resourceBuilder = existingResource.toBuilder();
 
-                addWarning(IssueType.DELETED, "Resource of type'" + resourceType.getSimpleName() +
+                List<OperationOutcome.Issue> supplementalIssues = new ArrayList<>();
+                addWarning(supplementalIssues, IssueType.DELETED, "Resource of type'" + resourceType.getSimpleName() +
                         "' with id '" + logicalId + "' is already deleted.");
 
                 SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                         .success(true)
                         .resource(existingResource)
+                        .outcome(OperationOutcome.builder()
+                            .issue(supplementalIssues)
+                            .build())
                         .build();
 
                 return result;
@@ -742,12 +1044,8 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             resourceDTO.setLogicalId(logicalId);
             resourceDTO.setVersionId(newVersionNumber);
 
-            // Serialize and compress the Resource
-            GZIPOutputStream zipStream = new GZIPOutputStream(stream);
-            FHIRGenerator.generator(Format.JSON, false).generate(updatedResource, zipStream);
-            zipStream.finish();
-            resourceDTO.setData(stream.toByteArray());
-            zipStream.close();
+            // Serialize and encode the Resource
+            resourceDTO.setData(PayloadCodecRegistry.getInstance().encode(updatedResource));
 
             Timestamp timestamp = FHIRUtilities.convertToTimestamp(lastUpdated.getValue());
             resourceDTO.setLastUpdated(timestamp);
@@ -762,6 +1060,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                 log.fine("Persisted FHIR Resource '" + resourceDTO.getResourceType() + "/" + resourceDTO.getLogicalId() + "' id=" + resourceDTO.getId()
                             + ", version=" + resourceDTO.getVersionId());
             }
+            addResourceCacheWrite(resourceDTO, updatedResource);
 
             SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                     .success(true)
@@ -800,42 +1099,40 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         T resource = null;
         com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = null;
 
-        FHIRSearchContext searchContext = context.getSearchContext();
-        List<String> elements = null;
-        //Check if _summary is required
-        if (searchContext != null && searchContext.hasSummaryParameter()) {
-            Set<String> summaryElements = null;
-            SummaryValueSet summary = searchContext.getSummaryParameter();
-
-            switch (summary) {
-            case TRUE:
-                summaryElements = JsonSupport.getSummaryElementNames(resourceType);
-                break;
-            case TEXT:
-                summaryElements = SearchUtil.getSummaryTextElementNames(resourceType);
-                break;
-            case DATA:
-                summaryElements = JsonSupport.getSummaryDataElementNames(resourceType);
-                break;
-            default:
-                break;
-            }
-
-            if (summaryElements != null) {
-                elements = new ArrayList<String>();
-                elements.addAll(summaryElements);
+        List<String> elements = getSummaryElements(context, resourceType);
+
+        // Only whole resources are cached
+        ResourceCache resourceCache = elements == null ? getResourceCache(resourceType.getSimpleName(), logicalId) : null;
+        if (resourceCache != null) {
+            CachedResource cached = resourceCache.getCurrent(resourceType.getSimpleName(), logicalId);
+            if (cached != null) {
+                if (cached.isDeleted() && !context.includeDeleted()) {
+                    log.exiting(CLASSNAME, METHODNAME);
+                    throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                            resourceType.getSimpleName() + "/" + logicalId + "' is deleted.");
+                }
+                log.exiting(CLASSNAME, METHODNAME);
+                return new SingleResourceResult.Builder<T>()
+                        .success(true)
+                        .resource(resourceType.cast(cached.getResource()))
+                        .build();
             }
         }
 
         try (Connection connection = openConnection()) {
             ResourceDAO resourceDao = makeResourceDAO(connection);
 
+            long writeCount = resourceCache != null ? resourceCache.getWriteCount() : 0;
             resourceDTO = resourceDao.read(logicalId, resourceType.getSimpleName());
             if (resourceDTO != null && resourceDTO.isDeleted() && !context.includeDeleted()) {
                 throw new FHIRPersistenceResourceDeletedException("Resource '" +
                         resourceType.getSimpleName() + "/" + logicalId + "' is deleted.");
             }
             resource = this.convertResourceDTO(resourceDTO, resourceType, elements);
+            if (resourceCache != null && resource != null) {
+                resourceCache.putRead(resourceType.getSimpleName(), logicalId, resourceDTO.getVersionId(), resource, resourceDTO.isDeleted(),
+                        ResourceCache.estimateSize(resourceDTO.getData()), true, writeCount);
+            }
 
             SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                     .success(true)
@@ -857,6 +1154,130 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         }
     }
 
+    @Override
+    public <T extends Resource> List<SingleResourceResult<T>> readMany(FHIRPersistenceContext context, Class<T> resourceType, List<String> logicalIds)
+                            throws FHIRPersistenceException {
+        final String METHODNAME = "readMany";
+        log.entering(CLASSNAME, METHODNAME);
+
+        String resourceTypeName = resourceType.getSimpleName();
+        List<String> elements = getSummaryElements(context, resourceType);
+
+        // The resources found in the resource cache or the database, keyed by logical id; deleted resources map to null
+        // unless deleted resources are included, and are also in deletedIds
+        Map<String, T> resourceMap = new HashMap<>();
+        Set<String> deletedIds = new HashSet<>();
+        Set<String> idsToRead = new LinkedHashSet<>();
+        Set<String> cacheableIds = new HashSet<>();
+        ResourceCache resourceCache = null;
+        for (String logicalId : logicalIds) {
+            if (resourceMap.containsKey(logicalId) || idsToRead.contains(logicalId)) {
+                continue;
+            }
+            // Only whole resources are cached
+            ResourceCache cache = elements == null ? getResourceCache(resourceTypeName, logicalId) : null;
+            if (cache != null) {
+                resourceCache = cache;
+                CachedResource cached = cache.getCurrent(resourceTypeName, logicalId);
+                if (cached != null) {
+                    if (cached.isDeleted() && !context.includeDeleted()) {
+                        deletedIds.add(logicalId);
+                        resourceMap.put(logicalId, null);
+                    } else {
+                        resourceMap.put(logicalId, resourceType.cast(cached.getResource()));
+                    }
+                    continue;
+                }
+                cacheableIds.add(logicalId);
+            }
+            idsToRead.add(logicalId);
+        }
+
+        try {
+            if (!idsToRead.isEmpty()) {
+                try (Connection connection = openConnection()) {
+                    ResourceDAO resourceDao = makeResourceDAO(connection);
+
+                    long writeCount = resourceCache != null ? resourceCache.getWriteCount() : 0;
+                    for (com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO : resourceDao.readAll(idsToRead, resourceTypeName)) {
+                        String logicalId = resourceDTO.getLogicalId();
+                        T resource = this.convertResourceDTO(resourceDTO, resourceType, elements);
+                        if (cacheableIds.contains(logicalId) && resource != null) {
+                            resourceCache.putRead(resourceTypeName, logicalId, resourceDTO.getVersionId(), resource, resourceDTO.isDeleted(),
+                                    ResourceCache.estimateSize(resourceDTO.getData()), true, writeCount);
+                        }
+                        if (resourceDTO.isDeleted() && !context.includeDeleted()) {
+                            deletedIds.add(logicalId);
+                            resourceMap.put(logicalId, null);
+                        } else {
+                            resourceMap.put(logicalId, resource);
+                        }
+                    }
+                }
+            }
+
+            List<SingleResourceResult<T>> results = new ArrayList<>(logicalIds.size());
+            for (String logicalId : logicalIds) {
+                if (deletedIds.contains(logicalId)) {
+                    String msg = "Resource '" + resourceTypeName + "/" + logicalId + "' is deleted.";
+                    results.add(new SingleResourceResult.Builder<T>()
+                            .success(false)
+                            .outcome(FHIRUtil.buildOperationOutcome(msg, IssueType.DELETED, IssueSeverity.ERROR))
+                            .build());
+                } else {
+                    results.add(new SingleResourceResult.Builder<T>()
+                            .success(true)
+                            .resource(resourceMap.get(logicalId))
+                            .build());
+                }
+            }
+            return results;
+        }
+        catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a read operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        }
+        finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * Returns the names of the elements to include in a resource of the given type read for the passed context.
+     *
+     * @return the element names for the _summary parameter of the search context, or null if whole resources are read
+     */
+    private List<String> getSummaryElements(FHIRPersistenceContext context, Class<? extends Resource> resourceType) {
+        FHIRSearchContext searchContext = context.getSearchContext();
+        List<String> elements = null;
+        //Check if _summary is required
+        if (searchContext != null && searchContext.hasSummaryParameter()) {
+            Set<String> summaryElements = null;
+            SummaryValueSet summary = searchContext.getSummaryParameter();
+
+            switch (summary) {
+            case TRUE:
+                summaryElements = JsonSupport.getSummaryElementNames(resourceType);
+                break;
+            case TEXT:
+                summaryElements = SearchUtil.getSummaryTextElementNames(resourceType);
+                break;
+            case DATA:
+                summaryElements = JsonSupport.getSummaryDataElementNames(resourceType);
+                break;
+            default:
+                break;
+            }
+
+            if (summaryElements != null) {
+                elements = new ArrayList<String>();
+                elements.addAll(summaryElements);
+            }
+        }
+        return elements;
+    }
+
     @Override
     public <T extends Resource> MultiResourceResult<T> history(FHIRPersistenceContext context, Class<T> resourceType,
             String logicalId) throws FHIRPersistenceException {
@@ -993,16 +1414,43 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = null;
         int version;
 
+        try {
+            version = Integer.parseInt(versionId);
+        } catch (NumberFormatException e) {
+            log.exiting(CLASSNAME, METHODNAME);
+            throw new FHIRPersistenceException("Invalid version id specified for vread operation: " + versionId);
+        }
+
+        ResourceCache resourceCache = getResourceCache(resourceType.getSimpleName(), logicalId);
+        if (resourceCache != null) {
+            CachedResource cached = resourceCache.get(resourceType.getSimpleName(), logicalId, version);
+            if (cached != null) {
+                if (cached.isDeleted() && !context.includeDeleted()) {
+                    log.exiting(CLASSNAME, METHODNAME);
+                    throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                            resourceType.getSimpleName() + "/" + logicalId + "' version " + versionId + " is deleted.");
+                }
+                log.exiting(CLASSNAME, METHODNAME);
+                return new SingleResourceResult.Builder<T>()
+                        .success(true)
+                        .resource(resourceType.cast(cached.getResource()))
+                        .build();
+            }
+        }
+
         try (Connection connection = openConnection()) {
             ResourceDAO resourceDao = makeResourceDAO(connection);
 
-            version = Integer.parseInt(versionId);
             resourceDTO = resourceDao.versionRead(logicalId, resourceType.getSimpleName(), version);
             if (resourceDTO != null && resourceDTO.isDeleted() && !context.includeDeleted()) {
                 throw new FHIRPersistenceResourceDeletedException("Resource '" +
                         resourceType.getSimpleName() + "/" + logicalId + "' version " + versionId + " is deleted.");
             }
             resource = this.convertResourceDTO(resourceDTO, resourceType, null);
+            if (resourceCache != null && resource != null) {
+                resourceCache.putRead(resourceType.getSimpleName(), logicalId, version, resource, resourceDTO.isDeleted(),
+                        ResourceCache.estimateSize(resourceDTO.getData()), false, 0);
+            }
 
             SingleResourceResult<T> result = new SingleResourceResult.Builder<T>()
                     .success(true)
@@ -1014,11 +1462,88 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         catch(FHIRPersistenceResourceDeletedException e) {
             throw e;
         }
-        catch (NumberFormatException e) {
+        catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a version read operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        }
+        finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * @throws FHIRPersistenceResourceDeletedException if the resource being read is currently in a deleted state and
+     *         FHIRPersistenceContext.includeDeleted() is set to false
+     */
+    @Override
+    public RawResource readRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId)
+            throws FHIRPersistenceException {
+        final String METHODNAME = "readRaw";
+        log.entering(CLASSNAME, METHODNAME);
+
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+
+            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = resourceDao.read(logicalId, resourceType.getSimpleName());
+            if (resourceDTO == null) {
+                return null;
+            }
+            if (resourceDTO.isDeleted() && !context.includeDeleted()) {
+                throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                        resourceType.getSimpleName() + "/" + logicalId + "' is deleted.");
+            }
+            return this.convertResourceDTOToRaw(resourceDTO, resourceType);
+        }
+        catch(FHIRPersistenceResourceDeletedException e) {
+            throw e;
+        }
+        catch(Throwable e) {
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a raw read operation.");
+            log.log(Level.SEVERE, fx.getMessage(), e);
+            throw fx;
+        }
+        finally {
+            log.exiting(CLASSNAME, METHODNAME);
+        }
+    }
+
+    /**
+     * @throws FHIRPersistenceResourceDeletedException if the resource being read is currently in a deleted state and
+     *         FHIRPersistenceContext.includeDeleted() is set to false
+     */
+    @Override
+    public RawResource vreadRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId, String versionId)
+            throws FHIRPersistenceException {
+        final String METHODNAME = "vreadRaw";
+        log.entering(CLASSNAME, METHODNAME);
+
+        int version;
+        try {
+            version = Integer.parseInt(versionId);
+        } catch (NumberFormatException e) {
+            log.exiting(CLASSNAME, METHODNAME);
             throw new FHIRPersistenceException("Invalid version id specified for vread operation: " + versionId);
         }
+
+        try (Connection connection = openConnection()) {
+            ResourceDAO resourceDao = makeResourceDAO(connection);
+
+            com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO = resourceDao.versionRead(logicalId, resourceType.getSimpleName(), version);
+            if (resourceDTO == null) {
+                return null;
+            }
+            if (resourceDTO.isDeleted() && !context.includeDeleted()) {
+                throw new FHIRPersistenceResourceDeletedException("Resource '" +
+                        resourceType.getSimpleName() + "/" + logicalId + "' version " + versionId + " is deleted.");
+            }
+            return this.convertResourceDTOToRaw(resourceDTO, resourceType);
+        }
+        catch(FHIRPersistenceResourceDeletedException e) {
+            throw e;
+        }
         catch(Throwable e) {
-            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a version read operation.");
+            FHIRPersistenceException fx = new FHIRPersistenceException("Unexpected error while performing a raw version read operation.");
             log.log(Level.SEVERE, fx.getMessage(), e);
             throw fx;
         }
@@ -1028,55 +1553,37 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     }
 
     /**
-     * This method takes the passed list of sorted Resource ids, acquires the Resource corresponding to each id, and returns those Resources in a List,
-     * sorted according to the input sorted ids.
-     * @param context - The FHIR persistence context for the current request.
-     * @param resourceType - The type of Resource that each id in the passed list represents.
-     * @param sortedIdList - A list of Resource ids representing the proper sort order for the list of Resources to be returned.
-     * @param elements - An optional list of element names to include in the resources. If null, filtering will be skipped.
-     * @return List<Resource> - A list of Resources of the passed resourceType, sorted according the order of ids in the passed sortedIdList.
-     * @throws FHIRPersistenceException
-     * @throws IOException
+     * This method takes the passed list of Resource DTOs and returns them in a List, sorted according to the passed sorted ids.
+     * @param resourceDTOList - A list of Resource DTOs, in any order.
+     * @param sortedIdList - A list of Resource ids representing the proper sort order for the list of Resource DTOs to be returned.
+     * @return List - A list of Resource DTOs, sorted according the order of ids in the passed sortedIdList.
      */
-    protected List<Resource> buildSortedFhirResources(ResourceDAO resourceDao, FHIRPersistenceContext context, Class<? extends Resource> resourceType, List<Long> sortedIdList,
-            List<String> elements) throws FHIRException, FHIRPersistenceException, IOException {
-        final String METHOD_NAME = "buildSortedFhirResources";
+    private List<com.ibm.fhir.persistence.jdbc.dto.Resource> sortResourceDTOs(List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList,
+            List<Long> sortedIdList) {
+        final String METHOD_NAME = "sortResourceDTOs";
         log.entering(this.getClass().getName(), METHOD_NAME);
 
-        long resourceId;
-        Resource[] sortedFhirResources = new Resource[sortedIdList.size()];
-        Resource fhirResource;
-        int sortIndex;
-        List<Resource> sortedResourceList = new ArrayList<>();
-        List<com.ibm.fhir.persistence.jdbc.dto.Resource> resourceDTOList;
+        com.ibm.fhir.persistence.jdbc.dto.Resource[] sortedResourceDTOs = new com.ibm.fhir.persistence.jdbc.dto.Resource[sortedIdList.size()];
+        List<com.ibm.fhir.persistence.jdbc.dto.Resource> sortedResourceDTOList = new ArrayList<>();
         Map<Long,Integer> idPositionMap = new HashMap<>();
 
         // This loop builds a Map where key=resourceId, and value=its proper position in the returned sorted collection.
         for(int i = 0; i < sortedIdList.size(); i++) {
-            resourceId = sortedIdList.get(i);
-            idPositionMap.put(new Long(resourceId), new Integer(i));
+            idPositionMap.put(sortedIdList.get(i), i);
         }
 
-        resourceDTOList = this.getResourceDTOs(resourceDao, resourceType, sortedIdList);
-
-
-        // Convert the returned JPA Resources to FHIR Resources, and store each FHIRResource in its proper position
-        // in the returned sorted resource list.
+        // Store each Resource DTO in its proper position in the returned sorted list.
         for (com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO : resourceDTOList) {
-            fhirResource = this.convertResourceDTO(resourceDTO, resourceType, elements);
-            if (fhirResource != null) {
-                sortIndex = idPositionMap.get(resourceDTO.getId());
-                sortedFhirResources[sortIndex] = fhirResource;
-            }
+            sortedResourceDTOs[idPositionMap.get(resourceDTO.getId())] = resourceDTO;
         }
 
-        for (int i = 0; i <sortedFhirResources.length; i++) {
-            if (sortedFhirResources[i] != null) {
-                sortedResourceList.add(sortedFhirResources[i]);
+        for (int i = 0; i < sortedResourceDTOs.length; i++) {
+            if (sortedResourceDTOs[i] != null) {
+                sortedResourceDTOList.add(sortedResourceDTOs[i]);
             }
         }
         log.exiting(this.getClass().getName(), METHOD_NAME);
-        return sortedResourceList;
+        return sortedResourceDTOList;
     }
 
     /**
@@ -1124,6 +1631,64 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return resources;
     }
 
+    /**
+     * Returns the resource cache to use for reading the given resource. The cache is only used when running in a
+     * container, where the transaction synchronization registry tells us when writes are committed, and it is bypassed
+     * for resources written by the current transaction.
+     *
+     * @return the resource cache of the current tenant/datastore, or null if the resource must be read from the database
+     */
+    private ResourceCache getResourceCache(String resourceType, String logicalId) {
+        if (this.trxSynchRegistry == null) {
+            return null;
+        }
+        ResourceCache resourceCache = ResourceCache.getCacheForTenantDatastore();
+        if (resourceCache != null && this.trxSynchRegistry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION) {
+            ResourceCacheUpdater updater = (ResourceCacheUpdater) this.trxSynchRegistry.getResource(ResourceCacheUpdater.class);
+            if (updater != null && updater.isWritten(resourceType, logicalId)) {
+                return null;
+            }
+        }
+        return resourceCache;
+    }
+
+    /**
+     * Records a resource version written by the current transaction, to be added to the resource cache when the
+     * transaction commits.
+     */
+    private void addResourceCacheWrite(com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO, Resource resource) throws FHIRPersistenceException {
+        if (this.trxSynchRegistry == null) {
+            return;
+        }
+        ResourceCache resourceCache = ResourceCache.getCacheForTenantDatastore();
+        if (resourceCache == null) {
+            return;
+        }
+
+        long estimatedSize = ResourceCache.estimateSize(resourceDTO.getData());
+        if (this.trxSynchRegistry.getTransactionStatus() == Status.STATUS_NO_TRANSACTION) {
+            // auto-committed
+            resourceCache.putCommitted(resourceDTO.getResourceType(), resourceDTO.getLogicalId(), resourceDTO.getVersionId(),
+                    resource, resourceDTO.isDeleted(), estimatedSize);
+            return;
+        }
+
+        ResourceCacheUpdater updater = (ResourceCacheUpdater) this.trxSynchRegistry.getResource(ResourceCacheUpdater.class);
+        if (updater == null) {
+            // Register a new ResourceCacheUpdater for this trx, if one hasn't been already registered.
+            updater = new ResourceCacheUpdater(resourceCache);
+            try {
+                this.trxSynchRegistry.registerInterposedSynchronization(updater);
+                this.trxSynchRegistry.putResource(ResourceCacheUpdater.class, updater);
+                log.fine("Registered ResourceCacheUpdater.");
+            } catch (Throwable e) {
+                throw new FHIRPersistenceException("Failure registering ResourceCacheUpdater", e);
+            }
+        }
+        updater.addWrite(resourceDTO.getResourceType(), resourceDTO.getLogicalId(), resourceDTO.getVersionId(), resource,
+                resourceDTO.isDeleted(), estimatedSize);
+    }
+
    /**
      * Calls some cache analysis methods and aggregates the output into a single String.
      * @return
@@ -1140,6 +1705,8 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
             diags.append(ParameterNamesCache.dumpCacheContents()).append(ParameterNamesCache.reportCacheDiscrepancies(parameterDao));
             diags.append(CodeSystemsCache.dumpCacheContents()).append(CodeSystemsCache.reportCacheDiscrepancies(parameterDao));
             diags.append(ResourceTypesCache.dumpCacheContents()).append(ResourceTypesCache.reportCacheDiscrepancies(resourceDao));
+            diags.append(ResourceCache.dumpCacheStatistics());
+            diags.append(SearchQueryCache.dumpCacheStatistics());
         } catch (Exception x) {
             log.log(Level.SEVERE, "failed to produce cache diagnostics", x);
             diags.append("No cache diagnostic info available");
@@ -1171,10 +1738,11 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
      * Extracts search parameters for the passed FHIR Resource.
      * @param fhirResource - Some FHIR Resource
      * @param resourceDTO - A Resource DTO representation of the passed FHIR Resource.
+     * @param issues - The list to which warnings about parameter values which can't be extracted are added.
      * @throws Exception
      */
-    private List<ExtractedParameterValue> extractSearchParameters(Resource fhirResource, com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO)
-                 throws Exception {
+    private List<ExtractedParameterValue> extractSearchParameters(Resource fhirResource, com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO,
+                 List<OperationOutcome.Issue> issues) throws Exception {
         final String METHODNAME = "extractSearchParameters";
         log.entering(CLASSNAME, METHODNAME);
 
@@ -1306,7 +1874,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                                     if (log.isLoggable(Level.FINE)) {
                                         log.fine(msg);
                                     }
-                                    addWarning(IssueType.INVALID, msg);
+                                    addWarning(issues, IssueType.INVALID, msg);
                                     continue;
                                 }
                             } catch (IllegalArgumentException e) {
@@ -1321,7 +1889,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                                 if (log.isLoggable(Level.FINE)) {
                                     log.fine(msg.toString());
                                 }
-                                addWarning(IssueType.INVALID, msg.toString());
+                                addWarning(issues, IssueType.INVALID, msg.toString());
                             }
                         }
                         if (components.size() == p.getComponent().size()) {
@@ -1353,7 +1921,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                                 if (log.isLoggable(Level.FINE)) {
                                     log.fine(msg);
                                 }
-                                addWarning(IssueType.INVALID, msg);
+                                addWarning(issues, IssueType.INVALID, msg);
                                 continue;
                             }
                         } catch (IllegalArgumentException e) {
@@ -1368,7 +1936,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
                             if (log.isLoggable(Level.FINE)) {
                                 log.fine(msg.toString());
                             }
-                            addWarning(IssueType.INVALID, msg.toString());
+                            addWarning(issues, IssueType.INVALID, msg.toString());
                         }
                     }
                     // retrieve the list of parameters built from all the FHIRPathElementNode values
@@ -1548,7 +2116,7 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         T resource = null;
         try {
             if (resourceDTO != null) {
-                InputStream in = new GZIPInputStream(new ByteArrayInputStream(resourceDTO.getData()));
+                InputStream in = PayloadCodecRegistry.getInstance().decode(resourceDTO.getData());
                 if (elements != null) {
                     // parse/filter the resource using elements
                     resource = FHIRParser.parser(Format.JSON).as(FHIRJsonParser.class).parseAndFilter(in, elements);
@@ -1567,6 +2135,29 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return resource;
     }
 
+    /**
+     * Converts the passed Resource Data Transfer Object to a RawResource, without parsing the resource.
+     * @param resourceDTO - A valid Resource DTO
+     * @param resourceType - The FHIR type of the resource.
+     * @return RawResource - The stored JSON of the passed Resource DTO.
+     * @throws IOException
+     */
+    private RawResource convertResourceDTOToRaw(com.ibm.fhir.persistence.jdbc.dto.Resource resourceDTO,
+            Class<? extends Resource> resourceType) throws IOException {
+        PayloadCodecRegistry payloadCodecRegistry = PayloadCodecRegistry.getInstance();
+        long decodedLength = payloadCodecRegistry.getDecodedLength(resourceDTO.getData());
+        ByteArrayOutputStream json = new ByteArrayOutputStream(decodedLength > 0 ? (int) decodedLength : resourceDTO.getData().length * 4);
+        try (InputStream in = payloadCodecRegistry.decode(resourceDTO.getData())) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                json.write(buffer, 0, count);
+            }
+        }
+        return new RawResource(resourceType.getSimpleName(), resourceDTO.getLogicalId(), resourceDTO.getVersionId(),
+                resourceDTO.getLastUpdated().toInstant(), resourceDTO.isDeleted(), json.toByteArray());
+    }
+
     @Override
     public boolean isTransactional() {
         return true;
@@ -1587,6 +2178,16 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
         return true;
     }
 
+    @Override
+    public boolean isRawResourceSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isKeysetPagingSupported() {
+        return true;
+    }
+
     private OperationOutcome buildOKOperationOutcome() {
         return FHIRUtil.buildOperationOutcome("All OK", IssueType.INFORMATIONAL, IssueSeverity.INFORMATION);
     }
@@ -1596,10 +2197,10 @@ public class FHIRPersistenceJDBCImpl implements FHIRPersistence, SchemaNameSuppl
     }
 
     /**
-     * Associate a supplemental warning with the current request
+     * Add a supplemental warning to the issues of the current operation
      */
-    private void addWarning(IssueType issueType, String message, String... expression) {
-        supplementalIssues.add(OperationOutcome.Issue.builder()
+    private void addWarning(List<OperationOutcome.Issue> issues, IssueType issueType, String message, String... expression) {
+        issues.add(OperationOutcome.Issue.builder()
                 .severity(IssueSeverity.WARNING)
                 .code(issueType)
                 .details(CodeableConcept.builder()
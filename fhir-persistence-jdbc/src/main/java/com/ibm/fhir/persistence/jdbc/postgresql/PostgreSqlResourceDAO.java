@@ -18,6 +18,8 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.List;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,9 +30,6 @@ import com.ibm.fhir.persistence.exception.FHIRPersistenceVersionIdMismatchExcept
 import com.ibm.fhir.persistence.jdbc.connection.FHIRDbFlavor;
 import com.ibm.fhir.persistence.jdbc.dao.api.FhirRefSequenceDAO;
 import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
-import com.ibm.fhir.persistence.jdbc.dao.impl.CodeSystemCacheAdapter;
-import com.ibm.fhir.persistence.jdbc.dao.impl.ParameterNameCacheAdapter;
-import com.ibm.fhir.persistence.jdbc.dao.impl.ParameterVisitorBatchDAO;
 import com.ibm.fhir.persistence.jdbc.dao.impl.ResourceDAOImpl;
 import com.ibm.fhir.persistence.jdbc.dto.ExtractedParameterValue;
 import com.ibm.fhir.persistence.jdbc.dto.Resource;
@@ -38,6 +37,7 @@ import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceDBConnectException
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceDataAccessException;
 import com.ibm.fhir.persistence.jdbc.exception.FHIRPersistenceFKVException;
 import com.ibm.fhir.persistence.jdbc.util.ResourceTypesCache;
+import com.ibm.fhir.persistence.jdbc.util.SqlQueryData;
 
 /**
  * Data access object for writing FHIR resources to an postgresql database.
@@ -51,6 +51,11 @@ public class PostgreSqlResourceDAO extends ResourceDAOImpl {
 
     private static final String SQL_READ_RESOURCE_TYPE = "{CALL %s.add_resource_type(?, ?)}";
     private static final String SQL_INSERT_WITH_PARAMETERS = "{CALL %s.add_any_resource(?,?,?,?,?,?,?,?)}";
+    private static final String SQL_EXPLAIN = "EXPLAIN ";
+
+    // Matches a node of the text EXPLAIN output, e.g. "  ->  Parallel Seq Scan on observation_logical_resources lr  (cost=0.00..5.04 rows=104 width=0)"
+    private static final Pattern EXPLAIN_NODE = Pattern.compile("^\\s*(?:->\\s*)?(.+?)\\s+\\(cost=\\S+ rows=(\\d+) ");
+    private static final Pattern EXPLAIN_WORKERS = Pattern.compile("^\\s*Workers Planned: (\\d+)");
 
     // DAO used to obtain sequence values from FHIR_REF_SEQUENCE
     private FhirRefSequenceDAO fhirRefSequenceDAO;
@@ -100,6 +105,7 @@ public class PostgreSqlResourceDAO extends ResourceDAOImpl {
                          "  acquiredFromCache=" + acquiredFromCache + "  tenantDatastoreCacheName=" + ResourceTypesCache.getCacheNameForTenantDatastore());
             }
 
+            prepareForInsert(resource);
             stmtString = String.format(SQL_INSERT_WITH_PARAMETERS, getSchemaName());
             stmt = connection.prepareCall(stmtString);
             stmt.setString(1, resource.getResourceType());
@@ -125,12 +131,7 @@ public class PostgreSqlResourceDAO extends ResourceDAOImpl {
             // Note we don't get any parameters for the resource soft-delete operation
             if (parameters != null) {
                 // postgresql doesn't support partitioned multi-tenancy, so we disable it on the DAO:
-                try (ParameterVisitorBatchDAO pvd = new ParameterVisitorBatchDAO(connection, null, resource.getResourceType(), false, resource.getId(), 100,
-                    new ParameterNameCacheAdapter(parameterDao), new CodeSystemCacheAdapter(parameterDao))) {
-                    for (ExtractedParameterValue p: parameters) {
-                        p.accept(pvd);
-                    }
-                }
+                insertParameters(null, resource.getResourceType(), false, resource.getId(), parameters, parameterDao);
             }
 
             if (logger.isLoggable(Level.FINE)) {
@@ -263,4 +264,69 @@ public class PostgreSqlResourceDAO extends ResourceDAOImpl {
         return resourceTypeId;
     }
 
+
+    /**
+     * Estimates the count from the row estimate of the query planner, which doesn't execute the query.
+     * The count query aggregates the matching rows, so the estimate is taken from the first plan node
+     * below the aggregate (and below the gather node of a parallel plan).
+     */
+    @Override
+    public int searchCountEstimate(SqlQueryData queryData) throws FHIRPersistenceDataAccessException, FHIRPersistenceDBConnectException {
+        final String METHODNAME = "searchCountEstimate";
+        logger.entering(CLASSNAME, METHODNAME);
+
+        final Connection connection = getConnection(); // do not close
+        final String sql = SQL_EXPLAIN + queryData.getQueryString();
+        final List<? extends Object> bindVariables = queryData.getBindVariables();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        int estimate = 0;
+        int workersPlanned = 0;
+
+        try {
+            stmt = connection.prepareStatement(sql);
+            for (int i = 0; i < bindVariables.size(); i++) {
+                Object value = bindVariables.get(i);
+                if (value instanceof Timestamp) {
+                    stmt.setTimestamp(i + 1, (Timestamp) value, UTC);
+                } else {
+                    stmt.setObject(i + 1, value);
+                }
+            }
+            rs = stmt.executeQuery();
+            while (rs.next()) {
+                String line = rs.getString(1);
+                Matcher workers = EXPLAIN_WORKERS.matcher(line);
+                if (workers.find()) {
+                    workersPlanned = Integer.parseInt(workers.group(1));
+                    continue;
+                }
+                Matcher node = EXPLAIN_NODE.matcher(line);
+                if (node.find()) {
+                    String nodeType = node.group(1);
+                    if (nodeType.contains("Aggregate") || nodeType.startsWith("Gather")) {
+                        continue;
+                    }
+                    long rows = Long.parseLong(node.group(2));
+                    if (nodeType.startsWith("Parallel")) {
+                        // The estimate of a parallel node is per process, and the leader takes part too
+                        rows *= workersPlanned + 1;
+                    }
+                    estimate = (int) Math.min(rows, Integer.MAX_VALUE);
+                    break;
+                }
+            }
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Estimated count. SQL=" + sql + "  estimate=" + estimate);
+            }
+        } catch (Throwable e) {
+            // Don't emit the SQL text in an exception - it risks returning it to the client in a response
+            FHIRPersistenceDataAccessException fx = new FHIRPersistenceDataAccessException("Server error: failure estimating count");
+            throw severe(logger, fx, "Failure estimating count. SQL=" + sql, e);
+        } finally {
+            cleanup(rs, stmt);
+            logger.exiting(CLASSNAME, METHODNAME);
+        }
+        return estimate;
+    }
 }
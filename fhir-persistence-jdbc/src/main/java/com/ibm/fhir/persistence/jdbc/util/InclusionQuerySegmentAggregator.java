@@ -398,4 +398,12 @@ public class InclusionQuerySegmentAggregator extends QuerySegmentAggregator {
 
         log.exiting(CLASSNAME, METHODNAME);
     }
-}
\ No newline at end of file
+
+    /**
+     * The _include and _revinclude sub-queries are not part of the shape key, so these queries are always built.
+     */
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+}
@@ -140,7 +140,7 @@ public class JDBCQueryBuilder extends AbstractQueryBuilder<SqlQueryData> {
 
         helper = this.buildQueryCommon(resourceType, searchContext);
         if (helper != null) {
-            query = helper.buildCountQuery();
+            query = helper.buildCountQuery(SearchQueryCache.getCacheForTenantDatastore());
         }
 
         log.exiting(CLASSNAME, METHODNAME);
@@ -158,7 +158,36 @@ public class JDBCQueryBuilder extends AbstractQueryBuilder<SqlQueryData> {
 
         helper = this.buildQueryCommon(resourceType, searchContext);
         if (helper != null) {
-            query = helper.buildQuery();
+            query = helper.buildQuery(SearchQueryCache.getCacheForTenantDatastore());
+        }
+
+        log.exiting(CLASSNAME, METHODNAME);
+        return query;
+    }
+
+    /**
+     * Builds a query for the requested page of search results that fetches one extra row past the end of the page.
+     * Whether or not the extra row is found tells the caller if there is a next page, without having to run
+     * a count query.
+     *
+     * @param resourceType
+     *                      - The type of resource being searched for.
+     * @param searchContext
+     *                      - The search context containing the search parameters.
+     * @return SqlQueryData - A query returning up to pageSize + 1 rows
+     * @throws Exception
+     */
+    public SqlQueryData buildLookaheadQuery(Class<?> resourceType, FHIRSearchContext searchContext) throws Exception {
+        final String METHODNAME = "buildLookaheadQuery";
+        log.entering(CLASSNAME, METHODNAME,
+                new Object[] { resourceType.getSimpleName(), searchContext.getSearchParameters() });
+
+        SqlQueryData query = null;
+        QuerySegmentAggregator helper;
+
+        helper = this.buildQueryCommon(resourceType, searchContext, searchContext.getPageSize() + 1);
+        if (helper != null) {
+            query = helper.buildQuery(SearchQueryCache.getCacheForTenantDatastore());
         }
 
         log.exiting(CLASSNAME, METHODNAME);
@@ -179,6 +208,25 @@ public class JDBCQueryBuilder extends AbstractQueryBuilder<SqlQueryData> {
      */
     private QuerySegmentAggregator buildQueryCommon(Class<?> resourceType, FHIRSearchContext searchContext)
             throws Exception {
+        return buildQueryCommon(resourceType, searchContext, searchContext.getPageSize());
+    }
+
+    /**
+     * Contains logic common to the building of both 'count' resource queries and
+     * 'regular' resource queries.
+     *
+     * @param resourceType
+     *                      The type of FHIR resource being searched for.
+     * @param searchContext
+     *                      The search context containing search parameters.
+     * @param maxRows
+     *                      The max number of rows returned by the query, starting at the first row of the requested page.
+     * @return QuerySegmentAggregator - A query builder helper containing processed
+     *         query segments.
+     * @throws Exception
+     */
+    private QuerySegmentAggregator buildQueryCommon(Class<?> resourceType, FHIRSearchContext searchContext, int maxRows)
+            throws Exception {
         final String METHODNAME = "buildQueryCommon";
         log.entering(CLASSNAME, METHODNAME,
                 new Object[] { resourceType.getSimpleName(), searchContext.getSearchParameters() });
@@ -209,7 +257,7 @@ public class JDBCQueryBuilder extends AbstractQueryBuilder<SqlQueryData> {
         boolean isValidQuery = true;
 
         helper =
-                QuerySegmentAggregatorFactory.buildQuerySegmentAggregator(resourceType, offset, pageSize,
+                QuerySegmentAggregatorFactory.buildQuerySegmentAggregator(resourceType, offset, maxRows,
                         this.parameterDao, this.resourceDao, searchContext, this.queryHints);
 
         // Special logic for handling LocationPosition queries. These queries have interdependencies between
@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.util;
+
+import static com.ibm.fhir.persistence.jdbc.JDBCConstants.FROM;
+import static com.ibm.fhir.persistence.jdbc.JDBCConstants.JOIN;
+import static com.ibm.fhir.persistence.jdbc.JDBCConstants.LEFT_PAREN;
+import static com.ibm.fhir.persistence.jdbc.JDBCConstants.ON;
+import static com.ibm.fhir.persistence.jdbc.JDBCConstants.RIGHT_PAREN;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.persistence.jdbc.connection.QueryHints;
+import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
+import com.ibm.fhir.persistence.jdbc.dao.api.ResourceDAO;
+import com.ibm.fhir.search.context.KeysetCursor;
+
+/**
+ * This class assists the JDBCQueryBuilder in building queries that page through the results
+ * by keyset rather than by offset. Results are ordered by (LAST_UPDATED, LOGICAL_RESOURCE_ID) and
+ * each page starts immediately after the position held by the {@link KeysetCursor}, so the database
+ * never has to scan and discard the rows from earlier pages.
+ *
+ * Keyset paging is only supported for resource type level searches without _sort, _include or _revinclude.
+ */
+public class KeysetQuerySegmentAggregator extends QuerySegmentAggregator {
+    private static final String CLASSNAME = KeysetQuerySegmentAggregator.class.getName();
+    private static final Logger log = java.util.logging.Logger.getLogger(CLASSNAME);
+
+    protected static final String KEYSET_PREDICATE =
+            " AND (R.LAST_UPDATED > ? OR (R.LAST_UPDATED = ? AND R.LOGICAL_RESOURCE_ID > ?))";
+    protected static final String KEYSET_ORDERING = " ORDER BY R.LAST_UPDATED ASC, R.LOGICAL_RESOURCE_ID ASC ";
+
+    private final KeysetCursor cursor;
+    private final int pageSize;
+
+    /**
+     * Constructs a new KeysetQuerySegmentAggregator
+     *
+     * @param resourceType - The type of FHIR Resource to be searched for.
+     * @param pageSize     - The max number of requested search results.
+     * @param cursor       - The position after which the requested search results begin.
+     */
+    protected KeysetQuerySegmentAggregator(Class<?> resourceType, int pageSize, ParameterDAO parameterDao,
+            ResourceDAO resourceDao, KeysetCursor cursor, QueryHints queryHints) {
+        super(resourceType, 0, pageSize, parameterDao, resourceDao, queryHints);
+        this.pageSize = pageSize;
+        this.cursor   = cursor == null ? KeysetCursor.START : cursor;
+    }
+
+    /**
+     * Builds a complete SQL Query based upon the encapsulated query segments, bind variables
+     * and keyset cursor. The general form of query we are building looks like this:
+     *
+     *   SELECT R.RESOURCE_ID, R.LOGICAL_RESOURCE_ID, R.VERSION_ID, R.LAST_UPDATED, R.IS_DELETED, R.DATA, LR.LOGICAL_ID
+     *     FROM Observation_RESOURCES R
+     *     JOIN (
+     *   SELECT DISTINCT LR.LOGICAL_RESOURCE_ID, LR.LOGICAL_ID, LR.CURRENT_RESOURCE_ID
+     *     FROM Observation_LOGICAL_RESOURCES LR
+     *     JOIN Observation_TOKEN_VALUES pv1
+     *       ON pv1.PARAMETER_NAME_ID=1191 AND pv1.TOKEN_VALUE = :p1
+     *      AND pv1.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID) LR
+     *       ON R.LOGICAL_RESOURCE_ID=LR.LOGICAL_RESOURCE_ID
+     *      AND R.RESOURCE_ID = LR.CURRENT_RESOURCE_ID
+     *      AND R.IS_DELETED <> 'Y'
+     *      AND (R.LAST_UPDATED > :lastUpdated OR (R.LAST_UPDATED = :lastUpdated AND R.LOGICAL_RESOURCE_ID > :key))
+     * ORDER BY R.LAST_UPDATED ASC, R.LOGICAL_RESOURCE_ID ASC
+     *    FETCH FIRST :pageSize ROWS ONLY
+     *
+     * The keyset predicate is omitted when the cursor is positioned before the first result.
+     *
+     * @return SqlQueryData - contains the complete SQL query string and any
+     *         associated bind variables.
+     * @throws Exception
+     */
+    @Override
+    protected SqlQueryData buildQuery() throws Exception {
+        final String METHODNAME = "buildQuery";
+        log.entering(CLASSNAME, METHODNAME);
+
+        if (this.isSystemLevelSearch()) {
+            throw new UnsupportedOperationException("Keyset paging is not supported for system level searches");
+        }
+
+        StringBuilder queryString = new StringBuilder();
+
+        queryString.append(NEW_SELECT_ROOT);
+        queryString.append(FROM);
+        queryString.append(resourceType.getSimpleName().toUpperCase() + "_RESOURCES R");
+        queryString.append(JOIN).append(LEFT_PAREN);
+        queryString.append(SELECT_DISTINCT_ROOT);
+        buildFromClause(queryString, resourceType.getSimpleName()); // FROM <resourceType>_LOGICAL_RESOURCES
+        buildWhereClause(queryString, null); // technically the JOIN clause
+        queryString.append(RIGHT_PAREN).append(" AS LR ");
+        queryString.append(ON);
+        queryString.append("     R.LOGICAL_RESOURCE_ID = LR.LOGICAL_RESOURCE_ID ");
+        queryString.append(" AND R.RESOURCE_ID = LR.CURRENT_RESOURCE_ID ");
+        queryString.append(" AND R.IS_DELETED <> 'Y'");
+
+        // Same bind order as the offset query: _id, _lastUpdated, values table and then the keyset
+        List<Object> allBindVariables = new ArrayList<>();
+        allBindVariables.addAll(idsObjects);
+        allBindVariables.addAll(lastUpdatedObjects);
+        for (SqlQueryData querySegment : this.querySegments) {
+            allBindVariables.addAll(querySegment.getBindVariables());
+        }
+
+        if (!cursor.isStart()) {
+            Timestamp lastUpdated = Timestamp.from(cursor.getLastUpdated());
+            queryString.append(KEYSET_PREDICATE);
+            allBindVariables.add(lastUpdated);
+            allBindVariables.add(lastUpdated);
+            allBindVariables.add(cursor.getResourceKey());
+        }
+
+        queryString.append(KEYSET_ORDERING);
+        this.addPaginationClauses(queryString);
+        addOptimizerHint(queryString);
+        SqlQueryData queryData = new SqlQueryData(queryString.toString(), allBindVariables);
+
+        log.exiting(CLASSNAME, METHODNAME, queryData);
+        return queryData;
+    }
+
+    /**
+     * Limits the query to a single page; there is never an offset because the
+     * keyset predicate already skips the earlier pages.
+     */
+    @Override
+    protected void addPaginationClauses(StringBuilder queryString) throws Exception {
+        if (this.parameterDao.isDb2Database()) {
+            queryString.append(" LIMIT ").append(this.pageSize);
+        } else {
+            queryString.append(" FETCH FIRST ").append(this.pageSize).append(" ROWS ONLY");
+        }
+    }
+
+    /**
+     * The keyset cursor is bound outside of the known bind sources, so these queries are always built.
+     */
+    @Override
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+}
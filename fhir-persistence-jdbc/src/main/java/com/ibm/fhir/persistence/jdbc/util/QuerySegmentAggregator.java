@@ -23,6 +23,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.ibm.fhir.database.utils.common.DataDefinitionUtil;
@@ -31,6 +33,7 @@ import com.ibm.fhir.persistence.jdbc.JDBCConstants;
 import com.ibm.fhir.persistence.jdbc.connection.QueryHints;
 import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
 import com.ibm.fhir.persistence.jdbc.dao.api.ResourceDAO;
+import com.ibm.fhir.persistence.jdbc.util.SearchQueryCache.QueryTemplate;
 import com.ibm.fhir.persistence.jdbc.util.type.LastUpdatedParmBehaviorUtil;
 import com.ibm.fhir.search.SearchConstants.Modifier;
 import com.ibm.fhir.search.SearchConstants.Type;
@@ -69,6 +72,12 @@ public class QuerySegmentAggregator {
     protected static final Set<String> SKIP_WHERE =
             new HashSet<>(Arrays.asList(ID, LAST_UPDATED));
 
+    // The sources of the bind variables of a query. The bind variables of query segment i come from source
+    // SEGMENT_BIND_SOURCE + i.
+    protected static final int ID_BIND_SOURCE = 0;
+    protected static final int LAST_UPDATED_BIND_SOURCE = 1;
+    protected static final int SEGMENT_BIND_SOURCE = 2;
+
     protected Class<?> resourceType;
 
     // Used for whole system search on multiple resource types.
@@ -97,6 +106,15 @@ public class QuerySegmentAggregator {
     protected ParameterDAO parameterDao;
     protected ResourceDAO resourceDao;
 
+    // The sources of the bind variables and the position of the pagination clauses of the query being built,
+    // which make up its template
+    private final List<Integer> bindLayout = new ArrayList<>();
+    private int paginationStart = -1;
+    private int paginationEnd = -1;
+
+    // The resource types searched by a system level search, read once
+    private Map<String, Integer> resourceNameMap;
+
     /**
      * Constructs a new QueryBuilderHelper
      *
@@ -200,11 +218,9 @@ public class QuerySegmentAggregator {
 
             // An important step here is to add _id, _lastUpdated, and then values table bind variables
             List<Object> allBindVariables = new ArrayList<>();
-            allBindVariables.addAll(idsObjects);
-            allBindVariables.addAll(lastUpdatedObjects);
-            for (SqlQueryData querySegment : this.querySegments) {
-                allBindVariables.addAll(querySegment.getBindVariables());
-            }
+            addBindSource(allBindVariables, ID_BIND_SOURCE);
+            addBindSource(allBindVariables, LAST_UPDATED_BIND_SOURCE);
+            addSegmentBindSources(allBindVariables);
 
             // Add default ordering
             queryString.append(DEFAULT_ORDERING);
@@ -269,11 +285,9 @@ public class QuerySegmentAggregator {
 
             // An important step here is to add _id, _lastUpdated, and then values table bind variables
             List<Object> allBindVariables = new ArrayList<>();
-            allBindVariables.addAll(idsObjects);
-            allBindVariables.addAll(lastUpdatedObjects);
-            for (SqlQueryData querySegment : this.querySegments) {
-                allBindVariables.addAll(querySegment.getBindVariables());
-            }
+            addBindSource(allBindVariables, ID_BIND_SOURCE);
+            addBindSource(allBindVariables, LAST_UPDATED_BIND_SOURCE);
+            addSegmentBindSources(allBindVariables);
 
             addOptimizerHint(queryString);
             queryData = new SqlQueryData(queryString.toString(), allBindVariables);
@@ -312,7 +326,7 @@ public class QuerySegmentAggregator {
         boolean resourceTypeProcessed = false;
 
         // Processes through EACH register parameter extracting the integer value
-        Map<String, Integer> resourceNameMap = resourceDao.readAllResourceTypeNames();
+        Map<String, Integer> resourceNameMap = getResourceTypeNames();
         if (resourceNameMap.size() == 0) {
             // Special condition where we have no registered resources and therefore no data.
             // This is only used in COUNT
@@ -364,12 +378,10 @@ public class QuerySegmentAggregator {
                 queryString.append(" AND R.IS_DELETED <> 'Y'");
 
                 // An important step here is to add _id, values table bind variables, and then _lastUpdated
-                allBindVariables.addAll(idsObjects);
+                addBindSource(allBindVariables, ID_BIND_SOURCE);
                 //Adding all other values to the bind variable list for this resource type.
-                for (SqlQueryData querySegment : this.querySegments) {
-                    allBindVariables.addAll(querySegment.getBindVariables());
-                }
-                allBindVariables.addAll(lastUpdatedObjects);
+                addSegmentBindSources(allBindVariables);
+                addBindSource(allBindVariables, LAST_UPDATED_BIND_SOURCE);
             }
         }
 
@@ -669,12 +681,212 @@ public class QuerySegmentAggregator {
      * @throws Exception
      */
     protected void addPaginationClauses(StringBuilder queryString) throws Exception {
-
+        paginationStart = queryString.length();
         if (this.parameterDao.isDb2Database()) {
             queryString.append(" LIMIT ").append(this.pageSize).append(" OFFSET ").append(this.offset);
         } else {
             queryString.append(" OFFSET ").append(this.offset).append(" ROWS")
                     .append(" FETCH NEXT ").append(this.pageSize).append(" ROWS ONLY");
         }
+        paginationEnd = queryString.length();
+    }
+
+    /**
+     * Adds the bind variables of a source to the bind variables of the query being built, and records the
+     * source in the layout of its template.
+     *
+     * @param bindVariables the bind variables of the query
+     * @param source ID_BIND_SOURCE, LAST_UPDATED_BIND_SOURCE, or SEGMENT_BIND_SOURCE + the index of a query segment
+     */
+    protected void addBindSource(List<Object> bindVariables, int source) {
+        switch (source) {
+        case ID_BIND_SOURCE:
+            bindVariables.addAll(idsObjects);
+            break;
+        case LAST_UPDATED_BIND_SOURCE:
+            bindVariables.addAll(lastUpdatedObjects);
+            break;
+        default:
+            bindVariables.addAll(querySegments.get(source - SEGMENT_BIND_SOURCE).getBindVariables());
+            break;
+        }
+        bindLayout.add(source);
+    }
+
+    /**
+     * Adds the bind variables of all the query segments, in order.
+     */
+    protected void addSegmentBindSources(List<Object> bindVariables) {
+        for (int i = 0; i < querySegments.size(); i++) {
+            addBindSource(bindVariables, SEGMENT_BIND_SOURCE + i);
+        }
+    }
+
+    /**
+     * @return the names and ids of the resource types in the database, which are read on first use
+     */
+    protected Map<String, Integer> getResourceTypeNames() throws Exception {
+        if (resourceNameMap == null) {
+            resourceNameMap = resourceDao.readAllResourceTypeNames();
+        }
+        return resourceNameMap;
+    }
+
+    /**
+     * Builds the query like {@link #buildQuery()}, but binds the values of this search to the template of a previous
+     * search with the same shape when the cache has one.
+     *
+     * @param cache the search query cache of the current tenant/datastore, or null if it's disabled
+     */
+    protected SqlQueryData buildQuery(SearchQueryCache cache) throws Exception {
+        return buildFromTemplate(cache, false);
+    }
+
+    /**
+     * Builds the count query like {@link #buildCountQuery()}, but binds the values of this search to the template
+     * of a previous search with the same shape when the cache has one.
+     *
+     * @param cache the search query cache of the current tenant/datastore, or null if it's disabled
+     */
+    protected SqlQueryData buildCountQuery(SearchQueryCache cache) throws Exception {
+        return buildFromTemplate(cache, true);
+    }
+
+    private SqlQueryData buildFromTemplate(SearchQueryCache cache, boolean count) throws Exception {
+        if (cache == null || !isQueryCacheable()) {
+            return count ? buildCountQuery() : buildQuery();
+        }
+
+        final String shapeKey = getShapeKey(count);
+        QueryTemplate template = cache.get(shapeKey);
+        if (template != null) {
+            return bindTemplate(template);
+        }
+
+        bindLayout.clear();
+        paginationStart = -1;
+        SqlQueryData queryData = count ? buildCountQuery() : buildQuery();
+
+        if (isQueryCacheable()) {
+            // The pagination clauses are left out of the template, so that all the pages share it
+            String queryString = queryData.getQueryString();
+            if (paginationStart >= 0) {
+                template = new QueryTemplate(queryString.substring(0, paginationStart) + queryString.substring(paginationEnd),
+                        paginationStart, bindLayout.stream().mapToInt(Integer::intValue).toArray());
+            } else {
+                template = new QueryTemplate(queryString, -1, bindLayout.stream().mapToInt(Integer::intValue).toArray());
+            }
+
+            // Only keep the template if it reproduces the query, i.e. all the bind variables came from known sources
+            SqlQueryData boundQueryData = bindTemplate(template);
+            if (boundQueryData.getQueryString().equals(queryString)
+                    && boundQueryData.getBindVariables().equals(queryData.getBindVariables())) {
+                cache.put(shapeKey, template);
+            } else if (log.isLoggable(Level.FINE)) {
+                log.fine("The query template does not match the query and was not cached: " + queryString);
+            }
+        }
+        return queryData;
+    }
+
+    /**
+     * Binds the values of this search to a query template.
+     */
+    private SqlQueryData bindTemplate(QueryTemplate template) throws Exception {
+        String queryString = template.getQueryString();
+        int paginationIndex = template.getPaginationIndex();
+        if (paginationIndex >= 0) {
+            StringBuilder paginatedQueryString = new StringBuilder(queryString.length() + 64);
+            paginatedQueryString.append(queryString, 0, paginationIndex);
+            addPaginationClauses(paginatedQueryString);
+            paginatedQueryString.append(queryString, paginationIndex, queryString.length());
+            queryString = paginatedQueryString.toString();
+        }
+
+        List<Object> ids = new ArrayList<>();
+        for (QueryParameter queryParamId : queryParamIds) {
+            for (QueryParameterValue value : queryParamId.getValues()) {
+                ids.add(SqlParameterEncoder.encode(value.getValueCode()));
+            }
+        }
+        LastUpdatedParmBehaviorUtil behaviorUtil = new LastUpdatedParmBehaviorUtil();
+        if (!queryParmLastUpdateds.isEmpty()) {
+            behaviorUtil.buildLastUpdatedDerivedTable(new StringBuilder(), resourceType.getSimpleName(), queryParmLastUpdateds);
+        }
+
+        List<Object> allBindVariables = new ArrayList<>();
+        for (int source : template.getBindLayout()) {
+            switch (source) {
+            case ID_BIND_SOURCE:
+                allBindVariables.addAll(ids);
+                break;
+            case LAST_UPDATED_BIND_SOURCE:
+                allBindVariables.addAll(behaviorUtil.getBindVariables());
+                break;
+            default:
+                allBindVariables.addAll(querySegments.get(source - SEGMENT_BIND_SOURCE).getBindVariables());
+                break;
+            }
+        }
+        return new SqlQueryData(queryString, allBindVariables);
+    }
+
+    /**
+     * Computes the shape of the search, which determines its query up to the bind variables and the pagination
+     * clauses. It includes the SQL of each query segment, which holds everything about the search parameter and
+     * its values that isn't bound, e.g. the number of values and the code system ids.
+     */
+    private String getShapeKey(boolean count) throws Exception {
+        StringBuilder key = new StringBuilder(count ? "count|" : "query|");
+        appendShapeKey(key);
+        return key.toString();
+    }
+
+    /**
+     * Appends the attributes of this search which determine the query to the shape key. Subclasses which build
+     * their queries from other attributes must append them too.
+     *
+     * @param key the shape key
+     */
+    protected void appendShapeKey(StringBuilder key) throws Exception {
+        key.append(getClass().getSimpleName()).append('|').append(resourceType.getSimpleName());
+        if (isSystemLevelSearch()) {
+            // The query has a sub-select for each of the resource types in the database
+            key.append('|').append(resourceTypes).append('|').append(new TreeSet<>(getResourceTypeNames().keySet()));
+        }
+
+        key.append("|_id");
+        for (QueryParameter queryParamId : queryParamIds) {
+            key.append(' ').append(queryParamId.getValues().size());
+        }
+        if (!queryParmLastUpdateds.isEmpty()) {
+            StringBuilder lastUpdatedTable = new StringBuilder();
+            new LastUpdatedParmBehaviorUtil().buildLastUpdatedDerivedTable(lastUpdatedTable, resourceType.getSimpleName(), queryParmLastUpdateds);
+            key.append("|_lastUpdated ").append(lastUpdatedTable.length()).append(':').append(lastUpdatedTable);
+        }
+
+        for (int i = 0; i < querySegments.size(); i++) {
+            QueryParameter param = searchQueryParameters.get(i);
+            key.append('|').append(param.getCode()).append(' ').append(param.getType()).append(' ').append(param.getModifier());
+            if (Type.COMPOSITE.equals(param.getType()) && param.getValues() != null && !param.getValues().isEmpty()) {
+                for (QueryParameter component : param.getValues().get(0).getComponent()) {
+                    key.append(' ').append(component.getType());
+                }
+            }
+            String segmentQueryString = querySegments.get(i).getQueryString();
+            key.append(' ').append(segmentQueryString.length()).append(':').append(segmentQueryString);
+        }
+
+        key.append('|');
+        addOptimizerHint(key);
+    }
+
+    /**
+     * Indicates whether the queries of this aggregator can be built from a template, i.e. all the attributes
+     * which determine the query are part of the shape key and all the bind variables come from known sources.
+     * It's checked both before and after the query is built.
+     */
+    protected boolean isQueryCacheable() {
+        return true;
     }
 }
\ No newline at end of file
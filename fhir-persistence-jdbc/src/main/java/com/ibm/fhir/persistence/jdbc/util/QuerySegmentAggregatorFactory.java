@@ -32,7 +32,10 @@ public class QuerySegmentAggregatorFactory {
         
         QuerySegmentAggregator qsa;
         
-        if (searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()) {
+        if (searchContext.hasKeysetCursor()) {
+            qsa = new KeysetQuerySegmentAggregator(resourceType, pageSize, parameterDao, resourceDao, searchContext.getKeysetCursor(), queryHints);
+        }
+        else if (searchContext.hasIncludeParameters() || searchContext.hasRevIncludeParameters()) {
             qsa = new InclusionQuerySegmentAggregator(resourceType, offset, pageSize, parameterDao, resourceDao, 
                                                       searchContext.getIncludeParameters(), searchContext.getRevIncludeParameters(), queryHints);
         }
@@ -0,0 +1,307 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.jdbc.codec.PayloadCodecRegistry;
+
+/**
+ * This class provides a static, size-bounded cache of parsed FHIR resources for each tenant/datastore.
+ *
+ * <p>Entries are keyed by resource type, logical id and version. A given version of a resource never changes,
+ * so those entries are never stale. In addition, each cache keeps an index of the current version of each
+ * resource it holds. The index is only moved forward by committed writes (see {@link ResourceCacheUpdater})
+ * and by reads that didn't overlap a committed write, so a read of the current version never returns a
+ * version older than the last write committed through this server.
+ *
+ * <p>The size of each cache is bounded by the estimated memory used by its resources. When the bound is
+ * exceeded, the least recently used entries are evicted.
+ */
+public class ResourceCache {
+    private static final String CLASSNAME = ResourceCache.class.getName();
+    private static final Logger log = Logger.getLogger(CLASSNAME);
+
+    // A parsed resource takes several times the space of its JSON; the fixed overhead covers the cache entry itself
+    private static final int PARSED_SIZE_FACTOR = 4;
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private static boolean enabled = false;
+    private static long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Each FHIR tenant/datastore combination has its own cache.
+     */
+    private static final ConcurrentHashMap<String, ResourceCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * A cached version of a resource.
+     */
+    public static class CachedResource {
+        private final Resource resource;
+        private final int version;
+        private final boolean deleted;
+        private final long estimatedSize;
+
+        private CachedResource(Resource resource, int version, boolean deleted, long estimatedSize) {
+            this.resource = resource;
+            this.version = version;
+            this.deleted = deleted;
+            this.estimatedSize = estimatedSize;
+        }
+
+        public Resource getResource() {
+            return resource;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public boolean isDeleted() {
+            return deleted;
+        }
+    }
+
+    private final String tenantDatastoreCacheName;
+    private final long maxCacheBytes;
+    private final LinkedHashMap<String, CachedResource> versions = new LinkedHashMap<>(256, 0.75f, true);
+    private final ConcurrentHashMap<String, Integer> currentVersions = new ConcurrentHashMap<>();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long estimatedBytes = 0;
+
+    private ResourceCache(String tenantDatastoreCacheName, long maxCacheBytes) {
+        this.tenantDatastoreCacheName = tenantDatastoreCacheName;
+        this.maxCacheBytes = maxCacheBytes;
+    }
+
+    /**
+     * @return the cache for the current tenant/datastore, or null if the cache is disabled.
+     */
+    public static ResourceCache getCacheForTenantDatastore() {
+        if (!enabled) {
+            return null;
+        }
+        String tenantDatastoreCacheName = ResourceTypesCache.getCacheNameForTenantDatastore();
+        return caches.computeIfAbsent(tenantDatastoreCacheName, name -> {
+            log.fine("getCacheForTenantDatastore() - Added new resource cache for tenantDatastore=" + name);
+            return new ResourceCache(name, maxBytes);
+        });
+    }
+
+    /**
+     * Estimates the memory used by a parsed resource from its stored payload. The length of the JSON is read from
+     * the payload (e.g. the gzip trailer) when the codec supports it, so nothing needs to be decoded.
+     *
+     * @param data the resource payload, as stored in the database
+     * @return the estimated number of bytes
+     */
+    public static long estimateSize(byte[] data) {
+        long decodedLength = PayloadCodecRegistry.getInstance().getDecodedLength(data);
+        if (decodedLength < 0) {
+            // Assume the usual compression ratio of JSON
+            decodedLength = data.length * 4L;
+        }
+        return decodedLength * PARSED_SIZE_FACTOR + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Retrieves a specific version of a resource.
+     *
+     * @return the cached version, or null if it isn't cached
+     */
+    public CachedResource get(String resourceType, String logicalId, int version) {
+        CachedResource cached;
+        synchronized (versions) {
+            cached = versions.get(versionKey(resourceType, logicalId, version));
+        }
+        if (cached == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * Retrieves the current version of a resource.
+     *
+     * @return the cached current version, or null if the current version isn't known or isn't cached
+     */
+    public CachedResource getCurrent(String resourceType, String logicalId) {
+        Integer version = currentVersions.get(resourceKey(resourceType, logicalId));
+        if (version == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        return get(resourceType, logicalId, version);
+    }
+
+    /**
+     * @return a counter of the committed writes seen by this cache. Readers take it before reading from the
+     *     database and pass it back to {@link #putRead}, so that they don't move the current version index to
+     *     a version which was superseded while they were reading.
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * Adds a version of a resource which was read from the database.
+     *
+     * @param current true if the version was read as the current version of the resource
+     * @param writeCountBeforeRead the value of {@link #getWriteCount()} before the resource was read
+     */
+    public void putRead(String resourceType, String logicalId, int version, Resource resource, boolean deleted, long estimatedSize,
+            boolean current, long writeCountBeforeRead) {
+        put(resourceType, logicalId, version, resource, deleted, estimatedSize);
+        if (current && writeCount.get() == writeCountBeforeRead) {
+            advanceCurrentVersion(resourceType, logicalId, version);
+        }
+    }
+
+    /**
+     * Adds a version of a resource written by a transaction which has committed, and makes it the current version.
+     */
+    public void putCommitted(String resourceType, String logicalId, int version, Resource resource, boolean deleted, long estimatedSize) {
+        writeCount.incrementAndGet();
+        put(resourceType, logicalId, version, resource, deleted, estimatedSize);
+        advanceCurrentVersion(resourceType, logicalId, version);
+    }
+
+    private void put(String resourceType, String logicalId, int version, Resource resource, boolean deleted, long estimatedSize) {
+        if (estimatedSize > maxCacheBytes) {
+            return;
+        }
+        CachedResource cached = new CachedResource(resource, version, deleted, estimatedSize);
+        synchronized (versions) {
+            CachedResource previous = versions.put(versionKey(resourceType, logicalId, version), cached);
+            if (previous != null) {
+                estimatedBytes -= previous.estimatedSize;
+            }
+            estimatedBytes += estimatedSize;
+
+            // Evict the least recently used entries
+            Iterator<Map.Entry<String, CachedResource>> iter = versions.entrySet().iterator();
+            while (estimatedBytes > maxCacheBytes && iter.hasNext()) {
+                Map.Entry<String, CachedResource> eldest = iter.next();
+                CachedResource evicted = eldest.getValue();
+                iter.remove();
+                estimatedBytes -= evicted.estimatedSize;
+                evictions.incrementAndGet();
+
+                String key = eldest.getKey();
+                currentVersions.remove(key.substring(0, key.lastIndexOf('/')), evicted.version);
+            }
+        }
+    }
+
+    private void advanceCurrentVersion(String resourceType, String logicalId, int version) {
+        currentVersions.merge(resourceKey(resourceType, logicalId), version, Math::max);
+    }
+
+    private static String resourceKey(String resourceType, String logicalId) {
+        return resourceType + "/" + logicalId;
+    }
+
+    private static String versionKey(String resourceType, String logicalId, int version) {
+        return resourceType + "/" + logicalId + "/" + version;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the fraction of lookups that found the resource in the cache, or 0 if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return the number of resource versions in the cache
+     */
+    public int size() {
+        synchronized (versions) {
+            return versions.size();
+        }
+    }
+
+    /**
+     * @return the estimated number of bytes used by the resources in the cache
+     */
+    public long getEstimatedBytes() {
+        synchronized (versions) {
+            return estimatedBytes;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return tenantDatastoreCacheName + ": entries=" + size() + " estimatedBytes=" + getEstimatedBytes()
+                + " hits=" + getHitCount() + " misses=" + getMissCount() + " evictions=" + getEvictionCount()
+                + String.format(" hitRatio=%.3f", getHitRatio());
+    }
+
+    /**
+     * @return A formatted representation of the statistics of all the resource caches.
+     */
+    public static String dumpCacheStatistics() {
+        StringBuilder dump = new StringBuilder();
+        dump.append(CacheUtil.NEWLINE).append("ResourceCache statistics:").append(CacheUtil.NEWLINE);
+        for (ResourceCache cache : caches.values()) {
+            dump.append("    ").append(cache).append(CacheUtil.NEWLINE);
+        }
+        return dump.toString();
+    }
+
+    /**
+     * Removes all the resource caches.
+     */
+    public static void clear() {
+        caches.clear();
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Cleared the resource caches");
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ResourceCache.enabled = enabled;
+    }
+
+    /**
+     * Sets the maximum estimated size of each tenant/datastore cache. Applies to caches created afterwards.
+     */
+    public static void setMaxBytes(long maxBytes) {
+        ResourceCache.maxBytes = maxBytes;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+
+import com.ibm.fhir.model.resource.Resource;
+
+/**
+ * This cache updater collects the resources written by a transaction and, upon a transaction commit, adds them
+ * to the ResourceCache as the current version of each resource. Until then, reads within the transaction of
+ * the resources it has written must bypass the cache (see {@link #isWritten(String, String)}).
+ */
+public class ResourceCacheUpdater implements Synchronization {
+    private static final String CLASSNAME = ResourceCacheUpdater.class.getName();
+    private static final Logger log = Logger.getLogger(CLASSNAME);
+
+    private final ResourceCache cache;
+
+    // The last version written by the transaction, keyed by resourceType/logicalId
+    private final Map<String, Candidate> cacheCandidates = new LinkedHashMap<>();
+
+    private static class Candidate {
+        private final String resourceType;
+        private final String logicalId;
+        private final int version;
+        private final Resource resource;
+        private final boolean deleted;
+        private final long estimatedSize;
+
+        private Candidate(String resourceType, String logicalId, int version, Resource resource, boolean deleted, long estimatedSize) {
+            this.resourceType = resourceType;
+            this.logicalId = logicalId;
+            this.version = version;
+            this.resource = resource;
+            this.deleted = deleted;
+            this.estimatedSize = estimatedSize;
+        }
+    }
+
+    public ResourceCacheUpdater(ResourceCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Records a version of a resource written by the transaction.
+     */
+    public synchronized void addWrite(String resourceType, String logicalId, int version, Resource resource, boolean deleted, long estimatedSize) {
+        cacheCandidates.put(resourceType + "/" + logicalId, new Candidate(resourceType, logicalId, version, resource, deleted, estimatedSize));
+    }
+
+    /**
+     * @return true if the transaction has written the resource
+     */
+    public synchronized boolean isWritten(String resourceType, String logicalId) {
+        return cacheCandidates.containsKey(resourceType + "/" + logicalId);
+    }
+
+    /**
+     * Writes the cache candidates to the ResourceCache after being notified by the Trx Synchronization
+     * service that the transaction on the current thread has successfully committed.
+     */
+    @Override
+    public synchronized void afterCompletion(int completionStatus) {
+        final String METHODNAME = "afterCompletion";
+        log.entering(CLASSNAME, METHODNAME);
+
+        if (completionStatus == Status.STATUS_COMMITTED) {
+            for (Candidate candidate : cacheCandidates.values()) {
+                cache.putCommitted(candidate.resourceType, candidate.logicalId, candidate.version, candidate.resource,
+                        candidate.deleted, candidate.estimatedSize);
+            }
+        }
+        cacheCandidates.clear();
+
+        log.exiting(CLASSNAME, METHODNAME);
+    }
+
+    @Override
+    public void beforeCompletion() {
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.util;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.search.util.SearchUtil;
+
+/**
+ * This class provides a static, size-bounded cache of search query templates for each tenant/datastore.
+ *
+ * <p>Most searches repeat a small number of shapes: the same resource type, parameters, modifiers and sort, with
+ * different values. The SQL of such searches differs only in its bind variables, so the template built for the
+ * first search of a shape is reused for the next ones, and only the values of each search are bound to it.
+ * Entries are keyed by the shape computed by {@link QuerySegmentAggregator}.
+ *
+ * <p>The entries of a tenant are dropped when its search parameters are reconfigured. When the cache is full,
+ * the least recently used entries are evicted. The cache is disabled unless it is enabled in the configuration.
+ */
+public class SearchQueryCache {
+    private static final Logger log = Logger.getLogger(SearchQueryCache.class.getName());
+
+    private static boolean enabled = false;
+    private static int maxEntries = 1000;
+
+    /**
+     * Each FHIR tenant/datastore combination has its own cache.
+     */
+    private static final ConcurrentHashMap<String, SearchQueryCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * The SQL of a search shape, and the layout of its bind variables.
+     */
+    public static class QueryTemplate {
+        private final String queryString;
+        private final int paginationIndex;
+        private final int[] bindLayout;
+
+        /**
+         * @param queryString the SQL, without the pagination clauses
+         * @param paginationIndex the position of the pagination clauses in the SQL, or -1 if there are none
+         * @param bindLayout the source of each run of bind variables, see {@link QuerySegmentAggregator}
+         */
+        public QueryTemplate(String queryString, int paginationIndex, int[] bindLayout) {
+            this.queryString = queryString;
+            this.paginationIndex = paginationIndex;
+            this.bindLayout = bindLayout;
+        }
+
+        public String getQueryString() {
+            return queryString;
+        }
+
+        public int getPaginationIndex() {
+            return paginationIndex;
+        }
+
+        public int[] getBindLayout() {
+            return bindLayout;
+        }
+    }
+
+    private final String tenantDatastoreCacheName;
+    private final int maxCacheEntries;
+    private final LinkedHashMap<String, QueryTemplate> templates = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Identifies the search parameters the templates were built with
+    private Object searchParametersVersion;
+
+    private SearchQueryCache(String tenantDatastoreCacheName, int maxCacheEntries) {
+        this.tenantDatastoreCacheName = tenantDatastoreCacheName;
+        this.maxCacheEntries = maxCacheEntries;
+    }
+
+    /**
+     * @return the cache for the current tenant/datastore, or null if the cache is disabled.
+     * @throws Exception if the search parameters of the tenant can't be loaded
+     */
+    public static SearchQueryCache getCacheForTenantDatastore() throws Exception {
+        if (!enabled) {
+            return null;
+        }
+        String tenantDatastoreCacheName = ResourceTypesCache.getCacheNameForTenantDatastore();
+        SearchQueryCache cache = caches.computeIfAbsent(tenantDatastoreCacheName, name -> {
+            log.fine("getCacheForTenantDatastore() - Added new search query cache for tenantDatastore=" + name);
+            return new SearchQueryCache(name, maxEntries);
+        });
+        cache.checkSearchParametersVersion(SearchUtil.getSearchParametersVersion());
+        return cache;
+    }
+
+    /**
+     * Drops all the templates if the search parameters have changed since they were built.
+     */
+    public void checkSearchParametersVersion(Object searchParametersVersion) {
+        synchronized (templates) {
+            if (this.searchParametersVersion != searchParametersVersion) {
+                if (this.searchParametersVersion != null && !templates.isEmpty()) {
+                    templates.clear();
+                    invalidations.incrementAndGet();
+                    if (log.isLoggable(Level.FINE)) {
+                        log.fine("The search parameters were reconfigured; cleared the search query cache for tenantDatastore="
+                                + tenantDatastoreCacheName);
+                    }
+                }
+                this.searchParametersVersion = searchParametersVersion;
+            }
+        }
+    }
+
+    /**
+     * @return the template of a search shape, or null if it isn't cached
+     */
+    public QueryTemplate get(String shapeKey) {
+        QueryTemplate template;
+        synchronized (templates) {
+            template = templates.get(shapeKey);
+        }
+        if (template == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return template;
+    }
+
+    /**
+     * Adds the template of a search shape.
+     */
+    public void put(String shapeKey, QueryTemplate template) {
+        synchronized (templates) {
+            templates.put(shapeKey, template);
+            if (templates.size() > maxCacheEntries) {
+                // Evict the least recently used entry
+                String eldest = templates.keySet().iterator().next();
+                templates.remove(eldest);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the number of times the cache was cleared because the search parameters were reconfigured
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * @return the fraction of lookups that found the template in the cache, or 0 if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return the number of templates in the cache
+     */
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return tenantDatastoreCacheName + ": entries=" + size() + " hits=" + getHitCount() + " misses=" + getMissCount()
+                + " evictions=" + getEvictionCount() + " invalidations=" + getInvalidationCount()
+                + String.format(" hitRatio=%.3f", getHitRatio());
+    }
+
+    /**
+     * @return A formatted representation of the statistics of all the search query caches.
+     */
+    public static String dumpCacheStatistics() {
+        StringBuilder dump = new StringBuilder();
+        dump.append(CacheUtil.NEWLINE).append("SearchQueryCache statistics:").append(CacheUtil.NEWLINE);
+        for (SearchQueryCache cache : caches.values()) {
+            dump.append("    ").append(cache).append(CacheUtil.NEWLINE);
+        }
+        return dump.toString();
+    }
+
+    /**
+     * Removes all the search query caches.
+     */
+    public static void clear() {
+        caches.clear();
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Cleared the search query caches");
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        SearchQueryCache.enabled = enabled;
+    }
+
+    /**
+     * Sets the maximum number of templates in each tenant/datastore cache. Applies to caches created afterwards.
+     */
+    public static void setMaxEntries(int maxEntries) {
+        SearchQueryCache.maxEntries = maxEntries;
+    }
+}
@@ -53,6 +53,9 @@ public class SortedQuerySegmentAggregator extends QuerySegmentAggregator {
 
     private List<SortParameter> sortParameters;
 
+    // Set when a sort parameter has no parameter name id yet, so the query can't be reused once it has one
+    private boolean sortParameterNameMissing = false;
+
     /**
      * Constructs a new SortedQuerySegmentAggregator
      * 
@@ -126,11 +129,9 @@ public class SortedQuerySegmentAggregator extends QuerySegmentAggregator {
             // Gather up all bind variables from the query segments
             // An important step here is to add _id and _lastUpdated
             List<Object> allBindVariables = new ArrayList<>();
-            allBindVariables.addAll(idsObjects);
-            allBindVariables.addAll(lastUpdatedObjects);
-            for (SqlQueryData querySegment : this.querySegments) {
-                allBindVariables.addAll(querySegment.getBindVariables());
-            }
+            addBindSource(allBindVariables, ID_BIND_SOURCE);
+            addBindSource(allBindVariables, LAST_UPDATED_BIND_SOURCE);
+            addSegmentBindSources(allBindVariables);
 
             // Build the WHERE clause...this needs to appear before the outer join part
             buildWhereClause(sqlSortQuery, null);
@@ -157,6 +158,20 @@ public class SortedQuerySegmentAggregator extends QuerySegmentAggregator {
         return queryData;
     }
 
+    @Override
+    protected void appendShapeKey(StringBuilder key) throws Exception {
+        super.appendShapeKey(key);
+        for (SortParameter sortParm : this.sortParameters) {
+            key.append("|_sort ").append(sortParm.getCode()).append(' ').append(sortParm.getType())
+                    .append(' ').append(sortParm.getDirection());
+        }
+    }
+
+    @Override
+    protected boolean isQueryCacheable() {
+        return !sortParameterNameMissing;
+    }
+
     /**
      * Builds the SELECT clause necessary to return sorted Resource ids.
      * For example:
@@ -310,6 +325,7 @@ public class SortedQuerySegmentAggregator extends QuerySegmentAggregator {
                     this.parameterDao.addParameterNamesCacheCandidate(sortParm.getCode(), sortParameterNameId);
                 } else {
                     sortParameterNameId = -1; // so we don't break the query syntax
+                    sortParameterNameMissing = true;
                 }
             }
 
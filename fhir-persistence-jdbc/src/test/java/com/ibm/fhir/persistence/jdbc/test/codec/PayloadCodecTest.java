@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test.codec;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.type.Code;
+import com.ibm.fhir.model.type.Date;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.Id;
+import com.ibm.fhir.model.type.Identifier;
+import com.ibm.fhir.model.type.Meta;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.AdministrativeGender;
+import com.ibm.fhir.persistence.jdbc.codec.GzipPayloadCodec;
+import com.ibm.fhir.persistence.jdbc.codec.PayloadCodec;
+import com.ibm.fhir.persistence.jdbc.codec.PayloadCodecRegistry;
+import com.ibm.fhir.persistence.jdbc.codec.ZstdPayloadCodec;
+
+/**
+ * Tests the PayloadCodecRegistry and the built-in payload codecs
+ */
+public class PayloadCodecTest {
+
+    @Test
+    public void testGzip() throws Exception {
+        PayloadCodecRegistry registry = registry(GzipPayloadCodec.NAME, new ZstdPayloadCodec());
+        Patient patient = patient(1);
+        byte[] data = registry.encode(patient);
+
+        // Stored without a prefix, as before codecs were introduced
+        assertEquals(data[0], (byte) 0x1f);
+        assertEquals(data[1], (byte) 0x8b);
+        assertEquals(readJson(new GZIPInputStream(new ByteArrayInputStream(data))), json(patient));
+
+        assertEquals(parse(registry.decode(data)), patient);
+        assertEquals(registry.getDecodedLength(data), json(patient).length());
+    }
+
+    @Test
+    public void testZstd() throws Exception {
+        PayloadCodecRegistry registry = registry(ZstdPayloadCodec.NAME, new ZstdPayloadCodec());
+        Patient patient = patient(1);
+        byte[] data = registry.encode(patient);
+
+        assertEquals(data[0], ZstdPayloadCodec.ID);
+        assertEquals(parse(registry.decode(data)), patient);
+        assertEquals(registry.getDecodedLength(data), json(patient).length());
+    }
+
+    @Test
+    public void testMixedPayloads() throws Exception {
+        Patient patient = patient(1);
+        byte[] gzipData = registry(GzipPayloadCodec.NAME, new ZstdPayloadCodec()).encode(patient);
+        byte[] zstdData = registry(ZstdPayloadCodec.NAME, new ZstdPayloadCodec()).encode(patient);
+
+        // Switching the codec doesn't affect the existing rows
+        for (String codecName : Arrays.asList(GzipPayloadCodec.NAME, ZstdPayloadCodec.NAME)) {
+            PayloadCodecRegistry registry = registry(codecName, new ZstdPayloadCodec());
+            assertEquals(parse(registry.decode(gzipData)), patient);
+            assertEquals(parse(registry.decode(zstdData)), patient);
+        }
+    }
+
+    @Test
+    public void testZstdDictionary() throws Exception {
+        List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            samples.add(json(patient(i)).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] dictionary = ZstdPayloadCodec.trainDictionary(samples, 16 * 1024);
+
+        ZstdPayloadCodec codec = new ZstdPayloadCodec();
+        codec.addDictionary("Patient", dictionary);
+        PayloadCodecRegistry registry = registry(ZstdPayloadCodec.NAME, codec);
+
+        Patient patient = patient(5000);
+        byte[] data = registry.encode(patient);
+        byte[] dataWithoutDictionary = registry(ZstdPayloadCodec.NAME, new ZstdPayloadCodec()).encode(patient);
+        assertTrue(data.length < dataWithoutDictionary.length);
+        assertEquals(parse(registry.decode(data)), patient);
+
+        // A retired dictionary is still used to decode the payloads compressed with it
+        ZstdPayloadCodec retiredCodec = new ZstdPayloadCodec();
+        retiredCodec.addDictionary("Patient.1", dictionary);
+        assertEquals(parse(registry(ZstdPayloadCodec.NAME, retiredCodec).decode(data)), patient);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testZstdMissingDictionary() throws Exception {
+        List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            samples.add(json(patient(i)).getBytes(StandardCharsets.UTF_8));
+        }
+        ZstdPayloadCodec codec = new ZstdPayloadCodec();
+        codec.addDictionary("Patient", ZstdPayloadCodec.trainDictionary(samples, 16 * 1024));
+        byte[] data = registry(ZstdPayloadCodec.NAME, codec).encode(patient(1));
+
+        registry(ZstdPayloadCodec.NAME, new ZstdPayloadCodec()).decode(data);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testUnknownCodec() throws Exception {
+        registry(GzipPayloadCodec.NAME, new ZstdPayloadCodec()).decode(new byte[] { 0x7f, 1, 2, 3 });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownDefaultCodec() throws Exception {
+        registry("lz4", new ZstdPayloadCodec());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testReservedId() throws Exception {
+        PayloadCodec codec = new ZstdPayloadCodec() {
+            @Override
+            public byte getId() {
+                return GzipPayloadCodec.ID;
+            }
+        };
+        new PayloadCodecRegistry(Arrays.asList(codec), ZstdPayloadCodec.NAME);
+    }
+
+    private PayloadCodecRegistry registry(String defaultCodecName, ZstdPayloadCodec zstdCodec) {
+        return new PayloadCodecRegistry(Arrays.asList(new GzipPayloadCodec(), zstdCodec), defaultCodecName);
+    }
+
+    private Patient patient(int i) {
+        return Patient.builder()
+                .id("patient-" + i)
+                .meta(Meta.builder().versionId(Id.of("1")).build())
+                .identifier(Identifier.builder().system(Uri.of("http://example.com/mrn")).value(string("mrn-" + (i * 7919))).build())
+                .name(HumanName.builder().family(string("Family" + (i % 97))).given(string("Given" + (i % 31))).build())
+                .gender(i % 2 == 0 ? AdministrativeGender.FEMALE : AdministrativeGender.MALE)
+                .birthDate(Date.of(Integer.toString(1920 + i % 100) + "-0" + (1 + i % 9) + "-1" + (i % 10)))
+                .language(Code.of("en-US"))
+                .build();
+    }
+
+    private String json(Resource resource) throws Exception {
+        StringWriter writer = new StringWriter();
+        FHIRGenerator.generator(Format.JSON).generate(resource, writer);
+        return writer.toString();
+    }
+
+    private Resource parse(InputStream in) throws Exception {
+        return FHIRParser.parser(Format.JSON).parse(in);
+    }
+
+    private String readJson(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test.util;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.transaction.Status;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.Basic;
+import com.ibm.fhir.model.type.CodeableConcept;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCache;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCache.CachedResource;
+import com.ibm.fhir.persistence.jdbc.util.ResourceCacheUpdater;
+
+/**
+ * Tests the ResourceCache and ResourceCacheUpdater
+ */
+public class ResourceCacheTest {
+    private static final long ENTRY_SIZE = 1000;
+
+    private final Basic v1 = basic("1");
+    private final Basic v2 = basic("2");
+
+    @BeforeMethod
+    public void enableCache() {
+        ResourceCache.setEnabled(true);
+        ResourceCache.setMaxBytes(3 * ENTRY_SIZE);
+    }
+
+    @AfterMethod
+    public void resetCache() throws Exception {
+        ResourceCache.clear();
+        ResourceCache.setEnabled(false);
+        FHIRRequestContext.get().setTenantId("default");
+    }
+
+    @Test
+    public void testEstimateSize() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (GZIPOutputStream zipStream = new GZIPOutputStream(stream)) {
+            zipStream.write(new byte[5000]);
+        }
+        // the size is taken from the uncompressed length, not the (much smaller) compressed length
+        assertTrue(ResourceCache.estimateSize(stream.toByteArray()) >= 5000);
+    }
+
+    @Test
+    public void testReadVersions() throws Exception {
+        FHIRRequestContext.get().setTenantId("resourceCacheRead");
+        ResourceCache cache = ResourceCache.getCacheForTenantDatastore();
+        assertNotNull(cache);
+
+        assertNull(cache.getCurrent("Basic", "1"));
+        cache.putRead("Basic", "1", 1, v1, false, ENTRY_SIZE, true, cache.getWriteCount());
+        CachedResource cached = cache.getCurrent("Basic", "1");
+        assertNotNull(cached);
+        assertSame(cached.getResource(), v1);
+        assertEquals(cached.getVersion(), 1);
+        assertFalse(cached.isDeleted());
+
+        // a vread doesn't change the current version
+        cache.putRead("Basic", "1", 2, v2, false, ENTRY_SIZE, false, 0);
+        assertSame(cache.getCurrent("Basic", "1").getResource(), v1);
+        assertSame(cache.get("Basic", "1", 2).getResource(), v2);
+
+        assertEquals(cache.getHitCount(), 3);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitRatio(), 0.75, 0.001);
+    }
+
+    @Test
+    public void testStaleReadDoesNotMoveCurrentVersion() throws Exception {
+        FHIRRequestContext.get().setTenantId("resourceCacheStale");
+        ResourceCache cache = ResourceCache.getCacheForTenantDatastore();
+
+        // version 1 is read from the database while version 2 is committed
+        long writeCount = cache.getWriteCount();
+        cache.putCommitted("Basic", "1", 2, v2, false, ENTRY_SIZE);
+        cache.putRead("Basic", "1", 1, v1, false, ENTRY_SIZE, true, writeCount);
+        assertSame(cache.getCurrent("Basic", "1").getResource(), v2);
+
+        // even if version 2 has been evicted in the meantime
+        cache.putCommitted("Basic", "2", 1, v1, false, ENTRY_SIZE);
+        cache.putCommitted("Basic", "3", 1, v1, false, ENTRY_SIZE);
+        cache.putCommitted("Basic", "4", 1, v1, false, ENTRY_SIZE);
+        cache.putRead("Basic", "1", 1, v1, false, ENTRY_SIZE, true, writeCount);
+        assertNull(cache.getCurrent("Basic", "1"));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        FHIRRequestContext.get().setTenantId("resourceCacheEviction");
+        ResourceCache cache = ResourceCache.getCacheForTenantDatastore();
+
+        cache.putCommitted("Basic", "1", 1, v1, false, ENTRY_SIZE);
+        cache.putCommitted("Basic", "2", 1, v1, false, ENTRY_SIZE);
+        cache.putCommitted("Basic", "3", 1, v1, false, ENTRY_SIZE);
+        // touch Basic/1 so that Basic/2 is the least recently used
+        assertNotNull(cache.getCurrent("Basic", "1"));
+        cache.putCommitted("Basic", "4", 1, v1, false, ENTRY_SIZE);
+
+        assertEquals(cache.size(), 3);
+        assertEquals(cache.getEstimatedBytes(), 3 * ENTRY_SIZE);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertNotNull(cache.getCurrent("Basic", "1"));
+        assertNull(cache.getCurrent("Basic", "2"));
+
+        // too big to cache at all
+        cache.putCommitted("Basic", "5", 1, v1, false, 4 * ENTRY_SIZE);
+        assertNull(cache.getCurrent("Basic", "5"));
+        assertEquals(cache.size(), 3);
+    }
+
+    @Test
+    public void testCacheUpdater() throws Exception {
+        FHIRRequestContext.get().setTenantId("resourceCacheUpdater");
+        ResourceCache cache = ResourceCache.getCacheForTenantDatastore();
+        cache.putRead("Basic", "1", 1, v1, false, ENTRY_SIZE, true, cache.getWriteCount());
+
+        ResourceCacheUpdater updater = new ResourceCacheUpdater(cache);
+        updater.addWrite("Basic", "1", 2, v2, false, ENTRY_SIZE);
+        assertTrue(updater.isWritten("Basic", "1"));
+        assertFalse(updater.isWritten("Basic", "2"));
+        updater.afterCompletion(Status.STATUS_ROLLEDBACK);
+        assertSame(cache.getCurrent("Basic", "1").getResource(), v1);
+        assertNull(cache.get("Basic", "1", 2));
+
+        updater = new ResourceCacheUpdater(cache);
+        updater.addWrite("Basic", "1", 2, v2, false, ENTRY_SIZE);
+        updater.afterCompletion(Status.STATUS_COMMITTED);
+        assertSame(cache.getCurrent("Basic", "1").getResource(), v2);
+        assertFalse(updater.isWritten("Basic", "1"));
+
+        updater = new ResourceCacheUpdater(cache);
+        updater.addWrite("Basic", "1", 3, v2, true, ENTRY_SIZE);
+        updater.afterCompletion(Status.STATUS_COMMITTED);
+        assertTrue(cache.getCurrent("Basic", "1").isDeleted());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        ResourceCache.setEnabled(false);
+        assertNull(ResourceCache.getCacheForTenantDatastore());
+    }
+
+    private static Basic basic(String text) {
+        return Basic.builder()
+                .code(CodeableConcept.builder().text(string(text)).build())
+                .build();
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.jdbc.test.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.database.utils.model.DbType;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.persistence.jdbc.connection.FHIRDbFlavorImpl;
+import com.ibm.fhir.persistence.jdbc.dao.api.ParameterDAO;
+import com.ibm.fhir.persistence.jdbc.dao.api.ResourceDAO;
+import com.ibm.fhir.persistence.jdbc.util.JDBCQueryBuilder;
+import com.ibm.fhir.persistence.jdbc.util.SearchQueryCache;
+import com.ibm.fhir.persistence.jdbc.util.SqlQueryData;
+import com.ibm.fhir.search.SearchConstants.Modifier;
+import com.ibm.fhir.search.SearchConstants.Prefix;
+import com.ibm.fhir.search.SearchConstants.Type;
+import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.FHIRSearchContextFactory;
+import com.ibm.fhir.search.parameters.QueryParameter;
+import com.ibm.fhir.search.parameters.QueryParameterValue;
+import com.ibm.fhir.search.parameters.SortParameter;
+import com.ibm.fhir.search.sort.Sort;
+
+/**
+ * Tests the SearchQueryCache. Every query built from a cached template is compared to the query built without
+ * the cache.
+ */
+public class SearchQueryCacheTest {
+    private static final String GENDER_SYSTEM = "http://hl7.org/fhir/administrative-gender";
+
+    private final JDBCQueryBuilder queryBuilder = new JDBCQueryBuilder(parameterDao(), resourceDao(), null);
+
+    @BeforeMethod
+    public void enableCache() {
+        SearchQueryCache.setEnabled(true);
+        SearchQueryCache.setMaxEntries(100);
+    }
+
+    @AfterMethod
+    public void resetCache() {
+        SearchQueryCache.clear();
+    }
+
+    @Test
+    public void testSameShape() throws Exception {
+        SqlQueryData first = buildQuery(1, Collections.emptyList(),
+                stringParm("name", "a"), tokenParm("gender", GENDER_SYSTEM, "male"));
+        SqlQueryData second = buildQuery(1, Collections.emptyList(),
+                stringParm("name", "b"), tokenParm("gender", GENDER_SYSTEM, "female"));
+
+        assertEquals(second.getQueryString(), first.getQueryString());
+        assertNotEquals(second.getBindVariables(), first.getBindVariables());
+        assertEquals(cache().getMissCount(), 1);
+        assertEquals(cache().getHitCount(), 1);
+        assertEquals(cache().size(), 1);
+    }
+
+    @Test
+    public void testBindOrder() throws Exception {
+        // Equal values in the first search must not confuse the layout of the bind variables
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a"), stringParm("family", "a"));
+        buildQuery(1, Collections.emptyList(), stringParm("name", "b"), stringParm("family", "c"));
+        assertEquals(cache().getHitCount(), 1);
+    }
+
+    @Test
+    public void testPages() throws Exception {
+        SqlQueryData first = buildQuery(1, Collections.emptyList(), stringParm("name", "a"));
+        SqlQueryData third = buildQuery(3, Collections.emptyList(), stringParm("name", "a"));
+
+        // The pages share the template, but not the pagination clauses
+        assertNotEquals(third.getQueryString(), first.getQueryString());
+        assertEquals(cache().getHitCount(), 1);
+        assertEquals(cache().size(), 1);
+    }
+
+    @Test
+    public void testDifferentShapes() throws Exception {
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a"));
+        QueryParameter exact = new QueryParameter(Type.STRING, "name", Modifier.EXACT, null);
+        exact.getValues().addAll(stringParm("name", "a").getValues());
+        buildQuery(1, Collections.emptyList(), exact);
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a", "b"));
+        buildQuery(1, Collections.emptyList(), tokenParm("gender", null, "male"));
+
+        assertEquals(cache().getHitCount(), 0);
+        assertEquals(cache().size(), 4);
+    }
+
+    @Test
+    public void testIdAndLastUpdated() throws Exception {
+        buildQuery(1, Collections.emptyList(), idParm("1", "2"),
+                lastUpdatedParm(Prefix.GE, Instant.parse("2020-01-01T00:00:00Z")), stringParm("name", "a"));
+        buildQuery(1, Collections.emptyList(), idParm("3", "4"),
+                lastUpdatedParm(Prefix.GE, Instant.parse("2020-02-01T00:00:00Z")), stringParm("name", "b"));
+        assertEquals(cache().getHitCount(), 1);
+
+        // The number of ids and the _lastUpdated prefix are part of the shape
+        buildQuery(1, Collections.emptyList(), idParm("5"),
+                lastUpdatedParm(Prefix.GE, Instant.parse("2020-02-01T00:00:00Z")), stringParm("name", "b"));
+        buildQuery(1, Collections.emptyList(), idParm("3", "4"),
+                lastUpdatedParm(Prefix.LT, Instant.parse("2020-02-01T00:00:00Z")), stringParm("name", "b"));
+        assertEquals(cache().getHitCount(), 1);
+    }
+
+    @Test
+    public void testCountQuery() throws Exception {
+        buildCountQuery(stringParm("name", "a"));
+        buildCountQuery(stringParm("name", "b"));
+        buildQuery(1, Collections.emptyList(), stringParm("name", "b"));
+
+        assertEquals(cache().getHitCount(), 1);
+        assertEquals(cache().size(), 2);
+    }
+
+    @Test
+    public void testSort() throws Exception {
+        List<SortParameter> sortParameters = Arrays.asList(new SortParameter("birthdate", Type.DATE, Sort.Direction.DECREASING));
+        buildQuery(1, sortParameters, stringParm("name", "a"));
+        buildQuery(2, sortParameters, stringParm("name", "b"));
+        buildQuery(1, Arrays.asList(new SortParameter("birthdate", Type.DATE, Sort.Direction.INCREASING)), stringParm("name", "b"));
+
+        assertEquals(cache().getHitCount(), 1);
+        assertEquals(cache().size(), 2);
+    }
+
+    @Test
+    public void testSortParameterWithoutNameId() throws Exception {
+        // The query refers to the parameter name by id, so it can't be reused once the parameter has an id
+        List<SortParameter> sortParameters = Arrays.asList(new SortParameter("unknown", Type.STRING, Sort.Direction.INCREASING));
+        buildQuery(1, sortParameters, stringParm("name", "a"));
+        buildQuery(1, sortParameters, stringParm("name", "a"));
+
+        assertEquals(cache().getHitCount(), 0);
+        assertEquals(cache().size(), 0);
+    }
+
+    @Test
+    public void testSearchParametersReconfigured() throws Exception {
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a"));
+        assertEquals(cache().size(), 1);
+
+        cache().checkSearchParametersVersion(new Object());
+        assertEquals(cache().size(), 0);
+        assertEquals(cache().getInvalidationCount(), 1);
+
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a"));
+        assertEquals(cache().getHitCount(), 0);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        SearchQueryCache.clear();
+        SearchQueryCache.setMaxEntries(2);
+        buildQuery(1, Collections.emptyList(), stringParm("name", "a"));
+        buildQuery(1, Collections.emptyList(), stringParm("family", "a"));
+        buildQuery(1, Collections.emptyList(), stringParm("given", "a"));
+
+        assertEquals(cache().size(), 2);
+        assertEquals(cache().getEvictionCount(), 1);
+    }
+
+    private SearchQueryCache cache() throws Exception {
+        return SearchQueryCache.getCacheForTenantDatastore();
+    }
+
+    /**
+     * Builds the query with the cache, and checks that it is the same as the query built without the cache.
+     */
+    private SqlQueryData buildQuery(int pageNumber, List<SortParameter> sortParameters, QueryParameter... parameters) throws Exception {
+        SearchQueryCache.setEnabled(false);
+        SqlQueryData expected = queryBuilder.buildQuery(Patient.class, searchContext(pageNumber, sortParameters, parameters));
+        SearchQueryCache.setEnabled(true);
+        SqlQueryData actual = queryBuilder.buildQuery(Patient.class, searchContext(pageNumber, sortParameters, parameters));
+
+        assertEquals(actual.getQueryString(), expected.getQueryString());
+        assertEquals(actual.getBindVariables(), expected.getBindVariables());
+        return actual;
+    }
+
+    private SqlQueryData buildCountQuery(QueryParameter... parameters) throws Exception {
+        SearchQueryCache.setEnabled(false);
+        SqlQueryData expected = queryBuilder.buildCountQuery(Patient.class, searchContext(1, Collections.emptyList(), parameters));
+        SearchQueryCache.setEnabled(true);
+        SqlQueryData actual = queryBuilder.buildCountQuery(Patient.class, searchContext(1, Collections.emptyList(), parameters));
+
+        assertEquals(actual.getQueryString(), expected.getQueryString());
+        assertEquals(actual.getBindVariables(), expected.getBindVariables());
+        return actual;
+    }
+
+    private FHIRSearchContext searchContext(int pageNumber, List<SortParameter> sortParameters, QueryParameter... parameters) {
+        FHIRSearchContext searchContext = FHIRSearchContextFactory.createSearchContext();
+        searchContext.setSearchParameters(new ArrayList<>(Arrays.asList(parameters)));
+        searchContext.setSortParameters(sortParameters);
+        searchContext.setPageNumber(pageNumber);
+        return searchContext;
+    }
+
+    private QueryParameter stringParm(String code, String... values) {
+        QueryParameter parameter = new QueryParameter(Type.STRING, code, null, null);
+        for (String value : values) {
+            QueryParameterValue parameterValue = new QueryParameterValue();
+            parameterValue.setValueString(value);
+            parameter.getValues().add(parameterValue);
+        }
+        return parameter;
+    }
+
+    private QueryParameter tokenParm(String code, String system, String value) {
+        QueryParameter parameter = new QueryParameter(Type.TOKEN, code, null, null);
+        QueryParameterValue parameterValue = new QueryParameterValue();
+        parameterValue.setValueSystem(system);
+        parameterValue.setValueCode(value);
+        parameter.getValues().add(parameterValue);
+        return parameter;
+    }
+
+    private QueryParameter idParm(String... ids) {
+        QueryParameter parameter = new QueryParameter(Type.TOKEN, "_id", null, null);
+        for (String id : ids) {
+            QueryParameterValue parameterValue = new QueryParameterValue();
+            parameterValue.setValueCode(id);
+            parameter.getValues().add(parameterValue);
+        }
+        return parameter;
+    }
+
+    private QueryParameter lastUpdatedParm(Prefix prefix, Instant value) {
+        QueryParameter parameter = new QueryParameter(Type.DATE, "_lastUpdated", null, null);
+        QueryParameterValue parameterValue = new QueryParameterValue();
+        parameterValue.setPrefix(prefix);
+        parameterValue.setValueDateLowerBound(value);
+        parameterValue.setValueDateUpperBound(value.plusSeconds(1));
+        parameter.getValues().add(parameterValue);
+        return parameter;
+    }
+
+    /**
+     * A ParameterDAO which knows the ids of all the parameter names and code systems, except for 'unknown'.
+     */
+    private static ParameterDAO parameterDao() {
+        return (ParameterDAO) Proxy.newProxyInstance(ParameterDAO.class.getClassLoader(), new Class<?>[] { ParameterDAO.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "readParameterNameId":
+                    return "unknown".equals(args[0]) ? null : 1000 + Math.abs(args[0].hashCode() % 1000);
+                case "readCodeSystemId":
+                    return 1000 + Math.abs(args[0].hashCode() % 1000);
+                case "isDb2Database":
+                    return false;
+                case "getFlavor":
+                    return new FHIRDbFlavorImpl(DbType.DERBY, false);
+                default:
+                    return null;
+                }
+            });
+    }
+
+    private static ResourceDAO resourceDao() {
+        return (ResourceDAO) Proxy.newProxyInstance(ResourceDAO.class.getClassLoader(), new Class<?>[] { ResourceDAO.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "isDb2Database":
+                    return false;
+                case "getFlavor":
+                    return new FHIRDbFlavorImpl(DbType.DERBY, false);
+                default:
+                    return null;
+                }
+            });
+    }
+}
@@ -6,11 +6,16 @@
 
 package com.ibm.fhir.persistence;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.ibm.fhir.model.resource.OperationOutcome;
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.util.FHIRUtil;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceNotSupportedException;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceResourceDeletedException;
 
 /**
  * This interface defines the contract between the FHIR Server's REST API layer and the underlying
@@ -30,6 +35,24 @@ public interface FHIRPersistence {
      */
     <T extends Resource> SingleResourceResult<T> create(FHIRPersistenceContext context, T resource) throws FHIRPersistenceException;
 
+    /**
+     * Stores a list of new FHIR Resources in the datastore.
+     * Implementations may share database work across the resources, so if an exception is thrown some of the
+     * resources may already have been stored and the caller is expected to roll back the current transaction.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resources the FHIR Resource instances to be created in the datastore
+     * @return a list with the SingleResourceResult of each create, in the same order as resources
+     * @throws FHIRPersistenceException
+     */
+    default <T extends Resource> List<SingleResourceResult<T>> createAll(FHIRPersistenceContext context, List<T> resources) throws FHIRPersistenceException {
+        List<SingleResourceResult<T>> results = new ArrayList<>(resources.size());
+        for (T resource : resources) {
+            results.add(create(context, resource));
+        }
+        return results;
+    }
+
     /**
      * Retrieves the most recent version of a FHIR Resource from the datastore.
      *
@@ -43,6 +66,36 @@ public interface FHIRPersistence {
     <T extends Resource> SingleResourceResult<T> read(FHIRPersistenceContext context, Class<T> resourceType, String logicalId)
             throws FHIRPersistenceException;
 
+    /**
+     * Retrieves the most recent version of a list of FHIR Resources of the same type from the datastore.
+     * Implementations may retrieve all of the resources with a single request to the datastore, so callers that
+     * follow many references should group them by resource type and use this method instead of calling read for
+     * each reference.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type of the Resource instances to be retrieved
+     * @param logicalIds the logical ids of the Resource instances to be retrieved
+     * @return a list with the SingleResourceResult of each read, in the same order as logicalIds; the resource of a result
+     *         is null if the resource was not found, and a result is not successful, with an issue of type DELETED,
+     *         if the resource is deleted and FHIRPersistenceContext.includeDeleted() is false
+     * @throws FHIRPersistenceException
+     */
+    default <T extends Resource> List<SingleResourceResult<T>> readMany(FHIRPersistenceContext context, Class<T> resourceType, List<String> logicalIds)
+            throws FHIRPersistenceException {
+        List<SingleResourceResult<T>> results = new ArrayList<>(logicalIds.size());
+        for (String logicalId : logicalIds) {
+            try {
+                results.add(read(context, resourceType, logicalId));
+            } catch (FHIRPersistenceResourceDeletedException e) {
+                results.add(new SingleResourceResult.Builder<T>()
+                        .success(false)
+                        .outcome(FHIRUtil.buildOperationOutcome(e, false))
+                        .build());
+            }
+        }
+        return results;
+    }
+
     /**
      * Retrieves a specific version of a FHIR Resource from the datastore.
      *
@@ -69,6 +122,25 @@ public interface FHIRPersistence {
      */
     <T extends Resource> SingleResourceResult<T> update(FHIRPersistenceContext context, String logicalId, T resource) throws FHIRPersistenceException;
 
+    /**
+     * Updates a list of existing FHIR Resources by storing a new version of each in the datastore.
+     * The logical id of each resource is taken from its id, and the same logical id may appear more than once.
+     * Implementations may share database work across the resources, so if an exception is thrown some of the
+     * resources may already have been stored and the caller is expected to roll back the current transaction.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resources the new contents of the FHIR Resources to be stored
+     * @return a list with the SingleResourceResult of each update, in the same order as resources
+     * @throws FHIRPersistenceException
+     */
+    default <T extends Resource> List<SingleResourceResult<T>> updateAll(FHIRPersistenceContext context, List<T> resources) throws FHIRPersistenceException {
+        List<SingleResourceResult<T>> results = new ArrayList<>(resources.size());
+        for (T resource : resources) {
+            results.add(update(context, resource.getId(), resource));
+        }
+        return results;
+    }
+
     /**
      * Deletes the specified FHIR Resource from the datastore.
      *
@@ -106,6 +178,62 @@ public interface FHIRPersistence {
      */
     MultiResourceResult<Resource> search(FHIRPersistenceContext context, Class<? extends Resource> resourceType) throws FHIRPersistenceException;
 
+    /**
+     * Retrieves the most recent version of a FHIR Resource from the datastore without parsing it.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type of the Resource instance to be retrieved
+     * @param logicalId the logical id of the Resource instance to be retrieved
+     * @return the stored resource, or null if the resource doesn't exist
+     * @throws FHIRPersistenceException
+     * @see #isRawResourceSupported()
+     */
+    default RawResource readRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId)
+            throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'readRaw' operation is not supported by this persistence implementation");
+    }
+
+    /**
+     * Retrieves a specific version of a FHIR Resource from the datastore without parsing it.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type of the Resource instance to be retrieved
+     * @param logicalId the logical id of the Resource instance to be retrieved
+     * @param versionId the version of the Resource instance to be retrieved
+     * @return the stored resource, or null if the resource version doesn't exist
+     * @throws FHIRPersistenceException
+     * @see #isRawResourceSupported()
+     */
+    default RawResource vreadRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType, String logicalId, String versionId)
+            throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'vreadRaw' operation is not supported by this persistence implementation");
+    }
+
+    /**
+     * Performs a search on the specified target resource type using the specified search parameters, and returns
+     * the resources in the search result set without parsing them. Searches which filter the elements of the
+     * resources (_elements or _summary) are not supported.
+     *
+     * <p>Implementations should produce the JSON of each resource on demand, so that the search results can be
+     * written to the response one at a time without holding the JSON of the whole page.
+     *
+     * @param context the FHIRPersistenceContext instance associated with the current request
+     * @param resourceType the resource type which is the target of the search
+     * @return the list of stored resources in the search result set
+     * @throws FHIRPersistenceException
+     * @see #isRawResourceSupported()
+     */
+    default List<RawResource> searchRaw(FHIRPersistenceContext context, Class<? extends Resource> resourceType) throws FHIRPersistenceException {
+        throw new FHIRPersistenceNotSupportedException("The 'searchRaw' operation is not supported by this persistence implementation");
+    }
+
+    /**
+     * Returns true iff the persistence layer implementation supports the "readRaw", "vreadRaw" and "searchRaw" operations.
+     */
+    default boolean isRawResourceSupported() {
+        return false;
+    }
+
     /**
      * Returns true iff the persistence layer implementation supports transactions.
      */
@@ -130,4 +258,13 @@ public interface FHIRPersistence {
     default boolean isDeleteSupported() {
         return false;
     }
+
+    /**
+     * Returns true iff the persistence layer implementation supports keyset paging of search results.
+     *
+     * @see com.ibm.fhir.search.context.FHIRSearchContext#setKeysetCursor(com.ibm.fhir.search.context.KeysetCursor)
+     */
+    default boolean isKeysetPagingSupported() {
+        return false;
+    }
 }
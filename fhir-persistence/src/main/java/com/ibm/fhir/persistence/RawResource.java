@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A version of a resource as stored in the datastore, in its compact JSON form and without being parsed.
+ * It lets the REST layer return a stored resource as-is when no transformation of the resource is needed.
+ *
+ * <p>The JSON is exactly what the persistence layer stored, so the resource meta (versionId, lastUpdated)
+ * in the JSON matches the fields of this object.
+ *
+ * <p>Subclasses may produce the JSON on demand, e.g. by decoding it from the stored payload, so that a list of raw
+ * resources doesn't need to hold the JSON of all of them at once.
+ */
+public class RawResource {
+    private final String resourceType;
+    private final String logicalId;
+    private final int versionId;
+    private final Instant lastUpdated;
+    private final boolean deleted;
+    private final byte[] json;
+
+    /**
+     * @param resourceType the resource type name, e.g. "Patient"
+     * @param logicalId the logical id of the resource
+     * @param versionId the version of the resource
+     * @param lastUpdated the time this version was stored
+     * @param deleted whether this version is a deletion marker
+     * @param json the UTF-8 encoded JSON of the resource
+     */
+    public RawResource(String resourceType, String logicalId, int versionId, Instant lastUpdated, boolean deleted, byte[] json) {
+        this.resourceType = Objects.requireNonNull(resourceType, "resourceType");
+        this.logicalId = Objects.requireNonNull(logicalId, "logicalId");
+        this.versionId = versionId;
+        this.lastUpdated = Objects.requireNonNull(lastUpdated, "lastUpdated");
+        this.deleted = deleted;
+        this.json = Objects.requireNonNull(json, "json");
+    }
+
+    /**
+     * For subclasses which produce the JSON on demand, and must override {@link #getJson()} and {@link #getInputStream()}.
+     */
+    protected RawResource(String resourceType, String logicalId, int versionId, Instant lastUpdated, boolean deleted) {
+        this.resourceType = Objects.requireNonNull(resourceType, "resourceType");
+        this.logicalId = Objects.requireNonNull(logicalId, "logicalId");
+        this.versionId = versionId;
+        this.lastUpdated = Objects.requireNonNull(lastUpdated, "lastUpdated");
+        this.deleted = deleted;
+        this.json = null;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getLogicalId() {
+        return logicalId;
+    }
+
+    public int getVersionId() {
+        return versionId;
+    }
+
+    public Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return the UTF-8 encoded JSON of the resource. The array is not copied and must not be modified.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * @return a stream which reads the UTF-8 encoded JSON of the resource
+     */
+    public InputStream getInputStream() throws IOException {
+        return new ByteArrayInputStream(json);
+    }
+
+    /**
+     * Writes the JSON of the resource to the given stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (json != null) {
+            out.write(json);
+            return;
+        }
+        try (InputStream in = getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+        }
+    }
+}
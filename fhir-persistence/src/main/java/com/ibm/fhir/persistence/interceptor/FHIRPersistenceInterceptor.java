@@ -189,4 +189,17 @@ public interface FHIRPersistenceInterceptor {
      */
     default void afterSearch(FHIRPersistenceEvent event) throws FHIRPersistenceInterceptorException {
     }
+
+    /**
+     * Indicates whether this interceptor needs the resources of the 'read', 'vread' and 'search' events.
+     * When no registered interceptor needs them, the FHIR Server may return the resources exactly as they are stored
+     * without parsing them, in which case the 'afterRead' and 'afterVread' events carry no resource and the 'afterSearch'
+     * event carries a Bundle without entries.
+     * Interceptors which neither inspect nor replace those resources should override this method to return false.
+     * 
+     * @return true if the interceptor needs the resources of the 'read', 'vread' and 'search' events; true by default
+     */
+    default boolean isReadResourceRequired() {
+        return true;
+    }
 }
@@ -83,6 +83,19 @@ public class FHIRPersistenceInterceptorMgr {
         interceptors.add(0, interceptor);
     }
     
+    /**
+     * @return true if any registered interceptor needs the resources of the 'read', 'vread' and 'search' events
+     * @see FHIRPersistenceInterceptor#isReadResourceRequired()
+     */
+    public boolean isReadResourceRequired() {
+        for (FHIRPersistenceInterceptor interceptor : interceptors) {
+            if (interceptor.isReadResourceRequired()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * The following methods will invoke the respective interceptor methods on each registered interceptor.
      */
@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.test.common;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Device;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.persistence.SingleResourceResult;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
+
+/**
+ * This class contains tests for storing several resources with a single
+ * createAll or updateAll call.
+ */
+public abstract class AbstractBatchWriteTest extends AbstractPersistenceTest {
+    private List<Device> devices = new ArrayList<>();
+
+    @Test
+    public void testCreateAll() throws Exception {
+        Device device = TestUtil.readExampleResource("json/ibm/minimal/Device-1.json");
+        List<Device> resources = Arrays.asList(
+                device.toBuilder().modelNumber(string("batch-write-model-1")).build(),
+                device.toBuilder().modelNumber(string("batch-write-model-2")).build());
+
+        List<SingleResourceResult<Device>> results = persistence.createAll(getDefaultPersistenceContext(), resources);
+        assertEquals(results.size(), 2);
+        for (SingleResourceResult<Device> result : results) {
+            assertTrue(result.isSuccess());
+            assertNotNull(result.getResource().getId());
+            assertEquals(result.getResource().getMeta().getVersionId().getValue(), "1");
+            devices.add(result.getResource());
+        }
+
+        Device device1 = persistence.read(getDefaultPersistenceContext(), Device.class, devices.get(0).getId()).getResource();
+        assertEquals(device1.getModelNumber().getValue(), "batch-write-model-1");
+    }
+
+    @Test(dependsOnMethods = { "testCreateAll" })
+    public void testCreateAllSearchParameters() throws Exception {
+        List<Resource> found = runQueryTest(Device.class, "model:exact", "batch-write-model-2");
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).getId(), devices.get(1).getId());
+    }
+
+    // Runs after the search parameters of the created resources were checked, whether or not that check passed
+    @Test(dependsOnMethods = { "testCreateAll", "testCreateAllSearchParameters" }, alwaysRun = true)
+    public void testUpdateAll() throws Exception {
+        assertEquals(devices.size(), 2);
+        Device device1 = devices.get(0);
+        Device device2 = devices.get(1);
+
+        // The first device is updated twice in the same batch
+        List<Device> resources = Arrays.asList(
+                device1.toBuilder().modelNumber(string("batch-write-model-1a")).build(),
+                device2.toBuilder().modelNumber(string("batch-write-model-2a")).build(),
+                device1.toBuilder().modelNumber(string("batch-write-model-1b")).build());
+
+        List<SingleResourceResult<Device>> results = persistence.updateAll(getDefaultPersistenceContext(), resources);
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(0).getResource().getMeta().getVersionId().getValue(), "2");
+        assertEquals(results.get(1).getResource().getMeta().getVersionId().getValue(), "2");
+        assertEquals(results.get(2).getResource().getMeta().getVersionId().getValue(), "3");
+
+        Device updatedDevice1 = persistence.read(getDefaultPersistenceContext(), Device.class, device1.getId()).getResource();
+        assertEquals(updatedDevice1.getMeta().getVersionId().getValue(), "3");
+        assertEquals(updatedDevice1.getModelNumber().getValue(), "batch-write-model-1b");
+    }
+
+    @Test(dependsOnMethods = { "testUpdateAll" })
+    public void testUpdateAllSearchParameters() throws Exception {
+        // Only the search parameters of the current versions remain
+        assertEquals(runQueryTest(Device.class, "model:exact", "batch-write-model-1").size(), 0);
+        assertEquals(runQueryTest(Device.class, "model:exact", "batch-write-model-1a").size(), 0);
+        assertEquals(runQueryTest(Device.class, "model:exact", "batch-write-model-1b").size(), 1);
+        assertEquals(runQueryTest(Device.class, "model:exact", "batch-write-model-2a").size(), 1);
+    }
+
+    @Test(dependsOnMethods = { "testCreateAll" })
+    public void testUpdateAllWithoutId() throws Exception {
+        Device device1 = persistence.read(getDefaultPersistenceContext(), Device.class, devices.get(0).getId()).getResource();
+        String versionId = device1.getMeta().getVersionId().getValue();
+
+        // None of the resources are stored when one of them has no id
+        List<Device> resources = Arrays.asList(
+                device1.toBuilder().modelNumber(string("batch-write-model-1c")).build(),
+                device1.toBuilder().id(null).modelNumber(string("batch-write-model-1d")).build());
+        try {
+            persistence.updateAll(getDefaultPersistenceContext(), resources);
+            fail();
+        } catch (FHIRPersistenceException e) {
+            assertEquals(e.getIssues().size(), 1);
+        }
+
+        device1 = persistence.read(getDefaultPersistenceContext(), Device.class, device1.getId()).getResource();
+        assertEquals(device1.getMeta().getVersionId().getValue(), versionId);
+    }
+}
@@ -21,6 +21,7 @@ import org.testng.annotations.Test;
 import com.ibm.fhir.model.resource.Device;
 import com.ibm.fhir.model.resource.Device.UdiCarrier;
 import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.code.IssueType;
 import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.persistence.SingleResourceResult;
 import com.ibm.fhir.persistence.context.FHIRHistoryContext;
@@ -134,7 +135,20 @@ public abstract class AbstractDeleteTest extends AbstractPersistenceTest {
     @Test(dependsOnMethods = { "testDeleteValidDevice" })
     public void testReDeleteValidDevice() throws Exception {
         
-        persistence.delete(getDefaultPersistenceContext(), Device.class, this.deviceId1);
+        SingleResourceResult<Device> result = persistence.delete(getDefaultPersistenceContext(), Device.class, this.deviceId1);
+        assertNotNull(result.getOutcome());
+        assertEquals(result.getOutcome().getIssue().size(), 1);
+        assertEquals(result.getOutcome().getIssue().get(0).getCode(), IssueType.DELETED);
+        assertTrue(result.getOutcome().getIssue().get(0).getDetails().getText().getValue().contains(this.deviceId1));
+    }
+    
+    @Test(dependsOnMethods = { "testReDeleteValidDevice" })
+    public void testWarningsArePerOperation() throws Exception {
+        
+        // The warning of the earlier delete must not be reported by later operations of the same instance
+        Device device = TestUtil.readExampleResource("json/ibm/minimal/Device-1.json");
+        SingleResourceResult<Device> result = persistence.create(getDefaultPersistenceContext(), device);
+        assertNull(result.getOutcome());
     }
     
     @Test
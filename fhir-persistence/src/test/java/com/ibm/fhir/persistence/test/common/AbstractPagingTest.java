@@ -39,6 +39,7 @@ import com.ibm.fhir.persistence.context.FHIRHistoryContext;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContextFactory;
 import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.KeysetCursor;
 import com.ibm.fhir.search.util.SearchUtil;
 
 /**
@@ -120,6 +121,64 @@ public abstract class AbstractPagingTest extends AbstractPersistenceTest {
         assertTrue(isResourceInResponse(resource3, results));
     }
     
+    @Test
+    public void testSearchKeysetPaging() throws Exception {
+        if (!persistence.isKeysetPagingSupported()) {
+            return;
+        }
+        Map<String, List<String>> queryParameters = new HashMap<>();
+        queryParameters.put("_tag", Collections.singletonList("pagingTest"));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+        searchContext.setKeysetCursor(KeysetCursor.START);
+        
+        // the same search context is reused so that each search continues after the cursor from the previous one
+        List<Resource> results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+        assertEquals(results.size(), 1, "expected number of results");
+        assertTrue(isResourceInResponse(resource1, results));
+        assertFalse(searchContext.getKeysetCursor().isStart());
+        
+        results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+        assertEquals(results.size(), 1, "expected number of results");
+        assertTrue(isResourceInResponse(resource2, results));
+        
+        results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+        assertEquals(results.size(), 1, "expected number of results");
+        assertTrue(isResourceInResponse(resource3, results));
+        
+        KeysetCursor lastCursor = searchContext.getKeysetCursor();
+        results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+        assertTrue(results.isEmpty());
+        assertEquals(searchContext.getKeysetCursor(), lastCursor);
+    }
+    
+    @Test
+    public void testSearchPagingTotalNone() throws Exception {
+        for (int page = 1; page <= 3; page++) {
+            Map<String, List<String>> queryParameters = new HashMap<>();
+            queryParameters.put("_sort", Collections.singletonList("integer"));
+            queryParameters.put("_tag", Collections.singletonList("pagingTest"));
+            queryParameters.put("_total", Collections.singletonList("none"));
+            queryParameters.put("_page", Collections.singletonList(String.valueOf(page)));
+            FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+            
+            // the extra row fetched to find the next page is not returned
+            List<Resource> results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+            assertEquals(results.size(), 1, "expected number of results");
+            assertEquals(searchContext.getTotalCount(), 0, "expected no total count");
+            assertEquals(searchContext.getLastPageNumber(), Math.min(page + 1, 3), "expected last page number");
+        }
+        
+        Map<String, List<String>> queryParameters = new HashMap<>();
+        queryParameters.put("_sort", Collections.singletonList("integer"));
+        queryParameters.put("_tag", Collections.singletonList("pagingTest"));
+        queryParameters.put("_total", Collections.singletonList("none"));
+        queryParameters.put("_page", Collections.singletonList("4"));
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Basic.class, queryParameters);
+        List<Resource> results = runQueryTest(searchContext, Basic.class, queryParameters, 1).getResource();
+        assertTrue(results.isEmpty());
+        assertEquals(searchContext.getLastPageNumber(), 4, "expected last page number");
+    }
+    
     // history results should be sorted with oldest versions last
     @Test
     public void testHistoryPaging() throws Exception {
@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.test.common;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.resource.Device;
+import com.ibm.fhir.model.resource.Device.UdiCarrier;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.persistence.RawResource;
+import com.ibm.fhir.persistence.exception.FHIRPersistenceNotSupportedException;
+import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.util.SearchUtil;
+
+/**
+ * This class contains tests for reading and searching resources as they are stored.
+ */
+public abstract class AbstractRawResourceTest extends AbstractPersistenceTest {
+    protected String deviceId;
+
+    @BeforeClass
+    public void createResources() throws Exception {
+        Device device = TestUtil.readExampleResource("json/ibm/minimal/Device-1.json");
+
+        device = persistence.create(getDefaultPersistenceContext(), device).getResource();
+        this.deviceId = device.getId();
+
+        device = device.toBuilder().udiCarrier(UdiCarrier.builder().deviceIdentifier(string("raw-resource-test")).build()).build();
+        persistence.update(getDefaultPersistenceContext(), deviceId, device);
+    }
+
+    @Test
+    public void testReadRaw() throws Exception {
+        assertTrue(persistence.isRawResourceSupported());
+
+        RawResource raw = persistence.readRaw(getDefaultPersistenceContext(), Device.class, deviceId);
+        assertNotNull(raw);
+        assertEquals(raw.getResourceType(), "Device");
+        assertEquals(raw.getLogicalId(), deviceId);
+        assertEquals(raw.getVersionId(), 2);
+        assertFalse(raw.isDeleted());
+
+        Device device = persistence.read(getDefaultPersistenceContext(), Device.class, deviceId).getResource();
+        assertEquals(raw.getLastUpdated(), device.getMeta().getLastUpdated().getValue().toInstant());
+        assertStoredJson(raw, device);
+    }
+
+    @Test
+    public void testVReadRaw() throws Exception {
+        RawResource raw = persistence.vreadRaw(getDefaultPersistenceContext(), Device.class, deviceId, "1");
+        assertNotNull(raw);
+        assertEquals(raw.getVersionId(), 1);
+
+        Device device = persistence.vread(getDefaultPersistenceContext(), Device.class, deviceId, "1").getResource();
+        assertEquals(raw.getLastUpdated(), device.getMeta().getLastUpdated().getValue().toInstant());
+        assertStoredJson(raw, device);
+    }
+
+    @Test
+    public void testReadRawNotFound() throws Exception {
+        assertNull(persistence.readRaw(getDefaultPersistenceContext(), Device.class, "invalid-device-id"));
+        assertNull(persistence.vreadRaw(getDefaultPersistenceContext(), Device.class, deviceId, "3"));
+    }
+
+    @Test
+    public void testSearchRaw() throws Exception {
+        Map<String, List<String>> queryParms = new HashMap<>();
+        queryParms.put("_count", Collections.singletonList("1000"));
+
+        List<Resource> resources = runQueryTest(Device.class, queryParms);
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Device.class, queryParms);
+        List<RawResource> rawResources = persistence.searchRaw(getPersistenceContextForSearch(searchContext), Device.class);
+        assertEquals(rawResources.size(), resources.size());
+
+        Map<String, Resource> resourcesById = new HashMap<>();
+        for (Resource resource : resources) {
+            resourcesById.put(resource.getId(), resource);
+        }
+        for (RawResource raw : rawResources) {
+            assertEquals(raw.getResourceType(), "Device");
+            assertStoredJson(raw, resourcesById.get(raw.getLogicalId()));
+        }
+    }
+
+    @Test(expectedExceptions = FHIRPersistenceNotSupportedException.class)
+    public void testSearchRawSummary() throws Exception {
+        Map<String, List<String>> queryParms = new HashMap<>();
+        queryParms.put("_summary", Collections.singletonList("true"));
+
+        FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(Device.class, queryParms);
+        persistence.searchRaw(getPersistenceContextForSearch(searchContext), Device.class);
+    }
+
+    /**
+     * Asserts that the stored JSON is the resource, exactly as the generator writes it
+     */
+    private void assertStoredJson(RawResource raw, Resource resource) throws Exception {
+        assertNotNull(resource);
+        assertEquals(FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(raw.getJson())), resource);
+
+        StringWriter writer = new StringWriter();
+        FHIRGenerator.generator(Format.JSON).generate(resource, writer);
+        assertEquals(new String(raw.getJson(), StandardCharsets.UTF_8), writer.toString());
+
+        // The JSON written to a stream is the same as the JSON of the resource
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        raw.writeTo(out);
+        assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), writer.toString());
+    }
+}
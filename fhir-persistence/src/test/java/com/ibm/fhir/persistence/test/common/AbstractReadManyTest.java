@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.persistence.test.common;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.resource.Device;
+import com.ibm.fhir.model.test.TestUtil;
+import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.persistence.SingleResourceResult;
+import com.ibm.fhir.persistence.context.FHIRPersistenceContextFactory;
+
+/**
+ * This class contains tests for reading a list of resources of the same type.
+ */
+public abstract class AbstractReadManyTest extends AbstractPersistenceTest {
+    protected String deviceId1;
+    protected String deviceId2;
+    protected String deletedDeviceId;
+
+    @BeforeClass
+    public void createResources() throws Exception {
+        Device device = TestUtil.readExampleResource("json/ibm/minimal/Device-1.json");
+
+        this.deviceId1 = persistence.create(getDefaultPersistenceContext(), device).getResource().getId();
+        this.deviceId2 = persistence.create(getDefaultPersistenceContext(), device).getResource().getId();
+
+        Device updated = persistence.read(getDefaultPersistenceContext(), Device.class, deviceId2).getResource();
+        persistence.update(getDefaultPersistenceContext(), deviceId2, updated);
+
+        this.deletedDeviceId = persistence.create(getDefaultPersistenceContext(), device).getResource().getId();
+        if (persistence.isDeleteSupported()) {
+            persistence.delete(getDefaultPersistenceContext(), Device.class, deletedDeviceId);
+        }
+    }
+
+    @Test
+    public void testReadMany() throws Exception {
+        List<String> logicalIds = Arrays.asList(deviceId2, "invalid-device-id", deviceId1, deviceId2);
+        List<SingleResourceResult<Device>> results = persistence.readMany(getDefaultPersistenceContext(), Device.class, logicalIds);
+        assertEquals(results.size(), 4);
+        for (SingleResourceResult<Device> result : results) {
+            assertTrue(result.isSuccess());
+        }
+
+        assertNotNull(results.get(0).getResource());
+        assertEquals(results.get(0).getResource().getId(), deviceId2);
+        assertEquals(results.get(0).getResource().getMeta().getVersionId().getValue(), "2");
+        assertNull(results.get(1).getResource());
+        assertEquals(results.get(2).getResource(), persistence.read(getDefaultPersistenceContext(), Device.class, deviceId1).getResource());
+        assertEquals(results.get(3).getResource(), results.get(0).getResource());
+    }
+
+    @Test
+    public void testReadManyDeleted() throws Exception {
+        if (!persistence.isDeleteSupported()) {
+            return;
+        }
+        List<SingleResourceResult<Device>> results = persistence.readMany(getDefaultPersistenceContext(), Device.class,
+                Arrays.asList(deletedDeviceId, deviceId1, "invalid-device-id"));
+        assertFalse(results.get(0).isSuccess());
+        assertNull(results.get(0).getResource());
+        assertEquals(results.get(0).getOutcome().getIssue().get(0).getCode(), IssueType.DELETED);
+        assertNotNull(results.get(1).getResource());
+
+        // A resource which doesn't exist is not reported as deleted
+        assertTrue(results.get(2).isSuccess());
+        assertNull(results.get(2).getResource());
+
+        results = persistence.readMany(FHIRPersistenceContextFactory.createPersistenceContext(null, true), Device.class,
+                Collections.singletonList(deletedDeviceId));
+        assertNotNull(results.get(0).getResource());
+    }
+
+    @Test
+    public void testReadManyEmpty() throws Exception {
+        assertTrue(persistence.readMany(getDefaultPersistenceContext(), Device.class, Collections.emptyList()).isEmpty());
+    }
+}
@@ -132,7 +132,7 @@ public class FHIRProvider implements MessageBodyReader<Resource>, MessageBodyWri
         }
     }
 
-    protected static boolean isPretty(HttpHeaders httpHeaders, UriInfo uriInfo) {
+    public static boolean isPretty(HttpHeaders httpHeaders, UriInfo uriInfo) {
         // Header evaluation
         String value = httpHeaders.getHeaderString(FHIRConfiguration.DEFAULT_PRETTY_RESPONSE_HEADER_NAME);
 
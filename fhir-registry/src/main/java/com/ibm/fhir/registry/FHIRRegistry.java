@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -41,6 +42,7 @@ public final class FHIRRegistry {
     private static final FHIRRegistry INSTANCE = new FHIRRegistry();
 
     private final List<FHIRRegistryResourceProvider> providers;
+    private final AtomicLong modificationCount = new AtomicLong();
 
     private FHIRRegistry() {
         providers = new CopyOnWriteArrayList<>(loadProviders());
@@ -71,6 +73,49 @@ public final class FHIRRegistry {
     public void register(FHIRRegistryResourceProvider provider) {
         Objects.requireNonNull(provider);
         providers.add(provider);
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Indicate that resources were added, changed or removed in one of the registry resource providers, so that
+     * data derived from the registry resources (e.g. compiled profile constraints) is computed again
+     */
+    public void notifyResourcesChanged() {
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Get the number of changes to the registry, which callers can compare with a previous value to detect that
+     * the data they derived from the registry resources is out of date
+     *
+     * @return
+     *     the number of providers registered and changes notified since the registry was created
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Get the scope of the registry resources that the current thread gets from the registry, which callers can use
+     * to keep the data they derive from the registry resources apart when the providers return different resources
+     * to different threads (e.g. per tenant)
+     *
+     * @return
+     *     the scopes of the registry resource providers that have one, or the empty string if none has one
+     * @see FHIRRegistryResourceProvider#getScope()
+     */
+    public String getScope() {
+        StringBuilder scope = new StringBuilder();
+        for (FHIRRegistryResourceProvider provider : providers) {
+            String providerScope = provider.getScope();
+            if (providerScope != null) {
+                if (scope.length() > 0) {
+                    scope.append('|');
+                }
+                scope.append(providerScope);
+            }
+        }
+        return scope.toString();
     }
 
     /**
@@ -0,0 +1,71 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.registry.core.util;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.ibm.fhir.registry.util.Snapshot;
+
+/**
+ * Generates the snapshot of each package under a directory from its index and resource files, e.g.:
+ *
+ * <pre>
+ * SnapshotGenerator target/classes --strip
+ * </pre>
+ *
+ * <p>A package is a directory named {@code package} which contains an {@code .index.json} file. The modules which
+ * contain registry packages run this generator on their build output, so the snapshots are always generated from the
+ * current index and resource files, and are never committed.
+ *
+ * <p>With {@code --strip}, the narrative and the mappings of the resources are not included in the snapshot.
+ */
+public class SnapshotGenerator {
+    private static final String DEFAULT_DIRECTORY = "target/classes";
+    private static final String INDEX_FILE_NAME = ".index.json";
+
+    public static void main(String[] args) throws Exception {
+        String directory = DEFAULT_DIRECTORY;
+        boolean strip = false;
+        for (String arg : args) {
+            if ("--strip".equals(arg)) {
+                strip = true;
+            } else {
+                directory = arg;
+            }
+        }
+
+        List<Path> packageDirectories;
+        try (Stream<Path> paths = Files.walk(Paths.get(directory))) {
+            packageDirectories = paths
+                    .filter(path -> INDEX_FILE_NAME.equals(path.getFileName().toString())
+                            && "package".equals(path.getParent().getFileName().toString()))
+                    .map(Path::getParent)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (packageDirectories.isEmpty()) {
+            System.out.println("No packages found in " + directory);
+        }
+        for (Path packageDirectory : packageDirectories) {
+            generate(packageDirectory, strip);
+        }
+    }
+
+    private static void generate(Path packageDirectory, boolean strip) throws Exception {
+        Path snapshotFile = packageDirectory.resolve(Snapshot.FILE_NAME);
+        try (OutputStream out = Files.newOutputStream(snapshotFile)) {
+            int count = Snapshot.write(out, packageDirectory, strip);
+            System.out.println("Wrote " + count + " resources to " + snapshotFile);
+        }
+    }
+}
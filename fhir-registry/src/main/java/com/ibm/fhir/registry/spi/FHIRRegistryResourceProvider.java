@@ -70,6 +70,18 @@ public interface FHIRRegistryResourceProvider {
      */
     Collection<FHIRRegistryResource> getSearchParameterResources(String type);
 
+    /**
+     * Get the scope of the registry resources that this provider returns to the current thread, e.g. the tenant of the
+     * current request
+     *
+     * @return
+     *     a key which is equal for the threads that get the same registry resources from this provider, or null if
+     *     this provider returns the same registry resources to all threads
+     */
+    default String getScope() {
+        return null;
+    }
+
     /**
      * Get the profiles for all of the resources.
      *
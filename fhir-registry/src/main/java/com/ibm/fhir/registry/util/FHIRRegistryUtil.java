@@ -7,6 +7,7 @@
 package com.ibm.fhir.registry.util;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -147,7 +148,21 @@ public final class FHIRRegistryUtil {
     public static Collection<FHIRRegistryResource> getRegistryResources(String packageId) {
         List<FHIRRegistryResource> resources = new ArrayList<>();
         String packageDirectory = packageId.replace(".", "/") + "/package";
-        for (Entry entry : readIndex(packageDirectory + "/.index.json")) {
+        String indexPath = packageDirectory + "/.index.json";
+        Snapshot snapshot = readSnapshot(packageDirectory + "/" + Snapshot.FILE_NAME);
+        if (snapshot != null && !isSnapshotOf(snapshot, indexPath)) {
+            // e.g. a snapshot which was not generated again after the package changed
+            log.warning("Ignoring snapshot '" + packageDirectory + "/" + Snapshot.FILE_NAME + "' because it was not generated from '"
+                    + indexPath + "'; generate it again with SnapshotGenerator");
+            snapshot = null;
+        }
+        if (snapshot != null) {
+            for (Snapshot.Entry entry : snapshot.getEntries()) {
+                resources.add(new SnapshotRegistryResource(snapshot, entry));
+            }
+            return Collections.unmodifiableList(resources);
+        }
+        for (Entry entry : readIndex(indexPath)) {
             resources.add(new PackageRegistryResource(
                 ModelSupport.getResourceType(entry.getResourceType()),
                 entry.getId(),
@@ -160,6 +175,49 @@ public final class FHIRRegistryUtil {
         return Collections.unmodifiableList(resources);
     }
 
+    /**
+     * Read the snapshot at the given classpath location
+     *
+     * @param snapshotPath
+     *     the classpath location of the snapshot
+     * @return
+     *     the snapshot, or null if there is no snapshot at that location or it can't be read
+     */
+    public static Snapshot readSnapshot(String snapshotPath) {
+        try {
+            Snapshot snapshot = Snapshot.load(snapshotPath);
+            if (snapshot != null) {
+                log.info("Loaded snapshot: " + snapshotPath);
+            }
+            return snapshot;
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Unexpected error while loading snapshot '" + snapshotPath + "'", e);
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the snapshot was generated from the index at the given classpath location, or if there is no
+     *     index at that location
+     */
+    private static boolean isSnapshotOf(Snapshot snapshot, String indexPath) {
+        try (InputStream in = FHIRRegistryUtil.class.getClassLoader().getResourceAsStream(indexPath)) {
+            if (in == null) {
+                return true;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return snapshot.isSnapshotOf(out.toByteArray());
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Unexpected error while loading index '" + indexPath + "'", e);
+        }
+        return false;
+    }
+
     public static List<Entry> readIndex(String indexPath) {
         log.info("Loading index: " + indexPath);
         try (InputStream in = FHIRRegistryUtil.class.getClassLoader().getResourceAsStream(indexPath)) {
@@ -0,0 +1,471 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.registry.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.DomainResource;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.resource.StructureDefinition;
+import com.ibm.fhir.model.type.ElementDefinition;
+
+/**
+ * A compact binary snapshot of the resources of a registry package, which is read with a single lookup and decodes
+ * each resource on demand.
+ *
+ * <p>A snapshot starts with the digest of the index of the package that it was generated from and a header that holds
+ * the index entries, followed by the compact JSON of each resource compressed separately. At runtime the snapshot is
+ * memory-mapped when it is a file, and read into a single buffer otherwise (e.g. when it is in a jar).
+ *
+ * <p>Snapshots are generated into the build output of the modules that contain registry packages, see
+ * {@code SnapshotGenerator}.
+ */
+public class Snapshot {
+    private static final Logger log = Logger.getLogger(Snapshot.class.getName());
+
+    public static final String FILE_NAME = ".snapshot";
+    private static final String INDEX_FILE_NAME = ".index.json";
+
+    private static final int MAGIC = 0x46485253;
+    private static final int FORMAT_VERSION = 2;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final byte[] indexDigest;
+    private final List<Entry> entries;
+    private final ByteBuffer payload;
+
+    private Snapshot(byte[] indexDigest, List<Entry> entries, ByteBuffer payload) {
+        this.indexDigest = indexDigest;
+        this.entries = Collections.unmodifiableList(entries);
+        this.payload = payload;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @param index
+     *     the content of an index file
+     * @return
+     *     true if this snapshot was generated from the given index
+     */
+    public boolean isSnapshotOf(byte[] index) {
+        return MessageDigest.isEqual(indexDigest, digest(index));
+    }
+
+    /**
+     * @param index
+     *     the content of an index file
+     * @return
+     *     the digest of the index, which a snapshot of its package holds
+     */
+    public static byte[] digest(byte[] index) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(index);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decode the resource of an entry of this snapshot
+     *
+     * @param entry
+     *     an entry of this snapshot
+     * @return
+     *     the resource
+     * @throws IOException
+     *     if the resource can't be decoded
+     */
+    public Resource getResource(Entry entry) throws IOException {
+        byte[] compressed = new byte[entry.length];
+        ByteBuffer buffer = payload.duplicate();
+        buffer.position(entry.offset);
+        buffer.get(compressed);
+
+        byte[] json = new byte[entry.size];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int n = 0;
+            while (n < json.length && !inflater.finished()) {
+                int read = inflater.inflate(json, n, json.length - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != json.length) {
+                throw new IOException("Truncated snapshot entry: " + entry.getFileName());
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid snapshot entry: " + entry.getFileName(), e);
+        } finally {
+            inflater.end();
+        }
+
+        try {
+            return FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(json));
+        } catch (Exception e) {
+            throw new IOException("Unable to parse snapshot entry: " + entry.getFileName(), e);
+        }
+    }
+
+    /**
+     * Load the snapshot at the given classpath location
+     *
+     * @param path
+     *     the classpath location of the snapshot
+     * @return
+     *     the snapshot, or null if there is no snapshot at that location
+     * @throws IOException
+     *     if the snapshot can't be read
+     */
+    public static Snapshot load(String path) throws IOException {
+        URL url = Snapshot.class.getClassLoader().getResource(path);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try (RandomAccessFile file = new RandomAccessFile(toFile(url), "r");
+                    FileChannel channel = file.getChannel()) {
+                return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return read(ByteBuffer.wrap(out.toByteArray()));
+        }
+    }
+
+    private static File toFile(URL url) throws IOException {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("Invalid snapshot location: " + url, e);
+        }
+    }
+
+    /**
+     * Read a snapshot written by {@link #write(OutputStream, List, boolean, byte[])}
+     *
+     * @param buffer
+     *     a buffer which contains the snapshot from its position to its limit
+     * @return
+     *     the snapshot, which keeps a reference to the buffer
+     * @throws IOException
+     *     if the buffer doesn't contain a snapshot
+     */
+    public static Snapshot read(ByteBuffer buffer) throws IOException {
+        ByteBuffer b = buffer.slice();
+        if (b.remaining() < 12 || b.getInt() != MAGIC) {
+            throw new IOException("The input is not a registry snapshot");
+        }
+        int formatVersion = b.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported registry snapshot format version: " + formatVersion);
+        }
+        int indexDigestLength = b.getInt();
+        if (indexDigestLength < 0 || indexDigestLength > b.remaining() - 4) {
+            throw new IOException("Invalid registry snapshot index digest length: " + indexDigestLength);
+        }
+        byte[] indexDigest = new byte[indexDigestLength];
+        b.get(indexDigest);
+        int headerLength = b.getInt();
+        if (headerLength < 0 || headerLength > b.remaining()) {
+            throw new IOException("Invalid registry snapshot header length: " + headerLength);
+        }
+        byte[] header = new byte[headerLength];
+        b.get(header);
+        ByteBuffer payload = b.slice();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(header));
+        int count = in.readInt();
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String fileName = in.readUTF();
+            String resourceType = in.readUTF();
+            String id = in.readUTF();
+            String url = in.readUTF();
+            String version = in.readUTF();
+            String kind = in.readBoolean() ? in.readUTF() : null;
+            String type = in.readBoolean() ? in.readUTF() : null;
+            int offset = in.readInt();
+            int length = in.readInt();
+            int size = in.readInt();
+            if (offset < 0 || length < 0 || size < 0 || offset > payload.limit() - length) {
+                throw new IOException("Invalid registry snapshot entry: " + fileName);
+            }
+            entries.add(new Entry(fileName, resourceType, id, url, version, kind, type, offset, length, size));
+        }
+        return new Snapshot(indexDigest, entries, payload);
+    }
+
+    /**
+     * Write a snapshot of the given resources
+     *
+     * @param out
+     *     the output stream, which is not closed
+     * @param resources
+     *     the definitional resources to include; resources without an index entry are skipped
+     * @param strip
+     *     whether to drop the parts of the resources that the server doesn't use: the narrative and the mappings of
+     *     StructureDefinitions and their elements
+     * @param index
+     *     the content of the index file of the package, which the snapshot is validated against when it is loaded
+     * @return
+     *     the number of resources written
+     * @throws IOException
+     *     if an I/O error occurs
+     */
+    public static int write(OutputStream out, List<? extends Resource> resources, boolean strip, byte[] index) throws IOException {
+        List<Index.Entry> indexEntries = new ArrayList<>();
+        List<byte[]> jsons = new ArrayList<>();
+        for (Resource resource : resources) {
+            Index.Entry indexEntry = Index.Entry.entry(resource);
+            if (indexEntry != null) {
+                indexEntries.add(indexEntry);
+                jsons.add(generate(strip ? strip(resource) : resource, indexEntry));
+            }
+        }
+        return write(out, indexEntries, jsons, index);
+    }
+
+    /**
+     * Write the snapshot of a package from its index and resource files
+     *
+     * <p>The snapshot has an entry for each entry of the index. A resource which can't be parsed is written as is,
+     * so decoding it fails like loading it from the package does.
+     *
+     * @param out
+     *     the output stream, which is not closed
+     * @param packageDirectory
+     *     the directory of the package, which contains its index and resource files
+     * @param strip
+     *     whether to drop the parts of the resources that the server doesn't use
+     * @return
+     *     the number of resources written
+     * @throws IOException
+     *     if an I/O error occurs
+     */
+    public static int write(OutputStream out, Path packageDirectory, boolean strip) throws IOException {
+        byte[] index = Files.readAllBytes(packageDirectory.resolve(INDEX_FILE_NAME));
+        Index packageIndex = new Index();
+        packageIndex.load(new ByteArrayInputStream(index));
+
+        List<byte[]> jsons = new ArrayList<>();
+        for (Index.Entry indexEntry : packageIndex.getEntries()) {
+            byte[] content = Files.readAllBytes(packageDirectory.resolve(indexEntry.getFileName()));
+            try {
+                Resource resource = FHIRParser.parser(Format.JSON).parse(new ByteArrayInputStream(content));
+                jsons.add(generate(strip ? strip(resource) : resource, indexEntry));
+            } catch (FHIRParserException e) {
+                log.warning("Unable to parse " + packageDirectory.resolve(indexEntry.getFileName()) + ": " + e.getMessage());
+                jsons.add(content);
+            }
+        }
+        return write(out, packageIndex.getEntries(), jsons, index);
+    }
+
+    private static byte[] generate(Resource resource, Index.Entry indexEntry) throws IOException {
+        try {
+            ByteArrayOutputStream jsonOut = new ByteArrayOutputStream();
+            FHIRGenerator.generator(Format.JSON).generate(resource, jsonOut);
+            return jsonOut.toByteArray();
+        } catch (Exception e) {
+            throw new IOException("Unable to generate " + indexEntry.getFileName(), e);
+        }
+    }
+
+    private static int write(OutputStream out, List<Index.Entry> indexEntries, List<byte[]> jsons, byte[] index) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+
+        headerOut.writeInt(indexEntries.size());
+        for (int i = 0; i < indexEntries.size(); i++) {
+            Index.Entry indexEntry = indexEntries.get(i);
+            byte[] json = jsons.get(i);
+            int offset = payload.size();
+            DeflaterOutputStream deflaterOut = new DeflaterOutputStream(payload, new Deflater(Deflater.BEST_COMPRESSION));
+            deflaterOut.write(json);
+            deflaterOut.finish();
+
+            headerOut.writeUTF(indexEntry.getFileName());
+            headerOut.writeUTF(indexEntry.getResourceType());
+            headerOut.writeUTF(indexEntry.getId());
+            headerOut.writeUTF(indexEntry.getUrl());
+            headerOut.writeUTF(indexEntry.getVersion());
+            writeOptionalUTF(headerOut, indexEntry.getKind());
+            writeOptionalUTF(headerOut, indexEntry.getType());
+            headerOut.writeInt(offset);
+            headerOut.writeInt(payload.size() - offset);
+            headerOut.writeInt(json.length);
+        }
+        headerOut.flush();
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        byte[] indexDigest = digest(index);
+        dataOut.writeInt(indexDigest.length);
+        dataOut.write(indexDigest);
+        dataOut.writeInt(header.size());
+        header.writeTo(dataOut);
+        payload.writeTo(dataOut);
+        dataOut.flush();
+        return indexEntries.size();
+    }
+
+    private static void writeOptionalUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Drop the narrative of a resource, and the mappings of a StructureDefinition and its elements
+     */
+    static Resource strip(Resource resource) {
+        if (resource instanceof StructureDefinition) {
+            StructureDefinition structureDefinition = (StructureDefinition) resource;
+            StructureDefinition.Builder builder = structureDefinition.toBuilder()
+                    .text(null)
+                    .mapping(Collections.emptyList());
+            if (structureDefinition.getSnapshot() != null) {
+                builder.snapshot(structureDefinition.getSnapshot().toBuilder()
+                        .element(stripElements(structureDefinition.getSnapshot().getElement()))
+                        .build());
+            }
+            if (structureDefinition.getDifferential() != null) {
+                builder.differential(structureDefinition.getDifferential().toBuilder()
+                        .element(stripElements(structureDefinition.getDifferential().getElement()))
+                        .build());
+            }
+            return builder.build();
+        }
+        if (resource instanceof DomainResource && ((DomainResource) resource).getText() != null) {
+            return ((DomainResource) resource).toBuilder().text(null).build();
+        }
+        return resource;
+    }
+
+    private static List<ElementDefinition> stripElements(List<ElementDefinition> elements) {
+        return elements.stream()
+                .map(element -> element.getMapping().isEmpty() ? element : element.toBuilder().mapping(Collections.emptyList()).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The index entry of a resource in a snapshot, with the location of its compressed JSON
+     */
+    public static class Entry {
+        private final String fileName;
+        private final String resourceType;
+        private final String id;
+        private final String url;
+        private final String version;
+        private final String kind;
+        private final String type;
+        private final int offset;
+        private final int length;
+        private final int size;
+
+        private Entry(String fileName, String resourceType, String id, String url, String version, String kind, String type,
+                int offset, int length, int size) {
+            this.fileName = Objects.requireNonNull(fileName);
+            this.resourceType = Objects.requireNonNull(resourceType);
+            this.id = Objects.requireNonNull(id);
+            this.url = Objects.requireNonNull(url);
+            this.version = Objects.requireNonNull(version);
+            this.kind = kind;
+            this.type = type;
+            this.offset = offset;
+            this.length = length;
+            this.size = size;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return the number of bytes of the compressed JSON of the resource
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return the number of bytes of the JSON of the resource
+         */
+        public int getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.registry.util;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.registry.resource.FHIRRegistryResource;
+
+/**
+ * A FHIR registry resource that decodes its FHIR resource from a {@link Snapshot} on demand
+ *
+ * <p>The decoded FHIR resource is softly referenced, so that the definitions which are not in use can be reclaimed
+ * under memory pressure and decoded again when they are needed.
+ */
+public class SnapshotRegistryResource extends FHIRRegistryResource {
+    private static final Logger log = Logger.getLogger(SnapshotRegistryResource.class.getName());
+
+    private final Snapshot snapshot;
+    private final Snapshot.Entry entry;
+
+    private volatile SoftReference<Resource> resource;
+
+    public SnapshotRegistryResource(Snapshot snapshot, Snapshot.Entry entry) {
+        super(ModelSupport.getResourceType(entry.getResourceType()),
+            entry.getId(),
+            entry.getUrl(),
+            Version.from(entry.getVersion()),
+            entry.getKind(),
+            entry.getType());
+        this.snapshot = Objects.requireNonNull(snapshot);
+        this.entry = entry;
+    }
+
+    /**
+     * Get the FHIR resource associated with this registry resource
+     *
+     * @return
+     *     the FHIR resource associated with this registry resource
+     */
+    @Override
+    public Resource getResource() {
+        SoftReference<Resource> reference = this.resource;
+        Resource resource = (reference != null) ? reference.get() : null;
+        if (resource == null) {
+            synchronized (this) {
+                reference = this.resource;
+                resource = (reference != null) ? reference.get() : null;
+                if (resource == null) {
+                    try {
+                        resource = snapshot.getResource(entry);
+                        this.resource = new SoftReference<>(resource);
+                    } catch (Exception e) {
+                        log.warning("Unable to load resource: " + entry.getFileName() + " due to the following exception: " + e.getMessage());
+                    }
+                }
+            }
+        }
+        return resource;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.registry.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.resource.SearchParameter;
+import com.ibm.fhir.model.resource.StructureDefinition;
+import com.ibm.fhir.model.type.ElementDefinition;
+import com.ibm.fhir.registry.resource.FHIRRegistryResource;
+import com.ibm.fhir.registry.util.FHIRRegistryUtil;
+import com.ibm.fhir.registry.util.Index;
+import com.ibm.fhir.registry.util.Snapshot;
+import com.ibm.fhir.registry.util.SnapshotRegistryResource;
+
+public class SnapshotTest {
+    private static final String PACKAGE_DIRECTORY = "hl7/fhir/core/package/";
+    private static final byte[] INDEX = "{\"index-version\": 1}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        List<Resource> resources = loadResources();
+        Snapshot snapshot = snapshot(resources, false);
+
+        assertEquals(snapshot.getEntries().size(), 2);
+        Snapshot.Entry entry = snapshot.getEntries().get(0);
+        assertEquals(entry.getFileName(), "StructureDefinition-Patient.json");
+        assertEquals(entry.getResourceType(), "StructureDefinition");
+        assertEquals(entry.getId(), "Patient");
+        assertEquals(entry.getUrl(), "http://hl7.org/fhir/StructureDefinition/Patient");
+        assertEquals(entry.getVersion(), "4.0.1");
+        assertEquals(entry.getKind(), "resource");
+        assertEquals(entry.getType(), "Patient");
+        assertTrue(entry.getLength() < entry.getSize());
+
+        entry = snapshot.getEntries().get(1);
+        assertEquals(entry.getResourceType(), "SearchParameter");
+        assertNull(entry.getKind());
+        assertEquals(entry.getType(), "string");
+
+        for (int i = 0; i < resources.size(); i++) {
+            assertEquals(snapshot.getResource(snapshot.getEntries().get(i)), resources.get(i));
+        }
+
+        assertTrue(snapshot.isSnapshotOf(INDEX));
+        assertFalse(snapshot.isSnapshotOf("{\"index-version\": 2}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testStrip() throws Exception {
+        List<Resource> resources = loadResources();
+        StructureDefinition structureDefinition = (StructureDefinition) resources.get(0);
+        assertTrue(structureDefinition.getText() != null);
+        assertFalse(structureDefinition.getMapping().isEmpty());
+
+        Snapshot snapshot = snapshot(resources, true);
+        StructureDefinition stripped = (StructureDefinition) snapshot.getResource(snapshot.getEntries().get(0));
+        assertNull(stripped.getText());
+        assertTrue(stripped.getMapping().isEmpty());
+        for (ElementDefinition element : stripped.getSnapshot().getElement()) {
+            assertTrue(element.getMapping().isEmpty());
+        }
+        assertEquals(stripped.getSnapshot().getElement().size(), structureDefinition.getSnapshot().getElement().size());
+        assertEquals(stripped.getUrl(), structureDefinition.getUrl());
+        assertTrue(snapshot.getEntries().get(0).getSize() < snapshot(resources, false).getEntries().get(0).getSize());
+    }
+
+    @Test
+    public void testSnapshotRegistryResource() throws Exception {
+        Snapshot snapshot = snapshot(loadResources(), false);
+        SnapshotRegistryResource registryResource = new SnapshotRegistryResource(snapshot, snapshot.getEntries().get(1));
+        assertEquals(registryResource.getResourceType(), SearchParameter.class);
+        assertEquals(registryResource.getUrl(), "http://hl7.org/fhir/SearchParameter/individual-given");
+        assertEquals(registryResource.getVersion().toString(), "4.0.1");
+
+        Resource resource = registryResource.getResource();
+        assertTrue(resource instanceof SearchParameter);
+        assertSame(registryResource.getResource(), resource);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testInvalidSnapshot() throws Exception {
+        Snapshot.read(ByteBuffer.wrap("{\"resourceType\": \"Patient\"}".getBytes()));
+    }
+
+    @Test
+    public void testStaleSnapshot() throws Exception {
+        // A package in the test output directory, whose index changed after its snapshot was generated
+        List<Resource> resources = loadResources();
+        Path packageDirectory = Paths.get(SnapshotTest.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .resolve("snapshot/test/package");
+        Files.createDirectories(packageDirectory);
+        byte[] staleIndex = index(resources.subList(0, 1));
+        Files.write(packageDirectory.resolve(".index.json"), index(resources));
+        for (Resource resource : resources) {
+            try (OutputStream out = Files.newOutputStream(packageDirectory.resolve(Index.Entry.entry(resource).getFileName()))) {
+                FHIRGenerator.generator(Format.JSON).generate(resource, out);
+            }
+        }
+
+        try (OutputStream out = Files.newOutputStream(packageDirectory.resolve(Snapshot.FILE_NAME))) {
+            Snapshot.write(out, resources.subList(0, 1), false, staleIndex);
+        }
+        Collection<FHIRRegistryResource> registryResources = FHIRRegistryUtil.getRegistryResources("snapshot.test");
+        assertEquals(registryResources.size(), 2);
+        for (FHIRRegistryResource registryResource : registryResources) {
+            assertFalse(registryResource instanceof SnapshotRegistryResource);
+        }
+
+        // A snapshot which is generated from the files of the package again is used
+        try (OutputStream out = Files.newOutputStream(packageDirectory.resolve(Snapshot.FILE_NAME))) {
+            assertEquals(Snapshot.write(out, packageDirectory, false), 2);
+        }
+        registryResources = FHIRRegistryUtil.getRegistryResources("snapshot.test");
+        assertEquals(registryResources.size(), 2);
+        for (FHIRRegistryResource registryResource : registryResources) {
+            assertTrue(registryResource instanceof SnapshotRegistryResource);
+            assertTrue(resources.contains(registryResource.getResource()));
+        }
+    }
+
+    @Test
+    public void testMissingSnapshot() throws Exception {
+        assertNull(Snapshot.load(PACKAGE_DIRECTORY + "missing/" + Snapshot.FILE_NAME));
+    }
+
+    private List<Resource> loadResources() {
+        return Arrays.asList(
+            FHIRRegistryUtil.loadResource(PACKAGE_DIRECTORY + "StructureDefinition-Patient.json"),
+            FHIRRegistryUtil.loadResource(PACKAGE_DIRECTORY + "SearchParameter-individual-given.json"));
+    }
+
+    private Snapshot snapshot(List<Resource> resources, boolean strip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Snapshot.write(out, resources, strip, INDEX);
+        return Snapshot.read(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    private byte[] index(List<Resource> resources) {
+        Index index = new Index(1);
+        for (Resource resource : resources) {
+            index.add(Index.Entry.entry(resource));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.store(out);
+        return out.toByteArray();
+    }
+}
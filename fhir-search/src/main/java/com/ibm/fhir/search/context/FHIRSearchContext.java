@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2016,2019
+ * (C) Copyright IBM Corp. 2016, 2020
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -10,6 +10,7 @@ import java.util.List;
 
 import com.ibm.fhir.core.context.FHIRPagingContext;
 import com.ibm.fhir.search.SummaryValueSet;
+import com.ibm.fhir.search.TotalValueSet;
 import com.ibm.fhir.search.parameters.InclusionParameter;
 import com.ibm.fhir.search.parameters.QueryParameter;
 import com.ibm.fhir.search.parameters.SortParameter;
@@ -83,4 +84,55 @@ public interface FHIRSearchContext extends FHIRPagingContext {
      * Set the value of the summary parameter.
      */
     void setSummaryParameter(SummaryValueSet summary);
+
+    /**
+     * @return true when the total parameter is not null
+     */
+    boolean hasTotalParameter();
+
+    /**
+     * Get the total parameter.
+     *
+     * @return the value of the total parameter, or null if an accurate total was not explicitly requested or declined
+     */
+    TotalValueSet getTotalParameter();
+
+    /**
+     * Set the value of the total parameter. With {@link TotalValueSet#NONE} the persistence layer may skip counting the
+     * matches, and with {@link TotalValueSet#ESTIMATE} it may return an approximate count.
+     */
+    void setTotalParameter(TotalValueSet total);
+
+    /**
+     * @return true when the total parameter was specified by the search request, false when it is the configured
+     *         default or null
+     */
+    boolean isTotalParameterRequested();
+
+    /**
+     * Set the value of the total parameter for a search that doesn't specify one. The value is used like
+     * {@link #setTotalParameter(TotalValueSet)}, but isn't added to the self link of the search results.
+     */
+    void setDefaultTotalParameter(TotalValueSet total);
+
+    /**
+     * @return true when the keyset cursor is not null
+     */
+    boolean hasKeysetCursor();
+
+    /**
+     * Get the keyset cursor.
+     *
+     * @return the position after which the next page of results starts, or null if the search uses page numbers
+     */
+    KeysetCursor getKeysetCursor();
+
+    /**
+     * Set the keyset cursor. When set, the search results are ordered by last updated time and the page of results
+     * following the cursor is returned (the page number is ignored and the total count is not computed). Persistence
+     * layers that support keyset paging update the cursor to the position of the last resource returned.
+     *
+     * @see com.ibm.fhir.search.context.KeysetCursor#START
+     */
+    void setKeysetCursor(KeysetCursor keysetCursor);
 }
@@ -0,0 +1,84 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.search.context;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A position within search results that are ordered by last updated time and then by a persistence-specific
+ * resource key. A search with a keyset cursor returns the page of results that follows this position, so that
+ * reading the next page does not require skipping over all of the previous ones.
+ *
+ * <p>Instances are immutable and serializable, so they can be saved with batch job checkpoints.
+ */
+public final class KeysetCursor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The position before the first search result
+     */
+    public static final KeysetCursor START = new KeysetCursor(null, 0L);
+
+    private final Instant lastUpdated;
+    private final long resourceKey;
+
+    /**
+     * @param lastUpdated
+     *     the last updated time of the resource at this position, or null for the position before the first result
+     * @param resourceKey
+     *     the persistence-specific key of the resource at this position
+     */
+    public KeysetCursor(Instant lastUpdated, long resourceKey) {
+        this.lastUpdated = lastUpdated;
+        this.resourceKey = resourceKey;
+    }
+
+    /**
+     * @return the last updated time of the resource at this position, or null for the position before the first result
+     */
+    public Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * @return the persistence-specific key of the resource at this position
+     */
+    public long getResourceKey() {
+        return resourceKey;
+    }
+
+    /**
+     * @return true if this is the position before the first search result
+     */
+    public boolean isStart() {
+        return lastUpdated == null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof KeysetCursor)) {
+            return false;
+        }
+        KeysetCursor other = (KeysetCursor) obj;
+        return Objects.equals(lastUpdated, other.lastUpdated) && resourceKey == other.resourceKey;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastUpdated, resourceKey);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor [lastUpdated=" + lastUpdated + ", resourceKey=" + resourceKey + "]";
+    }
+}
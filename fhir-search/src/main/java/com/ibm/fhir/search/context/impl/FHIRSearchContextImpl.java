@@ -1,5 +1,5 @@
 /*
- * (C) Copyright IBM Corp. 2016,2019
+ * (C) Copyright IBM Corp. 2016, 2020
  *
  * SPDX-License-Identifier: Apache-2.0
  */
@@ -11,7 +11,9 @@ import java.util.List;
 
 import com.ibm.fhir.core.context.impl.FHIRPagingContextImpl;
 import com.ibm.fhir.search.SummaryValueSet;
+import com.ibm.fhir.search.TotalValueSet;
 import com.ibm.fhir.search.context.FHIRSearchContext;
+import com.ibm.fhir.search.context.KeysetCursor;
 import com.ibm.fhir.search.parameters.InclusionParameter;
 import com.ibm.fhir.search.parameters.QueryParameter;
 import com.ibm.fhir.search.parameters.SortParameter;
@@ -25,6 +27,9 @@ public class FHIRSearchContextImpl extends FHIRPagingContextImpl implements FHIR
     private List<InclusionParameter> revIncludeParameters = new ArrayList<>();
     private List<String> elementsParameters = null;
     private SummaryValueSet summaryParameter = null; 
+    private TotalValueSet totalParameter = null;
+    private boolean totalParameterRequested = false;
+    private KeysetCursor keysetCursor = null;
 
     public FHIRSearchContextImpl() {
         searchParameters = new ArrayList<>();
@@ -124,6 +129,48 @@ public class FHIRSearchContextImpl extends FHIRPagingContextImpl implements FHIR
 
     }
 
+    @Override
+    public boolean hasTotalParameter() {
+        return this.totalParameter != null;
+    }
+
+    @Override
+    public TotalValueSet getTotalParameter() {
+        return this.totalParameter;
+    }
+
+    @Override
+    public void setTotalParameter(TotalValueSet total) {
+        this.totalParameter = total;
+        this.totalParameterRequested = total != null;
+    }
+
+    @Override
+    public boolean isTotalParameterRequested() {
+        return this.totalParameterRequested;
+    }
+
+    @Override
+    public void setDefaultTotalParameter(TotalValueSet total) {
+        this.totalParameter = total;
+        this.totalParameterRequested = false;
+    }
+
+    @Override
+    public boolean hasKeysetCursor() {
+        return this.keysetCursor != null;
+    }
+
+    @Override
+    public KeysetCursor getKeysetCursor() {
+        return this.keysetCursor;
+    }
+
+    @Override
+    public void setKeysetCursor(KeysetCursor keysetCursor) {
+        this.keysetCursor = keysetCursor;
+    }
+
     @Override
     public List<String> getSearchResourceTypes() {
         return this.searchResourceTypes;
@@ -41,6 +41,7 @@ import com.ibm.fhir.model.type.code.ResourceType;
 import com.ibm.fhir.model.util.JsonSupport;
 import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.path.FHIRPathNode;
+import com.ibm.fhir.path.evaluator.CompiledFHIRPathExpression;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
 import com.ibm.fhir.path.exception.FHIRPathException;
@@ -48,6 +49,7 @@ import com.ibm.fhir.search.SearchConstants;
 import com.ibm.fhir.search.SearchConstants.Modifier;
 import com.ibm.fhir.search.SearchConstants.Type;
 import com.ibm.fhir.search.SummaryValueSet;
+import com.ibm.fhir.search.TotalValueSet;
 import com.ibm.fhir.search.compartment.CompartmentUtil;
 import com.ibm.fhir.search.context.FHIRSearchContext;
 import com.ibm.fhir.search.context.FHIRSearchContextFactory;
@@ -371,6 +373,18 @@ public class SearchUtil {
         }
     }
 
+    /**
+     * Returns an object which identifies the SearchParameters in effect for the current tenant. A different object
+     * is returned once the tenant's SearchParameters are reloaded, so callers which derive state from the
+     * SearchParameters can compare it by identity to detect a reconfiguration.
+     *
+     * @throws Exception
+     */
+    public static Object getSearchParametersVersion() throws Exception {
+        Map<String, ParametersMap> spMap = getTenantOrDefaultSPMap(FHIRRequestContext.get().getTenantId());
+        return spMap != null ? spMap : ParametersUtil.getBuiltInSearchParametersMap();
+    }
+
     /**
      * @param resourceType
      * @param code
@@ -559,7 +573,7 @@ public class SearchUtil {
                 continue;
             }
             try {
-                Collection<FHIRPathNode> tmpResults = evaluator.evaluate(evaluationContext, expression.getValue());
+                Collection<FHIRPathNode> tmpResults = evaluator.evaluate(evaluationContext, CompiledFHIRPathExpression.compile(expression.getValue()));
 
                 if (log.isLoggable(Level.FINEST)) {
                     log.finest("Expression [" + expression.getValue() + "] parameter-code ["
@@ -753,6 +767,10 @@ public class SearchUtil {
             }
         } // end for
 
+        if (!context.hasTotalParameter()) {
+            context.setDefaultTotalParameter(getDefaultTotal());
+        }
+
         context.setSearchParameters(parameters);
         return context;
     }
@@ -1045,6 +1063,24 @@ public class SearchUtil {
         return FHIRConstants.GENERAL_PARAMETER_NAMES.contains(name);
     }
 
+    /**
+     * @return the _total value configured for the tenant for searches that don't specify one, or null if the
+     *         server should compute an accurate total
+     */
+    private static TotalValueSet getDefaultTotal() {
+        String defaultTotal = FHIRConfigHelper.getStringProperty(FHIRConfiguration.PROPERTY_SEARCH_DEFAULT_TOTAL, null);
+        if (defaultTotal == null) {
+            return null;
+        }
+        try {
+            return TotalValueSet.from(defaultTotal);
+        } catch (IllegalArgumentException e) {
+            log.warning("Ignoring invalid value '" + defaultTotal + "' for property '"
+                    + FHIRConfiguration.PROPERTY_SEARCH_DEFAULT_TOTAL + "'");
+            return null;
+        }
+    }
+
     private static void parseSearchResultParameter(Class<?> resourceType, FHIRSearchContext context, String name,
             List<String> values, boolean lenient) throws FHIRSearchException {
         String resourceTypeName = resourceType.getSimpleName();
@@ -1079,6 +1115,8 @@ public class SearchUtil {
                 parseElementsParameter(resourceType, context, values, lenient);
             } else if (SearchConstants.SUMMARY.equals(name) && first != null) {
                 context.setSummaryParameter(SummaryValueSet.from(first));
+            } else if (SearchConstants.TOTAL.equals(name) && first != null) {
+                context.setTotalParameter(TotalValueSet.from(first));
             }
         } catch (FHIRSearchException se) {
             throw se;
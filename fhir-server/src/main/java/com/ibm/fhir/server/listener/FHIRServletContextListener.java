@@ -7,6 +7,9 @@
 package com.ibm.fhir.server.listener;
 
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_CHECK_REFERENCE_TYPES;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_CODE_SET_INDEX_DIRECTORY;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_CONFIG_WATCH_ENABLED;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_CONFIG_WATCH_FALLBACK_INTERVAL;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_JDBC_BOOTSTRAP_DB;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_KAFKA_CONNECTIONPROPS;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_KAFKA_ENABLED;
@@ -22,10 +25,15 @@ import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_NATS_TLS_ENABLED;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_NATS_TRUSTSTORE;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_NATS_TRUSTSTORE_PW;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_ENABLED;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_NEGATIVE_CACHE_TIMEOUT;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_PRELOAD;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_WEBSOCKET_ENABLED;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,13 +48,17 @@ import javax.websocket.server.ServerContainer;
 
 import org.owasp.encoder.Encode;
 
+import com.ibm.fhir.audit.logging.api.AuditLogServiceFactory;
 import com.ibm.fhir.config.FHIRConfigHelper;
 import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.config.PropertyGroup;
 import com.ibm.fhir.config.PropertyGroup.PropertyEntry;
+import com.ibm.fhir.core.FHIRConstants;
+import com.ibm.fhir.core.TenantSpecificFileBasedCache;
 import com.ibm.fhir.model.config.FHIRModelConfig;
 import com.ibm.fhir.model.util.FHIRUtil;
+import com.ibm.fhir.notification.FHIRNotificationService;
 import com.ibm.fhir.notification.websocket.impl.FHIRNotificationServiceEndpointConfig;
 import com.ibm.fhir.notifications.kafka.impl.FHIRNotificationKafkaPublisher;
 import com.ibm.fhir.notifications.nats.impl.FHIRNotificationNATSPublisher;
@@ -57,6 +69,7 @@ import com.ibm.fhir.registry.FHIRRegistry;
 import com.ibm.fhir.search.util.SearchUtil;
 import com.ibm.fhir.server.operation.FHIROperationRegistry;
 import com.ibm.fhir.server.registry.ServerRegistryResourceProvider;
+import com.ibm.fhir.term.service.provider.DefaultTermServiceProvider;
 
 @WebListener("IBM FHIR Server Servlet Context Listener")
 public class FHIRServletContextListener implements ServletContextListener {
@@ -65,6 +78,7 @@ public class FHIRServletContextListener implements ServletContextListener {
     private static final String ATTRNAME_WEBSOCKET_SERVERCONTAINER = "javax.websocket.server.ServerContainer";
     private static final String DEFAULT_KAFKA_TOPICNAME = "fhirNotifications";
     private static final String DEFAULT_NATS_CHANNEL = "fhirNotifications";
+    private static final long NOTIFICATION_SHUTDOWN_TIMEOUT_SECONDS = 30;
     private static final String DEFAULT_NATS_CLUSTER = "nats-streaming";
     private static final String DEFAULT_NATS_CLIENT = "fhir-server";
     public static final String FHIR_SERVER_INIT_COMPLETE = "com.ibm.fhir.webappInitComplete";
@@ -88,6 +102,13 @@ public class FHIRServletContextListener implements ServletContextListener {
 
             log.fine("Current working directory: " + Encode.forHtml(System.getProperty("user.dir")));
 
+            Boolean configWatchEnabled = fhirConfig.getBooleanProperty(PROPERTY_CONFIG_WATCH_ENABLED, Boolean.FALSE);
+            if (configWatchEnabled) {
+                int fallbackInterval = fhirConfig.getIntProperty(PROPERTY_CONFIG_WATCH_FALLBACK_INTERVAL,
+                        FHIRConstants.FHIR_CONFIG_WATCH_FALLBACK_INTERVAL_DEFAULT);
+                TenantSpecificFileBasedCache.enableFileWatch(TimeUnit.SECONDS.toMillis(fallbackInterval));
+            }
+
             /*
              * The following inits are intended to load the FHIRUtil and SearchUtil into the classloader.
              * Subsequently, the code activates the static values (and maps).
@@ -101,6 +122,14 @@ public class FHIRServletContextListener implements ServletContextListener {
             log.fine("Initializing FHIROperationRegistry...");
             FHIROperationRegistry.getInstance();
 
+            String codeSetIndexDirectory = fhirConfig.getStringProperty(PROPERTY_CODE_SET_INDEX_DIRECTORY);
+            if (codeSetIndexDirectory != null) {
+                // Relative to the server directory, like the config directory
+                Path codeSetIndexPath = Paths.get(FHIRConfiguration.getConfigHome()).resolve(codeSetIndexDirectory);
+                int count = DefaultTermServiceProvider.loadCodeSetIndexes(codeSetIndexPath);
+                log.info("Loaded " + count + " code set indexes from: " + codeSetIndexPath);
+            }
+
             // For any singleton resources that need to be shared among our resource class instances,
             // we'll add them to our servlet context so that the resource class can easily retrieve them.
 
@@ -182,7 +211,10 @@ public class FHIRServletContextListener implements ServletContextListener {
             Boolean serverRegistryResourceProviderEnabled = fhirConfig.getBooleanProperty(PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_ENABLED, Boolean.FALSE);
             if (serverRegistryResourceProviderEnabled) {
                 log.info("Registering ServerRegistryResourceProvider...");
-                ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(persistenceHelper);
+                int negativeCacheTimeout = fhirConfig.getIntProperty(PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_NEGATIVE_CACHE_TIMEOUT,
+                        (int) ServerRegistryResourceProvider.DEFAULT_NEGATIVE_CACHE_TIMEOUT);
+                Boolean preload = fhirConfig.getBooleanProperty(PROPERTY_SERVER_REGISTRY_RESOURCE_PROVIDER_PRELOAD, Boolean.FALSE);
+                ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(persistenceHelper, negativeCacheTimeout, preload);
                 FHIRRegistry.getInstance().register(provider);
                 FHIRPersistenceInterceptorMgr.getInstance().addInterceptor(provider);
             }
@@ -319,6 +351,13 @@ public class FHIRServletContextListener implements ServletContextListener {
             // Set our "initComplete" flag back to false.
             event.getServletContext().setAttribute(FHIR_SERVER_INIT_COMPLETE, Boolean.FALSE);
 
+            TenantSpecificFileBasedCache.disableFileWatch();
+
+            // Deliver the queued notification events before the publishers are shut down.
+            if (kafkaPublisher != null || natsPublisher != null) {
+                FHIRNotificationService.getInstance().shutdown(NOTIFICATION_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+
             // If we previously initialized the Kafka publisher, then shut it down now.
             if (kafkaPublisher != null) {
                 kafkaPublisher.shutdown();
@@ -330,6 +369,9 @@ public class FHIRServletContextListener implements ServletContextListener {
                 natsPublisher.shutdown();
                 natsPublisher = null;
             }
+
+            // Send the queued audit events, if the audit log service was initialized.
+            AuditLogServiceFactory.stopService();
         } catch (Exception e) {
         } finally {
             if (log.isLoggable(Level.FINER)) {
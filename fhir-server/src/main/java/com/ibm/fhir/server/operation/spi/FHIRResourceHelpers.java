@@ -6,6 +6,8 @@
 
 package com.ibm.fhir.server.operation.spi;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -113,6 +115,27 @@ public interface FHIRResourceHelpers {
      */
     public Resource doRead(String type, String id, boolean throwExcOnNull, boolean includeDeleted, Map<String, String> requestProperties, Resource contextResource) throws Exception;
 
+    /**
+     * Performs a 'read' operation to retrieve a list of Resources of the same type, which the persistence layer may
+     * retrieve with a single request to the datastore.
+     *
+     * @param type
+     *            the resource type associated with the Resources to be retrieved
+     * @param ids
+     *            the ids of the Resources to be retrieved
+     * @return the Resources, in the same order as ids; an element is null if the Resource was not found
+     * @throws Exception
+     *            like doRead, an exception with an issue of type DELETED if one of the Resources is deleted and
+     *            includeDeleted is false
+     */
+    default List<Resource> doReadMany(String type, List<String> ids, boolean includeDeleted, Map<String, String> requestProperties) throws Exception {
+        List<Resource> resources = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            resources.add(doRead(type, id, false, includeDeleted, requestProperties, null));
+        }
+        return resources;
+    }
+
     /**
      * Performs a 'vread' operation by retrieving the specified version of a Resource.
      *
@@ -17,7 +17,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -37,33 +39,83 @@ import com.ibm.fhir.persistence.helper.FHIRTransactionHelper;
 import com.ibm.fhir.persistence.helper.PersistenceHelper;
 import com.ibm.fhir.persistence.interceptor.FHIRPersistenceEvent;
 import com.ibm.fhir.persistence.interceptor.FHIRPersistenceInterceptor;
+import com.ibm.fhir.registry.FHIRRegistry;
 import com.ibm.fhir.registry.resource.FHIRRegistryResource;
 import com.ibm.fhir.registry.resource.FHIRRegistryResource.Version;
 import com.ibm.fhir.registry.spi.FHIRRegistryResourceProvider;
 import com.ibm.fhir.search.context.FHIRSearchContext;
 import com.ibm.fhir.search.util.SearchUtil;
 
+/**
+ * A registry resource provider which finds definitional resources through the persistence layer of the current
+ * tenant and datastore.
+ *
+ * <p>The registry resources of each url are loaded once per tenant/datastore by the first thread that asks for them;
+ * concurrent lookups of the same url wait for that load rather than running their own search, and lookups of other
+ * urls are not blocked. Urls without registry resources are cached for a short time only, and the cached resources of
+ * a url are removed when a resource with that url is created, updated or deleted. The StructureDefinitions of a
+ * tenant/datastore can optionally be preloaded with a single paged search on its first lookup.
+ */
 public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvider, FHIRPersistenceInterceptor {
     public static final Logger log = Logger.getLogger(ServerRegistryResourceProvider.class.getName());
 
+    public static final long DEFAULT_NEGATIVE_CACHE_TIMEOUT = 60000;
+    private static final int CACHE_SIZE = 1024;
+
     private final PersistenceHelper persistenceHelper;
-    private final Map<String, Map<String, List<FHIRRegistryResource>>> registryResourceMap = new ConcurrentHashMap<>();
+    private final long negativeCacheTimeout;
+    private final boolean preload;
+    private final Map<String, Map<String, CacheEntry>> registryResourceMap = new ConcurrentHashMap<>();
+
+    // The number of cache invalidations, used to discard preloaded resources which may be stale
+    private final AtomicLong invalidationCount = new AtomicLong();
 
     public ServerRegistryResourceProvider(PersistenceHelper persistenceHelper) {
+        this(persistenceHelper, DEFAULT_NEGATIVE_CACHE_TIMEOUT, false);
+    }
+
+    /**
+     * @param persistenceHelper
+     *     the persistence helper used to get the persistence implementation of the current tenant/datastore
+     * @param negativeCacheTimeout
+     *     the number of milliseconds for which a url without registry resources is cached; 0 to not cache such urls
+     * @param preload
+     *     whether to load all the StructureDefinitions of a tenant/datastore on its first lookup
+     */
+    public ServerRegistryResourceProvider(PersistenceHelper persistenceHelper, long negativeCacheTimeout, boolean preload) {
         try {
             this.persistenceHelper = Objects.requireNonNull(persistenceHelper);
         } catch (Exception e) {
             throw new Error(e);
         }
+        this.negativeCacheTimeout = negativeCacheTimeout;
+        this.preload = preload;
     }
 
     @Override
     public FHIRRegistryResource getRegistryResource(Class<? extends Resource> resourceType, String url, String version) {
-        String tenantId = FHIRRequestContext.get().getTenantId();
-        String dataStoreId = FHIRRequestContext.get().getDataStoreId();
-        String key = tenantId + ":" + dataStoreId;
-        List<FHIRRegistryResource> registryResources = registryResourceMap.computeIfAbsent(key, k -> LRUCache.createLRUCache(1024))
-                .computeIfAbsent(url, k -> computeRegistryResources(resourceType, url));
+        Map<String, CacheEntry> cache = getCache();
+        CacheEntry entry = cache.get(url);
+        if (entry != null && entry.isExpired()) {
+            cache.remove(url, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            CacheEntry newEntry = new CacheEntry();
+            entry = cache.putIfAbsent(url, newEntry);
+            if (entry == null) {
+                entry = newEntry;
+                load(cache, url, newEntry, resourceType);
+            }
+        }
+        List<FHIRRegistryResource> registryResources = entry.getRegistryResources();
+        if (registryResources == null) {
+            // The entry is being loaded by the current thread
+            registryResources = computeRegistryResources(resourceType, url);
+            if (registryResources == null) {
+                registryResources = Collections.emptyList();
+            }
+        }
         if (!registryResources.isEmpty()) {
             if (version != null) {
                 Version v = Version.from(version);
@@ -121,6 +173,15 @@ public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvi
         return getRegistryResources(SearchParameter.class, queryParameters);
     }
 
+    /**
+     * @return the tenant and datastore of the current request, e.g. "default:default"
+     */
+    @Override
+    public String getScope() {
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+        return requestContext.getTenantId() + ":" + requestContext.getDataStoreId();
+    }
+
     @Override
     public void afterCreate(FHIRPersistenceEvent event) {
         updateRegistryResourceMap(event);
@@ -136,6 +197,85 @@ public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvi
         updateRegistryResourceMap(event);
     }
 
+    /**
+     * @return the registry resource cache of the current tenant/datastore, which is preloaded when it is created
+     */
+    private Map<String, CacheEntry> getCache() {
+        String key = getScope();
+        Map<String, CacheEntry> cache = registryResourceMap.get(key);
+        if (cache == null) {
+            Map<String, CacheEntry> newCache = LRUCache.createLRUCache(CACHE_SIZE);
+            cache = registryResourceMap.putIfAbsent(key, newCache);
+            if (cache == null) {
+                cache = newCache;
+                if (preload) {
+                    preload(key, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Load the registry resources of a url into a cache entry which was added to the cache by the current thread.
+     */
+    private void load(Map<String, CacheEntry> cache, String url, CacheEntry entry, Class<? extends Resource> resourceType) {
+        List<FHIRRegistryResource> registryResources = null;
+        try {
+            registryResources = computeRegistryResources(resourceType, url);
+        } finally {
+            if (registryResources == null) {
+                // Errors are not cached
+                cache.remove(url, entry);
+                entry.complete(Collections.emptyList(), 0);
+            } else if (registryResources.isEmpty()) {
+                if (negativeCacheTimeout <= 0) {
+                    cache.remove(url, entry);
+                }
+                entry.complete(registryResources, System.currentTimeMillis() + negativeCacheTimeout);
+            } else {
+                entry.complete(registryResources, Long.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Add the StructureDefinitions of the current tenant/datastore to its cache, unless a registry resource was
+     * created, updated or deleted while they were being read or added.
+     */
+    private void preload(String key, Map<String, CacheEntry> cache) {
+        long start = System.currentTimeMillis();
+        long count = invalidationCount.get();
+        Collection<FHIRRegistryResource> registryResources = getRegistryResources(StructureDefinition.class, Collections.emptyMap());
+        Map<String, List<FHIRRegistryResource>> urlMap = registryResources.stream()
+                .collect(Collectors.groupingBy(FHIRRegistryResource::getUrl));
+        if (invalidationCount.get() != count) {
+            log.fine("Skipped preloading the registry resources of '" + key + "' because a registry resource was changed");
+            return;
+        }
+        Map<String, CacheEntry> preloaded = new HashMap<>();
+        for (Map.Entry<String, List<FHIRRegistryResource>> urlEntry : urlMap.entrySet()) {
+            List<FHIRRegistryResource> resources = urlEntry.getValue().stream()
+                    .sorted()
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+            CacheEntry entry = new CacheEntry(resources);
+            if (cache.putIfAbsent(urlEntry.getKey(), entry) == null) {
+                preloaded.put(urlEntry.getKey(), entry);
+            }
+        }
+        if (invalidationCount.get() != count) {
+            // A registry resource was changed while the entries were added, after its url was removed from the cache
+            preloaded.forEach(cache::remove);
+            log.fine("Removed the preloaded registry resources of '" + key + "' because a registry resource was changed");
+            return;
+        }
+        log.info("Preloaded " + registryResources.size() + " registry resource(s) with " + urlMap.size() + " url(s) for '" + key
+                + "' in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    /**
+     * @return the sorted registry resources with the given url, or null if an error occurred
+     */
     private List<FHIRRegistryResource> computeRegistryResources(Class<? extends Resource> resourceType, String url) {
         FHIRTransactionHelper transactionHelper = null;
         try {
@@ -171,7 +311,7 @@ public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvi
                 }
             }
         }
-        return Collections.emptyList();
+        return null;
     }
 
     private Collection<FHIRRegistryResource> getRegistryResources(Class<? extends Resource> resourceType, Map<String, List<String>> queryParameters) {
@@ -189,15 +329,16 @@ public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvi
             MultiResourceResult<Resource> result = persistence.search(context, resourceType);
 
             if (result.isSuccess()) {
-                List<FHIRRegistryResource> registryResources = new ArrayList<>(searchContext.getTotalCount());
+                List<FHIRRegistryResource> registryResources = new ArrayList<>();
                 registryResources.addAll(result.getResource().stream()
                         .map(ServerRegistryResource::from)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList()));
 
+                // The last page number is read again after each page, because a search without an accurate total
+                // (e.g. with fhirServer/search/defaultTotal set to none) only moves it past the page that was just read
                 int pageNumber = 1;
-                int lastPageNumber = searchContext.getLastPageNumber();
-                while (pageNumber < lastPageNumber) {
+                while (pageNumber < searchContext.getLastPageNumber()) {
                     searchContext.setPageNumber(++pageNumber);
                     result = persistence.search(context, resourceType);
                     registryResources.addAll(result.getResource().stream()
@@ -233,13 +374,53 @@ public class ServerRegistryResourceProvider implements FHIRRegistryResourceProvi
         Resource resource = event.getFhirResource();
         String url = getUrl(resource);
         if (url != null) {
-            String tenantId = FHIRRequestContext.get().getTenantId();
-            String dataStoreId = FHIRRequestContext.get().getDataStoreId();
-            String key = tenantId + ":" + dataStoreId;
-            List<FHIRRegistryResource> previous = registryResourceMap.getOrDefault(key, Collections.emptyMap()).remove(url);
-            if (previous != null && !previous.isEmpty()) {
+            String key = getScope();
+            invalidationCount.incrementAndGet();
+            CacheEntry previous = registryResourceMap.getOrDefault(key, Collections.emptyMap()).remove(url);
+            if (previous != null) {
                 log.fine("Removed registry resource(s) with url '" + url + "' from the ServerRegistryResourceProvider cache");
             }
+            FHIRRegistry.getInstance().notifyResourcesChanged();
+        }
+    }
+
+    /**
+     * The registry resources of a url, which are available once the thread that added the entry to the cache has
+     * loaded them
+     */
+    private static class CacheEntry {
+        private final CompletableFuture<List<FHIRRegistryResource>> future = new CompletableFuture<>();
+        private final Thread loader;
+        private volatile long expiration = Long.MAX_VALUE;
+
+        private CacheEntry() {
+            this.loader = Thread.currentThread();
+        }
+
+        private CacheEntry(List<FHIRRegistryResource> registryResources) {
+            this.loader = null;
+            future.complete(registryResources);
+        }
+
+        private void complete(List<FHIRRegistryResource> registryResources, long expiration) {
+            this.expiration = expiration;
+            future.complete(registryResources);
+        }
+
+        private boolean isExpired() {
+            return future.isDone() && System.currentTimeMillis() > expiration;
+        }
+
+        /**
+         * Wait for the registry resources to be loaded
+         *
+         * @return the registry resources, or null if the entry is being loaded by the current thread
+         */
+        private List<FHIRRegistryResource> getRegistryResources() {
+            if (!future.isDone() && loader == Thread.currentThread()) {
+                return null;
+            }
+            return future.join();
         }
     }
 }
@@ -6,6 +6,8 @@
 
 package com.ibm.fhir.server.resources;
 
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_RAW_JSON_PASSTHROUGH;
+import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_STREAMING_SEARCH;
 import static com.ibm.fhir.config.FHIRConfiguration.PROPERTY_UPDATE_CREATE_ENABLED;
 import static com.ibm.fhir.model.type.String.string;
 import static com.ibm.fhir.server.util.IssueTypeToHttpStatusMapper.issueListToStatus;
@@ -13,6 +15,7 @@ import static com.ibm.fhir.server.util.IssueTypeToHttpStatusMapper.issueListToSt
 import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -28,15 +31,19 @@ import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 
+import com.ibm.fhir.config.FHIRConfigHelper;
 import com.ibm.fhir.config.FHIRConfiguration;
 import com.ibm.fhir.config.FHIRRequestContext;
 import com.ibm.fhir.config.PropertyGroup;
+import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.format.Format;
 import com.ibm.fhir.model.generator.FHIRGenerator;
@@ -51,6 +58,9 @@ import com.ibm.fhir.persistence.FHIRPersistence;
 import com.ibm.fhir.persistence.exception.FHIRPersistenceException;
 import com.ibm.fhir.persistence.helper.FHIRPersistenceHelper;
 import com.ibm.fhir.persistence.helper.PersistenceHelper;
+import com.ibm.fhir.persistence.interceptor.impl.FHIRPersistenceInterceptorMgr;
+import com.ibm.fhir.provider.FHIRProvider;
+import com.ibm.fhir.search.SearchConstants;
 import com.ibm.fhir.server.exception.FHIRRestBundledRequestException;
 import com.ibm.fhir.server.listener.FHIRServletContextListener;
 
@@ -94,6 +104,9 @@ public class FHIRResource {
     @Context
     protected SecurityContext securityContext;
 
+    @Context
+    protected HttpHeaders httpHeaders;
+
     protected PropertyGroup fhirConfig = null;
 
     /**
@@ -200,14 +213,77 @@ public class FHIRResource {
      * Adds the Etag and Last-Modified headers to the specified response object.
      */
     protected ResponseBuilder addHeaders(ResponseBuilder rb, Resource resource) {
-        return rb.header(HttpHeaders.ETAG, getEtagValue(resource))
+        return addHeaders(rb, resource.getMeta().getVersionId().getValue(), resource.getMeta().getLastUpdated().getValue().toInstant());
+    }
+
+    /**
+     * Adds the Etag and Last-Modified headers of a resource version to the specified response object.
+     */
+    protected ResponseBuilder addHeaders(ResponseBuilder rb, String versionId, Instant lastUpdated) {
+        return rb.header(HttpHeaders.ETAG, "W/\"" + versionId + "\"")
                 // According to 3.3.1 of RTC2616(HTTP/1.1), we MUST only generate the RFC 1123 format for representing HTTP-date values
                 // in header fields, e.g Sat, 28 Sep 2019 16:11:14 GMT
-                .lastModified(Date.from(resource.getMeta().getLastUpdated().getValue().toInstant()));
+                .lastModified(Date.from(lastUpdated));
+    }
+
+    /**
+     * Returns the media type to use for returning resources exactly as they are stored, without parsing them and
+     * generating them again. This is only possible when the 'fhirServer/core/rawJsonPassthrough' property is true, the
+     * client asks for JSON without pretty printing, the elements of the resources are not filtered, the persistence
+     * layer supports it and no persistence interceptor needs the resources.
+     *
+     * @param queryParameters the query parameters of the request
+     * @return the JSON media type of the response, or null if the response must be generated from the parsed resources
+     */
+    protected MediaType getRawJsonMediaType(MultivaluedMap<String, String> queryParameters) throws FHIRPersistenceException {
+        if (!FHIRConfigHelper.getBooleanProperty(PROPERTY_RAW_JSON_PASSTHROUGH, Boolean.FALSE)) {
+            return null;
+        }
+        return getStreamableJsonMediaType(queryParameters);
     }
 
-    private String getEtagValue(Resource resource) {
-        return "W/\"" + resource.getMeta().getVersionId().getValue() + "\"";
+    /**
+     * Returns the media type to use for writing the entries of a search response one at a time, as they are read from
+     * the persistence layer, instead of building the whole Bundle first. This is possible when either the
+     * 'fhirServer/core/rawJsonPassthrough' or the 'fhirServer/core/streamingSearch' property is true, under the same
+     * conditions as {@link #getRawJsonMediaType(MultivaluedMap)}.
+     *
+     * @param queryParameters the query parameters of the request
+     * @return the JSON media type of the response, or null if the response must be generated from a complete Bundle
+     */
+    protected MediaType getStreamingSearchMediaType(MultivaluedMap<String, String> queryParameters) throws FHIRPersistenceException {
+        if (!FHIRConfigHelper.getBooleanProperty(PROPERTY_RAW_JSON_PASSTHROUGH, Boolean.FALSE)
+                && !FHIRConfigHelper.getBooleanProperty(PROPERTY_STREAMING_SEARCH, Boolean.FALSE)) {
+            return null;
+        }
+        return getStreamableJsonMediaType(queryParameters);
+    }
+
+    /**
+     * @return the compact JSON media type of the response, or null if the response needs pretty printing, XML,
+     *     filtered resources, or resources which are parsed by the persistence layer or its interceptors
+     */
+    private MediaType getStreamableJsonMediaType(MultivaluedMap<String, String> queryParameters) throws FHIRPersistenceException {
+        if (queryParameters.containsKey(SearchConstants.ELEMENTS)
+                || queryParameters.containsKey(SearchConstants.SUMMARY)
+                || FHIRProvider.isPretty(httpHeaders, uriInfo)
+                || !getPersistenceImpl().isRawResourceSupported()
+                || FHIRPersistenceInterceptorMgr.getInstance().isReadResourceRequired()) {
+            return null;
+        }
+
+        // Like the JAX-RS runtime, pick the first produced media type that is compatible with the most acceptable one
+        for (MediaType acceptableMediaType : httpHeaders.getAcceptableMediaTypes()) {
+            if (acceptableMediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_JSON_TYPE)) {
+                return FHIRMediaType.APPLICATION_FHIR_JSON_TYPE;
+            } else if (acceptableMediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+                return MediaType.APPLICATION_JSON_TYPE;
+            } else if (acceptableMediaType.isCompatible(FHIRMediaType.APPLICATION_FHIR_XML_TYPE)
+                    || acceptableMediaType.isCompatible(MediaType.APPLICATION_XML_TYPE)) {
+                return null;
+            }
+        }
+        return null;
     }
 
     protected Response exceptionResponse(FHIRRestBundledRequestException e) {
@@ -24,8 +24,6 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.core.Context;
-import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -61,9 +59,6 @@ public class Operation extends FHIRResource {
         super();
     }
 
-    @Context
-    protected HttpHeaders httpHeaders;
-
     @GET
     @Path("${operationName}")
     public Response invoke(@PathParam("operationName") String operationName) {
@@ -34,6 +34,7 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.RawResource;
 import com.ibm.fhir.server.operation.spi.FHIRRestOperationResponse;
 import com.ibm.fhir.server.util.FHIRRestHelper;
 import com.ibm.fhir.server.util.RestAuditLogger;
@@ -73,7 +74,21 @@ public class Read extends FHIRResource {
             long modifiedSince = parseIfModifiedSince();
 
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            Resource resource = helper.doRead(type, id, true, false, null, null, queryParameters);
+            MediaType rawJsonMediaType = getRawJsonMediaType(queryParameters);
+            Object entity;
+            String versionId;
+            Instant lastUpdated;
+            if (rawJsonMediaType != null) {
+                RawResource resource = helper.doReadRaw(type, id);
+                entity = resource.getJson();
+                versionId = Integer.toString(resource.getVersionId());
+                lastUpdated = resource.getLastUpdated();
+            } else {
+                Resource resource = helper.doRead(type, id, true, false, null, null, queryParameters);
+                entity = resource;
+                versionId = resource.getMeta().getVersionId().getValue();
+                lastUpdated = resource.getMeta().getLastUpdated().getValue().toInstant();
+            }
             int version2Match = -1;
             // Support ETag value with or without " (and W/)
             // e.g:  1, "1", W/1, W/"1" (the first format is used by TouchStone)
@@ -98,13 +113,13 @@ public class Read extends FHIRResource {
             boolean isModified = true;
             // check if-not-match first
             if (version2Match != -1) {
-                if (version2Match == Integer.parseInt(resource.getMeta().getVersionId().getValue())) {
+                if (version2Match == Integer.parseInt(versionId)) {
                     isModified = false;
                 }
             }
             // then check if-modified-since
             if(isModified && modifiedTime2Compare != null) {
-                if (resource.getMeta().getLastUpdated().getValue().toInstant().isBefore(modifiedTime2Compare)) {
+                if (lastUpdated.isBefore(modifiedTime2Compare)) {
                     isModified = false;
                 }
             }
@@ -112,8 +127,11 @@ public class Read extends FHIRResource {
             ResponseBuilder response;
             if (isModified) {
                 status = Status.OK;
-                response = Response.ok().entity(resource);
-                response = addHeaders(response, resource);
+                response = Response.ok().entity(entity);
+                if (rawJsonMediaType != null) {
+                    response = response.type(rawJsonMediaType);
+                }
+                response = addHeaders(response, versionId, lastUpdated);
             } else {
                 status = Status.NOT_MODIFIED;
                 response = Response.status(Response.Status.NOT_MODIFIED);
@@ -32,6 +32,7 @@ import com.ibm.fhir.core.FHIRMediaType;
 import com.ibm.fhir.exception.FHIROperationException;
 import com.ibm.fhir.model.resource.Bundle;
 import com.ibm.fhir.server.util.FHIRRestHelper;
+import com.ibm.fhir.server.util.RawJsonBundle;
 import com.ibm.fhir.server.util.RestAuditLogger;
 
 @Path("/")
@@ -57,79 +58,42 @@ public class Search extends FHIRResource {
     @GET
     @Path("{type}")
     public Response search(@PathParam("type") String type) {
-        log.entering(this.getClass().getName(), "search(String)");
-        Date startTime = new Date();
-        Response.Status status = null;
-        MultivaluedMap<String, String> queryParameters = null;
-        Bundle bundle = null;
-
-        try {
-            checkInitComplete();
-
-            queryParameters = uriInfo.getQueryParameters();
-            FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            bundle = helper.doSearch(type, null, null, queryParameters, getRequestUri(), null, null);
-            status = Status.OK;
-            return Response.status(status).entity(bundle).build();
-        } catch (FHIROperationException e) {
-            status = issueListToStatus(e.getIssues());
-            return exceptionResponse(e, status);
-        } catch (Exception e) {
-            status = Status.INTERNAL_SERVER_ERROR;
-            return exceptionResponse(e, status);
-        } finally {
-            try {
-                RestAuditLogger.logSearch(httpServletRequest, queryParameters, bundle,
-                        startTime, new Date(), status);
-            } catch (Exception e) {
-                log.log(Level.SEVERE, AUDIT_LOGGING_ERR_MSG, e);
-            }
-
-            log.exiting(this.getClass().getName(), "search(String)");
-        }
+        return doSearch(type, null, null);
     }
 
     @GET
     @Path("{compartment}/{compartmentId}/{type}")
     public Response searchCompartment(@PathParam("compartment") String compartment,
             @PathParam("compartmentId") String compartmentId, @PathParam("type") String type) {
-        log.entering(this.getClass().getName(), "search(String,String,String)");
-        Date startTime = new Date();
-        Response.Status status = null;
-        MultivaluedMap<String, String> queryParameters = null;
-        Bundle bundle = null;
-
-        try {
-            checkInitComplete();
-
-            queryParameters = uriInfo.getQueryParameters();
-            FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            bundle = helper.doSearch(type, compartment, compartmentId, queryParameters, getRequestUri(), null, null);
-            status = Status.OK;
-            return Response.status(status).entity(bundle).build();
-        } catch (FHIROperationException e) {
-            status = issueListToStatus(e.getIssues());
-            return exceptionResponse(e, status);
-        } catch (Exception e) {
-            status = Status.INTERNAL_SERVER_ERROR;
-            return exceptionResponse(e, status);
-        } finally {
-            try {
-                RestAuditLogger.logSearch(httpServletRequest, queryParameters, bundle,
-                        startTime, new Date(), status);
-            } catch (Exception e) {
-                log.log(Level.SEVERE, AUDIT_LOGGING_ERR_MSG, e);
-            }
-
-            log.exiting(this.getClass().getName(), "search(String,String,String)");
-        }
+        return doSearch(type, compartment, compartmentId);
     }
 
     @POST
     @Consumes("application/x-www-form-urlencoded")
     @Path("{type}/_search")
     public Response _search(@PathParam("type") String type) {
-        log.entering(this.getClass().getName(), "_search(String)");
+        return doSearch(type, null, null);
+    }
+
+    @GET
+    @Path("/")
+    public Response searchAllGet() {
+        return doSearchAll();
+    }
+
+    @POST
+    @Consumes("application/x-www-form-urlencoded")
+    @Path("_search")
+    public Response searchAllPost() {
+        return doSearchAll();
+    }
+
+    /**
+     * Searches the resources of a type, optionally within a compartment. The search result set is written as
+     * stored when the response allows it, see {@link FHIRRestHelper#doSearchRaw}.
+     */
+    private Response doSearch(String type, String compartment, String compartmentId) {
+        log.entering(this.getClass().getName(), "doSearch");
         Date startTime = new Date();
         Response.Status status = null;
         MultivaluedMap<String, String> queryParameters = null;
@@ -140,7 +104,15 @@ public class Search extends FHIRResource {
 
             queryParameters = uriInfo.getQueryParameters();
             FHIRRestHelper helper = new FHIRRestHelper(getPersistenceImpl());
-            bundle = helper.doSearch(type, null, null, queryParameters, getRequestUri(), null, null);
+            MediaType streamingMediaType = getStreamingSearchMediaType(queryParameters);
+            RawJsonBundle rawJsonBundle = (streamingMediaType != null)
+                    ? helper.doSearchRaw(type, compartment, compartmentId, queryParameters, getRequestUri(), null) : null;
+            if (rawJsonBundle != null) {
+                bundle = rawJsonBundle.getBundle();
+                status = Status.OK;
+                return Response.status(status).entity(rawJsonBundle).type(streamingMediaType).build();
+            }
+            bundle = helper.doSearch(type, compartment, compartmentId, queryParameters, getRequestUri(), null, null);
             status = Status.OK;
             return Response.status(status).entity(bundle).build();
         } catch (FHIROperationException e) {
@@ -157,23 +129,10 @@ public class Search extends FHIRResource {
                 log.log(Level.SEVERE, AUDIT_LOGGING_ERR_MSG, e);
             }
 
-            log.exiting(this.getClass().getName(), "_search(String)");
+            log.exiting(this.getClass().getName(), "doSearch");
         }
     }
 
-    @GET
-    @Path("/")
-    public Response searchAllGet() {
-        return doSearchAll();
-    }
-
-    @POST
-    @Consumes("application/x-www-form-urlencoded")
-    @Path("_search")
-    public Response searchAllPost() {
-        return doSearchAll();
-    }
-
     private Response doSearchAll() {
         log.entering(this.getClass().getName(), "doSearchAll");
         Date startTime = new Date();
@@ -20,9 +20,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -52,6 +56,7 @@ import com.ibm.fhir.model.resource.Resource;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.CodeableConcept;
 import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.type.Reference;
 import com.ibm.fhir.model.type.UnsignedInt;
 import com.ibm.fhir.model.type.Uri;
 import com.ibm.fhir.model.type.Url;
@@ -62,8 +67,10 @@ import com.ibm.fhir.model.type.code.IssueType;
 import com.ibm.fhir.model.util.FHIRUtil;
 import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.model.util.ReferenceMappingVisitor;
+import com.ibm.fhir.model.visitor.DefaultVisitor;
 import com.ibm.fhir.persistence.FHIRPersistence;
 import com.ibm.fhir.persistence.FHIRPersistenceTransaction;
+import com.ibm.fhir.persistence.RawResource;
 import com.ibm.fhir.persistence.SingleResourceResult;
 import com.ibm.fhir.persistence.context.FHIRHistoryContext;
 import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
@@ -78,10 +85,12 @@ import com.ibm.fhir.persistence.util.FHIRPersistenceUtil;
 import com.ibm.fhir.provider.util.FHIRUrlParser;
 import com.ibm.fhir.search.SearchConstants;
 import com.ibm.fhir.search.SummaryValueSet;
+import com.ibm.fhir.search.TotalValueSet;
 import com.ibm.fhir.search.context.FHIRSearchContext;
 import com.ibm.fhir.search.exception.FHIRSearchException;
 import com.ibm.fhir.search.util.SearchUtil;
 import com.ibm.fhir.server.exception.FHIRRestBundledRequestException;
+import com.ibm.fhir.server.helper.FHIRServerUtils;
 import com.ibm.fhir.server.operation.FHIROperationRegistry;
 import com.ibm.fhir.server.operation.spi.FHIROperation;
 import com.ibm.fhir.server.operation.spi.FHIROperationContext;
@@ -112,6 +121,9 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             .appendPattern(", dd-MMM-yy HH:mm:ss")
             .optionalEnd().toFormatter();
 
+    // The JNDI name of the container's default managed executor (used for processing batch entries concurrently).
+    private static final String MANAGED_EXECUTOR_JNDI_NAME = "java:comp/DefaultManagedExecutorService";
+
     private FHIRPersistence persistence = null;
 
     // These values are used for correlating requests within a bundle.
@@ -731,6 +743,74 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
         }
     }
 
+    @Override
+    public List<Resource> doReadMany(String type, List<String> ids, boolean includeDeleted,
+            Map<String, String> requestProperties) throws Exception {
+        log.entering(this.getClass().getName(), "doReadMany");
+
+        // Start a new txn in the persistence layer if one is not already active.
+        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
+        txn.begin();
+
+        // Save the current request context.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+
+        try {
+            if (!ModelSupport.isResourceType(type)) {
+                throw buildUnsupportedResourceTypeException(type);
+            }
+
+            Class<? extends Resource> resourceType = getResourceType(type);
+
+            // First, invoke the 'beforeRead' interceptor methods for each resource.
+            List<FHIRPersistenceEvent> events = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                FHIRPersistenceEvent event =
+                        new FHIRPersistenceEvent(null, buildPersistenceEventProperties(type, id, null, requestProperties));
+                getInterceptorMgr().fireBeforeReadEvent(event);
+                events.add(event);
+            }
+
+            // All of the resources are read with the persistence context of the first event
+            FHIRPersistenceContext persistenceContext =
+                    FHIRPersistenceContextFactory.createPersistenceContext(events.isEmpty() ? null : events.get(0), includeDeleted);
+            List<Resource> resources = new ArrayList<>(ids.size());
+            List<? extends SingleResourceResult<? extends Resource>> results = persistence.readMany(persistenceContext, resourceType, ids);
+            for (int i = 0; i < results.size(); i++) {
+                SingleResourceResult<? extends Resource> result = results.get(i);
+                if (!result.isSuccess()) {
+                    // A deleted resource is reported like doRead reports it (410 Gone), rather than as not found
+                    throw new FHIROperationException("Unable to read resource '" + type + "/" + ids.get(i) + "'")
+                            .withIssue(result.getOutcome().getIssue());
+                }
+                resources.add(result.getResource());
+            }
+
+            // Invoke the 'afterRead' interceptor methods.
+            for (int i = 0; i < events.size(); i++) {
+                FHIRPersistenceEvent event = events.get(i);
+                event.setFhirResource(resources.get(i));
+                getInterceptorMgr().fireAfterReadEvent(event);
+            }
+
+            // Commit our transaction if we started one before.
+            txn.commit();
+            txn = null;
+
+            return resources;
+        } finally {
+            // Restore the original request context.
+            FHIRRequestContext.set(requestContext);
+
+            // If we previously started a transaction and it's still active, we need to rollback due to an error.
+            if (txn != null) {
+                txn.rollback();
+            }
+
+            log.exiting(this.getClass().getName(), "doReadMany");
+        }
+    }
+
     /**
      * Performs a 'vread' operation by retrieving the specified version of a Resource.
      *
@@ -805,6 +885,132 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
         }
     }
 
+    /**
+     * Performs a 'read' operation to retrieve a Resource exactly as it is stored, without parsing it.
+     * The interceptor methods are invoked without the resource, so this must only be used when no interceptor needs it.
+     *
+     * @param type
+     *            the resource type associated with the Resource to be retrieved
+     * @param id
+     *            the id of the Resource to be retrieved
+     * @return the stored Resource
+     * @throws Exception
+     * @see FHIRPersistenceInterceptorMgr#isReadResourceRequired()
+     */
+    public RawResource doReadRaw(String type, String id) throws Exception {
+        log.entering(this.getClass().getName(), "doReadRaw");
+
+        // Start a new txn in the persistence layer if one is not already active.
+        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
+        txn.begin();
+
+        // Save the current request context.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+
+        try {
+            if (!ModelSupport.isResourceType(type)) {
+                throw buildUnsupportedResourceTypeException(type);
+            }
+
+            Class<? extends Resource> resourceType = getResourceType(type);
+
+            // First, invoke the 'beforeRead' interceptor methods.
+            FHIRPersistenceEvent event =
+                    new FHIRPersistenceEvent(null, buildPersistenceEventProperties(type, id, null, null));
+            getInterceptorMgr().fireBeforeReadEvent(event);
+
+            FHIRPersistenceContext persistenceContext = FHIRPersistenceContextFactory.createPersistenceContext(event);
+            RawResource resource = persistence.readRaw(persistenceContext, resourceType, id);
+            if (resource == null) {
+                throw new FHIRPersistenceResourceNotFoundException("Resource '" + type + "/" + id + "' not found.");
+            }
+
+            // Invoke the 'afterRead' interceptor methods.
+            getInterceptorMgr().fireAfterReadEvent(event);
+
+            // Commit our transaction if we started one before.
+            txn.commit();
+            txn = null;
+
+            return resource;
+        } finally {
+            // Restore the original request context.
+            FHIRRequestContext.set(requestContext);
+
+            // If we previously started a transaction and it's still active, we need to rollback due to an error.
+            if (txn != null) {
+                txn.rollback();
+            }
+
+            log.exiting(this.getClass().getName(), "doReadRaw");
+        }
+    }
+
+    /**
+     * Performs a 'vread' operation to retrieve the specified version of a Resource exactly as it is stored, without
+     * parsing it. The interceptor methods are invoked without the resource, so this must only be used when no interceptor
+     * needs it.
+     *
+     * @param type
+     *            the resource type associated with the Resource to be retrieved
+     * @param id
+     *            the id of the Resource to be retrieved
+     * @param versionId
+     *            the version id of the Resource to be retrieved
+     * @return the stored Resource
+     * @throws Exception
+     * @see FHIRPersistenceInterceptorMgr#isReadResourceRequired()
+     */
+    public RawResource doVReadRaw(String type, String id, String versionId) throws Exception {
+        log.entering(this.getClass().getName(), "doVReadRaw");
+
+        // Start a new txn in the persistence layer if one is not already active.
+        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
+        txn.begin();
+
+        // Save the current request context.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+
+        try {
+            if (!ModelSupport.isResourceType(type)) {
+                throw buildUnsupportedResourceTypeException(type);
+            }
+
+            Class<? extends Resource> resourceType = getResourceType(type);
+
+            // First, invoke the 'beforeVread' interceptor methods.
+            FHIRPersistenceEvent event =
+                    new FHIRPersistenceEvent(null, buildPersistenceEventProperties(type, id, versionId, null));
+            getInterceptorMgr().fireBeforeVreadEvent(event);
+
+            FHIRPersistenceContext persistenceContext = FHIRPersistenceContextFactory.createPersistenceContext(event);
+            RawResource resource = persistence.vreadRaw(persistenceContext, resourceType, id, versionId);
+            if (resource == null) {
+                throw new FHIRPersistenceResourceNotFoundException("Resource '"
+                        + resourceType.getSimpleName() + "/" + id + "' version " + versionId + " not found.");
+            }
+
+            // Invoke the 'afterVread' interceptor methods.
+            getInterceptorMgr().fireAfterVreadEvent(event);
+
+            // Commit our transaction if we started one before.
+            txn.commit();
+            txn = null;
+
+            return resource;
+        } finally {
+            // Restore the original request context.
+            FHIRRequestContext.set(requestContext);
+
+            // If we previously started a transaction and it's still active, we need to rollback due to an error.
+            if (txn != null) {
+                txn.rollback();
+            }
+
+            log.exiting(this.getClass().getName(), "doVReadRaw");
+        }
+    }
+
     /**
      * Performs the work of retrieving versions of a Resource.
      *
@@ -961,6 +1167,123 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
         }
     }
 
+    /**
+     * Performs a 'search' operation and returns a Bundle whose entries are written one at a time from the resources
+     * of the search result set, without building the whole Bundle. The resources are written exactly as they are
+     * stored if the 'fhirServer/core/rawJsonPassthrough' property is true, and parsed and generated again otherwise.
+     * The 'afterSearch' interceptor methods are invoked with the Bundle without its entries, so this must only be
+     * used when no interceptor needs the resources.
+     *
+     * @param type
+     *            the resource type associated with the search
+     * @param queryParameters
+     *            a Map containing the query parameters from the request URL
+     * @param requestProperties
+     *            additional request properties which supplement the HTTP headers associated with this request
+     * @return a Bundle containing the search result set, or null if the search can't be returned as stored
+     *         because it is a whole-system search or it uses _include, _revinclude, _elements, _summary or _count=0
+     * @throws Exception
+     * @see FHIRPersistenceInterceptorMgr#isReadResourceRequired()
+     */
+    public RawJsonBundle doSearchRaw(String type, String compartment, String compartmentId,
+            MultivaluedMap<String, String> queryParameters, String requestUri,
+            Map<String, String> requestProperties) throws Exception {
+        log.entering(this.getClass().getName(), "doSearchRaw");
+
+        // Save the current request context.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+
+        if (!ModelSupport.isResourceType(type)) {
+            log.exiting(this.getClass().getName(), "doSearchRaw");
+            throw buildUnsupportedResourceTypeException(type);
+        }
+
+        Class<? extends Resource> resourceType = getResourceType(type);
+
+        // Decide from the parameter names, so that a search which falls back to doSearch doesn't invoke the
+        // 'beforeSearch' interceptor methods twice
+        if (!isRawSearchSupported(resourceType, queryParameters)) {
+            log.exiting(this.getClass().getName(), "doSearchRaw");
+            return null;
+        }
+
+        FHIRTransactionHelper txn = new FHIRTransactionHelper(getTransaction());
+        // Start a new txn in the persistence layer if one is not already active.
+        txn.begin();
+
+        try {
+            // First, invoke the 'beforeSearch' interceptor methods.
+            FHIRPersistenceEvent event =
+                    new FHIRPersistenceEvent(null, buildPersistenceEventProperties(type, null, null, requestProperties));
+            getInterceptorMgr().fireBeforeSearchEvent(event);
+
+            FHIRSearchContext searchContext = SearchUtil.parseQueryParameters(compartment, compartmentId, resourceType, queryParameters,
+                    HTTPHandlingPreference.LENIENT.equals(requestContext.getHandlingPreference()));
+
+            FHIRPersistenceContext persistenceContext =
+                    FHIRPersistenceContextFactory.createPersistenceContext(event, searchContext);
+            List<RawResource> resources = persistence.searchRaw(persistenceContext, resourceType);
+
+            Bundle bundle = createSearchBundle(Collections.emptyList(), searchContext, type);
+            if (requestUri != null) {
+                bundle = addLinks(searchContext, bundle, requestUri);
+            }
+            List<String> fullUrls = new ArrayList<>(resources.size());
+            for (RawResource resource : resources) {
+                fullUrls.add(getRequestBaseUri(type) + "/" + resource.getResourceType() + "/" + resource.getLogicalId());
+            }
+            event.setFhirResource(bundle);
+
+            // Invoke the 'afterSearch' interceptor methods.
+            getInterceptorMgr().fireAfterSearchEvent(event);
+
+            // Commit our transaction if we started one before.
+            txn.commit();
+            txn = null;
+
+            // Without raw JSON passthrough, each resource is parsed and generated again while it is written
+            boolean regenerate = !FHIRConfigHelper.getBooleanProperty(FHIRConfiguration.PROPERTY_RAW_JSON_PASSTHROUGH, Boolean.FALSE);
+            return new RawJsonBundle(bundle, fullUrls, resources, regenerate);
+        } finally {
+            // Restore the original request context.
+            FHIRRequestContext.set(requestContext);
+
+            // If we previously started a transaction and it's still active, we need to rollback due to an error.
+            if (txn != null) {
+                txn.rollback();
+            }
+
+            log.exiting(this.getClass().getName(), "doSearchRaw");
+        }
+    }
+
+    /**
+     * @return false if the search is a whole-system search or it uses _include, _revinclude, _elements, _summary or
+     *         _count=0, which need the search result set as parsed resources
+     */
+    private boolean isRawSearchSupported(Class<? extends Resource> resourceType, MultivaluedMap<String, String> queryParameters) {
+        if (Resource.class.equals(resourceType)) {
+            return false;
+        }
+        for (String name : queryParameters.keySet()) {
+            if (name.startsWith(SearchConstants.INCLUDE) || name.startsWith(SearchConstants.REVINCLUDE)
+                    || SearchConstants.ELEMENTS.equals(name) || SearchConstants.SUMMARY.equals(name)) {
+                return false;
+            }
+        }
+        // _count=0 is treated as _summary=count
+        String count = queryParameters.getFirst(SearchConstants.COUNT);
+        if (count != null) {
+            try {
+                return Integer.parseInt(count) != 0;
+            } catch (NumberFormatException e) {
+                // Leave the error handling to doSearch
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Helper method which invokes a custom operation.
      *
@@ -1467,7 +1790,8 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
                         + bundleTransactionCorrelationId);
             }
 
-            Map<String, String> localRefMap = new HashMap<>();
+            // Entries of a batch bundle may be processed concurrently, so use a map that is safe to share.
+            Map<String, String> localRefMap = new ConcurrentHashMap<>();
 
             // Next, process entries in the correct order.
             responseBundle = processEntriesForMethod(requestBundle, responseBundle, HTTPVerb.DELETE,
@@ -1561,382 +1885,494 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
             }
 
             // Now visit each of the request entries using the list of indices obtained above.
-            // Use hashmap to store both the index and the according updated response bundle entry.
-            HashMap<Integer, Bundle.Entry> responseIndexAndEntries =
-                    new HashMap<Integer, Bundle.Entry>();
-            for (Integer entryIndex : entryIndices) {
-                Bundle.Entry requestEntry = requestBundle.getEntry().get(entryIndex);
-                Bundle.Entry responseEntry = responseBundle.getEntry().get(entryIndex);
-                Bundle.Entry.Builder responseEntryBuilder = responseEntry.toBuilder();
-
-                Bundle.Entry.Request request = requestEntry.getRequest();
-                Bundle.Entry.Response response = responseEntry.getResponse();
-
-                StringBuffer requestDescription = new StringBuffer();
-                long initialTime = System.currentTimeMillis();
-                try {
-                    FHIRUrlParser requestURL = new FHIRUrlParser(request.getUrl().getValue());
-
-                    String path = requestURL.getPath();
-                    String query = requestURL.getQuery();
-                    if (log.isLoggable(Level.FINER)) {
-                        log.finer("Processing bundle request entry " + entryIndex + "; method="
-                                + request.getMethod().getValue() + ", url="
-                                + request.getUrl().getValue());
-                        log.finer("--> path: " + path);
-                        log.finer("--> query: " + query);
-                    }
-
-                    // Log our initial info message for this request.
-                    requestDescription.append("entryIndex:[");
-                    requestDescription.append(entryIndex);
-                    requestDescription.append("] correlationId:[");
-                    requestDescription.append(bundleRequestCorrelationId);
-                    requestDescription.append("] method:[");
-                    requestDescription.append(request.getMethod().getValue());
-                    requestDescription.append("] uri:[");
-                    requestDescription.append(request.getUrl().getValue());
-                    requestDescription.append("]");
-                    log.info("Received bundle request: " + requestDescription.toString());
-
-                    String[] pathTokens = requestURL.getPathTokens();
-                    MultivaluedMap<String, String> queryParams = requestURL.getQueryParameters();
-
-                    // Construct the absolute requestUri to be used for any response bundles associated
-                    // with history and search requests.
-                    String absoluteUri =
-                            getAbsoluteUri(getRequestUri(), request.getUrl().getValue());
-
-                    if (request.getMethod().equals(HTTPVerb.GET)) {
-                        Resource resource = null;
-                        int httpStatus = SC_OK;
-
-                        // Process a GET (read, vread, history, search, etc.).
-                        // Determine the type of request from the path tokens.
-                        if (pathTokens.length > 0
-                                && pathTokens[pathTokens.length - 1].startsWith("$")) {
-                            // This is a custom operation request
-
-                            // Chop off the '$' and save the name
-                            String operationName = pathTokens[pathTokens.length - 1].substring(1);
-
-                            // FHIROperationContext operationContext;
-                            switch (pathTokens.length) {
-                            case 1: {
-                                FHIROperationContext operationContext =
-                                        FHIROperationContext.createSystemOperationContext();
-                                resource =
-                                        doInvoke(operationContext, null, null, null, operationName, null, queryParams, null);
-                            }
-                                break;
-                            case 2: {
-                                FHIROperationContext operationContext =
-                                        FHIROperationContext.createResourceTypeOperationContext();
-                                resource =
-                                        doInvoke(operationContext, pathTokens[0], null, null, operationName, null, queryParams, null);
-                            }
-                                break;
-                            case 3: {
-                                FHIROperationContext operationContext =
-                                        FHIROperationContext.createInstanceOperationContext();
-                                resource =
-                                        doInvoke(operationContext, pathTokens[0], pathTokens[1], null, operationName, null, queryParams, null);
-                            }
-                                break;
-                            default:
-                                String msg = "Invalid URL for custom operation '"
-                                        + pathTokens[pathTokens.length - 1] + "'";
-                                throw buildRestException(msg, IssueType.NOT_FOUND);
-                            }
-                        } else if (pathTokens.length == 1) {
-                            // This is a 'search' request.
-                            if ("_search".equals(pathTokens[0])) {
-                                resource =
-                                        doSearch("Resource", null, null, queryParams, absoluteUri, null, null);
-                            } else {
-                                resource =
-                                        doSearch(pathTokens[0], null, null, queryParams, absoluteUri, null, null);
-                            }
-                        } else if (pathTokens.length == 2) {
-                            // This is a 'read' request.
-                            resource =
-                                    doRead(pathTokens[0], pathTokens[1], true, false, null, null);
-                        } else if (pathTokens.length == 3) {
-                            if ("_history".equals(pathTokens[2])) {
-                                // This is a 'history' request.
-                                resource =
-                                        doHistory(pathTokens[0], pathTokens[1], queryParams, absoluteUri, null);
-                            } else {
-                                // This is a compartment based search
-                                resource =
-                                        doSearch(pathTokens[2], pathTokens[0], pathTokens[1], queryParams, absoluteUri, null, null);
-                            }
-                        } else if (pathTokens.length == 4 && pathTokens[2].equals("_history")) {
-                            // This is a 'vread' request.
-                            resource = doVRead(pathTokens[0], pathTokens[1], pathTokens[3], null);
-                        } else {
-                            String msg = "Unrecognized path in request URL: " + path;
-                            throw buildRestException(msg, IssueType.NOT_FOUND);
-                        }
+            // Use a map to store both the index and the according updated response bundle entry.
+            Map<Integer, Bundle.Entry> responseIndexAndEntries = new HashMap<Integer, Bundle.Entry>();
+
+            // The entries of a 'batch' bundle are independent of each other, so they can be processed concurrently
+            // (within the current phase) when the tenant has been configured to allow it.
+            ExecutorService executor = null;
+            int parallelism = failFast ? 1 : getBatchParallelism();
+            if (parallelism > 1 && entryIndices.size() > 1
+                    && canProcessEntriesInParallel(requestBundle, entryIndices, httpMethod)) {
+                executor = FHIRServerUtils.getJNDIValue(MANAGED_EXECUTOR_JNDI_NAME, null);
+                if (executor == null && log.isLoggable(Level.FINE)) {
+                    log.fine("Unable to find the managed executor service; processing bundle request entries sequentially");
+                }
+            }
 
-                        // Save the results of the operation in the bundle response field.
-                        Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                        responseBuilder.status(string(Integer.toString(httpStatus)));
-                        setBundleResponseStatus(response, httpStatus, requestDescription.toString(), initialTime);
-
-                        responseIndexAndEntries.put(entryIndex, responseEntryBuilder.resource(resource).response(responseBuilder.build()).build());
-                    } else if (request.getMethod().equals(HTTPVerb.POST)) {
-                        // Process a POST (create or search, or custom operation).
-                        if (pathTokens.length > 0
-                                && pathTokens[pathTokens.length - 1].startsWith("$")) {
-                            // This is a custom operation request
-
-                            // Chop off the '$' and save the name
-                            String operationName = pathTokens[pathTokens.length - 1].substring(1);
-
-                            // Retrieve the resource from the request entry.
-                            Resource resource = requestEntry.getResource();
-
-                            FHIROperationContext operationContext;
-                            Resource result;
-                            switch (pathTokens.length) {
-                            case 1:
-                                operationContext =
-                                        FHIROperationContext.createSystemOperationContext();
-                                result = doInvoke(operationContext, null, null, null, operationName, resource, queryParams, null);
-                                break;
-                            case 2:
-                                operationContext =
-                                        FHIROperationContext.createResourceTypeOperationContext();
-                                result = doInvoke(operationContext, pathTokens[0], null, null, operationName, resource, queryParams, null);
-                                break;
-                            case 3:
-                                operationContext =
-                                        FHIROperationContext.createInstanceOperationContext();
-                                result = doInvoke(operationContext, pathTokens[0], pathTokens[1], null, operationName, resource, queryParams, null);
-                                break;
-                            default:
-                                String msg = "Invalid URL for custom operation '"
-                                        + pathTokens[pathTokens.length - 1] + "'";
-                                throw buildRestException(msg, IssueType.NOT_FOUND);
-                            }
+            if (executor != null) {
+                List<Bundle.Entry> requestEntries = requestBundle.getEntry();
+                List<Bundle.Entry> responseEntries = responseBundle.getEntry();
+                ParallelBatchProcessor processor = new ParallelBatchProcessor(executor, parallelism);
+                responseIndexAndEntries.putAll(processor.process(entryIndices, entryIndex ->
+                        processEntry(requestEntries.get(entryIndex), responseEntries.get(entryIndex), entryIndex,
+                                false, localRefMap, bundleRequestCorrelationId)));
+            } else {
+                for (Integer entryIndex : entryIndices) {
+                    Bundle.Entry requestEntry = requestBundle.getEntry().get(entryIndex);
+                    Bundle.Entry responseEntry = responseBundle.getEntry().get(entryIndex);
+                    responseIndexAndEntries.put(entryIndex, processEntry(requestEntry, responseEntry, entryIndex,
+                            failFast, localRefMap, bundleRequestCorrelationId));
+                }
+            }
 
-                            Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                            // Add warning and hint issues to response outcome if any.
-                            if (result instanceof OperationOutcome) {
-                                if (((OperationOutcome) result).getIssue() != null) {
-                                    responseBuilder.outcome(result);
-                                }
-                            }
+            // Now, let's re-construct the responseBundle
+            responseBundle = reconstructResponseBundle(responseBundle, responseIndexAndEntries);
+            return responseBundle;
 
-                            responseBuilder.status(string(Integer.toString(SC_OK)));
-                            responseIndexAndEntries.put(entryIndex, responseEntryBuilder
-                                    .resource(result)
-                                    .response(responseBuilder.build())
-                                    .build());
-                            setBundleResponseStatus(response, SC_OK, requestDescription.toString(), initialTime);
-
-                        } else if (pathTokens.length == 2 && "_search".equals(pathTokens[1])) {
-                            // This is a 'search' request.
-                            Bundle searchResults =
-                                    doSearch(pathTokens[0], null, null, queryParams, absoluteUri, null, null);
-
-                            // Save the results of the operation in the bundle response field.
-                            Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                            responseBuilder.status(string(Integer.toString(SC_OK)));
-
-                            responseIndexAndEntries.put(entryIndex, responseEntryBuilder
-                                    .resource(searchResults)
-                                    .response(responseBuilder.build())
-                                    .build());
-
-                            setBundleResponseStatus(response, SC_OK, requestDescription.toString(), initialTime);
-                        } else if (pathTokens.length == 1) {
-                            // This is a 'create' request.
-
-                            // Retrieve the local identifier from the request entry (if present).
-                            String localIdentifier =
-                                    retrieveLocalIdentifier(requestEntry, localRefMap);
-
-                            // Retrieve the resource from the request entry.
-                            Resource resource = requestEntry.getResource();
-                            if (resource == null) {
-                                String msg =
-                                        "BundleEntry.resource is required for bundled create requests.";
-                                throw buildRestException(msg, IssueType.NOT_FOUND);
-                            }
+        } finally {
+            log.exiting(this.getClass().getName(), "processEntriesForMethod");
+        }
+    }
 
-                            // Convert any local references found within the resource to their
-                            // corresponding external reference.
-
-                            ReferenceMappingVisitor<Resource> visitor =
-                                    new ReferenceMappingVisitor<Resource>(localRefMap);
-                            resource.accept(visitor);
-                            resource = visitor.getResult();
-
-                            // Perform the 'create' operation.
-                            String ifNoneExist = request.getIfNoneExist() != null
-                                    ? request.getIfNoneExist().getValue() : null;
-                            FHIRRestOperationResponse ior =
-                                    doCreate(pathTokens[0], resource, ifNoneExist, null);
-
-                            // Get the updated resource from FHIRRestOperationResponse which has the correct ID, meta
-                            // etc.
-                            resource = ior.getResource();
-
-                            // Process and replace bundler Entry
-                            Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, resource, ior.getOperationOutcome(),
-                                    ior.getLocationURI(), ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
-
-                            responseIndexAndEntries.put(entryIndex, resultEntry);
-
-                            // Next, if a local identifier was present, we'll need to map this to the
-                            // correct external identifier (e.g. Patient/12345).
-                            addLocalRefMapping(localRefMap, localIdentifier, resource);
-                        } else {
-                            String msg =
-                                    "Request URL for bundled create requests should have a path with exactly one token (<resourceType>).";
-                            throw buildRestException(msg, IssueType.NOT_FOUND);
-                        }
-                    } else if (request.getMethod().equals(HTTPVerb.PUT)) {
-                        String type = null;
-                        String id = null;
-
-                        // Process a PUT (update).
-                        if (pathTokens.length == 1) {
-                            // A single-part url would be a conditional update: <type>?<query>
-                            type = pathTokens[0];
-                            if (query == null || query.isEmpty()) {
-                                String msg =
-                                        "A search query string is required for a conditional update operation.";
-                                throw buildRestException(msg, IssueType.INVALID);
-                            }
-                        } else if (pathTokens.length == 2) {
-                            // A two-part url would be a normal update: <type>/<id>.
-                            type = pathTokens[0];
-                            id = pathTokens[1];
-                        } else {
-                            // A url with any other pattern is an error.
-                            String msg = "Request URL for bundled PUT request should have path part with either one or two tokens "
-                                    + "(<resourceType> or <resourceType>/<id>).";
-                            throw buildRestException(msg, IssueType.INVALID);
+    /**
+     * Determines whether the specified request entries can be processed concurrently. Entries are considered to be
+     * dependent on one another if two PUT or DELETE entries have the same request url, or if a POST entry references
+     * the local identifier of another POST entry (or shares its local identifier).
+     *
+     * @param requestBundle
+     *            the bundle containing the request entries
+     * @param entryIndices
+     *            the indices of the request entries to be processed
+     * @param httpMethod
+     *            the HTTP method of the request entries
+     * @return true if the request entries are independent of each other
+     */
+    private boolean canProcessEntriesInParallel(Bundle requestBundle, List<Integer> entryIndices, HTTPVerb httpMethod) {
+        if (httpMethod.equals(HTTPVerb.PUT) || httpMethod.equals(HTTPVerb.DELETE)) {
+            Set<String> urls = new HashSet<>();
+            for (Integer index : entryIndices) {
+                if (!urls.add(requestBundle.getEntry().get(index).getRequest().getUrl().getValue())) {
+                    return false;
+                }
+            }
+        } else if (httpMethod.equals(HTTPVerb.POST)) {
+            Set<String> localIdentifiers = new HashSet<>();
+            for (Integer index : entryIndices) {
+                Uri fullUrl = requestBundle.getEntry().get(index).getFullUrl();
+                if (fullUrl != null && fullUrl.getValue() != null && fullUrl.getValue().startsWith(LOCAL_REF_PREFIX)
+                        && !localIdentifiers.add(fullUrl.getValue())) {
+                    return false;
+                }
+            }
+            if (!localIdentifiers.isEmpty()) {
+                LocalReferenceVisitor visitor = new LocalReferenceVisitor(localIdentifiers);
+                for (Integer index : entryIndices) {
+                    Resource resource = requestBundle.getEntry().get(index).getResource();
+                    if (resource != null) {
+                        resource.accept(visitor);
+                        if (visitor.found) {
+                            return false;
                         }
+                    }
+                }
+            }
+        }
+        return true;
+    }
 
-                        // Retrieve the resource from the request entry.
-                        Resource resource = requestEntry.getResource();
+    /**
+     * Finds Reference elements whose reference value is one of the specified local identifiers.
+     */
+    private static class LocalReferenceVisitor extends DefaultVisitor {
+        private final Set<String> localIdentifiers;
+        private boolean found = false;
 
-                        // Convert any local references found within the resource to their
-                        // corresponding external reference.
-                        ReferenceMappingVisitor<Resource> visitor =
-                                new ReferenceMappingVisitor<Resource>(localRefMap);
-                        resource.accept(visitor);
-                        resource = visitor.getResult();
+        public LocalReferenceVisitor(Set<String> localIdentifiers) {
+            super(true);
+            this.localIdentifiers = localIdentifiers;
+        }
 
-                        // Perform the 'update' operation.
-                        String ifMatchBundleValue = null;
-                        if (request.getIfMatch() != null) {
-                            ifMatchBundleValue = request.getIfMatch().getValue();
-                        }
-                        FHIRRestOperationResponse ior =
-                                doUpdate(type, id, resource, ifMatchBundleValue, query, null);
-
-                        // Process and replace bundler Entry
-                        Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, ior.getResource(), ior.getOperationOutcome(),
-                                ior.getLocationURI(), ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
-
-                        responseIndexAndEntries.put(entryIndex, resultEntry);
-
-                    } else if (request.getMethod().equals(HTTPVerb.DELETE)) {
-                        String type = null;
-                        String id = null;
-
-                        // Process a DELETE.
-                        if (pathTokens.length == 1) {
-                            // A single-part url would be a conditional delete: <type>?<query>
-                            type = pathTokens[0];
-                            if (query == null || query.isEmpty()) {
-                                String msg =
-                                        "A search query string is required for a conditional delete operation.";
-                                throw buildRestException(msg, IssueType.INVALID);
-                            }
-                        } else if (pathTokens.length == 2) {
-                            type = pathTokens[0];
-                            id = pathTokens[1];
-                        } else {
-                            String msg = "Request URL for bundled DELETE request should have path part with one or two tokens "
-                                    + "(<resourceType> or <resourceType>/<id>).";
-                            throw buildRestException(msg, IssueType.INVALID);
-                        }
+        @Override
+        public boolean visit(String elementName, int elementIndex, Reference reference) {
+            if (reference.getReference() != null && localIdentifiers.contains(reference.getReference().getValue())) {
+                found = true;
+            }
+            return !found;
+        }
+    }
+
+    /**
+     * Returns the maximum number of batch bundle entries that may be processed concurrently for the current tenant.
+     */
+    private int getBatchParallelism() {
+        return FHIRConfigHelper.getIntProperty(FHIRConfiguration.PROPERTY_BATCH_PARALLELISM,
+                FHIRConstants.FHIR_BATCH_PARALLELISM_DEFAULT);
+    }
 
-                        // Perform the 'delete' operation.
-                        FHIRRestOperationResponse ior = doDelete(type, id, query, null);
+    /**
+     * Processes a single request entry from the specified request bundle.
+     *
+     * @param requestEntry
+     *            the request entry
+     * @param responseEntry
+     *            the corresponding response entry
+     * @param entryIndex
+     *            the index of the request entry within the request bundle
+     * @return the updated response entry
+     */
+    private Bundle.Entry processEntry(Bundle.Entry requestEntry, Bundle.Entry responseEntry, int entryIndex,
+            boolean failFast, Map<String, String> localRefMap, String bundleRequestCorrelationId) throws Exception {
+        Bundle.Entry.Builder responseEntryBuilder = responseEntry.toBuilder();
 
-                        // Process and replace bundler Entry
-                        Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, ior.getResource(), ior.getOperationOutcome(),
-                                null, ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
+        Bundle.Entry.Request request = requestEntry.getRequest();
+        Bundle.Entry.Response response = responseEntry.getResponse();
+
+        StringBuffer requestDescription = new StringBuffer();
+        long initialTime = System.currentTimeMillis();
+        try {
+            FHIRUrlParser requestURL = new FHIRUrlParser(request.getUrl().getValue());
 
-                        responseIndexAndEntries.put(entryIndex, resultEntry);
+            String path = requestURL.getPath();
+            String query = requestURL.getQuery();
+            if (log.isLoggable(Level.FINER)) {
+                log.finer("Processing bundle request entry " + entryIndex + "; method="
+                        + request.getMethod().getValue() + ", url="
+                        + request.getUrl().getValue());
+                log.finer("--> path: " + path);
+                log.finer("--> query: " + query);
+            }
+
+            // Log our initial info message for this request.
+            requestDescription.append("entryIndex:[");
+            requestDescription.append(entryIndex);
+            requestDescription.append("] correlationId:[");
+            requestDescription.append(bundleRequestCorrelationId);
+            requestDescription.append("] method:[");
+            requestDescription.append(request.getMethod().getValue());
+            requestDescription.append("] uri:[");
+            requestDescription.append(request.getUrl().getValue());
+            requestDescription.append("]");
+            log.info("Received bundle request: " + requestDescription.toString());
+
+            String[] pathTokens = requestURL.getPathTokens();
+            MultivaluedMap<String, String> queryParams = requestURL.getQueryParameters();
+
+            // Construct the absolute requestUri to be used for any response bundles associated
+            // with history and search requests.
+            String absoluteUri =
+                    getAbsoluteUri(getRequestUri(), request.getUrl().getValue());
+
+            if (request.getMethod().equals(HTTPVerb.GET)) {
+                Resource resource = null;
+                int httpStatus = SC_OK;
+
+                // Process a GET (read, vread, history, search, etc.).
+                // Determine the type of request from the path tokens.
+                if (pathTokens.length > 0
+                        && pathTokens[pathTokens.length - 1].startsWith("$")) {
+                    // This is a custom operation request
+
+                    // Chop off the '$' and save the name
+                    String operationName = pathTokens[pathTokens.length - 1].substring(1);
+
+                    // FHIROperationContext operationContext;
+                    switch (pathTokens.length) {
+                    case 1: {
+                        FHIROperationContext operationContext =
+                                FHIROperationContext.createSystemOperationContext();
+                        resource =
+                                doInvoke(operationContext, null, null, null, operationName, null, queryParams, null);
+                    }
+                        break;
+                    case 2: {
+                        FHIROperationContext operationContext =
+                                FHIROperationContext.createResourceTypeOperationContext();
+                        resource =
+                                doInvoke(operationContext, pathTokens[0], null, null, operationName, null, queryParams, null);
+                    }
+                        break;
+                    case 3: {
+                        FHIROperationContext operationContext =
+                                FHIROperationContext.createInstanceOperationContext();
+                        resource =
+                                doInvoke(operationContext, pathTokens[0], pathTokens[1], null, operationName, null, queryParams, null);
+                    }
+                        break;
+                    default:
+                        String msg = "Invalid URL for custom operation '"
+                                + pathTokens[pathTokens.length - 1] + "'";
+                        throw buildRestException(msg, IssueType.NOT_FOUND);
+                    }
+                } else if (pathTokens.length == 1) {
+                    // This is a 'search' request.
+                    if ("_search".equals(pathTokens[0])) {
+                        resource =
+                                doSearch("Resource", null, null, queryParams, absoluteUri, null, null);
+                    } else {
+                        resource =
+                                doSearch(pathTokens[0], null, null, queryParams, absoluteUri, null, null);
+                    }
+                } else if (pathTokens.length == 2) {
+                    // This is a 'read' request.
+                    resource =
+                            doRead(pathTokens[0], pathTokens[1], true, false, null, null);
+                } else if (pathTokens.length == 3) {
+                    if ("_history".equals(pathTokens[2])) {
+                        // This is a 'history' request.
+                        resource =
+                                doHistory(pathTokens[0], pathTokens[1], queryParams, absoluteUri, null);
                     } else {
-                        // Internal error, should not get here!
-                        throw new IllegalStateException("Internal Server Error: reached an unexpected code location.");
+                        // This is a compartment based search
+                        resource =
+                                doSearch(pathTokens[2], pathTokens[0], pathTokens[1], queryParams, absoluteUri, null, null);
                     }
-                } catch (FHIRPersistenceResourceNotFoundException e) {
-                    if (failFast) {
-                        String msg = "Error while processing request bundle.";
-                        throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
+                } else if (pathTokens.length == 4 && pathTokens[2].equals("_history")) {
+                    // This is a 'vread' request.
+                    resource = doVRead(pathTokens[0], pathTokens[1], pathTokens[3], null);
+                } else {
+                    String msg = "Unrecognized path in request URL: " + path;
+                    throw buildRestException(msg, IssueType.NOT_FOUND);
+                }
+
+                // Save the results of the operation in the bundle response field.
+                Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
+                responseBuilder.status(string(Integer.toString(httpStatus)));
+                setBundleResponseStatus(response, httpStatus, requestDescription.toString(), initialTime);
+
+                return responseEntryBuilder.resource(resource).response(responseBuilder.build()).build();
+            } else if (request.getMethod().equals(HTTPVerb.POST)) {
+                // Process a POST (create or search, or custom operation).
+                if (pathTokens.length > 0
+                        && pathTokens[pathTokens.length - 1].startsWith("$")) {
+                    // This is a custom operation request
+
+                    // Chop off the '$' and save the name
+                    String operationName = pathTokens[pathTokens.length - 1].substring(1);
+
+                    // Retrieve the resource from the request entry.
+                    Resource resource = requestEntry.getResource();
+
+                    FHIROperationContext operationContext;
+                    Resource result;
+                    switch (pathTokens.length) {
+                    case 1:
+                        operationContext =
+                                FHIROperationContext.createSystemOperationContext();
+                        result = doInvoke(operationContext, null, null, null, operationName, resource, queryParams, null);
+                        break;
+                    case 2:
+                        operationContext =
+                                FHIROperationContext.createResourceTypeOperationContext();
+                        result = doInvoke(operationContext, pathTokens[0], null, null, operationName, resource, queryParams, null);
+                        break;
+                    case 3:
+                        operationContext =
+                                FHIROperationContext.createInstanceOperationContext();
+                        result = doInvoke(operationContext, pathTokens[0], pathTokens[1], null, operationName, resource, queryParams, null);
+                        break;
+                    default:
+                        String msg = "Invalid URL for custom operation '"
+                                + pathTokens[pathTokens.length - 1] + "'";
+                        throw buildRestException(msg, IssueType.NOT_FOUND);
                     }
+
                     Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                    responseBuilder.status(string(Integer.toString(SC_NOT_FOUND)));
+                    // Add warning and hint issues to response outcome if any.
+                    if (result instanceof OperationOutcome) {
+                        if (((OperationOutcome) result).getIssue() != null) {
+                            responseBuilder.outcome(result);
+                        }
+                    }
 
-                    responseIndexAndEntries.put(entryIndex, responseEntryBuilder
-                            .resource(FHIRUtil.buildOperationOutcome(e, false))
+                    responseBuilder.status(string(Integer.toString(SC_OK)));
+                    setBundleResponseStatus(response, SC_OK, requestDescription.toString(), initialTime);
+                    return responseEntryBuilder
+                            .resource(result)
                             .response(responseBuilder.build())
-                            .build());
+                            .build();
 
-                    setBundleResponseStatus(response, SC_NOT_FOUND, requestDescription.toString(), initialTime);
-                } catch (FHIRPersistenceResourceDeletedException e) {
-                    if (failFast) {
-                        String msg = "Error while processing request bundle.";
-                        throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
-                    }
+                } else if (pathTokens.length == 2 && "_search".equals(pathTokens[1])) {
+                    // This is a 'search' request.
+                    Bundle searchResults =
+                            doSearch(pathTokens[0], null, null, queryParams, absoluteUri, null, null);
+
+                    // Save the results of the operation in the bundle response field.
                     Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                    responseBuilder.status(string(Integer.toString(SC_GONE)));
+                    responseBuilder.status(string(Integer.toString(SC_OK)));
 
-                    responseIndexAndEntries.put(entryIndex, responseEntryBuilder
-                            .resource(FHIRUtil.buildOperationOutcome(e, false))
+                    setBundleResponseStatus(response, SC_OK, requestDescription.toString(), initialTime);
+
+                    return responseEntryBuilder
+                            .resource(searchResults)
                             .response(responseBuilder.build())
-                            .build());
+                            .build();
+                } else if (pathTokens.length == 1) {
+                    // This is a 'create' request.
 
-                    setBundleResponseStatus(response, SC_GONE, requestDescription.toString(), initialTime);
-                } catch (FHIROperationException e) {
-                    if (failFast) {
-                        String msg = "Error while processing request bundle.";
-                        throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
+                    // Retrieve the local identifier from the request entry (if present).
+                    String localIdentifier =
+                            retrieveLocalIdentifier(requestEntry, localRefMap);
+
+                    // Retrieve the resource from the request entry.
+                    Resource resource = requestEntry.getResource();
+                    if (resource == null) {
+                        String msg =
+                                "BundleEntry.resource is required for bundled create requests.";
+                        throw buildRestException(msg, IssueType.NOT_FOUND);
                     }
 
-                    Status status;
-                    if (e instanceof FHIRSearchException) {
-                        status = Status.BAD_REQUEST;
-                    } else {
-                        status = IssueTypeToHttpStatusMapper.issueListToStatus(e.getIssues());
+                    // Convert any local references found within the resource to their
+                    // corresponding external reference.
+
+                    ReferenceMappingVisitor<Resource> visitor =
+                            new ReferenceMappingVisitor<Resource>(localRefMap);
+                    resource.accept(visitor);
+                    resource = visitor.getResult();
+
+                    // Perform the 'create' operation.
+                    String ifNoneExist = request.getIfNoneExist() != null
+                            ? request.getIfNoneExist().getValue() : null;
+                    FHIRRestOperationResponse ior =
+                            doCreate(pathTokens[0], resource, ifNoneExist, null);
+
+                    // Get the updated resource from FHIRRestOperationResponse which has the correct ID, meta
+                    // etc.
+                    resource = ior.getResource();
+
+                    // Process and replace bundler Entry
+                    Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, resource, ior.getOperationOutcome(),
+                            ior.getLocationURI(), ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
+
+                    // Next, if a local identifier was present, we'll need to map this to the
+                    // correct external identifier (e.g. Patient/12345).
+                    addLocalRefMapping(localRefMap, localIdentifier, resource);
+
+                    return resultEntry;
+                } else {
+                    String msg =
+                            "Request URL for bundled create requests should have a path with exactly one token (<resourceType>).";
+                    throw buildRestException(msg, IssueType.NOT_FOUND);
+                }
+            } else if (request.getMethod().equals(HTTPVerb.PUT)) {
+                String type = null;
+                String id = null;
+
+                // Process a PUT (update).
+                if (pathTokens.length == 1) {
+                    // A single-part url would be a conditional update: <type>?<query>
+                    type = pathTokens[0];
+                    if (query == null || query.isEmpty()) {
+                        String msg =
+                                "A search query string is required for a conditional update operation.";
+                        throw buildRestException(msg, IssueType.INVALID);
                     }
+                } else if (pathTokens.length == 2) {
+                    // A two-part url would be a normal update: <type>/<id>.
+                    type = pathTokens[0];
+                    id = pathTokens[1];
+                } else {
+                    // A url with any other pattern is an error.
+                    String msg = "Request URL for bundled PUT request should have path part with either one or two tokens "
+                            + "(<resourceType> or <resourceType>/<id>).";
+                    throw buildRestException(msg, IssueType.INVALID);
+                }
 
-                    Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
-                    responseBuilder.status(string(Integer.toString(status.getStatusCode())));
+                // Retrieve the resource from the request entry.
+                Resource resource = requestEntry.getResource();
 
-                    responseIndexAndEntries.put(entryIndex, responseEntryBuilder.resource(FHIRUtil.buildOperationOutcome(e, false))
-                            .response(responseBuilder.build()).build());
+                // Convert any local references found within the resource to their
+                // corresponding external reference.
+                ReferenceMappingVisitor<Resource> visitor =
+                        new ReferenceMappingVisitor<Resource>(localRefMap);
+                resource.accept(visitor);
+                resource = visitor.getResult();
 
-                    setBundleResponseStatus(response, status.getStatusCode(), requestDescription.toString(), initialTime);
+                // Perform the 'update' operation.
+                String ifMatchBundleValue = null;
+                if (request.getIfMatch() != null) {
+                    ifMatchBundleValue = request.getIfMatch().getValue();
+                }
+                FHIRRestOperationResponse ior =
+                        doUpdate(type, id, resource, ifMatchBundleValue, query, null);
+
+                // Process and replace bundler Entry
+                Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, ior.getResource(), ior.getOperationOutcome(),
+                        ior.getLocationURI(), ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
+
+                return resultEntry;
+            } else if (request.getMethod().equals(HTTPVerb.DELETE)) {
+                String type = null;
+                String id = null;
+
+                // Process a DELETE.
+                if (pathTokens.length == 1) {
+                    // A single-part url would be a conditional delete: <type>?<query>
+                    type = pathTokens[0];
+                    if (query == null || query.isEmpty()) {
+                        String msg =
+                                "A search query string is required for a conditional delete operation.";
+                        throw buildRestException(msg, IssueType.INVALID);
+                    }
+                } else if (pathTokens.length == 2) {
+                    type = pathTokens[0];
+                    id = pathTokens[1];
+                } else {
+                    String msg = "Request URL for bundled DELETE request should have path part with one or two tokens "
+                            + "(<resourceType> or <resourceType>/<id>).";
+                    throw buildRestException(msg, IssueType.INVALID);
                 }
-            } // end foreach entry
 
-            // Now, let's re-construct the responseBundle
-            responseBundle = reconstructResponseBundle(responseBundle, responseIndexAndEntries);
-            return responseBundle;
+                // Perform the 'delete' operation.
+                FHIRRestOperationResponse ior = doDelete(type, id, query, null);
 
-        } finally {
-            log.exiting(this.getClass().getName(), "processEntriesForMethod");
+                // Process and replace bundler Entry
+                Bundle.Entry resultEntry = setBundleResponseFields(responseEntry, ior.getResource(), ior.getOperationOutcome(),
+                        null, ior.getStatus().getStatusCode(), requestDescription.toString(), initialTime);
+
+                return resultEntry;
+            } else {
+                // Internal error, should not get here!
+                throw new IllegalStateException("Internal Server Error: reached an unexpected code location.");
+            }
+        } catch (FHIRPersistenceResourceNotFoundException e) {
+            if (failFast) {
+                String msg = "Error while processing request bundle.";
+                throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
+            }
+            Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
+            responseBuilder.status(string(Integer.toString(SC_NOT_FOUND)));
+
+            setBundleResponseStatus(response, SC_NOT_FOUND, requestDescription.toString(), initialTime);
+
+            return responseEntryBuilder
+                    .resource(FHIRUtil.buildOperationOutcome(e, false))
+                    .response(responseBuilder.build())
+                    .build();
+        } catch (FHIRPersistenceResourceDeletedException e) {
+            if (failFast) {
+                String msg = "Error while processing request bundle.";
+                throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
+            }
+            Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
+            responseBuilder.status(string(Integer.toString(SC_GONE)));
+
+            setBundleResponseStatus(response, SC_GONE, requestDescription.toString(), initialTime);
+
+            return responseEntryBuilder
+                    .resource(FHIRUtil.buildOperationOutcome(e, false))
+                    .response(responseBuilder.build())
+                    .build();
+        } catch (FHIROperationException e) {
+            if (failFast) {
+                String msg = "Error while processing request bundle.";
+                throw new FHIRRestBundledRequestException(msg).withIssue(e.getIssues());
+            }
+
+            Status status;
+            if (e instanceof FHIRSearchException) {
+                status = Status.BAD_REQUEST;
+            } else {
+                status = IssueTypeToHttpStatusMapper.issueListToStatus(e.getIssues());
+            }
+
+            Bundle.Entry.Response.Builder responseBuilder = response.toBuilder();
+            responseBuilder.status(string(Integer.toString(status.getStatusCode())));
+
+            setBundleResponseStatus(response, status.getStatusCode(), requestDescription.toString(), initialTime);
+
+            return responseEntryBuilder.resource(FHIRUtil.buildOperationOutcome(e, false))
+                    .response(responseBuilder.build()).build();
         }
     }
 
@@ -1946,7 +2382,7 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
      * @return
      */
     private Bundle reconstructResponseBundle(Bundle responseBundle,
-        HashMap<Integer, Bundle.Entry> responseIndexAndEntries) {
+        Map<Integer, Bundle.Entry> responseIndexAndEntries) {
         // Re-construct the responseBundle
         List<Bundle.Entry> responseEntries = new ArrayList<Bundle.Entry>();
         for (int i = 0; i < responseBundle.getEntry().size(); i++) {
@@ -2196,13 +2632,18 @@ public class FHIRRestHelper implements FHIRResourceHelpers {
     private Bundle createSearchBundle(List<Resource> resources, FHIRSearchContext searchContext, String type)
         throws Exception {
 
-        // throws if we have a count of more than 2,147,483,647 resources
-        UnsignedInt totalCount = UnsignedInt.of(searchContext.getTotalCount());
-        // generate ID for this bundle and set total
+        // generate ID for this bundle
         Bundle.Builder bundleBuider = Bundle.builder()
                                             .type(BundleType.SEARCHSET)
-                                            .id(UUID.randomUUID().toString())
-                                            .total(totalCount);
+                                            .id(UUID.randomUUID().toString());
+
+        // set total, unless the client asked for _total=none (_summary=count always returns the total)
+        if (!TotalValueSet.NONE.equals(searchContext.getTotalParameter())
+                || SummaryValueSet.COUNT.equals(searchContext.getSummaryParameter())) {
+            // throws if we have a count of more than 2,147,483,647 resources
+            UnsignedInt totalCount = UnsignedInt.of(searchContext.getTotalCount());
+            bundleBuider.total(totalCount);
+        }
 
         for (Resource resource : resources) {
             if (resource.getId() == null) {
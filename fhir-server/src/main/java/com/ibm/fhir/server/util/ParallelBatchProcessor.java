@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.core.util.LRUCache;
+import com.ibm.fhir.model.resource.Bundle;
+
+/**
+ * Processes the entries of a 'batch' bundle concurrently, with at most 'parallelism' entries in flight for the
+ * current tenant across all requests.
+ *
+ * <p>The request context of the calling thread is passed along to the threads of the executor. An entry which the
+ * executor rejects is processed on the calling thread.
+ */
+public class ParallelBatchProcessor {
+    // The number of tenants for which the in-flight limits are retained
+    private static final int MAX_TENANT_PERMITS = 1000;
+
+    private static final Map<String, Permits> tenantPermits = LRUCache.createLRUCache(MAX_TENANT_PERMITS);
+
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Processes a single entry of a batch bundle.
+     */
+    @FunctionalInterface
+    public interface EntryProcessor {
+        /**
+         * @param entryIndex
+         *            the index of the request entry within the request bundle
+         * @return the updated response entry
+         */
+        Bundle.Entry process(int entryIndex) throws Exception;
+    }
+
+    /**
+     * @param executor
+     *            the executor on which the entries are processed
+     * @param parallelism
+     *            the maximum number of entries in flight for the current tenant
+     */
+    public ParallelBatchProcessor(Executor executor, int parallelism) {
+        this.executor = Objects.requireNonNull(executor);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Processes the specified entries and waits for all of them to complete.
+     *
+     * @param entryIndices
+     *            the indices of the request entries to be processed
+     * @param processor
+     *            processes a single entry
+     * @return the updated response entries, keyed by entry index
+     * @throws Exception
+     *            the first exception thrown by the processor (in entry order), after all of the entries have completed
+     */
+    public Map<Integer, Bundle.Entry> process(List<Integer> entryIndices, EntryProcessor processor) throws Exception {
+        // The request context is held in a thread local, so it must be passed along to the worker threads.
+        FHIRRequestContext requestContext = FHIRRequestContext.get();
+        Thread requestThread = Thread.currentThread();
+        Semaphore permits = getPermits(requestContext.getTenantId(), parallelism);
+
+        Map<Integer, Future<Bundle.Entry>> futures = new LinkedHashMap<>();
+        for (Integer entryIndex : entryIndices) {
+            permits.acquire();
+            FutureTask<Bundle.Entry> task = new FutureTask<>(() -> {
+                try {
+                    if (Thread.currentThread() != requestThread) {
+                        FHIRRequestContext.set(requestContext);
+                    }
+                    return processor.process(entryIndex);
+                } finally {
+                    if (Thread.currentThread() != requestThread) {
+                        FHIRRequestContext.remove();
+                    }
+                    permits.release();
+                }
+            });
+            futures.put(entryIndex, task);
+
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The executor is saturated, so process this entry on the request thread instead.
+                task.run();
+            }
+        }
+
+        // Wait for all of the entries to complete before reporting the first unexpected failure (if any).
+        Map<Integer, Bundle.Entry> responseIndexAndEntries = new HashMap<>();
+        Exception failure = null;
+        for (Map.Entry<Integer, Future<Bundle.Entry>> future : futures.entrySet()) {
+            try {
+                responseIndexAndEntries.put(future.getKey(), future.getValue().get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return responseIndexAndEntries;
+    }
+
+    /**
+     * Returns the semaphore that bounds the number of batch bundle entries in flight for the specified tenant
+     * (across all requests). A new semaphore replaces the current one when the configured parallelism changes;
+     * entries which are in flight release their permits to the semaphore which they acquired them from.
+     */
+    private static Semaphore getPermits(String tenantId, int parallelism) {
+        return tenantPermits.compute(tenantId,
+            (k, permits) -> (permits != null && permits.parallelism == parallelism) ? permits : new Permits(parallelism))
+            .semaphore;
+    }
+
+    private static class Permits {
+        private final int parallelism;
+        private final Semaphore semaphore;
+
+        private Permits(int parallelism) {
+            this.parallelism = parallelism;
+            this.semaphore = new Semaphore(parallelism);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import javax.json.Json;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.generator.exception.FHIRGeneratorException;
+import com.ibm.fhir.model.parser.FHIRParser;
+import com.ibm.fhir.model.parser.exception.FHIRParserException;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.persistence.RawResource;
+
+/**
+ * A search result Bundle whose entry resources are written exactly as they are stored.
+ *
+ * <p>The Bundle "envelope" (id, type, total and links) is generated from the model as usual, and the stored JSON
+ * of each resource is spliced into its entry. The result is the same compact JSON that would be generated
+ * for the Bundle with the parsed resources in its entries.
+ *
+ * <p>The entries are written one at a time, so only the JSON of the entry being written needs to be in memory
+ * when the resources produce their JSON on demand. When the resources must not be returned as stored, each of them
+ * is parsed and generated again while it is written.
+ */
+public class RawJsonBundle implements StreamingOutput {
+    private static final byte[] ENTRY_START = ",\"entry\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FULL_URL_START = "{\"fullUrl\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RESOURCE_START = ",\"resource\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENTRY_END = "}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENTRY_SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENTRIES_END = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final Bundle bundle;
+    private final List<String> fullUrls;
+    private final List<RawResource> resources;
+    private final boolean regenerate;
+
+    /**
+     * @param bundle the Bundle without any entries
+     * @param fullUrls the fullUrl of each entry
+     * @param resources the resource of each entry, in the same order as fullUrls
+     */
+    public RawJsonBundle(Bundle bundle, List<String> fullUrls, List<RawResource> resources) {
+        this(bundle, fullUrls, resources, false);
+    }
+
+    /**
+     * @param bundle the Bundle without any entries
+     * @param fullUrls the fullUrl of each entry
+     * @param resources the resource of each entry, in the same order as fullUrls
+     * @param regenerate whether to parse and generate each resource again instead of writing it as stored
+     */
+    public RawJsonBundle(Bundle bundle, List<String> fullUrls, List<RawResource> resources, boolean regenerate) {
+        if (!bundle.getEntry().isEmpty() || bundle.getSignature() != null) {
+            throw new IllegalArgumentException("The Bundle must not have entries or a signature");
+        }
+        if (fullUrls.size() != resources.size()) {
+            throw new IllegalArgumentException("Each entry must have a fullUrl and a resource");
+        }
+        this.bundle = Objects.requireNonNull(bundle);
+        this.fullUrls = fullUrls;
+        this.resources = resources;
+        this.regenerate = regenerate;
+    }
+
+    /**
+     * @return the Bundle, without any entries
+     */
+    public Bundle getBundle() {
+        return bundle;
+    }
+
+    /**
+     * @return the resources of the entries
+     */
+    public List<RawResource> getResources() {
+        return resources;
+    }
+
+    @Override
+    public void write(OutputStream out) throws IOException {
+        ByteArrayOutputStream envelope = new ByteArrayOutputStream();
+        try {
+            FHIRGenerator.generator(Format.JSON).generate(bundle, envelope);
+        } catch (FHIRGeneratorException e) {
+            throw new IOException("an error occurred during bundle serialization", e);
+        }
+        byte[] envelopeBytes = envelope.toByteArray();
+        if (resources.isEmpty()) {
+            out.write(envelopeBytes);
+            return;
+        }
+
+        // The entries are the last element of a Bundle without a signature, so they go right before the closing brace
+        out.write(envelopeBytes, 0, envelopeBytes.length - 1);
+        out.write(ENTRY_START);
+        for (int i = 0; i < resources.size(); i++) {
+            if (i > 0) {
+                out.write(ENTRY_SEPARATOR);
+            }
+            out.write(FULL_URL_START);
+            out.write(Json.createValue(fullUrls.get(i)).toString().getBytes(StandardCharsets.UTF_8));
+            out.write(RESOURCE_START);
+            if (regenerate) {
+                writeRegenerated(resources.get(i), out);
+            } else {
+                resources.get(i).writeTo(out);
+            }
+            out.write(ENTRY_END);
+        }
+        out.write(ENTRIES_END);
+    }
+
+    private void writeRegenerated(RawResource rawResource, OutputStream out) throws IOException {
+        Resource resource;
+        try (InputStream in = rawResource.getInputStream()) {
+            resource = FHIRParser.parser(Format.JSON).parse(in);
+        } catch (FHIRParserException e) {
+            throw new IOException("an error occurred while parsing " + rawResource.getResourceType() + "/" + rawResource.getLogicalId(), e);
+        }
+        try {
+            FHIRGenerator.generator(Format.JSON).generate(resource, out);
+        } catch (FHIRGeneratorException e) {
+            throw new IOException("an error occurred during bundle serialization", e);
+        }
+    }
+}
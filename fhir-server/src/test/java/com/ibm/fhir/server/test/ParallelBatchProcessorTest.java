@@ -0,0 +1,167 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.OperationOutcome;
+import com.ibm.fhir.model.type.code.IssueSeverity;
+import com.ibm.fhir.model.type.code.IssueType;
+import com.ibm.fhir.model.util.FHIRUtil;
+import com.ibm.fhir.server.util.ParallelBatchProcessor;
+
+public class ParallelBatchProcessorTest {
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void setRequestContext() throws Exception {
+        FHIRRequestContext.set(new FHIRRequestContext("tenant1"));
+    }
+
+    @AfterMethod
+    public void removeRequestContext() {
+        FHIRRequestContext.remove();
+    }
+
+    @Test
+    public void testResultsPerEntry() throws Exception {
+        List<Integer> entryIndices = indices(50);
+        Map<Integer, String> threads = new ConcurrentHashMap<>();
+        ParallelBatchProcessor processor = new ParallelBatchProcessor(executor, 4);
+
+        // Each entry finishes after a random delay and reports a warning of its own
+        Map<Integer, Bundle.Entry> results = processor.process(entryIndices, entryIndex -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+            threads.put(entryIndex, Thread.currentThread().getName());
+            return entry(entryIndex);
+        });
+
+        assertEquals(results.size(), entryIndices.size());
+        for (Integer entryIndex : entryIndices) {
+            OperationOutcome outcome = (OperationOutcome) results.get(entryIndex).getResource();
+            assertEquals(outcome.getIssue().size(), 1);
+            assertEquals(outcome.getIssue().get(0).getDetails().getText().getValue(), "entry " + entryIndex);
+            assertEquals(results.get(entryIndex).getResponse().getStatus().getValue(), "20" + (entryIndex % 2));
+        }
+        assertTrue(threads.values().stream().distinct().count() > 1);
+    }
+
+    @Test
+    public void testParallelismLimit() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ParallelBatchProcessor processor = new ParallelBatchProcessor(executor, 2);
+
+        processor.process(indices(20), entryIndex -> {
+            int n = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(n, Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return entry(entryIndex);
+        });
+
+        assertTrue(maxInFlight.get() <= 2, "max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        ParallelBatchProcessor processor = new ParallelBatchProcessor(executor, 4);
+        try {
+            processor.process(indices(20), entryIndex -> {
+                processed.incrementAndGet();
+                if (entryIndex == 5 || entryIndex == 15) {
+                    throw new IllegalStateException("entry " + entryIndex);
+                }
+                return entry(entryIndex);
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // The first failure in entry order is reported once all of the entries have completed
+            assertEquals(e.getMessage(), "entry 5");
+        }
+        assertEquals(processed.get(), 20);
+    }
+
+    @Test
+    public void testRequestContext() throws Exception {
+        ParallelBatchProcessor processor = new ParallelBatchProcessor(executor, 4);
+        Map<Integer, Bundle.Entry> results = processor.process(indices(10), entryIndex ->
+            entry(entryIndex).toBuilder()
+                .id(FHIRRequestContext.get().getTenantId())
+                .build());
+
+        for (Bundle.Entry entry : results.values()) {
+            assertEquals(entry.getId(), "tenant1");
+        }
+        assertEquals(FHIRRequestContext.get().getTenantId(), "tenant1");
+    }
+
+    @Test
+    public void testRejectedExecution() throws Exception {
+        ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor();
+        shutdownExecutor.shutdown();
+        Thread requestThread = Thread.currentThread();
+        ParallelBatchProcessor processor = new ParallelBatchProcessor(shutdownExecutor, 4);
+
+        // Entries which the executor rejects are processed on the request thread
+        Map<Integer, Bundle.Entry> results = processor.process(indices(3), entryIndex -> {
+            assertEquals(Thread.currentThread(), requestThread);
+            return entry(entryIndex);
+        });
+
+        assertEquals(results.size(), 3);
+        assertEquals(FHIRRequestContext.get().getTenantId(), "tenant1");
+    }
+
+    private List<Integer> indices(int count) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            indices.add(i);
+        }
+        return indices;
+    }
+
+    private Bundle.Entry entry(int entryIndex) {
+        return Bundle.Entry.builder()
+                .resource(FHIRUtil.buildOperationOutcome("entry " + entryIndex, IssueType.INFORMATIONAL, IssueSeverity.WARNING))
+                .response(Bundle.Entry.Response.builder()
+                    .status(string("20" + (entryIndex % 2)))
+                    .build())
+                .build();
+    }
+}
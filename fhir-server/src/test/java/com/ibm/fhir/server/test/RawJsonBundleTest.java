@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.test;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.format.Format;
+import com.ibm.fhir.model.generator.FHIRGenerator;
+import com.ibm.fhir.model.resource.Bundle;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.HumanName;
+import com.ibm.fhir.model.type.Id;
+import com.ibm.fhir.model.type.Meta;
+import com.ibm.fhir.model.type.UnsignedInt;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.BundleType;
+import com.ibm.fhir.persistence.RawResource;
+import com.ibm.fhir.server.util.RawJsonBundle;
+
+public class RawJsonBundleTest {
+
+    @Test
+    public void testSameAsGenerated() throws Exception {
+        Bundle envelope = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .id("bundle-id")
+                .total(UnsignedInt.of(2))
+                .link(Bundle.Link.builder()
+                    .relation(com.ibm.fhir.model.type.String.of("self"))
+                    .url(Uri.of("https://localhost/fhir-server/api/v4/Patient?_count=10&name=\"a\\b\""))
+                    .build())
+                .build();
+
+        List<String> fullUrls = new ArrayList<>();
+        List<RawResource> resources = new ArrayList<>();
+        Bundle.Builder expected = envelope.toBuilder();
+        for (String id : new String[] { "1", "2" }) {
+            Patient patient = Patient.builder()
+                    .id(id)
+                    .meta(Meta.builder().versionId(Id.of("1")).build())
+                    .name(HumanName.builder().family(com.ibm.fhir.model.type.String.of("Doe-é")).build())
+                    .build();
+            String fullUrl = "https://localhost/fhir-server/api/v4/Patient/" + id;
+            fullUrls.add(fullUrl);
+            resources.add(new RawResource("Patient", id, 1, Instant.now(), false, generate(patient).getBytes(StandardCharsets.UTF_8)));
+            expected.entry(Bundle.Entry.builder().fullUrl(Uri.of(fullUrl)).resource(patient).build());
+        }
+
+        assertEquals(write(new RawJsonBundle(envelope, fullUrls, resources)), generate(expected.build()));
+    }
+
+    @Test
+    public void testRegenerated() throws Exception {
+        Bundle envelope = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .id("bundle-id")
+                .total(UnsignedInt.of(2))
+                .build();
+
+        List<String> fullUrls = new ArrayList<>();
+        List<RawResource> resources = new ArrayList<>();
+        Bundle.Builder expected = envelope.toBuilder();
+        for (String id : new String[] { "1", "2" }) {
+            Patient patient = Patient.builder()
+                    .id(id)
+                    .meta(Meta.builder().versionId(Id.of("1")).build())
+                    .name(HumanName.builder().family(com.ibm.fhir.model.type.String.of("Doe-é")).build())
+                    .build();
+            String fullUrl = "https://localhost/fhir-server/api/v4/Patient/" + id;
+            fullUrls.add(fullUrl);
+            // Stored with another formatting, which is not returned as-is
+            String storedJson = generate(patient, true);
+            resources.add(new RawResource("Patient", id, 1, Instant.now(), false) {
+                @Override
+                public byte[] getJson() {
+                    return storedJson.getBytes(StandardCharsets.UTF_8);
+                }
+
+                @Override
+                public InputStream getInputStream() {
+                    return new ByteArrayInputStream(getJson());
+                }
+            });
+            expected.entry(Bundle.Entry.builder().fullUrl(Uri.of(fullUrl)).resource(patient).build());
+        }
+
+        assertEquals(write(new RawJsonBundle(envelope, fullUrls, resources, true)), generate(expected.build()));
+    }
+
+    @Test
+    public void testNoEntries() throws Exception {
+        Bundle envelope = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .total(UnsignedInt.of(0))
+                .build();
+
+        assertEquals(write(new RawJsonBundle(envelope, Collections.emptyList(), Collections.emptyList())), generate(envelope));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEnvelopeWithEntries() throws Exception {
+        Bundle bundle = Bundle.builder()
+                .type(BundleType.SEARCHSET)
+                .entry(Bundle.Entry.builder().fullUrl(Uri.of("Patient/1")).build())
+                .build();
+        new RawJsonBundle(bundle, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private String write(RawJsonBundle rawJsonBundle) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rawJsonBundle.write(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String generate(com.ibm.fhir.model.resource.Resource resource) throws Exception {
+        return generate(resource, false);
+    }
+
+    private String generate(com.ibm.fhir.model.resource.Resource resource, boolean prettyPrinting) throws Exception {
+        StringWriter writer = new StringWriter();
+        FHIRGenerator.generator(Format.JSON, prettyPrinting).generate(resource, writer);
+        return writer.toString();
+    }
+}
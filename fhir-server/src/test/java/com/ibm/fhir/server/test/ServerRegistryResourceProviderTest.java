@@ -0,0 +1,267 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.server.test;
+
+import static com.ibm.fhir.model.type.String.string;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.config.FHIRConfiguration;
+import com.ibm.fhir.config.FHIRRequestContext;
+import com.ibm.fhir.model.resource.OperationOutcome;
+import com.ibm.fhir.model.resource.Resource;
+import com.ibm.fhir.model.resource.StructureDefinition;
+import com.ibm.fhir.model.type.Uri;
+import com.ibm.fhir.model.type.code.PublicationStatus;
+import com.ibm.fhir.model.type.code.StructureDefinitionKind;
+import com.ibm.fhir.persistence.FHIRPersistence;
+import com.ibm.fhir.persistence.FHIRPersistenceTransaction;
+import com.ibm.fhir.persistence.MultiResourceResult;
+import com.ibm.fhir.persistence.SingleResourceResult;
+import com.ibm.fhir.persistence.context.FHIRPersistenceContext;
+import com.ibm.fhir.persistence.helper.PersistenceHelper;
+import com.ibm.fhir.persistence.interceptor.FHIRPersistenceEvent;
+import com.ibm.fhir.server.registry.ServerRegistryResourceProvider;
+
+/**
+ * Tests the caching of the ServerRegistryResourceProvider; the number of lookups which go to the persistence layer
+ * is the number of times the persistence implementation is requested from the persistence helper.
+ */
+public class ServerRegistryResourceProviderTest {
+    private static final String PROFILE_URL = "http://ibm.com/fhir/StructureDefinition/my-profile";
+    private static final String UNKNOWN_URL = "http://ibm.com/fhir/StructureDefinition/unknown";
+    private static final StructureDefinition PROFILE = StructureDefinition.builder()
+            .id("my-profile")
+            .url(Uri.of(PROFILE_URL))
+            .version(string("1.0.0"))
+            .name(string("MyProfile"))
+            .status(PublicationStatus.ACTIVE)
+            .kind(StructureDefinitionKind.RESOURCE)
+            ._abstract(com.ibm.fhir.model.type.Boolean.FALSE)
+            .type(Uri.of("Patient"))
+            .build();
+
+    @Test
+    public void testConcurrentLookupsLoadOnce() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        CountingPersistenceHelper helper = new CountingPersistenceHelper(latch);
+        ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(helper);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, null)));
+            }
+            long deadline = System.currentTimeMillis() + 30000;
+            while (helper.count.get() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // Give the other lookups time to find the entry which is being loaded
+            Thread.sleep(200);
+            latch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(helper.count.get(), 1);
+    }
+
+    @Test
+    public void testPreloadAndInvalidation() throws Exception {
+        CountingPersistenceHelper helper = new CountingPersistenceHelper(null);
+        ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(helper, 60000, true);
+
+        // The first lookup of the tenant preloads its StructureDefinitions with a single search
+        assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, null));
+        assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, "1.0.0"));
+        assertNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, "2.0.0"));
+        assertEquals(helper.count.get(), 1);
+
+        // An update of a resource with the url removes the url from the cache
+        provider.afterUpdate(new FHIRPersistenceEvent(PROFILE, null));
+        provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, null);
+        assertEquals(helper.count.get(), 2);
+    }
+
+    @Test
+    public void testPreloadWithoutTotal() throws Exception {
+        // Each page of the search only reports whether there is a next page, like a search with _total=none
+        CountingPersistenceHelper helper = new CountingPersistenceHelper(null, new ProfilePersistence(3));
+        ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(helper, 60000, true);
+
+        assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, null));
+        assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL + "-2", null));
+        assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL + "-3", null));
+        assertEquals(helper.count.get(), 1);
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        // The lookups search by url, so use a tenant which defines that search parameter, instead of depending on the
+        // search parameters of the core registry
+        String configHome = FHIRConfiguration.getConfigHome();
+        FHIRConfiguration.setConfigHome("target/test-classes");
+        FHIRRequestContext.set(new FHIRRequestContext("registry-test"));
+        try {
+            CountingPersistenceHelper helper = new CountingPersistenceHelper(null);
+            ServerRegistryResourceProvider provider = new ServerRegistryResourceProvider(helper, 200, false);
+
+            assertNotNull(provider.getRegistryResource(StructureDefinition.class, PROFILE_URL, null));
+            assertNull(provider.getRegistryResource(StructureDefinition.class, UNKNOWN_URL, null));
+            assertNull(provider.getRegistryResource(StructureDefinition.class, UNKNOWN_URL, null));
+            assertEquals(helper.count.get(), 2);
+
+            Thread.sleep(300);
+            assertNull(provider.getRegistryResource(StructureDefinition.class, UNKNOWN_URL, null));
+            assertEquals(helper.count.get(), 3);
+
+            // Negative caching is disabled with a timeout of 0
+            helper = new CountingPersistenceHelper(null);
+            provider = new ServerRegistryResourceProvider(helper, 0, false);
+            assertNull(provider.getRegistryResource(StructureDefinition.class, UNKNOWN_URL, null));
+            assertNull(provider.getRegistryResource(StructureDefinition.class, UNKNOWN_URL, null));
+            assertEquals(helper.count.get(), 2);
+        } finally {
+            FHIRRequestContext.remove();
+            FHIRConfiguration.setConfigHome(configHome);
+        }
+    }
+
+    /**
+     * Counts the requests for the persistence implementation, optionally waiting for a latch before returning it
+     */
+    private static class CountingPersistenceHelper implements PersistenceHelper {
+        private final CountDownLatch latch;
+        private final AtomicInteger count = new AtomicInteger();
+        private final FHIRPersistence persistence;
+
+        private CountingPersistenceHelper(CountDownLatch latch) {
+            this(latch, new ProfilePersistence(1));
+        }
+
+        private CountingPersistenceHelper(CountDownLatch latch, FHIRPersistence persistence) {
+            this.latch = latch;
+            this.persistence = persistence;
+        }
+
+        @Override
+        public FHIRPersistence getFHIRPersistenceImplementation() {
+            count.incrementAndGet();
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return persistence;
+        }
+
+        @Override
+        public FHIRPersistence getFHIRPersistenceImplementation(String factoryPropertyName) {
+            return getFHIRPersistenceImplementation();
+        }
+    }
+
+    /**
+     * A persistence implementation whose searches find the profile when searching by its url, and one profile per
+     * page when searching without parameters. Like a search without a total count, each page only moves the last
+     * page number past itself when there is a next page.
+     */
+    private static class ProfilePersistence implements FHIRPersistence {
+        private final int numOfPages;
+
+        private ProfilePersistence(int numOfPages) {
+            this.numOfPages = numOfPages;
+        }
+
+        @Override
+        public MultiResourceResult<Resource> search(FHIRPersistenceContext context, Class<? extends Resource> resourceType) {
+            int pageNumber = context.getSearchContext().getPageNumber();
+            List<Resource> resources;
+            if (context.getSearchContext().getSearchParameters().isEmpty()) {
+                resources = Collections.singletonList(pageNumber == 1 ? PROFILE : PROFILE.toBuilder()
+                        .id("my-profile-" + pageNumber)
+                        .url(Uri.of(PROFILE_URL + "-" + pageNumber))
+                        .build());
+            } else {
+                boolean found = context.getSearchContext().getSearchParameters().get(0).getValues().get(0).getValueString().equals(PROFILE_URL);
+                resources = found ? Collections.singletonList(PROFILE) : Collections.emptyList();
+            }
+            context.getSearchContext().setLastPageNumber(pageNumber < numOfPages ? pageNumber + 1 : pageNumber);
+            return MultiResourceResult.builder(Resource.class)
+                    .success(true)
+                    .resource(resources)
+                    .build();
+        }
+
+        @Override
+        public FHIRPersistenceTransaction getTransaction() {
+            return new FHIRPersistenceTransaction() {
+                @Override
+                public void begin() { }
+
+                @Override
+                public void end() { }
+
+                @Override
+                public void setRollbackOnly() { }
+            };
+        }
+
+        @Override
+        public <T extends Resource> SingleResourceResult<T> create(FHIRPersistenceContext context, T resource) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Resource> SingleResourceResult<T> read(FHIRPersistenceContext context, Class<T> resourceType, String logicalId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Resource> SingleResourceResult<T> vread(FHIRPersistenceContext context, Class<T> resourceType, String logicalId, String versionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Resource> SingleResourceResult<T> update(FHIRPersistenceContext context, String logicalId, T resource) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Resource> MultiResourceResult<T> history(FHIRPersistenceContext context, Class<T> resourceType, String logicalId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isTransactional() {
+            return false;
+        }
+
+        @Override
+        public OperationOutcome getHealth() {
+            return null;
+        }
+    }
+}
@@ -13,15 +13,18 @@ import static com.ibm.fhir.term.util.CodeSystemSupport.findConcept;
 import static com.ibm.fhir.term.util.CodeSystemSupport.getCodeSystem;
 import static com.ibm.fhir.term.util.CodeSystemSupport.getConcepts;
 import static com.ibm.fhir.term.util.CodeSystemSupport.isCaseSensitive;
-import static com.ibm.fhir.term.util.ValueSetSupport.getContains;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -33,8 +36,6 @@ import com.ibm.fhir.model.resource.ConceptMap.Group;
 import com.ibm.fhir.model.resource.ConceptMap.Group.Element;
 import com.ibm.fhir.model.resource.ConceptMap.Group.Element.Target;
 import com.ibm.fhir.model.resource.ValueSet;
-import com.ibm.fhir.model.resource.ValueSet.Expansion;
-import com.ibm.fhir.model.resource.ValueSet.Expansion.Contains;
 import com.ibm.fhir.model.type.Boolean;
 import com.ibm.fhir.model.type.Code;
 import com.ibm.fhir.model.type.CodeableConcept;
@@ -53,6 +54,7 @@ import com.ibm.fhir.term.spi.TranslationOutcome.Match;
 import com.ibm.fhir.term.spi.TranslationParameters;
 import com.ibm.fhir.term.spi.ValidationOutcome;
 import com.ibm.fhir.term.spi.ValidationParameters;
+import com.ibm.fhir.term.util.CodeSetIndex;
 import com.ibm.fhir.term.util.ValueSetSupport;
 
 /**
@@ -61,8 +63,8 @@ import com.ibm.fhir.term.util.ValueSetSupport;
 public class DefaultTermServiceProvider implements FHIRTermServiceProvider {
     private static final Logger log = Logger.getLogger(DefaultTermServiceProvider.class.getName());
 
-    private static final String VERSION_UNKNOWN = "<version unknown>";
-    private static final Map<String, Map<String, Set<String>>> CODE_SET_MAP_CACHE = createLRUCache(1024);
+    private static final Map<String, CodeSetIndex> CODE_SET_INDEX_CACHE = createLRUCache(1024);
+    private static final Map<String, CodeSetIndex> CODE_SET_INDEX_MAP = new ConcurrentHashMap<>();
 
     @Override
     public boolean isExpandable(ValueSet valueSet) {
@@ -193,16 +195,16 @@ public class DefaultTermServiceProvider implements FHIRTermServiceProvider {
 
     @Override
     public ValidationOutcome validateCode(ValueSet valueSet, Coding coding, ValidationParameters parameters) {
-        boolean result = validateCode(getCodeSetMap(valueSet), coding);
+        boolean result = validateCode(getCodeSetIndex(valueSet), coding);
         LookupOutcome outcome = result ? lookup(coding) : null;
         return validateCode(coding, result, outcome);
     }
 
     @Override
     public ValidationOutcome validateCode(ValueSet valueSet, CodeableConcept codeableConcept, ValidationParameters parameters) {
-        Map<String, Set<String>> codeSetMap = getCodeSetMap(valueSet);
+        CodeSetIndex codeSetIndex = getCodeSetIndex(valueSet);
         for (Coding coding : codeableConcept.getCoding()) {
-            boolean result = validateCode(codeSetMap, coding);
+            boolean result = validateCode(codeSetIndex, coding);
             if (result) {
                 LookupOutcome outcome = lookup(coding);
                 return validateCode(coding, result, outcome);
@@ -294,107 +296,78 @@ public class DefaultTermServiceProvider implements FHIRTermServiceProvider {
                 .build();
     }
 
-    private boolean validateCode(Map<String, Set<String>> codeSetMap, Coding coding) {
+    private boolean validateCode(CodeSetIndex codeSetIndex, Coding coding) {
         String system = (coding.getSystem() != null) ? coding.getSystem().getValue() : null;
         String version = (coding.getVersion() != null) ? coding.getVersion().getValue() : null;
         String code = (coding.getCode() != null) ? coding.getCode().getValue() : null;
-        return validateCode(codeSetMap, system, version, code);
+        return codeSetIndex.contains(system, version, code);
     }
 
     /**
-     * Determine whether the provided code is in the codeSet associated with the provided system and version.
+     * Add the index of a value set, which is used instead of the expansion of the value set with the same url and
+     * version for membership checks.
      *
-     * <p>If the system and version are non-null, then they are concatenated to form a key into the codeSetMap. If
-     * not found, then the system is concatenated with the "VERSION_UNKNOWN" constant (in cases where the expanded
-     * value set did not have a version available during the expansion). If only the system is non-null, then the
-     * codeSetMap keys are checked for startsWith(system). Finally, if both system and version are null, map keys
-     * are ignored and the values of the map are checked directly.
+     * @param codeSetIndex
+     *     the index, built from a value set with a url and a version
+     */
+    public static void addCodeSetIndex(CodeSetIndex codeSetIndex) {
+        if (codeSetIndex.getUrl() == null) {
+            throw new IllegalArgumentException("The code set index has no value set url and version");
+        }
+        CODE_SET_INDEX_MAP.put(codeSetIndex.getUrl(), codeSetIndex);
+    }
+
+    /**
+     * Read the code set indexes (files with the extension ".idx") of a directory and add them with
+     * {@link #addCodeSetIndex(CodeSetIndex)}.
      *
-     * @param codeSetMap
-     *     the code set map
-     * @param system
-     *     the system of the focal coded element (can be null)
-     * @param version
-     *     the version of the focal coded element (can be null)
-     * @param code
-     *     the code used in the membership check
+     * @param directory
+     *     the directory
      * @return
-     *     true if a codeSet is found and the provided code is a member of that codeSet, false otherwise
+     *     the number of indexes added
+     * @throws IOException
+     *     if the directory or one of the indexes cannot be read
      */
-    private boolean validateCode(Map<String, Set<String>> codeSetMap, String system, String version, String code) {
-        if (code == null) {
-            return false;
-        }
-        if (system != null) {
-            String url = (version != null) ? system + "|" + version : system;
-            if (!isCaseSensitive(url)) {
-                code = code.toLowerCase();
-            }
-        }
-        if (system != null && version != null) {
-            Set<String> codeSet = codeSetMap.get(system + "|" + version);
-            if (codeSet != null) {
-                if (codeSet.contains(code)) {
-                    return true;
-                } else {
-                    codeSet = codeSetMap.get(system + "|" + VERSION_UNKNOWN);
-                    if (codeSet != null) {
-                        return codeSet.contains(code);
-                    }
-                }
-            }
-        } else if (system != null) {
-            String prefix = system + "|";
-            for (String key : codeSetMap.keySet()) {
-                if (key.startsWith(prefix)) {
-                    return codeSetMap.get(key).contains(code);
-                }
-            }
-        } else {
-            for (Set<String> codeSet : codeSetMap.values()) {
-                if (codeSet.contains(code) || codeSet.contains(code.toLowerCase())) {
-                    return true;
+    public static int loadCodeSetIndexes(Path directory) throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.idx")) {
+            for (Path path : stream) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    CodeSetIndex codeSetIndex = CodeSetIndex.read(in);
+                    addCodeSetIndex(codeSetIndex);
+                    log.fine("Loaded code set index for value set: " + codeSetIndex.getUrl() + " from: " + path);
+                    count++;
                 }
             }
         }
-        return false;
+        return count;
     }
 
-    private Map<String, Set<String>> getCodeSetMap(ValueSet valueSet) {
+    private CodeSetIndex getCodeSetIndex(ValueSet valueSet) {
         if (valueSet.getUrl() == null || valueSet.getVersion() == null) {
-            return computeCodeSetMap(valueSet);
+            return computeCodeSetIndex(valueSet);
         }
         String url = valueSet.getUrl().getValue() + "|" + valueSet.getVersion().getValue();
-        return CODE_SET_MAP_CACHE.computeIfAbsent(url, k -> computeCodeSetMap(valueSet));
+        CodeSetIndex codeSetIndex = CODE_SET_INDEX_MAP.get(url);
+        if (codeSetIndex != null) {
+            return codeSetIndex;
+        }
+        return CODE_SET_INDEX_CACHE.computeIfAbsent(url, k -> computeCodeSetIndex(valueSet));
     }
 
-    private Map<String, Set<String>> computeCodeSetMap(ValueSet valueSet) {
+    private CodeSetIndex computeCodeSetIndex(ValueSet valueSet) {
         try {
             ValueSet expanded = expand(valueSet);
-            if (expanded == null || expanded.getExpansion() == null) {
-                return Collections.emptyMap();
-            }
-            Map<String, Set<String>> codeSetMap = new LinkedHashMap<>();
-            Expansion expansion = expanded.getExpansion();
-            for (Contains contains : getContains(expansion)) {
-                String system = (contains.getSystem() != null) ? contains.getSystem().getValue() : null;
-                String version = (contains.getVersion() != null && contains.getVersion().getValue() != null) ? contains.getVersion().getValue() : VERSION_UNKNOWN;
-                String code = (contains.getCode() != null) ? contains.getCode().getValue() : null;
-                if (system != null && code != null) {
-                    String url = !VERSION_UNKNOWN.equals(version) ? system + "|" + version : system;
-                    if (!isCaseSensitive(url)) {
-                        code = code.toLowerCase();
-                    }
-                    codeSetMap.computeIfAbsent(system + "|" + version, k -> new LinkedHashSet<>()).add(code);
-                }
+            if (expanded == null) {
+                return CodeSetIndex.EMPTY;
             }
-            return codeSetMap;
+            return CodeSetIndex.build(expanded);
         } catch (Exception e) {
             String url = (valueSet.getUrl() != null) ? valueSet.getUrl().getValue() : "<no url>";
             String version = (valueSet.getVersion() != null) ? valueSet.getVersion().getValue() : "<no version>";
             log.log(Level.WARNING, String.format("Unable to expand value set with url: %s and version: %s", url, version), e);
         }
-        return Collections.emptyMap();
+        return CodeSetIndex.EMPTY;
     }
 
     private Uri getSource(ConceptMap conceptMap) {
@@ -0,0 +1,348 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.term.util;
+
+import static com.ibm.fhir.term.util.CodeSystemSupport.isCaseSensitive;
+import static com.ibm.fhir.term.util.ValueSetSupport.getContains;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ibm.fhir.model.resource.ValueSet;
+import com.ibm.fhir.model.resource.ValueSet.Expansion.Contains;
+
+/**
+ * An immutable index of the codes in the expansion of a value set, grouped by code system and version, which is used
+ * for membership checks.
+ *
+ * <p>The codes of a case insensitive code system are stored in lower case. An index can be written to a stream with
+ * {@link #write(OutputStream)} and read back with {@link #read(InputStream)}, so that the index of a large value set
+ * doesn't have to be computed from its expansion after each restart.
+ */
+public final class CodeSetIndex {
+    public static final CodeSetIndex EMPTY = new CodeSetIndex(null, Collections.emptyMap());
+
+    private static final String VERSION_UNKNOWN = "<version unknown>";
+    private static final int MAGIC = 0x43534958;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String url;
+    private final Map<String, SystemEntry> systemMap;
+    private final int size;
+
+    private CodeSetIndex(String url, Map<String, SystemEntry> systemMap) {
+        this.url = url;
+        this.systemMap = systemMap;
+        int size = 0;
+        for (SystemEntry entry : systemMap.values()) {
+            for (CodeSet codeSet : entry.codeSets) {
+                size += codeSet.size;
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return the url and version of the value set ("url|version"), or null if the value set has no url or no version
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return the number of codes in the index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determine whether the provided code is in the code set associated with the provided system and version.
+     *
+     * <p>If the system and version are non-null, then the code set of that system and version is checked and, if
+     * it doesn't contain the code, the code set of that system with an unknown version (in cases where the expanded
+     * value set did not have a version available during the expansion). If only the system is non-null, then the
+     * first code set of that system is checked. Finally, if both system and version are null, all the code sets are
+     * checked.
+     *
+     * @param system
+     *     the system of the focal coded element (can be null)
+     * @param version
+     *     the version of the focal coded element (can be null)
+     * @param code
+     *     the code used in the membership check
+     * @return
+     *     true if a code set is found and the provided code is a member of that code set, false otherwise
+     */
+    public boolean contains(String system, String version, String code) {
+        if (code == null) {
+            return false;
+        }
+        if (system != null) {
+            SystemEntry entry = systemMap.get(system);
+            if (entry == null) {
+                return false;
+            }
+            if (version != null) {
+                CodeSet codeSet = entry.get(version);
+                if (codeSet != null) {
+                    if (codeSet.contains(code)) {
+                        return true;
+                    }
+                    codeSet = entry.get(VERSION_UNKNOWN);
+                    if (codeSet != null) {
+                        return codeSet.contains(code);
+                    }
+                }
+                return false;
+            }
+            return entry.codeSets[0].contains(code);
+        }
+        String lowerCaseCode = code.toLowerCase();
+        for (SystemEntry entry : systemMap.values()) {
+            for (CodeSet codeSet : entry.codeSets) {
+                if (codeSet.table.contains(code) || codeSet.table.contains(lowerCaseCode)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build the index of an expanded value set
+     *
+     * @param expanded
+     *     the expanded value set
+     * @return
+     *     the index, which is empty if the value set has no expansion
+     */
+    public static CodeSetIndex build(ValueSet expanded) {
+        if (expanded.getExpansion() == null) {
+            return EMPTY;
+        }
+        Map<String, Map<String, Set<String>>> codeSetMap = new LinkedHashMap<>();
+        Map<String, Boolean> caseSensitivityMap = new HashMap<>();
+        for (Contains contains : getContains(expanded.getExpansion())) {
+            String system = (contains.getSystem() != null) ? contains.getSystem().getValue() : null;
+            String version = (contains.getVersion() != null && contains.getVersion().getValue() != null) ? contains.getVersion().getValue() : VERSION_UNKNOWN;
+            String code = (contains.getCode() != null) ? contains.getCode().getValue() : null;
+            if (system != null && code != null) {
+                String url = !VERSION_UNKNOWN.equals(version) ? system + "|" + version : system;
+                if (!caseSensitivityMap.computeIfAbsent(url, k -> isCaseSensitive(url))) {
+                    code = code.toLowerCase();
+                }
+                codeSetMap.computeIfAbsent(system, k -> new LinkedHashMap<>()).computeIfAbsent(version, k -> new LinkedHashSet<>()).add(code);
+            }
+        }
+        Map<String, SystemEntry> systemMap = new HashMap<>();
+        for (Map.Entry<String, Map<String, Set<String>>> systemEntry : codeSetMap.entrySet()) {
+            String system = systemEntry.getKey();
+            List<String> versions = new ArrayList<>();
+            List<CodeSet> codeSets = new ArrayList<>();
+            for (Map.Entry<String, Set<String>> versionEntry : systemEntry.getValue().entrySet()) {
+                String version = versionEntry.getKey();
+                String url = !VERSION_UNKNOWN.equals(version) ? system + "|" + version : system;
+                versions.add(version);
+                codeSets.add(new CodeSet(caseSensitivityMap.get(url), versionEntry.getValue()));
+            }
+            systemMap.put(system.intern(), new SystemEntry(versions, codeSets));
+        }
+        return new CodeSetIndex(getUrl(expanded), Collections.unmodifiableMap(systemMap));
+    }
+
+    /**
+     * Write the index to an output stream
+     *
+     * @param out
+     *     the output stream, which is not closed
+     * @throws IOException
+     *     if an I/O error occurs
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeBoolean(url != null);
+        if (url != null) {
+            dataOut.writeUTF(url);
+        }
+        dataOut.writeInt(systemMap.size());
+        for (Map.Entry<String, SystemEntry> systemEntry : systemMap.entrySet()) {
+            SystemEntry entry = systemEntry.getValue();
+            dataOut.writeUTF(systemEntry.getKey());
+            dataOut.writeInt(entry.versions.length);
+            for (int i = 0; i < entry.versions.length; i++) {
+                CodeSet codeSet = entry.codeSets[i];
+                dataOut.writeUTF(entry.versions[i]);
+                dataOut.writeBoolean(codeSet.caseSensitive);
+                dataOut.writeInt(codeSet.size);
+                for (String code : codeSet.table.codes) {
+                    if (code != null) {
+                        dataOut.writeUTF(code);
+                    }
+                }
+            }
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Read an index written by {@link #write(OutputStream)} from an input stream
+     *
+     * @param in
+     *     the input stream, which is not closed
+     * @return
+     *     the index
+     * @throws IOException
+     *     if an I/O error occurs or the stream doesn't contain an index
+     */
+    public static CodeSetIndex read(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("The input is not a code set index");
+        }
+        int formatVersion = dataIn.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported code set index format version: " + formatVersion);
+        }
+        String url = dataIn.readBoolean() ? dataIn.readUTF() : null;
+        int systemCount = dataIn.readInt();
+        Map<String, SystemEntry> systemMap = new HashMap<>();
+        for (int i = 0; i < systemCount; i++) {
+            String system = dataIn.readUTF();
+            int versionCount = dataIn.readInt();
+            List<String> versions = new ArrayList<>(versionCount);
+            List<CodeSet> codeSets = new ArrayList<>(versionCount);
+            for (int j = 0; j < versionCount; j++) {
+                versions.add(dataIn.readUTF());
+                boolean caseSensitive = dataIn.readBoolean();
+                int codeCount = dataIn.readInt();
+                List<String> codes = new ArrayList<>(codeCount);
+                for (int k = 0; k < codeCount; k++) {
+                    codes.add(dataIn.readUTF());
+                }
+                codeSets.add(new CodeSet(caseSensitive, codes));
+            }
+            systemMap.put(system.intern(), new SystemEntry(versions, codeSets));
+        }
+        return new CodeSetIndex(url, Collections.unmodifiableMap(systemMap));
+    }
+
+    private static String getUrl(ValueSet valueSet) {
+        if (valueSet.getUrl() == null || valueSet.getVersion() == null) {
+            return null;
+        }
+        return valueSet.getUrl().getValue() + "|" + valueSet.getVersion().getValue();
+    }
+
+    /**
+     * The code sets of a code system, in the order of their first code in the expansion
+     */
+    private static class SystemEntry {
+        private final String[] versions;
+        private final CodeSet[] codeSets;
+
+        private SystemEntry(List<String> versions, List<CodeSet> codeSets) {
+            this.versions = new String[versions.size()];
+            for (int i = 0; i < this.versions.length; i++) {
+                this.versions[i] = versions.get(i).intern();
+            }
+            this.codeSets = codeSets.toArray(new CodeSet[codeSets.size()]);
+        }
+
+        private CodeSet get(String version) {
+            for (int i = 0; i < versions.length; i++) {
+                if (versions[i].equals(version)) {
+                    return codeSets[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class CodeSet {
+        private final boolean caseSensitive;
+        private final int size;
+        private final CodeTable table;
+
+        private CodeSet(boolean caseSensitive, Collection<String> codes) {
+            this.caseSensitive = caseSensitive;
+            this.table = new CodeTable(codes);
+            this.size = table.size;
+        }
+
+        private boolean contains(String code) {
+            return table.contains(caseSensitive ? code : code.toLowerCase());
+        }
+    }
+
+    /**
+     * An open addressing hash set of codes with linear probing, which holds the codes in a single array
+     */
+    private static class CodeTable {
+        private final String[] codes;
+        private final int size;
+
+        private CodeTable(Collection<String> codes) {
+            int capacity = Integer.highestOneBit(Math.max(2, codes.size()) * 2 - 1) << 1;
+            this.codes = new String[capacity];
+            int size = 0;
+            for (String code : codes) {
+                if (add(code)) {
+                    size++;
+                }
+            }
+            this.size = size;
+        }
+
+        private boolean add(String code) {
+            int mask = codes.length - 1;
+            for (int i = hash(code) & mask; ; i = (i + 1) & mask) {
+                if (codes[i] == null) {
+                    codes[i] = code;
+                    return true;
+                }
+                if (codes[i].equals(code)) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean contains(String code) {
+            int mask = codes.length - 1;
+            for (int i = hash(code) & mask; ; i = (i + 1) & mask) {
+                String c = codes[i];
+                if (c == null) {
+                    return false;
+                }
+                if (c.equals(code)) {
+                    return true;
+                }
+            }
+        }
+
+        private static int hash(String code) {
+            int h = code.hashCode();
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.term.util.test;
+
+import static com.ibm.fhir.term.util.ValueSetSupport.expand;
+import static com.ibm.fhir.term.util.ValueSetSupport.getValueSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.term.util.CodeSetIndex;
+
+public class CodeSetIndexTest {
+    private static final String CS1 = "http://ibm.com/fhir/CodeSystem/cs1";
+    private static final String CS2 = "http://ibm.com/fhir/CodeSystem/cs2";
+
+    @Test
+    public void testBuild() throws Exception {
+        CodeSetIndex index = CodeSetIndex.build(expand(getValueSet("http://ibm.com/fhir/ValueSet/vs2|1.0.0")));
+        assertEquals(index.getUrl(), "http://ibm.com/fhir/ValueSet/vs2|1.0.0");
+        assertEquals(index.size(), 5);
+        checkMembership(index);
+    }
+
+    @Test
+    public void testWriteRead() throws Exception {
+        CodeSetIndex index = CodeSetIndex.build(expand(getValueSet("http://ibm.com/fhir/ValueSet/vs2|1.0.0")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+
+        CodeSetIndex read = CodeSetIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(read.getUrl(), index.getUrl());
+        assertEquals(read.size(), index.size());
+        checkMembership(read);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testReadInvalid() throws Exception {
+        CodeSetIndex.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertNull(CodeSetIndex.EMPTY.getUrl());
+        assertEquals(CodeSetIndex.EMPTY.size(), 0);
+        assertFalse(CodeSetIndex.EMPTY.contains(CS1, null, "a"));
+        assertFalse(CodeSetIndex.EMPTY.contains(null, null, "a"));
+    }
+
+    private void checkMembership(CodeSetIndex index) {
+        // cs1 is case sensitive
+        assertTrue(index.contains(CS1, "1.0.0", "a"));
+        assertTrue(index.contains(CS1, null, "c"));
+        assertFalse(index.contains(CS1, "1.0.0", "A"));
+        assertFalse(index.contains(CS1, "2.0.0", "a"));
+
+        // cs2 is case insensitive, and 'f' is excluded
+        assertTrue(index.contains(CS2, "1.0.0", "d"));
+        assertTrue(index.contains(CS2, "1.0.0", "E"));
+        assertTrue(index.contains(CS2, null, "D"));
+        assertFalse(index.contains(CS2, "1.0.0", "f"));
+
+        assertTrue(index.contains(null, null, "b"));
+        assertTrue(index.contains(null, null, "E"));
+        assertFalse(index.contains(null, null, "x"));
+        assertFalse(index.contains("http://example.com/CodeSystem/unknown", null, "a"));
+        assertFalse(index.contains(CS1, "1.0.0", null));
+    }
+}
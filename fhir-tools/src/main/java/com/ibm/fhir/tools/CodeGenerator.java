@@ -57,6 +57,7 @@ public class CodeGenerator {
     private final List<String> integerSubtypeClassNames = new ArrayList<>();
     private final List<String> uriSubtypeClassNames = new ArrayList<>();
     private final Map<String, String> superClassMap = new HashMap<>();
+    private final Map<String, List<String>> modelMetadataMap = new HashMap<>();
     private final Map<String, JsonObject> modifierExtensionDefinitionMap = new HashMap<>();
     private static final List<String> DATA_TYPE_NAMES = Arrays.asList(
         "Base64Binary",
@@ -262,6 +263,7 @@ public class CodeGenerator {
         generateJsonParser(basePath);
         generateXMLParser(basePath);
         generateModelClassesFile(basePath);
+        generateModelMetadataClass(basePath);
         generateCodeSubtypeClass("ConceptSubsumptionOutcome", "http://hl7.org/fhir/ValueSet/concept-subsumption-outcome", basePath);
         generateCodeSubtypeClass("DataAbsentReason", "http://hl7.org/fhir/ValueSet/data-absent-reason", basePath);
     }
@@ -275,21 +277,7 @@ public class CodeGenerator {
 
         List<String> qualifiedClassNames = new ArrayList<>();
         for (String generatedClassName : generatedClassNames) {
-            String packageName;
-            if (generatedClassName.contains(".")) {
-                // nested class
-                String enclosingClassName = generatedClassName.substring(0, generatedClassName.indexOf("."));
-                packageName = typeClassNames.contains(enclosingClassName) ?
-                        "com.ibm.fhir.model.type" :
-                        "com.ibm.fhir.model.resource";
-            } else {
-                packageName = typeClassNames.contains(generatedClassName) ?
-                        "com.ibm.fhir.model.type" :
-                        "com.ibm.fhir.model.resource";
-            }
-            String className = generatedClassName.replace(".", "$");
-            String qualifiedClassName = packageName + "." + className;
-            qualifiedClassNames.add(qualifiedClassName);
+            qualifiedClassNames.add(getQualifiedClassName(generatedClassName));
         }
 
         Collections.sort(qualifiedClassNames);
@@ -302,6 +290,132 @@ public class CodeGenerator {
         }
     }
 
+    /**
+     * Generates the table of the elements declared by each model class, which ModelSupport uses instead of
+     * reflecting over the fields and annotations of the model classes at startup.
+     */
+    private void generateModelMetadataClass(String basePath) {
+        CodeBuilder cb = new CodeBuilder();
+
+        String packageName = "com.ibm.fhir.model.util";
+        cb.lines(HEADER).newLine();
+        cb._package(packageName).newLine();
+
+        cb._importstatic("com.ibm.fhir.model.util.ModelSupport.MetadataRegistry", "BINDING");
+        cb._importstatic("com.ibm.fhir.model.util.ModelSupport.MetadataRegistry", "REPEATING");
+        cb._importstatic("com.ibm.fhir.model.util.ModelSupport.MetadataRegistry", "REQUIRED");
+        cb._importstatic("com.ibm.fhir.model.util.ModelSupport.MetadataRegistry", "SUMMARY");
+        cb.newLine();
+
+        cb._import("java.math.BigDecimal");
+        cb._import("java.time.LocalTime");
+        cb._import("java.time.ZonedDateTime");
+        cb._import("java.time.temporal.TemporalAccessor");
+        cb.newLine();
+
+        cb._import("javax.annotation.Generated");
+        cb.newLine();
+
+        cb._import("com.ibm.fhir.model.resource.*");
+        cb._import("com.ibm.fhir.model.type.*");
+        cb._import("com.ibm.fhir.model.type.Boolean");
+        cb._import("com.ibm.fhir.model.type.Integer");
+        cb._import("com.ibm.fhir.model.type.String");
+        cb._import("com.ibm.fhir.model.type.code.*");
+        cb.newLine();
+
+        cb.javadocStart();
+        cb.javadoc("The elements declared by each model class, in declaration order.");
+        cb.javadocEnd();
+        cb.annotation("Generated", quote("com.ibm.fhir.tools.CodeGenerator"));
+        cb._class(mods("final"), "ModelMetadata");
+
+        cb.constructor(mods("private"), "ModelMetadata").end().newLine();
+
+        List<String> qualifiedClassNames = new ArrayList<>();
+        Map<String, String> classNameMap = new HashMap<>();
+        for (String generatedClassName : generatedClassNames) {
+            String qualifiedClassName = getQualifiedClassName(generatedClassName);
+            qualifiedClassNames.add(qualifiedClassName);
+            classNameMap.put(qualifiedClassName, generatedClassName);
+        }
+        Collections.sort(qualifiedClassNames);
+
+        cb.javadocStart();
+        cb.javadoc("Passes the elements declared by each model class to the registry.");
+        cb.javadocEnd();
+        cb.method(mods("static"), "void", "register", params("ModelSupport.MetadataRegistry registry"));
+        for (String qualifiedClassName : qualifiedClassNames) {
+            cb.invoke(getModelMetadataMethodName(classNameMap.get(qualifiedClassName)), args("registry"));
+        }
+        cb.end();
+
+        for (String qualifiedClassName : qualifiedClassNames) {
+            String generatedClassName = classNameMap.get(qualifiedClassName);
+            cb.newLine();
+            cb.method(mods("private", "static"), "void", getModelMetadataMethodName(generatedClassName), params("ModelSupport.MetadataRegistry registry"));
+            cb.invoke("registry", "modelClass", args(generatedClassName + ".class"));
+            for (String statement : modelMetadataMap.getOrDefault(generatedClassName, Collections.emptyList())) {
+                cb.statement("registry.%s", statement);
+            }
+            cb.end();
+        }
+
+        cb.end();
+
+        File file = new File(basePath + "/" + packageName.replace(".", "/") + "/ModelMetadata.java");
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(cb.toString());
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+
+    private String getModelMetadataMethodName(String generatedClassName) {
+        String methodName = camelCase(generatedClassName).replace(".", "");
+        if (SourceVersion.isKeyword(methodName)) {
+            methodName = "_" + methodName;
+        }
+        return methodName;
+    }
+
+    private String getModelMetadataStatement(JsonObject elementDefinition, String elementName, String fieldType, List<String> flags,
+            String choiceTypes, String referenceTypes) {
+        String flagsExpr = flags.isEmpty() ? "0" : String.join(" | ", flags);
+        if (choiceTypes != null) {
+            return "choiceElement(" + quote(elementName) + ", " + flagsExpr + ", " + choiceTypes + ")";
+        }
+        if (referenceTypes != null) {
+            return "referenceElement(" + quote(elementName) + ", " + flagsExpr + ", " + referenceTypes + ")";
+        }
+        String type = fieldType.startsWith("List<") ? fieldType.substring("List<".length(), fieldType.length() - 1) : fieldType;
+        if (!hasContentReference(elementDefinition) && (getTypes(elementDefinition).isEmpty() || isBackboneElement(elementDefinition))) {
+            // The simple name of a nested class is only in scope within its enclosing class
+            type = getNestedClassName(elementDefinition.getString("path"));
+        }
+        return "element(" + quote(elementName) + ", " + type + ".class, " + flagsExpr + ")";
+    }
+
+    private String getNestedClassName(String path) {
+        return Arrays.asList(path.split("\\.")).stream().map(s -> titleCase(s)).collect(Collectors.joining("."));
+    }
+
+    private String getQualifiedClassName(String generatedClassName) {
+        String packageName;
+        if (generatedClassName.contains(".")) {
+            // nested class
+            String enclosingClassName = generatedClassName.substring(0, generatedClassName.indexOf("."));
+            packageName = typeClassNames.contains(enclosingClassName) ?
+                    "com.ibm.fhir.model.type" :
+                    "com.ibm.fhir.model.resource";
+        } else {
+            packageName = typeClassNames.contains(generatedClassName) ?
+                    "com.ibm.fhir.model.type" :
+                    "com.ibm.fhir.model.resource";
+        }
+        return packageName + "." + generatedClassName.replace(".", "$");
+    }
+
     private void generateDefaultVisitorClass(String basePath) {
         CodeBuilder cb = new CodeBuilder();
 
@@ -888,10 +1002,12 @@ public class CodeGenerator {
             cb.javadoc(Arrays.asList(getElementDefinition(structureDefinition, path).getString("definition").split(System.lineSeparator())));
 
             String className = nested ? titleCase(path.substring(path.lastIndexOf(".") + 1)) : titleCase(structureDefinition.getString("name"));
+            String generatedClassName = className;
             if (nested) {
-                String nestedClassName = Arrays.asList(path.split("\\.")).stream().map(s -> titleCase(s)).collect(Collectors.joining("."));
+                String nestedClassName = getNestedClassName(path);
                 generatedClassNames.add(nestedClassName);
                 superClassMap.put(nestedClassName, "BackboneElement");
+                generatedClassName = nestedClassName;
             } else {
                 generatedClassNames.add(className);
                 if (isPrimitiveType(structureDefinition)) {
@@ -971,30 +1087,44 @@ public class CodeGenerator {
 
             String visibility = nested ? "private" : visibility(structureDefinition);
 
+            List<String> modelMetadata = new ArrayList<>();
+            modelMetadataMap.put(generatedClassName, modelMetadata);
+
             int fieldCount = 0;
             for (JsonObject elementDefinition : elementDefinitions) {
                 String basePath = elementDefinition.getJsonObject("base").getString("path");
                 if (elementDefinition.getString("path").equals(basePath)) {
                     String fieldName = getFieldName(elementDefinition, path);
                     String fieldType = getFieldType(structureDefinition, elementDefinition);
+                    List<String> flags = new ArrayList<>();
                     if (isSummary(elementDefinition)) {
                         cb.annotation("Summary");
+                        flags.add("SUMMARY");
                     }
+                    String choiceTypes = null;
                     if (isChoiceElement(elementDefinition)) {
-                        String types = getChoiceTypeNames(elementDefinition).stream().map(s -> s + ".class").collect(Collectors.joining(", "));
-                        cb.annotation("Choice", "{ " + types + " }");
+                        choiceTypes = getChoiceTypeNames(elementDefinition).stream().map(s -> s + ".class").collect(Collectors.joining(", "));
+                        cb.annotation("Choice", "{ " + choiceTypes + " }");
                     }
+                    String referenceTypes = null;
                     if (isReferenceElement(structureDefinition, elementDefinition)) {
-                        List<String> referenceTypes = getReferenceTypes(elementDefinition);
-                        if (!referenceTypes.isEmpty()) {
-                            String referenceTypesString = getReferenceTypes(elementDefinition).stream().collect(Collectors.joining("\", \""));
-                            cb.annotation("ReferenceTarget", "{ \"" + referenceTypesString + "\" }");
+                        List<String> referenceTypeList = getReferenceTypes(elementDefinition);
+                        if (!referenceTypeList.isEmpty()) {
+                            referenceTypes = "\"" + referenceTypeList.stream().collect(Collectors.joining("\", \"")) + "\"";
+                            cb.annotation("ReferenceTarget", "{ " + referenceTypes + " }");
                         }
                     }
-                    generateBindingAnnotation(structureDefinition, cb, className, elementDefinition);
+                    if (generateBindingAnnotation(structureDefinition, cb, className, elementDefinition)) {
+                        flags.add("BINDING");
+                    }
                     if (isRequired(elementDefinition)) {
                         cb.annotation("Required");
+                        flags.add("REQUIRED");
                     }
+                    if (fieldType.startsWith("List<")) {
+                        flags.add("REPEATING");
+                    }
+                    modelMetadata.add(getModelMetadataStatement(elementDefinition, getElementName(elementDefinition, path), fieldType, flags, choiceTypes, referenceTypes));
                     cb.field(mods(visibility, "final"), fieldType, fieldName);
                     if (isBackboneElement(elementDefinition)) {
                         nestedPaths.add(elementDefinition.getString("path"));
@@ -1283,7 +1413,10 @@ public class CodeGenerator {
         return referenceTypes;
     }
 
-    private void generateBindingAnnotation(JsonObject structureDefinition, CodeBuilder cb, String className, JsonObject elementDefinition) {
+    /**
+     * @return true if a binding annotation was generated
+     */
+    private boolean generateBindingAnnotation(JsonObject structureDefinition, CodeBuilder cb, String className, JsonObject elementDefinition) {
         JsonObject binding = getBinding(elementDefinition);
         if (binding != null) {
             String bindingName = getBindingName(binding);
@@ -1328,8 +1461,10 @@ public class CodeGenerator {
                 }
 
                 cb.annotation(prefix + "Binding", valueMap);
+                return true;
             }
         }
+        return false;
     }
 
     @SuppressWarnings("unused")
@@ -2485,6 +2620,9 @@ public class CodeGenerator {
 
         // public <T extends Resource> T parseAndFilter(InputStream in, java.util.List<java.lang.String> elementsToInclude) throws FHIRException
         cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("InputStream in", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._if("getPropertyOrDefault(FHIRParser.PROPERTY_STREAMING, java.lang.Boolean.FALSE, java.lang.Boolean.class)")
+                ._return("streamingParser().parseAndFilter(in, elementsToInclude)")
+            ._end()
             ._try("JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingInputStream(in), StandardCharsets.UTF_8)")
                 .assign("JsonObject jsonObject", "jsonReader.readObject()")
                 ._return("parseAndFilter(jsonObject, elementsToInclude)")
@@ -2505,6 +2643,9 @@ public class CodeGenerator {
 
         // public <T extends Resource> T parseAndFilter(Reader reader, java.util.List<java.lang.String> elementsToInclude) throws FHIRException
         cb.method(mods("public"), "<T extends Resource> T", "parseAndFilter", params("Reader reader", "Collection<java.lang.String> elementsToInclude"), throwsExceptions("FHIRParserException"))
+            ._if("getPropertyOrDefault(FHIRParser.PROPERTY_STREAMING, java.lang.Boolean.FALSE, java.lang.Boolean.class)")
+                ._return("streamingParser().parseAndFilter(reader, elementsToInclude)")
+            ._end()
             ._try("JsonReader jsonReader = JSON_READER_FACTORY.createReader(nonClosingReader(reader))")
                 .assign("JsonObject jsonObject", "jsonReader.readObject()")
                 ._return("parseAndFilter(jsonObject, elementsToInclude)")
@@ -2543,11 +2684,19 @@ public class CodeGenerator {
         .end();
         cb.newLine();
 
+        cb.method(mods("private"), "FHIRJsonStreamingParser", "streamingParser")
+            ._return("new FHIRJsonStreamingParser(getPropertyOrDefault(FHIRParser.PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS, java.lang.Boolean.FALSE, java.lang.Boolean.class))")
+        .end();
+        cb.newLine();
+
         cb.override();
         cb.method(mods("public"), "boolean", "isPropertySupported", params("java.lang.String name"))
             ._if("FHIRParser.PROPERTY_IGNORE_UNRECOGNIZED_ELEMENTS.equals(name)")
                 ._return("true")
             ._end()
+            ._if("FHIRParser.PROPERTY_STREAMING.equals(name)")
+                ._return("true")
+            ._end()
             ._return("false")
         .end();
         cb.newLine();
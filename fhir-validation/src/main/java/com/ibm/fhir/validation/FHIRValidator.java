@@ -10,11 +10,8 @@ import static com.ibm.fhir.model.type.String.string;
 import static com.ibm.fhir.path.util.FHIRPathUtil.evaluatesToBoolean;
 import static com.ibm.fhir.path.util.FHIRPathUtil.isFalse;
 import static com.ibm.fhir.path.util.FHIRPathUtil.singleton;
-import static com.ibm.fhir.profile.ProfileSupport.createConstraint;
 import static com.ibm.fhir.validation.util.FHIRValidationUtil.ISSUE_COMPARATOR;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,21 +25,19 @@ import com.ibm.fhir.model.annotation.Constraint;
 import com.ibm.fhir.model.resource.DomainResource;
 import com.ibm.fhir.model.resource.OperationOutcome.Issue;
 import com.ibm.fhir.model.resource.Resource;
-import com.ibm.fhir.model.resource.StructureDefinition;
 import com.ibm.fhir.model.type.CodeableConcept;
 import com.ibm.fhir.model.type.Extension;
 import com.ibm.fhir.model.type.code.IssueSeverity;
 import com.ibm.fhir.model.type.code.IssueType;
-import com.ibm.fhir.model.util.ModelSupport;
 import com.ibm.fhir.path.FHIRPathElementNode;
 import com.ibm.fhir.path.FHIRPathNode;
 import com.ibm.fhir.path.FHIRPathResourceNode;
 import com.ibm.fhir.path.FHIRPathTree;
+import com.ibm.fhir.path.evaluator.CompiledFHIRPathExpression;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator;
 import com.ibm.fhir.path.evaluator.FHIRPathEvaluator.EvaluationContext;
 import com.ibm.fhir.path.visitor.FHIRPathDefaultNodeVisitor;
 import com.ibm.fhir.profile.ProfileSupport;
-import com.ibm.fhir.registry.FHIRRegistry;
 import com.ibm.fhir.validation.exception.FHIRValidationException;
 
 public class FHIRValidator {
@@ -168,7 +163,9 @@ public class FHIRValidator {
         }
         try {
             List<Issue> issues = new ArrayList<>();
-            validateProfileReferences(evaluationContext.getTree().getRoot().asResourceNode(), Arrays.asList(profiles), false, issues);
+            FHIRPathResourceNode resourceNode = evaluationContext.getTree().getRoot().asResourceNode();
+            ValidationPlan profilePlan = ValidationPlan.forProfiles(resourceNode.resource().getClass(), Arrays.asList(profiles));
+            validateProfileReferences(resourceNode, profilePlan, false, issues);
             issues.addAll(visitor.validate(evaluationContext, includeResourceAssertedProfiles, profiles));
             Collections.sort(issues, ISSUE_COMPARATOR);
             return Collections.unmodifiableList(issues);
@@ -193,8 +190,8 @@ public class FHIRValidator {
      *
      * @param resourceNode
      *     the resource node being validated by a FHIRValidator instance
-     * @param profiles
-     *     the list of profile references to validate
+     * @param profilePlan
+     *     the validation plan of the profile references to validate
      * @param resourceAsserted
      *     indicates whether the profile references came from the resource or were explicitly passed in as arguments
      * @param issues
@@ -202,17 +199,15 @@ public class FHIRValidator {
      */
     private static void validateProfileReferences(
             FHIRPathResourceNode resourceNode,
-            List<String> profiles,
+            ValidationPlan profilePlan,
             boolean resourceAsserted,
             List<Issue> issues) {
         Class<?> resourceType = resourceNode.resource().getClass();
-        for (String url : profiles) {
-            StructureDefinition profile = ProfileSupport.getProfile(url);
-            if (profile == null) {
-                issues.add(issue(resourceAsserted ? IssueSeverity.WARNING : IssueSeverity.ERROR, IssueType.NOT_SUPPORTED, "Profile '" + url + "' is not supported", resourceNode));
-            } else if (!ProfileSupport.isApplicable(profile, resourceType)) {
-                issues.add(issue(IssueSeverity.ERROR, IssueType.INVALID, "Profile '" + url + "' is not applicable to resource type: " + resourceType.getSimpleName(), resourceNode));
-            }
+        for (String url : profilePlan.getUnsupportedProfiles()) {
+            issues.add(issue(resourceAsserted ? IssueSeverity.WARNING : IssueSeverity.ERROR, IssueType.NOT_SUPPORTED, "Profile '" + url + "' is not supported", resourceNode));
+        }
+        for (String url : profilePlan.getInapplicableProfiles()) {
+            issues.add(issue(IssueSeverity.ERROR, IssueType.INVALID, "Profile '" + url + "' is not applicable to resource type: " + resourceType.getSimpleName(), resourceNode));
         }
     }
 
@@ -264,28 +259,17 @@ public class FHIRValidator {
          */
         private void validate(FHIRPathElementNode elementNode) {
             Class<?> elementType = elementNode.element().getClass();
-            Collection<Constraint> constraints = ModelSupport.getConstraints(elementType);
+            ValidationPlan plan;
             if (Extension.class.equals(elementType)) {
                 String url = elementNode.element().as(Extension.class).getUrl();
-                if (isAbsolute(url)) {
-                    if (FHIRRegistry.getInstance().hasResource(url, StructureDefinition.class)) {
-                        constraints = new ArrayList<>(constraints);
-                        constraints.add(createConstraint("generated-ext-1", Constraint.LEVEL_RULE, Constraint.LOCATION_BASE, "Extension must conform to definition '" + url + "'", "conformsTo('" + url + "')", false, true));
-                    } else {
-                        issues.add(issue(IssueSeverity.WARNING, IssueType.NOT_SUPPORTED, "Extension definition '" + url + "' is not supported", elementNode));
-                    }
+                plan = ValidationPlan.forExtension(url);
+                if (plan.isUnsupportedExtension()) {
+                    issues.add(issue(IssueSeverity.WARNING, IssueType.NOT_SUPPORTED, "Extension definition '" + url + "' is not supported", elementNode));
                 }
+            } else {
+                plan = ValidationPlan.forType(elementType);
             }
-            validate(elementType, elementNode, constraints);
-        }
-
-        private boolean isAbsolute(String url) {
-            try {
-                return new URI(url).isAbsolute();
-            } catch (URISyntaxException e) {
-                log.warning("Invalid URI: " + url);
-            }
-            return false;
+            validate(elementNode, plan);
         }
 
         /**
@@ -293,38 +277,34 @@ public class FHIRValidator {
          */
         private void validate(FHIRPathResourceNode resourceNode) {
             Class<?> resourceType = resourceNode.resource().getClass();
-            validate(resourceType, resourceNode, ModelSupport.getConstraints(resourceType));
+            validate(resourceNode, ValidationPlan.forType(resourceType));
             if (includeResourceAssertedProfiles) {
                 List<String> resourceAssertedProfiles = ProfileSupport.getResourceAssertedProfiles(resourceNode.resource());
-                validateProfileReferences(resourceNode, resourceAssertedProfiles, true, issues);
-                validate(resourceType, resourceNode, ProfileSupport.getConstraints(resourceAssertedProfiles, resourceType));
+                ValidationPlan profilePlan = ValidationPlan.forProfiles(resourceType, resourceAssertedProfiles);
+                validateProfileReferences(resourceNode, profilePlan, true, issues);
+                validate(resourceNode, profilePlan);
             }
             if (!profiles.isEmpty() && !resourceNode.path().contains(".")) {
-                validate(resourceType, resourceNode, ProfileSupport.getConstraints(profiles, resourceType));
+                validate(resourceNode, ValidationPlan.forProfiles(resourceType, profiles));
             }
         }
 
         /**
-         * @throws RuntimeException if one of the passed constraints cannot be evaluated for the passed node
+         * @throws RuntimeException if one of the constraints of the passed plan cannot be evaluated for the passed node
          */
-        private void validate(Class<?> type, FHIRPathNode node, Collection<Constraint> constraints) {
-            for (Constraint constraint : constraints) {
-                if (constraint.modelChecked()) {
-                    if (log.isLoggable(Level.FINER)) {
-                        log.finer("    Constraint: " + constraint.id() + " is model-checked");
-                    }
-                    continue;
-                }
-                evaluationContext.setConstraint(constraint);
-                validate(type, node, constraint);
+        private void validate(FHIRPathNode node, ValidationPlan plan) {
+            for (ValidationPlan.Step step : plan.getSteps()) {
+                evaluationContext.setConstraint(step.getConstraint());
+                validate(node, step);
                 evaluationContext.unsetConstraint();
             }
         }
 
         /**
-         * @throws RuntimeException if the passed constraint cannot be evaluated for the passed node
+         * @throws RuntimeException if the constraint of the passed step cannot be evaluated for the passed node
          */
-        private void validate(Class<?> type, FHIRPathNode node, Constraint constraint) {
+        private void validate(FHIRPathNode node, ValidationPlan.Step step) {
+            Constraint constraint = step.getConstraint();
             String path = node.path();
             try {
                 if (log.isLoggable(Level.FINER)) {
@@ -332,23 +312,23 @@ public class FHIRValidator {
                 }
 
                 Collection<FHIRPathNode> initialContext = singleton(node);
-                if (!Constraint.LOCATION_BASE.equals(constraint.location())) {
-                    initialContext = evaluator.evaluate(evaluationContext, constraint.location(), initialContext);
+                CompiledFHIRPathExpression location = step.getLocation();
+                if (location != null) {
+                    initialContext = evaluator.evaluate(evaluationContext, location, initialContext);
                     issues.addAll(evaluationContext.getIssues());
                     evaluationContext.clearIssues();
                 }
 
-                IssueSeverity severity = Constraint.LEVEL_WARNING.equals(constraint.level()) ? IssueSeverity.WARNING : IssueSeverity.ERROR;
-
+                CompiledFHIRPathExpression compiled = step.getExpression();
                 for (FHIRPathNode contextNode : initialContext) {
                     evaluationContext.setExternalConstant("rootResource", getRootResourceNode(contextNode));
                     evaluationContext.setExternalConstant("resource", getResourceNode(contextNode));
-                    Collection<FHIRPathNode> result = evaluator.evaluate(evaluationContext, constraint.expression(), singleton(contextNode));
+                    Collection<FHIRPathNode> result = evaluator.evaluate(evaluationContext, compiled, singleton(contextNode));
                     issues.addAll(evaluationContext.getIssues());
                     evaluationContext.clearIssues();
 
                     if (evaluatesToBoolean(result) && isFalse(result)) {
-                        issues.add(issue(severity, IssueType.INVARIANT, constraint.id() + ": " + constraint.description(), contextNode));
+                        issues.add(issue(step.getSeverity(), IssueType.INVARIANT, step.getDescription(), contextNode));
                     }
 
                     if (log.isLoggable(Level.FINER)) {
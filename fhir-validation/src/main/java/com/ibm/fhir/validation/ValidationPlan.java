@@ -0,0 +1,276 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.validation;
+
+import static com.ibm.fhir.profile.ProfileSupport.createConstraint;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.fhir.core.util.ConcurrentLRUCache;
+import com.ibm.fhir.model.annotation.Constraint;
+import com.ibm.fhir.model.resource.StructureDefinition;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.type.code.IssueSeverity;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.path.evaluator.CompiledFHIRPathExpression;
+import com.ibm.fhir.path.exception.FHIRPathException;
+import com.ibm.fhir.profile.ProfileSupport;
+import com.ibm.fhir.registry.FHIRRegistry;
+
+/**
+ * The constraints to validate for a model class, an extension definition or a set of profiles, compiled once:
+ * model-checked constraints are dropped, and the location and the expression of each constraint are compiled.
+ *
+ * <p>Plans are cached, and computed again after the {@link FHIRRegistry} changes. The registry resources may differ
+ * per {@link FHIRRegistry#getScope() scope} (e.g. per tenant and datastore in the server), so the plans which depend
+ * on them are cached per scope too.
+ */
+public final class ValidationPlan {
+    private static final Logger log = Logger.getLogger(ValidationPlan.class.getName());
+
+    private static final int PLAN_CACHE_MAX_ENTRIES = 4096;
+    private static final Map<Object, ValidationPlan> PLAN_CACHE = new ConcurrentLRUCache<>(PLAN_CACHE_MAX_ENTRIES);
+
+    /**
+     * A compiled constraint
+     */
+    public static final class Step {
+        private final Constraint constraint;
+        private final CompiledFHIRPathExpression location;
+        private final CompiledFHIRPathExpression expression;
+        private final IssueSeverity severity;
+        private final String description;
+        private final FHIRPathException exception;
+
+        private Step(Constraint constraint) {
+            this.constraint = constraint;
+            this.severity = Constraint.LEVEL_WARNING.equals(constraint.level()) ? IssueSeverity.WARNING : IssueSeverity.ERROR;
+            this.description = constraint.id() + ": " + constraint.description();
+
+            CompiledFHIRPathExpression location = null;
+            CompiledFHIRPathExpression expression = null;
+            FHIRPathException exception = null;
+            try {
+                if (!Constraint.LOCATION_BASE.equals(constraint.location())) {
+                    location = CompiledFHIRPathExpression.compile(constraint.location());
+                }
+                expression = CompiledFHIRPathExpression.compile(constraint.expression());
+            } catch (FHIRPathException e) {
+                // Reported each time the constraint is validated, like any other evaluation error
+                exception = e;
+            }
+            this.location = location;
+            this.expression = expression;
+            this.exception = exception;
+        }
+
+        public Constraint getConstraint() {
+            return constraint;
+        }
+
+        /**
+         * @return the compiled location, or null if the constraint applies to the node being validated
+         */
+        public CompiledFHIRPathExpression getLocation() throws FHIRPathException {
+            requireCompiled();
+            return location;
+        }
+
+        public CompiledFHIRPathExpression getExpression() throws FHIRPathException {
+            requireCompiled();
+            return expression;
+        }
+
+        /**
+         * @return the severity of the issue for a node which doesn't satisfy the constraint
+         */
+        public IssueSeverity getSeverity() {
+            return severity;
+        }
+
+        /**
+         * @return the description of the issue for a node which doesn't satisfy the constraint
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        private void requireCompiled() throws FHIRPathException {
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+
+    private static final ValidationPlan EMPTY = new ValidationPlan(-1, Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyList(), false);
+
+    private final long registryModificationCount;
+    private final List<Step> steps;
+    private final List<String> unsupportedProfiles;
+    private final List<String> inapplicableProfiles;
+    private final boolean unsupportedExtension;
+
+    private ValidationPlan(long registryModificationCount, List<Step> steps, List<String> unsupportedProfiles,
+            List<String> inapplicableProfiles, boolean unsupportedExtension) {
+        this.registryModificationCount = registryModificationCount;
+        this.steps = steps;
+        this.unsupportedProfiles = unsupportedProfiles;
+        this.inapplicableProfiles = inapplicableProfiles;
+        this.unsupportedExtension = unsupportedExtension;
+    }
+
+    /**
+     * @return the compiled constraints, in the order in which they are validated
+     */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return the profiles of a profile plan which are not in the registry
+     */
+    public List<String> getUnsupportedProfiles() {
+        return unsupportedProfiles;
+    }
+
+    /**
+     * @return the profiles of a profile plan which don't apply to its model class
+     */
+    public List<String> getInapplicableProfiles() {
+        return inapplicableProfiles;
+    }
+
+    /**
+     * @return true if the plan is for an extension with an absolute url which is not in the registry
+     */
+    public boolean isUnsupportedExtension() {
+        return unsupportedExtension;
+    }
+
+    /**
+     * Get the plan for the constraints of a model class in the base specification
+     *
+     * @param modelClass
+     *     a model class which represents a FHIR resource or element
+     * @return
+     *     the plan
+     */
+    public static ValidationPlan forType(Class<?> modelClass) {
+        return getPlan(modelClass, count -> new ValidationPlan(count, compile(ModelSupport.getConstraints(modelClass)),
+                Collections.emptyList(), Collections.emptyList(), false));
+    }
+
+    /**
+     * Get the plan for an extension, which adds a conformance check to the constraints of Extension when its url is
+     * the url of an extension definition in the registry
+     *
+     * @param url
+     *     the url of the extension
+     * @return
+     *     the plan
+     */
+    public static ValidationPlan forExtension(String url) {
+        return getPlan(Arrays.asList(FHIRRegistry.getInstance().getScope(), Extension.class, url), count -> {
+            List<Constraint> constraints = new ArrayList<>(ModelSupport.getConstraints(Extension.class));
+            boolean unsupported = false;
+            if (isAbsolute(url)) {
+                if (FHIRRegistry.getInstance().hasResource(url, StructureDefinition.class)) {
+                    constraints.add(createConstraint("generated-ext-1", Constraint.LEVEL_RULE, Constraint.LOCATION_BASE,
+                            "Extension must conform to definition '" + url + "'", "conformsTo('" + url + "')", false, true));
+                } else {
+                    unsupported = true;
+                }
+            }
+            return new ValidationPlan(count, compile(constraints), Collections.emptyList(), Collections.emptyList(), unsupported);
+        });
+    }
+
+    /**
+     * Get the plan for the constraints of a set of profiles, which also reports the profiles that are not in the
+     * registry or that don't apply to the model class
+     *
+     * @param modelClass
+     *     a model class which represents a FHIR resource
+     * @param profiles
+     *     the profile references
+     * @return
+     *     the plan
+     */
+    public static ValidationPlan forProfiles(Class<?> modelClass, List<String> profiles) {
+        if (profiles.isEmpty()) {
+            return EMPTY;
+        }
+        return getPlan(Arrays.asList(FHIRRegistry.getInstance().getScope(), modelClass, new ArrayList<>(profiles)), count -> {
+            List<String> unsupportedProfiles = new ArrayList<>();
+            List<String> inapplicableProfiles = new ArrayList<>();
+            for (String url : profiles) {
+                StructureDefinition profile = ProfileSupport.getProfile(url);
+                if (profile == null) {
+                    unsupportedProfiles.add(url);
+                } else if (!ProfileSupport.isApplicable(profile, modelClass)) {
+                    inapplicableProfiles.add(url);
+                }
+            }
+            return new ValidationPlan(count, compile(ProfileSupport.getConstraints(profiles, modelClass)),
+                    Collections.unmodifiableList(unsupportedProfiles), Collections.unmodifiableList(inapplicableProfiles), false);
+        });
+    }
+
+    /**
+     * Remove all the cached plans
+     */
+    public static void clearCache() {
+        PLAN_CACHE.clear();
+    }
+
+    private interface PlanFactory {
+        ValidationPlan create(long registryModificationCount);
+    }
+
+    private static ValidationPlan getPlan(Object key, PlanFactory factory) {
+        long count = FHIRRegistry.getInstance().getModificationCount();
+        ValidationPlan plan = PLAN_CACHE.get(key);
+        if (plan == null || plan.registryModificationCount != count) {
+            plan = factory.create(count);
+            PLAN_CACHE.put(key, plan);
+        }
+        return plan;
+    }
+
+    private static List<Step> compile(Collection<Constraint> constraints) {
+        List<Step> steps = new ArrayList<>(constraints.size());
+        for (Constraint constraint : constraints) {
+            if (constraint.modelChecked()) {
+                if (log.isLoggable(Level.FINER)) {
+                    log.finer("    Constraint: " + constraint.id() + " is model-checked");
+                }
+                continue;
+            }
+            steps.add(new Step(constraint));
+        }
+        return Collections.unmodifiableList(steps);
+    }
+
+    private static boolean isAbsolute(String url) {
+        try {
+            return new URI(url).isAbsolute();
+        } catch (URISyntaxException e) {
+            log.warning("Invalid URI: " + url);
+        }
+        return false;
+    }
+}
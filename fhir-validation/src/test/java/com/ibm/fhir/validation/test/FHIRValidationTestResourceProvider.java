@@ -9,8 +9,20 @@ package com.ibm.fhir.validation.test;
 import com.ibm.fhir.registry.util.PackageRegistryResourceProvider;
 
 public class FHIRValidationTestResourceProvider extends PackageRegistryResourceProvider {
+    // Lets the tests act like a provider whose resources differ per tenant
+    private static final ThreadLocal<String> scope = new ThreadLocal<>();
+
+    public static void setScope(String value) {
+        scope.set(value);
+    }
+
     @Override
     public String getPackageId() {
         return "fhir.validation.test";
     }
+
+    @Override
+    public String getScope() {
+        return scope.get();
+    }
 }
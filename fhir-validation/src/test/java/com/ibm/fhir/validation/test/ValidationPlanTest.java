@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright IBM Corp. 2020
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.ibm.fhir.validation.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.fhir.model.annotation.Constraint;
+import com.ibm.fhir.model.resource.Patient;
+import com.ibm.fhir.model.type.Extension;
+import com.ibm.fhir.model.util.ModelSupport;
+import com.ibm.fhir.registry.FHIRRegistry;
+import com.ibm.fhir.validation.ValidationPlan;
+
+public class ValidationPlanTest {
+    @Test
+    public void testForType() throws Exception {
+        ValidationPlan plan = ValidationPlan.forType(Patient.class);
+        assertEquals(plan.getSteps().stream().map(step -> step.getConstraint()).collect(Collectors.toList()),
+                ModelSupport.getConstraints(Patient.class).stream().filter(c -> !c.modelChecked()).collect(Collectors.toList()));
+        for (ValidationPlan.Step step : plan.getSteps()) {
+            assertEquals(step.getExpression().getExpression(), step.getConstraint().expression());
+            assertEquals(step.getLocation() == null, Constraint.LOCATION_BASE.equals(step.getConstraint().location()));
+        }
+        assertSame(ValidationPlan.forType(Patient.class), plan);
+    }
+
+    @Test
+    public void testRegistryChange() {
+        ValidationPlan plan = ValidationPlan.forType(Patient.class);
+        FHIRRegistry.getInstance().notifyResourcesChanged();
+        ValidationPlan recomputed = ValidationPlan.forType(Patient.class);
+        assertNotSame(recomputed, plan);
+        assertEquals(recomputed.getSteps().size(), plan.getSteps().size());
+        assertSame(ValidationPlan.forType(Patient.class), recomputed);
+    }
+
+    @Test
+    public void testForExtension() {
+        int baseSteps = ValidationPlan.forType(Extension.class).getSteps().size();
+
+        ValidationPlan unsupported = ValidationPlan.forExtension("http://www.ibm.com/someExtension");
+        assertTrue(unsupported.isUnsupportedExtension());
+        assertEquals(unsupported.getSteps().size(), baseSteps);
+
+        ValidationPlan relative = ValidationPlan.forExtension("someExtension");
+        assertFalse(relative.isUnsupportedExtension());
+        assertEquals(relative.getSteps().size(), baseSteps);
+
+        ValidationPlan supported = ValidationPlan.forExtension("http://myurl.org/my-extension");
+        assertFalse(supported.isUnsupportedExtension());
+        assertEquals(supported.getSteps().size(), baseSteps + 1);
+        assertEquals(supported.getSteps().get(baseSteps).getConstraint().id(), "generated-ext-1");
+    }
+
+    @Test
+    public void testForProfiles() {
+        assertTrue(ValidationPlan.forProfiles(Patient.class, Collections.emptyList()).getSteps().isEmpty());
+
+        ValidationPlan plan = ValidationPlan.forProfiles(Patient.class, Arrays.asList(
+                "http://example.com/StructureDefinition/unknown",
+                "http://ibm.com/fhir/StructureDefinition/my-condition"));
+        assertEquals(plan.getUnsupportedProfiles(), Collections.singletonList("http://example.com/StructureDefinition/unknown"));
+        assertEquals(plan.getInapplicableProfiles(), Collections.singletonList("http://ibm.com/fhir/StructureDefinition/my-condition"));
+        assertTrue(plan.getSteps().isEmpty());
+    }
+
+    @Test
+    public void testRegistryScope() throws Exception {
+        String url = "http://myurl.org/my-extension";
+        List<String> profiles = Collections.singletonList("http://example.com/StructureDefinition/unknown");
+        try {
+            FHIRValidationTestResourceProvider.setScope("tenant1");
+            ValidationPlan extensionPlan = ValidationPlan.forExtension(url);
+            ValidationPlan profilePlan = ValidationPlan.forProfiles(Patient.class, profiles);
+            ValidationPlan typePlan = ValidationPlan.forType(Patient.class);
+
+            // The plans which depend on the registry resources are cached per registry scope
+            FHIRValidationTestResourceProvider.setScope("tenant2");
+            assertNotSame(ValidationPlan.forExtension(url), extensionPlan);
+            assertNotSame(ValidationPlan.forProfiles(Patient.class, profiles), profilePlan);
+            assertSame(ValidationPlan.forType(Patient.class), typePlan);
+
+            FHIRValidationTestResourceProvider.setScope("tenant1");
+            assertSame(ValidationPlan.forExtension(url), extensionPlan);
+            assertSame(ValidationPlan.forProfiles(Patient.class, profiles), profilePlan);
+        } finally {
+            FHIRValidationTestResourceProvider.setScope(null);
+        }
+    }
+}
@@ -11,9 +11,13 @@ import static com.ibm.fhir.model.type.String.string;
 import java.io.InputStream;
 import java.net.URI;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import com.ibm.fhir.exception.FHIROperationException;
@@ -116,37 +120,38 @@ public class DocumentOperation extends AbstractOperation {
         //document.getEntry().add(bundleEntry);
         documentBuilder.entry(entryBuilder.build());
         
-        Map<String, Resource> resources = new HashMap<String, Resource>();
+        List<Reference> references = new ArrayList<>();
         
         // Composition.subject
-        addBundleEntry(operationContext, documentBuilder, composition.getSubject(), resourceHelper, resources);
+        addReference(references, composition.getSubject());
         
         // Composition.author
         for (Reference author : composition.getAuthor()) {
-            addBundleEntry(operationContext, documentBuilder, author, resourceHelper, resources);
+            addReference(references, author);
         }
         
         // Composition.attester.party
         for (Composition.Attester attester : composition.getAttester()) {
-            addBundleEntry(operationContext, documentBuilder, attester.getParty(), resourceHelper, resources);
+            addReference(references, attester.getParty());
         }
         
         // Composition.custodian
-        addBundleEntry(operationContext, documentBuilder, composition.getCustodian(), resourceHelper, resources);
+        addReference(references, composition.getCustodian());
         
         // Composition.event.detail
         for (Composition.Event event : composition.getEvent()) {
             for (Reference detail : event.getDetail()) {
-                addBundleEntry(operationContext, documentBuilder, detail, resourceHelper, resources);
+                addReference(references, detail);
             }
         }
         
         // Composition.encounter
-        addBundleEntry(operationContext, documentBuilder, composition.getEncounter(), resourceHelper, resources);
+        addReference(references, composition.getEncounter());
         
         // Composition.section.entry
-        addBundleEntries(operationContext, documentBuilder, composition.getSection(), resourceHelper, resources);
+        addSectionReferences(references, composition.getSection());
         
+        addBundleEntries(operationContext, documentBuilder, references, resourceHelper);
         
         return documentBuilder.timestamp(Instant.now(ZoneOffset.UTC))
                 .identifier(Identifier.builder()
@@ -156,68 +161,80 @@ public class DocumentOperation extends AbstractOperation {
                 .build();
     }
 
-    private void addBundleEntry(FHIROperationContext operationContext, Bundle.Builder documentBuilder, Reference reference, FHIRResourceHelpers resourceHelper, Map<String, Resource> resources) throws Exception {;
-        if (reference == null) {
-            return;
-        }
-        
-        if (reference.getReference() == null) {
-            throw new FHIROperationException("Empty reference object is not allowed");
+    private void addReference(List<Reference> references, Reference reference) {
+        if (reference != null) {
+            references.add(reference);
         }
+    }
     
-        String referenceValue = reference.getReference().getValue();
-        if (referenceValue == null) {
-            throw new FHIROperationException("Empty reference value is not allowed");
+    private void addSectionReferences(List<Reference> references, List<Composition.Section> sections) {
+        for (Composition.Section section : sections) {
+            // process entries for this section
+            references.addAll(section.getEntry());
+            
+            // process subsections
+            addSectionReferences(references, section.getSection());
         }
+    }
+    
+    /**
+     * Add a bundle entry for each referenced resource, in the order of the first reference to the resource.
+     * The resources are read with one request per resource type rather than one request per reference.
+     */
+    private void addBundleEntries(FHIROperationContext operationContext, Bundle.Builder documentBuilder, List<Reference> references, FHIRResourceHelpers resourceHelper) throws Exception {
+        // the distinct reference values, and the logical ids to read for each resource type
+        Set<String> referenceValues = new LinkedHashSet<>();
+        Map<String, List<String>> logicalIdMap = new LinkedHashMap<>();
+        
+        for (Reference reference : references) {
+            if (reference.getReference() == null) {
+                throw new FHIROperationException("Empty reference object is not allowed");
+            }
         
-        Resource resource = resources.get(referenceValue);
-        
-        if (resource == null) {
-            String[] referenceTokens = referenceValue.split("/");
-            
-            // assumption: references will be relative {resourceTypeName}/{logicalId}
-            if (referenceTokens.length != 2) {
-                throw new FHIROperationException("Could not parse reference value: " + referenceValue);
+            String referenceValue = reference.getReference().getValue();
+            if (referenceValue == null) {
+                throw new FHIROperationException("Empty reference value is not allowed");
             }
             
-            String resourceTypeName = referenceTokens[0];
-            String logicalId = referenceTokens[1];
-            
-            resource = resourceHelper.doRead(resourceTypeName, logicalId, false, false, null, null);
+            if (referenceValues.add(referenceValue)) {
+                String[] referenceTokens = referenceValue.split("/");
+                
+                // assumption: references will be relative {resourceTypeName}/{logicalId}
+                if (referenceTokens.length != 2) {
+                    throw new FHIROperationException("Could not parse reference value: " + referenceValue);
+                }
+                
+                logicalIdMap.computeIfAbsent(referenceTokens[0], k -> new ArrayList<>()).add(referenceTokens[1]);
+            }
+        }
+        
+        Map<String, Resource> resources = new HashMap<String, Resource>();
+        for (Map.Entry<String, List<String>> entry : logicalIdMap.entrySet()) {
+            String resourceTypeName = entry.getKey();
+            List<String> logicalIds = entry.getValue();
+            // a deleted resource fails the read with an issue of type DELETED, like doRead, rather than not being found
+            List<Resource> result = resourceHelper.doReadMany(resourceTypeName, logicalIds, false, null);
+            for (int i = 0; i < logicalIds.size(); i++) {
+                resources.put(resourceTypeName + "/" + logicalIds.get(i), result.get(i));
+            }
+        }
+        
+        for (String referenceValue : referenceValues) {
+            Resource resource = resources.get(referenceValue);
             
             if (resource == null) {
                 throw new FHIROperationException("Could not find resource for reference value: " + referenceValue);
             }
             
-            resources.put(referenceValue, resource);
-            
             // create a bundle entry for the resource
-            //BundleEntry bundleEntry = factory.createBundleEntry();
-            
-            //ResourceContainer container = factory.createResourceContainer();
-            //FHIRUtil.setResourceContainerResource(container, resource);
-            
-            Bundle.Entry.Builder entryBuilder = Entry.builder(); //createBundleEntry();
+            Bundle.Entry.Builder entryBuilder = Entry.builder();
             entryBuilder.resource(resource);
             
             setFullUrl(operationContext, entryBuilder, referenceValue);
             
-            //document.getEntry().add(bundleEntry);
             documentBuilder.entry(entryBuilder.build());
         }
     }
-
-    private void addBundleEntries(FHIROperationContext operationContext, Bundle.Builder documentBuilder, List<Composition.Section> sections, FHIRResourceHelpers resourceHelper, Map<String, Resource> resources) throws Exception {
-        for (Composition.Section section : sections) {                
-            // process entries for this section
-            for (Reference entry : section.getEntry()) {
-                addBundleEntry(operationContext, documentBuilder, entry, resourceHelper, resources);
-            }
-            
-            // process subsections
-            addBundleEntries(operationContext, documentBuilder, section.getSection(), resourceHelper, resources);
-        }
-    }
     
     private void setFullUrl(FHIROperationContext operationContext, Bundle.Entry.Builder entryBuilder, String referenceValue) {
         String requestBaseURI = (String) operationContext.getProperty(FHIROperationContext.PROPNAME_REQUEST_BASE_URI);